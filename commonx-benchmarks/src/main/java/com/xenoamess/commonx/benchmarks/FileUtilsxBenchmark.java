@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xenoamess.commonx.benchmarks;
+
+import com.xenoamess.commons.io.FileUtilsx;
+import org.lwjgl.system.MemoryUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FileUtilsx#loadBuffer(Path, boolean)} on a temp file.
+ * <p>
+ * The file is written once per trial, so after the first iteration it is read from the page cache, and the score
+ * is mostly the cost of allocating and filling the buffer.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+@SuppressWarnings("deprecation")
+public class FileUtilsxBenchmark {
+    @Param({"4096", "1048576", "16777216"})
+    public int fileSize;
+
+    @Param({"false", "true"})
+    public boolean ifUsingMemoryUtil;
+
+    private Path path;
+
+    @Setup
+    public void setup() throws IOException {
+        byte[] bytes = new byte[fileSize];
+        new Random(fileSize).nextBytes(bytes);
+        path = Files.createTempFile("commonx-benchmarks", ".bin");
+        Files.write(path, bytes);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public int loadBuffer() {
+        ByteBuffer buffer = FileUtilsx.loadBuffer(path, ifUsingMemoryUtil);
+        final int result = buffer.remaining();
+        if (ifUsingMemoryUtil) {
+            MemoryUtil.memFree(buffer);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xenoamess.commonx.benchmarks;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.IntArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link IntArrayList} against {@code ArrayList<Integer>}: add, get, iterate and removeIf.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class IntArrayListBenchmark {
+    @Param({"1000", "100000"})
+    public int size;
+
+    private int[] values;
+    private IntArrayList intArrayList;
+    private ArrayList<Integer> arrayList;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(size);
+        values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt();
+        }
+        intArrayList = new IntArrayList(values.clone());
+        arrayList = new ArrayList<>(intArrayList);
+    }
+
+    @Benchmark
+    public IntArrayList addIntArrayList() {
+        IntArrayList list = new IntArrayList();
+        for (int value : values) {
+            list.addPrimitive(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> addArrayList() {
+        ArrayList<Integer> list = new ArrayList<>();
+        for (int value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public long getIntArrayList() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += intArrayList.getPrimitive(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long getArrayList() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += arrayList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void iterateIntArrayList(Blackhole blackhole) {
+        intArrayList.forEachPrimitive(blackhole::consume);
+    }
+
+    @Benchmark
+    public void iterateArrayList(Blackhole blackhole) {
+        for (Integer value : arrayList) {
+            blackhole.consume(value.intValue());
+        }
+    }
+
+    @Benchmark
+    public IntArrayList removeIfIntArrayList() {
+        IntArrayList list = new IntArrayList(values.clone());
+        list.removeIfPrimitive(e -> (e & 1) == 0);
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> removeIfArrayList() {
+        ArrayList<Integer> list = new ArrayList<>(arrayList);
+        list.removeIf(e -> (e & 1) == 0);
+        return list;
+    }
+}
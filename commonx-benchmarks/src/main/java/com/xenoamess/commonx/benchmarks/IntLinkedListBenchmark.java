@@ -0,0 +1,135 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xenoamess.commonx.benchmarks;
+
+import com.xenoamess.commons.primitive.collections.lists.linked_lists.IntLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link IntLinkedList} used as a deque, against {@code ArrayDeque<Integer>}.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class IntLinkedListBenchmark {
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Benchmark
+    public long queueIntLinkedList() {
+        IntLinkedList deque = new IntLinkedList();
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            deque.addLastPrimitive(i);
+        }
+        while (!deque.isEmpty()) {
+            sum += deque.pollFirstPrimitive();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long queueArrayDeque() {
+        ArrayDeque<Integer> deque = new ArrayDeque<>();
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            deque.addLast(i);
+        }
+        while (!deque.isEmpty()) {
+            sum += deque.pollFirst();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long stackIntLinkedList() {
+        IntLinkedList deque = new IntLinkedList();
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            deque.pushPrimitive(i);
+        }
+        while (!deque.isEmpty()) {
+            sum += deque.popPrimitive();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long stackArrayDeque() {
+        ArrayDeque<Integer> deque = new ArrayDeque<>();
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            deque.push(i);
+        }
+        while (!deque.isEmpty()) {
+            sum += deque.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long slidingIntLinkedList() {
+        IntLinkedList deque = new IntLinkedList();
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            deque.addFirstPrimitive(i);
+            if (deque.size() > 16) {
+                sum += deque.pollLastPrimitive();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long slidingArrayDeque() {
+        ArrayDeque<Integer> deque = new ArrayDeque<>();
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            deque.addFirst(i);
+            if (deque.size() > 16) {
+                sum += deque.pollLast();
+            }
+        }
+        return sum;
+    }
+}
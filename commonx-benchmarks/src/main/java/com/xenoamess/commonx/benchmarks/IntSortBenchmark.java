@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xenoamess.commonx.benchmarks;
+
+import com.xenoamess.commons.primitive.comparators.IntComparator;
+import com.xenoamess.commons.primitive.sorts.IntTimSort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link IntTimSort} with an {@link IntComparator}, against {@link Arrays#sort(int[])} and
+ * {@link Arrays#sort(Object[], Comparator)} on boxed integers.
+ * <p>
+ * The comparators are not the built-in ones in
+ * {@link com.xenoamess.commons.primitive.comparators.PrimitiveComparators}, so they are really called.
+ * Every benchmark sorts a fresh copy of the same random data, so the copy is part of every score.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class IntSortBenchmark {
+    private static final IntComparator INT_COMPARATOR = (x, y) -> Integer.compare(y, x);
+    private static final Comparator<Integer> COMPARATOR = (x, y) -> Integer.compare(y, x);
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private int[] values;
+    private Integer[] boxedValues;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(size);
+        values = new int[size];
+        boxedValues = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt();
+            boxedValues[i] = values[i];
+        }
+    }
+
+    @Benchmark
+    public int[] intTimSort() {
+        int[] ints = values.clone();
+        IntTimSort.sort(ints, 0, ints.length, INT_COMPARATOR, null, 0, 0);
+        return ints;
+    }
+
+    @Benchmark
+    public int[] arraysSort() {
+        int[] ints = values.clone();
+        Arrays.sort(ints);
+        return ints;
+    }
+
+    @Benchmark
+    public Integer[] arraysSortWithComparator() {
+        Integer[] integers = boxedValues.clone();
+        Arrays.sort(integers, COMPARATOR);
+        return integers;
+    }
+}
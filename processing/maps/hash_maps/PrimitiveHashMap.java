@@ -1,10 +0,0 @@
-package com.xenoamess.commons.primitive.collections.maps.hash_maps;
-
-/**
- * <p>Abstract PrimitiveHashMap class.</p>
- *
- * @author XenoAmess
- * @version 0.8.0
- */
-public abstract class PrimitiveHashMap<K, V> {
-}
@@ -1,15 +0,0 @@
-package com.xenoamess.commons.primitive.collections.sets.hash_sets;
-
-import java.util.AbstractSet;
-import java.util.Set;
-
-/**
- * <p>Abstract PrimitiveHashSet class.</p>
- *
- * @author XenoAmess
- * @version 0.8.0
- */
-public abstract class PrimitiveHashSet<E> extends AbstractSet<E>
-        implements Set<E>, Cloneable, java.io.Serializable {
-
-}
@@ -8,6 +8,11 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * <p>GeneratePrimitivesFromDouble class.</p>
@@ -47,6 +52,90 @@ public class GeneratePrimitivesFromDouble {
             "Float",
             "Boolean"};
 
+    /**
+     * Templates that are not meant for every primitive type, mapped to the types (in
+     * {@link #PRIMITIVE_TYPES_EXCLUDE_DOUBLE}) they are generated for.
+     * Files not listed here are generated for every type.
+     */
+    public static final Map<String, Set<String>> RESTRICTED_SOURCES = new HashMap<>();
+
+    static {
+        // off-heap lists exist for int, long and double only.
+        final Set<String> directListTypes = new HashSet<>(Arrays.asList("Long", "Integer"));
+        RESTRICTED_SOURCES.put("DirectDoubleList.java", directListTypes);
+        RESTRICTED_SOURCES.put("DirectDoubleListTest.java", directListTypes);
+        // priority queues exist for int, long and double only.
+        final Set<String> priorityQueueTypes = new HashSet<>(Arrays.asList("Long", "Integer"));
+        RESTRICTED_SOURCES.put("DoublePriorityQueue.java", priorityQueueTypes);
+        RESTRICTED_SOURCES.put("DoublePriorityQueueTest.java", priorityQueueTypes);
+        // java.util.stream has no boolean stream to adapt to.
+        RESTRICTED_SOURCES.put("DoubleStreamSpliterator.java", new HashSet<>(Arrays.asList("Long", "Integer", "Short",
+                "Character", "Byte", "Float")));
+    }
+
+    private static boolean isGenerated(String sourcePath, int replaceStringIndex) {
+        final Set<String> types = RESTRICTED_SOURCES.get(new File(sourcePath).getName());
+        return types == null || types.contains(PRIMITIVE_TYPES_EXCLUDE_DOUBLE[replaceStringIndex]);
+    }
+
+    /**
+     * java.util.stream only has int, long and double streams, so the primitive streams of
+     * the smaller types are widened: short, char and byte to int, and float to double.
+     */
+    private static String widenPrimitiveStreams(String line, String replaceStringL) {
+        final String boxed;
+        final String widenedL;
+        switch (replaceStringL) {
+            case "short":
+                boxed = "Short";
+                widenedL = "int";
+                break;
+            case "char":
+                boxed = "Char(?:acter)?";
+                widenedL = "int";
+                break;
+            case "byte":
+                boxed = "Byte";
+                widenedL = "int";
+                break;
+            case "float":
+                boxed = "Float";
+                widenedL = "double";
+                break;
+            default:
+                return line;
+        }
+        final String widened = Character.toUpperCase(widenedL.charAt(0)) + widenedL.substring(1);
+        line = line.replaceAll("(?<![A-Za-z])" + boxed + "Stream(?![A-Za-z.])", widened + "Stream");
+        line = line.replaceAll("(?<![A-Za-z])" + replaceStringL + "Stream\\(", widenedL + "Stream(");
+        line = line.replaceAll("parallel" + boxed + "Stream\\(", "parallel" + widened + "Stream(");
+        line = line.replaceAll("Spliterator\\.Of" + boxed + "(?![A-Za-z.])", "Spliterator.Of" + widened);
+        line = line.replaceAll("java\\.util\\.function\\." + boxed + "Consumer", "java.util.function." + widened +
+                "Consumer");
+        line = line.replaceAll("mapTo" + boxed + "\\(", "mapTo" + widened + "(");
+        line = line.replaceAll("stream as \\{@code " + replaceStringL + "}", "stream widened to {@code " + widenedL +
+                "}");
+        line = line.replaceAll("(Unlike \\{@link #(?:parallelStream|stream)\\(\\)}, elements are not boxed\\.)",
+                "$1" + System.getProperty("line.separator") + "     * <p>" + System.getProperty("line.separator")
+                        + "     * Elements are widened to {@code " + widenedL + "}.");
+        return line;
+    }
+
+    /**
+     * java.util.stream has no boolean stream, so boolean collections get no primitive stream methods.
+     */
+    private static String removeBooleanStreams(String content) {
+        content = content.replaceAll("(?m)^import [\\w.]*\\.BooleanStream(?:Spliterator)?;\\R", "");
+        content = content.replaceAll("(?s)\\R\\R    /\\*\\*\\R     \\* Returns a (?:sequential|possibly parallel) "
+                + "\\{@code BooleanStream}.*?\\R    }(?=\\R)", "");
+        content = content.replaceAll("(?m)^.*booleanStream\\(.*\\R", "");
+        if (!content.contains("assertArrayEquals(")) {
+            content = content.replaceAll("(?m)^import static org\\.junit\\.jupiter\\.api\\.Assertions"
+                    + "\\.assertArrayEquals;\\R", "");
+        }
+        return content;
+    }
+
     /**
      * <p>generatePrimitivesFromFile.</p>
      *
@@ -54,7 +143,9 @@ public class GeneratePrimitivesFromDouble {
      */
     public static void generatePrimitivesFromFile(String sourcePath) {
         for (int i = 0, len = PRIMITIVE_TYPES_EXCLUDE_DOUBLE.length; i < len; i++) {
-            generateSinglePrimitivesFromFile(sourcePath, i);
+            if (isGenerated(sourcePath, i)) {
+                generateSinglePrimitivesFromFile(sourcePath, i);
+            }
         }
     }
 
@@ -99,7 +190,7 @@ public class GeneratePrimitivesFromDouble {
 //                        line = line.replaceAll("CharacterCollection", "CharCollection");
 //                        line = line.replaceAll("CharacterIterable", "CharIterable");
 //                        line = line.replaceAll("CharacterList", "CharList");
-                        line = line.replaceAll("(Character)([a-zA-Z])", "Char$2");
+                        line = line.replaceAll("Character(?=[a-zA-Z])", "Char");
                         line = line.replaceAll("Charistics", "Characteristics");
                         //test
                         line = line.replaceAll("random.nextCharacter\\(\\)", "((char)random.nextInt())");
@@ -117,7 +208,10 @@ public class GeneratePrimitivesFromDouble {
 //                        line = line.replaceAll("IntegerCollection", "IntCollection");
 //                        line = line.replaceAll("IntegerIterable", "IntIterable");
 //                        line = line.replaceAll("IntegerList", "IntList");
-                        line = line.replaceAll("(Integer)([a-zA-Z])", "Int$2");
+                        line = line.replaceAll("Integer(?=[a-zA-Z])", "Int");
+                        line = line.replaceAll("Spliterator\\.OfInteger(?![A-Za-z.])", "Spliterator.OfInt");
+                        line = line.replaceAll("mapToInteger\\(", "mapToInt(");
+                        line = line.replaceAll("memAllocInteger\\(", "memAllocInt(");
                         line = line.replaceAll("random.nextInteger\\(\\)", "(random.nextInt())");
                         break;
                     case "byte":
@@ -135,11 +229,16 @@ public class GeneratePrimitivesFromDouble {
                         break;
                     default:
                 }
+                line = widenPrimitiveStreams(line, replaceStringL);
 
                 tempStream.write(line);
                 tempStream.append(System.getProperty("line.separator"));
             }
-            tempStream.writeTo(out);
+            String content = tempStream.toString();
+            if ("boolean".equals(replaceStringL)) {
+                content = removeBooleanStreams(content);
+            }
+            out.write(content);
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -37,12 +37,17 @@ import java.net.URL;
 import java.net.URLDecoder;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.commons.vfs2.FileObject;
 import org.apache.commons.vfs2.FileSystemException;
 import org.jetbrains.annotations.NotNull;
@@ -193,6 +198,142 @@ public class FileUtilsx {
         }
     }
 
+    /**
+     * The default size of segments in {@link #mapBuffers(Path, FileChannel.MapMode)}.
+     */
+    public static final long DEFAULT_MAP_SEGMENT_SIZE = 1L << 30;
+
+    /**
+     * Maps the specified file into memory, read only.
+     *
+     * @param resourcePath the file to map
+     * @return the mapped buffer
+     * @see #mapBuffer(Path, FileChannel.MapMode)
+     */
+    @NotNull
+    public static MappedByteBuffer mapBuffer(@NotNull Path resourcePath) {
+        return mapBuffer(resourcePath, FileChannel.MapMode.READ_ONLY);
+    }
+
+    /**
+     * Maps the specified file into memory by {@link FileChannel#map}.
+     * <p>
+     * Unlike {@link #loadBuffer(Path, boolean)}, the content is not copied: pages are loaded by the OS when they are
+     * touched, and are shared with the page cache. The mapping stays valid after this function returns, until the
+     * buffer is garbage collected.
+     * <p>
+     * The byte order of the returned buffer is set to the native order, the same as the buffers returned by
+     * {@link #loadBuffer(Path, boolean)}.
+     * Files larger than {@link Integer#MAX_VALUE} bytes can not be mapped as a single buffer, use
+     * {@link #mapBuffers(Path, FileChannel.MapMode)} for them.
+     *
+     * @param resourcePath the file to map
+     * @param mapMode      {@link FileChannel.MapMode#READ_ONLY}, {@link FileChannel.MapMode#READ_WRITE}, or
+     *                     {@link FileChannel.MapMode#PRIVATE}
+     * @return the mapped buffer
+     * @throws java.lang.IllegalArgumentException if the file can not be mapped, or is larger than
+     *                                            {@link Integer#MAX_VALUE} bytes
+     */
+    @NotNull
+    public static MappedByteBuffer mapBuffer(@NotNull Path resourcePath, @NotNull FileChannel.MapMode mapMode) {
+        try (FileChannel fc = openForMap(resourcePath, mapMode)) {
+            final long size = fc.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(
+                        "FileUtils.mapBuffer(Path resourcePath, MapMode mapMode) fails:" + resourcePath + ","
+                                + mapMode + " , file too large (" + size + " bytes), use mapBuffers instead"
+                );
+            }
+            return map(fc, mapMode, 0, size);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(
+                    "FileUtils.mapBuffer(Path resourcePath, MapMode mapMode) fails:" + resourcePath + "," + mapMode,
+                    e
+            );
+        }
+    }
+
+    /**
+     * Maps the specified file into memory as a list of buffers, each of which maps
+     * {@link #DEFAULT_MAP_SEGMENT_SIZE} bytes of the file, except the last one.
+     *
+     * @param resourcePath the file to map
+     * @param mapMode      {@link FileChannel.MapMode#READ_ONLY}, {@link FileChannel.MapMode#READ_WRITE}, or
+     *                     {@link FileChannel.MapMode#PRIVATE}
+     * @return the mapped buffers, in file order
+     * @see #mapBuffers(Path, FileChannel.MapMode, long)
+     */
+    @NotNull
+    public static List<MappedByteBuffer> mapBuffers(@NotNull Path resourcePath, @NotNull FileChannel.MapMode mapMode) {
+        return mapBuffers(resourcePath, mapMode, DEFAULT_MAP_SEGMENT_SIZE);
+    }
+
+    /**
+     * Maps the specified file into memory as a list of buffers, so that files larger than
+     * {@link Integer#MAX_VALUE} bytes can be mapped as well.
+     * <p>
+     * The i-th buffer maps the bytes of the file starting from {@code i * segmentSize}, and every buffer but the
+     * last one holds exactly {@code segmentSize} bytes. The segments do not overlap, so a record crossing the
+     * boundary of two segments has to be read from both of them. An empty file results in an empty list.
+     *
+     * @param resourcePath the file to map
+     * @param mapMode      {@link FileChannel.MapMode#READ_ONLY}, {@link FileChannel.MapMode#READ_WRITE}, or
+     *                     {@link FileChannel.MapMode#PRIVATE}
+     * @param segmentSize  the size of each segment, in (0, {@link Integer#MAX_VALUE}]
+     * @return the mapped buffers, in file order
+     * @throws java.lang.IllegalArgumentException if segmentSize is illegal, or the file can not be mapped
+     */
+    @NotNull
+    public static List<MappedByteBuffer> mapBuffers(
+            @NotNull Path resourcePath,
+            @NotNull FileChannel.MapMode mapMode,
+            long segmentSize
+    ) {
+        if (segmentSize <= 0 || segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Illegal segment size: " + segmentSize);
+        }
+        try (FileChannel fc = openForMap(resourcePath, mapMode)) {
+            final long size = fc.size();
+            final List<MappedByteBuffer> result = new ArrayList<>((int) ((size + segmentSize - 1) / segmentSize));
+            for (long position = 0; position < size; position += segmentSize) {
+                result.add(map(fc, mapMode, position, Math.min(segmentSize, size - position)));
+            }
+            return result;
+        } catch (IOException e) {
+            throw new IllegalArgumentException(
+                    "FileUtils.mapBuffers(Path resourcePath, MapMode mapMode, long segmentSize) fails:"
+                            + resourcePath + "," + mapMode + "," + segmentSize,
+                    e
+            );
+        }
+    }
+
+    /**
+     * Opens a channel of the file, with the access rights needed for mapping it in the specified mode.
+     * {@link FileChannel.MapMode#READ_WRITE} and {@link FileChannel.MapMode#PRIVATE} both need the channel to be
+     * writable.
+     */
+    @NotNull
+    private static FileChannel openForMap(@NotNull Path resourcePath, @NotNull FileChannel.MapMode mapMode)
+            throws IOException {
+        if (mapMode == FileChannel.MapMode.READ_ONLY) {
+            return FileChannel.open(resourcePath, StandardOpenOption.READ);
+        }
+        return FileChannel.open(resourcePath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    @NotNull
+    private static MappedByteBuffer map(
+            @NotNull FileChannel fc,
+            @NotNull FileChannel.MapMode mapMode,
+            long position,
+            long size
+    ) throws IOException {
+        final MappedByteBuffer buffer = fc.map(mapMode, position, size);
+        buffer.order(ByteOrder.nativeOrder());
+        return buffer;
+    }
+
 
     /**
      * <p>getFile.</p>
@@ -630,23 +630,41 @@ public interface BooleanCollection extends Collection<Boolean>, BooleanIterable,
     @Override
     default boolean removeIf(Predicate<? super Boolean> filter) {
         Objects.requireNonNull(filter);
+        if (filter instanceof BooleanPredicate) {
+            return this.removeIfPrimitive((BooleanPredicate) filter);
+        }
         boolean removed = false;
         final BooleanIterator each = iterator();
-
-        if (filter instanceof BooleanPredicate) {
-            BooleanPredicate actionBooleanPredicate = (BooleanPredicate) filter;
-            while (each.hasNext()) {
-                if (actionBooleanPredicate.testPrimitive(each.nextPrimitive())) {
-                    each.remove();
-                    removed = true;
-                }
+        while (each.hasNext()) {
+            if (filter.test(each.next())) {
+                each.remove();
+                removed = true;
             }
-        } else {
-            while (each.hasNext()) {
-                if (filter.test(each.next())) {
-                    each.remove();
-                    removed = true;
-                }
+        }
+        return removed;
+    }
+
+    /**
+     * Primitive replacement of removeIf(Predicate&lt;? super Boolean&gt; filter)
+     *
+     * @param filter a predicate which returns {@code true} for elements to be
+     *               removed
+     * @return {@code true} if any elements were removed
+     * @throws java.lang.NullPointerException          if the specified filter is null
+     * @throws java.lang.UnsupportedOperationException if elements cannot be removed
+     *                                                 from this collection.  Implementations may throw this exception if a
+     *                                                 matching element cannot be removed or if, in general, removal is not
+     *                                                 supported.
+     * @see #removeIf(Predicate)
+     */
+    default boolean removeIfPrimitive(BooleanPredicate filter) {
+        Objects.requireNonNull(filter);
+        boolean removed = false;
+        final BooleanIterator each = iterator();
+        while (each.hasNext()) {
+            if (filter.testPrimitive(each.nextPrimitive())) {
+                each.remove();
+                removed = true;
             }
         }
         return removed;
@@ -77,11 +77,7 @@ public interface BooleanIterable extends Iterable<Boolean>, Primitive {
         Objects.requireNonNull(action);
 
         if (action instanceof BooleanConsumer) {
-            BooleanConsumer actionBooleanConsumer = (BooleanConsumer) action;
-            BooleanIterator booleanIterator = this.iterator();
-            while (booleanIterator.hasNext()) {
-                actionBooleanConsumer.acceptPrimitive(booleanIterator.nextPrimitive());
-            }
+            this.forEachPrimitive((BooleanConsumer) action);
         } else {
             for (Boolean t : this) {
                 action.accept(t);
@@ -89,6 +85,21 @@ public interface BooleanIterable extends Iterable<Boolean>, Primitive {
         }
     }
 
+    /**
+     * Primitive replacement of forEach(Consumer&lt;? super Boolean&gt; action)
+     *
+     * @param action The action to be performed for each element
+     * @throws java.lang.NullPointerException if the specified action is null
+     * @see #forEach(Consumer)
+     */
+    default void forEachPrimitive(BooleanConsumer action) {
+        Objects.requireNonNull(action);
+        BooleanIterator booleanIterator = this.iterator();
+        while (booleanIterator.hasNext()) {
+            action.acceptPrimitive(booleanIterator.nextPrimitive());
+        }
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -77,11 +77,7 @@ public interface ByteIterable extends Iterable<Byte>, Primitive {
         Objects.requireNonNull(action);
 
         if (action instanceof ByteConsumer) {
-            ByteConsumer actionByteConsumer = (ByteConsumer) action;
-            ByteIterator byteIterator = this.iterator();
-            while (byteIterator.hasNext()) {
-                actionByteConsumer.acceptPrimitive(byteIterator.nextPrimitive());
-            }
+            this.forEachPrimitive((ByteConsumer) action);
         } else {
             for (Byte t : this) {
                 action.accept(t);
@@ -89,6 +85,21 @@ public interface ByteIterable extends Iterable<Byte>, Primitive {
         }
     }
 
+    /**
+     * Primitive replacement of forEach(Consumer&lt;? super Byte&gt; action)
+     *
+     * @param action The action to be performed for each element
+     * @throws java.lang.NullPointerException if the specified action is null
+     * @see #forEach(Consumer)
+     */
+    default void forEachPrimitive(ByteConsumer action) {
+        Objects.requireNonNull(action);
+        ByteIterator byteIterator = this.iterator();
+        while (byteIterator.hasNext()) {
+            action.acceptPrimitive(byteIterator.nextPrimitive());
+        }
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -30,6 +30,7 @@ import com.xenoamess.commons.primitive.functions.CharPredicate;
 import com.xenoamess.commons.primitive.iterators.CharIterator;
 import com.xenoamess.commons.primitive.iterators.CharSpliterator;
 import com.xenoamess.commons.primitive.iterators.CharSpliterators;
+import com.xenoamess.commons.primitive.iterators.CharStreamSpliterator;
 import java.util.AbstractCollection;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -48,6 +49,7 @@ import java.util.TreeSet;
 import java.util.Vector;
 import java.util.function.IntFunction;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -630,23 +632,41 @@ public interface CharCollection extends Collection<Character>, CharIterable, Pri
     @Override
     default boolean removeIf(Predicate<? super Character> filter) {
         Objects.requireNonNull(filter);
+        if (filter instanceof CharPredicate) {
+            return this.removeIfPrimitive((CharPredicate) filter);
+        }
         boolean removed = false;
         final CharIterator each = iterator();
-
-        if (filter instanceof CharPredicate) {
-            CharPredicate actionCharPredicate = (CharPredicate) filter;
-            while (each.hasNext()) {
-                if (actionCharPredicate.testPrimitive(each.nextPrimitive())) {
-                    each.remove();
-                    removed = true;
-                }
+        while (each.hasNext()) {
+            if (filter.test(each.next())) {
+                each.remove();
+                removed = true;
             }
-        } else {
-            while (each.hasNext()) {
-                if (filter.test(each.next())) {
-                    each.remove();
-                    removed = true;
-                }
+        }
+        return removed;
+    }
+
+    /**
+     * Primitive replacement of removeIf(Predicate&lt;? super Character&gt; filter)
+     *
+     * @param filter a predicate which returns {@code true} for elements to be
+     *               removed
+     * @return {@code true} if any elements were removed
+     * @throws java.lang.NullPointerException          if the specified filter is null
+     * @throws java.lang.UnsupportedOperationException if elements cannot be removed
+     *                                                 from this collection.  Implementations may throw this exception if a
+     *                                                 matching element cannot be removed or if, in general, removal is not
+     *                                                 supported.
+     * @see #removeIf(Predicate)
+     */
+    default boolean removeIfPrimitive(CharPredicate filter) {
+        Objects.requireNonNull(filter);
+        boolean removed = false;
+        final CharIterator each = iterator();
+        while (each.hasNext()) {
+            if (filter.testPrimitive(each.nextPrimitive())) {
+                each.remove();
+                removed = true;
             }
         }
         return removed;
@@ -744,4 +764,33 @@ public interface CharCollection extends Collection<Character>, CharIterable, Pri
     default Stream<Character> parallelStream() {
         return StreamSupport.stream(spliterator(), true);
     }
+
+    /**
+     * Returns a sequential {@code IntStream} with this collection as its source.
+     * <p>
+     * Unlike {@link #stream()}, elements are not boxed.
+     * <p>
+     * Elements are widened to {@code int}.
+     *
+     * @return a sequential {@code IntStream} over the elements in this collection
+     * @see #stream()
+     */
+    default IntStream intStream() {
+        return StreamSupport.intStream(new CharStreamSpliterator(spliterator()), false);
+    }
+
+    /**
+     * Returns a possibly parallel {@code IntStream} with this collection as its
+     * source.  It is allowable for this method to return a sequential stream.
+     * <p>
+     * Unlike {@link #parallelStream()}, elements are not boxed.
+     * <p>
+     * Elements are widened to {@code int}.
+     *
+     * @return a possibly parallel {@code IntStream} over the elements in this collection
+     * @see #parallelStream()
+     */
+    default IntStream parallelIntStream() {
+        return StreamSupport.intStream(new CharStreamSpliterator(spliterator()), true);
+    }
 }
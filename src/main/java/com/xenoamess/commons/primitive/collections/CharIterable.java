@@ -77,11 +77,7 @@ public interface CharIterable extends Iterable<Character>, Primitive {
         Objects.requireNonNull(action);
 
         if (action instanceof CharConsumer) {
-            CharConsumer actionCharConsumer = (CharConsumer) action;
-            CharIterator charIterator = this.iterator();
-            while (charIterator.hasNext()) {
-                actionCharConsumer.acceptPrimitive(charIterator.nextPrimitive());
-            }
+            this.forEachPrimitive((CharConsumer) action);
         } else {
             for (Character t : this) {
                 action.accept(t);
@@ -89,6 +85,21 @@ public interface CharIterable extends Iterable<Character>, Primitive {
         }
     }
 
+    /**
+     * Primitive replacement of forEach(Consumer&lt;? super Character&gt; action)
+     *
+     * @param action The action to be performed for each element
+     * @throws java.lang.NullPointerException if the specified action is null
+     * @see #forEach(Consumer)
+     */
+    default void forEachPrimitive(CharConsumer action) {
+        Objects.requireNonNull(action);
+        CharIterator charIterator = this.iterator();
+        while (charIterator.hasNext()) {
+            action.acceptPrimitive(charIterator.nextPrimitive());
+        }
+    }
+
     /**
      * {@inheritDoc}
      * <p>
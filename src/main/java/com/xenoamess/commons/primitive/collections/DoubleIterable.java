@@ -77,11 +77,7 @@ public interface DoubleIterable extends Iterable<Double>, Primitive {
         Objects.requireNonNull(action);
 
         if (action instanceof DoubleConsumer) {
-            DoubleConsumer actionDoubleConsumer = (DoubleConsumer) action;
-            DoubleIterator doubleIterator = this.iterator();
-            while (doubleIterator.hasNext()) {
-                actionDoubleConsumer.acceptPrimitive(doubleIterator.nextPrimitive());
-            }
+            this.forEachPrimitive((DoubleConsumer) action);
         } else {
             for (Double t : this) {
                 action.accept(t);
@@ -89,6 +85,21 @@ public interface DoubleIterable extends Iterable<Double>, Primitive {
         }
     }
 
+    /**
+     * Primitive replacement of forEach(Consumer&lt;? super Double&gt; action)
+     *
+     * @param action The action to be performed for each element
+     * @throws java.lang.NullPointerException if the specified action is null
+     * @see #forEach(Consumer)
+     */
+    default void forEachPrimitive(DoubleConsumer action) {
+        Objects.requireNonNull(action);
+        DoubleIterator doubleIterator = this.iterator();
+        while (doubleIterator.hasNext()) {
+            action.acceptPrimitive(doubleIterator.nextPrimitive());
+        }
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -30,6 +30,7 @@ import com.xenoamess.commons.primitive.functions.FloatPredicate;
 import com.xenoamess.commons.primitive.iterators.FloatIterator;
 import com.xenoamess.commons.primitive.iterators.FloatSpliterator;
 import com.xenoamess.commons.primitive.iterators.FloatSpliterators;
+import com.xenoamess.commons.primitive.iterators.FloatStreamSpliterator;
 import java.util.AbstractCollection;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -48,6 +49,7 @@ import java.util.TreeSet;
 import java.util.Vector;
 import java.util.function.IntFunction;
 import java.util.function.Predicate;
+import java.util.stream.DoubleStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -630,23 +632,41 @@ public interface FloatCollection extends Collection<Float>, FloatIterable, Primi
     @Override
     default boolean removeIf(Predicate<? super Float> filter) {
         Objects.requireNonNull(filter);
+        if (filter instanceof FloatPredicate) {
+            return this.removeIfPrimitive((FloatPredicate) filter);
+        }
         boolean removed = false;
         final FloatIterator each = iterator();
-
-        if (filter instanceof FloatPredicate) {
-            FloatPredicate actionFloatPredicate = (FloatPredicate) filter;
-            while (each.hasNext()) {
-                if (actionFloatPredicate.testPrimitive(each.nextPrimitive())) {
-                    each.remove();
-                    removed = true;
-                }
+        while (each.hasNext()) {
+            if (filter.test(each.next())) {
+                each.remove();
+                removed = true;
             }
-        } else {
-            while (each.hasNext()) {
-                if (filter.test(each.next())) {
-                    each.remove();
-                    removed = true;
-                }
+        }
+        return removed;
+    }
+
+    /**
+     * Primitive replacement of removeIf(Predicate&lt;? super Float&gt; filter)
+     *
+     * @param filter a predicate which returns {@code true} for elements to be
+     *               removed
+     * @return {@code true} if any elements were removed
+     * @throws java.lang.NullPointerException          if the specified filter is null
+     * @throws java.lang.UnsupportedOperationException if elements cannot be removed
+     *                                                 from this collection.  Implementations may throw this exception if a
+     *                                                 matching element cannot be removed or if, in general, removal is not
+     *                                                 supported.
+     * @see #removeIf(Predicate)
+     */
+    default boolean removeIfPrimitive(FloatPredicate filter) {
+        Objects.requireNonNull(filter);
+        boolean removed = false;
+        final FloatIterator each = iterator();
+        while (each.hasNext()) {
+            if (filter.testPrimitive(each.nextPrimitive())) {
+                each.remove();
+                removed = true;
             }
         }
         return removed;
@@ -744,4 +764,33 @@ public interface FloatCollection extends Collection<Float>, FloatIterable, Primi
     default Stream<Float> parallelStream() {
         return StreamSupport.stream(spliterator(), true);
     }
+
+    /**
+     * Returns a sequential {@code DoubleStream} with this collection as its source.
+     * <p>
+     * Unlike {@link #stream()}, elements are not boxed.
+     * <p>
+     * Elements are widened to {@code double}.
+     *
+     * @return a sequential {@code DoubleStream} over the elements in this collection
+     * @see #stream()
+     */
+    default DoubleStream doubleStream() {
+        return StreamSupport.doubleStream(new FloatStreamSpliterator(spliterator()), false);
+    }
+
+    /**
+     * Returns a possibly parallel {@code DoubleStream} with this collection as its
+     * source.  It is allowable for this method to return a sequential stream.
+     * <p>
+     * Unlike {@link #parallelStream()}, elements are not boxed.
+     * <p>
+     * Elements are widened to {@code double}.
+     *
+     * @return a possibly parallel {@code DoubleStream} over the elements in this collection
+     * @see #parallelStream()
+     */
+    default DoubleStream parallelDoubleStream() {
+        return StreamSupport.doubleStream(new FloatStreamSpliterator(spliterator()), true);
+    }
 }
@@ -77,11 +77,7 @@ public interface FloatIterable extends Iterable<Float>, Primitive {
         Objects.requireNonNull(action);
 
         if (action instanceof FloatConsumer) {
-            FloatConsumer actionFloatConsumer = (FloatConsumer) action;
-            FloatIterator floatIterator = this.iterator();
-            while (floatIterator.hasNext()) {
-                actionFloatConsumer.acceptPrimitive(floatIterator.nextPrimitive());
-            }
+            this.forEachPrimitive((FloatConsumer) action);
         } else {
             for (Float t : this) {
                 action.accept(t);
@@ -89,6 +85,21 @@ public interface FloatIterable extends Iterable<Float>, Primitive {
         }
     }
 
+    /**
+     * Primitive replacement of forEach(Consumer&lt;? super Float&gt; action)
+     *
+     * @param action The action to be performed for each element
+     * @throws java.lang.NullPointerException if the specified action is null
+     * @see #forEach(Consumer)
+     */
+    default void forEachPrimitive(FloatConsumer action) {
+        Objects.requireNonNull(action);
+        FloatIterator floatIterator = this.iterator();
+        while (floatIterator.hasNext()) {
+            action.acceptPrimitive(floatIterator.nextPrimitive());
+        }
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -0,0 +1,389 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xenoamess.commons.primitive.collections;
+
+import com.xenoamess.commons.primitive.Primitive;
+
+/**
+ * Common code for the open-addressing hash based primitive collections.
+ * <p>
+ * The tables in those collections are power-of-two sized arrays of primitive keys, and use the default value of
+ * the key type (see {@link Primitive}) as the marker of an empty slot. The key that equals to the default value is
+ * kept aside, out of the table.
+ * <p>
+ * All functions in this class are overloaded for every primitive type, so generated code (see
+ * {@code GeneratePrimitivesFromDouble}) can call them without knowing the actual type.
+ * <p>
+ * Keys of floating types are compared by their bits, which is the same as {@link Double#equals(Object)} does,
+ * so {@code NaN} can be a key, and {@code 0.0} and {@code -0.0} are different keys.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ */
+public class HashCommon implements Primitive {
+    /**
+     * <p>Instances of this class should NOT be constructed in standard programming.
+     *
+     * <p>This constructor is public to permit tools that require a JavaBean instance
+     * to operate.
+     */
+    public HashCommon() {
+        super();
+    }
+
+    /**
+     * The default initial capacity of the hash based primitive collections.
+     */
+    public static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    /**
+     * The default load factor of the hash based primitive collections.
+     */
+    public static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    /**
+     * The largest power of two that can be used as a table length.
+     */
+    public static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /**
+     * 2<sup>32</sup> &middot; &phi;, &phi; = (&#x221A;5 &minus; 1)/2.
+     */
+    private static final int INT_PHI = 0x9E3779B9;
+
+    /**
+     * Avalanches the bits of an int, so that it can be masked into a power-of-two table.
+     *
+     * @param x an int
+     * @return a hash value with well mixed low bits
+     */
+    public static int mix(final int x) {
+        final int h = x * INT_PHI;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Hash function for long keys.
+     *
+     * @param k key
+     * @return mixed hash
+     */
+    public static int hash(final long k) {
+        return mix((int) (k ^ (k >>> 32)));
+    }
+
+    /**
+     * Hash function for int keys.
+     *
+     * @param k key
+     * @return mixed hash
+     */
+    public static int hash(final int k) {
+        return mix(k);
+    }
+
+    /**
+     * Hash function for short keys.
+     *
+     * @param k key
+     * @return mixed hash
+     */
+    public static int hash(final short k) {
+        return mix(k);
+    }
+
+    /**
+     * Hash function for char keys.
+     *
+     * @param k key
+     * @return mixed hash
+     */
+    public static int hash(final char k) {
+        return mix(k);
+    }
+
+    /**
+     * Hash function for byte keys.
+     *
+     * @param k key
+     * @return mixed hash
+     */
+    public static int hash(final byte k) {
+        return mix(k);
+    }
+
+    /**
+     * Hash function for double keys.
+     *
+     * @param k key
+     * @return mixed hash
+     */
+    public static int hash(final double k) {
+        return mix(Double.hashCode(k));
+    }
+
+    /**
+     * Hash function for float keys.
+     *
+     * @param k key
+     * @return mixed hash
+     */
+    public static int hash(final float k) {
+        return mix(Float.hashCode(k));
+    }
+
+    /**
+     * Hash function for boolean keys.
+     *
+     * @param k key
+     * @return mixed hash
+     */
+    public static int hash(final boolean k) {
+        return mix(Boolean.hashCode(k));
+    }
+
+    /**
+     * Key equality for long keys.
+     *
+     * @param a key a
+     * @param b key b
+     * @return if a and b are the same key
+     */
+    public static boolean keyEquals(final long a, final long b) {
+        return a == b;
+    }
+
+    /**
+     * Key equality for int keys.
+     *
+     * @param a key a
+     * @param b key b
+     * @return if a and b are the same key
+     */
+    public static boolean keyEquals(final int a, final int b) {
+        return a == b;
+    }
+
+    /**
+     * Key equality for short keys.
+     *
+     * @param a key a
+     * @param b key b
+     * @return if a and b are the same key
+     */
+    public static boolean keyEquals(final short a, final short b) {
+        return a == b;
+    }
+
+    /**
+     * Key equality for char keys.
+     *
+     * @param a key a
+     * @param b key b
+     * @return if a and b are the same key
+     */
+    public static boolean keyEquals(final char a, final char b) {
+        return a == b;
+    }
+
+    /**
+     * Key equality for byte keys.
+     *
+     * @param a key a
+     * @param b key b
+     * @return if a and b are the same key
+     */
+    public static boolean keyEquals(final byte a, final byte b) {
+        return a == b;
+    }
+
+    /**
+     * Key equality for double keys.
+     *
+     * @param a key a
+     * @param b key b
+     * @return if a and b are the same key, in the meaning of {@link Double#equals(Object)}
+     */
+    public static boolean keyEquals(final double a, final double b) {
+        return Double.doubleToLongBits(a) == Double.doubleToLongBits(b);
+    }
+
+    /**
+     * Key equality for float keys.
+     *
+     * @param a key a
+     * @param b key b
+     * @return if a and b are the same key, in the meaning of {@link Float#equals(Object)}
+     */
+    public static boolean keyEquals(final float a, final float b) {
+        return Float.floatToIntBits(a) == Float.floatToIntBits(b);
+    }
+
+    /**
+     * Key equality for boolean keys.
+     *
+     * @param a key a
+     * @param b key b
+     * @return if a and b are the same key
+     */
+    public static boolean keyEquals(final boolean a, final boolean b) {
+        return a == b;
+    }
+
+    /**
+     * Check if a long key is the free key (the key marking empty slots).
+     *
+     * @param k key
+     * @return if k is the free key
+     */
+    public static boolean isFreeKey(final long k) {
+        return k == LONG_DEFAULT;
+    }
+
+    /**
+     * Check if an int key is the free key (the key marking empty slots).
+     *
+     * @param k key
+     * @return if k is the free key
+     */
+    public static boolean isFreeKey(final int k) {
+        return k == INT_DEFAULT;
+    }
+
+    /**
+     * Check if a short key is the free key (the key marking empty slots).
+     *
+     * @param k key
+     * @return if k is the free key
+     */
+    public static boolean isFreeKey(final short k) {
+        return k == SHORT_DEFAULT;
+    }
+
+    /**
+     * Check if a char key is the free key (the key marking empty slots).
+     *
+     * @param k key
+     * @return if k is the free key
+     */
+    public static boolean isFreeKey(final char k) {
+        return k == CHAR_DEFAULT;
+    }
+
+    /**
+     * Check if a byte key is the free key (the key marking empty slots).
+     *
+     * @param k key
+     * @return if k is the free key
+     */
+    public static boolean isFreeKey(final byte k) {
+        return k == BYTE_DEFAULT;
+    }
+
+    /**
+     * Check if a double key is the free key (the key marking empty slots).
+     * Notice that {@code -0.0} is not the free key.
+     *
+     * @param k key
+     * @return if k is the free key
+     */
+    public static boolean isFreeKey(final double k) {
+        return Double.doubleToRawLongBits(k) == 0L;
+    }
+
+    /**
+     * Check if a float key is the free key (the key marking empty slots).
+     * Notice that {@code -0.0f} is not the free key.
+     *
+     * @param k key
+     * @return if k is the free key
+     */
+    public static boolean isFreeKey(final float k) {
+        return Float.floatToRawIntBits(k) == 0;
+    }
+
+    /**
+     * Check if a boolean key is the free key (the key marking empty slots).
+     *
+     * @param k key
+     * @return if k is the free key
+     */
+    public static boolean isFreeKey(final boolean k) {
+        return k == BOOLEAN_DEFAULT;
+    }
+
+    /**
+     * Returns the least power of two greater than or equal to the specified value.
+     *
+     * @param x a non-negative int
+     * @return the least power of two greater than or equal to x, or 1 if x is 0
+     */
+    public static int nextPowerOfTwo(final int x) {
+        if (x <= 1) {
+            return 1;
+        }
+        return Integer.highestOneBit(x - 1) << 1;
+    }
+
+    /**
+     * Returns the table length needed to hold expected elements under the load factor.
+     *
+     * @param expected   the expected number of elements
+     * @param loadFactor the load factor
+     * @return the minimum power of two table length that is enough
+     * @throws java.lang.IllegalArgumentException if the table would be larger than {@link #MAXIMUM_CAPACITY}
+     */
+    public static int arraySize(final int expected, final float loadFactor) {
+        final long s = Math.max(2, (long) Math.ceil(expected / loadFactor));
+        if (s > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("Too large (" + expected + " expected elements with load factor "
+                    + loadFactor + ")");
+        }
+        return nextPowerOfTwo((int) s);
+    }
+
+    /**
+     * Returns the maximum number of entries that can be filled before rehashing.
+     *
+     * @param n          the table length
+     * @param loadFactor the load factor
+     * @return the maximum number of entries before rehashing
+     */
+    public static int maxFill(final int n, final float loadFactor) {
+        return Math.min((int) Math.ceil(n * loadFactor), n - 1);
+    }
+
+    /**
+     * Check if a load factor is legal.
+     *
+     * @param loadFactor the load factor
+     * @throws java.lang.IllegalArgumentException if loadFactor is not in (0, 1)
+     */
+    public static void checkLoadFactor(final float loadFactor) {
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        }
+    }
+}
@@ -77,11 +77,7 @@ public interface IntIterable extends Iterable<Integer>, Primitive {
         Objects.requireNonNull(action);
 
         if (action instanceof IntConsumer) {
-            IntConsumer actionIntConsumer = (IntConsumer) action;
-            IntIterator intIterator = this.iterator();
-            while (intIterator.hasNext()) {
-                actionIntConsumer.acceptPrimitive(intIterator.nextPrimitive());
-            }
+            this.forEachPrimitive((IntConsumer) action);
         } else {
             for (Integer t : this) {
                 action.accept(t);
@@ -89,6 +85,21 @@ public interface IntIterable extends Iterable<Integer>, Primitive {
         }
     }
 
+    /**
+     * Primitive replacement of forEach(Consumer&lt;? super Integer&gt; action)
+     *
+     * @param action The action to be performed for each element
+     * @throws java.lang.NullPointerException if the specified action is null
+     * @see #forEach(Consumer)
+     */
+    default void forEachPrimitive(IntConsumer action) {
+        Objects.requireNonNull(action);
+        IntIterator intIterator = this.iterator();
+        while (intIterator.hasNext()) {
+            action.acceptPrimitive(intIterator.nextPrimitive());
+        }
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -30,6 +30,7 @@ import com.xenoamess.commons.primitive.functions.LongPredicate;
 import com.xenoamess.commons.primitive.iterators.LongIterator;
 import com.xenoamess.commons.primitive.iterators.LongSpliterator;
 import com.xenoamess.commons.primitive.iterators.LongSpliterators;
+import com.xenoamess.commons.primitive.iterators.LongStreamSpliterator;
 import java.util.AbstractCollection;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -48,6 +49,7 @@ import java.util.TreeSet;
 import java.util.Vector;
 import java.util.function.IntFunction;
 import java.util.function.Predicate;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -630,23 +632,41 @@ public interface LongCollection extends Collection<Long>, LongIterable, Primitiv
     @Override
     default boolean removeIf(Predicate<? super Long> filter) {
         Objects.requireNonNull(filter);
+        if (filter instanceof LongPredicate) {
+            return this.removeIfPrimitive((LongPredicate) filter);
+        }
         boolean removed = false;
         final LongIterator each = iterator();
-
-        if (filter instanceof LongPredicate) {
-            LongPredicate actionLongPredicate = (LongPredicate) filter;
-            while (each.hasNext()) {
-                if (actionLongPredicate.testPrimitive(each.nextPrimitive())) {
-                    each.remove();
-                    removed = true;
-                }
+        while (each.hasNext()) {
+            if (filter.test(each.next())) {
+                each.remove();
+                removed = true;
             }
-        } else {
-            while (each.hasNext()) {
-                if (filter.test(each.next())) {
-                    each.remove();
-                    removed = true;
-                }
+        }
+        return removed;
+    }
+
+    /**
+     * Primitive replacement of removeIf(Predicate&lt;? super Long&gt; filter)
+     *
+     * @param filter a predicate which returns {@code true} for elements to be
+     *               removed
+     * @return {@code true} if any elements were removed
+     * @throws java.lang.NullPointerException          if the specified filter is null
+     * @throws java.lang.UnsupportedOperationException if elements cannot be removed
+     *                                                 from this collection.  Implementations may throw this exception if a
+     *                                                 matching element cannot be removed or if, in general, removal is not
+     *                                                 supported.
+     * @see #removeIf(Predicate)
+     */
+    default boolean removeIfPrimitive(LongPredicate filter) {
+        Objects.requireNonNull(filter);
+        boolean removed = false;
+        final LongIterator each = iterator();
+        while (each.hasNext()) {
+            if (filter.testPrimitive(each.nextPrimitive())) {
+                each.remove();
+                removed = true;
             }
         }
         return removed;
@@ -744,4 +764,29 @@ public interface LongCollection extends Collection<Long>, LongIterable, Primitiv
     default Stream<Long> parallelStream() {
         return StreamSupport.stream(spliterator(), true);
     }
+
+    /**
+     * Returns a sequential {@code LongStream} with this collection as its source.
+     * <p>
+     * Unlike {@link #stream()}, elements are not boxed.
+     *
+     * @return a sequential {@code LongStream} over the elements in this collection
+     * @see #stream()
+     */
+    default LongStream longStream() {
+        return StreamSupport.longStream(new LongStreamSpliterator(spliterator()), false);
+    }
+
+    /**
+     * Returns a possibly parallel {@code LongStream} with this collection as its
+     * source.  It is allowable for this method to return a sequential stream.
+     * <p>
+     * Unlike {@link #parallelStream()}, elements are not boxed.
+     *
+     * @return a possibly parallel {@code LongStream} over the elements in this collection
+     * @see #parallelStream()
+     */
+    default LongStream parallelLongStream() {
+        return StreamSupport.longStream(new LongStreamSpliterator(spliterator()), true);
+    }
 }
@@ -77,11 +77,7 @@ public interface LongIterable extends Iterable<Long>, Primitive {
         Objects.requireNonNull(action);
 
         if (action instanceof LongConsumer) {
-            LongConsumer actionLongConsumer = (LongConsumer) action;
-            LongIterator longIterator = this.iterator();
-            while (longIterator.hasNext()) {
-                actionLongConsumer.acceptPrimitive(longIterator.nextPrimitive());
-            }
+            this.forEachPrimitive((LongConsumer) action);
         } else {
             for (Long t : this) {
                 action.accept(t);
@@ -89,6 +85,21 @@ public interface LongIterable extends Iterable<Long>, Primitive {
         }
     }
 
+    /**
+     * Primitive replacement of forEach(Consumer&lt;? super Long&gt; action)
+     *
+     * @param action The action to be performed for each element
+     * @throws java.lang.NullPointerException if the specified action is null
+     * @see #forEach(Consumer)
+     */
+    default void forEachPrimitive(LongConsumer action) {
+        Objects.requireNonNull(action);
+        LongIterator longIterator = this.iterator();
+        while (longIterator.hasNext()) {
+            action.acceptPrimitive(longIterator.nextPrimitive());
+        }
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -30,6 +30,7 @@ import com.xenoamess.commons.primitive.functions.ShortPredicate;
 import com.xenoamess.commons.primitive.iterators.ShortIterator;
 import com.xenoamess.commons.primitive.iterators.ShortSpliterator;
 import com.xenoamess.commons.primitive.iterators.ShortSpliterators;
+import com.xenoamess.commons.primitive.iterators.ShortStreamSpliterator;
 import java.util.AbstractCollection;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -48,6 +49,7 @@ import java.util.TreeSet;
 import java.util.Vector;
 import java.util.function.IntFunction;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -630,23 +632,41 @@ public interface ShortCollection extends Collection<Short>, ShortIterable, Primi
     @Override
     default boolean removeIf(Predicate<? super Short> filter) {
         Objects.requireNonNull(filter);
+        if (filter instanceof ShortPredicate) {
+            return this.removeIfPrimitive((ShortPredicate) filter);
+        }
         boolean removed = false;
         final ShortIterator each = iterator();
-
-        if (filter instanceof ShortPredicate) {
-            ShortPredicate actionShortPredicate = (ShortPredicate) filter;
-            while (each.hasNext()) {
-                if (actionShortPredicate.testPrimitive(each.nextPrimitive())) {
-                    each.remove();
-                    removed = true;
-                }
+        while (each.hasNext()) {
+            if (filter.test(each.next())) {
+                each.remove();
+                removed = true;
             }
-        } else {
-            while (each.hasNext()) {
-                if (filter.test(each.next())) {
-                    each.remove();
-                    removed = true;
-                }
+        }
+        return removed;
+    }
+
+    /**
+     * Primitive replacement of removeIf(Predicate&lt;? super Short&gt; filter)
+     *
+     * @param filter a predicate which returns {@code true} for elements to be
+     *               removed
+     * @return {@code true} if any elements were removed
+     * @throws java.lang.NullPointerException          if the specified filter is null
+     * @throws java.lang.UnsupportedOperationException if elements cannot be removed
+     *                                                 from this collection.  Implementations may throw this exception if a
+     *                                                 matching element cannot be removed or if, in general, removal is not
+     *                                                 supported.
+     * @see #removeIf(Predicate)
+     */
+    default boolean removeIfPrimitive(ShortPredicate filter) {
+        Objects.requireNonNull(filter);
+        boolean removed = false;
+        final ShortIterator each = iterator();
+        while (each.hasNext()) {
+            if (filter.testPrimitive(each.nextPrimitive())) {
+                each.remove();
+                removed = true;
             }
         }
         return removed;
@@ -744,4 +764,33 @@ public interface ShortCollection extends Collection<Short>, ShortIterable, Primi
     default Stream<Short> parallelStream() {
         return StreamSupport.stream(spliterator(), true);
     }
+
+    /**
+     * Returns a sequential {@code IntStream} with this collection as its source.
+     * <p>
+     * Unlike {@link #stream()}, elements are not boxed.
+     * <p>
+     * Elements are widened to {@code int}.
+     *
+     * @return a sequential {@code IntStream} over the elements in this collection
+     * @see #stream()
+     */
+    default IntStream intStream() {
+        return StreamSupport.intStream(new ShortStreamSpliterator(spliterator()), false);
+    }
+
+    /**
+     * Returns a possibly parallel {@code IntStream} with this collection as its
+     * source.  It is allowable for this method to return a sequential stream.
+     * <p>
+     * Unlike {@link #parallelStream()}, elements are not boxed.
+     * <p>
+     * Elements are widened to {@code int}.
+     *
+     * @return a possibly parallel {@code IntStream} over the elements in this collection
+     * @see #parallelStream()
+     */
+    default IntStream parallelIntStream() {
+        return StreamSupport.intStream(new ShortStreamSpliterator(spliterator()), true);
+    }
 }
@@ -77,11 +77,7 @@ public interface ShortIterable extends Iterable<Short>, Primitive {
         Objects.requireNonNull(action);
 
         if (action instanceof ShortConsumer) {
-            ShortConsumer actionShortConsumer = (ShortConsumer) action;
-            ShortIterator shortIterator = this.iterator();
-            while (shortIterator.hasNext()) {
-                actionShortConsumer.acceptPrimitive(shortIterator.nextPrimitive());
-            }
+            this.forEachPrimitive((ShortConsumer) action);
         } else {
             for (Short t : this) {
                 action.accept(t);
@@ -89,6 +85,21 @@ public interface ShortIterable extends Iterable<Short>, Primitive {
         }
     }
 
+    /**
+     * Primitive replacement of forEach(Consumer&lt;? super Short&gt; action)
+     *
+     * @param action The action to be performed for each element
+     * @throws java.lang.NullPointerException if the specified action is null
+     * @see #forEach(Consumer)
+     */
+    default void forEachPrimitive(ShortConsumer action) {
+        Objects.requireNonNull(action);
+        ShortIterator shortIterator = this.iterator();
+        while (shortIterator.hasNext()) {
+            action.acceptPrimitive(shortIterator.nextPrimitive());
+        }
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -491,16 +491,32 @@ public interface BooleanList extends List<Boolean>, BooleanCollection, Primitive
     @Override
     default void replaceAll(UnaryOperator<Boolean> operator) {
         Objects.requireNonNull(operator);
-        final BooleanListIterator li = this.listIterator();
         if (operator instanceof BooleanUnaryOperator) {
-            BooleanUnaryOperator operatorBooleanUnaryOperator = (BooleanUnaryOperator) operator;
-            while (li.hasNext()) {
-                li.setPrimitive(operatorBooleanUnaryOperator.applyPrimitive(li.nextPrimitive()));
-            }
-        } else {
-            while (li.hasNext()) {
-                li.set(operator.apply(li.next()));
-            }
+            this.replaceAllPrimitive((BooleanUnaryOperator) operator);
+            return;
+        }
+        final BooleanListIterator li = this.listIterator();
+        while (li.hasNext()) {
+            li.set(operator.apply(li.next()));
+        }
+    }
+
+    /**
+     * Primitive replacement of replaceAll(UnaryOperator&lt;Boolean&gt; operator)
+     *
+     * @param operator the operator to apply to each element
+     * @throws java.lang.UnsupportedOperationException if this list is unmodifiable.
+     *                                                 Implementations may throw this exception if an element
+     *                                                 cannot be replaced or if, in general, modification is not
+     *                                                 supported
+     * @throws java.lang.NullPointerException          if the specified operator is null
+     * @see #replaceAll(UnaryOperator)
+     */
+    default void replaceAllPrimitive(BooleanUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        final BooleanListIterator li = this.listIterator();
+        while (li.hasNext()) {
+            li.setPrimitive(operator.applyPrimitive(li.nextPrimitive()));
         }
     }
 
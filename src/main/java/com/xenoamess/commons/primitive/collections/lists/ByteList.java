@@ -491,16 +491,32 @@ public interface ByteList extends List<Byte>, ByteCollection, Primitive {
     @Override
     default void replaceAll(UnaryOperator<Byte> operator) {
         Objects.requireNonNull(operator);
-        final ByteListIterator li = this.listIterator();
         if (operator instanceof ByteUnaryOperator) {
-            ByteUnaryOperator operatorByteUnaryOperator = (ByteUnaryOperator) operator;
-            while (li.hasNext()) {
-                li.setPrimitive(operatorByteUnaryOperator.applyPrimitive(li.nextPrimitive()));
-            }
-        } else {
-            while (li.hasNext()) {
-                li.set(operator.apply(li.next()));
-            }
+            this.replaceAllPrimitive((ByteUnaryOperator) operator);
+            return;
+        }
+        final ByteListIterator li = this.listIterator();
+        while (li.hasNext()) {
+            li.set(operator.apply(li.next()));
+        }
+    }
+
+    /**
+     * Primitive replacement of replaceAll(UnaryOperator&lt;Byte&gt; operator)
+     *
+     * @param operator the operator to apply to each element
+     * @throws java.lang.UnsupportedOperationException if this list is unmodifiable.
+     *                                                 Implementations may throw this exception if an element
+     *                                                 cannot be replaced or if, in general, modification is not
+     *                                                 supported
+     * @throws java.lang.NullPointerException          if the specified operator is null
+     * @see #replaceAll(UnaryOperator)
+     */
+    default void replaceAllPrimitive(ByteUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        final ByteListIterator li = this.listIterator();
+        while (li.hasNext()) {
+            li.setPrimitive(operator.applyPrimitive(li.nextPrimitive()));
         }
     }
 
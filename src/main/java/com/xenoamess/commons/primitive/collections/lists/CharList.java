@@ -491,16 +491,32 @@ public interface CharList extends List<Character>, CharCollection, Primitive {
     @Override
     default void replaceAll(UnaryOperator<Character> operator) {
         Objects.requireNonNull(operator);
-        final CharListIterator li = this.listIterator();
         if (operator instanceof CharUnaryOperator) {
-            CharUnaryOperator operatorCharUnaryOperator = (CharUnaryOperator) operator;
-            while (li.hasNext()) {
-                li.setPrimitive(operatorCharUnaryOperator.applyPrimitive(li.nextPrimitive()));
-            }
-        } else {
-            while (li.hasNext()) {
-                li.set(operator.apply(li.next()));
-            }
+            this.replaceAllPrimitive((CharUnaryOperator) operator);
+            return;
+        }
+        final CharListIterator li = this.listIterator();
+        while (li.hasNext()) {
+            li.set(operator.apply(li.next()));
+        }
+    }
+
+    /**
+     * Primitive replacement of replaceAll(UnaryOperator&lt;Character&gt; operator)
+     *
+     * @param operator the operator to apply to each element
+     * @throws java.lang.UnsupportedOperationException if this list is unmodifiable.
+     *                                                 Implementations may throw this exception if an element
+     *                                                 cannot be replaced or if, in general, modification is not
+     *                                                 supported
+     * @throws java.lang.NullPointerException          if the specified operator is null
+     * @see #replaceAll(UnaryOperator)
+     */
+    default void replaceAllPrimitive(CharUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        final CharListIterator li = this.listIterator();
+        while (li.hasNext()) {
+            li.setPrimitive(operator.applyPrimitive(li.nextPrimitive()));
         }
     }
 
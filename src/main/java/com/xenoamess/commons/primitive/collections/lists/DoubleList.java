@@ -491,16 +491,32 @@ public interface DoubleList extends List<Double>, DoubleCollection, Primitive {
     @Override
     default void replaceAll(UnaryOperator<Double> operator) {
         Objects.requireNonNull(operator);
-        final DoubleListIterator li = this.listIterator();
         if (operator instanceof DoubleUnaryOperator) {
-            DoubleUnaryOperator operatorDoubleUnaryOperator = (DoubleUnaryOperator) operator;
-            while (li.hasNext()) {
-                li.setPrimitive(operatorDoubleUnaryOperator.applyPrimitive(li.nextPrimitive()));
-            }
-        } else {
-            while (li.hasNext()) {
-                li.set(operator.apply(li.next()));
-            }
+            this.replaceAllPrimitive((DoubleUnaryOperator) operator);
+            return;
+        }
+        final DoubleListIterator li = this.listIterator();
+        while (li.hasNext()) {
+            li.set(operator.apply(li.next()));
+        }
+    }
+
+    /**
+     * Primitive replacement of replaceAll(UnaryOperator&lt;Double&gt; operator)
+     *
+     * @param operator the operator to apply to each element
+     * @throws java.lang.UnsupportedOperationException if this list is unmodifiable.
+     *                                                 Implementations may throw this exception if an element
+     *                                                 cannot be replaced or if, in general, modification is not
+     *                                                 supported
+     * @throws java.lang.NullPointerException          if the specified operator is null
+     * @see #replaceAll(UnaryOperator)
+     */
+    default void replaceAllPrimitive(DoubleUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        final DoubleListIterator li = this.listIterator();
+        while (li.hasNext()) {
+            li.setPrimitive(operator.applyPrimitive(li.nextPrimitive()));
         }
     }
 
@@ -491,16 +491,32 @@ public interface FloatList extends List<Float>, FloatCollection, Primitive {
     @Override
     default void replaceAll(UnaryOperator<Float> operator) {
         Objects.requireNonNull(operator);
-        final FloatListIterator li = this.listIterator();
         if (operator instanceof FloatUnaryOperator) {
-            FloatUnaryOperator operatorFloatUnaryOperator = (FloatUnaryOperator) operator;
-            while (li.hasNext()) {
-                li.setPrimitive(operatorFloatUnaryOperator.applyPrimitive(li.nextPrimitive()));
-            }
-        } else {
-            while (li.hasNext()) {
-                li.set(operator.apply(li.next()));
-            }
+            this.replaceAllPrimitive((FloatUnaryOperator) operator);
+            return;
+        }
+        final FloatListIterator li = this.listIterator();
+        while (li.hasNext()) {
+            li.set(operator.apply(li.next()));
+        }
+    }
+
+    /**
+     * Primitive replacement of replaceAll(UnaryOperator&lt;Float&gt; operator)
+     *
+     * @param operator the operator to apply to each element
+     * @throws java.lang.UnsupportedOperationException if this list is unmodifiable.
+     *                                                 Implementations may throw this exception if an element
+     *                                                 cannot be replaced or if, in general, modification is not
+     *                                                 supported
+     * @throws java.lang.NullPointerException          if the specified operator is null
+     * @see #replaceAll(UnaryOperator)
+     */
+    default void replaceAllPrimitive(FloatUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        final FloatListIterator li = this.listIterator();
+        while (li.hasNext()) {
+            li.setPrimitive(operator.applyPrimitive(li.nextPrimitive()));
         }
     }
 
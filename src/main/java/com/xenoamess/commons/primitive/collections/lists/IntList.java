@@ -491,16 +491,32 @@ public interface IntList extends List<Integer>, IntCollection, Primitive {
     @Override
     default void replaceAll(UnaryOperator<Integer> operator) {
         Objects.requireNonNull(operator);
-        final IntListIterator li = this.listIterator();
         if (operator instanceof IntUnaryOperator) {
-            IntUnaryOperator operatorIntUnaryOperator = (IntUnaryOperator) operator;
-            while (li.hasNext()) {
-                li.setPrimitive(operatorIntUnaryOperator.applyPrimitive(li.nextPrimitive()));
-            }
-        } else {
-            while (li.hasNext()) {
-                li.set(operator.apply(li.next()));
-            }
+            this.replaceAllPrimitive((IntUnaryOperator) operator);
+            return;
+        }
+        final IntListIterator li = this.listIterator();
+        while (li.hasNext()) {
+            li.set(operator.apply(li.next()));
+        }
+    }
+
+    /**
+     * Primitive replacement of replaceAll(UnaryOperator&lt;Integer&gt; operator)
+     *
+     * @param operator the operator to apply to each element
+     * @throws java.lang.UnsupportedOperationException if this list is unmodifiable.
+     *                                                 Implementations may throw this exception if an element
+     *                                                 cannot be replaced or if, in general, modification is not
+     *                                                 supported
+     * @throws java.lang.NullPointerException          if the specified operator is null
+     * @see #replaceAll(UnaryOperator)
+     */
+    default void replaceAllPrimitive(IntUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        final IntListIterator li = this.listIterator();
+        while (li.hasNext()) {
+            li.setPrimitive(operator.applyPrimitive(li.nextPrimitive()));
         }
     }
 
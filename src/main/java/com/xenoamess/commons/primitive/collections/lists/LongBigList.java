@@ -0,0 +1,205 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.xenoamess.commons.primitive.collections.lists;
+
+import com.xenoamess.commons.primitive.Primitive;
+import com.xenoamess.commons.primitive.collections.LongCollection;
+
+/**
+ * An ordered collection of {@code long}, indexed by {@code long}, so that it can hold more than
+ * {@link Integer#MAX_VALUE} elements.
+ * <p>
+ * It is not a {@code List}, as {@code List} is indexed by {@code int}. Its {@link #size()} is capped at
+ * {@link Integer#MAX_VALUE}; use {@link #size64()} to get the real size.
+ * <p>
+ * Two big lists are equal if they contain the same elements in the same order, and their hash code is computed
+ * like the one of a {@code List}.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see LongList
+ */
+public interface LongBigList extends LongCollection, Primitive {
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    long size64();
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns {@link Integer#MAX_VALUE} if this list contains more elements than that.
+     *
+     * @see #size64()
+     */
+    @Override
+    default int size() {
+        return (int) Math.min(size64(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default boolean isEmpty() {
+        return size64() == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default boolean contains(Object o) {
+        return LongCollection.super.contains(o);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default boolean containsPrimitive(long o) {
+        return indexOfPrimitive(o) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default boolean remove(Object o) {
+        return LongCollection.super.remove(o);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default boolean add(Long e) {
+        return LongCollection.super.add(e);
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     * @throws java.lang.IndexOutOfBoundsException if the index is out of range
+     *                                             ({@code index < 0 || index >= size64()})
+     */
+    long getPrimitive(long index);
+
+    /**
+     * Replaces the element at the specified position in this list with the
+     * specified element.
+     *
+     * @param index   index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws java.lang.IndexOutOfBoundsException if the index is out of range
+     *                                             ({@code index < 0 || index >= size64()})
+     */
+    long setPrimitive(long index, long element);
+
+    /**
+     * Inserts the specified element at the specified position in this list.
+     * Shifts the element currently at that position (if any) and any
+     * subsequent elements to the right (adds one to their indices).
+     *
+     * @param index   index at which the specified element is to be inserted
+     * @param element element to be inserted
+     * @throws java.lang.IndexOutOfBoundsException if the index is out of range
+     *                                             ({@code index < 0 || index > size64()})
+     */
+    void addPrimitive(long index, long element);
+
+    /**
+     * Removes the element at the specified position in this list.
+     * Shifts any subsequent elements to the left (subtracts one from their indices).
+     *
+     * @param index the index of the element to be removed
+     * @return the element previously at the specified position
+     * @throws java.lang.IndexOutOfBoundsException if the index is out of range
+     *                                             ({@code index < 0 || index >= size64()})
+     */
+    long removeByIndexPrimitive(long index);
+
+    /**
+     * Returns the index of the first occurrence of the specified element
+     * in this list, or -1 if this list does not contain the element.
+     *
+     * @param o element to search for
+     * @return the index of the first occurrence of the specified element in
+     * this list, or -1 if this list does not contain the element
+     */
+    long indexOfPrimitive(long o);
+
+    /**
+     * Returns the index of the last occurrence of the specified element
+     * in this list, or -1 if this list does not contain the element.
+     *
+     * @param o element to search for
+     * @return the index of the last occurrence of the specified element in
+     * this list, or -1 if this list does not contain the element
+     */
+    long lastIndexOfPrimitive(long o);
+
+    /**
+     * Copies length elements of this list, starting at index from, into the array, starting at offset.
+     *
+     * @param from   index of the first element to copy
+     * @param a      the destination array
+     * @param offset the position in the array of the first element copied
+     * @param length the number of elements to copy
+     * @throws java.lang.IndexOutOfBoundsException if the range is out of this list or out of the array
+     */
+    void getElements(long from, long[] a, int offset, int length);
+
+    /**
+     * Appends length elements of the array, starting at offset, to the end of this list.
+     *
+     * @param a      the source array
+     * @param offset the position in the array of the first element to add
+     * @param length the number of elements to add
+     * @throws java.lang.IndexOutOfBoundsException if the range is out of the array
+     */
+    void addElements(long[] a, int offset, int length);
+
+    /**
+     * Removes from this list all of the elements whose index is between
+     * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive.
+     *
+     * @param fromIndex index of first element to be removed
+     * @param toIndex   index after last element to be removed
+     * @throws java.lang.IndexOutOfBoundsException if {@code fromIndex} or
+     *                                             {@code toIndex} is out of range
+     *                                             ({@code fromIndex < 0 ||
+     *                                             toIndex > size64() ||
+     *                                             toIndex < fromIndex})
+     */
+    void removeRange(long fromIndex, long toIndex);
+}
@@ -491,16 +491,32 @@ public interface LongList extends List<Long>, LongCollection, Primitive {
     @Override
     default void replaceAll(UnaryOperator<Long> operator) {
         Objects.requireNonNull(operator);
-        final LongListIterator li = this.listIterator();
         if (operator instanceof LongUnaryOperator) {
-            LongUnaryOperator operatorLongUnaryOperator = (LongUnaryOperator) operator;
-            while (li.hasNext()) {
-                li.setPrimitive(operatorLongUnaryOperator.applyPrimitive(li.nextPrimitive()));
-            }
-        } else {
-            while (li.hasNext()) {
-                li.set(operator.apply(li.next()));
-            }
+            this.replaceAllPrimitive((LongUnaryOperator) operator);
+            return;
+        }
+        final LongListIterator li = this.listIterator();
+        while (li.hasNext()) {
+            li.set(operator.apply(li.next()));
+        }
+    }
+
+    /**
+     * Primitive replacement of replaceAll(UnaryOperator&lt;Long&gt; operator)
+     *
+     * @param operator the operator to apply to each element
+     * @throws java.lang.UnsupportedOperationException if this list is unmodifiable.
+     *                                                 Implementations may throw this exception if an element
+     *                                                 cannot be replaced or if, in general, modification is not
+     *                                                 supported
+     * @throws java.lang.NullPointerException          if the specified operator is null
+     * @see #replaceAll(UnaryOperator)
+     */
+    default void replaceAllPrimitive(LongUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        final LongListIterator li = this.listIterator();
+        while (li.hasNext()) {
+            li.setPrimitive(operator.applyPrimitive(li.nextPrimitive()));
         }
     }
 
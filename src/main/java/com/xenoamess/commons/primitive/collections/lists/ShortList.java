@@ -491,16 +491,32 @@ public interface ShortList extends List<Short>, ShortCollection, Primitive {
     @Override
     default void replaceAll(UnaryOperator<Short> operator) {
         Objects.requireNonNull(operator);
-        final ShortListIterator li = this.listIterator();
         if (operator instanceof ShortUnaryOperator) {
-            ShortUnaryOperator operatorShortUnaryOperator = (ShortUnaryOperator) operator;
-            while (li.hasNext()) {
-                li.setPrimitive(operatorShortUnaryOperator.applyPrimitive(li.nextPrimitive()));
-            }
-        } else {
-            while (li.hasNext()) {
-                li.set(operator.apply(li.next()));
-            }
+            this.replaceAllPrimitive((ShortUnaryOperator) operator);
+            return;
+        }
+        final ShortListIterator li = this.listIterator();
+        while (li.hasNext()) {
+            li.set(operator.apply(li.next()));
+        }
+    }
+
+    /**
+     * Primitive replacement of replaceAll(UnaryOperator&lt;Short&gt; operator)
+     *
+     * @param operator the operator to apply to each element
+     * @throws java.lang.UnsupportedOperationException if this list is unmodifiable.
+     *                                                 Implementations may throw this exception if an element
+     *                                                 cannot be replaced or if, in general, modification is not
+     *                                                 supported
+     * @throws java.lang.NullPointerException          if the specified operator is null
+     * @see #replaceAll(UnaryOperator)
+     */
+    default void replaceAllPrimitive(ShortUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        final ShortListIterator li = this.listIterator();
+        while (li.hasNext()) {
+            li.setPrimitive(operator.applyPrimitive(li.nextPrimitive()));
         }
     }
 
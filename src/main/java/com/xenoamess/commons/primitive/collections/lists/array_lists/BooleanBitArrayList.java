@@ -0,0 +1,1012 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xenoamess.commons.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.Primitive;
+import com.xenoamess.commons.primitive.collections.BooleanCollection;
+import com.xenoamess.commons.primitive.collections.lists.AbstractBooleanList;
+import com.xenoamess.commons.primitive.collections.lists.BooleanList;
+import com.xenoamess.commons.primitive.comparators.BooleanComparator;
+import com.xenoamess.commons.primitive.functions.BooleanConsumer;
+import com.xenoamess.commons.primitive.functions.BooleanPredicate;
+import com.xenoamess.commons.primitive.functions.BooleanUnaryOperator;
+import com.xenoamess.commons.primitive.iterators.BooleanIterator;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * A resizable bit-packed implementation of the {@code List<Boolean>} interface.
+ * <p>
+ * Unlike {@link BooleanArrayList}, which spends one byte for every element, this class packs 64 elements into
+ * one {@code long}, so it takes about 1/8 of the memory. Bulk operations ({@link #addAll(Collection)},
+ * {@link #removeRange(int, int)}, {@link #equals(Object)}, {@link #hashCodeRange(int, int)}, {@link #countTrue()}
+ * and so on) work on whole words instead of single elements.
+ * <p>
+ * Element {@code i} is stored in bit {@code i & 63} of word {@code i >>> 6}. All bits at or after {@link #size()}
+ * are always zero.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see BooleanArrayList
+ * @see java.util.BitSet
+ */
+public class BooleanBitArrayList extends AbstractBooleanList
+        implements BooleanList, RandomAccess, Cloneable, java.io.Serializable, Primitive {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Default initial capacity, in elements.
+     */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+    private static final int BITS_PER_WORD = 1 << ADDRESS_BITS_PER_WORD;
+    private static final long WORD_MASK = -1L;
+
+    /**
+     * The maximum size of array to allocate (unless necessary).
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private static final long[] EMPTY_WORDS = {};
+
+    /**
+     * 31 to the 8th, the multiplier of list hash codes for every 8 elements.
+     */
+    private static final int HASH_MULTIPLIER_8 = 31 * 31 * 31 * 31 * 31 * 31 * 31 * 31;
+
+    /**
+     * The part of the list hash code contributed by 8 elements whose bits are the index,
+     * started from a hash code of 0.
+     */
+    private static final int[] HASH_BYTE = new int[1 << 8];
+
+    static {
+        for (int b = 0; b < HASH_BYTE.length; b++) {
+            int hashCode = 0;
+            for (int i = 0; i < 8; i++) {
+                hashCode = 31 * hashCode + Boolean.hashCode((b & (1 << i)) != 0);
+            }
+            HASH_BYTE[b] = hashCode;
+        }
+    }
+
+    /**
+     * The words into which the elements are packed.
+     */
+    transient long[] words;
+
+    /**
+     * The size of the {@code BooleanBitArrayList} (the number of elements it contains).
+     *
+     * @serial
+     */
+    private int size;
+
+    /**
+     * Constructs an empty list with the specified initial capacity.
+     *
+     * @param initialCapacity the initial capacity of the list, in elements
+     * @throws java.lang.IllegalArgumentException if the specified initial capacity
+     *                                            is negative
+     */
+    public BooleanBitArrayList(int initialCapacity) {
+        if (initialCapacity > 0) {
+            this.words = new long[wordsFor(initialCapacity)];
+        } else if (initialCapacity == 0) {
+            this.words = EMPTY_WORDS;
+        } else {
+            throw new IllegalArgumentException("Illegal Capacity: " +
+                    initialCapacity);
+        }
+    }
+
+    /**
+     * Constructs an empty list with an initial capacity of {@link #DEFAULT_CAPACITY}.
+     */
+    public BooleanBitArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a list containing the elements of the specified
+     * collection, in the order they are returned by the collection's
+     * iterator.
+     *
+     * @param c the collection whose elements are to be placed into this list
+     * @throws java.lang.NullPointerException if the specified collection is null
+     */
+    public BooleanBitArrayList(Collection<? extends Boolean> c) {
+        this(c.size());
+        this.addAll(c);
+    }
+
+    /**
+     * Constructs a list containing the elements of the specified array.
+     *
+     * @param booleanArray the array whose elements are to be placed into this list
+     * @throws java.lang.NullPointerException if the specified array is null
+     */
+    public BooleanBitArrayList(boolean[] booleanArray) {
+        this(booleanArray.length);
+        this.addAll(booleanArray);
+    }
+
+    //-------------------- bit helpers --------------------
+
+    private static int wordIndex(int bitIndex) {
+        return bitIndex >>> ADDRESS_BITS_PER_WORD;
+    }
+
+    private static int wordsFor(int bits) {
+        return (int) (((long) bits + BITS_PER_WORD - 1) >>> ADDRESS_BITS_PER_WORD);
+    }
+
+    /**
+     * Reads 64 bits starting at the bit position pos. Bits after the end of the array read as 0.
+     */
+    private static long readBits(long[] w, int pos) {
+        final int wi = wordIndex(pos);
+        final int offset = pos & (BITS_PER_WORD - 1);
+        long result = w[wi] >>> offset;
+        if (offset != 0 && wi + 1 < w.length) {
+            result |= w[wi + 1] << (BITS_PER_WORD - offset);
+        }
+        return result;
+    }
+
+    /**
+     * Writes the low count bits of value to the bit position pos.
+     *
+     * @param count in [1, 64]
+     */
+    private static void writeBits(long[] w, int pos, long value, int count) {
+        final long mask = WORD_MASK >>> (BITS_PER_WORD - count);
+        value &= mask;
+        final int wi = wordIndex(pos);
+        final int offset = pos & (BITS_PER_WORD - 1);
+        w[wi] = (w[wi] & ~(mask << offset)) | (value << offset);
+        if (offset + count > BITS_PER_WORD) {
+            final long highMask = WORD_MASK >>> (2 * BITS_PER_WORD - offset - count);
+            w[wi + 1] = (w[wi + 1] & ~highMask) | (value >>> (BITS_PER_WORD - offset));
+        }
+    }
+
+    /**
+     * Copies length bits from srcPos to destPos, in the same array. The ranges may overlap.
+     */
+    private static void moveBits(long[] w, int srcPos, int destPos, int length) {
+        if (srcPos == destPos || length <= 0) {
+            return;
+        }
+        if (destPos < srcPos) {
+            for (int done = 0; done < length; done += BITS_PER_WORD) {
+                writeBits(w, destPos + done, readBits(w, srcPos + done), Math.min(BITS_PER_WORD, length - done));
+            }
+        } else {
+            for (int remaining = length; remaining > 0; remaining -= BITS_PER_WORD) {
+                final int count = Math.min(BITS_PER_WORD, remaining);
+                final int done = remaining - count;
+                writeBits(w, destPos + done, readBits(w, srcPos + done), count);
+            }
+        }
+    }
+
+    /**
+     * Sets bits in [from, to) to value.
+     */
+    private static void fillBits(long[] w, int from, int to, boolean value) {
+        if (from >= to) {
+            return;
+        }
+        final int startWordIndex = wordIndex(from);
+        final int endWordIndex = wordIndex(to - 1);
+        final long firstWordMask = WORD_MASK << from;
+        final long lastWordMask = WORD_MASK >>> -to;
+        if (startWordIndex == endWordIndex) {
+            final long mask = firstWordMask & lastWordMask;
+            w[startWordIndex] = value ? w[startWordIndex] | mask : w[startWordIndex] & ~mask;
+            return;
+        }
+        w[startWordIndex] = value ? w[startWordIndex] | firstWordMask : w[startWordIndex] & ~firstWordMask;
+        Arrays.fill(w, startWordIndex + 1, endWordIndex, value ? WORD_MASK : 0L);
+        w[endWordIndex] = value ? w[endWordIndex] | lastWordMask : w[endWordIndex] & ~lastWordMask;
+    }
+
+    /**
+     * Clears the bits after size in the last word in use.
+     */
+    private static void clearTail(long[] w, int size) {
+        if ((size & (BITS_PER_WORD - 1)) != 0) {
+            w[wordIndex(size)] &= WORD_MASK >>> -size;
+        }
+    }
+
+    //-------------------- capacity --------------------
+
+    /**
+     * Trims the capacity of this {@code BooleanBitArrayList} instance to be the
+     * list's current size, rounded up to whole words.
+     */
+    public void trimToSize() {
+        modCount++;
+        final int wordsInUse = wordsFor(size);
+        if (wordsInUse < words.length) {
+            words = (wordsInUse == 0)
+                    ? EMPTY_WORDS
+                    : Arrays.copyOf(words, wordsInUse);
+        }
+    }
+
+    /**
+     * Increases the capacity of this {@code BooleanBitArrayList} instance, if
+     * necessary, to ensure that it can hold at least the number of elements
+     * specified by the minimum capacity argument.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (wordsFor(minCapacity) > words.length) {
+            modCount++;
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Increases the capacity to ensure that it can hold at least the
+     * number of elements specified by the minimum capacity argument.
+     *
+     * @param minCapacity the desired minimum capacity
+     * @throws OutOfMemoryError if minCapacity is less than zero
+     */
+    private long[] grow(int minCapacity) {
+        if (minCapacity < 0) {
+            // overflow
+            throw new OutOfMemoryError();
+        }
+        final int minWords = wordsFor(minCapacity);
+        final int oldWords = words.length;
+        int newWords = oldWords + (oldWords >> 1);
+        if (newWords - minWords <= 0) {
+            newWords = Math.max(minWords, wordsFor(DEFAULT_CAPACITY));
+        } else if (newWords - MAX_ARRAY_SIZE > 0) {
+            newWords = minWords;
+        }
+        return words = Arrays.copyOf(words, newWords);
+    }
+
+    /**
+     * Returns the number of elements this list can hold without growing.
+     *
+     * @return capacity, in elements
+     */
+    public long capacity() {
+        return (long) words.length * BITS_PER_WORD;
+    }
+
+    //-------------------- basic operations --------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void rangeCheck(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void rangeCheckForAdd(int index) {
+        if (index > size || index < 0) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+    }
+
+    /**
+     * Constructs an IndexOutOfBoundsException detail message.
+     *
+     * @param index index
+     * @return the message
+     */
+    public String outOfBoundsMsg(int index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean getPrimitive(int index) {
+        rangeCheck(index);
+        return (words[wordIndex(index)] & (1L << index)) != 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean setPrimitive(int index, boolean element) {
+        rangeCheck(index);
+        final int wi = wordIndex(index);
+        final long mask = 1L << index;
+        final boolean oldValue = (words[wi] & mask) != 0;
+        if (element) {
+            words[wi] |= mask;
+        } else {
+            words[wi] &= ~mask;
+        }
+        return oldValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addPrimitive(boolean e) {
+        modCount++;
+        final int s = size;
+        if (wordIndex(s) >= words.length) {
+            grow(s + 1);
+        }
+        if (e) {
+            words[wordIndex(s)] |= 1L << s;
+        }
+        size = s + 1;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addPrimitive(int index, boolean element) {
+        rangeCheckForAdd(index);
+        modCount++;
+        final int s = size;
+        if (wordIndex(s) >= words.length) {
+            grow(s + 1);
+        }
+        moveBits(words, index, index + 1, s - index);
+        final int wi = wordIndex(index);
+        if (element) {
+            words[wi] |= 1L << index;
+        } else {
+            words[wi] &= ~(1L << index);
+        }
+        size = s + 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeByIndexPrimitive(int index) {
+        rangeCheck(index);
+        final boolean oldValue = (words[wordIndex(index)] & (1L << index)) != 0;
+        removeRange(index, index + 1);
+        return oldValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeByContentPrimitive(boolean o) {
+        final int index = indexOfPrimitive(o);
+        if (index < 0) {
+            return false;
+        }
+        removeRange(index, index + 1);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Removes from this list all of the elements whose index is between
+     * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive.
+     * Shifts any succeeding elements to the left (reduces their index),
+     * 64 elements at a time.
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(BooleanArrayList.outOfBoundsMsg(fromIndex, toIndex));
+        }
+        if (fromIndex < 0 || toIndex > size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(fromIndex < 0 ? fromIndex : toIndex));
+        }
+        modCount++;
+        final int s = size;
+        final int newSize = s - (toIndex - fromIndex);
+        moveBits(words, toIndex, fromIndex, s - toIndex);
+        fillBits(words, newSize, s, false);
+        size = newSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        modCount++;
+        Arrays.fill(words, 0, wordsFor(size), 0L);
+        size = 0;
+    }
+
+    //-------------------- bulk add --------------------
+
+    /**
+     * Appends all of the elements in the specified array to the end of
+     * this list, in order.
+     *
+     * @param booleanArray array containing elements to be added to this list
+     * @return {@code true} if this list changed as a result of the call
+     */
+    public boolean addAll(boolean[] booleanArray) {
+        return addAll(size, booleanArray);
+    }
+
+    /**
+     * Inserts all of the elements in the specified array into this
+     * list, starting at the specified position.
+     *
+     * @param index        index at which to insert the first element from the
+     *                     specified array
+     * @param booleanArray array containing elements to be added to this list
+     * @return {@code true} if this list changed as a result of the call
+     * @throws java.lang.IndexOutOfBoundsException {@inheritDoc}
+     */
+    public boolean addAll(int index, boolean[] booleanArray) {
+        rangeCheckForAdd(index);
+        modCount++;
+        final int numNew = booleanArray.length;
+        if (numNew == 0) {
+            return false;
+        }
+        openGap(index, numNew);
+        final long[] w = words;
+        for (int i = 0; i < numNew; ) {
+            final int count = Math.min(BITS_PER_WORD, numNew - i);
+            long bits = 0L;
+            for (int j = 0; j < count; j++) {
+                if (booleanArray[i + j]) {
+                    bits |= 1L << j;
+                }
+            }
+            writeBits(w, index + i, bits, count);
+            i += count;
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Appends all of the elements in the specified collection to the end of
+     * this list. If c is a {@code BooleanBitArrayList}, it is copied a word at a time.
+     */
+    @Override
+    public boolean addAll(Collection<? extends Boolean> c) {
+        return addAll(size, c);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Inserts all of the elements in the specified collection into this
+     * list, starting at the specified position. If c is a {@code BooleanBitArrayList}, it is copied a word at a time.
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends Boolean> c) {
+        if (!(c instanceof BooleanBitArrayList)) {
+            if (c instanceof BooleanCollection) {
+                return addAll(index, ((BooleanCollection) c).toArrayPrimitive());
+            }
+            final boolean[] a = new boolean[c.size()];
+            int i = 0;
+            for (Boolean e : c) {
+                a[i++] = e;
+            }
+            return addAll(index, a);
+        }
+        rangeCheckForAdd(index);
+        modCount++;
+        final BooleanBitArrayList other = (BooleanBitArrayList) c;
+        final int numNew = other.size;
+        if (numNew == 0) {
+            return false;
+        }
+        // copy first, as other can be this.
+        final long[] otherWords = Arrays.copyOf(other.words, wordsFor(numNew));
+        openGap(index, numNew);
+        final long[] w = words;
+        for (int i = 0; i < otherWords.length; i++) {
+            writeBits(w, index + (i << ADDRESS_BITS_PER_WORD), otherWords[i],
+                    Math.min(BITS_PER_WORD, numNew - (i << ADDRESS_BITS_PER_WORD)));
+        }
+        return true;
+    }
+
+    /**
+     * Makes room for numNew elements at index, and increase size by numNew.
+     */
+    private void openGap(int index, int numNew) {
+        final int s = size;
+        final int newSize = s + numNew;
+        if (wordsFor(newSize) > words.length) {
+            grow(newSize);
+        }
+        moveBits(words, index, index + numNew, s - index);
+        size = newSize;
+    }
+
+    //-------------------- searching --------------------
+
+    /**
+     * Returns the number of {@code true} elements in this list.
+     *
+     * @return the number of {@code true} elements in this list
+     */
+    public int countTrue() {
+        final long[] w = words;
+        int result = 0;
+        for (int i = 0, wordsInUse = wordsFor(size); i < wordsInUse; i++) {
+            result += Long.bitCount(w[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the index of the first {@code true} element at or after fromIndex.
+     *
+     * @param fromIndex the index to start checking from (inclusive)
+     * @return the index of the next {@code true} element, or {@code -1} if there is no such element
+     * @throws java.lang.IndexOutOfBoundsException if fromIndex is negative
+     */
+    public int nextSetIndex(int fromIndex) {
+        if (fromIndex < 0) {
+            throw new IndexOutOfBoundsException("fromIndex < 0: " + fromIndex);
+        }
+        if (fromIndex >= size) {
+            return -1;
+        }
+        final long[] w = words;
+        final int wordsInUse = wordsFor(size);
+        int u = wordIndex(fromIndex);
+        long word = w[u] & (WORD_MASK << fromIndex);
+        while (true) {
+            if (word != 0) {
+                return (u * BITS_PER_WORD) + Long.numberOfTrailingZeros(word);
+            }
+            if (++u == wordsInUse) {
+                return -1;
+            }
+            word = w[u];
+        }
+    }
+
+    /**
+     * Returns the index of the first {@code false} element at or after fromIndex.
+     *
+     * @param fromIndex the index to start checking from (inclusive)
+     * @return the index of the next {@code false} element, or {@code -1} if there is no such element
+     * @throws java.lang.IndexOutOfBoundsException if fromIndex is negative
+     */
+    public int nextClearIndex(int fromIndex) {
+        if (fromIndex < 0) {
+            throw new IndexOutOfBoundsException("fromIndex < 0: " + fromIndex);
+        }
+        if (fromIndex >= size) {
+            return -1;
+        }
+        final long[] w = words;
+        final int wordsInUse = wordsFor(size);
+        int u = wordIndex(fromIndex);
+        long word = ~w[u] & (WORD_MASK << fromIndex);
+        while (true) {
+            if (word != 0) {
+                final int result = (u * BITS_PER_WORD) + Long.numberOfTrailingZeros(word);
+                return result < size ? result : -1;
+            }
+            if (++u == wordsInUse) {
+                return -1;
+            }
+            word = ~w[u];
+        }
+    }
+
+    /**
+     * Returns the index of the last {@code true} element at or before fromIndex.
+     *
+     * @param fromIndex the index to start checking from (inclusive)
+     * @return the index of the previous {@code true} element, or {@code -1} if there is no such element
+     */
+    public int previousSetIndex(int fromIndex) {
+        if (fromIndex < 0) {
+            return -1;
+        }
+        if (fromIndex >= size) {
+            fromIndex = size - 1;
+            if (fromIndex < 0) {
+                return -1;
+            }
+        }
+        final long[] w = words;
+        int u = wordIndex(fromIndex);
+        long word = w[u] & (WORD_MASK >>> -(fromIndex + 1));
+        while (true) {
+            if (word != 0) {
+                return (u + 1) * BITS_PER_WORD - 1 - Long.numberOfLeadingZeros(word);
+            }
+            if (u-- == 0) {
+                return -1;
+            }
+            word = w[u];
+        }
+    }
+
+    /**
+     * Returns the index of the last {@code false} element at or before fromIndex.
+     *
+     * @param fromIndex the index to start checking from (inclusive)
+     * @return the index of the previous {@code false} element, or {@code -1} if there is no such element
+     */
+    public int previousClearIndex(int fromIndex) {
+        if (fromIndex < 0) {
+            return -1;
+        }
+        if (fromIndex >= size) {
+            fromIndex = size - 1;
+            if (fromIndex < 0) {
+                return -1;
+            }
+        }
+        final long[] w = words;
+        int u = wordIndex(fromIndex);
+        long word = ~w[u] & (WORD_MASK >>> -(fromIndex + 1));
+        while (true) {
+            if (word != 0) {
+                return (u + 1) * BITS_PER_WORD - 1 - Long.numberOfLeadingZeros(word);
+            }
+            if (u-- == 0) {
+                return -1;
+            }
+            word = ~w[u];
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsPrimitive(boolean o) {
+        return indexOfPrimitive(o) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int indexOfPrimitive(boolean o) {
+        return o ? nextSetIndex(0) : nextClearIndex(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int lastIndexOfPrimitive(boolean o) {
+        return o ? previousSetIndex(size - 1) : previousClearIndex(size - 1);
+    }
+
+    //-------------------- equals & hashCode --------------------
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If o is a {@code BooleanBitArrayList}, they are compared a word at a time.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof BooleanBitArrayList)) {
+            return super.equals(o);
+        }
+        final BooleanBitArrayList other = (BooleanBitArrayList) o;
+        if (size != other.size) {
+            return false;
+        }
+        final long[] w = words;
+        final long[] otherWords = other.words;
+        for (int i = 0, wordsInUse = wordsFor(size); i < wordsInUse; i++) {
+            if (w[i] != otherWords[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return hashCodeRange(0, size);
+    }
+
+    /**
+     * get hashcode from range, which equals to the hashcode of {@code subList(from, to)}.
+     * <p>
+     * Elements are hashed 8 at a time, by a lookup table.
+     *
+     * @param from start index, inclusive
+     * @param to   end index, exclusive.
+     * @return hashcode
+     */
+    public int hashCodeRange(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("From Index: " + from + ", To Index: " + to + ", Size: " + size);
+        }
+        final long[] w = words;
+        int hashCode = 1;
+        int i = from;
+        while (to - i >= BITS_PER_WORD) {
+            long bits = readBits(w, i);
+            for (int j = 0; j < 8; j++) {
+                hashCode = HASH_MULTIPLIER_8 * hashCode + HASH_BYTE[(int) (bits & 0xFF)];
+                bits >>>= 8;
+            }
+            i += BITS_PER_WORD;
+        }
+        for (; i < to; i++) {
+            hashCode = 31 * hashCode + Boolean.hashCode((w[wordIndex(i)] & (1L << i)) != 0);
+        }
+        return hashCode;
+    }
+
+    //-------------------- whole list operations --------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean[] toArrayPrimitive() {
+        final boolean[] result = new boolean[size];
+        for (int i = nextSetIndex(0); i >= 0; i = nextSetIndex(i + 1)) {
+            result[i] = true;
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEach(Consumer<? super Boolean> action) {
+        Objects.requireNonNull(action);
+        if (action instanceof BooleanConsumer) {
+            this.forEachPrimitive((BooleanConsumer) action);
+            return;
+        }
+        this.forEachPrimitive(action::accept);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachPrimitive(BooleanConsumer action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        final long[] w = words;
+        final int s = size;
+        for (int u = 0, wordsInUse = wordsFor(s); u < wordsInUse && modCount == expectedModCount; u++) {
+            long word = w[u];
+            for (int i = u << ADDRESS_BITS_PER_WORD, end = Math.min(s, i + BITS_PER_WORD); i < end; i++) {
+                action.acceptPrimitive((word & 1L) != 0);
+                word >>>= 1;
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The filter is tested once with {@code true} and once with {@code false}, rather than once per element, and
+     * the list is then rewritten a word at a time.
+     */
+    @Override
+    public boolean removeIfPrimitive(BooleanPredicate filter) {
+        Objects.requireNonNull(filter);
+        final boolean removeTrue = filter.testPrimitive(true);
+        final boolean removeFalse = filter.testPrimitive(false);
+        if (!removeTrue && !removeFalse) {
+            return false;
+        }
+        final int oldSize = size;
+        final int countTrue = countTrue();
+        final int newSize = removeTrue ? (removeFalse ? 0 : oldSize - countTrue) : countTrue;
+        if (newSize == oldSize) {
+            return false;
+        }
+        modCount++;
+        Arrays.fill(words, 0, wordsFor(oldSize), 0L);
+        fillBits(words, 0, newSize, !removeTrue);
+        size = newSize;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The operator is applied once to {@code true} and once to {@code false}, rather than once per element, and
+     * the list is then rewritten a word at a time.
+     */
+    @Override
+    public void replaceAllPrimitive(BooleanUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        final boolean fromTrue = operator.applyPrimitive(true);
+        final boolean fromFalse = operator.applyPrimitive(false);
+        modCount++;
+        final long[] w = words;
+        final int s = size;
+        if (fromTrue && !fromFalse) {
+            return;
+        }
+        if (fromTrue == fromFalse) {
+            fillBits(w, 0, s, fromTrue);
+        } else {
+            final int wordsInUse = wordsFor(s);
+            for (int i = 0; i < wordsInUse; i++) {
+                w[i] = ~w[i];
+            }
+            clearTail(w, s);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void sort(Comparator<? super Boolean> c) {
+        if (c != null && !(c instanceof BooleanComparator)) {
+            throw new IllegalArgumentException("For more performance, this class only accept BooleanComparator as " +
+                    "comparator.");
+        }
+        this.sort((BooleanComparator) c);
+    }
+
+    /**
+     * Sorts this list by counting, which is stable, as equal booleans are not distinguishable.
+     *
+     * @param c a {@link com.xenoamess.commons.primitive.comparators.BooleanComparator} object,
+     *          or {@code null} for natural order ({@code false} before {@code true}).
+     */
+    public void sort(BooleanComparator c) {
+        final int order = c == null ? -1 : c.compare(false, true);
+        if (order != 0) {
+            final int s = size;
+            final int countTrue = countTrue();
+            fillBits(words, 0, s, false);
+            if (order < 0) {
+                fillBits(words, s - countTrue, s, true);
+            } else {
+                fillBits(words, 0, countTrue, true);
+            }
+        }
+        modCount++;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns a copy of this {@code BooleanBitArrayList} instance.
+     */
+    @Override
+    public Object clone() {
+        try {
+            BooleanBitArrayList v = (BooleanBitArrayList) super.clone();
+            v.words = Arrays.copyOf(words, wordsFor(size));
+            v.modCount = 0;
+            return v;
+        } catch (CloneNotSupportedException e) {
+            // this shouldn't happen, since we are Cloneable
+            throw new InternalError(e);
+        }
+    }
+
+    /**
+     * Saves the state of the {@code BooleanBitArrayList} instance to a stream
+     * (that is, serializes it).
+     *
+     * @param s the stream
+     * @throws java.io.IOException if an I/O error occurs
+     * @serialData The size is emitted by default serialization, followed by the words in use (each a
+     * {@code long}) in the proper order.
+     */
+    private void writeObject(java.io.ObjectOutputStream s)
+            throws java.io.IOException {
+        int expectedModCount = modCount;
+        s.defaultWriteObject();
+
+        for (int i = 0, wordsInUse = wordsFor(size); i < wordsInUse; i++) {
+            s.writeLong(words[i]);
+        }
+
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Reconstitutes the {@code BooleanBitArrayList} instance from a stream (that is,
+     * deserializes it).
+     *
+     * @param s the stream
+     * @throws java.io.IOException              if an I/O error occurs
+     * @throws java.lang.ClassNotFoundException if any.
+     */
+    private void readObject(java.io.ObjectInputStream s)
+            throws java.io.IOException, ClassNotFoundException {
+        s.defaultReadObject();
+        if (size < 0) {
+            throw new java.io.InvalidObjectException("Invalid size: " + size);
+        }
+        final long[] w = new long[wordsFor(size)];
+        for (int i = 0; i < w.length; i++) {
+            w[i] = s.readLong();
+        }
+        clearTail(w, size);
+        words = w;
+    }
+}
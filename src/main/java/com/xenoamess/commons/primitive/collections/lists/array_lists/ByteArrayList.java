@@ -30,10 +30,19 @@ import com.xenoamess.commons.primitive.collections.lists.AbstractByteList;
 import com.xenoamess.commons.primitive.collections.lists.ByteList;
 import com.xenoamess.commons.primitive.comparators.ByteComparator;
 import com.xenoamess.commons.primitive.functions.ByteConsumer;
+import com.xenoamess.commons.primitive.functions.BytePredicate;
+import com.xenoamess.commons.primitive.functions.ByteUnaryOperator;
+import com.xenoamess.commons.primitive.io.PrimitiveArrayIO;
 import com.xenoamess.commons.primitive.iterators.ByteIterator;
 import com.xenoamess.commons.primitive.iterators.ByteListIterator;
 import com.xenoamess.commons.primitive.iterators.ByteSpliterator;
+import com.xenoamess.commons.primitive.pools.PrimitiveArrayPool;
+import com.xenoamess.commonx.java.util.ArraysRangeUtilsx;
 import com.xenoamess.commonx.java.util.Arraysx;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -149,6 +158,11 @@ public class ByteArrayList extends AbstractByteList
      */
     private int size;
 
+    /**
+     * The pool {@code elementData} is borrowed from and released to, or null if this list is not pooled.
+     */
+    transient PrimitiveArrayPool pool;
+
     /**
      * Constructs an empty list with the specified initial capacity.
      *
@@ -233,6 +247,39 @@ public class ByteArrayList extends AbstractByteList
         size = ifEmpty ? 0 : elementData.length;
     }
 
+    /**
+     * Constructs an empty list, whose {@code elementData} is borrowed from the pool, and released to it when
+     * the list grows, or when {@link #release()} is called.
+     * <p>
+     * A pooled list shall be released once it is no longer used, and its {@code elementData} shall not be kept
+     * elsewhere, as the pool lends it to other borrowers after that.
+     * <p>
+     * {@link #sort(ByteComparator)} of a pooled list borrows its temporary buffers from the pool too.
+     *
+     * @param pool the pool, such as {@link PrimitiveArrayPool#threadLocal()}
+     * @return a new empty pooled list
+     * @throws java.lang.NullPointerException if the pool is null
+     */
+    public static ByteArrayList pooled(PrimitiveArrayPool pool) {
+        ByteArrayList result = new ByteArrayList();
+        result.pool = Objects.requireNonNull(pool);
+        return result;
+    }
+
+    /**
+     * Removes all of the elements from this list, and releases its {@code elementData} to its pool if it is
+     * pooled. The list can still be used afterwards.
+     */
+    public void release() {
+        modCount++;
+        final byte[] oldElementData = elementData;
+        elementData = DEFAULTCAPACITY_EMPTY_ELEMENTDATA;
+        size = 0;
+        if (pool != null) {
+            pool.release(oldElementData);
+        }
+    }
+
     /**
      * Trims the capacity of this {@code ByteArrayList} instance to be the
      * list's current size.  An application can use this operation to minimize
@@ -241,9 +288,13 @@ public class ByteArrayList extends AbstractByteList
     public void trimToSize() {
         modCount++;
         if (size < elementData.length) {
+            final byte[] oldElementData = elementData;
             elementData = (size == 0)
                     ? EMPTY_ELEMENTDATA
                     : Arrays.copyOf(elementData, size);
+            if (pool != null) {
+                pool.release(oldElementData);
+            }
         }
     }
 
@@ -279,6 +330,13 @@ public class ByteArrayList extends AbstractByteList
      * @throws OutOfMemoryError if minCapacity is less than zero
      */
     private byte[] grow(int minCapacity) {
+        if (pool != null) {
+            final byte[] oldElementData = elementData;
+            final byte[] newElementData = pool.borrowByteArray(newCapacity(minCapacity));
+            System.arraycopy(oldElementData, 0, newElementData, 0, size);
+            pool.release(oldElementData);
+            return elementData = newElementData;
+        }
         return elementData = Arrays.copyOf(elementData,
                 newCapacity(minCapacity));
     }
@@ -414,13 +472,7 @@ public class ByteArrayList extends AbstractByteList
      * @see ByteArrayList#indexOfRange(Object o, int start, int end)
      */
     public int indexOfRangePrimitive(byte o, int start, int end) {
-        byte[] es = elementData;
-        for (int i = start; i < end; i++) {
-            if (es[i] == o) {
-                return i;
-            }
-        }
-        return -1;
+        return ArraysRangeUtilsx.indexOf(elementData, start, end, o);
     }
 
     /**
@@ -480,14 +532,7 @@ public class ByteArrayList extends AbstractByteList
      * @see ByteArrayList#lastIndexOfRange(Object o, int start, int end)
      */
     public int lastIndexOfRangePrimitive(byte o, int start, int end) {
-        byte tmpByteValue = o;
-        byte[] es = elementData;
-        for (int i = end - 1; i >= start; i--) {
-            if (tmpByteValue == es[i]) {
-                return i;
-            }
-        }
-        return -1;
+        return ArraysRangeUtilsx.lastIndexOf(elementData, start, end, o);
     }
 
     /**
@@ -542,7 +587,7 @@ public class ByteArrayList extends AbstractByteList
      */
     @Override
     public byte[] toArrayPrimitive() {
-        return Arraysx.copyOf(elementData);
+        return Arrays.copyOf(elementData, size);
     }
 
     /**
@@ -808,12 +853,7 @@ public class ByteArrayList extends AbstractByteList
             if (s > es.length || s > otherEs.length) {
                 throw new ConcurrentModificationException();
             }
-            for (int i = 0; i < s; i++) {
-                if (!Objects.equals(es[i], otherEs[i])) {
-                    equal = false;
-                    break;
-                }
-            }
+            equal = ArraysRangeUtilsx.mismatch(es, 0, otherEs, 0, s) < 0;
         }
         other.checkForComodification(otherModCount);
         return equal;
@@ -848,12 +888,7 @@ public class ByteArrayList extends AbstractByteList
         if (to > es.length) {
             throw new ConcurrentModificationException();
         }
-        int hashCode = 1;
-        for (int i = from; i < to; i++) {
-            byte e = es[i];
-            hashCode = 31 * hashCode + Byte.hashCode(e);
-        }
-        return hashCode;
+        return ArraysRangeUtilsx.hashCode(es, from, to);
     }
 
 //    /**
@@ -1368,6 +1403,55 @@ public class ByteArrayList extends AbstractByteList
         }
     }
 
+    /**
+     * Writes the elements of this list in proper sequence to the channel, in the binary format of
+     * {@link PrimitiveArrayIO}.
+     *
+     * @param channel the channel to write to, which shall be blocking
+     * @throws java.io.IOException if an I/O error occurs
+     * @see #readFrom(ReadableByteChannel)
+     */
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        PrimitiveArrayIO.write(channel, elementData, 0, size);
+    }
+
+    /**
+     * Writes the elements of this list in proper sequence to the buffer at its position, in the binary format of
+     * {@link PrimitiveArrayIO}, and advances the position of the buffer.
+     *
+     * @param buffer the buffer to write to
+     * @throws java.nio.BufferOverflowException if there is not enough room in the buffer
+     * @see #readFrom(ByteBuffer)
+     */
+    public void writeTo(ByteBuffer buffer) {
+        PrimitiveArrayIO.write(buffer, elementData, 0, size);
+    }
+
+    /**
+     * Reads a list written by {@link #writeTo(WritableByteChannel)} from the channel.
+     *
+     * @param channel the channel to read from, which shall be blocking
+     * @return the list read
+     * @throws java.io.IOException                if an I/O error occurs
+     * @throws java.lang.IllegalArgumentException if the channel does not contain a list of {@code byte}
+     */
+    public static ByteArrayList readFrom(ReadableByteChannel channel) throws IOException {
+        return new ByteArrayList(PrimitiveArrayIO.readByteArray(channel));
+    }
+
+    /**
+     * Reads a list written by {@link #writeTo(ByteBuffer)} from the buffer at its position, and
+     * advances the position of the buffer.
+     *
+     * @param buffer the buffer to read from
+     * @return the list read
+     * @throws java.nio.BufferUnderflowException   if the buffer ends before the list does
+     * @throws java.lang.IllegalArgumentException if the buffer does not contain a list of {@code byte}
+     */
+    public static ByteArrayList readFrom(ByteBuffer buffer) {
+        return new ByteArrayList(PrimitiveArrayIO.readByteArray(buffer));
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -1472,8 +1556,15 @@ public class ByteArrayList extends AbstractByteList
                 if (i >= es.length) {
                     throw new ConcurrentModificationException();
                 }
-                for (; i < size && modCount == expectedModCount; i++) {
-                    action.accept(elementAt(es, i));
+                if (action instanceof ByteConsumer) {
+                    ByteConsumer actionByteConsumer = (ByteConsumer) action;
+                    for (; i < size && modCount == expectedModCount; i++) {
+                        actionByteConsumer.acceptPrimitive(elementAt(es, i));
+                    }
+                } else {
+                    for (; i < size && modCount == expectedModCount; i++) {
+                        action.accept(elementAt(es, i));
+                    }
                 }
                 // update once at end to reduce heap write traffic
                 cursor = i;
@@ -1690,6 +1781,11 @@ public class ByteArrayList extends AbstractByteList
             root.replaceAllRange(operator, offset, offset + size);
         }
 
+        @Override
+        public void replaceAllPrimitive(ByteUnaryOperator operator) {
+            root.replaceAllRangePrimitive(operator, offset, offset + size);
+        }
+
         @Override
         public boolean removeAll(Collection<?> c) {
             return batchRemove(c, false);
@@ -1722,6 +1818,17 @@ public class ByteArrayList extends AbstractByteList
             return modified;
         }
 
+        @Override
+        public boolean removeIfPrimitive(BytePredicate filter) {
+            checkForComodification();
+            int oldSize = root.size;
+            boolean modified = root.removeIfPrimitive(filter, offset, offset + size);
+            if (modified) {
+                updateSizeAndModCount(root.size - oldSize);
+            }
+            return modified;
+        }
+
         @Override
         public Object[] toArray() {
             return ArrayUtils.toObject(this.toArrayPrimitive());
@@ -2029,7 +2136,11 @@ public class ByteArrayList extends AbstractByteList
                     if (i < hi) {
                         index = i + 1;
                         byte e = root.elementData[i];
-                        action.accept(e);
+                        if (action instanceof ByteConsumer) {
+                            ((ByteConsumer) action).acceptPrimitive(e);
+                        } else {
+                            action.accept(e);
+                        }
                         if (root.modCount != expectedModCount) {
                             throw new ConcurrentModificationException();
                         }
@@ -2052,9 +2163,16 @@ public class ByteArrayList extends AbstractByteList
                             mc = expectedModCount;
                         }
                         if ((i = index) >= 0 && (index = hi) <= a.length) {
-                            for (; i < hi; ++i) {
-                                byte e = a[i];
-                                action.accept(e);
+                            if (action instanceof ByteConsumer) {
+                                ByteConsumer actionByteConsumer = (ByteConsumer) action;
+                                for (; i < hi; ++i) {
+                                    actionByteConsumer.acceptPrimitive(a[i]);
+                                }
+                            } else {
+                                for (; i < hi; ++i) {
+                                    byte e = a[i];
+                                    action.accept(e);
+                                }
                             }
                             if (lst.modCount == mc) {
                                 return;
@@ -2083,6 +2201,10 @@ public class ByteArrayList extends AbstractByteList
     @Override
     public void forEach(Consumer<? super Byte> action) {
         Objects.requireNonNull(action);
+        if (action instanceof ByteConsumer) {
+            this.forEachPrimitive((ByteConsumer) action);
+            return;
+        }
         final int expectedModCount = modCount;
         final byte[] es = elementData;
         final int size = this.size;
@@ -2094,6 +2216,23 @@ public class ByteArrayList extends AbstractByteList
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachPrimitive(ByteConsumer action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        final byte[] es = elementData;
+        final int size = this.size;
+        for (int i = 0; modCount == expectedModCount && i < size; i++) {
+            action.acceptPrimitive(es[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -2188,7 +2327,11 @@ public class ByteArrayList extends AbstractByteList
             if (i < hi) {
                 index = i + 1;
                 byte e = elementData[i];
-                action.accept(e);
+                if (action instanceof ByteConsumer) {
+                    ((ByteConsumer) action).acceptPrimitive(e);
+                } else {
+                    action.accept(e);
+                }
                 if (modCount != expectedModCount) {
                     throw new ConcurrentModificationException();
                 }
@@ -2212,9 +2355,16 @@ public class ByteArrayList extends AbstractByteList
                     mc = expectedModCount;
                 }
                 if ((i = index) >= 0 && (index = hi) <= a.length) {
-                    for (; i < hi; ++i) {
-                        byte e = a[i];
-                        action.accept(e);
+                    if (action instanceof ByteConsumer) {
+                        ByteConsumer actionByteConsumer = (ByteConsumer) action;
+                        for (; i < hi; ++i) {
+                            actionByteConsumer.acceptPrimitive(a[i]);
+                        }
+                    } else {
+                        for (; i < hi; ++i) {
+                            byte e = a[i];
+                            action.accept(e);
+                        }
                     }
                     if (modCount == mc) {
                         return;
@@ -2264,6 +2414,9 @@ public class ByteArrayList extends AbstractByteList
      */
     boolean removeIf(Predicate<? super Byte> filter, int i, final int end) {
         Objects.requireNonNull(filter);
+        if (filter instanceof BytePredicate) {
+            return removeIfPrimitive((BytePredicate) filter, i, end);
+        }
         int expectedModCount = modCount;
         final byte[] es = elementData;
         // Optimize for initial run of survivors
@@ -2301,6 +2454,57 @@ public class ByteArrayList extends AbstractByteList
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeIfPrimitive(BytePredicate filter) {
+        return removeIfPrimitive(filter, 0, size);
+    }
+
+    /**
+     * Removes all elements satisfying the given predicate, from index
+     * i (inclusive) to index end (exclusive).
+     */
+    boolean removeIfPrimitive(BytePredicate filter, int i, final int end) {
+        Objects.requireNonNull(filter);
+        int expectedModCount = modCount;
+        final byte[] es = elementData;
+        // Optimize for initial run of survivors
+        for (; i < end && !filter.testPrimitive(es[i]); i++) {
+        }
+        // Tolerate predicates that reentrantly access the collection for
+        // read (but writers still get CME), so traverse once to find
+        // elements to delete, a second pass to physically expunge.
+        if (i < end) {
+            final int beg = i;
+            final long[] deathRow = nBits(end - beg);
+            deathRow[0] = 1L;   // set bit 0
+            for (i = beg + 1; i < end; i++) {
+                if (filter.testPrimitive(es[i])) {
+                    setBit(deathRow, i - beg);
+                }
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            modCount++;
+            int w = beg;
+            for (i = beg; i < end; i++) {
+                if (isClear(deathRow, i - beg)) {
+                    es[w++] = es[i];
+                }
+            }
+            shiftTailOverGap(es, w, end);
+            return true;
+        } else {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return false;
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -2312,6 +2516,10 @@ public class ByteArrayList extends AbstractByteList
 
     private void replaceAllRange(UnaryOperator<Byte> operator, int i, int end) {
         Objects.requireNonNull(operator);
+        if (operator instanceof ByteUnaryOperator) {
+            replaceAllRangePrimitive((ByteUnaryOperator) operator, i, end);
+            return;
+        }
         final int expectedModCount = modCount;
         final byte[] es = elementData;
         for (; modCount == expectedModCount && i < end; i++) {
@@ -2322,6 +2530,27 @@ public class ByteArrayList extends AbstractByteList
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void replaceAllPrimitive(ByteUnaryOperator operator) {
+        replaceAllRangePrimitive(operator, 0, size);
+        modCount++;
+    }
+
+    private void replaceAllRangePrimitive(ByteUnaryOperator operator, int i, int end) {
+        Objects.requireNonNull(operator);
+        final int expectedModCount = modCount;
+        final byte[] es = elementData;
+        for (; modCount == expectedModCount && i < end; i++) {
+            es[i] = operator.applyPrimitive(es[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -2341,7 +2570,24 @@ public class ByteArrayList extends AbstractByteList
      */
     public void sort(ByteComparator c) {
         final int expectedModCount = modCount;
-        Arraysx.sort(elementData, 0, size, c);
+        Arraysx.sort(elementData, 0, size, c, pool);
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        modCount++;
+    }
+
+    /**
+     * Sorts this list according to the order induced by the specified comparator, like {@link #sort(ByteComparator)},
+     * but the sorting is split into parallel tasks in the
+     * {@link java.util.concurrent.ForkJoinPool#commonPool() ForkJoin common pool} when the list is large enough.
+     *
+     * @param c a {@link com.xenoamess.commons.primitive.comparators.ByteComparator} object.
+     * @see Arraysx#parallelSortSelf(byte[], int, int, ByteComparator)
+     */
+    public void parallelSort(ByteComparator c) {
+        final int expectedModCount = modCount;
+        Arraysx.parallelSortSelf(elementData, 0, size, c);
         if (modCount != expectedModCount) {
             throw new ConcurrentModificationException();
         }
@@ -30,10 +30,19 @@ import com.xenoamess.commons.primitive.collections.lists.AbstractCharList;
 import com.xenoamess.commons.primitive.collections.lists.CharList;
 import com.xenoamess.commons.primitive.comparators.CharComparator;
 import com.xenoamess.commons.primitive.functions.CharConsumer;
+import com.xenoamess.commons.primitive.functions.CharPredicate;
+import com.xenoamess.commons.primitive.functions.CharUnaryOperator;
+import com.xenoamess.commons.primitive.io.PrimitiveArrayIO;
 import com.xenoamess.commons.primitive.iterators.CharIterator;
 import com.xenoamess.commons.primitive.iterators.CharListIterator;
 import com.xenoamess.commons.primitive.iterators.CharSpliterator;
+import com.xenoamess.commons.primitive.pools.PrimitiveArrayPool;
+import com.xenoamess.commonx.java.util.ArraysRangeUtilsx;
 import com.xenoamess.commonx.java.util.Arraysx;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -149,6 +158,11 @@ public class CharArrayList extends AbstractCharList
      */
     private int size;
 
+    /**
+     * The pool {@code elementData} is borrowed from and released to, or null if this list is not pooled.
+     */
+    transient PrimitiveArrayPool pool;
+
     /**
      * Constructs an empty list with the specified initial capacity.
      *
@@ -233,6 +247,39 @@ public class CharArrayList extends AbstractCharList
         size = ifEmpty ? 0 : elementData.length;
     }
 
+    /**
+     * Constructs an empty list, whose {@code elementData} is borrowed from the pool, and released to it when
+     * the list grows, or when {@link #release()} is called.
+     * <p>
+     * A pooled list shall be released once it is no longer used, and its {@code elementData} shall not be kept
+     * elsewhere, as the pool lends it to other borrowers after that.
+     * <p>
+     * {@link #sort(CharComparator)} of a pooled list borrows its temporary buffers from the pool too.
+     *
+     * @param pool the pool, such as {@link PrimitiveArrayPool#threadLocal()}
+     * @return a new empty pooled list
+     * @throws java.lang.NullPointerException if the pool is null
+     */
+    public static CharArrayList pooled(PrimitiveArrayPool pool) {
+        CharArrayList result = new CharArrayList();
+        result.pool = Objects.requireNonNull(pool);
+        return result;
+    }
+
+    /**
+     * Removes all of the elements from this list, and releases its {@code elementData} to its pool if it is
+     * pooled. The list can still be used afterwards.
+     */
+    public void release() {
+        modCount++;
+        final char[] oldElementData = elementData;
+        elementData = DEFAULTCAPACITY_EMPTY_ELEMENTDATA;
+        size = 0;
+        if (pool != null) {
+            pool.release(oldElementData);
+        }
+    }
+
     /**
      * Trims the capacity of this {@code CharArrayList} instance to be the
      * list's current size.  An application can use this operation to minimize
@@ -241,9 +288,13 @@ public class CharArrayList extends AbstractCharList
     public void trimToSize() {
         modCount++;
         if (size < elementData.length) {
+            final char[] oldElementData = elementData;
             elementData = (size == 0)
                     ? EMPTY_ELEMENTDATA
                     : Arrays.copyOf(elementData, size);
+            if (pool != null) {
+                pool.release(oldElementData);
+            }
         }
     }
 
@@ -279,6 +330,13 @@ public class CharArrayList extends AbstractCharList
      * @throws OutOfMemoryError if minCapacity is less than zero
      */
     private char[] grow(int minCapacity) {
+        if (pool != null) {
+            final char[] oldElementData = elementData;
+            final char[] newElementData = pool.borrowCharArray(newCapacity(minCapacity));
+            System.arraycopy(oldElementData, 0, newElementData, 0, size);
+            pool.release(oldElementData);
+            return elementData = newElementData;
+        }
         return elementData = Arrays.copyOf(elementData,
                 newCapacity(minCapacity));
     }
@@ -414,13 +472,7 @@ public class CharArrayList extends AbstractCharList
      * @see CharArrayList#indexOfRange(Object o, int start, int end)
      */
     public int indexOfRangePrimitive(char o, int start, int end) {
-        char[] es = elementData;
-        for (int i = start; i < end; i++) {
-            if (es[i] == o) {
-                return i;
-            }
-        }
-        return -1;
+        return ArraysRangeUtilsx.indexOf(elementData, start, end, o);
     }
 
     /**
@@ -480,14 +532,7 @@ public class CharArrayList extends AbstractCharList
      * @see CharArrayList#lastIndexOfRange(Object o, int start, int end)
      */
     public int lastIndexOfRangePrimitive(char o, int start, int end) {
-        char tmpCharValue = o;
-        char[] es = elementData;
-        for (int i = end - 1; i >= start; i--) {
-            if (tmpCharValue == es[i]) {
-                return i;
-            }
-        }
-        return -1;
+        return ArraysRangeUtilsx.lastIndexOf(elementData, start, end, o);
     }
 
     /**
@@ -542,7 +587,7 @@ public class CharArrayList extends AbstractCharList
      */
     @Override
     public char[] toArrayPrimitive() {
-        return Arraysx.copyOf(elementData);
+        return Arrays.copyOf(elementData, size);
     }
 
     /**
@@ -808,12 +853,7 @@ public class CharArrayList extends AbstractCharList
             if (s > es.length || s > otherEs.length) {
                 throw new ConcurrentModificationException();
             }
-            for (int i = 0; i < s; i++) {
-                if (!Objects.equals(es[i], otherEs[i])) {
-                    equal = false;
-                    break;
-                }
-            }
+            equal = ArraysRangeUtilsx.mismatch(es, 0, otherEs, 0, s) < 0;
         }
         other.checkForComodification(otherModCount);
         return equal;
@@ -848,12 +888,7 @@ public class CharArrayList extends AbstractCharList
         if (to > es.length) {
             throw new ConcurrentModificationException();
         }
-        int hashCode = 1;
-        for (int i = from; i < to; i++) {
-            char e = es[i];
-            hashCode = 31 * hashCode + Character.hashCode(e);
-        }
-        return hashCode;
+        return ArraysRangeUtilsx.hashCode(es, from, to);
     }
 
 //    /**
@@ -1368,6 +1403,55 @@ public class CharArrayList extends AbstractCharList
         }
     }
 
+    /**
+     * Writes the elements of this list in proper sequence to the channel, in the binary format of
+     * {@link PrimitiveArrayIO}.
+     *
+     * @param channel the channel to write to, which shall be blocking
+     * @throws java.io.IOException if an I/O error occurs
+     * @see #readFrom(ReadableByteChannel)
+     */
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        PrimitiveArrayIO.write(channel, elementData, 0, size);
+    }
+
+    /**
+     * Writes the elements of this list in proper sequence to the buffer at its position, in the binary format of
+     * {@link PrimitiveArrayIO}, and advances the position of the buffer.
+     *
+     * @param buffer the buffer to write to
+     * @throws java.nio.BufferOverflowException if there is not enough room in the buffer
+     * @see #readFrom(ByteBuffer)
+     */
+    public void writeTo(ByteBuffer buffer) {
+        PrimitiveArrayIO.write(buffer, elementData, 0, size);
+    }
+
+    /**
+     * Reads a list written by {@link #writeTo(WritableByteChannel)} from the channel.
+     *
+     * @param channel the channel to read from, which shall be blocking
+     * @return the list read
+     * @throws java.io.IOException                if an I/O error occurs
+     * @throws java.lang.IllegalArgumentException if the channel does not contain a list of {@code char}
+     */
+    public static CharArrayList readFrom(ReadableByteChannel channel) throws IOException {
+        return new CharArrayList(PrimitiveArrayIO.readCharArray(channel));
+    }
+
+    /**
+     * Reads a list written by {@link #writeTo(ByteBuffer)} from the buffer at its position, and
+     * advances the position of the buffer.
+     *
+     * @param buffer the buffer to read from
+     * @return the list read
+     * @throws java.nio.BufferUnderflowException   if the buffer ends before the list does
+     * @throws java.lang.IllegalArgumentException if the buffer does not contain a list of {@code char}
+     */
+    public static CharArrayList readFrom(ByteBuffer buffer) {
+        return new CharArrayList(PrimitiveArrayIO.readCharArray(buffer));
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -1472,8 +1556,15 @@ public class CharArrayList extends AbstractCharList
                 if (i >= es.length) {
                     throw new ConcurrentModificationException();
                 }
-                for (; i < size && modCount == expectedModCount; i++) {
-                    action.accept(elementAt(es, i));
+                if (action instanceof CharConsumer) {
+                    CharConsumer actionCharConsumer = (CharConsumer) action;
+                    for (; i < size && modCount == expectedModCount; i++) {
+                        actionCharConsumer.acceptPrimitive(elementAt(es, i));
+                    }
+                } else {
+                    for (; i < size && modCount == expectedModCount; i++) {
+                        action.accept(elementAt(es, i));
+                    }
                 }
                 // update once at end to reduce heap write traffic
                 cursor = i;
@@ -1690,6 +1781,11 @@ public class CharArrayList extends AbstractCharList
             root.replaceAllRange(operator, offset, offset + size);
         }
 
+        @Override
+        public void replaceAllPrimitive(CharUnaryOperator operator) {
+            root.replaceAllRangePrimitive(operator, offset, offset + size);
+        }
+
         @Override
         public boolean removeAll(Collection<?> c) {
             return batchRemove(c, false);
@@ -1722,6 +1818,17 @@ public class CharArrayList extends AbstractCharList
             return modified;
         }
 
+        @Override
+        public boolean removeIfPrimitive(CharPredicate filter) {
+            checkForComodification();
+            int oldSize = root.size;
+            boolean modified = root.removeIfPrimitive(filter, offset, offset + size);
+            if (modified) {
+                updateSizeAndModCount(root.size - oldSize);
+            }
+            return modified;
+        }
+
         @Override
         public Object[] toArray() {
             return ArrayUtils.toObject(this.toArrayPrimitive());
@@ -2029,7 +2136,11 @@ public class CharArrayList extends AbstractCharList
                     if (i < hi) {
                         index = i + 1;
                         char e = root.elementData[i];
-                        action.accept(e);
+                        if (action instanceof CharConsumer) {
+                            ((CharConsumer) action).acceptPrimitive(e);
+                        } else {
+                            action.accept(e);
+                        }
                         if (root.modCount != expectedModCount) {
                             throw new ConcurrentModificationException();
                         }
@@ -2052,9 +2163,16 @@ public class CharArrayList extends AbstractCharList
                             mc = expectedModCount;
                         }
                         if ((i = index) >= 0 && (index = hi) <= a.length) {
-                            for (; i < hi; ++i) {
-                                char e = a[i];
-                                action.accept(e);
+                            if (action instanceof CharConsumer) {
+                                CharConsumer actionCharConsumer = (CharConsumer) action;
+                                for (; i < hi; ++i) {
+                                    actionCharConsumer.acceptPrimitive(a[i]);
+                                }
+                            } else {
+                                for (; i < hi; ++i) {
+                                    char e = a[i];
+                                    action.accept(e);
+                                }
                             }
                             if (lst.modCount == mc) {
                                 return;
@@ -2083,6 +2201,10 @@ public class CharArrayList extends AbstractCharList
     @Override
     public void forEach(Consumer<? super Character> action) {
         Objects.requireNonNull(action);
+        if (action instanceof CharConsumer) {
+            this.forEachPrimitive((CharConsumer) action);
+            return;
+        }
         final int expectedModCount = modCount;
         final char[] es = elementData;
         final int size = this.size;
@@ -2094,6 +2216,23 @@ public class CharArrayList extends AbstractCharList
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachPrimitive(CharConsumer action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        final char[] es = elementData;
+        final int size = this.size;
+        for (int i = 0; modCount == expectedModCount && i < size; i++) {
+            action.acceptPrimitive(es[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -2188,7 +2327,11 @@ public class CharArrayList extends AbstractCharList
             if (i < hi) {
                 index = i + 1;
                 char e = elementData[i];
-                action.accept(e);
+                if (action instanceof CharConsumer) {
+                    ((CharConsumer) action).acceptPrimitive(e);
+                } else {
+                    action.accept(e);
+                }
                 if (modCount != expectedModCount) {
                     throw new ConcurrentModificationException();
                 }
@@ -2212,9 +2355,16 @@ public class CharArrayList extends AbstractCharList
                     mc = expectedModCount;
                 }
                 if ((i = index) >= 0 && (index = hi) <= a.length) {
-                    for (; i < hi; ++i) {
-                        char e = a[i];
-                        action.accept(e);
+                    if (action instanceof CharConsumer) {
+                        CharConsumer actionCharConsumer = (CharConsumer) action;
+                        for (; i < hi; ++i) {
+                            actionCharConsumer.acceptPrimitive(a[i]);
+                        }
+                    } else {
+                        for (; i < hi; ++i) {
+                            char e = a[i];
+                            action.accept(e);
+                        }
                     }
                     if (modCount == mc) {
                         return;
@@ -2264,6 +2414,9 @@ public class CharArrayList extends AbstractCharList
      */
     boolean removeIf(Predicate<? super Character> filter, int i, final int end) {
         Objects.requireNonNull(filter);
+        if (filter instanceof CharPredicate) {
+            return removeIfPrimitive((CharPredicate) filter, i, end);
+        }
         int expectedModCount = modCount;
         final char[] es = elementData;
         // Optimize for initial run of survivors
@@ -2301,6 +2454,57 @@ public class CharArrayList extends AbstractCharList
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeIfPrimitive(CharPredicate filter) {
+        return removeIfPrimitive(filter, 0, size);
+    }
+
+    /**
+     * Removes all elements satisfying the given predicate, from index
+     * i (inclusive) to index end (exclusive).
+     */
+    boolean removeIfPrimitive(CharPredicate filter, int i, final int end) {
+        Objects.requireNonNull(filter);
+        int expectedModCount = modCount;
+        final char[] es = elementData;
+        // Optimize for initial run of survivors
+        for (; i < end && !filter.testPrimitive(es[i]); i++) {
+        }
+        // Tolerate predicates that reentrantly access the collection for
+        // read (but writers still get CME), so traverse once to find
+        // elements to delete, a second pass to physically expunge.
+        if (i < end) {
+            final int beg = i;
+            final long[] deathRow = nBits(end - beg);
+            deathRow[0] = 1L;   // set bit 0
+            for (i = beg + 1; i < end; i++) {
+                if (filter.testPrimitive(es[i])) {
+                    setBit(deathRow, i - beg);
+                }
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            modCount++;
+            int w = beg;
+            for (i = beg; i < end; i++) {
+                if (isClear(deathRow, i - beg)) {
+                    es[w++] = es[i];
+                }
+            }
+            shiftTailOverGap(es, w, end);
+            return true;
+        } else {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return false;
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -2312,6 +2516,10 @@ public class CharArrayList extends AbstractCharList
 
     private void replaceAllRange(UnaryOperator<Character> operator, int i, int end) {
         Objects.requireNonNull(operator);
+        if (operator instanceof CharUnaryOperator) {
+            replaceAllRangePrimitive((CharUnaryOperator) operator, i, end);
+            return;
+        }
         final int expectedModCount = modCount;
         final char[] es = elementData;
         for (; modCount == expectedModCount && i < end; i++) {
@@ -2322,6 +2530,27 @@ public class CharArrayList extends AbstractCharList
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void replaceAllPrimitive(CharUnaryOperator operator) {
+        replaceAllRangePrimitive(operator, 0, size);
+        modCount++;
+    }
+
+    private void replaceAllRangePrimitive(CharUnaryOperator operator, int i, int end) {
+        Objects.requireNonNull(operator);
+        final int expectedModCount = modCount;
+        final char[] es = elementData;
+        for (; modCount == expectedModCount && i < end; i++) {
+            es[i] = operator.applyPrimitive(es[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -2341,7 +2570,24 @@ public class CharArrayList extends AbstractCharList
      */
     public void sort(CharComparator c) {
         final int expectedModCount = modCount;
-        Arraysx.sort(elementData, 0, size, c);
+        Arraysx.sort(elementData, 0, size, c, pool);
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        modCount++;
+    }
+
+    /**
+     * Sorts this list according to the order induced by the specified comparator, like {@link #sort(CharComparator)},
+     * but the sorting is split into parallel tasks in the
+     * {@link java.util.concurrent.ForkJoinPool#commonPool() ForkJoin common pool} when the list is large enough.
+     *
+     * @param c a {@link com.xenoamess.commons.primitive.comparators.CharComparator} object.
+     * @see Arraysx#parallelSortSelf(char[], int, int, CharComparator)
+     */
+    public void parallelSort(CharComparator c) {
+        final int expectedModCount = modCount;
+        Arraysx.parallelSortSelf(elementData, 0, size, c);
         if (modCount != expectedModCount) {
             throw new ConcurrentModificationException();
         }
@@ -0,0 +1,1318 @@
+/*
+ * Copyright (c) 2010, 2013, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.xenoamess.commons.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.Primitive;
+import com.xenoamess.commons.primitive.collections.DoubleCollection;
+import com.xenoamess.commons.primitive.collections.lists.AbstractDoubleList;
+import com.xenoamess.commons.primitive.collections.lists.DoubleList;
+import com.xenoamess.commons.primitive.comparators.DoubleComparator;
+import com.xenoamess.commons.primitive.functions.DoubleConsumer;
+import com.xenoamess.commons.primitive.functions.DoublePredicate;
+import com.xenoamess.commons.primitive.functions.DoubleUnaryOperator;
+import com.xenoamess.commons.primitive.iterators.DoubleIterator;
+import com.xenoamess.commons.primitive.iterators.DoubleListIterator;
+import com.xenoamess.commons.primitive.iterators.DoubleSpliterator;
+import com.xenoamess.commons.primitive.iterators.DoubleSpliterators;
+import com.xenoamess.commonx.java.util.ArraysRangeUtilsx;
+import com.xenoamess.commonx.java.util.Arraysx;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * A thread-safe variant of {@link DoubleArrayList} in which all mutative
+ * operations ({@code add}, {@code set}, and so on) are implemented by
+ * making a fresh copy of the underlying array.
+ * <p>
+ * This class aims to reduce performance issue of autoboxing and unboxing.
+ * <p>
+ * This class is designed to be a replacement to {@code CopyOnWriteArrayList<Double>}
+ * <p>
+ * This is ordinarily too costly, but may be <em>more</em> efficient
+ * than alternatives when traversal operations vastly outnumber
+ * mutations, and is useful when you cannot or don't want to
+ * synchronize traversals, yet need to preclude interference among
+ * concurrent threads. Reads ({@code getPrimitive}, {@code containsPrimitive}, iteration and so on) take no lock,
+ * and only read a volatile reference to the current array.
+ * The "snapshot" style iterator method uses a
+ * reference to the state of the array at the point that the iterator
+ * was created. This array never changes during the lifetime of the
+ * iterator, so interference is impossible and the iterator is
+ * guaranteed not to throw {@code ConcurrentModificationException}.
+ * The iterator will not reflect additions, removals, or changes to
+ * the list since the iterator was created.  Element-changing
+ * operations on iterators themselves ({@code remove}, {@code set}, and
+ * {@code add}) are not supported. These methods throw
+ * {@code UnsupportedOperationException}.
+ * <p>
+ * Bulk operations ({@link #addAllPrimitive(double[])}, {@link #addAll(Collection)},
+ * {@link #removeIfPrimitive(DoublePredicate)}, {@link #removeAll(Collection)} and so on)
+ * copy the array only once for the whole batch.
+ * <p>
+ * It have functions dealing with {@code Double} for being a {@code List},
+ * but nearly all of its functions have a replacement named XXXPrimitive.
+ * The basic idea is use XXXPrimitive functions whenever possible, and only use
+ * other functions when you have to.
+ * <p>
+ * Most of its functions are modified from {@code CopyOnWriteArrayList}, so as documents.
+ *
+ * @author Doug Lea
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see CopyOnWriteArrayList
+ * @see DoubleArrayList
+ */
+public class CopyOnWriteDoubleArrayList extends AbstractDoubleList
+        implements DoubleList, RandomAccess, Cloneable, java.io.Serializable, Primitive {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The lock protecting all mutators.
+     */
+    final transient Object lock = new Object();
+
+    /**
+     * The array, accessed only via getArray/setArray.
+     */
+    private transient volatile double[] array;
+
+    /**
+     * Gets the array.  Non-private so as to also be accessible
+     * from CopyOnWriteDoubleArraySubList class.
+     *
+     * @return the array
+     */
+    final double[] getArray() {
+        return array;
+    }
+
+    /**
+     * Sets the array.
+     *
+     * @param a the array
+     */
+    final void setArray(double[] a) {
+        array = a;
+    }
+
+    /**
+     * Creates an empty list.
+     */
+    public CopyOnWriteDoubleArrayList() {
+        setArray(new double[0]);
+    }
+
+    /**
+     * Creates a list containing the elements of the specified
+     * collection, in the order they are returned by the collection's
+     * iterator.
+     *
+     * @param c the collection of initially held elements
+     * @throws java.lang.NullPointerException if the specified collection is null
+     */
+    public CopyOnWriteDoubleArrayList(Collection<? extends Double> c) {
+        setArray(toArrayPrimitive(c));
+    }
+
+    /**
+     * Creates a list holding a copy of the given array.
+     *
+     * @param toCopyIn the array (a copy of this array is used as the
+     *                 internal array)
+     * @throws java.lang.NullPointerException if the specified array is null
+     */
+    public CopyOnWriteDoubleArrayList(double[] toCopyIn) {
+        setArray(Arrays.copyOf(toCopyIn, toCopyIn.length));
+    }
+
+    /**
+     * Returns a new array holding the elements of c.
+     */
+    private static double[] toArrayPrimitive(Collection<? extends Double> c) {
+        if (c instanceof CopyOnWriteDoubleArrayList) {
+            return ((CopyOnWriteDoubleArrayList) c).getArray();
+        }
+        if (c instanceof DoubleCollection) {
+            return ((DoubleCollection) c).toArrayPrimitive();
+        }
+        final double[] result = new double[c.size()];
+        int i = 0;
+        for (Double e : c) {
+            result[i++] = e;
+        }
+        return i == result.length ? result : Arrays.copyOf(result, i);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return getArray().length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * static version of indexOf, to allow repeated calls without
+     * needing to re-acquire array each time.
+     *
+     * @param o     element to search for
+     * @param es    the array
+     * @param from  first index to search
+     * @param to    one past last index to search
+     * @return index of element, or -1 if absent
+     */
+    private static int indexOfRange(double o, double[] es, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (o == es[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * static version of lastIndexOf.
+     *
+     * @param o     element to search for
+     * @param es    the array
+     * @param from  index of first element of range, last element to search
+     * @param to    one past last element of range, first element to search
+     * @return index of element, or -1 if absent
+     */
+    private static int lastIndexOfRange(double o, double[] es, int from, int to) {
+        for (int i = to - 1; i >= from; i--) {
+            if (o == es[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsPrimitive(double o) {
+        return indexOfPrimitive(o) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int indexOfPrimitive(double o) {
+        final double[] es = getArray();
+        return indexOfRange(o, es, 0, es.length);
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in
+     * this list, searching forwards from {@code index}, or returns -1 if
+     * the element is not found.
+     *
+     * @param o     element to search for
+     * @param index index to start searching from
+     * @return the index of the first occurrence of the element in
+     * this list at position {@code index} or later in the list;
+     * {@code -1} if the element is not found.
+     * @throws java.lang.IndexOutOfBoundsException if the specified index is negative
+     */
+    public int indexOfPrimitive(double o, int index) {
+        final double[] es = getArray();
+        return indexOfRange(o, es, index, es.length);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int lastIndexOfPrimitive(double o) {
+        final double[] es = getArray();
+        return lastIndexOfRange(o, es, 0, es.length);
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in
+     * this list, searching backwards from {@code index}, or returns -1 if
+     * the element is not found.
+     *
+     * @param o     element to search for
+     * @param index index to start searching backwards from
+     * @return the index of the last occurrence of the element at position
+     * less than or equal to {@code index} in this list;
+     * -1 if the element is not found.
+     * @throws java.lang.IndexOutOfBoundsException if the specified index is greater
+     *                                             than or equal to the current size of this list
+     */
+    public int lastIndexOfPrimitive(double o, int index) {
+        final double[] es = getArray();
+        return lastIndexOfRange(o, es, 0, index + 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns a shallow copy of this list.  (The elements themselves
+     * are not copied.)
+     */
+    @Override
+    public CopyOnWriteDoubleArrayList clone() {
+        // the array is never modified in place, so it can be shared.
+        final CopyOnWriteDoubleArrayList clone = new CopyOnWriteDoubleArrayList();
+        clone.setArray(getArray());
+        return clone;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned array is a copy of the current snapshot.
+     */
+    @Override
+    public double[] toArrayPrimitive() {
+        final double[] es = getArray();
+        return Arrays.copyOf(es, es.length);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double[] toArrayPrimitive(double[] a) {
+        final double[] es = getArray();
+        final int len = es.length;
+        if (a.length < len) {
+            return Arrays.copyOf(es, len);
+        }
+        System.arraycopy(es, 0, a, 0, len);
+        if (a.length > len) {
+            a[len] = DOUBLE_DEFAULT;
+        }
+        return a;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPrimitive(int index) {
+        return getArray()[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double setPrimitive(int index, double element) {
+        synchronized (lock) {
+            double[] es = getArray();
+            final double oldValue = es[index];
+            es = es.clone();
+            es[index] = element;
+            setArray(es);
+            return oldValue;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addPrimitive(double e) {
+        synchronized (lock) {
+            final double[] es = getArray();
+            final int len = es.length;
+            final double[] newElements = Arrays.copyOf(es, len + 1);
+            newElements[len] = e;
+            setArray(newElements);
+            return true;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addPrimitive(int index, double element) {
+        synchronized (lock) {
+            final double[] es = getArray();
+            final int len = es.length;
+            if (index > len || index < 0) {
+                throw new IndexOutOfBoundsException(outOfBounds(index, len));
+            }
+            final double[] newElements = new double[len + 1];
+            System.arraycopy(es, 0, newElements, 0, index);
+            newElements[index] = element;
+            System.arraycopy(es, index, newElements, index + 1, len - index);
+            setArray(newElements);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double removeByIndexPrimitive(int index) {
+        synchronized (lock) {
+            final double[] es = getArray();
+            final int len = es.length;
+            final double oldValue = es[index];
+            final double[] newElements = new double[len - 1];
+            System.arraycopy(es, 0, newElements, 0, index);
+            System.arraycopy(es, index + 1, newElements, index, len - index - 1);
+            setArray(newElements);
+            return oldValue;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeByContentPrimitive(double o) {
+        final double[] snapshot = getArray();
+        final int index = indexOfRange(o, snapshot, 0, snapshot.length);
+        return index >= 0 && remove(o, snapshot, index);
+    }
+
+    /**
+     * A version of remove(Object) using the strong hint that given
+     * recent snapshot contains o at the given index.
+     */
+    private boolean remove(double o, double[] snapshot, int index) {
+        synchronized (lock) {
+            final double[] current = getArray();
+            final int len = current.length;
+            if (snapshot != current) {
+                findIndex:
+                {
+                    final int prefix = Math.min(index, len);
+                    for (int i = 0; i < prefix; i++) {
+                        if (current[i] != snapshot[i] && o == current[i]) {
+                            index = i;
+                            break findIndex;
+                        }
+                    }
+                    if (index >= len) {
+                        return false;
+                    }
+                    if (current[index] == o) {
+                        break findIndex;
+                    }
+                    index = indexOfRange(o, current, index, len);
+                    if (index < 0) {
+                        return false;
+                    }
+                }
+            }
+            final double[] newElements = new double[len - 1];
+            System.arraycopy(current, 0, newElements, 0, index);
+            System.arraycopy(current, index + 1, newElements, index, len - index - 1);
+            setArray(newElements);
+            return true;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Removes from this list all of the elements whose index is between
+     * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive.
+     * Shifts any succeeding elements to the left (reduces their index).
+     * This call shortens the list by {@code (toIndex - fromIndex)} elements.
+     * (If {@code toIndex==fromIndex}, this operation has no effect.)
+     *
+     * @throws java.lang.IndexOutOfBoundsException if fromIndex or toIndex out of range
+     *                                             ({@code fromIndex < 0 || toIndex > size() || toIndex < fromIndex})
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        synchronized (lock) {
+            final double[] es = getArray();
+            final int len = es.length;
+            if (fromIndex < 0 || toIndex > len || toIndex < fromIndex) {
+                throw new IndexOutOfBoundsException();
+            }
+            final int newlen = len - (toIndex - fromIndex);
+            final int numMoved = len - toIndex;
+            if (numMoved == 0) {
+                setArray(Arrays.copyOf(es, newlen));
+            } else {
+                final double[] newElements = new double[newlen];
+                System.arraycopy(es, 0, newElements, 0, fromIndex);
+                System.arraycopy(es, toIndex, newElements, fromIndex, numMoved);
+                setArray(newElements);
+            }
+        }
+    }
+
+    /**
+     * Appends the element, if not present.
+     *
+     * @param e element to be added to this list, if absent
+     * @return {@code true} if the element was added
+     */
+    public boolean addIfAbsentPrimitive(double e) {
+        final double[] snapshot = getArray();
+        return indexOfRange(e, snapshot, 0, snapshot.length) < 0
+                && addIfAbsent(e, snapshot);
+    }
+
+    /**
+     * A version of addIfAbsent using the strong hint that given
+     * recent snapshot does not contain e.
+     */
+    private boolean addIfAbsent(double e, double[] snapshot) {
+        synchronized (lock) {
+            final double[] current = getArray();
+            final int len = current.length;
+            if (snapshot != current) {
+                // Optimize for lost race to another addXXX operation
+                final int common = Math.min(snapshot.length, len);
+                for (int i = 0; i < common; i++) {
+                    if (current[i] != snapshot[i] && e == current[i]) {
+                        return false;
+                    }
+                }
+                if (indexOfRange(e, current, common, len) >= 0) {
+                    return false;
+                }
+            }
+            final double[] newElements = Arrays.copyOf(current, len + 1);
+            newElements[len] = e;
+            setArray(newElements);
+            return true;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        synchronized (lock) {
+            setArray(new double[0]);
+        }
+    }
+
+    /**
+     * Appends all of the elements in the specified array to the end of this list, copying the backing array only
+     * once.
+     *
+     * @param a array containing elements to be added to this list
+     * @return {@code true} if this list changed as a result of the call
+     * @throws java.lang.NullPointerException if the specified array is null
+     */
+    public boolean addAllPrimitive(double[] a) {
+        if (a.length == 0) {
+            return false;
+        }
+        synchronized (lock) {
+            final double[] es = getArray();
+            final int len = es.length;
+            final double[] newElements = Arrays.copyOf(es, len + a.length);
+            System.arraycopy(a, 0, newElements, len, a.length);
+            setArray(newElements);
+            return true;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The backing array is copied only once.
+     */
+    @Override
+    public boolean addAll(Collection<? extends Double> c) {
+        return addAllPrimitive(toArrayPrimitive(c));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The backing array is copied only once.
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends Double> c) {
+        final double[] cs = toArrayPrimitive(c);
+        synchronized (lock) {
+            final double[] es = getArray();
+            final int len = es.length;
+            if (index > len || index < 0) {
+                throw new IndexOutOfBoundsException(outOfBounds(index, len));
+            }
+            if (cs.length == 0) {
+                return false;
+            }
+            final double[] newElements = new double[len + cs.length];
+            System.arraycopy(es, 0, newElements, 0, index);
+            System.arraycopy(cs, 0, newElements, index, cs.length);
+            System.arraycopy(es, index, newElements, index + cs.length, len - index);
+            setArray(newElements);
+            return true;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The backing array is copied only once.
+     */
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return bulkRemove(e -> c.contains(e));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The backing array is copied only once.
+     */
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return bulkRemove(e -> !c.contains(e));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The backing array is copied only once.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super Double> filter) {
+        Objects.requireNonNull(filter);
+        if (filter instanceof DoublePredicate) {
+            return bulkRemove((DoublePredicate) filter);
+        }
+        return bulkRemove(filter::test);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The backing array is copied only once.
+     */
+    @Override
+    public boolean removeIfPrimitive(DoublePredicate filter) {
+        Objects.requireNonNull(filter);
+        return bulkRemove(filter);
+    }
+
+    private boolean bulkRemove(DoublePredicate filter) {
+        synchronized (lock) {
+            return bulkRemove(filter, 0, getArray().length);
+        }
+    }
+
+    private boolean bulkRemove(DoublePredicate filter, int i, int end) {
+        // assert Thread.holdsLock(lock);
+        final double[] es = getArray();
+        // Optimize for initial run of survivors
+        while (i < end && !filter.testPrimitive(es[i])) {
+            i++;
+        }
+        if (i == end) {
+            return false;
+        }
+        final int len = es.length;
+        final double[] newElements = new double[len - 1];
+        System.arraycopy(es, 0, newElements, 0, i);
+        int w = i;
+        for (i++; i < end; i++) {
+            final double e = es[i];
+            if (!filter.testPrimitive(e)) {
+                newElements[w++] = e;
+            }
+        }
+        System.arraycopy(es, end, newElements, w, len - end);
+        w += len - end;
+        setArray(w == newElements.length ? newElements : Arrays.copyOf(newElements, w));
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void replaceAll(UnaryOperator<Double> operator) {
+        Objects.requireNonNull(operator);
+        if (operator instanceof DoubleUnaryOperator) {
+            this.replaceAllPrimitive((DoubleUnaryOperator) operator);
+            return;
+        }
+        this.replaceAllPrimitive(operator::apply);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The backing array is copied only once.
+     */
+    @Override
+    public void replaceAllPrimitive(DoubleUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        synchronized (lock) {
+            final double[] es = getArray().clone();
+            for (int i = 0; i < es.length; i++) {
+                es[i] = operator.applyPrimitive(es[i]);
+            }
+            setArray(es);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void sort(Comparator<? super Double> c) {
+        if (c == null || c instanceof DoubleComparator) {
+            this.sort((DoubleComparator) c);
+            return;
+        }
+        synchronized (lock) {
+            final Object[] a = this.toArray();
+            Arrays.sort(a, (Comparator) c);
+            final double[] es = new double[a.length];
+            for (int i = 0; i < es.length; i++) {
+                es[i] = (Double) a[i];
+            }
+            setArray(es);
+        }
+    }
+
+    /**
+     * Primitive replacement of sort(Comparator c)
+     *
+     * @param c the {@code DoubleComparator} used to compare list elements.
+     *          A {@code null} value indicates that the elements'
+     *          natural ordering should be used
+     * @see #sort(Comparator)
+     */
+    public void sort(DoubleComparator c) {
+        synchronized (lock) {
+            final double[] es = getArray().clone();
+            Arraysx.sort(es, 0, es.length, c);
+            setArray(es);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEach(Consumer<? super Double> action) {
+        Objects.requireNonNull(action);
+        if (action instanceof DoubleConsumer) {
+            this.forEachPrimitive((DoubleConsumer) action);
+            return;
+        }
+        this.forEachPrimitive(action::accept);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Elements of the current snapshot are visited.
+     */
+    @Override
+    public void forEachPrimitive(DoubleConsumer action) {
+        Objects.requireNonNull(action);
+        for (double e : getArray()) {
+            action.acceptPrimitive(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(getArray());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (o instanceof CopyOnWriteDoubleArrayList) {
+            final double[] es = getArray();
+            final double[] other = ((CopyOnWriteDoubleArrayList) o).getArray();
+            return es.length == other.length && ArraysRangeUtilsx.mismatch(es, 0, other, 0, es.length) < 0;
+        }
+        if (!(o instanceof List)) {
+            return false;
+        }
+        final double[] es = getArray();
+        final List<?> list = (List<?>) o;
+        if (list.size() != es.length) {
+            return false;
+        }
+        int i = 0;
+        for (Object element : list) {
+            if (i == es.length || !Objects.equals(es[i++], element)) {
+                return false;
+            }
+        }
+        return i == es.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (double e : getArray()) {
+            hashCode = 31 * hashCode + Double.hashCode(e);
+        }
+        return hashCode;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned iterator provides a snapshot of the state of the list
+     * when the iterator was constructed. No synchronization is needed while
+     * traversing the iterator. The iterator does <em>NOT</em> support the
+     * {@code remove} method.
+     */
+    @Override
+    public DoubleIterator iterator() {
+        return new COWIterator(getArray(), 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned iterator provides a snapshot of the state of the list
+     * when the iterator was constructed. No synchronization is needed while
+     * traversing the iterator. The iterator does <em>NOT</em> support the
+     * {@code remove}, {@code set} or {@code add} methods.
+     */
+    @Override
+    public DoubleListIterator listIterator() {
+        return new COWIterator(getArray(), 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned iterator provides a snapshot of the state of the list
+     * when the iterator was constructed. No synchronization is needed while
+     * traversing the iterator. The iterator does <em>NOT</em> support the
+     * {@code remove}, {@code set} or {@code add} methods.
+     *
+     * @throws java.lang.IndexOutOfBoundsException {@inheritDoc}
+     */
+    @Override
+    public DoubleListIterator listIterator(int index) {
+        final double[] es = getArray();
+        final int len = es.length;
+        if (index < 0 || index > len) {
+            throw new IndexOutOfBoundsException(outOfBounds(index, len));
+        }
+        return new COWIterator(es, index);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The spliterator provides a snapshot of the state of the list
+     * when the spliterator was constructed. No synchronization is needed while
+     * operating on the spliterator.
+     */
+    @Override
+    public DoubleSpliterator spliterator() {
+        return DoubleSpliterators.spliterator(getArray(), Spliterator.IMMUTABLE | Spliterator.ORDERED);
+    }
+
+    static final class COWIterator implements DoubleListIterator {
+        /**
+         * Snapshot of the array
+         */
+        private final double[] snapshot;
+        /**
+         * Index of element to be returned by subsequent call to next.
+         */
+        private int cursor;
+
+        COWIterator(double[] es, int initialCursor) {
+            cursor = initialCursor;
+            snapshot = es;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < snapshot.length;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        @Override
+        public double nextPrimitive() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return snapshot[cursor++];
+        }
+
+        @Override
+        public double previousPrimitive() {
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            return snapshot[--cursor];
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        /**
+         * Not supported. Always throws UnsupportedOperationException.
+         *
+         * @throws UnsupportedOperationException always; {@code remove}
+         *                                       is not supported by this iterator.
+         */
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Not supported. Always throws UnsupportedOperationException.
+         *
+         * @throws UnsupportedOperationException always; {@code set}
+         *                                       is not supported by this iterator.
+         */
+        @Override
+        public void setPrimitive(double e) {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Not supported. Always throws UnsupportedOperationException.
+         *
+         * @throws UnsupportedOperationException always; {@code add}
+         *                                       is not supported by this iterator.
+         */
+        @Override
+        public void addPrimitive(double e) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Double> action) {
+            Objects.requireNonNull(action);
+            final int size = snapshot.length;
+            int i = cursor;
+            cursor = size;
+            for (; i < size; i++) {
+                action.accept(snapshot[i]);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns a view of the portion of this list between
+     * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive.
+     * The returned list is backed by this list, so changes in the
+     * returned list are reflected in this list.
+     * <p>
+     * The semantics of the list returned by this method become
+     * undefined if the backing list (i.e., this list) is modified in
+     * any way other than via the returned list.
+     *
+     * @throws java.lang.IndexOutOfBoundsException {@inheritDoc}
+     */
+    @Override
+    public DoubleList subList(int fromIndex, int toIndex) {
+        synchronized (lock) {
+            final double[] es = getArray();
+            final int len = es.length;
+            final int size = toIndex - fromIndex;
+            if (fromIndex < 0 || toIndex > len || size < 0) {
+                throw new IndexOutOfBoundsException();
+            }
+            return new COWSubList(es, fromIndex, size);
+        }
+    }
+
+    /**
+     * Sublist for CopyOnWriteDoubleArrayList.
+     * <p>
+     * Modifications through the sub list copy the array of the backing list, and the sub list remembers the
+     * array it expects the backing list to hold; if the backing list is modified by others, operations on the
+     * sub list throw {@code ConcurrentModificationException}.
+     */
+    private class COWSubList extends AbstractDoubleList implements RandomAccess {
+        private final int offset;
+        private int size;
+        private double[] expectedArray;
+
+        COWSubList(double[] es, int offset, int size) {
+            // assert Thread.holdsLock(lock);
+            expectedArray = es;
+            this.offset = offset;
+            this.size = size;
+        }
+
+        private void checkForComodification() {
+            // assert Thread.holdsLock(lock);
+            if (getArray() != expectedArray) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        private double[] getArrayChecked() {
+            // assert Thread.holdsLock(lock);
+            final double[] a = getArray();
+            if (a != expectedArray) {
+                throw new ConcurrentModificationException();
+            }
+            return a;
+        }
+
+        private void rangeCheck(int index) {
+            // assert Thread.holdsLock(lock);
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(outOfBounds(index, size));
+            }
+        }
+
+        private void rangeCheckForAddition(int index) {
+            // assert Thread.holdsLock(lock);
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException(outOfBounds(index, size));
+            }
+        }
+
+        @Override
+        public double[] toArrayPrimitive() {
+            final double[] es;
+            final int offset;
+            final int size;
+            synchronized (lock) {
+                es = getArrayChecked();
+                offset = this.offset;
+                size = this.size;
+            }
+            return Arrays.copyOfRange(es, offset, offset + size);
+        }
+
+        @Override
+        public double getPrimitive(int index) {
+            synchronized (lock) {
+                rangeCheck(index);
+                checkForComodification();
+                return CopyOnWriteDoubleArrayList.this.getPrimitive(offset + index);
+            }
+        }
+
+        @Override
+        public double setPrimitive(int index, double element) {
+            synchronized (lock) {
+                rangeCheck(index);
+                checkForComodification();
+                final double x = CopyOnWriteDoubleArrayList.this.setPrimitive(offset + index, element);
+                expectedArray = getArray();
+                return x;
+            }
+        }
+
+        @Override
+        public int size() {
+            synchronized (lock) {
+                checkForComodification();
+                return size;
+            }
+        }
+
+        @Override
+        public boolean addPrimitive(double element) {
+            synchronized (lock) {
+                checkForComodification();
+                CopyOnWriteDoubleArrayList.this.addPrimitive(offset + size, element);
+                expectedArray = getArray();
+                size++;
+            }
+            return true;
+        }
+
+        @Override
+        public void addPrimitive(int index, double element) {
+            synchronized (lock) {
+                checkForComodification();
+                rangeCheckForAddition(index);
+                CopyOnWriteDoubleArrayList.this.addPrimitive(offset + index, element);
+                expectedArray = getArray();
+                size++;
+            }
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends Double> c) {
+            synchronized (lock) {
+                final double[] oldArray = getArrayChecked();
+                final boolean modified =
+                        CopyOnWriteDoubleArrayList.this.addAll(offset + size, c);
+                size += (expectedArray = getArray()).length - oldArray.length;
+                return modified;
+            }
+        }
+
+        @Override
+        public void clear() {
+            synchronized (lock) {
+                checkForComodification();
+                CopyOnWriteDoubleArrayList.this.removeRange(offset, offset + size);
+                expectedArray = getArray();
+                size = 0;
+            }
+        }
+
+        @Override
+        public double removeByIndexPrimitive(int index) {
+            synchronized (lock) {
+                rangeCheck(index);
+                checkForComodification();
+                final double result = CopyOnWriteDoubleArrayList.this.removeByIndexPrimitive(offset + index);
+                expectedArray = getArray();
+                size--;
+                return result;
+            }
+        }
+
+        @Override
+        public boolean removeByContentPrimitive(double o) {
+            synchronized (lock) {
+                checkForComodification();
+                final int index = indexOfRange(o, expectedArray, offset, offset + size);
+                if (index < 0) {
+                    return false;
+                }
+                CopyOnWriteDoubleArrayList.this.removeByIndexPrimitive(index);
+                expectedArray = getArray();
+                size--;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return bulkRemove(e -> c.contains(e));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return bulkRemove(e -> !c.contains(e));
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super Double> filter) {
+            Objects.requireNonNull(filter);
+            if (filter instanceof DoublePredicate) {
+                return bulkRemove((DoublePredicate) filter);
+            }
+            return bulkRemove(filter::test);
+        }
+
+        @Override
+        public boolean removeIfPrimitive(DoublePredicate filter) {
+            Objects.requireNonNull(filter);
+            return bulkRemove(filter);
+        }
+
+        private boolean bulkRemove(DoublePredicate filter) {
+            synchronized (lock) {
+                final double[] oldArray = getArrayChecked();
+                final boolean modified = CopyOnWriteDoubleArrayList.this.bulkRemove(filter, offset, offset + size);
+                size += (expectedArray = getArray()).length - oldArray.length;
+                return modified;
+            }
+        }
+
+        @Override
+        public int indexOfPrimitive(double o) {
+            final double[] es;
+            final int offset;
+            final int size;
+            synchronized (lock) {
+                es = getArrayChecked();
+                offset = this.offset;
+                size = this.size;
+            }
+            final int i = indexOfRange(o, es, offset, offset + size);
+            return (i == -1) ? -1 : i - offset;
+        }
+
+        @Override
+        public int lastIndexOfPrimitive(double o) {
+            final double[] es;
+            final int offset;
+            final int size;
+            synchronized (lock) {
+                es = getArrayChecked();
+                offset = this.offset;
+                size = this.size;
+            }
+            final int i = lastIndexOfRange(o, es, offset, offset + size);
+            return (i == -1) ? -1 : i - offset;
+        }
+
+        @Override
+        public DoubleIterator iterator() {
+            return listIterator(0);
+        }
+
+        @Override
+        public DoubleListIterator listIterator() {
+            return listIterator(0);
+        }
+
+        @Override
+        public DoubleListIterator listIterator(int index) {
+            final double[] es;
+            final int offset;
+            final int size;
+            synchronized (lock) {
+                checkForComodification();
+                rangeCheckForAddition(index);
+                es = expectedArray;
+                offset = this.offset;
+                size = this.size;
+            }
+            return new COWIterator(Arrays.copyOfRange(es, offset, offset + size), index);
+        }
+
+        @Override
+        public DoubleList subList(int fromIndex, int toIndex) {
+            synchronized (lock) {
+                checkForComodification();
+                if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+                    throw new IndexOutOfBoundsException();
+                }
+                return new COWSubList(expectedArray, fromIndex + offset, toIndex - fromIndex);
+            }
+        }
+
+        @Override
+        public void forEachPrimitive(DoubleConsumer action) {
+            Objects.requireNonNull(action);
+            final double[] es;
+            final int offset;
+            final int size;
+            synchronized (lock) {
+                es = getArrayChecked();
+                offset = this.offset;
+                size = this.size;
+            }
+            for (int i = offset, end = offset + size; i < end; i++) {
+                action.acceptPrimitive(es[i]);
+            }
+        }
+    }
+
+    private static String outOfBounds(int index, int size) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    /**
+     * Replaces this list with a {@link SerializationProxy} when serializing, so that the lock, which is final,
+     * is created by the constructor when deserializing.
+     *
+     * @return the serialization proxy
+     */
+    Object writeReplace() {
+        return new SerializationProxy(getArray());
+    }
+
+    private void readObject(java.io.ObjectInputStream s) throws java.io.InvalidObjectException {
+        throw new java.io.InvalidObjectException("SerializationProxy required");
+    }
+
+    /**
+     * The serialized form of a {@code CopyOnWriteDoubleArrayList}, which is only the elements.
+     */
+    private static final class SerializationProxy implements java.io.Serializable {
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * @serial the elements
+         */
+        private final double[] elements;
+
+        SerializationProxy(double[] elements) {
+            this.elements = elements;
+        }
+
+        private Object readResolve() {
+            final CopyOnWriteDoubleArrayList result = new CopyOnWriteDoubleArrayList();
+            result.setArray(elements);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,946 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.xenoamess.commons.primitive.collections.lists.big_lists;
+
+import com.xenoamess.commons.primitive.Primitive;
+import com.xenoamess.commons.primitive.collections.LongCollection;
+import com.xenoamess.commons.primitive.collections.lists.LongBigList;
+import com.xenoamess.commons.primitive.functions.LongConsumer;
+import com.xenoamess.commons.primitive.functions.LongPredicate;
+import com.xenoamess.commons.primitive.iterators.LongIterator;
+import com.xenoamess.commons.primitive.iterators.LongSpliterator;
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+
+/**
+ * Resizable-array implementation of the {@code LongBigList} interface, indexed by {@code long}.
+ * <p>
+ * The elements are kept in segments of {@code 1 << segmentShift} elements ({@link #DEFAULT_SEGMENT_SHIFT} by
+ * default, that is 2^27 elements or 1 GiB). Only the first segment grows by copying, like the array of an
+ * {@code LongArrayList}, and only until it is full; after that, the list grows by appending new segments, so
+ * existing elements are never copied again, and growing never needs twice the memory of the list.
+ * <p>
+ * The {@link #spliterator()} splits on segment boundaries, so parallel streams work on whole segments.
+ * <p>
+ * It have functions dealing with {@code Long} for being a {@code Collection},
+ * but nearly all of its functions have a replacement named XXXPrimitive.
+ * The basic idea is use XXXPrimitive functions whenever possible, and only use
+ * other functions when you have to.
+ * <p>
+ * <strong>Note that this implementation is not synchronized.</strong>
+ * The iterators of this class are <i>fail-fast</i>.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see com.xenoamess.commons.primitive.collections.lists.array_lists.LongArrayList
+ */
+public class LongBigArrayList extends AbstractCollection<Long>
+        implements LongBigList, Cloneable, java.io.Serializable, Primitive {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Default segment shift: segments hold 2^27 elements.
+     */
+    public static final int DEFAULT_SEGMENT_SHIFT = 27;
+
+    /**
+     * Default initial capacity.
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private static final long[][] EMPTY_SEGMENTS = {};
+
+    /**
+     * log2 of the number of elements in a segment.
+     */
+    private final int segmentShift;
+
+    /**
+     * The segments into which the elements are stored.
+     * All segments are full sized, except the first one when it is the only one.
+     */
+    transient long[][] segments;
+
+    /**
+     * The number of segments in use in {@link #segments}.
+     */
+    transient int segmentCount;
+
+    /**
+     * The number of elements this list can hold without allocating.
+     */
+    transient long capacity;
+
+    /**
+     * The number of elements this list contains.
+     */
+    private long size;
+
+    /**
+     * The number of times this list has been structurally modified.
+     */
+    protected transient int modCount = 0;
+
+    /**
+     * Constructs an empty list with the specified initial capacity and segment shift.
+     *
+     * @param initialCapacity the initial capacity of the list
+     * @param segmentShift    log2 of the number of elements in a segment, in [1, 30]
+     * @throws java.lang.IllegalArgumentException if the specified initial capacity
+     *                                            is negative, or the segment shift is out of range
+     */
+    public LongBigArrayList(long initialCapacity, int segmentShift) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " +
+                    initialCapacity);
+        }
+        if (segmentShift < 1 || segmentShift > 30) {
+            throw new IllegalArgumentException("Illegal segment shift: " +
+                    segmentShift);
+        }
+        this.segmentShift = segmentShift;
+        this.segments = EMPTY_SEGMENTS;
+        this.ensureCapacity(initialCapacity);
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity.
+     *
+     * @param initialCapacity the initial capacity of the list
+     * @throws java.lang.IllegalArgumentException if the specified initial capacity
+     *                                            is negative
+     */
+    public LongBigArrayList(long initialCapacity) {
+        this(initialCapacity, DEFAULT_SEGMENT_SHIFT);
+    }
+
+    /**
+     * Constructs an empty list.
+     */
+    public LongBigArrayList() {
+        this(0);
+    }
+
+    /**
+     * Constructs a list containing the elements of the specified
+     * collection, in the order they are returned by the collection's
+     * iterator.
+     *
+     * @param c the collection whose elements are to be placed into this list
+     * @throws java.lang.NullPointerException if the specified collection is null
+     */
+    public LongBigArrayList(Collection<? extends Long> c) {
+        this(c instanceof LongBigList ? ((LongBigList) c).size64() : c.size());
+        this.addAll(c);
+    }
+
+    /**
+     * Constructs a list containing the elements of the specified array.
+     *
+     * @param longArray the array whose elements are to be placed into this list
+     * @throws java.lang.NullPointerException if the specified array is null
+     */
+    public LongBigArrayList(long[] longArray) {
+        this(longArray.length);
+        this.addElements(longArray, 0, longArray.length);
+    }
+
+    /**
+     * Returns the number of elements in a segment.
+     *
+     * @return the number of elements in a segment
+     */
+    public int segmentSize() {
+        return 1 << segmentShift;
+    }
+
+    private int segment(long index) {
+        return (int) (index >>> segmentShift);
+    }
+
+    private int offset(long index) {
+        return (int) index & ((1 << segmentShift) - 1);
+    }
+
+    /**
+     * Increases the capacity of this list, if necessary, to ensure
+     * that it can hold at least the number of elements specified by the
+     * minimum capacity argument.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(long minCapacity) {
+        if (minCapacity <= capacity) {
+            return;
+        }
+        final int segmentSize = 1 << segmentShift;
+        if (segmentCount == 0 || segments[0].length < segmentSize) {
+            // the first segment grows like an array list.
+            final int oldLength = segmentCount == 0 ? 0 : segments[0].length;
+            final long grown = Math.max(Math.max(DEFAULT_CAPACITY, minCapacity), oldLength + (oldLength >> 1));
+            final int newLength = (int) Math.min(segmentSize, grown);
+            if (segmentCount == 0) {
+                this.ensureSegmentsCapacity(1);
+                segments[0] = new long[newLength];
+                segmentCount = 1;
+            } else {
+                segments[0] = Arrays.copyOf(segments[0], newLength);
+            }
+            capacity = newLength;
+        }
+        if (minCapacity > capacity) {
+            final long newSegmentCount = (minCapacity + segmentSize - 1) >>> segmentShift;
+            if (newSegmentCount > Integer.MAX_VALUE - 8) {
+                throw new OutOfMemoryError("Required capacity too large");
+            }
+            this.ensureSegmentsCapacity((int) newSegmentCount);
+            while (segmentCount < newSegmentCount) {
+                segments[segmentCount++] = new long[segmentSize];
+            }
+            capacity = (long) segmentCount << segmentShift;
+        }
+    }
+
+    private void ensureSegmentsCapacity(int minLength) {
+        if (minLength > segments.length) {
+            segments = Arrays.copyOf(segments, Math.max(minLength, segments.length + (segments.length >> 1)));
+        }
+    }
+
+    /**
+     * Trims the capacity of this list to be the list's current size, releasing the segments which are not used.
+     */
+    public void trimToSize() {
+        modCount++;
+        final long segmentSize = 1L << segmentShift;
+        if (size <= segmentSize) {
+            if (segmentCount > 1 || (segmentCount == 1 && segments[0].length != size)) {
+                segments = size == 0 ? EMPTY_SEGMENTS : new long[][]{Arrays.copyOf(segments[0], (int) size)};
+                segmentCount = segments.length;
+                capacity = size;
+            }
+            return;
+        }
+        final int newSegmentCount = (int) ((size + segmentSize - 1) >>> segmentShift);
+        if (newSegmentCount < segmentCount) {
+            segments = Arrays.copyOf(segments, newSegmentCount);
+            segmentCount = newSegmentCount;
+            capacity = (long) newSegmentCount << segmentShift;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long size64() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return LongBigList.super.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(Object o) {
+        return LongBigList.super.contains(o);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsPrimitive(long o) {
+        return indexOfPrimitive(o) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long indexOfPrimitive(long o) {
+        long base = 0;
+        for (int s = 0; base < size; s++, base += 1L << segmentShift) {
+            final long[] segment = segments[s];
+            final int end = (int) Math.min(segment.length, size - base);
+            for (int i = 0; i < end; i++) {
+                if (segment[i] == o) {
+                    return base + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long lastIndexOfPrimitive(long o) {
+        if (size == 0) {
+            return -1;
+        }
+        for (int s = segment(size - 1); s >= 0; s--) {
+            final long[] segment = segments[s];
+            final long base = (long) s << segmentShift;
+            for (int i = (int) Math.min(segment.length, size - base) - 1; i >= 0; i--) {
+                if (segment[i] == o) {
+                    return base + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private void checkIndex(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+    }
+
+    private void rangeCheckForAdd(long index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+    }
+
+    private String outOfBoundsMsg(long index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getPrimitive(long index) {
+        checkIndex(index);
+        return segments[segment(index)][offset(index)];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long setPrimitive(long index, long element) {
+        checkIndex(index);
+        final long[] segment = segments[segment(index)];
+        final int offset = offset(index);
+        final long oldValue = segment[offset];
+        segment[offset] = element;
+        return oldValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean add(Long e) {
+        return LongBigList.super.add(e);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addPrimitive(long e) {
+        modCount++;
+        if (size == capacity) {
+            ensureCapacity(size + 1);
+        }
+        segments[segment(size)][offset(size)] = e;
+        size++;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addPrimitive(long index, long element) {
+        rangeCheckForAdd(index);
+        modCount++;
+        ensureCapacity(size + 1);
+        move(index, index + 1, size - index);
+        segments[segment(index)][offset(index)] = element;
+        size++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long removeByIndexPrimitive(long index) {
+        checkIndex(index);
+        modCount++;
+        final long oldValue = segments[segment(index)][offset(index)];
+        move(index + 1, index, size - index - 1);
+        size--;
+        return oldValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remove(Object o) {
+        return LongBigList.super.remove(o);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeByContentPrimitive(long o) {
+        final long index = indexOfPrimitive(o);
+        if (index < 0) {
+            return false;
+        }
+        removeByIndexPrimitive(index);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeRange(long fromIndex, long toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From Index: " + fromIndex + ", To Index: " + toIndex
+                    + ", Size: " + size);
+        }
+        modCount++;
+        move(toIndex, fromIndex, size - toIndex);
+        size -= toIndex - fromIndex;
+    }
+
+    /**
+     * Copies length elements from index src to index dest, segment by segment.
+     * The ranges may overlap.
+     */
+    private void move(long src, long dest, long length) {
+        if (length <= 0 || src == dest) {
+            return;
+        }
+        final int segmentSize = 1 << segmentShift;
+        if (dest < src) {
+            while (length > 0) {
+                final int n = (int) Math.min(length,
+                        Math.min(segmentSize - offset(src), segmentSize - offset(dest)));
+                System.arraycopy(segments[segment(src)], offset(src), segments[segment(dest)], offset(dest), n);
+                src += n;
+                dest += n;
+                length -= n;
+            }
+        } else {
+            long srcEnd = src + length;
+            long destEnd = dest + length;
+            while (length > 0) {
+                final int n = (int) Math.min(length,
+                        Math.min(offset(srcEnd - 1) + 1, offset(destEnd - 1) + 1));
+                srcEnd -= n;
+                destEnd -= n;
+                System.arraycopy(segments[segment(srcEnd)], offset(srcEnd), segments[segment(destEnd)],
+                        offset(destEnd), n);
+                length -= n;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void getElements(long from, long[] a, int offset, int length) {
+        if (from < 0 || length < 0 || from + length > size) {
+            throw new IndexOutOfBoundsException("From Index: " + from + ", Length: " + length
+                    + ", Size: " + size);
+        }
+        if (offset < 0 || offset + length > a.length || offset + length < 0) {
+            throw new IndexOutOfBoundsException("Offset: " + offset + ", Length: " + length
+                    + ", Array Length: " + a.length);
+        }
+        while (length > 0) {
+            final int n = Math.min(length, (1 << segmentShift) - offset(from));
+            System.arraycopy(segments[segment(from)], offset(from), a, offset, n);
+            from += n;
+            offset += n;
+            length -= n;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addElements(long[] a, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > a.length || offset + length < 0) {
+            throw new IndexOutOfBoundsException("Offset: " + offset + ", Length: " + length
+                    + ", Array Length: " + a.length);
+        }
+        modCount++;
+        ensureCapacity(size + length);
+        while (length > 0) {
+            final int n = Math.min(length, (1 << segmentShift) - offset(size));
+            System.arraycopy(a, offset, segments[segment(size)], offset(size), n);
+            size += n;
+            offset += n;
+            length -= n;
+        }
+    }
+
+    /**
+     * Appends all of the elements in the specified array to the end of this list.
+     *
+     * @param longArray array containing elements to be added to this list
+     * @return {@code true} if this list changed as a result of the call
+     * @throws java.lang.NullPointerException if the specified array is null
+     */
+    public boolean addAll(long[] longArray) {
+        addElements(longArray, 0, longArray.length);
+        return longArray.length != 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addAll(Collection<? extends Long> c) {
+        if (c instanceof LongBigArrayList) {
+            final LongBigArrayList other = (LongBigArrayList) c;
+            final long otherSize = other.size;
+            ensureCapacity(size + otherSize);
+            for (int s = 0; (long) s << other.segmentShift < otherSize; s++) {
+                final long base = (long) s << other.segmentShift;
+                addElements(other.segments[s], 0, (int) Math.min(other.segments[s].length, otherSize - base));
+            }
+            return otherSize != 0;
+        }
+        if (c instanceof LongCollection) {
+            final LongIterator iterator = ((LongCollection) c).iterator();
+            boolean modified = false;
+            while (iterator.hasNext()) {
+                addPrimitive(iterator.nextPrimitive());
+                modified = true;
+            }
+            return modified;
+        }
+        return super.addAll(c);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeIfPrimitive(LongPredicate filter) {
+        Objects.requireNonNull(filter);
+        final int expectedModCount = modCount;
+        long w = 0;
+        for (long r = 0; r < size; r++) {
+            final long e = segments[segment(r)][offset(r)];
+            if (!filter.testPrimitive(e)) {
+                if (w != r) {
+                    segments[segment(w)][offset(w)] = e;
+                }
+                w++;
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        if (w == size) {
+            return false;
+        }
+        size = w;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        if (c instanceof LongCollection) {
+            return removeIfPrimitive(((LongCollection) c)::containsPrimitive);
+        }
+        return removeIfPrimitive(e -> c.contains(e));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        if (c instanceof LongCollection) {
+            return removeIfPrimitive(e -> !((LongCollection) c).containsPrimitive(e));
+        }
+        return removeIfPrimitive(e -> !c.contains(e));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The capacity is kept; call {@link #trimToSize()} to release it.
+     */
+    @Override
+    public void clear() {
+        modCount++;
+        size = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long[] toArrayPrimitive() {
+        return toArrayPrimitive(new long[checkedArraySize()]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long[] toArrayPrimitive(long[] a) {
+        final int arraySize = checkedArraySize();
+        if (a.length < arraySize) {
+            a = new long[arraySize];
+        }
+        getElements(0, a, 0, arraySize);
+        if (a.length > arraySize) {
+            a[arraySize] = Primitive.LONG_DEFAULT;
+        }
+        return a;
+    }
+
+    private int checkedArraySize() {
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        return (int) size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachPrimitive(LongConsumer action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        final long size = this.size;
+        for (int s = 0; (long) s << segmentShift < size && modCount == expectedModCount; s++) {
+            final long[] segment = segments[s];
+            final int end = (int) Math.min(segment.length, size - ((long) s << segmentShift));
+            for (int i = 0; i < end; i++) {
+                action.acceptPrimitive(segment[i]);
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Two big lists are equal if they contain the same elements in the same order.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof LongBigList)) {
+            return false;
+        }
+        final LongBigList other = (LongBigList) o;
+        if (other.size64() != size) {
+            return false;
+        }
+        final LongIterator it = other.iterator();
+        for (long i = 0; i < size; i++) {
+            if (segments[segment(i)][offset(i)] != it.nextPrimitive()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Computed like {@link java.util.List#hashCode()}.
+     */
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (int s = 0; (long) s << segmentShift < size; s++) {
+            final long[] segment = segments[s];
+            final int end = (int) Math.min(segment.length, size - ((long) s << segmentShift));
+            for (int i = 0; i < end; i++) {
+                hashCode = 31 * hashCode + Long.hashCode(segment[i]);
+            }
+        }
+        return hashCode;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns a shallow copy of this {@code LongBigArrayList} instance, whose segments are copied.
+     */
+    @Override
+    public LongBigArrayList clone() {
+        try {
+            LongBigArrayList v = (LongBigArrayList) super.clone();
+            v.segments = segments.clone();
+            for (int i = 0; i < segmentCount; i++) {
+                v.segments[i] = segments[i].clone();
+            }
+            v.modCount = 0;
+            return v;
+        } catch (CloneNotSupportedException e) {
+            // this shouldn't happen, since we are Cloneable
+            throw new InternalError(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LongIterator iterator() {
+        return new Itr();
+    }
+
+    private class Itr implements LongIterator {
+        /**
+         * index of next element to return
+         */
+        long cursor;
+        /**
+         * index of last element returned; -1 if no such
+         */
+        long lastRet = -1;
+        int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor != size;
+        }
+
+        @Override
+        public long nextPrimitive() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            final long i = cursor;
+            if (i >= size) {
+                throw new NoSuchElementException();
+            }
+            cursor = i + 1;
+            lastRet = i;
+            return segments[segment(i)][offset(i)];
+        }
+
+        @Override
+        public void remove() {
+            if (lastRet < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            LongBigArrayList.this.removeByIndexPrimitive(lastRet);
+            cursor = lastRet;
+            lastRet = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The spliterator is <em>late-binding</em> and <em>fail-fast</em>, reports {@link Spliterator#ORDERED},
+     * {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}, and splits on segment boundaries when it
+     * covers more than one segment.
+     */
+    @Override
+    public LongSpliterator spliterator() {
+        return new SegmentSpliterator(0, -1, 0);
+    }
+
+    final class SegmentSpliterator implements LongSpliterator.LongOfLong {
+        private long index;
+        /**
+         * -1 until used; then one past last index
+         */
+        private long fence;
+        private int expectedModCount;
+
+        SegmentSpliterator(long origin, long fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private long getFence() {
+            long hi = fence;
+            if (hi < 0) {
+                expectedModCount = modCount;
+                hi = fence = size;
+            }
+            return hi;
+        }
+
+        @Override
+        public LongOfLong trySplit() {
+            final long hi = getFence();
+            final long lo = index;
+            long mid = (lo + hi) >>> 1;
+            // move mid to the nearest segment boundary if there is one in the range.
+            final long boundary = ((mid + (1L << (segmentShift - 1))) >>> segmentShift) << segmentShift;
+            if (boundary > lo && boundary < hi) {
+                mid = boundary;
+            }
+            if (lo >= mid) {
+                return null;
+            }
+            index = mid;
+            return new SegmentSpliterator(lo, mid, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            Objects.requireNonNull(action);
+            final long hi = getFence();
+            final long i = index;
+            if (i >= hi) {
+                return false;
+            }
+            index = i + 1;
+            action.acceptPrimitive(segments[segment(i)][offset(i)]);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            Objects.requireNonNull(action);
+            final long hi = getFence();
+            long i = index;
+            index = hi;
+            while (i < hi) {
+                final long[] segment = segments[segment(i)];
+                final int from = offset(i);
+                final int to = (int) Math.min(segment.length, from + (hi - i));
+                for (int j = from; j < to; j++) {
+                    action.acceptPrimitive(segment[j]);
+                }
+                i += to - from;
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    /**
+     * Saves the state of the {@code LongBigArrayList} instance to a stream
+     * (that is, serializes it).
+     *
+     * @param s the stream
+     * @throws java.io.IOException if an I/O error occurs
+     * @serialData The segment shift (int) and the size (long) are emitted, followed by all of its elements
+     * (each a {@code long}) in the proper order.
+     */
+    private void writeObject(java.io.ObjectOutputStream s)
+            throws java.io.IOException {
+        final int expectedModCount = modCount;
+        s.defaultWriteObject();
+        for (long i = 0; i < size; i++) {
+            s.writeLong(segments[segment(i)][offset(i)]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Reconstitutes the {@code LongBigArrayList} instance from a stream (that is,
+     * deserializes it).
+     *
+     * @param s the stream
+     * @throws java.io.IOException            if an I/O error occurs
+     * @throws java.lang.ClassNotFoundException if the class of a serialized object could not be found
+     */
+    private void readObject(java.io.ObjectInputStream s)
+            throws java.io.IOException, ClassNotFoundException {
+        s.defaultReadObject();
+        if (size < 0) {
+            throw new java.io.InvalidObjectException("Invalid size: " + size);
+        }
+        this.segments = EMPTY_SEGMENTS;
+        this.ensureCapacity(size);
+        for (long i = 0; i < size; i++) {
+            segments[segment(i)][offset(i)] = s.readLong();
+        }
+    }
+}
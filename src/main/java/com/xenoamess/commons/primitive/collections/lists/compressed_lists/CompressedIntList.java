@@ -0,0 +1,703 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.xenoamess.commons.primitive.collections.lists.compressed_lists;
+
+import com.xenoamess.commons.primitive.Primitive;
+import com.xenoamess.commons.primitive.collections.IntCollection;
+import com.xenoamess.commons.primitive.collections.lists.AbstractIntList;
+import com.xenoamess.commons.primitive.collections.lists.IntList;
+import com.xenoamess.commons.primitive.comparators.IntComparator;
+import com.xenoamess.commons.primitive.functions.IntConsumer;
+import com.xenoamess.commons.primitive.iterators.IntIterator;
+import com.xenoamess.commons.primitive.iterators.IntListIterator;
+import com.xenoamess.commons.primitive.iterators.IntSpliterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+
+/**
+ * An unmodifiable {@link IntList} storing its elements compressed, in blocks of {@link #BLOCK_SIZE} elements.
+ * <p>
+ * This class aims to reduce memory usage of large lists of ids, like posting lists, or sorted or clustered
+ * id lists, in which the elements of a block are close to each other.
+ * <p>
+ * Every block is encoded by one of these two ways, whichever is smaller:
+ * <ul>
+ * <li>frame of reference: the minimum of the block, then every element minus the minimum, bit-packed
+ * with the bit width of the largest of them.</li>
+ * <li>delta: the first element of the block, and the minimum of the differences between neighbour elements,
+ * then every difference minus the minimum, bit-packed with the bit width of the largest of them.</li>
+ * </ul>
+ * For example, a block of increasing ids with gaps less than 16 is stored in 4 bits per element.
+ * <p>
+ * The start of every block is kept as a skip pointer, so random access only decodes the wanted block.
+ * It costs constant time for a frame-of-reference block, and up to {@link #BLOCK_SIZE} additions for a delta
+ * block. Iterators, spliterators and bulk operations like {@link #forEachPrimitive(IntConsumer)} decode a
+ * whole block at a time into a small buffer, instead of using random access.
+ * <p>
+ * Instances are created by {@link #of(int...)} and {@link #copyOf(IntCollection)}.
+ * All mutator functions throw {@code UnsupportedOperationException}, and as nothing can change after
+ * creation, instances can be shared between threads without synchronization.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see IntList
+ * @see CompressedLongList
+ */
+public final class CompressedIntList extends AbstractIntList
+        implements RandomAccess, java.io.Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * log2 of {@link #BLOCK_SIZE}.
+     */
+    static final int BLOCK_SHIFT = 7;
+
+    /**
+     * The number of elements in a block.
+     */
+    public static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+
+    static final int BLOCK_MASK = BLOCK_SIZE - 1;
+
+    /**
+     * Flag set in a block header if the block is delta encoded.
+     * The other bits of the header are the bit width, from 0 to 32.
+     */
+    static final int DELTA_FLAG = 0x80;
+
+    private static final CompressedIntList EMPTY = new CompressedIntList(new int[0], 0, 0);
+
+    /**
+     * The number of elements in this list.
+     */
+    private final int size;
+
+    /**
+     * The bit-packed elements of all blocks.
+     */
+    private final long[] data;
+
+    /**
+     * The index in data of the first word of every block.
+     */
+    private final int[] blockStarts;
+
+    /**
+     * The minimum of every frame-of-reference block, or the first element of every delta block.
+     */
+    private final int[] blockBases;
+
+    /**
+     * The minimum difference between neighbour elements of every delta block, or 0.
+     */
+    private final int[] blockMinDeltas;
+
+    /**
+     * The header of every block, that is the bit width, or'ed with {@link #DELTA_FLAG} for delta blocks.
+     */
+    private final byte[] blockHeaders;
+
+    private CompressedIntList(int[] elements, int fromIndex, int toIndex) {
+        final int size = toIndex - fromIndex;
+        final int blockCount = (size + BLOCK_MASK) >>> BLOCK_SHIFT;
+        this.size = size;
+        this.blockStarts = new int[blockCount];
+        this.blockBases = new int[blockCount];
+        this.blockMinDeltas = new int[blockCount];
+        this.blockHeaders = new byte[blockCount];
+
+        long words = 0;
+        for (int block = 0; block < blockCount; block++) {
+            final int from = fromIndex + (block << BLOCK_SHIFT);
+            final int to = Math.min(from + BLOCK_SIZE, toIndex);
+            int min = elements[from];
+            int max = min;
+            int minDelta = to - from > 1 ? elements[from + 1] - elements[from] : 0;
+            int maxDelta = minDelta;
+            for (int i = from + 1; i < to; i++) {
+                final int e = elements[i];
+                final int delta = e - elements[i - 1];
+                if (e < min) {
+                    min = e;
+                } else if (e > max) {
+                    max = e;
+                }
+                if (delta < minDelta) {
+                    minDelta = delta;
+                } else if (delta > maxDelta) {
+                    maxDelta = delta;
+                }
+            }
+            final int forWidth = bitWidth(max - min);
+            final int deltaWidth = bitWidth(maxDelta - minDelta);
+            this.blockStarts[block] = (int) words;
+            if ((long) (to - from - 1) * deltaWidth < (long) (to - from) * forWidth) {
+                this.blockBases[block] = elements[from];
+                this.blockMinDeltas[block] = minDelta;
+                this.blockHeaders[block] = (byte) (deltaWidth | DELTA_FLAG);
+                words += ((long) (to - from - 1) * deltaWidth + 63) >>> 6;
+            } else {
+                this.blockBases[block] = min;
+                this.blockHeaders[block] = (byte) forWidth;
+                words += ((long) (to - from) * forWidth + 63) >>> 6;
+            }
+            if (words > Integer.MAX_VALUE) {
+                throw new OutOfMemoryError("Required array size too large");
+            }
+        }
+
+        final long[] data = new long[(int) words];
+        for (int block = 0; block < blockCount; block++) {
+            final int from = fromIndex + (block << BLOCK_SHIFT);
+            final int to = Math.min(from + BLOCK_SIZE, toIndex);
+            final int header = this.blockHeaders[block] & 0xFF;
+            final int width = header & ~DELTA_FLAG;
+            final int start = this.blockStarts[block];
+            if (width == 0) {
+                continue;
+            }
+            int bit = 0;
+            if ((header & DELTA_FLAG) != 0) {
+                final int minDelta = this.blockMinDeltas[block];
+                for (int i = from + 1; i < to; i++, bit += width) {
+                    pack(data, start, bit, width, (elements[i] - elements[i - 1] - minDelta) & 0xFFFFFFFFL);
+                }
+            } else {
+                final int base = this.blockBases[block];
+                for (int i = from; i < to; i++, bit += width) {
+                    pack(data, start, bit, width, (elements[i] - base) & 0xFFFFFFFFL);
+                }
+            }
+        }
+        this.data = data;
+    }
+
+    /**
+     * Returns the number of bits needed to store the value, taken as unsigned.
+     */
+    static int bitWidth(int value) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(value);
+    }
+
+    /**
+     * Writes the lowest width bits of value at bit offset bit of the block starting at word start.
+     * The bits must be zero before, and value must have no bit set above width.
+     */
+    static void pack(long[] data, int start, int bit, int width, long value) {
+        final int word = start + (bit >>> 6);
+        final int shift = bit & 63;
+        data[word] |= value << shift;
+        if (shift + width > 64) {
+            data[word + 1] |= value >>> (64 - shift);
+        }
+    }
+
+    /**
+     * Reads width bits at bit offset bit of the block starting at word start.
+     */
+    static long unpack(long[] data, int start, int bit, int width) {
+        final int word = start + (bit >>> 6);
+        final int shift = bit & 63;
+        long value = data[word] >>> shift;
+        if (shift + width > 64) {
+            value |= data[word + 1] << (64 - shift);
+        }
+        return value & ((1L << width) - 1);
+    }
+
+    /**
+     * Returns an empty compressed list.
+     *
+     * @return an empty {@code CompressedIntList}
+     */
+    public static CompressedIntList of() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a compressed list containing the elements of the array.
+     *
+     * @param elements the elements to be contained in the list
+     * @return a {@code CompressedIntList} containing the specified elements
+     * @throws java.lang.NullPointerException if the array is {@code null}
+     */
+    public static CompressedIntList of(int... elements) {
+        return copyOf(elements, 0, elements.length);
+    }
+
+    /**
+     * Returns a compressed list containing the elements of the array in range [fromIndex, toIndex).
+     *
+     * @param elements  the array
+     * @param fromIndex the index of the first element (inclusive)
+     * @param toIndex   the index of the last element (exclusive)
+     * @return a {@code CompressedIntList} containing the specified elements
+     * @throws java.lang.NullPointerException      if the array is {@code null}
+     * @throws java.lang.IndexOutOfBoundsException if the range is out of the array
+     * @throws java.lang.IllegalArgumentException  if {@code fromIndex > toIndex}
+     */
+    public static CompressedIntList copyOf(int[] elements, int fromIndex, int toIndex) {
+        AbstractIntList.subListRangeCheck(fromIndex, toIndex, elements.length);
+        return fromIndex == toIndex ? EMPTY : new CompressedIntList(elements, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns a compressed list containing the elements of the given collection, in its iteration order.
+     * If the collection is already a {@code CompressedIntList}, it is returned as is.
+     *
+     * @param collection the collection from which elements are drawn
+     * @return a {@code CompressedIntList} containing the elements of the given collection
+     * @throws java.lang.NullPointerException if the collection is {@code null}
+     */
+    public static CompressedIntList copyOf(IntCollection collection) {
+        if (collection instanceof CompressedIntList) {
+            return (CompressedIntList) collection;
+        }
+        final int[] elements = collection.toArrayPrimitive();
+        return copyOf(elements, 0, elements.length);
+    }
+
+    /**
+     * Returns the number of bytes used by the compressed elements and the block headers of this list,
+     * not counting object headers.
+     *
+     * @return the number of bytes used by this list
+     */
+    public long sizeInBytes() {
+        return (long) data.length * Long.BYTES
+                + (long) blockHeaders.length * (3 * Integer.BYTES + 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPrimitive(int index) {
+        AbstractIntList.checkIndex(index, size);
+        final int block = index >>> BLOCK_SHIFT;
+        final int offset = index & BLOCK_MASK;
+        final int header = blockHeaders[block] & 0xFF;
+        final int width = header & ~DELTA_FLAG;
+        final int start = blockStarts[block];
+        int result = blockBases[block];
+        if ((header & DELTA_FLAG) == 0) {
+            return width == 0 ? result : result + (int) unpack(data, start, offset * width, width);
+        }
+        final int minDelta = blockMinDeltas[block];
+        if (width == 0) {
+            return result + offset * minDelta;
+        }
+        for (int i = 0, bit = 0; i < offset; i++, bit += width) {
+            result += minDelta + (int) unpack(data, start, bit, width);
+        }
+        return result;
+    }
+
+    /**
+     * Decodes the block into buffer.
+     *
+     * @return the number of elements in the block
+     */
+    int decodeBlock(int block, int[] buffer) {
+        final int count = Math.min(BLOCK_SIZE, size - (block << BLOCK_SHIFT));
+        final int header = blockHeaders[block] & 0xFF;
+        final int width = header & ~DELTA_FLAG;
+        final int start = blockStarts[block];
+        final long[] data = this.data;
+        final int base = blockBases[block];
+        if ((header & DELTA_FLAG) == 0) {
+            if (width == 0) {
+                for (int i = 0; i < count; i++) {
+                    buffer[i] = base;
+                }
+            } else {
+                for (int i = 0, bit = 0; i < count; i++, bit += width) {
+                    buffer[i] = base + (int) unpack(data, start, bit, width);
+                }
+            }
+        } else {
+            final int minDelta = blockMinDeltas[block];
+            int e = base;
+            buffer[0] = e;
+            if (width == 0) {
+                for (int i = 1; i < count; i++) {
+                    buffer[i] = e += minDelta;
+                }
+            } else {
+                for (int i = 1, bit = 0; i < count; i++, bit += width) {
+                    buffer[i] = e += minDelta + (int) unpack(data, start, bit, width);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int indexOfPrimitive(int o) {
+        final int[] buffer = new int[BLOCK_SIZE];
+        for (int block = 0, blockCount = blockHeaders.length; block < blockCount; block++) {
+            if (!this.mayContain(block, o)) {
+                continue;
+            }
+            final int count = this.decodeBlock(block, buffer);
+            for (int i = 0; i < count; i++) {
+                if (buffer[i] == o) {
+                    return (block << BLOCK_SHIFT) + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int lastIndexOfPrimitive(int o) {
+        final int[] buffer = new int[BLOCK_SIZE];
+        for (int block = blockHeaders.length - 1; block >= 0; block--) {
+            if (!this.mayContain(block, o)) {
+                continue;
+            }
+            final int count = this.decodeBlock(block, buffer);
+            for (int i = count - 1; i >= 0; i--) {
+                if (buffer[i] == o) {
+                    return (block << BLOCK_SHIFT) + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns false if the block cannot contain o, judged from its header only.
+     * Only frame-of-reference blocks can be skipped this way.
+     */
+    private boolean mayContain(int block, int o) {
+        final int header = blockHeaders[block] & 0xFF;
+        if ((header & DELTA_FLAG) != 0) {
+            return true;
+        }
+        return bitWidth(o - blockBases[block]) <= header;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsPrimitive(int o) {
+        return this.indexOfPrimitive(o) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int[] toArrayPrimitive() {
+        return this.toArrayPrimitive(new int[size]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int[] toArrayPrimitive(int[] a) {
+        if (a.length < size) {
+            a = new int[size];
+        }
+        final int[] buffer = new int[BLOCK_SIZE];
+        for (int block = 0, blockCount = blockHeaders.length; block < blockCount; block++) {
+            final int count = this.decodeBlock(block, buffer);
+            System.arraycopy(buffer, 0, a, block << BLOCK_SHIFT, count);
+        }
+        if (a.length > size) {
+            a[size] = Primitive.INT_DEFAULT;
+        }
+        return a;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Decodes a whole block at a time.
+     */
+    @Override
+    public void forEachPrimitive(IntConsumer action) {
+        Objects.requireNonNull(action);
+        final int[] buffer = new int[BLOCK_SIZE];
+        for (int block = 0, blockCount = blockHeaders.length; block < blockCount; block++) {
+            final int count = this.decodeBlock(block, buffer);
+            for (int i = 0; i < count; i++) {
+                action.acceptPrimitive(buffer[i]);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        final int[] buffer = new int[BLOCK_SIZE];
+        int hashCode = 1;
+        for (int block = 0, blockCount = blockHeaders.length; block < blockCount; block++) {
+            final int count = this.decodeBlock(block, buffer);
+            for (int i = 0; i < count; i++) {
+                hashCode = 31 * hashCode + Integer.hashCode(buffer[i]);
+            }
+        }
+        return hashCode;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IntIterator iterator() {
+        return new ListItr(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IntListIterator listIterator() {
+        return new ListItr(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IntListIterator listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return new ListItr(index);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The spliterator splits at block boundaries, and decodes a whole block at a time.
+     */
+    @Override
+    public IntSpliterator spliterator() {
+        return new BlockSpliterator(0, size);
+    }
+
+    /**
+     * A list iterator keeping the block of its cursor decoded.
+     */
+    private final class ListItr implements IntListIterator {
+        private final int[] buffer = new int[BLOCK_SIZE];
+        /**
+         * The block in buffer, or -1.
+         */
+        private int bufferedBlock = -1;
+        private int cursor;
+
+        ListItr(int cursor) {
+            this.cursor = cursor;
+        }
+
+        private int elementAt(int index) {
+            final int block = index >>> BLOCK_SHIFT;
+            if (block != bufferedBlock) {
+                decodeBlock(block, buffer);
+                bufferedBlock = block;
+            }
+            return buffer[index & BLOCK_MASK];
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor != size;
+        }
+
+        @Override
+        public int nextPrimitive() {
+            final int i = cursor;
+            if (i >= size) {
+                throw new NoSuchElementException();
+            }
+            cursor = i + 1;
+            return this.elementAt(i);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor != 0;
+        }
+
+        @Override
+        public int previousPrimitive() {
+            final int i = cursor - 1;
+            if (i < 0) {
+                throw new NoSuchElementException();
+            }
+            cursor = i;
+            return this.elementAt(i);
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setPrimitive(int e) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addPrimitive(int e) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * A spliterator over [index, fence), splitting at block boundaries.
+     */
+    private final class BlockSpliterator implements IntSpliterator.IntOfInteger {
+        private int[] buffer;
+        private int bufferedBlock = -1;
+        private int index;
+        private final int fence;
+
+        BlockSpliterator(int origin, int fence) {
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        public IntOfInteger trySplit() {
+            final int lo = index;
+            final int mid = (((lo + fence) >>> 1) + BLOCK_MASK) & ~BLOCK_MASK;
+            if (mid <= lo || mid >= fence) {
+                return null;
+            }
+            index = mid;
+            return new BlockSpliterator(lo, mid);
+        }
+
+        private int[] buffer() {
+            if (buffer == null) {
+                buffer = new int[BLOCK_SIZE];
+            }
+            return buffer;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            Objects.requireNonNull(action);
+            final int i = index;
+            if (i >= fence) {
+                return false;
+            }
+            final int block = i >>> BLOCK_SHIFT;
+            final int[] buffer = this.buffer();
+            if (block != bufferedBlock) {
+                decodeBlock(block, buffer);
+                bufferedBlock = block;
+            }
+            index = i + 1;
+            action.acceptPrimitive(buffer[i & BLOCK_MASK]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            Objects.requireNonNull(action);
+            int i = index;
+            final int hi = fence;
+            if (i >= hi) {
+                return;
+            }
+            index = hi;
+            final int[] buffer = this.buffer();
+            while (i < hi) {
+                final int block = i >>> BLOCK_SHIFT;
+                if (block != bufferedBlock) {
+                    decodeBlock(block, buffer);
+                    bufferedBlock = block;
+                }
+                final int end = Math.min(hi, (block + 1) << BLOCK_SHIFT);
+                for (; i < end; i++) {
+                    action.acceptPrimitive(buffer[i & BLOCK_MASK]);
+                }
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED
+                    | Spliterator.IMMUTABLE;
+        }
+
+        @Override
+        public IntComparator getComparator() {
+            throw new IllegalStateException();
+        }
+    }
+}
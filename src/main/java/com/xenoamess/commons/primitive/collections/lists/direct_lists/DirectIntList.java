@@ -0,0 +1,559 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xenoamess.commons.primitive.collections.lists.direct_lists;
+
+import com.xenoamess.commons.primitive.Primitive;
+import com.xenoamess.commons.primitive.collections.IntCollection;
+import com.xenoamess.commons.primitive.collections.lists.AbstractIntList;
+import com.xenoamess.commons.primitive.collections.lists.IntList;
+import com.xenoamess.commons.primitive.functions.IntConsumer;
+import java.nio.IntBuffer;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+import org.lwjgl.system.MemoryUtil;
+
+/**
+ * A resizable {@code List<Integer>} whose elements are kept off heap, in memory allocated by
+ * {@link MemoryUtil#memAllocInt(int)}.
+ * <p>
+ * The elements are invisible to the garbage collector, so a huge list does not make GC pauses longer, and they
+ * can be handed to native code without copying, by {@link #asIntBuffer()} or {@link #address()}.
+ * <p>
+ * The memory is NOT freed by the garbage collector. Every instance must be closed by {@link #close()} when it is no
+ * longer used, preferably by a try-with-resources statement. A closed list is empty, and can be used again, in which
+ * case it allocates new memory and has to be closed again.
+ * <p>
+ * A list can also wrap an existing {@link IntBuffer}, in which case it reads and writes that buffer in place,
+ * until it needs more space than the buffer has. The wrapped buffer is never freed by this list.
+ * <p>
+ * This class is not thread safe.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see com.xenoamess.commons.primitive.collections.lists.array_lists.IntArrayList
+ */
+public class DirectIntList extends AbstractIntList
+        implements IntList, RandomAccess, AutoCloseable, Primitive {
+
+    /**
+     * Default initial capacity.
+     */
+    public static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * The maximum size of buffer to allocate.
+     */
+    private static final int MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * The maximum number of elements moved through a temporary array at once, when shifting elements to the right.
+     */
+    private static final int MOVE_BLOCK_SIZE = 1024;
+
+    /**
+     * The buffer into which the elements are stored.
+     * Its position is always 0 and its limit is always its capacity.
+     */
+    private IntBuffer buffer;
+
+    /**
+     * If buffer is allocated by this list, and shall be freed by this list.
+     */
+    private boolean owned;
+
+    /**
+     * The number of elements this list contains.
+     */
+    private int size;
+
+    /**
+     * Constructs an empty list with the specified initial capacity.
+     *
+     * @param initialCapacity the initial capacity of the list
+     * @throws java.lang.IllegalArgumentException if the specified initial capacity
+     *                                            is negative
+     */
+    public DirectIntList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " +
+                    initialCapacity);
+        }
+        this.buffer = allocate(initialCapacity);
+        this.owned = true;
+    }
+
+    /**
+     * Constructs an empty list with an initial capacity of {@link #DEFAULT_CAPACITY}.
+     */
+    public DirectIntList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a list containing the elements of the specified
+     * collection, in the order they are returned by the collection's
+     * iterator.
+     *
+     * @param c the collection whose elements are to be placed into this list
+     * @throws java.lang.NullPointerException if the specified collection is null
+     */
+    public DirectIntList(Collection<? extends Integer> c) {
+        this(c.size());
+        this.addAll(c);
+    }
+
+    /**
+     * Constructs a list wrapping the remaining elements of a {@code IntBuffer}.
+     * <p>
+     * The elements from the buffer's position to its limit become the content of this list, and are read and
+     * written in place, until this list needs more space than the buffer has.
+     * The position, limit and mark of the buffer itself are not changed.
+     *
+     * @param intBuffer the buffer to wrap
+     * @see #DirectIntList(IntBuffer, boolean)
+     */
+    public DirectIntList(@NotNull IntBuffer intBuffer) {
+        this(intBuffer, false);
+    }
+
+    /**
+     * Constructs a list wrapping the remaining space of a {@code IntBuffer}.
+     * <p>
+     * if ifEmpty == true, then will create an empty list, and the remaining space of the buffer will be used as
+     * its initial capacity.
+     * <p>
+     * otherwise, we will create a full list, and the initial size will be intBuffer.remaining().
+     * <p>
+     * The buffer is read and written in place, until this list needs more space than the buffer has.
+     * The position, limit and mark of the buffer itself are not changed, and the buffer is never freed by this list.
+     *
+     * @param intBuffer the buffer to wrap
+     * @param ifEmpty      if we will create an empty list.
+     */
+    public DirectIntList(@NotNull IntBuffer intBuffer, boolean ifEmpty) {
+        this.buffer = intBuffer.slice();
+        this.owned = false;
+        this.size = ifEmpty ? 0 : this.buffer.capacity();
+    }
+
+    private static IntBuffer allocate(int capacity) {
+        // never allocate 0 bytes, as malloc may return NULL for it.
+        return MemoryUtil.memAllocInt(Math.max(1, capacity));
+    }
+
+    //-------------------- memory --------------------
+
+    /**
+     * Frees the memory allocated by this list, and makes this list empty.
+     * <p>
+     * Buffers returned by {@link #asIntBuffer()} and addresses returned by {@link #address()} before are
+     * invalid after this call. A wrapped buffer is not freed.
+     */
+    @Override
+    public void close() {
+        modCount++;
+        if (owned) {
+            MemoryUtil.memFree(buffer);
+        }
+        buffer = IntBuffer.allocate(0);
+        owned = false;
+        size = 0;
+    }
+
+    /**
+     * Returns a view of the elements of this list, without copying them.
+     * <p>
+     * The returned buffer has position 0 and limit {@link #size()}, and shares memory with this list, so changes
+     * to either of them are visible to the other. It becomes invalid when this list grows, is trimmed, or is closed.
+     *
+     * @return a buffer view of this list
+     */
+    @NotNull
+    public IntBuffer asIntBuffer() {
+        final IntBuffer result = buffer.duplicate();
+        result.limit(size);
+        return result.slice();
+    }
+
+    /**
+     * Returns the address of the first element, to be passed to native code.
+     * <p>
+     * The address becomes invalid when this list grows, is trimmed, or is closed.
+     * It is only meaningful when the backing buffer is direct.
+     *
+     * @return the address of the first element
+     */
+    public long address() {
+        return MemoryUtil.memAddress(buffer);
+    }
+
+    /**
+     * Returns the number of elements this list can hold without growing.
+     *
+     * @return capacity
+     */
+    public int capacity() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Increases the capacity of this list, if necessary, to ensure that it can hold at least the number of
+     * elements specified by the minimum capacity argument.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > buffer.capacity()) {
+            modCount++;
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Trims the capacity of this list to be the list's current size.
+     * A wrapped buffer is kept as is.
+     */
+    public void trimToSize() {
+        modCount++;
+        if (owned && size < buffer.capacity()) {
+            reallocate(size);
+        }
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0) {
+            // overflow
+            throw new OutOfMemoryError();
+        }
+        final int oldCapacity = buffer.capacity();
+        int newCapacity = oldCapacity + (oldCapacity >> 1);
+        if (newCapacity - minCapacity <= 0) {
+            newCapacity = Math.max(DEFAULT_CAPACITY, minCapacity);
+        } else if (newCapacity - MAX_BUFFER_SIZE > 0) {
+            newCapacity = Math.max(MAX_BUFFER_SIZE, minCapacity);
+        }
+        reallocate(newCapacity);
+    }
+
+    private void reallocate(int newCapacity) {
+        if (owned) {
+            buffer = MemoryUtil.memRealloc(buffer, Math.max(1, newCapacity));
+            buffer.clear();
+            return;
+        }
+        final IntBuffer newBuffer = allocate(newCapacity);
+        final IntBuffer content = buffer.duplicate();
+        content.limit(size);
+        newBuffer.put(content);
+        newBuffer.clear();
+        buffer = newBuffer;
+        owned = true;
+    }
+
+    //-------------------- list operations --------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void rangeCheck(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void rangeCheckForAdd(int index) {
+        if (index > size || index < 0) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+    }
+
+    /**
+     * Constructs an IndexOutOfBoundsException detail message.
+     *
+     * @param index index
+     * @return the message
+     */
+    public String outOfBoundsMsg(int index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPrimitive(int index) {
+        rangeCheck(index);
+        return buffer.get(index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int setPrimitive(int index, int element) {
+        rangeCheck(index);
+        final int oldValue = buffer.get(index);
+        buffer.put(index, element);
+        return oldValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addPrimitive(int e) {
+        modCount++;
+        final int s = size;
+        if (s == buffer.capacity()) {
+            grow(s + 1);
+        }
+        buffer.put(s, e);
+        size = s + 1;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addPrimitive(int index, int element) {
+        rangeCheckForAdd(index);
+        modCount++;
+        final int s = size;
+        if (s == buffer.capacity()) {
+            grow(s + 1);
+        }
+        if (index < s) {
+            // a bulk put between overlapping parts of one buffer may copy front to back, so move the tail back to
+            // front, a block at a time.
+            final int[] block = new int[Math.min(s - index, MOVE_BLOCK_SIZE)];
+            final IntBuffer src = buffer.duplicate();
+            final IntBuffer dst = buffer.duplicate();
+            for (int end = s; end > index; ) {
+                final int start = Math.max(index, end - block.length);
+                src.position(start);
+                src.get(block, 0, end - start);
+                dst.position(start + 1);
+                dst.put(block, 0, end - start);
+                end = start;
+            }
+        }
+        buffer.put(index, element);
+        size = s + 1;
+    }
+
+    /**
+     * Appends all of the elements in the specified array to the end of
+     * this list, in order.
+     *
+     * @param intArray array containing elements to be added to this list
+     * @return {@code true} if this list changed as a result of the call
+     */
+    public boolean addAll(int[] intArray) {
+        modCount++;
+        final int numNew = intArray.length;
+        if (numNew == 0) {
+            return false;
+        }
+        final int s = size;
+        if (numNew > buffer.capacity() - s) {
+            grow(s + numNew);
+        }
+        final IntBuffer b = buffer.duplicate();
+        b.position(s);
+        b.put(intArray);
+        size = s + numNew;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addAll(Collection<? extends Integer> c) {
+        if (c instanceof IntCollection) {
+            return addAll(((IntCollection) c).toArrayPrimitive());
+        }
+        return super.addAll(c);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int removeByIndexPrimitive(int index) {
+        rangeCheck(index);
+        final int oldValue = buffer.get(index);
+        removeRange(index, index + 1);
+        return oldValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeByContentPrimitive(int o) {
+        final int index = indexOfPrimitive(o);
+        if (index < 0) {
+            return false;
+        }
+        removeRange(index, index + 1);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Removes from this list all of the elements whose index is between
+     * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive.
+     * Shifts any succeeding elements to the left (reduces their index).
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "From Index: " + fromIndex + ", To Index: " + toIndex + ", Size: " + size);
+        }
+        modCount++;
+        final int s = size;
+        if (fromIndex < toIndex && toIndex < s) {
+            final IntBuffer src = buffer.duplicate();
+            src.limit(s);
+            src.position(toIndex);
+            final IntBuffer dst = buffer.duplicate();
+            dst.position(fromIndex);
+            dst.put(src);
+        }
+        size = s - (toIndex - fromIndex);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The memory is kept. Use {@link #close()} to free it.
+     */
+    @Override
+    public void clear() {
+        modCount++;
+        size = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int indexOfPrimitive(int o) {
+        final IntBuffer b = buffer;
+        for (int i = 0, s = size; i < s; i++) {
+            if (b.get(i) == o) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int lastIndexOfPrimitive(int o) {
+        final IntBuffer b = buffer;
+        for (int i = size - 1; i >= 0; i--) {
+            if (b.get(i) == o) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsPrimitive(int o) {
+        return indexOfPrimitive(o) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int[] toArrayPrimitive() {
+        final int[] result = new int[size];
+        asIntBuffer().get(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEach(Consumer<? super Integer> action) {
+        Objects.requireNonNull(action);
+        if (action instanceof IntConsumer) {
+            this.forEachPrimitive((IntConsumer) action);
+            return;
+        }
+        this.forEachPrimitive(action::accept);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachPrimitive(IntConsumer action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        final IntBuffer b = buffer;
+        final int s = size;
+        for (int i = 0; modCount == expectedModCount && i < s; i++) {
+            action.acceptPrimitive(b.get(i));
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+}
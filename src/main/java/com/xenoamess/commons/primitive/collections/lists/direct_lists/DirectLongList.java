@@ -0,0 +1,559 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xenoamess.commons.primitive.collections.lists.direct_lists;
+
+import com.xenoamess.commons.primitive.Primitive;
+import com.xenoamess.commons.primitive.collections.LongCollection;
+import com.xenoamess.commons.primitive.collections.lists.AbstractLongList;
+import com.xenoamess.commons.primitive.collections.lists.LongList;
+import com.xenoamess.commons.primitive.functions.LongConsumer;
+import java.nio.LongBuffer;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+import org.lwjgl.system.MemoryUtil;
+
+/**
+ * A resizable {@code List<Long>} whose elements are kept off heap, in memory allocated by
+ * {@link MemoryUtil#memAllocLong(int)}.
+ * <p>
+ * The elements are invisible to the garbage collector, so a huge list does not make GC pauses longer, and they
+ * can be handed to native code without copying, by {@link #asLongBuffer()} or {@link #address()}.
+ * <p>
+ * The memory is NOT freed by the garbage collector. Every instance must be closed by {@link #close()} when it is no
+ * longer used, preferably by a try-with-resources statement. A closed list is empty, and can be used again, in which
+ * case it allocates new memory and has to be closed again.
+ * <p>
+ * A list can also wrap an existing {@link LongBuffer}, in which case it reads and writes that buffer in place,
+ * until it needs more space than the buffer has. The wrapped buffer is never freed by this list.
+ * <p>
+ * This class is not thread safe.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see com.xenoamess.commons.primitive.collections.lists.array_lists.LongArrayList
+ */
+public class DirectLongList extends AbstractLongList
+        implements LongList, RandomAccess, AutoCloseable, Primitive {
+
+    /**
+     * Default initial capacity.
+     */
+    public static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * The maximum size of buffer to allocate.
+     */
+    private static final int MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * The maximum number of elements moved through a temporary array at once, when shifting elements to the right.
+     */
+    private static final int MOVE_BLOCK_SIZE = 1024;
+
+    /**
+     * The buffer into which the elements are stored.
+     * Its position is always 0 and its limit is always its capacity.
+     */
+    private LongBuffer buffer;
+
+    /**
+     * If buffer is allocated by this list, and shall be freed by this list.
+     */
+    private boolean owned;
+
+    /**
+     * The number of elements this list contains.
+     */
+    private int size;
+
+    /**
+     * Constructs an empty list with the specified initial capacity.
+     *
+     * @param initialCapacity the initial capacity of the list
+     * @throws java.lang.IllegalArgumentException if the specified initial capacity
+     *                                            is negative
+     */
+    public DirectLongList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " +
+                    initialCapacity);
+        }
+        this.buffer = allocate(initialCapacity);
+        this.owned = true;
+    }
+
+    /**
+     * Constructs an empty list with an initial capacity of {@link #DEFAULT_CAPACITY}.
+     */
+    public DirectLongList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a list containing the elements of the specified
+     * collection, in the order they are returned by the collection's
+     * iterator.
+     *
+     * @param c the collection whose elements are to be placed into this list
+     * @throws java.lang.NullPointerException if the specified collection is null
+     */
+    public DirectLongList(Collection<? extends Long> c) {
+        this(c.size());
+        this.addAll(c);
+    }
+
+    /**
+     * Constructs a list wrapping the remaining elements of a {@code LongBuffer}.
+     * <p>
+     * The elements from the buffer's position to its limit become the content of this list, and are read and
+     * written in place, until this list needs more space than the buffer has.
+     * The position, limit and mark of the buffer itself are not changed.
+     *
+     * @param longBuffer the buffer to wrap
+     * @see #DirectLongList(LongBuffer, boolean)
+     */
+    public DirectLongList(@NotNull LongBuffer longBuffer) {
+        this(longBuffer, false);
+    }
+
+    /**
+     * Constructs a list wrapping the remaining space of a {@code LongBuffer}.
+     * <p>
+     * if ifEmpty == true, then will create an empty list, and the remaining space of the buffer will be used as
+     * its initial capacity.
+     * <p>
+     * otherwise, we will create a full list, and the initial size will be longBuffer.remaining().
+     * <p>
+     * The buffer is read and written in place, until this list needs more space than the buffer has.
+     * The position, limit and mark of the buffer itself are not changed, and the buffer is never freed by this list.
+     *
+     * @param longBuffer the buffer to wrap
+     * @param ifEmpty      if we will create an empty list.
+     */
+    public DirectLongList(@NotNull LongBuffer longBuffer, boolean ifEmpty) {
+        this.buffer = longBuffer.slice();
+        this.owned = false;
+        this.size = ifEmpty ? 0 : this.buffer.capacity();
+    }
+
+    private static LongBuffer allocate(int capacity) {
+        // never allocate 0 bytes, as malloc may return NULL for it.
+        return MemoryUtil.memAllocLong(Math.max(1, capacity));
+    }
+
+    //-------------------- memory --------------------
+
+    /**
+     * Frees the memory allocated by this list, and makes this list empty.
+     * <p>
+     * Buffers returned by {@link #asLongBuffer()} and addresses returned by {@link #address()} before are
+     * invalid after this call. A wrapped buffer is not freed.
+     */
+    @Override
+    public void close() {
+        modCount++;
+        if (owned) {
+            MemoryUtil.memFree(buffer);
+        }
+        buffer = LongBuffer.allocate(0);
+        owned = false;
+        size = 0;
+    }
+
+    /**
+     * Returns a view of the elements of this list, without copying them.
+     * <p>
+     * The returned buffer has position 0 and limit {@link #size()}, and shares memory with this list, so changes
+     * to either of them are visible to the other. It becomes invalid when this list grows, is trimmed, or is closed.
+     *
+     * @return a buffer view of this list
+     */
+    @NotNull
+    public LongBuffer asLongBuffer() {
+        final LongBuffer result = buffer.duplicate();
+        result.limit(size);
+        return result.slice();
+    }
+
+    /**
+     * Returns the address of the first element, to be passed to native code.
+     * <p>
+     * The address becomes invalid when this list grows, is trimmed, or is closed.
+     * It is only meaningful when the backing buffer is direct.
+     *
+     * @return the address of the first element
+     */
+    public long address() {
+        return MemoryUtil.memAddress(buffer);
+    }
+
+    /**
+     * Returns the number of elements this list can hold without growing.
+     *
+     * @return capacity
+     */
+    public int capacity() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Increases the capacity of this list, if necessary, to ensure that it can hold at least the number of
+     * elements specified by the minimum capacity argument.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > buffer.capacity()) {
+            modCount++;
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Trims the capacity of this list to be the list's current size.
+     * A wrapped buffer is kept as is.
+     */
+    public void trimToSize() {
+        modCount++;
+        if (owned && size < buffer.capacity()) {
+            reallocate(size);
+        }
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0) {
+            // overflow
+            throw new OutOfMemoryError();
+        }
+        final int oldCapacity = buffer.capacity();
+        int newCapacity = oldCapacity + (oldCapacity >> 1);
+        if (newCapacity - minCapacity <= 0) {
+            newCapacity = Math.max(DEFAULT_CAPACITY, minCapacity);
+        } else if (newCapacity - MAX_BUFFER_SIZE > 0) {
+            newCapacity = Math.max(MAX_BUFFER_SIZE, minCapacity);
+        }
+        reallocate(newCapacity);
+    }
+
+    private void reallocate(int newCapacity) {
+        if (owned) {
+            buffer = MemoryUtil.memRealloc(buffer, Math.max(1, newCapacity));
+            buffer.clear();
+            return;
+        }
+        final LongBuffer newBuffer = allocate(newCapacity);
+        final LongBuffer content = buffer.duplicate();
+        content.limit(size);
+        newBuffer.put(content);
+        newBuffer.clear();
+        buffer = newBuffer;
+        owned = true;
+    }
+
+    //-------------------- list operations --------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void rangeCheck(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void rangeCheckForAdd(int index) {
+        if (index > size || index < 0) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+    }
+
+    /**
+     * Constructs an IndexOutOfBoundsException detail message.
+     *
+     * @param index index
+     * @return the message
+     */
+    public String outOfBoundsMsg(int index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getPrimitive(int index) {
+        rangeCheck(index);
+        return buffer.get(index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long setPrimitive(int index, long element) {
+        rangeCheck(index);
+        final long oldValue = buffer.get(index);
+        buffer.put(index, element);
+        return oldValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addPrimitive(long e) {
+        modCount++;
+        final int s = size;
+        if (s == buffer.capacity()) {
+            grow(s + 1);
+        }
+        buffer.put(s, e);
+        size = s + 1;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addPrimitive(int index, long element) {
+        rangeCheckForAdd(index);
+        modCount++;
+        final int s = size;
+        if (s == buffer.capacity()) {
+            grow(s + 1);
+        }
+        if (index < s) {
+            // a bulk put between overlapping parts of one buffer may copy front to back, so move the tail back to
+            // front, a block at a time.
+            final long[] block = new long[Math.min(s - index, MOVE_BLOCK_SIZE)];
+            final LongBuffer src = buffer.duplicate();
+            final LongBuffer dst = buffer.duplicate();
+            for (int end = s; end > index; ) {
+                final int start = Math.max(index, end - block.length);
+                src.position(start);
+                src.get(block, 0, end - start);
+                dst.position(start + 1);
+                dst.put(block, 0, end - start);
+                end = start;
+            }
+        }
+        buffer.put(index, element);
+        size = s + 1;
+    }
+
+    /**
+     * Appends all of the elements in the specified array to the end of
+     * this list, in order.
+     *
+     * @param longArray array containing elements to be added to this list
+     * @return {@code true} if this list changed as a result of the call
+     */
+    public boolean addAll(long[] longArray) {
+        modCount++;
+        final int numNew = longArray.length;
+        if (numNew == 0) {
+            return false;
+        }
+        final int s = size;
+        if (numNew > buffer.capacity() - s) {
+            grow(s + numNew);
+        }
+        final LongBuffer b = buffer.duplicate();
+        b.position(s);
+        b.put(longArray);
+        size = s + numNew;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addAll(Collection<? extends Long> c) {
+        if (c instanceof LongCollection) {
+            return addAll(((LongCollection) c).toArrayPrimitive());
+        }
+        return super.addAll(c);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long removeByIndexPrimitive(int index) {
+        rangeCheck(index);
+        final long oldValue = buffer.get(index);
+        removeRange(index, index + 1);
+        return oldValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeByContentPrimitive(long o) {
+        final int index = indexOfPrimitive(o);
+        if (index < 0) {
+            return false;
+        }
+        removeRange(index, index + 1);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Removes from this list all of the elements whose index is between
+     * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive.
+     * Shifts any succeeding elements to the left (reduces their index).
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "From Index: " + fromIndex + ", To Index: " + toIndex + ", Size: " + size);
+        }
+        modCount++;
+        final int s = size;
+        if (fromIndex < toIndex && toIndex < s) {
+            final LongBuffer src = buffer.duplicate();
+            src.limit(s);
+            src.position(toIndex);
+            final LongBuffer dst = buffer.duplicate();
+            dst.position(fromIndex);
+            dst.put(src);
+        }
+        size = s - (toIndex - fromIndex);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The memory is kept. Use {@link #close()} to free it.
+     */
+    @Override
+    public void clear() {
+        modCount++;
+        size = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int indexOfPrimitive(long o) {
+        final LongBuffer b = buffer;
+        for (int i = 0, s = size; i < s; i++) {
+            if (b.get(i) == o) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int lastIndexOfPrimitive(long o) {
+        final LongBuffer b = buffer;
+        for (int i = size - 1; i >= 0; i--) {
+            if (b.get(i) == o) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsPrimitive(long o) {
+        return indexOfPrimitive(o) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long[] toArrayPrimitive() {
+        final long[] result = new long[size];
+        asLongBuffer().get(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEach(Consumer<? super Long> action) {
+        Objects.requireNonNull(action);
+        if (action instanceof LongConsumer) {
+            this.forEachPrimitive((LongConsumer) action);
+            return;
+        }
+        this.forEachPrimitive(action::accept);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachPrimitive(LongConsumer action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        final LongBuffer b = buffer;
+        final int s = size;
+        for (int i = 0; modCount == expectedModCount && i < s; i++) {
+            action.acceptPrimitive(b.get(i));
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+}
@@ -0,0 +1,719 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xenoamess.commons.primitive.collections.lists.immutable_lists;
+
+import com.xenoamess.commons.primitive.collections.DoubleCollection;
+import com.xenoamess.commons.primitive.collections.lists.AbstractDoubleList;
+import com.xenoamess.commons.primitive.collections.lists.DoubleList;
+import com.xenoamess.commons.primitive.functions.DoubleConsumer;
+import com.xenoamess.commons.primitive.functions.DoublePredicate;
+import com.xenoamess.commons.primitive.functions.DoubleUnaryOperator;
+import com.xenoamess.commons.primitive.iterators.DoubleIterator;
+import com.xenoamess.commons.primitive.iterators.DoubleListIterator;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * An unmodifiable {@link DoubleList}, like the ones returned by {@code List.of}.
+ * <p>
+ * This class aims to reduce performance issue of autoboxing and unboxing.
+ * <p>
+ * Instances are created by {@link #of(double...)} and {@link #copyOf(DoubleCollection)}.
+ * Lists of up to two elements keep them in fields instead of an array.
+ * All mutator functions throw {@code UnsupportedOperationException}, and as nothing can change after
+ * creation, iterators do not check for concurrent modification, and the hash code is cached after first
+ * computed. Instances can be shared between threads without synchronization.
+ * <p>
+ * {@link #subList(int, int)} returns an immutable list sharing the same elements, without copying.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see List#of()
+ * @see DoubleList
+ */
+public abstract class DoubleImmutableList extends AbstractDoubleList
+        implements RandomAccess, java.io.Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final DoubleImmutableList EMPTY = new ListN(new double[0], 0, 0);
+
+    /**
+     * Cache of the hash code, 0 if not computed yet.
+     * It is computed again if the hash code is really 0, but races are benign, as every thread computes the same
+     * value.
+     */
+    private transient int hash;
+
+    /**
+     * Package-private, so all implementations are in this file.
+     */
+    DoubleImmutableList() {
+        super();
+    }
+
+    /**
+     * Returns an immutable list containing zero elements.
+     *
+     * @return an empty {@code DoubleImmutableList}
+     */
+    public static DoubleImmutableList of() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns an immutable list containing one element.
+     *
+     * @param e0 the single element
+     * @return a {@code DoubleImmutableList} containing the specified element
+     */
+    public static DoubleImmutableList of(double e0) {
+        return new List12(e0);
+    }
+
+    /**
+     * Returns an immutable list containing two elements.
+     *
+     * @param e0 the first element
+     * @param e1 the second element
+     * @return a {@code DoubleImmutableList} containing the specified elements
+     */
+    public static DoubleImmutableList of(double e0, double e1) {
+        return new List12(e0, e1);
+    }
+
+    /**
+     * Returns an immutable list containing an arbitrary number of elements.
+     * The array is copied, so later changes to it do not affect the returned list.
+     *
+     * @param elements the elements to be contained in the list
+     * @return a {@code DoubleImmutableList} containing the specified elements
+     * @throws java.lang.NullPointerException if the array is {@code null}
+     */
+    public static DoubleImmutableList of(double... elements) {
+        switch (elements.length) {
+            case 0:
+                return EMPTY;
+            case 1:
+                return new List12(elements[0]);
+            case 2:
+                return new List12(elements[0], elements[1]);
+            default:
+                return new ListN(elements.clone(), 0, elements.length);
+        }
+    }
+
+    /**
+     * Returns an immutable list containing the elements of the given collection, in its iteration order.
+     * If the collection is already an immutable list not being a view of a larger one, it is returned as is.
+     *
+     * @param collection the collection from which elements are drawn
+     * @return a {@code DoubleImmutableList} containing the elements of the given collection
+     * @throws java.lang.NullPointerException if the collection is {@code null}
+     */
+    public static DoubleImmutableList copyOf(DoubleCollection collection) {
+        if (collection instanceof List12
+                || (collection instanceof ListN && ((ListN) collection).isWhole())) {
+            return (DoubleImmutableList) collection;
+        }
+        return ofTrusted(collection.toArrayPrimitive());
+    }
+
+    /**
+     * Returns an immutable list using the array as is, so the array must not be changed afterwards.
+     */
+    static DoubleImmutableList ofTrusted(double[] elements) {
+        switch (elements.length) {
+            case 0:
+                return EMPTY;
+            case 1:
+                return new List12(elements[0]);
+            case 2:
+                return new List12(elements[0], elements[1]);
+            default:
+                return new ListN(elements, 0, elements.length);
+        }
+    }
+
+    static UnsupportedOperationException uoe() {
+        return new UnsupportedOperationException();
+    }
+
+    //-------------------- mutators --------------------
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Always throws {@code UnsupportedOperationException}.
+     */
+    @Override
+    public boolean addPrimitive(double e) {
+        throw uoe();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Always throws {@code UnsupportedOperationException}.
+     */
+    @Override
+    public void addPrimitive(int index, double element) {
+        throw uoe();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Always throws {@code UnsupportedOperationException}.
+     */
+    @Override
+    public boolean addAll(Collection<? extends Double> c) {
+        throw uoe();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Always throws {@code UnsupportedOperationException}.
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends Double> c) {
+        throw uoe();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Always throws {@code UnsupportedOperationException}.
+     */
+    @Override
+    public double setPrimitive(int index, double element) {
+        throw uoe();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Always throws {@code UnsupportedOperationException}.
+     */
+    @Override
+    public double removeByIndexPrimitive(int index) {
+        throw uoe();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Always throws {@code UnsupportedOperationException}.
+     */
+    @Override
+    public boolean removeByContentPrimitive(double o) {
+        throw uoe();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Always throws {@code UnsupportedOperationException}.
+     */
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw uoe();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Always throws {@code UnsupportedOperationException}.
+     */
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw uoe();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Always throws {@code UnsupportedOperationException}.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super Double> filter) {
+        throw uoe();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Always throws {@code UnsupportedOperationException}.
+     */
+    @Override
+    public boolean removeIfPrimitive(DoublePredicate filter) {
+        throw uoe();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Always throws {@code UnsupportedOperationException}.
+     */
+    @Override
+    public void replaceAll(UnaryOperator<Double> operator) {
+        throw uoe();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Always throws {@code UnsupportedOperationException}.
+     */
+    @Override
+    public void replaceAllPrimitive(DoubleUnaryOperator operator) {
+        throw uoe();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Always throws {@code UnsupportedOperationException}.
+     */
+    @Override
+    public void sort(Comparator<? super Double> c) {
+        throw uoe();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Always throws {@code UnsupportedOperationException}.
+     */
+    @Override
+    public void clear() {
+        throw uoe();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Always throws {@code UnsupportedOperationException}.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        throw uoe();
+    }
+
+    //-------------------- queries --------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsPrimitive(double o) {
+        return this.indexOfPrimitive(o) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int indexOfPrimitive(double o) {
+        for (int i = 0, size = this.size(); i < size; i++) {
+            if (o == this.getPrimitive(i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int lastIndexOfPrimitive(double o) {
+        for (int i = this.size() - 1; i >= 0; i--) {
+            if (o == this.getPrimitive(i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double[] toArrayPrimitive() {
+        return this.toArrayPrimitive(new double[this.size()]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachPrimitive(DoubleConsumer action) {
+        Objects.requireNonNull(action);
+        for (int i = 0, size = this.size(); i < size; i++) {
+            action.acceptPrimitive(this.getPrimitive(i));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DoubleIterator iterator() {
+        return new ListItr(this, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DoubleListIterator listIterator() {
+        return new ListItr(this, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DoubleListIterator listIterator(final int index) {
+        rangeCheckForAdd(index);
+        return new ListItr(this, index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DoubleImmutableList subList(int fromIndex, int toIndex) {
+        subListRangeCheck(fromIndex, toIndex, this.size());
+        return this.subListUnchecked(fromIndex, toIndex);
+    }
+
+    abstract DoubleImmutableList subListUnchecked(int fromIndex, int toIndex);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof DoubleList)) {
+            return super.equals(o);
+        }
+        final DoubleList other = (DoubleList) o;
+        final int size = this.size();
+        if (size != other.size()) {
+            return false;
+        }
+        if (!(other instanceof RandomAccess)) {
+            return super.equals(o);
+        }
+        for (int i = 0; i < size; i++) {
+            if (this.getPrimitive(i) != other.getPrimitive(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The hash code is computed once, and cached.
+     */
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = 1;
+            for (int i = 0, size = this.size(); i < size; i++) {
+                h = 31 * h + Double.hashCode(this.getPrimitive(i));
+            }
+            hash = h;
+        }
+        return h;
+    }
+
+    /**
+     * Replaces this list with a {@link SerializationProxy} when serializing.
+     *
+     * @return the serialization proxy
+     */
+    Object writeReplace() {
+        return new SerializationProxy(this.toArrayPrimitive());
+    }
+
+    private void readObject(java.io.ObjectInputStream s) throws java.io.InvalidObjectException {
+        throw new java.io.InvalidObjectException("SerializationProxy required");
+    }
+
+    /**
+     * The serialized form of every {@code DoubleImmutableList}, which is only the elements.
+     */
+    private static final class SerializationProxy implements java.io.Serializable {
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * @serial the elements
+         */
+        private final double[] elements;
+
+        SerializationProxy(double[] elements) {
+            this.elements = elements;
+        }
+
+        private Object readResolve() {
+            return ofTrusted(elements);
+        }
+    }
+
+    /**
+     * List iterator without modification checks, as the list never changes.
+     */
+    static final class ListItr implements DoubleListIterator {
+        private final DoubleImmutableList list;
+        private final int size;
+        private int cursor;
+
+        ListItr(DoubleImmutableList list, int cursor) {
+            this.list = list;
+            this.size = list.size();
+            this.cursor = cursor;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor != size;
+        }
+
+        @Override
+        public double nextPrimitive() {
+            final int i = cursor;
+            if (i >= size) {
+                throw new NoSuchElementException();
+            }
+            cursor = i + 1;
+            return list.getPrimitive(i);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor != 0;
+        }
+
+        @Override
+        public double previousPrimitive() {
+            final int i = cursor - 1;
+            if (i < 0) {
+                throw new NoSuchElementException();
+            }
+            cursor = i;
+            return list.getPrimitive(i);
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        public void remove() {
+            throw uoe();
+        }
+
+        @Override
+        public void setPrimitive(double e) {
+            throw uoe();
+        }
+
+        @Override
+        public void addPrimitive(double e) {
+            throw uoe();
+        }
+    }
+
+    /**
+     * Immutable list of one or two elements, kept in fields.
+     */
+    static final class List12 extends DoubleImmutableList {
+        private static final long serialVersionUID = 1L;
+
+        private final double e0;
+        private final double e1;
+        private final int size;
+
+        List12(double e0) {
+            this.e0 = e0;
+            this.e1 = DOUBLE_DEFAULT;
+            this.size = 1;
+        }
+
+        List12(double e0, double e1) {
+            this.e0 = e0;
+            this.e1 = e1;
+            this.size = 2;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public double getPrimitive(int index) {
+            if (index == 0) {
+                return e0;
+            } else if (index == 1 && size == 2) {
+                return e1;
+            }
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        @Override
+        public double[] toArrayPrimitive(double[] a) {
+            if (a.length < size) {
+                a = new double[size];
+            }
+            a[0] = e0;
+            if (size == 2) {
+                a[1] = e1;
+            }
+            return a;
+        }
+
+        @Override
+        DoubleImmutableList subListUnchecked(int fromIndex, int toIndex) {
+            if (fromIndex == 0 && toIndex == size) {
+                return this;
+            }
+            return toIndex == fromIndex ? EMPTY : new List12(getPrimitive(fromIndex));
+        }
+    }
+
+    /**
+     * Immutable list of elements[offset, offset + size).
+     * Sub lists share the same array.
+     */
+    static final class ListN extends DoubleImmutableList {
+        private static final long serialVersionUID = 1L;
+
+        private final double[] elements;
+        private final int offset;
+        private final int size;
+
+        ListN(double[] elements, int offset, int size) {
+            this.elements = elements;
+            this.offset = offset;
+            this.size = size;
+        }
+
+        boolean isWhole() {
+            return size == elements.length;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public double getPrimitive(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return elements[offset + index];
+        }
+
+        @Override
+        public int indexOfPrimitive(double o) {
+            final double[] es = this.elements;
+            for (int i = offset, end = offset + size; i < end; i++) {
+                if (o == es[i]) {
+                    return i - offset;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOfPrimitive(double o) {
+            final double[] es = this.elements;
+            for (int i = offset + size - 1; i >= offset; i--) {
+                if (o == es[i]) {
+                    return i - offset;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public double[] toArrayPrimitive(double[] a) {
+            if (a.length < size) {
+                a = new double[size];
+            }
+            System.arraycopy(elements, offset, a, 0, size);
+            return a;
+        }
+
+        @Override
+        public void forEachPrimitive(DoubleConsumer action) {
+            Objects.requireNonNull(action);
+            final double[] es = this.elements;
+            for (int i = offset, end = offset + size; i < end; i++) {
+                action.acceptPrimitive(es[i]);
+            }
+        }
+
+        @Override
+        DoubleImmutableList subListUnchecked(int fromIndex, int toIndex) {
+            if (fromIndex == 0 && toIndex == size) {
+                return this;
+            }
+            return toIndex == fromIndex ? EMPTY : new ListN(elements, offset + fromIndex, toIndex - fromIndex);
+        }
+    }
+}
@@ -31,6 +31,8 @@ import com.xenoamess.commons.primitive.collections.lists.AbstractBooleanSequenti
 import com.xenoamess.commons.primitive.collections.lists.BooleanList;
 import com.xenoamess.commons.primitive.collections.queues.BooleanDeque;
 import com.xenoamess.commons.primitive.functions.BooleanConsumer;
+import com.xenoamess.commons.primitive.functions.BooleanPredicate;
+import com.xenoamess.commons.primitive.functions.BooleanUnaryOperator;
 import com.xenoamess.commons.primitive.iterators.BooleanIterator;
 import com.xenoamess.commons.primitive.iterators.BooleanListIterator;
 import com.xenoamess.commons.primitive.iterators.BooleanSpliterator;
@@ -1540,6 +1542,60 @@ public class BooleanLinkedList
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachPrimitive(BooleanConsumer action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        for (BooleanNode x = first; modCount == expectedModCount && x != null; x = x.next) {
+            action.acceptPrimitive(x.item);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeIfPrimitive(BooleanPredicate filter) {
+        Objects.requireNonNull(filter);
+        int expectedModCount = modCount;
+        boolean removed = false;
+        for (BooleanNode x = first; x != null; ) {
+            final BooleanNode next = x.next;
+            final boolean matched = filter.testPrimitive(x.item);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (matched) {
+                unlinkPrimitive(x);
+                expectedModCount = modCount;
+                removed = true;
+            }
+            x = next;
+        }
+        return removed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void replaceAllPrimitive(BooleanUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        final int expectedModCount = modCount;
+        for (BooleanNode x = first; modCount == expectedModCount && x != null; x = x.next) {
+            x.item = operator.applyPrimitive(x.item);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private BooleanLinkedList superClone() {
         try {
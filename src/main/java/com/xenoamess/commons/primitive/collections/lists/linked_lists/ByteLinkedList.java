@@ -31,6 +31,8 @@ import com.xenoamess.commons.primitive.collections.lists.AbstractByteSequentialL
 import com.xenoamess.commons.primitive.collections.lists.ByteList;
 import com.xenoamess.commons.primitive.collections.queues.ByteDeque;
 import com.xenoamess.commons.primitive.functions.ByteConsumer;
+import com.xenoamess.commons.primitive.functions.BytePredicate;
+import com.xenoamess.commons.primitive.functions.ByteUnaryOperator;
 import com.xenoamess.commons.primitive.iterators.ByteIterator;
 import com.xenoamess.commons.primitive.iterators.ByteListIterator;
 import com.xenoamess.commons.primitive.iterators.ByteSpliterator;
@@ -1540,6 +1542,60 @@ public class ByteLinkedList
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachPrimitive(ByteConsumer action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        for (ByteNode x = first; modCount == expectedModCount && x != null; x = x.next) {
+            action.acceptPrimitive(x.item);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeIfPrimitive(BytePredicate filter) {
+        Objects.requireNonNull(filter);
+        int expectedModCount = modCount;
+        boolean removed = false;
+        for (ByteNode x = first; x != null; ) {
+            final ByteNode next = x.next;
+            final boolean matched = filter.testPrimitive(x.item);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (matched) {
+                unlinkPrimitive(x);
+                expectedModCount = modCount;
+                removed = true;
+            }
+            x = next;
+        }
+        return removed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void replaceAllPrimitive(ByteUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        final int expectedModCount = modCount;
+        for (ByteNode x = first; modCount == expectedModCount && x != null; x = x.next) {
+            x.item = operator.applyPrimitive(x.item);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private ByteLinkedList superClone() {
         try {
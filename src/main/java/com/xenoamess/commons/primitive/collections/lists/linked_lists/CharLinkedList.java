@@ -31,6 +31,8 @@ import com.xenoamess.commons.primitive.collections.lists.AbstractCharSequentialL
 import com.xenoamess.commons.primitive.collections.lists.CharList;
 import com.xenoamess.commons.primitive.collections.queues.CharDeque;
 import com.xenoamess.commons.primitive.functions.CharConsumer;
+import com.xenoamess.commons.primitive.functions.CharPredicate;
+import com.xenoamess.commons.primitive.functions.CharUnaryOperator;
 import com.xenoamess.commons.primitive.iterators.CharIterator;
 import com.xenoamess.commons.primitive.iterators.CharListIterator;
 import com.xenoamess.commons.primitive.iterators.CharSpliterator;
@@ -1540,6 +1542,60 @@ public class CharLinkedList
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachPrimitive(CharConsumer action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        for (CharNode x = first; modCount == expectedModCount && x != null; x = x.next) {
+            action.acceptPrimitive(x.item);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeIfPrimitive(CharPredicate filter) {
+        Objects.requireNonNull(filter);
+        int expectedModCount = modCount;
+        boolean removed = false;
+        for (CharNode x = first; x != null; ) {
+            final CharNode next = x.next;
+            final boolean matched = filter.testPrimitive(x.item);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (matched) {
+                unlinkPrimitive(x);
+                expectedModCount = modCount;
+                removed = true;
+            }
+            x = next;
+        }
+        return removed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void replaceAllPrimitive(CharUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        final int expectedModCount = modCount;
+        for (CharNode x = first; modCount == expectedModCount && x != null; x = x.next) {
+            x.item = operator.applyPrimitive(x.item);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private CharLinkedList superClone() {
         try {
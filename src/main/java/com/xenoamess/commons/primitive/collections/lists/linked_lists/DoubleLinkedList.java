@@ -31,6 +31,8 @@ import com.xenoamess.commons.primitive.collections.lists.AbstractDoubleSequentia
 import com.xenoamess.commons.primitive.collections.lists.DoubleList;
 import com.xenoamess.commons.primitive.collections.queues.DoubleDeque;
 import com.xenoamess.commons.primitive.functions.DoubleConsumer;
+import com.xenoamess.commons.primitive.functions.DoublePredicate;
+import com.xenoamess.commons.primitive.functions.DoubleUnaryOperator;
 import com.xenoamess.commons.primitive.iterators.DoubleIterator;
 import com.xenoamess.commons.primitive.iterators.DoubleListIterator;
 import com.xenoamess.commons.primitive.iterators.DoubleSpliterator;
@@ -1540,6 +1542,60 @@ public class DoubleLinkedList
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachPrimitive(DoubleConsumer action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        for (DoubleNode x = first; modCount == expectedModCount && x != null; x = x.next) {
+            action.acceptPrimitive(x.item);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeIfPrimitive(DoublePredicate filter) {
+        Objects.requireNonNull(filter);
+        int expectedModCount = modCount;
+        boolean removed = false;
+        for (DoubleNode x = first; x != null; ) {
+            final DoubleNode next = x.next;
+            final boolean matched = filter.testPrimitive(x.item);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (matched) {
+                unlinkPrimitive(x);
+                expectedModCount = modCount;
+                removed = true;
+            }
+            x = next;
+        }
+        return removed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void replaceAllPrimitive(DoubleUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        final int expectedModCount = modCount;
+        for (DoubleNode x = first; modCount == expectedModCount && x != null; x = x.next) {
+            x.item = operator.applyPrimitive(x.item);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private DoubleLinkedList superClone() {
         try {
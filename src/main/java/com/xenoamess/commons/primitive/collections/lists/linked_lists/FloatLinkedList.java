@@ -31,6 +31,8 @@ import com.xenoamess.commons.primitive.collections.lists.AbstractFloatSequential
 import com.xenoamess.commons.primitive.collections.lists.FloatList;
 import com.xenoamess.commons.primitive.collections.queues.FloatDeque;
 import com.xenoamess.commons.primitive.functions.FloatConsumer;
+import com.xenoamess.commons.primitive.functions.FloatPredicate;
+import com.xenoamess.commons.primitive.functions.FloatUnaryOperator;
 import com.xenoamess.commons.primitive.iterators.FloatIterator;
 import com.xenoamess.commons.primitive.iterators.FloatListIterator;
 import com.xenoamess.commons.primitive.iterators.FloatSpliterator;
@@ -1540,6 +1542,60 @@ public class FloatLinkedList
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachPrimitive(FloatConsumer action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        for (FloatNode x = first; modCount == expectedModCount && x != null; x = x.next) {
+            action.acceptPrimitive(x.item);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeIfPrimitive(FloatPredicate filter) {
+        Objects.requireNonNull(filter);
+        int expectedModCount = modCount;
+        boolean removed = false;
+        for (FloatNode x = first; x != null; ) {
+            final FloatNode next = x.next;
+            final boolean matched = filter.testPrimitive(x.item);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (matched) {
+                unlinkPrimitive(x);
+                expectedModCount = modCount;
+                removed = true;
+            }
+            x = next;
+        }
+        return removed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void replaceAllPrimitive(FloatUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        final int expectedModCount = modCount;
+        for (FloatNode x = first; modCount == expectedModCount && x != null; x = x.next) {
+            x.item = operator.applyPrimitive(x.item);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private FloatLinkedList superClone() {
         try {
@@ -31,6 +31,8 @@ import com.xenoamess.commons.primitive.collections.lists.AbstractIntSequentialLi
 import com.xenoamess.commons.primitive.collections.lists.IntList;
 import com.xenoamess.commons.primitive.collections.queues.IntDeque;
 import com.xenoamess.commons.primitive.functions.IntConsumer;
+import com.xenoamess.commons.primitive.functions.IntPredicate;
+import com.xenoamess.commons.primitive.functions.IntUnaryOperator;
 import com.xenoamess.commons.primitive.iterators.IntIterator;
 import com.xenoamess.commons.primitive.iterators.IntListIterator;
 import com.xenoamess.commons.primitive.iterators.IntSpliterator;
@@ -1540,6 +1542,60 @@ public class IntLinkedList
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachPrimitive(IntConsumer action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        for (IntNode x = first; modCount == expectedModCount && x != null; x = x.next) {
+            action.acceptPrimitive(x.item);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeIfPrimitive(IntPredicate filter) {
+        Objects.requireNonNull(filter);
+        int expectedModCount = modCount;
+        boolean removed = false;
+        for (IntNode x = first; x != null; ) {
+            final IntNode next = x.next;
+            final boolean matched = filter.testPrimitive(x.item);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (matched) {
+                unlinkPrimitive(x);
+                expectedModCount = modCount;
+                removed = true;
+            }
+            x = next;
+        }
+        return removed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void replaceAllPrimitive(IntUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        final int expectedModCount = modCount;
+        for (IntNode x = first; modCount == expectedModCount && x != null; x = x.next) {
+            x.item = operator.applyPrimitive(x.item);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private IntLinkedList superClone() {
         try {
@@ -31,6 +31,8 @@ import com.xenoamess.commons.primitive.collections.lists.AbstractLongSequentialL
 import com.xenoamess.commons.primitive.collections.lists.LongList;
 import com.xenoamess.commons.primitive.collections.queues.LongDeque;
 import com.xenoamess.commons.primitive.functions.LongConsumer;
+import com.xenoamess.commons.primitive.functions.LongPredicate;
+import com.xenoamess.commons.primitive.functions.LongUnaryOperator;
 import com.xenoamess.commons.primitive.iterators.LongIterator;
 import com.xenoamess.commons.primitive.iterators.LongListIterator;
 import com.xenoamess.commons.primitive.iterators.LongSpliterator;
@@ -1540,6 +1542,60 @@ public class LongLinkedList
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachPrimitive(LongConsumer action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        for (LongNode x = first; modCount == expectedModCount && x != null; x = x.next) {
+            action.acceptPrimitive(x.item);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeIfPrimitive(LongPredicate filter) {
+        Objects.requireNonNull(filter);
+        int expectedModCount = modCount;
+        boolean removed = false;
+        for (LongNode x = first; x != null; ) {
+            final LongNode next = x.next;
+            final boolean matched = filter.testPrimitive(x.item);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (matched) {
+                unlinkPrimitive(x);
+                expectedModCount = modCount;
+                removed = true;
+            }
+            x = next;
+        }
+        return removed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void replaceAllPrimitive(LongUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        final int expectedModCount = modCount;
+        for (LongNode x = first; modCount == expectedModCount && x != null; x = x.next) {
+            x.item = operator.applyPrimitive(x.item);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private LongLinkedList superClone() {
         try {
@@ -31,6 +31,8 @@ import com.xenoamess.commons.primitive.collections.lists.AbstractShortSequential
 import com.xenoamess.commons.primitive.collections.lists.ShortList;
 import com.xenoamess.commons.primitive.collections.queues.ShortDeque;
 import com.xenoamess.commons.primitive.functions.ShortConsumer;
+import com.xenoamess.commons.primitive.functions.ShortPredicate;
+import com.xenoamess.commons.primitive.functions.ShortUnaryOperator;
 import com.xenoamess.commons.primitive.iterators.ShortIterator;
 import com.xenoamess.commons.primitive.iterators.ShortListIterator;
 import com.xenoamess.commons.primitive.iterators.ShortSpliterator;
@@ -1540,6 +1542,60 @@ public class ShortLinkedList
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachPrimitive(ShortConsumer action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        for (ShortNode x = first; modCount == expectedModCount && x != null; x = x.next) {
+            action.acceptPrimitive(x.item);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeIfPrimitive(ShortPredicate filter) {
+        Objects.requireNonNull(filter);
+        int expectedModCount = modCount;
+        boolean removed = false;
+        for (ShortNode x = first; x != null; ) {
+            final ShortNode next = x.next;
+            final boolean matched = filter.testPrimitive(x.item);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (matched) {
+                unlinkPrimitive(x);
+                expectedModCount = modCount;
+                removed = true;
+            }
+            x = next;
+        }
+        return removed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void replaceAllPrimitive(ShortUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        final int expectedModCount = modCount;
+        for (ShortNode x = first; modCount == expectedModCount && x != null; x = x.next) {
+            x.item = operator.applyPrimitive(x.item);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private ShortLinkedList superClone() {
         try {
@@ -0,0 +1,690 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.xenoamess.commons.primitive.collections.lists.mapped_lists;
+
+import com.xenoamess.commons.primitive.Primitive;
+import com.xenoamess.commons.primitive.collections.IntCollection;
+import com.xenoamess.commons.primitive.collections.lists.AbstractIntList;
+import com.xenoamess.commons.primitive.collections.lists.IntList;
+import com.xenoamess.commons.primitive.functions.IntConsumer;
+import com.xenoamess.commons.primitive.io.PrimitiveArrayIO;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A resizable {@code List<Integer>} whose elements are kept in a file, mapped into memory by
+ * {@link FileChannel#map}.
+ * <p>
+ * The file has the format of {@link PrimitiveArrayIO}, so it can also be written by
+ * {@link com.xenoamess.commons.primitive.collections.lists.array_lists.IntArrayList#writeTo} and read by
+ * {@link com.xenoamess.commons.primitive.collections.lists.array_lists.IntArrayList#readFrom}.
+ * The elements are mapped in chunks of {@code 1 << chunkShift} elements, and the list grows by mapping one more
+ * chunk at the end of the file, so growing never copies the elements, and lists larger than 2 GiB can be mapped.
+ * The header keeps the size of the list. The file is not shrunk when elements are removed.
+ * <p>
+ * Pages are loaded by the OS when they are touched, and live in the page cache instead of the heap. A list opened
+ * read only maps the file read only, so every process mapping the same file shares the same pages of memory.
+ * Modifying a read only list throws {@link UnsupportedOperationException}. The size of a list is read once, when
+ * it is opened, so a list does not see elements appended to the file by others after that.
+ * <p>
+ * Changes are written back to the file by the OS at some time. Call {@link #force()} to write them to the storage
+ * device at once. Every instance shall be closed by {@link #close()} when it is no longer used; the mapped memory
+ * itself is released when the buffers are garbage collected.
+ * <p>
+ * This class is not thread safe.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see com.xenoamess.commons.primitive.collections.lists.direct_lists.DirectIntList
+ */
+public class MappedIntList extends AbstractIntList
+        implements IntList, RandomAccess, Closeable, Primitive {
+
+    /**
+     * Default chunk shift, which makes chunks of 64 MiB.
+     */
+    public static final int DEFAULT_CHUNK_SHIFT = 24;
+
+    /**
+     * Max chunk shift, which makes chunks of 1 GiB.
+     */
+    public static final int MAX_CHUNK_SHIFT = 28;
+
+    /**
+     * The maximum size of list.
+     */
+    private static final int MAX_LIST_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * The offset of the element count in the header, see {@link PrimitiveArrayIO}.
+     */
+    private static final int COUNT_OFFSET = 8;
+
+    /**
+     * The maximum number of elements moved through a temporary array at once, when shifting elements to the right.
+     */
+    private static final int MOVE_BLOCK_SIZE = 1024;
+
+    private static final MappedByteBuffer[] EMPTY_MAPPINGS = {};
+
+    private static final IntBuffer[] EMPTY_CHUNKS = {};
+
+    private final boolean readOnly;
+
+    private final int chunkShift;
+
+    private final int chunkMask;
+
+    /**
+     * The channel of the file, or null if this list is closed.
+     */
+    private FileChannel channel;
+
+    /**
+     * The mapped header of the file in big-endian order, or null if this list is read only or closed.
+     */
+    private MappedByteBuffer header;
+
+    /**
+     * The byte order of the elements in the file.
+     */
+    private ByteOrder order;
+
+    /**
+     * The mapped chunks; only the first chunkCount ones are used.
+     */
+    private MappedByteBuffer[] mappings = EMPTY_MAPPINGS;
+
+    /**
+     * Views of the mapped chunks.
+     */
+    private IntBuffer[] chunks = EMPTY_CHUNKS;
+
+    private int chunkCount;
+
+    /**
+     * The number of elements mapped.
+     */
+    private int capacity;
+
+    /**
+     * The number of elements this list contains.
+     */
+    private int size;
+
+    /**
+     * Opens a list mapping the specified file, read and write, with chunks of
+     * {@code 1 << }{@link #DEFAULT_CHUNK_SHIFT} elements.
+     * The file is created if it does not exist.
+     *
+     * @param path the file
+     * @throws java.io.IOException if an I/O error occurs
+     * @see #MappedIntList(Path, boolean, int)
+     */
+    public MappedIntList(@NotNull Path path) throws IOException {
+        this(path, false);
+    }
+
+    /**
+     * Opens a list mapping the specified file, with chunks of {@code 1 << }{@link #DEFAULT_CHUNK_SHIFT} elements.
+     *
+     * @param path     the file
+     * @param readOnly if the list is read only
+     * @throws java.io.IOException if an I/O error occurs
+     * @see #MappedIntList(Path, boolean, int)
+     */
+    public MappedIntList(@NotNull Path path, boolean readOnly) throws IOException {
+        this(path, readOnly, DEFAULT_CHUNK_SHIFT);
+    }
+
+    /**
+     * Opens a list mapping the specified file.
+     * <p>
+     * if readOnly == true, then the file must exist, and is mapped read only.
+     * <p>
+     * otherwise, the file is created if it does not exist, and is mapped read and write.
+     *
+     * @param path       the file
+     * @param readOnly   if the list is read only
+     * @param chunkShift log2 of the number of elements in a chunk, in [0, {@link #MAX_CHUNK_SHIFT}]
+     * @throws java.io.IOException                if an I/O error occurs
+     * @throws java.io.EOFException               if the file is shorter than its header says
+     * @throws java.lang.IllegalArgumentException if chunkShift is illegal, or the file is not a file of
+     *                                            {@code int}s
+     */
+    public MappedIntList(@NotNull Path path, boolean readOnly, int chunkShift) throws IOException {
+        if (chunkShift < 0 || chunkShift > MAX_CHUNK_SHIFT) {
+            throw new IllegalArgumentException("Illegal chunk shift: " + chunkShift);
+        }
+        this.readOnly = readOnly;
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1 << chunkShift) - 1;
+        if (readOnly) {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        } else {
+            this.channel = FileChannel.open(path,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+        }
+        try {
+            this.open();
+        } catch (IOException | RuntimeException e) {
+            this.channel.close();
+            throw e;
+        }
+    }
+
+    private void open() throws IOException {
+        final long fileSize = channel.size();
+        if (fileSize == 0 && !readOnly) {
+            header = channel.map(FileChannel.MapMode.READ_WRITE, 0, PrimitiveArrayIO.HEADER_SIZE);
+            PrimitiveArrayIO.putHeader(header, PrimitiveArrayIO.TYPE_INT, 0);
+            order = ByteOrder.nativeOrder();
+            size = 0;
+        } else {
+            if (fileSize < PrimitiveArrayIO.HEADER_SIZE) {
+                throw new EOFException("File too short: " + fileSize + " bytes");
+            }
+            final MappedByteBuffer mappedHeader = channel.map(
+                    readOnly ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE,
+                    0,
+                    PrimitiveArrayIO.HEADER_SIZE
+            );
+            size = PrimitiveArrayIO.getHeader(mappedHeader, PrimitiveArrayIO.TYPE_INT);
+            order = mappedHeader.order();
+            if (fileSize < PrimitiveArrayIO.sizeInBytes(PrimitiveArrayIO.TYPE_INT, size)) {
+                throw new EOFException("File too short: " + fileSize + " bytes, for " + size + " elements");
+            }
+            if (!readOnly) {
+                header = mappedHeader;
+            }
+        }
+        if (header != null) {
+            header.order(ByteOrder.BIG_ENDIAN);
+        }
+        mapChunks(size);
+    }
+
+    //-------------------- file --------------------
+
+    /**
+     * Writes the changes of this list to the storage device, by {@link MappedByteBuffer#force()}.
+     * Does nothing if this list is read only or closed.
+     */
+    public void force() {
+        if (header == null) {
+            return;
+        }
+        for (int i = 0; i < chunkCount; i++) {
+            mappings[i].force();
+        }
+        header.force();
+    }
+
+    /**
+     * Closes the file, and makes this list empty. A closed list can not be modified any longer.
+     * <p>
+     * Changes not forced by {@link #force()} are still written back to the file by the OS, but might be lost if
+     * the system crashes before that.
+     *
+     * @throws java.io.IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        modCount++;
+        try {
+            channel.close();
+        } finally {
+            channel = null;
+            header = null;
+            mappings = EMPTY_MAPPINGS;
+            chunks = EMPTY_CHUNKS;
+            chunkCount = 0;
+            capacity = 0;
+            size = 0;
+        }
+    }
+
+    /**
+     * Returns true if this list is read only.
+     *
+     * @return if this list is read only
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * Returns the number of elements this list can hold without mapping more chunks.
+     *
+     * @return capacity
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Increases the capacity of this list, if necessary, to ensure that it can hold at least the number of
+     * elements specified by the minimum capacity argument.
+     *
+     * @param minCapacity the desired minimum capacity
+     * @throws java.io.UncheckedIOException if an I/O error occurs
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > capacity) {
+            ensureWritable();
+            modCount++;
+            grow(minCapacity);
+        }
+    }
+
+    private void ensureWritable() {
+        if (channel == null) {
+            throw new IllegalStateException("List closed");
+        }
+        if (readOnly) {
+            throw new UnsupportedOperationException("List read only");
+        }
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_LIST_SIZE) {
+            // overflow
+            throw new OutOfMemoryError();
+        }
+        try {
+            mapChunks(minCapacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Maps chunks until capacity is at least minCapacity.
+     * The last chunk of a read only list only maps the elements in the file.
+     */
+    private void mapChunks(int minCapacity) throws IOException {
+        final long chunkBytes = (long) Integer.BYTES << chunkShift;
+        while (capacity < minCapacity) {
+            if (chunkCount == chunks.length) {
+                final int newLength = Math.max(4, chunkCount * 2);
+                mappings = Arrays.copyOf(mappings, newLength);
+                chunks = Arrays.copyOf(chunks, newLength);
+            }
+            final long position = PrimitiveArrayIO.HEADER_SIZE + chunkBytes * chunkCount;
+            final MappedByteBuffer mapping;
+            if (readOnly) {
+                final long end = PrimitiveArrayIO.sizeInBytes(PrimitiveArrayIO.TYPE_INT, size);
+                mapping = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(chunkBytes, end - position));
+            } else {
+                mapping = channel.map(FileChannel.MapMode.READ_WRITE, position, chunkBytes);
+            }
+            mapping.order(order);
+            mappings[chunkCount] = mapping;
+            chunks[chunkCount] = mapping.asIntBuffer();
+            capacity = (int) Math.min(MAX_LIST_SIZE, (long) capacity + chunks[chunkCount].capacity());
+            chunkCount++;
+        }
+    }
+
+    private void setSize(int newSize) {
+        size = newSize;
+        header.putLong(COUNT_OFFSET, newSize);
+    }
+
+    private int elementAt(int index) {
+        return chunks[index >>> chunkShift].get(index & chunkMask);
+    }
+
+    private void setElementAt(int index, int element) {
+        chunks[index >>> chunkShift].put(index & chunkMask, element);
+    }
+
+    /**
+     * Reads length elements from index on into the array, from offset on.
+     */
+    private void getElements(int index, int[] a, int offset, int length) {
+        for (int done = 0; done < length; ) {
+            final IntBuffer chunk = chunks[(index + done) >>> chunkShift].duplicate();
+            chunk.position((index + done) & chunkMask);
+            final int n = Math.min(length - done, chunk.remaining());
+            chunk.get(a, offset + done, n);
+            done += n;
+        }
+    }
+
+    /**
+     * Writes length elements of the array, from offset on, to this list from index on.
+     */
+    private void putElements(int index, int[] a, int offset, int length) {
+        for (int done = 0; done < length; ) {
+            final IntBuffer chunk = chunks[(index + done) >>> chunkShift].duplicate();
+            chunk.position((index + done) & chunkMask);
+            final int n = Math.min(length - done, chunk.remaining());
+            chunk.put(a, offset + done, n);
+            done += n;
+        }
+    }
+
+    //-------------------- list operations --------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void rangeCheck(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void rangeCheckForAdd(int index) {
+        if (index > size || index < 0) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+    }
+
+    /**
+     * Constructs an IndexOutOfBoundsException detail message.
+     *
+     * @param index index
+     * @return the message
+     */
+    public String outOfBoundsMsg(int index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPrimitive(int index) {
+        rangeCheck(index);
+        return elementAt(index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int setPrimitive(int index, int element) {
+        rangeCheck(index);
+        ensureWritable();
+        final int oldValue = elementAt(index);
+        setElementAt(index, element);
+        return oldValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addPrimitive(int e) {
+        ensureWritable();
+        modCount++;
+        final int s = size;
+        if (s == capacity) {
+            grow(s + 1);
+        }
+        setElementAt(s, e);
+        setSize(s + 1);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addPrimitive(int index, int element) {
+        rangeCheckForAdd(index);
+        ensureWritable();
+        modCount++;
+        final int s = size;
+        if (s == capacity) {
+            grow(s + 1);
+        }
+        if (index < s) {
+            // a bulk put between overlapping parts of one buffer may copy front to back, so move the tail back to
+            // front, a block at a time.
+            final int[] block = new int[Math.min(s - index, MOVE_BLOCK_SIZE)];
+            for (int end = s; end > index; ) {
+                final int start = Math.max(index, end - block.length);
+                getElements(start, block, 0, end - start);
+                putElements(start + 1, block, 0, end - start);
+                end = start;
+            }
+        }
+        setElementAt(index, element);
+        setSize(s + 1);
+    }
+
+    /**
+     * Appends all of the elements in the specified array to the end of
+     * this list, in order.
+     *
+     * @param intArray array containing elements to be added to this list
+     * @return {@code true} if this list changed as a result of the call
+     */
+    public boolean addAll(int[] intArray) {
+        ensureWritable();
+        modCount++;
+        final int numNew = intArray.length;
+        if (numNew == 0) {
+            return false;
+        }
+        final int s = size;
+        if (numNew > capacity - s) {
+            grow(s + numNew);
+        }
+        putElements(s, intArray, 0, numNew);
+        setSize(s + numNew);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addAll(Collection<? extends Integer> c) {
+        if (c instanceof IntCollection) {
+            return addAll(((IntCollection) c).toArrayPrimitive());
+        }
+        return super.addAll(c);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int removeByIndexPrimitive(int index) {
+        rangeCheck(index);
+        final int oldValue = elementAt(index);
+        removeRange(index, index + 1);
+        return oldValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeByContentPrimitive(int o) {
+        final int index = indexOfPrimitive(o);
+        if (index < 0) {
+            return false;
+        }
+        removeRange(index, index + 1);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Removes from this list all of the elements whose index is between
+     * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive.
+     * Shifts any succeeding elements to the left (reduces their index).
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "From Index: " + fromIndex + ", To Index: " + toIndex + ", Size: " + size);
+        }
+        ensureWritable();
+        modCount++;
+        final int s = size;
+        for (int i = fromIndex, j = toIndex; j < s; ) {
+            final IntBuffer src = chunks[j >>> chunkShift].duplicate();
+            src.position(j & chunkMask);
+            final IntBuffer dst = chunks[i >>> chunkShift].duplicate();
+            dst.position(i & chunkMask);
+            final int n = Math.min(s - j, Math.min(src.remaining(), dst.remaining()));
+            src.limit(src.position() + n);
+            dst.put(src);
+            i += n;
+            j += n;
+        }
+        setSize(s - (toIndex - fromIndex));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The file is not shrunk.
+     */
+    @Override
+    public void clear() {
+        ensureWritable();
+        modCount++;
+        setSize(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int indexOfPrimitive(int o) {
+        for (int i = 0, s = size; i < s; i++) {
+            if (elementAt(i) == o) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int lastIndexOfPrimitive(int o) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (elementAt(i) == o) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsPrimitive(int o) {
+        return indexOfPrimitive(o) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int[] toArrayPrimitive() {
+        final int s = size;
+        final int[] result = new int[s];
+        getElements(0, result, 0, s);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEach(Consumer<? super Integer> action) {
+        Objects.requireNonNull(action);
+        if (action instanceof IntConsumer) {
+            this.forEachPrimitive((IntConsumer) action);
+            return;
+        }
+        this.forEachPrimitive(action::accept);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachPrimitive(IntConsumer action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        final int s = size;
+        for (int i = 0; modCount == expectedModCount && i < s; i++) {
+            action.acceptPrimitive(elementAt(i));
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+}
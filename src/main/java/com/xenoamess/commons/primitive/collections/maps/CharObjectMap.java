@@ -0,0 +1,203 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xenoamess.commons.primitive.collections.maps;
+
+import com.xenoamess.commons.primitive.Primitive;
+import com.xenoamess.commons.primitive.functions.CharObjectConsumer;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * A {@code Map} whose keys are {@code char}.
+ * <p>
+ * It have functions dealing with {@code Character} for being a {@code Map},
+ * but nearly all of its functions have a replacement named XXXPrimitive.
+ * The basic idea is use XXXPrimitive functions whenever possible, and only use
+ * other functions when you have to.
+ *
+ * @param <V> the type of mapped values
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see Map
+ */
+public interface CharObjectMap<V> extends Map<Character, V>, Primitive {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default boolean containsKey(Object key) {
+        if (!(key instanceof Character)) {
+            return false;
+        }
+        return this.containsKeyPrimitive((Character) key);
+    }
+
+    /**
+     * Primitive replacement of containsKey(Object key)
+     *
+     * @param key key whose presence in this map is to be tested
+     * @return {@code true} if this map contains a mapping for the specified key
+     * @see #containsKey(Object)
+     */
+    boolean containsKeyPrimitive(char key);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default V get(Object key) {
+        if (!(key instanceof Character)) {
+            return null;
+        }
+        return this.getPrimitive((Character) key);
+    }
+
+    /**
+     * Primitive replacement of get(Object key)
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the value to which the specified key is mapped, or
+     * {@code null} if this map contains no mapping for the key
+     * @see #get(Object)
+     */
+    V getPrimitive(char key);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default V getOrDefault(Object key, V defaultValue) {
+        if (!(key instanceof Character)) {
+            return defaultValue;
+        }
+        return this.getOrDefaultPrimitive((Character) key, defaultValue);
+    }
+
+    /**
+     * Primitive replacement of getOrDefault(Object key, V defaultValue)
+     *
+     * @param key          the key whose associated value is to be returned
+     * @param defaultValue the default mapping of the key
+     * @return the value to which the specified key is mapped, or
+     * {@code defaultValue} if this map contains no mapping for the key
+     * @see #getOrDefault(Object, Object)
+     */
+    default V getOrDefaultPrimitive(char key, V defaultValue) {
+        V v;
+        return (((v = getPrimitive(key)) != null) || containsKeyPrimitive(key))
+                ? v
+                : defaultValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default V put(Character key, V value) {
+        return this.putPrimitive(key, value);
+    }
+
+    /**
+     * Primitive replacement of put(Character key, V value)
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the previous value associated with {@code key}, or
+     * {@code null} if there was no mapping for {@code key}.
+     * @see #put(Object, Object)
+     */
+    V putPrimitive(char key, V value);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default V putIfAbsent(Character key, V value) {
+        return this.putIfAbsentPrimitive(key, value);
+    }
+
+    /**
+     * Primitive replacement of putIfAbsent(Character key, V value)
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the previous value associated with the specified key, or
+     * {@code null} if there was no mapping for the key.
+     * @see #putIfAbsent(Object, Object)
+     */
+    default V putIfAbsentPrimitive(char key, V value) {
+        V v = getPrimitive(key);
+        if (v == null) {
+            v = putPrimitive(key, value);
+        }
+        return v;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default V remove(Object key) {
+        if (!(key instanceof Character)) {
+            return null;
+        }
+        return this.removePrimitive((Character) key);
+    }
+
+    /**
+     * Primitive replacement of remove(Object key)
+     *
+     * @param key key whose mapping is to be removed from the map
+     * @return the previous value associated with {@code key}, or
+     * {@code null} if there was no mapping for {@code key}.
+     * @see #remove(Object)
+     */
+    V removePrimitive(char key);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default void forEach(BiConsumer<? super Character, ? super V> action) {
+        Objects.requireNonNull(action);
+        if (action instanceof CharObjectConsumer) {
+            @SuppressWarnings("unchecked")
+            CharObjectConsumer<? super V> actionCharObjectConsumer = (CharObjectConsumer<? super V>) action;
+            this.forEachPrimitive(actionCharObjectConsumer);
+        } else {
+            this.forEachPrimitive(action::accept);
+        }
+    }
+
+    /**
+     * Primitive replacement of forEach(BiConsumer action)
+     *
+     * @param action The action to be performed for each entry
+     * @see #forEach(BiConsumer)
+     */
+    void forEachPrimitive(CharObjectConsumer<? super V> action);
+}
@@ -0,0 +1,212 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xenoamess.commons.primitive.collections.maps;
+
+import com.xenoamess.commons.primitive.Primitive;
+import com.xenoamess.commons.primitive.functions.DoubleDoubleConsumer;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * A {@code Map} whose keys and values are both {@code double}.
+ * <p>
+ * It have functions dealing with {@code Double} for being a {@code Map},
+ * but nearly all of its functions have a replacement named XXXPrimitive.
+ * The basic idea is use XXXPrimitive functions whenever possible, and only use
+ * other functions when you have to.
+ * <p>
+ * As a primitive value can never be {@code null}, functions like {@link #getPrimitive(double)}
+ * return {@link Primitive#DOUBLE_DEFAULT} if there is no mapping for the key.
+ * Use {@link #getOrDefaultPrimitive(double, double)} or {@link #containsKeyPrimitive(double)}
+ * if you need to know the difference.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see Map
+ */
+public interface DoubleDoubleMap extends Map<Double, Double>, Primitive {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default boolean containsKey(Object key) {
+        if (!(key instanceof Double)) {
+            return false;
+        }
+        return this.containsKeyPrimitive((Double) key);
+    }
+
+    /**
+     * Primitive replacement of containsKey(Object key)
+     *
+     * @param key key whose presence in this map is to be tested
+     * @return {@code true} if this map contains a mapping for the specified key
+     * @see #containsKey(Object)
+     */
+    boolean containsKeyPrimitive(double key);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default boolean containsValue(Object value) {
+        if (!(value instanceof Double)) {
+            return false;
+        }
+        return this.containsValuePrimitive((Double) value);
+    }
+
+    /**
+     * Primitive replacement of containsValue(Object value)
+     *
+     * @param value value whose presence in this map is to be tested
+     * @return {@code true} if this map maps one or more keys to the specified value
+     * @see #containsValue(Object)
+     */
+    boolean containsValuePrimitive(double value);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Double get(Object key) {
+        if (!(key instanceof Double)) {
+            return null;
+        }
+        final double keyPrimitive = (Double) key;
+        if (!this.containsKeyPrimitive(keyPrimitive)) {
+            return null;
+        }
+        return this.getPrimitive(keyPrimitive);
+    }
+
+    /**
+     * Primitive replacement of get(Object key)
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the value to which the specified key is mapped, or
+     * {@link Primitive#DOUBLE_DEFAULT} if this map contains no mapping for the key
+     * @see #get(Object)
+     */
+    default double getPrimitive(double key) {
+        return this.getOrDefaultPrimitive(key, DOUBLE_DEFAULT);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Double getOrDefault(Object key, Double defaultValue) {
+        if (!(key instanceof Double)) {
+            return defaultValue;
+        }
+        final double keyPrimitive = (Double) key;
+        if (!this.containsKeyPrimitive(keyPrimitive)) {
+            return defaultValue;
+        }
+        return this.getPrimitive(keyPrimitive);
+    }
+
+    /**
+     * Primitive replacement of getOrDefault(Object key, Double defaultValue)
+     *
+     * @param key          the key whose associated value is to be returned
+     * @param defaultValue the default mapping of the key
+     * @return the value to which the specified key is mapped, or
+     * {@code defaultValue} if this map contains no mapping for the key
+     * @see #getOrDefault(Object, Object)
+     */
+    double getOrDefaultPrimitive(double key, double defaultValue);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Double put(Double key, Double value) {
+        final double keyPrimitive = key;
+        final boolean existed = this.containsKeyPrimitive(keyPrimitive);
+        final double oldValue = this.putPrimitive(keyPrimitive, value);
+        return existed ? oldValue : null;
+    }
+
+    /**
+     * Primitive replacement of put(Double key, Double value)
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the previous value associated with {@code key}, or
+     * {@link Primitive#DOUBLE_DEFAULT} if there was no mapping for {@code key}.
+     * @see #put(Object, Object)
+     */
+    double putPrimitive(double key, double value);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Double remove(Object key) {
+        if (!(key instanceof Double)) {
+            return null;
+        }
+        final double keyPrimitive = (Double) key;
+        if (!this.containsKeyPrimitive(keyPrimitive)) {
+            return null;
+        }
+        return this.removePrimitive(keyPrimitive);
+    }
+
+    /**
+     * Primitive replacement of remove(Object key)
+     *
+     * @param key key whose mapping is to be removed from the map
+     * @return the previous value associated with {@code key}, or
+     * {@link Primitive#DOUBLE_DEFAULT} if there was no mapping for {@code key}.
+     * @see #remove(Object)
+     */
+    double removePrimitive(double key);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default void forEach(BiConsumer<? super Double, ? super Double> action) {
+        Objects.requireNonNull(action);
+        if (action instanceof DoubleDoubleConsumer) {
+            this.forEachPrimitive((DoubleDoubleConsumer) action);
+        } else {
+            this.forEachPrimitive(action::accept);
+        }
+    }
+
+    /**
+     * Primitive replacement of forEach(BiConsumer action)
+     *
+     * @param action The action to be performed for each entry
+     * @see #forEach(BiConsumer)
+     */
+    void forEachPrimitive(DoubleDoubleConsumer action);
+}
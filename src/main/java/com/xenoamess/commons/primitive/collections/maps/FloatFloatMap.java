@@ -0,0 +1,212 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xenoamess.commons.primitive.collections.maps;
+
+import com.xenoamess.commons.primitive.Primitive;
+import com.xenoamess.commons.primitive.functions.FloatFloatConsumer;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * A {@code Map} whose keys and values are both {@code float}.
+ * <p>
+ * It have functions dealing with {@code Float} for being a {@code Map},
+ * but nearly all of its functions have a replacement named XXXPrimitive.
+ * The basic idea is use XXXPrimitive functions whenever possible, and only use
+ * other functions when you have to.
+ * <p>
+ * As a primitive value can never be {@code null}, functions like {@link #getPrimitive(float)}
+ * return {@link Primitive#FLOAT_DEFAULT} if there is no mapping for the key.
+ * Use {@link #getOrDefaultPrimitive(float, float)} or {@link #containsKeyPrimitive(float)}
+ * if you need to know the difference.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see Map
+ */
+public interface FloatFloatMap extends Map<Float, Float>, Primitive {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default boolean containsKey(Object key) {
+        if (!(key instanceof Float)) {
+            return false;
+        }
+        return this.containsKeyPrimitive((Float) key);
+    }
+
+    /**
+     * Primitive replacement of containsKey(Object key)
+     *
+     * @param key key whose presence in this map is to be tested
+     * @return {@code true} if this map contains a mapping for the specified key
+     * @see #containsKey(Object)
+     */
+    boolean containsKeyPrimitive(float key);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default boolean containsValue(Object value) {
+        if (!(value instanceof Float)) {
+            return false;
+        }
+        return this.containsValuePrimitive((Float) value);
+    }
+
+    /**
+     * Primitive replacement of containsValue(Object value)
+     *
+     * @param value value whose presence in this map is to be tested
+     * @return {@code true} if this map maps one or more keys to the specified value
+     * @see #containsValue(Object)
+     */
+    boolean containsValuePrimitive(float value);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Float get(Object key) {
+        if (!(key instanceof Float)) {
+            return null;
+        }
+        final float keyPrimitive = (Float) key;
+        if (!this.containsKeyPrimitive(keyPrimitive)) {
+            return null;
+        }
+        return this.getPrimitive(keyPrimitive);
+    }
+
+    /**
+     * Primitive replacement of get(Object key)
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the value to which the specified key is mapped, or
+     * {@link Primitive#FLOAT_DEFAULT} if this map contains no mapping for the key
+     * @see #get(Object)
+     */
+    default float getPrimitive(float key) {
+        return this.getOrDefaultPrimitive(key, FLOAT_DEFAULT);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Float getOrDefault(Object key, Float defaultValue) {
+        if (!(key instanceof Float)) {
+            return defaultValue;
+        }
+        final float keyPrimitive = (Float) key;
+        if (!this.containsKeyPrimitive(keyPrimitive)) {
+            return defaultValue;
+        }
+        return this.getPrimitive(keyPrimitive);
+    }
+
+    /**
+     * Primitive replacement of getOrDefault(Object key, Float defaultValue)
+     *
+     * @param key          the key whose associated value is to be returned
+     * @param defaultValue the default mapping of the key
+     * @return the value to which the specified key is mapped, or
+     * {@code defaultValue} if this map contains no mapping for the key
+     * @see #getOrDefault(Object, Object)
+     */
+    float getOrDefaultPrimitive(float key, float defaultValue);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Float put(Float key, Float value) {
+        final float keyPrimitive = key;
+        final boolean existed = this.containsKeyPrimitive(keyPrimitive);
+        final float oldValue = this.putPrimitive(keyPrimitive, value);
+        return existed ? oldValue : null;
+    }
+
+    /**
+     * Primitive replacement of put(Float key, Float value)
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the previous value associated with {@code key}, or
+     * {@link Primitive#FLOAT_DEFAULT} if there was no mapping for {@code key}.
+     * @see #put(Object, Object)
+     */
+    float putPrimitive(float key, float value);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Float remove(Object key) {
+        if (!(key instanceof Float)) {
+            return null;
+        }
+        final float keyPrimitive = (Float) key;
+        if (!this.containsKeyPrimitive(keyPrimitive)) {
+            return null;
+        }
+        return this.removePrimitive(keyPrimitive);
+    }
+
+    /**
+     * Primitive replacement of remove(Object key)
+     *
+     * @param key key whose mapping is to be removed from the map
+     * @return the previous value associated with {@code key}, or
+     * {@link Primitive#FLOAT_DEFAULT} if there was no mapping for {@code key}.
+     * @see #remove(Object)
+     */
+    float removePrimitive(float key);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default void forEach(BiConsumer<? super Float, ? super Float> action) {
+        Objects.requireNonNull(action);
+        if (action instanceof FloatFloatConsumer) {
+            this.forEachPrimitive((FloatFloatConsumer) action);
+        } else {
+            this.forEachPrimitive(action::accept);
+        }
+    }
+
+    /**
+     * Primitive replacement of forEach(BiConsumer action)
+     *
+     * @param action The action to be performed for each entry
+     * @see #forEach(BiConsumer)
+     */
+    void forEachPrimitive(FloatFloatConsumer action);
+}
@@ -0,0 +1,200 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xenoamess.commons.primitive.collections.maps;
+
+import com.xenoamess.commons.primitive.Primitive;
+import com.xenoamess.commons.primitive.comparators.LongComparator;
+import java.util.SortedMap;
+
+/**
+ * A {@link LongObjectMap} that further provides a total ordering on its keys.
+ * <p>
+ * The keys are ordered using their natural ordering, or by a {@link LongComparator} typically
+ * provided at sorted map creation time. The collection views of the map traverse the map in ascending key order.
+ * <p>
+ * Besides the functions of {@link SortedMap}, it provides primitive navigation functions
+ * ({@link #floorKeyPrimitive(long, long)}, {@link #ceilingKeyPrimitive(long, long)} and so on), which return a
+ * caller-given default value instead of {@code null} when there is no such key.
+ *
+ * @param <V> the type of mapped values
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see SortedMap
+ * @see LongObjectMap
+ */
+public interface LongObjectSortedMap<V> extends LongObjectMap<V>, SortedMap<Long, V>, Primitive {
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the comparator used to order the keys in this map,
+     * or {@code null} if this map uses the natural ordering of its keys
+     */
+    @Override
+    LongComparator comparator();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Long firstKey() {
+        return this.firstKeyPrimitive();
+    }
+
+    /**
+     * Primitive replacement of firstKey()
+     *
+     * @return the first (lowest) key currently in this map
+     * @throws java.util.NoSuchElementException if this map is empty
+     * @see #firstKey()
+     */
+    long firstKeyPrimitive();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Long lastKey() {
+        return this.lastKeyPrimitive();
+    }
+
+    /**
+     * Primitive replacement of lastKey()
+     *
+     * @return the last (highest) key currently in this map
+     * @throws java.util.NoSuchElementException if this map is empty
+     * @see #lastKey()
+     */
+    long lastKeyPrimitive();
+
+    /**
+     * Returns the greatest key in this map less than or equal to the given key,
+     * or {@code defaultValue} if there is no such key.
+     *
+     * @param key          the key to match
+     * @param defaultValue the value to return if there is no such key
+     * @return the greatest key less than or equal to {@code key},
+     * or {@code defaultValue} if there is no such key
+     * @see java.util.NavigableMap#floorKey(Object)
+     */
+    long floorKeyPrimitive(long key, long defaultValue);
+
+    /**
+     * Returns the least key in this map greater than or equal to the given key,
+     * or {@code defaultValue} if there is no such key.
+     *
+     * @param key          the key to match
+     * @param defaultValue the value to return if there is no such key
+     * @return the least key greater than or equal to {@code key},
+     * or {@code defaultValue} if there is no such key
+     * @see java.util.NavigableMap#ceilingKey(Object)
+     */
+    long ceilingKeyPrimitive(long key, long defaultValue);
+
+    /**
+     * Returns the greatest key in this map strictly less than the given key,
+     * or {@code defaultValue} if there is no such key.
+     *
+     * @param key          the key to match
+     * @param defaultValue the value to return if there is no such key
+     * @return the greatest key less than {@code key},
+     * or {@code defaultValue} if there is no such key
+     * @see java.util.NavigableMap#lowerKey(Object)
+     */
+    long lowerKeyPrimitive(long key, long defaultValue);
+
+    /**
+     * Returns the least key in this map strictly greater than the given key,
+     * or {@code defaultValue} if there is no such key.
+     *
+     * @param key          the key to match
+     * @param defaultValue the value to return if there is no such key
+     * @return the least key greater than {@code key},
+     * or {@code defaultValue} if there is no such key
+     * @see java.util.NavigableMap#higherKey(Object)
+     */
+    long higherKeyPrimitive(long key, long defaultValue);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default LongObjectSortedMap<V> subMap(Long fromKey, Long toKey) {
+        return this.subMapPrimitive(fromKey, toKey);
+    }
+
+    /**
+     * Primitive replacement of subMap(Long fromKey, Long toKey)
+     *
+     * @param fromKey low endpoint (inclusive) of the keys in the returned map
+     * @param toKey   high endpoint (exclusive) of the keys in the returned map
+     * @return a view of the portion of this map whose keys range from
+     * {@code fromKey}, inclusive, to {@code toKey}, exclusive
+     * @throws java.lang.IllegalArgumentException if {@code fromKey} is greater than
+     *                                            {@code toKey}; or if this map itself has a restricted
+     *                                            range, and {@code fromKey} or {@code toKey} lies
+     *                                            outside the bounds of the range
+     * @see #subMap(Long, Long)
+     */
+    LongObjectSortedMap<V> subMapPrimitive(long fromKey, long toKey);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default LongObjectSortedMap<V> headMap(Long toKey) {
+        return this.headMapPrimitive(toKey);
+    }
+
+    /**
+     * Primitive replacement of headMap(Long toKey)
+     *
+     * @param toKey high endpoint (exclusive) of the keys in the returned map
+     * @return a view of the portion of this map whose keys are strictly less than {@code toKey}
+     * @throws java.lang.IllegalArgumentException if this map itself has a restricted
+     *                                            range, and {@code toKey} lies outside the bounds of the range
+     * @see #headMap(Long)
+     */
+    LongObjectSortedMap<V> headMapPrimitive(long toKey);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default LongObjectSortedMap<V> tailMap(Long fromKey) {
+        return this.tailMapPrimitive(fromKey);
+    }
+
+    /**
+     * Primitive replacement of tailMap(Long fromKey)
+     *
+     * @param fromKey low endpoint (inclusive) of the keys in the returned map
+     * @return a view of the portion of this map whose keys are greater than or equal to {@code fromKey}
+     * @throws java.lang.IllegalArgumentException if this map itself has a restricted
+     *                                            range, and {@code fromKey} lies outside the bounds of the range
+     * @see #tailMap(Long)
+     */
+    LongObjectSortedMap<V> tailMapPrimitive(long fromKey);
+}
@@ -0,0 +1,1190 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xenoamess.commons.primitive.collections.maps.concurrent_hash_maps;
+
+import com.xenoamess.commons.primitive.Primitive;
+import com.xenoamess.commons.primitive.collections.HashCommon;
+import com.xenoamess.commons.primitive.collections.maps.LongLongMap;
+import com.xenoamess.commons.primitive.functions.LongLongConsumer;
+import com.xenoamess.commons.primitive.functions.LongUnaryOperator;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * A hash table supporting full concurrency of retrievals and high expected concurrency for updates,
+ * whose keys and values are {@code long}.
+ * <p>
+ * This class aims to reduce performance issue of autoboxing and unboxing.
+ * <p>
+ * This class is designed to be a replacement to {@code ConcurrentHashMap<Long, Long>}, and
+ * {@code ConcurrentHashMap<Long, LongAdder>} when used as a table of counters (see {@link #addTo(long, long)}).
+ * <p>
+ * The table is divided into segments, by the high bits of the hash of the keys. Every segment is an open
+ * addressing hash table with linear probing like {@code LongLongHashMap}, but keeps keys and values interleaved in
+ * one {@link AtomicLongArray}, so there is no object for any entry, and a key and its value are usually in the same
+ * cache line. Updates lock the segment they touch, so updates to different segments never contend.
+ * <p>
+ * Retrievals do not lock. A new entry is published by writing its value before its key, and a resize builds a new
+ * array and publishes it through a volatile field, so neither blocks readers. A removal shifts the following
+ * entries of the cluster back, in place; it makes the version of its segment odd while shifting, so readers
+ * can tell and retry (and lock the segment only after failing several times).
+ * <p>
+ * Like {@code ConcurrentHashMap}, the iterators of the collection views and {@link #forEachPrimitive} are
+ * weakly consistent: they take a snapshot of one segment at a time, never throw
+ * {@link java.util.ConcurrentModificationException}, and may or may not reflect modifications after their creation.
+ * {@link #size()} is a sum of the sizes of the segments, and is only an estimate when updates are in progress.
+ * <p>
+ * It have functions dealing with {@code Long} for being a {@code Map},
+ * but nearly all of its functions have a replacement named XXXPrimitive.
+ * The basic idea is use XXXPrimitive functions whenever possible, and only use
+ * other functions when you have to.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see ConcurrentHashMap
+ * @see LongLongMap
+ */
+public class ConcurrentLongLongHashMap extends AbstractMap<Long, Long>
+        implements LongLongMap, ConcurrentMap<Long, Long>, java.io.Serializable, Primitive {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The default count of segments.
+     */
+    public static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+    /**
+     * The maximum count of segments.
+     */
+    static final int MAX_SEGMENTS = 1 << 16;
+
+    /**
+     * How many times a lock free read retries, before it locks the segment.
+     */
+    static final int MAX_READ_RETRIES = 8;
+
+    /**
+     * The segments, each of which is a hash table.
+     */
+    transient Segment[] segments;
+
+    /**
+     * Shift value for indexing within segments.
+     */
+    transient int segmentShift;
+
+    /**
+     * Mask value for indexing into segments.
+     */
+    transient int segmentMask;
+
+    /**
+     * The load factor of the tables of the segments.
+     *
+     * @serial
+     */
+    final float loadFactor;
+
+    /**
+     * The count of segments.
+     *
+     * @serial
+     */
+    final int concurrencyLevel;
+
+    /**
+     * Constructs an empty map with the specified expected size, load factor and concurrency level.
+     *
+     * @param expected         the expected number of entries in the map
+     * @param loadFactor       the load factor
+     * @param concurrencyLevel the estimated number of concurrently updating threads, which will be rounded up to a
+     *                         power of two as the count of segments
+     * @throws java.lang.IllegalArgumentException if expected is negative, loadFactor is not in (0, 1), or
+     *                                            concurrencyLevel is not positive
+     */
+    public ConcurrentLongLongHashMap(int expected, float loadFactor, int concurrencyLevel) {
+        HashCommon.checkLoadFactor(loadFactor);
+        if (expected < 0) {
+            throw new IllegalArgumentException("Illegal expected size: " + expected);
+        }
+        if (concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("Illegal concurrency level: " + concurrencyLevel);
+        }
+        this.loadFactor = loadFactor;
+        this.concurrencyLevel = HashCommon.nextPowerOfTwo(Math.min(concurrencyLevel, MAX_SEGMENTS));
+        this.initSegments(expected);
+    }
+
+    /**
+     * Constructs an empty map with the specified expected size, the default load factor (0.75) and the default
+     * concurrency level (16).
+     *
+     * @param expected the expected number of entries in the map
+     * @throws java.lang.IllegalArgumentException if expected is negative
+     */
+    public ConcurrentLongLongHashMap(int expected) {
+        this(expected, HashCommon.DEFAULT_LOAD_FACTOR, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Constructs an empty map with the default initial capacity (16), the default load factor (0.75) and the
+     * default concurrency level (16).
+     */
+    public ConcurrentLongLongHashMap() {
+        this(HashCommon.DEFAULT_INITIAL_CAPACITY, HashCommon.DEFAULT_LOAD_FACTOR, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Constructs a new map with the same mappings as the specified {@code Map}.
+     *
+     * @param m the map whose mappings are to be placed in this map
+     * @throws java.lang.NullPointerException if the specified map is null, or contains null keys or values
+     */
+    public ConcurrentLongLongHashMap(Map<? extends Long, ? extends Long> m) {
+        this(Math.max(m.size(), HashCommon.DEFAULT_INITIAL_CAPACITY), HashCommon.DEFAULT_LOAD_FACTOR,
+                DEFAULT_CONCURRENCY_LEVEL);
+        this.putAll(m);
+    }
+
+    private void initSegments(int expected) {
+        final int count = this.concurrencyLevel;
+        this.segmentShift = 32 - Integer.numberOfTrailingZeros(count);
+        this.segmentMask = count - 1;
+        final Segment[] segments = new Segment[count];
+        final int perSegment = (int) Math.min(Integer.MAX_VALUE, ((long) expected + count - 1) / count);
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(perSegment, loadFactor);
+        }
+        this.segments = segments;
+    }
+
+    private Segment segmentFor(int h) {
+        // the high bits choose the segment, and the low bits are used inside the segment.
+        return segments[(h >>> segmentShift) & segmentMask];
+    }
+
+    /**
+     * A segment of the map, which is an open addressing hash table, whose updates are guarded by the monitor of the
+     * segment.
+     * <p>
+     * The key equal to {@link Primitive#LONG_DEFAULT} marks empty slots in the table, thus is kept aside, in
+     * {@link #freeValue}. In the methods whose names start with "locked", the position of the free key is the
+     * length of the table.
+     */
+    static final class Segment {
+        final float loadFactor;
+
+        /**
+         * The table. The key of position {@code i} is at {@code 2 * i}, and the value at {@code 2 * i + 1}.
+         * Never modified after replaced by a new table.
+         */
+        volatile AtomicLongArray table;
+
+        /**
+         * Odd while entries of the table are being moved.
+         */
+        volatile int version;
+
+        volatile boolean containsFreeKey;
+
+        volatile long freeValue;
+
+        /**
+         * The number of entries, including the free key. Only written under the lock.
+         */
+        volatile int size;
+
+        /**
+         * Threshold after which we rehash. Only used under the lock.
+         */
+        int maxFill;
+
+        Segment(int expected, float loadFactor) {
+            this.loadFactor = loadFactor;
+            final int n = HashCommon.arraySize(expected, loadFactor);
+            this.maxFill = maxFill(n, loadFactor);
+            this.table = new AtomicLongArray(n << 1);
+        }
+
+        /**
+         * The threshold of a table of n positions. At least one position stays free until the table is replaced,
+         * as a lock-free reader may still be probing it, and only stops at a free position.
+         */
+        private static int maxFill(final int n, final float loadFactor) {
+            return Math.min(HashCommon.maxFill(n, loadFactor), n - 2);
+        }
+
+        /**
+         * find the position of a key in a table. The key must not be the free key.
+         *
+         * @param t the table
+         * @param k the key
+         * @param h the hash of the key
+         * @return the position of the key, or -(insertion point) - 1 if the key is absent
+         */
+        static int find(final AtomicLongArray t, final long k, final int h) {
+            final int mask = (t.length() >>> 1) - 1;
+            int pos = h & mask;
+            for (int probes = 0; probes <= mask; probes++) {
+                final long curr = t.get(pos << 1);
+                if (HashCommon.isFreeKey(curr)) {
+                    return -(pos + 1);
+                }
+                if (HashCommon.keyEquals(k, curr)) {
+                    return pos;
+                }
+                pos = (pos + 1) & mask;
+            }
+            // a table always keeps a free position, so this is only reached by a lock-free reader whose table
+            // changed under it; the retry on the version decides.
+            return -(pos + 1);
+        }
+
+        boolean containsKey(final long k, final int h) {
+            if (HashCommon.isFreeKey(k)) {
+                return containsFreeKey;
+            }
+            for (int retries = 0; retries < MAX_READ_RETRIES; retries++) {
+                final int v = version;
+                if ((v & 1) == 0) {
+                    final boolean result = find(table, k, h) >= 0;
+                    if (version == v) {
+                        return result;
+                    }
+                }
+            }
+            synchronized (this) {
+                return find(table, k, h) >= 0;
+            }
+        }
+
+        long getOrDefault(final long k, final int h, final long defaultValue) {
+            if (HashCommon.isFreeKey(k)) {
+                return containsFreeKey ? freeValue : defaultValue;
+            }
+            for (int retries = 0; retries < MAX_READ_RETRIES; retries++) {
+                final int v = version;
+                if ((v & 1) == 0) {
+                    final AtomicLongArray t = table;
+                    final int pos = find(t, k, h);
+                    final long result = pos < 0 ? defaultValue : t.get((pos << 1) + 1);
+                    if (version == v) {
+                        return result;
+                    }
+                }
+            }
+            synchronized (this) {
+                final AtomicLongArray t = table;
+                final int pos = find(t, k, h);
+                return pos < 0 ? defaultValue : t.get((pos << 1) + 1);
+            }
+        }
+
+        Long getBoxed(final long k, final int h) {
+            if (HashCommon.isFreeKey(k)) {
+                return containsFreeKey ? freeValue : null;
+            }
+            for (int retries = 0; retries < MAX_READ_RETRIES; retries++) {
+                final int v = version;
+                if ((v & 1) == 0) {
+                    final AtomicLongArray t = table;
+                    final int pos = find(t, k, h);
+                    final long result = pos < 0 ? LONG_DEFAULT : t.get((pos << 1) + 1);
+                    if (version == v) {
+                        return pos < 0 ? null : result;
+                    }
+                }
+            }
+            synchronized (this) {
+                final AtomicLongArray t = table;
+                final int pos = find(t, k, h);
+                return pos < 0 ? null : t.get((pos << 1) + 1);
+            }
+        }
+
+        /**
+         * Takes a snapshot of the entries of this segment, keys at even indexes and values at odd indexes.
+         */
+        long[] snapshot() {
+            for (int retries = 0; retries < MAX_READ_RETRIES; retries++) {
+                final int v = version;
+                if ((v & 1) == 0) {
+                    final long[] result = snapshot(table);
+                    if (version == v) {
+                        return result;
+                    }
+                }
+            }
+            synchronized (this) {
+                return snapshot(table);
+            }
+        }
+
+        private long[] snapshot(final AtomicLongArray t) {
+            long[] result = new long[(size + 1) << 1];
+            int i = 0;
+            if (containsFreeKey) {
+                result[i++] = LONG_DEFAULT;
+                result[i++] = freeValue;
+            }
+            for (int pos = 0, length = t.length(); pos < length; pos += 2) {
+                final long k = t.get(pos);
+                if (!HashCommon.isFreeKey(k)) {
+                    if (i == result.length) {
+                        result = Arrays.copyOf(result, result.length << 1);
+                    }
+                    result[i++] = k;
+                    result[i++] = t.get(pos + 1);
+                }
+            }
+            return i == result.length ? result : Arrays.copyOf(result, i);
+        }
+
+        int lockedFind(final long k, final int h) {
+            final AtomicLongArray t = table;
+            if (HashCommon.isFreeKey(k)) {
+                final int n = t.length() >>> 1;
+                return containsFreeKey ? n : -(n + 1);
+            }
+            return find(t, k, h);
+        }
+
+        long lockedGet(final int pos) {
+            final AtomicLongArray t = table;
+            return pos == t.length() >>> 1 ? freeValue : t.get((pos << 1) + 1);
+        }
+
+        void lockedSet(final int pos, final long value) {
+            final AtomicLongArray t = table;
+            if (pos == t.length() >>> 1) {
+                freeValue = value;
+            } else {
+                t.set((pos << 1) + 1, value);
+            }
+        }
+
+        void lockedInsert(final int pos, final long k, final long value) {
+            final AtomicLongArray t = table;
+            if (pos == t.length() >>> 1) {
+                freeValue = value;
+                containsFreeKey = true;
+            } else {
+                // the value must be visible before the key.
+                t.lazySet((pos << 1) + 1, value);
+                t.set(pos << 1, k);
+            }
+            if (size++ >= maxFill) {
+                rehash(HashCommon.arraySize(size + 1, loadFactor));
+            }
+        }
+
+        long lockedRemove(final int pos) {
+            final AtomicLongArray t = table;
+            final long oldValue;
+            if (pos == t.length() >>> 1) {
+                oldValue = freeValue;
+                containsFreeKey = false;
+            } else {
+                oldValue = t.get((pos << 1) + 1);
+                version++;
+                shiftKeys(t, pos);
+                version++;
+            }
+            size--;
+            return oldValue;
+        }
+
+        void lockedClear() {
+            if (size == 0) {
+                return;
+            }
+            final int n = table.length() >>> 1;
+            containsFreeKey = false;
+            table = new AtomicLongArray(n << 1);
+            size = 0;
+        }
+
+        /**
+         * Shifts left entries with the specified hash code, starting at the specified position, and empties the
+         * resulting free entry.
+         *
+         * @param t   the table
+         * @param pos a starting position
+         */
+        private static void shiftKeys(final AtomicLongArray t, int pos) {
+            final int mask = (t.length() >>> 1) - 1;
+            int last;
+            int slot;
+            long curr;
+            while (true) {
+                pos = ((last = pos) + 1) & mask;
+                while (true) {
+                    if (HashCommon.isFreeKey(curr = t.get(pos << 1))) {
+                        t.lazySet(last << 1, LONG_DEFAULT);
+                        return;
+                    }
+                    slot = HashCommon.hash(curr) & mask;
+                    if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) {
+                        break;
+                    }
+                    pos = (pos + 1) & mask;
+                }
+                t.lazySet((last << 1) + 1, t.get((pos << 1) + 1));
+                t.lazySet(last << 1, curr);
+            }
+        }
+
+        /**
+         * Rehashes the segment to a new table, and publishes it.
+         *
+         * @param newN the new table length, must be a power of 2
+         */
+        private void rehash(final int newN) {
+            final AtomicLongArray t = table;
+            final AtomicLongArray newT = new AtomicLongArray(newN << 1);
+            final int newMask = newN - 1;
+            for (int i = 0, length = t.length(); i < length; i += 2) {
+                final long k = t.get(i);
+                if (HashCommon.isFreeKey(k)) {
+                    continue;
+                }
+                int pos = HashCommon.hash(k) & newMask;
+                while (!HashCommon.isFreeKey(newT.get(pos << 1))) {
+                    pos = (pos + 1) & newMask;
+                }
+                newT.lazySet(pos << 1, k);
+                newT.lazySet((pos << 1) + 1, t.get(i + 1));
+            }
+            maxFill = maxFill(newN, loadFactor);
+            table = newT;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        long sum = 0;
+        for (Segment segment : segments) {
+            sum += segment.size;
+        }
+        return (int) Math.min(sum, Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        for (Segment segment : segments) {
+            if (segment.size != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(Object key) {
+        return LongLongMap.super.containsKey(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKeyPrimitive(long key) {
+        final int h = HashCommon.hash(key);
+        return segmentFor(h).containsKey(key, h);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsValue(Object value) {
+        return LongLongMap.super.containsValue(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsValuePrimitive(long value) {
+        for (Segment segment : segments) {
+            final long[] snapshot = segment.snapshot();
+            for (int i = 1; i < snapshot.length; i += 2) {
+                if (HashCommon.keyEquals(snapshot[i], value)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long get(Object key) {
+        if (!(key instanceof Long)) {
+            return null;
+        }
+        final long k = (Long) key;
+        final int h = HashCommon.hash(k);
+        return segmentFor(h).getBoxed(k, h);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getPrimitive(long key) {
+        return this.getOrDefaultPrimitive(key, LONG_DEFAULT);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getOrDefault(Object key, Long defaultValue) {
+        final Long result = this.get(key);
+        return result == null ? defaultValue : result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getOrDefaultPrimitive(long key, long defaultValue) {
+        final int h = HashCommon.hash(key);
+        return segmentFor(h).getOrDefault(key, h, defaultValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long put(Long key, Long value) {
+        final long k = key;
+        final long v = value;
+        final int h = HashCommon.hash(k);
+        final Segment segment = segmentFor(h);
+        synchronized (segment) {
+            final int pos = segment.lockedFind(k, h);
+            if (pos < 0) {
+                segment.lockedInsert(-pos - 1, k, v);
+                return null;
+            }
+            final long oldValue = segment.lockedGet(pos);
+            segment.lockedSet(pos, v);
+            return oldValue;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long putPrimitive(long key, long value) {
+        final int h = HashCommon.hash(key);
+        final Segment segment = segmentFor(h);
+        synchronized (segment) {
+            final int pos = segment.lockedFind(key, h);
+            if (pos < 0) {
+                segment.lockedInsert(-pos - 1, key, value);
+                return LONG_DEFAULT;
+            }
+            final long oldValue = segment.lockedGet(pos);
+            segment.lockedSet(pos, value);
+            return oldValue;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long putIfAbsent(Long key, Long value) {
+        final long k = key;
+        final long v = value;
+        final int h = HashCommon.hash(k);
+        final Segment segment = segmentFor(h);
+        synchronized (segment) {
+            final int pos = segment.lockedFind(k, h);
+            if (pos < 0) {
+                segment.lockedInsert(-pos - 1, k, v);
+                return null;
+            }
+            return segment.lockedGet(pos);
+        }
+    }
+
+    /**
+     * Primitive replacement of putIfAbsent(Long key, Long value)
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the previous value associated with the specified key, or
+     * {@link Primitive#LONG_DEFAULT} if there was no mapping for the key.
+     * @see #putIfAbsent(Long, Long)
+     */
+    public long putIfAbsentPrimitive(long key, long value) {
+        final int h = HashCommon.hash(key);
+        final Segment segment = segmentFor(h);
+        synchronized (segment) {
+            final int pos = segment.lockedFind(key, h);
+            if (pos < 0) {
+                segment.lockedInsert(-pos - 1, key, value);
+                return LONG_DEFAULT;
+            }
+            return segment.lockedGet(pos);
+        }
+    }
+
+    /**
+     * Atomically adds an increment to the value associated with a key.
+     * If the key is absent, it is associated with {@code delta}, as if it was associated with
+     * {@link Primitive#LONG_DEFAULT} before.
+     *
+     * @param key   the key
+     * @param delta the increment
+     * @return the previous value associated with the key, or {@link Primitive#LONG_DEFAULT} if there was no
+     * mapping for the key.
+     */
+    public long addTo(long key, long delta) {
+        final int h = HashCommon.hash(key);
+        final Segment segment = segmentFor(h);
+        synchronized (segment) {
+            final int pos = segment.lockedFind(key, h);
+            if (pos < 0) {
+                segment.lockedInsert(-pos - 1, key, LONG_DEFAULT + delta);
+                return LONG_DEFAULT;
+            }
+            final long oldValue = segment.lockedGet(pos);
+            segment.lockedSet(pos, oldValue + delta);
+            return oldValue;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The whole invocation is performed atomically, with the segment of the key locked, so the function should be
+     * short and simple, and must not update this map.
+     */
+    @Override
+    public Long computeIfAbsent(Long key, Function<? super Long, ? extends Long> mappingFunction) {
+        Objects.requireNonNull(mappingFunction);
+        if (mappingFunction instanceof LongUnaryOperator) {
+            return this.computeIfAbsentPrimitive(key, (LongUnaryOperator) mappingFunction);
+        }
+        final long k = key;
+        final int h = HashCommon.hash(k);
+        final Segment segment = segmentFor(h);
+        final Long existed = segment.getBoxed(k, h);
+        if (existed != null) {
+            return existed;
+        }
+        synchronized (segment) {
+            int pos = segment.lockedFind(k, h);
+            if (pos >= 0) {
+                return segment.lockedGet(pos);
+            }
+            final Long value = mappingFunction.apply(key);
+            if (value == null) {
+                return null;
+            }
+            pos = segment.lockedFind(k, h);
+            if (pos >= 0) {
+                throw new IllegalStateException("Recursive update");
+            }
+            segment.lockedInsert(-pos - 1, k, value);
+            return value;
+        }
+    }
+
+    /**
+     * Primitive replacement of computeIfAbsent(Long key, Function mappingFunction)
+     * <p>
+     * If the specified key is not already associated with a value, attempts to compute its value using the given
+     * mapping function and enters it into this map.
+     * The whole invocation is performed atomically, with the segment of the key locked, so the function should be
+     * short and simple, and must not update this map.
+     *
+     * @param key             key with which the specified value is to be associated
+     * @param mappingFunction the function to compute a value
+     * @return the current (existing or computed) value associated with the specified key
+     * @throws java.lang.NullPointerException  if the mappingFunction is null
+     * @throws java.lang.IllegalStateException if the mappingFunction updated the mapping of the key
+     * @see #computeIfAbsent(Long, Function)
+     */
+    public long computeIfAbsentPrimitive(long key, LongUnaryOperator mappingFunction) {
+        Objects.requireNonNull(mappingFunction);
+        final int h = HashCommon.hash(key);
+        final Segment segment = segmentFor(h);
+        // a value other than the default value can only be read from an existing mapping.
+        final long existed = segment.getOrDefault(key, h, LONG_DEFAULT);
+        if (existed != LONG_DEFAULT) {
+            return existed;
+        }
+        synchronized (segment) {
+            int pos = segment.lockedFind(key, h);
+            if (pos >= 0) {
+                return segment.lockedGet(pos);
+            }
+            final long value = mappingFunction.applyPrimitive(key);
+            pos = segment.lockedFind(key, h);
+            if (pos >= 0) {
+                throw new IllegalStateException("Recursive update");
+            }
+            segment.lockedInsert(-pos - 1, key, value);
+            return value;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long remove(Object key) {
+        if (!(key instanceof Long)) {
+            return null;
+        }
+        final long k = (Long) key;
+        final int h = HashCommon.hash(k);
+        final Segment segment = segmentFor(h);
+        synchronized (segment) {
+            final int pos = segment.lockedFind(k, h);
+            return pos < 0 ? null : segment.lockedRemove(pos);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long removePrimitive(long key) {
+        final int h = HashCommon.hash(key);
+        final Segment segment = segmentFor(h);
+        synchronized (segment) {
+            final int pos = segment.lockedFind(key, h);
+            return pos < 0 ? LONG_DEFAULT : segment.lockedRemove(pos);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remove(Object key, Object value) {
+        if (!(key instanceof Long) || !(value instanceof Long)) {
+            return false;
+        }
+        return this.removePrimitive((Long) key, (Long) value);
+    }
+
+    /**
+     * Primitive replacement of remove(Object key, Object value)
+     *
+     * @param key   key with which the specified value is associated
+     * @param value value expected to be associated with the specified key
+     * @return {@code true} if the value was removed
+     * @see #remove(Object, Object)
+     */
+    public boolean removePrimitive(long key, long value) {
+        final int h = HashCommon.hash(key);
+        final Segment segment = segmentFor(h);
+        synchronized (segment) {
+            final int pos = segment.lockedFind(key, h);
+            if (pos < 0 || !HashCommon.keyEquals(segment.lockedGet(pos), value)) {
+                return false;
+            }
+            segment.lockedRemove(pos);
+            return true;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean replace(Long key, Long oldValue, Long newValue) {
+        Objects.requireNonNull(oldValue);
+        return this.replacePrimitive(key, oldValue, newValue);
+    }
+
+    /**
+     * Primitive replacement of replace(Long key, Long oldValue, Long newValue)
+     *
+     * @param key      key with which the specified value is associated
+     * @param oldValue value expected to be associated with the specified key
+     * @param newValue value to be associated with the specified key
+     * @return {@code true} if the value was replaced
+     * @see #replace(Long, Long, Long)
+     */
+    public boolean replacePrimitive(long key, long oldValue, long newValue) {
+        final int h = HashCommon.hash(key);
+        final Segment segment = segmentFor(h);
+        synchronized (segment) {
+            final int pos = segment.lockedFind(key, h);
+            if (pos < 0 || !HashCommon.keyEquals(segment.lockedGet(pos), oldValue)) {
+                return false;
+            }
+            segment.lockedSet(pos, newValue);
+            return true;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long replace(Long key, Long value) {
+        final long k = key;
+        final long v = value;
+        final int h = HashCommon.hash(k);
+        final Segment segment = segmentFor(h);
+        synchronized (segment) {
+            final int pos = segment.lockedFind(k, h);
+            if (pos < 0) {
+                return null;
+            }
+            final long oldValue = segment.lockedGet(pos);
+            segment.lockedSet(pos, v);
+            return oldValue;
+        }
+    }
+
+    /**
+     * Primitive replacement of replace(Long key, Long value)
+     *
+     * @param key   key with which the specified value is associated
+     * @param value value to be associated with the specified key
+     * @return the previous value associated with the specified key, or
+     * {@link Primitive#LONG_DEFAULT} if there was no mapping for the key.
+     * @see #replace(Long, Long)
+     */
+    public long replacePrimitive(long key, long value) {
+        final int h = HashCommon.hash(key);
+        final Segment segment = segmentFor(h);
+        synchronized (segment) {
+            final int pos = segment.lockedFind(key, h);
+            if (pos < 0) {
+                return LONG_DEFAULT;
+            }
+            final long oldValue = segment.lockedGet(pos);
+            segment.lockedSet(pos, value);
+            return oldValue;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Segments are cleared one by one, so entries put during the invocation may remain.
+     */
+    @Override
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.lockedClear();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEach(BiConsumer<? super Long, ? super Long> action) {
+        LongLongMap.super.forEach(action);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Weakly consistent: every segment is visited by a snapshot of it, so the action can update this map.
+     */
+    @Override
+    public void forEachPrimitive(LongLongConsumer action) {
+        Objects.requireNonNull(action);
+        for (Segment segment : segments) {
+            final long[] snapshot = segment.snapshot();
+            for (int i = 0; i < snapshot.length; i += 2) {
+                action.acceptPrimitive(snapshot[i], snapshot[i + 1]);
+            }
+        }
+    }
+
+    /**
+     * A snapshot of an entry. {@link #setValue} writes through to the map.
+     */
+    final class MapEntry implements Map.Entry<Long, Long> {
+        final long key;
+        long value;
+
+        MapEntry(final long key, final long value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        /**
+         * Primitive replacement of getKey()
+         *
+         * @return the key corresponding to this entry
+         */
+        public long getKeyPrimitive() {
+            return key;
+        }
+
+        @Override
+        public Long getKey() {
+            return getKeyPrimitive();
+        }
+
+        @Override
+        public Long getValue() {
+            return getValuePrimitive();
+        }
+
+        /**
+         * Primitive replacement of getValue()
+         *
+         * @return the value corresponding to this entry
+         */
+        public long getValuePrimitive() {
+            return value;
+        }
+
+        @Override
+        public Long setValue(final Long v) {
+            return setValuePrimitive(v);
+        }
+
+        /**
+         * Primitive replacement of setValue(Long value)
+         * <p>
+         * Writes through to the map, even if the entry has been removed from the map.
+         *
+         * @param v new value to be stored in this entry
+         * @return old value corresponding to the entry
+         */
+        public long setValuePrimitive(final long v) {
+            final long oldValue = value;
+            value = v;
+            ConcurrentLongLongHashMap.this.putPrimitive(key, v);
+            return oldValue;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            final Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            return e.getKey() instanceof Long
+                    && HashCommon.keyEquals(getKeyPrimitive(), (Long) e.getKey())
+                    && e.getValue() instanceof Long
+                    && HashCommon.keyEquals(getValuePrimitive(), (Long) e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(getKeyPrimitive()) ^ Long.hashCode(getValuePrimitive());
+        }
+
+        @Override
+        public String toString() {
+            return getKeyPrimitive() + "=" + getValuePrimitive();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<Long, Long>> {
+        int segmentIndex;
+        long[] snapshot;
+        int index;
+        MapEntry last;
+
+        EntryIterator() {
+            advance();
+        }
+
+        private void advance() {
+            while ((snapshot == null || index >= snapshot.length) && segmentIndex < segments.length) {
+                snapshot = segments[segmentIndex++].snapshot();
+                index = 0;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return snapshot != null && index < snapshot.length;
+        }
+
+        @Override
+        public Map.Entry<Long, Long> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = new MapEntry(snapshot[index], snapshot[index + 1]);
+            index += 2;
+            advance();
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            ConcurrentLongLongHashMap.this.removePrimitive(last.key);
+            last = null;
+        }
+    }
+
+    private transient Set<Map.Entry<Long, Long>> entrySet;
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Notice that using the returned set costs an object for every entry visited.
+     * Use {@link #forEachPrimitive(LongLongConsumer)} whenever possible.
+     */
+    @Override
+    public Set<Map.Entry<Long, Long>> entrySet() {
+        Set<Map.Entry<Long, Long>> es;
+        return (es = entrySet) == null ? (entrySet = new EntrySet()) : es;
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<Long, Long>> {
+        @Override
+        public Iterator<Map.Entry<Long, Long>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return ConcurrentLongLongHashMap.this.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return ConcurrentLongLongHashMap.this.isEmpty();
+        }
+
+        @Override
+        public void clear() {
+            ConcurrentLongLongHashMap.this.clear();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            final Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            if (!(e.getKey() instanceof Long) || !(e.getValue() instanceof Long)) {
+                return false;
+            }
+            final Long v = ConcurrentLongLongHashMap.this.get(e.getKey());
+            return v != null && HashCommon.keyEquals((long) v, (Long) e.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            final Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            return ConcurrentLongLongHashMap.this.remove(e.getKey(), e.getValue());
+        }
+    }
+
+    /**
+     * Saves the state of the {@code ConcurrentLongLongHashMap} instance to a stream
+     * (that is, serializes it).
+     *
+     * @param s the stream
+     * @throws java.io.IOException if an I/O error occurs
+     * @serialData For every segment, the count of its entries (int), followed by all of its
+     * keys (each a {@code long}) and values (each a {@code long}).
+     */
+    private void writeObject(java.io.ObjectOutputStream s)
+            throws java.io.IOException {
+        s.defaultWriteObject();
+        for (Segment segment : segments) {
+            final long[] snapshot = segment.snapshot();
+            s.writeInt(snapshot.length >>> 1);
+            for (long e : snapshot) {
+                s.writeLong(e);
+            }
+        }
+    }
+
+    /**
+     * Reconstitutes the {@code ConcurrentLongLongHashMap} instance from a stream (that is,
+     * deserializes it).
+     *
+     * @param s the stream
+     * @throws java.io.IOException              if an I/O error occurs
+     * @throws java.lang.ClassNotFoundException if any.
+     */
+    private void readObject(java.io.ObjectInputStream s)
+            throws java.io.IOException, ClassNotFoundException {
+        s.defaultReadObject();
+        if (concurrencyLevel <= 0 || concurrencyLevel > MAX_SEGMENTS || Integer.bitCount(concurrencyLevel) != 1) {
+            throw new java.io.InvalidObjectException("Invalid concurrency level: " + concurrencyLevel);
+        }
+        initSegments(0);
+        for (int i = 0; i < concurrencyLevel; i++) {
+            final int mappings = s.readInt();
+            if (mappings < 0) {
+                throw new java.io.InvalidObjectException("Invalid size: " + mappings);
+            }
+            for (int j = 0; j < mappings; j++) {
+                final long k = s.readLong();
+                final long v = s.readLong();
+                this.putPrimitive(k, v);
+            }
+        }
+    }
+}
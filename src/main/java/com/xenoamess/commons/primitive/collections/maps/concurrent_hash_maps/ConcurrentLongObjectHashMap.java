@@ -0,0 +1,1073 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xenoamess.commons.primitive.collections.maps.concurrent_hash_maps;
+
+import com.xenoamess.commons.primitive.Primitive;
+import com.xenoamess.commons.primitive.collections.HashCommon;
+import com.xenoamess.commons.primitive.collections.maps.LongObjectMap;
+import com.xenoamess.commons.primitive.functions.LongObjectConsumer;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * A hash table supporting full concurrency of retrievals and high expected concurrency for updates,
+ * whose keys are {@code long}.
+ * <p>
+ * This class aims to reduce performance issue of autoboxing and unboxing.
+ * <p>
+ * This class is designed to be a replacement to {@code ConcurrentHashMap<Long, V>}.
+ * <p>
+ * The table is divided into segments, by the high bits of the hash of the keys. Every segment is an open
+ * addressing hash table with linear probing like {@code LongObjectHashMap}, keeping keys in an
+ * {@link AtomicLongArray} and values in an {@link AtomicReferenceArray}, so there is no node object for any entry.
+ * Updates lock the segment they touch, so updates to different segments never contend.
+ * <p>
+ * Retrievals do not lock. A new entry is published by writing its value before its key, and a resize builds new
+ * arrays and publishes them through a volatile field, so neither blocks readers. A removal shifts the following
+ * entries of the cluster back, in place; it makes the version of its segment odd while shifting, so readers
+ * can tell and retry (and lock the segment only after failing several times).
+ * <p>
+ * Like {@code ConcurrentHashMap}, this map does not allow {@code null} values, and the iterators of the collection
+ * views and {@link #forEachPrimitive} are weakly consistent: they take a snapshot of one segment at a time, never
+ * throw {@link java.util.ConcurrentModificationException}, and may or may not reflect modifications after their
+ * creation. {@link #size()} is a sum of the sizes of the segments, and is only an estimate when updates are in
+ * progress.
+ * <p>
+ * It have functions dealing with {@code Long} for being a {@code Map},
+ * but nearly all of its functions have a replacement named XXXPrimitive.
+ * The basic idea is use XXXPrimitive functions whenever possible, and only use
+ * other functions when you have to.
+ *
+ * @param <V> the type of mapped values
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see ConcurrentHashMap
+ * @see LongObjectMap
+ * @see ConcurrentLongLongHashMap
+ */
+public class ConcurrentLongObjectHashMap<V> extends AbstractMap<Long, V>
+        implements LongObjectMap<V>, ConcurrentMap<Long, V>, java.io.Serializable, Primitive {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The default count of segments.
+     */
+    public static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+    /**
+     * The maximum count of segments.
+     */
+    static final int MAX_SEGMENTS = 1 << 16;
+
+    /**
+     * How many times a lock free read retries, before it locks the segment.
+     */
+    static final int MAX_READ_RETRIES = 8;
+
+    /**
+     * The segments, each of which is a hash table.
+     */
+    transient Segment<V>[] segments;
+
+    /**
+     * Shift value for indexing within segments.
+     */
+    transient int segmentShift;
+
+    /**
+     * Mask value for indexing into segments.
+     */
+    transient int segmentMask;
+
+    /**
+     * The load factor of the tables of the segments.
+     *
+     * @serial
+     */
+    final float loadFactor;
+
+    /**
+     * The count of segments.
+     *
+     * @serial
+     */
+    final int concurrencyLevel;
+
+    /**
+     * Constructs an empty map with the specified expected size, load factor and concurrency level.
+     *
+     * @param expected         the expected number of entries in the map
+     * @param loadFactor       the load factor
+     * @param concurrencyLevel the estimated number of concurrently updating threads, which will be rounded up to a
+     *                         power of two as the count of segments
+     * @throws java.lang.IllegalArgumentException if expected is negative, loadFactor is not in (0, 1), or
+     *                                            concurrencyLevel is not positive
+     */
+    public ConcurrentLongObjectHashMap(int expected, float loadFactor, int concurrencyLevel) {
+        HashCommon.checkLoadFactor(loadFactor);
+        if (expected < 0) {
+            throw new IllegalArgumentException("Illegal expected size: " + expected);
+        }
+        if (concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("Illegal concurrency level: " + concurrencyLevel);
+        }
+        this.loadFactor = loadFactor;
+        this.concurrencyLevel = HashCommon.nextPowerOfTwo(Math.min(concurrencyLevel, MAX_SEGMENTS));
+        this.initSegments(expected);
+    }
+
+    /**
+     * Constructs an empty map with the specified expected size, the default load factor (0.75) and the default
+     * concurrency level (16).
+     *
+     * @param expected the expected number of entries in the map
+     * @throws java.lang.IllegalArgumentException if expected is negative
+     */
+    public ConcurrentLongObjectHashMap(int expected) {
+        this(expected, HashCommon.DEFAULT_LOAD_FACTOR, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Constructs an empty map with the default initial capacity (16), the default load factor (0.75) and the
+     * default concurrency level (16).
+     */
+    public ConcurrentLongObjectHashMap() {
+        this(HashCommon.DEFAULT_INITIAL_CAPACITY, HashCommon.DEFAULT_LOAD_FACTOR, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Constructs a new map with the same mappings as the specified {@code Map}.
+     *
+     * @param m the map whose mappings are to be placed in this map
+     * @throws java.lang.NullPointerException if the specified map is null, or contains null keys or values
+     */
+    public ConcurrentLongObjectHashMap(Map<? extends Long, ? extends V> m) {
+        this(Math.max(m.size(), HashCommon.DEFAULT_INITIAL_CAPACITY), HashCommon.DEFAULT_LOAD_FACTOR,
+                DEFAULT_CONCURRENCY_LEVEL);
+        this.putAll(m);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void initSegments(int expected) {
+        final int count = this.concurrencyLevel;
+        this.segmentShift = 32 - Integer.numberOfTrailingZeros(count);
+        this.segmentMask = count - 1;
+        final Segment<V>[] segments = (Segment<V>[]) new Segment<?>[count];
+        final int perSegment = (int) Math.min(Integer.MAX_VALUE, ((long) expected + count - 1) / count);
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment<>(perSegment, loadFactor);
+        }
+        this.segments = segments;
+    }
+
+    private Segment<V> segmentFor(int h) {
+        // the high bits choose the segment, and the low bits are used inside the segment.
+        return segments[(h >>> segmentShift) & segmentMask];
+    }
+
+    /**
+     * The arrays of a segment, which are replaced together by a resize.
+     */
+    static final class Table<V> {
+        final AtomicLongArray keys;
+        final AtomicReferenceArray<V> values;
+
+        Table(int n) {
+            this.keys = new AtomicLongArray(n);
+            this.values = new AtomicReferenceArray<>(n);
+        }
+
+        int length() {
+            return keys.length();
+        }
+    }
+
+    /**
+     * A segment of the map, which is an open addressing hash table, whose updates are guarded by the monitor of the
+     * segment.
+     * <p>
+     * The key equal to {@link Primitive#LONG_DEFAULT} marks empty slots in the table, thus is kept aside, in
+     * {@link #freeValue}, which is null if the free key is absent. In the methods whose names start with "locked",
+     * the position of the free key is the length of the table.
+     */
+    static final class Segment<V> {
+        final float loadFactor;
+
+        /**
+         * The table. Never modified after replaced by a new table.
+         */
+        volatile Table<V> table;
+
+        /**
+         * Odd while entries of the table are being moved.
+         */
+        volatile int version;
+
+        volatile V freeValue;
+
+        /**
+         * The number of entries, including the free key. Only written under the lock.
+         */
+        volatile int size;
+
+        /**
+         * Threshold after which we rehash. Only used under the lock.
+         */
+        int maxFill;
+
+        Segment(int expected, float loadFactor) {
+            this.loadFactor = loadFactor;
+            final int n = HashCommon.arraySize(expected, loadFactor);
+            this.maxFill = maxFill(n, loadFactor);
+            this.table = new Table<>(n);
+        }
+
+        /**
+         * The threshold of a table of n positions. At least one position stays free until the table is replaced,
+         * as a lock-free reader may still be probing it, and only stops at a free position.
+         */
+        private static int maxFill(final int n, final float loadFactor) {
+            return Math.min(HashCommon.maxFill(n, loadFactor), n - 2);
+        }
+
+        /**
+         * find the position of a key in a table. The key must not be the free key.
+         *
+         * @param t the table
+         * @param k the key
+         * @param h the hash of the key
+         * @return the position of the key, or -(insertion point) - 1 if the key is absent
+         */
+        static int find(final Table<?> t, final long k, final int h) {
+            final AtomicLongArray keys = t.keys;
+            final int mask = keys.length() - 1;
+            int pos = h & mask;
+            for (int probes = 0; probes <= mask; probes++) {
+                final long curr = keys.get(pos);
+                if (HashCommon.isFreeKey(curr)) {
+                    return -(pos + 1);
+                }
+                if (HashCommon.keyEquals(k, curr)) {
+                    return pos;
+                }
+                pos = (pos + 1) & mask;
+            }
+            // a table always keeps a free position, so this is only reached by a lock-free reader whose table
+            // changed under it; the retry on the version decides.
+            return -(pos + 1);
+        }
+
+        V get(final long k, final int h) {
+            if (HashCommon.isFreeKey(k)) {
+                return freeValue;
+            }
+            for (int retries = 0; retries < MAX_READ_RETRIES; retries++) {
+                final int v = version;
+                if ((v & 1) == 0) {
+                    final Table<V> t = table;
+                    final int pos = find(t, k, h);
+                    final V result = pos < 0 ? null : t.values.get(pos);
+                    if (version == v) {
+                        return result;
+                    }
+                }
+            }
+            synchronized (this) {
+                final Table<V> t = table;
+                final int pos = find(t, k, h);
+                return pos < 0 ? null : t.values.get(pos);
+            }
+        }
+
+        /**
+         * Takes a snapshot of the entries of this segment.
+         *
+         * @param keysOut a one element array, to receive the keys
+         * @return the values, in the same order as the keys
+         */
+        Object[] snapshot(final long[][] keysOut) {
+            for (int retries = 0; retries < MAX_READ_RETRIES; retries++) {
+                final int v = version;
+                if ((v & 1) == 0) {
+                    final Object[] result = snapshot(table, keysOut);
+                    if (version == v) {
+                        return result;
+                    }
+                }
+            }
+            synchronized (this) {
+                return snapshot(table, keysOut);
+            }
+        }
+
+        private Object[] snapshot(final Table<V> t, final long[][] keysOut) {
+            int capacity = size + 1;
+            long[] keys = new long[capacity];
+            Object[] values = new Object[capacity];
+            int i = 0;
+            final V free = freeValue;
+            if (free != null) {
+                keys[i] = LONG_DEFAULT;
+                values[i++] = free;
+            }
+            for (int pos = 0, length = t.length(); pos < length; pos++) {
+                final long k = t.keys.get(pos);
+                if (!HashCommon.isFreeKey(k)) {
+                    if (i == capacity) {
+                        capacity <<= 1;
+                        keys = Arrays.copyOf(keys, capacity);
+                        values = Arrays.copyOf(values, capacity);
+                    }
+                    keys[i] = k;
+                    values[i++] = t.values.get(pos);
+                }
+            }
+            keysOut[0] = Arrays.copyOf(keys, i);
+            return Arrays.copyOf(values, i);
+        }
+
+        int lockedFind(final long k, final int h) {
+            final Table<V> t = table;
+            if (HashCommon.isFreeKey(k)) {
+                final int n = t.length();
+                return freeValue != null ? n : -(n + 1);
+            }
+            return find(t, k, h);
+        }
+
+        V lockedGet(final int pos) {
+            final Table<V> t = table;
+            return pos == t.length() ? freeValue : t.values.get(pos);
+        }
+
+        void lockedSet(final int pos, final V value) {
+            final Table<V> t = table;
+            if (pos == t.length()) {
+                freeValue = value;
+            } else {
+                t.values.set(pos, value);
+            }
+        }
+
+        void lockedInsert(final int pos, final long k, final V value) {
+            final Table<V> t = table;
+            if (pos == t.length()) {
+                freeValue = value;
+            } else {
+                // the value must be visible before the key.
+                t.values.lazySet(pos, value);
+                t.keys.set(pos, k);
+            }
+            if (size++ >= maxFill) {
+                rehash(HashCommon.arraySize(size + 1, loadFactor));
+            }
+        }
+
+        V lockedRemove(final int pos) {
+            final Table<V> t = table;
+            final V oldValue;
+            if (pos == t.length()) {
+                oldValue = freeValue;
+                freeValue = null;
+            } else {
+                oldValue = t.values.get(pos);
+                version++;
+                shiftKeys(t, pos);
+                version++;
+            }
+            size--;
+            return oldValue;
+        }
+
+        void lockedClear() {
+            if (size == 0) {
+                return;
+            }
+            freeValue = null;
+            table = new Table<>(table.length());
+            size = 0;
+        }
+
+        /**
+         * Shifts left entries with the specified hash code, starting at the specified position, and empties the
+         * resulting free entry.
+         *
+         * @param t   the table
+         * @param pos a starting position
+         */
+        private static <V> void shiftKeys(final Table<V> t, int pos) {
+            final AtomicLongArray keys = t.keys;
+            final AtomicReferenceArray<V> values = t.values;
+            final int mask = keys.length() - 1;
+            int last;
+            int slot;
+            long curr;
+            while (true) {
+                pos = ((last = pos) + 1) & mask;
+                while (true) {
+                    if (HashCommon.isFreeKey(curr = keys.get(pos))) {
+                        keys.lazySet(last, LONG_DEFAULT);
+                        values.lazySet(last, null);
+                        return;
+                    }
+                    slot = HashCommon.hash(curr) & mask;
+                    if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) {
+                        break;
+                    }
+                    pos = (pos + 1) & mask;
+                }
+                values.lazySet(last, values.get(pos));
+                keys.lazySet(last, curr);
+            }
+        }
+
+        /**
+         * Rehashes the segment to a new table, and publishes it.
+         *
+         * @param newN the new table length, must be a power of 2
+         */
+        private void rehash(final int newN) {
+            final Table<V> t = table;
+            final Table<V> newT = new Table<>(newN);
+            final int newMask = newN - 1;
+            for (int i = 0, length = t.length(); i < length; i++) {
+                final long k = t.keys.get(i);
+                if (HashCommon.isFreeKey(k)) {
+                    continue;
+                }
+                int pos = HashCommon.hash(k) & newMask;
+                while (!HashCommon.isFreeKey(newT.keys.get(pos))) {
+                    pos = (pos + 1) & newMask;
+                }
+                newT.keys.lazySet(pos, k);
+                newT.values.lazySet(pos, t.values.get(i));
+            }
+            maxFill = maxFill(newN, loadFactor);
+            table = newT;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        long sum = 0;
+        for (Segment<V> segment : segments) {
+            sum += segment.size;
+        }
+        return (int) Math.min(sum, Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        for (Segment<V> segment : segments) {
+            if (segment.size != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(Object key) {
+        return LongObjectMap.super.containsKey(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKeyPrimitive(long key) {
+        return this.getPrimitive(key) != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsValue(Object value) {
+        Objects.requireNonNull(value);
+        final long[][] keysOut = new long[1][];
+        for (Segment<V> segment : segments) {
+            for (Object v : segment.snapshot(keysOut)) {
+                if (value.equals(v)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V get(Object key) {
+        return LongObjectMap.super.get(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getPrimitive(long key) {
+        final int h = HashCommon.hash(key);
+        return segmentFor(h).get(key, h);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        return LongObjectMap.super.getOrDefault(key, defaultValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getOrDefaultPrimitive(long key, V defaultValue) {
+        final V v = this.getPrimitive(key);
+        return v == null ? defaultValue : v;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V put(Long key, V value) {
+        return LongObjectMap.super.put(key, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws java.lang.NullPointerException if the value is null
+     */
+    @Override
+    public V putPrimitive(long key, V value) {
+        Objects.requireNonNull(value);
+        final int h = HashCommon.hash(key);
+        final Segment<V> segment = segmentFor(h);
+        synchronized (segment) {
+            final int pos = segment.lockedFind(key, h);
+            if (pos < 0) {
+                segment.lockedInsert(-pos - 1, key, value);
+                return null;
+            }
+            final V oldValue = segment.lockedGet(pos);
+            segment.lockedSet(pos, value);
+            return oldValue;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V putIfAbsent(Long key, V value) {
+        return LongObjectMap.super.putIfAbsent(key, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws java.lang.NullPointerException if the value is null
+     */
+    @Override
+    public V putIfAbsentPrimitive(long key, V value) {
+        Objects.requireNonNull(value);
+        final int h = HashCommon.hash(key);
+        final Segment<V> segment = segmentFor(h);
+        synchronized (segment) {
+            final int pos = segment.lockedFind(key, h);
+            if (pos < 0) {
+                segment.lockedInsert(-pos - 1, key, value);
+                return null;
+            }
+            return segment.lockedGet(pos);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The whole invocation is performed atomically, with the segment of the key locked, so the function should be
+     * short and simple, and must not update this map.
+     */
+    @Override
+    public V computeIfAbsent(Long key, Function<? super Long, ? extends V> mappingFunction) {
+        Objects.requireNonNull(mappingFunction);
+        return this.computeIfAbsentPrimitive(key, mappingFunction::apply);
+    }
+
+    /**
+     * Primitive replacement of computeIfAbsent(Long key, Function mappingFunction)
+     * <p>
+     * If the specified key is not already associated with a value, attempts to compute its value using the given
+     * mapping function and enters it into this map unless {@code null}.
+     * The whole invocation is performed atomically, with the segment of the key locked, so the function should be
+     * short and simple, and must not update this map.
+     *
+     * @param key             key with which the specified value is to be associated
+     * @param mappingFunction the function to compute a value
+     * @return the current (existing or computed) value associated with the specified key, or null if the computed
+     * value is null
+     * @throws java.lang.NullPointerException  if the mappingFunction is null
+     * @throws java.lang.IllegalStateException if the mappingFunction updated the mapping of the key
+     * @see #computeIfAbsent(Long, Function)
+     */
+    public V computeIfAbsentPrimitive(long key, LongFunction<? extends V> mappingFunction) {
+        Objects.requireNonNull(mappingFunction);
+        final int h = HashCommon.hash(key);
+        final Segment<V> segment = segmentFor(h);
+        final V existed = segment.get(key, h);
+        if (existed != null) {
+            return existed;
+        }
+        synchronized (segment) {
+            int pos = segment.lockedFind(key, h);
+            if (pos >= 0) {
+                return segment.lockedGet(pos);
+            }
+            final V value = mappingFunction.apply(key);
+            if (value == null) {
+                return null;
+            }
+            pos = segment.lockedFind(key, h);
+            if (pos >= 0) {
+                throw new IllegalStateException("Recursive update");
+            }
+            segment.lockedInsert(-pos - 1, key, value);
+            return value;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V remove(Object key) {
+        return LongObjectMap.super.remove(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V removePrimitive(long key) {
+        final int h = HashCommon.hash(key);
+        final Segment<V> segment = segmentFor(h);
+        synchronized (segment) {
+            final int pos = segment.lockedFind(key, h);
+            return pos < 0 ? null : segment.lockedRemove(pos);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remove(Object key, Object value) {
+        if (!(key instanceof Long) || value == null) {
+            return false;
+        }
+        return this.removePrimitive((Long) key, value);
+    }
+
+    /**
+     * Primitive replacement of remove(Object key, Object value)
+     *
+     * @param key   key with which the specified value is associated
+     * @param value value expected to be associated with the specified key
+     * @return {@code true} if the value was removed
+     * @see #remove(Object, Object)
+     */
+    public boolean removePrimitive(long key, Object value) {
+        final int h = HashCommon.hash(key);
+        final Segment<V> segment = segmentFor(h);
+        synchronized (segment) {
+            final int pos = segment.lockedFind(key, h);
+            if (pos < 0 || !Objects.equals(segment.lockedGet(pos), value)) {
+                return false;
+            }
+            segment.lockedRemove(pos);
+            return true;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean replace(Long key, V oldValue, V newValue) {
+        return this.replacePrimitive(key, oldValue, newValue);
+    }
+
+    /**
+     * Primitive replacement of replace(Long key, V oldValue, V newValue)
+     *
+     * @param key      key with which the specified value is associated
+     * @param oldValue value expected to be associated with the specified key
+     * @param newValue value to be associated with the specified key
+     * @return {@code true} if the value was replaced
+     * @throws java.lang.NullPointerException if oldValue or newValue is null
+     * @see #replace(Long, Object, Object)
+     */
+    public boolean replacePrimitive(long key, V oldValue, V newValue) {
+        Objects.requireNonNull(oldValue);
+        Objects.requireNonNull(newValue);
+        final int h = HashCommon.hash(key);
+        final Segment<V> segment = segmentFor(h);
+        synchronized (segment) {
+            final int pos = segment.lockedFind(key, h);
+            if (pos < 0 || !oldValue.equals(segment.lockedGet(pos))) {
+                return false;
+            }
+            segment.lockedSet(pos, newValue);
+            return true;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V replace(Long key, V value) {
+        return this.replacePrimitive(key, value);
+    }
+
+    /**
+     * Primitive replacement of replace(Long key, V value)
+     *
+     * @param key   key with which the specified value is associated
+     * @param value value to be associated with the specified key
+     * @return the previous value associated with the specified key, or null if there was no mapping for the key.
+     * @throws java.lang.NullPointerException if the value is null
+     * @see #replace(Long, Object)
+     */
+    public V replacePrimitive(long key, V value) {
+        Objects.requireNonNull(value);
+        final int h = HashCommon.hash(key);
+        final Segment<V> segment = segmentFor(h);
+        synchronized (segment) {
+            final int pos = segment.lockedFind(key, h);
+            if (pos < 0) {
+                return null;
+            }
+            final V oldValue = segment.lockedGet(pos);
+            segment.lockedSet(pos, value);
+            return oldValue;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Segments are cleared one by one, so entries put during the invocation may remain.
+     */
+    @Override
+    public void clear() {
+        for (Segment<V> segment : segments) {
+            synchronized (segment) {
+                segment.lockedClear();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEach(BiConsumer<? super Long, ? super V> action) {
+        LongObjectMap.super.forEach(action);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Weakly consistent: every segment is visited by a snapshot of it, so the action can update this map.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEachPrimitive(LongObjectConsumer<? super V> action) {
+        Objects.requireNonNull(action);
+        final long[][] keysOut = new long[1][];
+        for (Segment<V> segment : segments) {
+            final Object[] values = segment.snapshot(keysOut);
+            final long[] keys = keysOut[0];
+            for (int i = 0; i < values.length; i++) {
+                action.acceptPrimitive(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    /**
+     * A snapshot of an entry. {@link #setValue} writes through to the map.
+     */
+    final class MapEntry implements Map.Entry<Long, V> {
+        final long key;
+        V value;
+
+        MapEntry(final long key, final V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        /**
+         * Primitive replacement of getKey()
+         *
+         * @return the key corresponding to this entry
+         */
+        public long getKeyPrimitive() {
+            return key;
+        }
+
+        @Override
+        public Long getKey() {
+            return getKeyPrimitive();
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * Writes through to the map, even if the entry has been removed from the map.
+         */
+        @Override
+        public V setValue(final V v) {
+            Objects.requireNonNull(v);
+            final V oldValue = value;
+            value = v;
+            ConcurrentLongObjectHashMap.this.putPrimitive(key, v);
+            return oldValue;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            final Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            return e.getKey() instanceof Long
+                    && HashCommon.keyEquals(getKeyPrimitive(), (Long) e.getKey())
+                    && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(getKeyPrimitive()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKeyPrimitive() + "=" + getValue();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<Long, V>> {
+        final long[][] keysOut = new long[1][];
+        int segmentIndex;
+        long[] keys;
+        Object[] values;
+        int index;
+        MapEntry last;
+
+        EntryIterator() {
+            advance();
+        }
+
+        private void advance() {
+            while ((values == null || index >= values.length) && segmentIndex < segments.length) {
+                values = segments[segmentIndex++].snapshot(keysOut);
+                keys = keysOut[0];
+                index = 0;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return values != null && index < values.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map.Entry<Long, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = new MapEntry(keys[index], (V) values[index]);
+            index++;
+            advance();
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            ConcurrentLongObjectHashMap.this.removePrimitive(last.key);
+            last = null;
+        }
+    }
+
+    private transient Set<Map.Entry<Long, V>> entrySet;
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Notice that using the returned set costs an object for every entry visited.
+     * Use {@link #forEachPrimitive(LongObjectConsumer)} whenever possible.
+     */
+    @Override
+    public Set<Map.Entry<Long, V>> entrySet() {
+        Set<Map.Entry<Long, V>> es;
+        return (es = entrySet) == null ? (entrySet = new EntrySet()) : es;
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<Long, V>> {
+        @Override
+        public Iterator<Map.Entry<Long, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return ConcurrentLongObjectHashMap.this.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return ConcurrentLongObjectHashMap.this.isEmpty();
+        }
+
+        @Override
+        public void clear() {
+            ConcurrentLongObjectHashMap.this.clear();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            final Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            if (!(e.getKey() instanceof Long)) {
+                return false;
+            }
+            final V v = ConcurrentLongObjectHashMap.this.getPrimitive((Long) e.getKey());
+            return v != null && v.equals(e.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            final Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            return ConcurrentLongObjectHashMap.this.remove(e.getKey(), e.getValue());
+        }
+    }
+
+    /**
+     * Saves the state of the {@code ConcurrentLongObjectHashMap} instance to a stream
+     * (that is, serializes it).
+     *
+     * @param s the stream
+     * @throws java.io.IOException if an I/O error occurs
+     * @serialData For every segment, the count of its entries (int), followed by all of its
+     * keys (each a {@code long}) and values (each an {@code Object}).
+     */
+    private void writeObject(java.io.ObjectOutputStream s)
+            throws java.io.IOException {
+        s.defaultWriteObject();
+        final long[][] keysOut = new long[1][];
+        for (Segment<V> segment : segments) {
+            final Object[] values = segment.snapshot(keysOut);
+            final long[] keys = keysOut[0];
+            s.writeInt(values.length);
+            for (int i = 0; i < values.length; i++) {
+                s.writeLong(keys[i]);
+                s.writeObject(values[i]);
+            }
+        }
+    }
+
+    /**
+     * Reconstitutes the {@code ConcurrentLongObjectHashMap} instance from a stream (that is,
+     * deserializes it).
+     *
+     * @param s the stream
+     * @throws java.io.IOException              if an I/O error occurs
+     * @throws java.lang.ClassNotFoundException if any.
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(java.io.ObjectInputStream s)
+            throws java.io.IOException, ClassNotFoundException {
+        s.defaultReadObject();
+        if (concurrencyLevel <= 0 || concurrencyLevel > MAX_SEGMENTS || Integer.bitCount(concurrencyLevel) != 1) {
+            throw new java.io.InvalidObjectException("Invalid concurrency level: " + concurrencyLevel);
+        }
+        initSegments(0);
+        for (int i = 0; i < concurrencyLevel; i++) {
+            final int mappings = s.readInt();
+            if (mappings < 0) {
+                throw new java.io.InvalidObjectException("Invalid size: " + mappings);
+            }
+            for (int j = 0; j < mappings; j++) {
+                final long k = s.readLong();
+                final V v = (V) s.readObject();
+                this.putPrimitive(k, v);
+            }
+        }
+    }
+}
@@ -0,0 +1,859 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xenoamess.commons.primitive.collections.maps.hash_maps;
+
+import com.xenoamess.commons.primitive.Primitive;
+import com.xenoamess.commons.primitive.collections.HashCommon;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.CharArrayList;
+import com.xenoamess.commons.primitive.collections.maps.CharCharMap;
+import com.xenoamess.commons.primitive.functions.CharCharConsumer;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Hash table based implementation of the {@code Map} interface, whose keys are {@code char}.
+ * <p>
+ * This class aims to reduce performance issue of autoboxing and unboxing.
+ * <p>
+ * This class is designed to be a replacement to {@code HashMap<Character, Character>}
+ * <p>
+ * Unlike {@code HashMap}, it does not create a node object for every entry.
+ * Keys and values are kept in two flat arrays, and collisions are resolved by
+ * open addressing with linear probing. Removal shifts the following entries of the
+ * same cluster back, so there are no tombstones, and the probe sequences never
+ * get longer because of removals.
+ * <p>
+ * The key equal to {@link Primitive#CHAR_DEFAULT} marks empty slots in the
+ * key array, thus is kept aside, in the last slot of the value array.
+ * <p>
+ * It have functions dealing with {@code Character} for being a {@code Map},
+ * but nearly all of its functions have a replacement named XXXPrimitive.
+ * The basic idea is use XXXPrimitive functions whenever possible, and only use
+ * other functions when you have to.
+ * <p>
+ * <strong>Note that this implementation is not synchronized.</strong>
+ * The iterators of the collection views are <i>fail-fast</i>.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see HashMap
+ * @see CharCharMap
+ */
+public class CharCharHashMap extends AbstractMap<Character, Character>
+        implements CharCharMap, Cloneable, java.io.Serializable, Primitive {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The array of keys. The last slot is not used.
+     */
+    transient char[] keys;
+
+    /**
+     * The array of values. The last slot holds the value of the free key.
+     */
+    transient char[] values;
+
+    /**
+     * The mask for wrapping a position counter, equals to table length - 1.
+     */
+    transient int mask;
+
+    /**
+     * Whether this map contains the free key.
+     */
+    transient boolean containsFreeKey;
+
+    /**
+     * The current table length. Always a power of 2.
+     */
+    transient int n;
+
+    /**
+     * Threshold after which we rehash.
+     */
+    transient int maxFill;
+
+    /**
+     * The number of entries in this map.
+     */
+    transient int size;
+
+    /**
+     * The number of times this map has been structurally modified.
+     */
+    transient int modCount;
+
+    /**
+     * The load factor of the table.
+     *
+     * @serial
+     */
+    final float loadFactor;
+
+    /**
+     * Constructs an empty map with the specified expected size and load factor.
+     *
+     * @param expected   the expected number of entries in the map
+     * @param loadFactor the load factor
+     * @throws java.lang.IllegalArgumentException if expected is negative or loadFactor is not in (0, 1)
+     */
+    public CharCharHashMap(int expected, float loadFactor) {
+        HashCommon.checkLoadFactor(loadFactor);
+        if (expected < 0) {
+            throw new IllegalArgumentException("Illegal expected size: " + expected);
+        }
+        this.loadFactor = loadFactor;
+        this.n = HashCommon.arraySize(expected, loadFactor);
+        this.mask = n - 1;
+        this.maxFill = HashCommon.maxFill(n, loadFactor);
+        this.keys = new char[n + 1];
+        this.values = new char[n + 1];
+    }
+
+    /**
+     * Constructs an empty map with the specified expected size and the default load factor (0.75).
+     *
+     * @param expected the expected number of entries in the map
+     * @throws java.lang.IllegalArgumentException if expected is negative
+     */
+    public CharCharHashMap(int expected) {
+        this(expected, HashCommon.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs an empty map with the default initial capacity (16) and the default load factor (0.75).
+     */
+    public CharCharHashMap() {
+        this(HashCommon.DEFAULT_INITIAL_CAPACITY, HashCommon.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs a new map with the same mappings as the specified {@code Map}.
+     *
+     * @param m the map whose mappings are to be placed in this map
+     * @throws java.lang.NullPointerException if the specified map is null, or contains null keys
+     */
+    public CharCharHashMap(Map<? extends Character, ? extends Character> m) {
+        this(Math.max(m.size(), HashCommon.DEFAULT_INITIAL_CAPACITY), HashCommon.DEFAULT_LOAD_FACTOR);
+        this.putAll(m);
+    }
+
+    /**
+     * find the position of a key.
+     *
+     * @param k the key
+     * @return the position of the key, or -(insertion point) - 1 if the key is absent
+     */
+    private int find(final char k) {
+        if (HashCommon.isFreeKey(k)) {
+            return containsFreeKey ? n : -(n + 1);
+        }
+        final char[] key = this.keys;
+        char curr;
+        int pos;
+        if (HashCommon.isFreeKey(curr = key[pos = HashCommon.hash(k) & mask])) {
+            return -(pos + 1);
+        }
+        if (HashCommon.keyEquals(k, curr)) {
+            return pos;
+        }
+        while (true) {
+            if (HashCommon.isFreeKey(curr = key[pos = (pos + 1) & mask])) {
+                return -(pos + 1);
+            }
+            if (HashCommon.keyEquals(k, curr)) {
+                return pos;
+            }
+        }
+    }
+
+    private void insert(final int pos, final char k, final char v) {
+        if (pos == n) {
+            containsFreeKey = true;
+        }
+        keys[pos] = k;
+        values[pos] = v;
+        modCount++;
+        if (size++ >= maxFill) {
+            rehash(HashCommon.arraySize(size + 1, loadFactor));
+        }
+    }
+
+    private char removeEntry(final int pos) {
+        final char oldValue = values[pos];
+        size--;
+        modCount++;
+        shiftKeys(pos);
+        return oldValue;
+    }
+
+    private char removeFreeEntry() {
+        containsFreeKey = false;
+        final char oldValue = values[n];
+        size--;
+        modCount++;
+        return oldValue;
+    }
+
+    /**
+     * Shifts left entries with the specified hash code, starting at the specified position, and empties the
+     * resulting free entry.
+     *
+     * @param pos a starting position
+     */
+    final void shiftKeys(int pos) {
+        // Shift entries with the same hash.
+        int last;
+        int slot;
+        char curr;
+        final char[] key = this.keys;
+        while (true) {
+            pos = ((last = pos) + 1) & mask;
+            while (true) {
+                if (HashCommon.isFreeKey(curr = key[pos])) {
+                    key[last] = CHAR_DEFAULT;
+                    return;
+                }
+                slot = HashCommon.hash(curr) & mask;
+                if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) {
+                    break;
+                }
+                pos = (pos + 1) & mask;
+            }
+            key[last] = curr;
+            values[last] = values[pos];
+        }
+    }
+
+    /**
+     * Rehashes the map to a new table length.
+     *
+     * @param newN the new table length, must be a power of 2
+     */
+    void rehash(final int newN) {
+        final char[] key = this.keys;
+        final char[] value = this.values;
+        final int newMask = newN - 1;
+        final char[] newKey = new char[newN + 1];
+        final char[] newValue = new char[newN + 1];
+        int i = n;
+        int pos;
+        for (int j = realSize(); j-- != 0; ) {
+            while (HashCommon.isFreeKey(key[--i])) {
+                // do nothing
+            }
+            if (!HashCommon.isFreeKey(newKey[pos = HashCommon.hash(key[i]) & newMask])) {
+                while (!HashCommon.isFreeKey(newKey[pos = (pos + 1) & newMask])) {
+                    // do nothing
+                }
+            }
+            newKey[pos] = key[i];
+            newValue[pos] = value[i];
+        }
+        newValue[newN] = value[n];
+        n = newN;
+        mask = newMask;
+        maxFill = HashCommon.maxFill(n, loadFactor);
+        this.keys = newKey;
+        this.values = newValue;
+    }
+
+    private int realSize() {
+        return containsFreeKey ? size - 1 : size;
+    }
+
+    /**
+     * Increases the capacity of this map, if necessary, to ensure that it can hold at least the number of
+     * entries specified by the argument without rehashing.
+     *
+     * @param expected the desired number of entries
+     */
+    public void ensureCapacity(int expected) {
+        final int needed = HashCommon.arraySize(expected, loadFactor);
+        if (needed > n) {
+            rehash(needed);
+        }
+    }
+
+    /**
+     * Shrinks the table to the smallest length that can hold the current entries.
+     */
+    public void trim() {
+        final int l = HashCommon.arraySize(size, loadFactor);
+        if (l < n) {
+            rehash(l);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(Object key) {
+        return CharCharMap.super.containsKey(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKeyPrimitive(char key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsValue(Object value) {
+        return CharCharMap.super.containsValue(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsValuePrimitive(char value) {
+        final char[] value1 = this.values;
+        final char[] key = this.keys;
+        if (containsFreeKey && HashCommon.keyEquals(value1[n], value)) {
+            return true;
+        }
+        for (int i = n; i-- != 0; ) {
+            if (!HashCommon.isFreeKey(key[i]) && HashCommon.keyEquals(value1[i], value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Character get(Object key) {
+        return CharCharMap.super.get(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char getPrimitive(char key) {
+        final int pos = find(key);
+        return pos < 0 ? CHAR_DEFAULT : values[pos];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Character getOrDefault(Object key, Character defaultValue) {
+        return CharCharMap.super.getOrDefault(key, defaultValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char getOrDefaultPrimitive(char key, char defaultValue) {
+        final int pos = find(key);
+        return pos < 0 ? defaultValue : values[pos];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Character put(Character key, Character value) {
+        return CharCharMap.super.put(key, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char putPrimitive(char key, char value) {
+        final int pos = find(key);
+        if (pos < 0) {
+            insert(-pos - 1, key, value);
+            return CHAR_DEFAULT;
+        }
+        final char oldValue = values[pos];
+        values[pos] = value;
+        return oldValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Character remove(Object key) {
+        return CharCharMap.super.remove(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char removePrimitive(char key) {
+        final int pos = find(key);
+        if (pos < 0) {
+            return CHAR_DEFAULT;
+        }
+        return pos == n ? removeFreeEntry() : removeEntry(pos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        if (size == 0) {
+            return;
+        }
+        size = 0;
+        modCount++;
+        containsFreeKey = false;
+        Arrays.fill(keys, CHAR_DEFAULT);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putAll(Map<? extends Character, ? extends Character> m) {
+        if (loadFactor <= .5) {
+            ensureCapacity(m.size());
+        } else {
+            ensureCapacity(size() + m.size());
+        }
+        super.putAll(m);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEach(java.util.function.BiConsumer<? super Character, ? super Character> action) {
+        CharCharMap.super.forEach(action);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachPrimitive(CharCharConsumer action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        final char[] key = this.keys;
+        final char[] value = this.values;
+        if (containsFreeKey) {
+            action.acceptPrimitive(key[n], value[n]);
+        }
+        for (int i = n; i-- != 0; ) {
+            if (!HashCommon.isFreeKey(key[i])) {
+                action.acceptPrimitive(key[i], value[i]);
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * An iterator over the positions of the entries in this map.
+     * <p>
+     * Entries are visited from the last position of the table to the first one. When an entry is removed,
+     * the following entries of the same cluster are shifted back; if an entry from the very beginning of the
+     * table is shifted into the already visited part of it, it is remembered in {@code wrapped}, and returned
+     * after the scan.
+     */
+    private class PositionIterator {
+        /**
+         * The index of the last entry returned; if positive or zero, the entry is in the table, if negative,
+         * the entry is in {@code wrapped} (at index -pos - 1). Starts from n, which means the free key.
+         */
+        int pos = n;
+        /**
+         * The index of the last entry returned, or -1 if there is no such entry. Integer.MIN_VALUE means the
+         * entry is in {@code wrapped}.
+         */
+        int last = -1;
+        /**
+         * A downward counter measuring how many entries must still be returned.
+         */
+        int c = size;
+        /**
+         * A boolean telling us whether we should return the free key.
+         */
+        boolean mustReturnFreeKey = CharCharHashMap.this.containsFreeKey;
+        /**
+         * Keys from the beginning of the table that were moved into the visited part by a removal.
+         */
+        CharArrayList wrapped;
+        int expectedModCount = modCount;
+
+        public boolean hasNext() {
+            return c != 0;
+        }
+
+        int nextPosition() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            c--;
+            if (mustReturnFreeKey) {
+                mustReturnFreeKey = false;
+                return last = n;
+            }
+            final char[] key = CharCharHashMap.this.keys;
+            while (true) {
+                if (--pos < 0) {
+                    // We are just enumerating elements from the wrapped list.
+                    last = Integer.MIN_VALUE;
+                    final char k = wrapped.getPrimitive(-pos - 1);
+                    int p = HashCommon.hash(k) & mask;
+                    while (!HashCommon.keyEquals(k, key[p])) {
+                        p = (p + 1) & mask;
+                    }
+                    return p;
+                }
+                if (!HashCommon.isFreeKey(key[pos])) {
+                    return last = pos;
+                }
+            }
+        }
+
+        /**
+         * Shifts left entries with the specified hash code, starting at the specified position, and empties the
+         * resulting free entry. Entries moved from the unvisited beginning of the table are saved in wrapped.
+         *
+         * @param pos a starting position
+         */
+        private void shiftKeys(int pos) {
+            int last;
+            int slot;
+            char curr;
+            final char[] key = CharCharHashMap.this.keys;
+            final char[] value = CharCharHashMap.this.values;
+            while (true) {
+                pos = ((last = pos) + 1) & mask;
+                while (true) {
+                    if (HashCommon.isFreeKey(curr = key[pos])) {
+                        key[last] = CHAR_DEFAULT;
+                        return;
+                    }
+                    slot = HashCommon.hash(curr) & mask;
+                    if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) {
+                        break;
+                    }
+                    pos = (pos + 1) & mask;
+                }
+                if (pos < last) {
+                    // Wrapped entry.
+                    if (wrapped == null) {
+                        wrapped = new CharArrayList(2);
+                    }
+                    wrapped.addPrimitive(key[pos]);
+                }
+                key[last] = curr;
+                value[last] = value[pos];
+            }
+        }
+
+        public void remove() {
+            if (last == -1) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (last == n) {
+                containsFreeKey = false;
+            } else if (pos >= 0) {
+                shiftKeys(last);
+            } else {
+                // We're removing wrapped entries.
+                CharCharHashMap.this.removePrimitive(wrapped.getPrimitive(-pos - 1));
+                expectedModCount = modCount;
+                last = -1;
+                return;
+            }
+            size--;
+            modCount++;
+            expectedModCount = modCount;
+            last = -1;
+        }
+    }
+
+    /**
+     * A map entry pointing to a position of the table.
+     */
+    final class MapEntry implements Map.Entry<Character, Character> {
+        final int index;
+
+        MapEntry(final int index) {
+            this.index = index;
+        }
+
+        /**
+         * Primitive replacement of getKey()
+         *
+         * @return the key corresponding to this entry
+         */
+        public char getKeyPrimitive() {
+            return keys[index];
+        }
+
+        @Override
+        public Character getKey() {
+            return getKeyPrimitive();
+        }
+
+        @Override
+        public Character getValue() {
+            return getValuePrimitive();
+        }
+
+        /**
+         * Primitive replacement of getValue()
+         *
+         * @return the value corresponding to this entry
+         */
+        public char getValuePrimitive() {
+            return values[index];
+        }
+
+        @Override
+        public Character setValue(final Character v) {
+            return setValuePrimitive(v);
+        }
+
+        /**
+         * Primitive replacement of setValue(Character value)
+         *
+         * @param v new value to be stored in this entry
+         * @return old value corresponding to the entry
+         */
+        public char setValuePrimitive(final char v) {
+            final char oldValue = values[index];
+            values[index] = v;
+            return oldValue;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            final Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            return e.getKey() instanceof Character
+                    && HashCommon.keyEquals(getKeyPrimitive(), (Character) e.getKey())
+                    && e.getValue() instanceof Character
+                    && HashCommon.keyEquals(getValuePrimitive(), (Character) e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Character.hashCode(getKeyPrimitive()) ^ Character.hashCode(getValuePrimitive());
+        }
+
+        @Override
+        public String toString() {
+            return getKeyPrimitive() + "=" + getValuePrimitive();
+        }
+    }
+
+    private final class EntryIterator extends PositionIterator implements Iterator<Map.Entry<Character, Character>> {
+        @Override
+        public Map.Entry<Character, Character> next() {
+            return new MapEntry(nextPosition());
+        }
+    }
+
+    private transient Set<Map.Entry<Character, Character>> entrySet;
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Notice that using the returned set costs an object for every entry visited.
+     * Use {@link #forEachPrimitive(CharCharConsumer)} whenever possible.
+     */
+    @Override
+    public Set<Map.Entry<Character, Character>> entrySet() {
+        Set<Map.Entry<Character, Character>> es;
+        return (es = entrySet) == null ? (entrySet = new EntrySet()) : es;
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<Character, Character>> {
+        @Override
+        public Iterator<Map.Entry<Character, Character>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            CharCharHashMap.this.clear();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            final Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            if (!(e.getKey() instanceof Character)) {
+                return false;
+            }
+            final int pos = find((Character) e.getKey());
+            return pos >= 0
+                    && e.getValue() instanceof Character
+                    && HashCommon.keyEquals(values[pos], (Character) e.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!contains(o)) {
+                return false;
+            }
+            CharCharHashMap.this.remove(((Map.Entry<?, ?>) o).getKey());
+            return true;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns a shallow copy of this {@code CharCharHashMap} instance: the keys and
+     * values themselves are not cloned.
+     */
+    @Override
+    public CharCharHashMap clone() {
+        CharCharHashMap c;
+        try {
+            c = (CharCharHashMap) super.clone();
+        } catch (CloneNotSupportedException e) {
+            // this shouldn't happen, since we are Cloneable
+            throw new InternalError(e);
+        }
+        c.entrySet = null;
+        c.keys = keys.clone();
+        c.values = values.clone();
+        c.modCount = 0;
+        return c;
+    }
+
+    /**
+     * Saves the state of the {@code CharCharHashMap} instance to a stream
+     * (that is, serializes it).
+     *
+     * @param s the stream
+     * @throws java.io.IOException if an I/O error occurs
+     * @serialData The size of the map is emitted (int), followed by all of its
+     * keys (each a {@code char}) and values (each a {@code char}).
+     */
+    private void writeObject(java.io.ObjectOutputStream s)
+            throws java.io.IOException {
+        final int expectedModCount = modCount;
+        s.defaultWriteObject();
+        s.writeInt(size);
+        final char[] key = this.keys;
+        final char[] value = this.values;
+        if (containsFreeKey) {
+            s.writeChar(key[n]);
+            s.writeChar(value[n]);
+        }
+        for (int i = n; i-- != 0; ) {
+            if (!HashCommon.isFreeKey(key[i])) {
+                s.writeChar(key[i]);
+                s.writeChar(value[i]);
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Reconstitutes the {@code CharCharHashMap} instance from a stream (that is,
+     * deserializes it).
+     *
+     * @param s the stream
+     * @throws java.io.IOException              if an I/O error occurs
+     * @throws java.lang.ClassNotFoundException if any.
+     */
+    private void readObject(java.io.ObjectInputStream s)
+            throws java.io.IOException, ClassNotFoundException {
+        s.defaultReadObject();
+        final int mappings = s.readInt();
+        if (mappings < 0) {
+            throw new java.io.InvalidObjectException("Invalid size: " + mappings);
+        }
+        n = HashCommon.arraySize(mappings, loadFactor);
+        mask = n - 1;
+        maxFill = HashCommon.maxFill(n, loadFactor);
+        keys = new char[n + 1];
+        values = new char[n + 1];
+        for (int i = 0; i < mappings; i++) {
+            final char k = s.readChar();
+            final char v = s.readChar();
+            this.putPrimitive(k, v);
+        }
+    }
+}
@@ -0,0 +1,558 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.xenoamess.commons.primitive.collections.maps.multimaps;
+
+import com.xenoamess.commons.primitive.Primitive;
+import com.xenoamess.commons.primitive.collections.lists.AbstractIntList;
+import com.xenoamess.commons.primitive.collections.lists.IntList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.IntArrayList;
+import com.xenoamess.commons.primitive.collections.lists.immutable_lists.IntImmutableList;
+import com.xenoamess.commons.primitive.functions.IntConsumer;
+import com.xenoamess.commons.primitive.functions.IntIntConsumer;
+import com.xenoamess.commonx.java.util.Arraysx;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * An immutable multimap from int keys to lists of int values, in compressed-sparse-row form.
+ * <p>
+ * This class aims to reduce performance issue of autoboxing and unboxing.
+ * <p>
+ * This class is designed to be a replacement to {@code Map<Integer, IntArrayList>}, for adjacency lists,
+ * inverted indexes and alike.
+ * <p>
+ * Instances are created by a {@link Builder}, which appends {@code (key, value)} pairs into two
+ * {@link IntArrayList}s. {@link Builder#build()} sorts the pairs by key and compacts them into three arrays:
+ * the distinct keys in increasing order, the values of all keys one after another, and the offsets where
+ * the values of each key start. There is no object per key, and the values of a key are contiguous in memory.
+ * <p>
+ * The values of a key keep the order in which they were added to the builder, and duplicated pairs are kept.
+ * {@link #valuesOf(int)} finds the key by binary search, and returns an unmodifiable view of its values,
+ * without copying.
+ * <p>
+ * As nothing can change after creation, instances can be shared between threads without synchronization.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see Builder
+ */
+public final class IntIntMultimap implements java.io.Serializable, Primitive {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final IntIntMultimap EMPTY = new IntIntMultimap(new int[0], new int[1], new int[0]);
+
+    /**
+     * The distinct keys, in increasing order.
+     */
+    private final int[] keys;
+
+    /**
+     * The values of keys[i] are in values[offsets[i], offsets[i + 1]).
+     * Its length is keys.length + 1.
+     */
+    private final int[] offsets;
+
+    /**
+     * The values of all keys.
+     */
+    private final int[] values;
+
+    private IntIntMultimap(int[] keys, int[] offsets, int[] values) {
+        this.keys = keys;
+        this.offsets = offsets;
+        this.values = values;
+    }
+
+    /**
+     * Returns an empty multimap.
+     *
+     * @return an empty {@code IntIntMultimap}
+     */
+    public static IntIntMultimap of() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a new builder.
+     *
+     * @return a new {@code Builder}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a new builder with room for the specified number of pairs.
+     *
+     * @param expectedSize the number of pairs expected to be added
+     * @return a new {@code Builder}
+     * @throws java.lang.IllegalArgumentException if the expected size is negative
+     */
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    /**
+     * Returns the number of {@code (key, value)} pairs in this multimap.
+     *
+     * @return the number of pairs in this multimap
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Returns {@code true} if this multimap contains no pairs.
+     *
+     * @return {@code true} if this multimap contains no pairs
+     */
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    /**
+     * Returns the number of distinct keys in this multimap.
+     *
+     * @return the number of distinct keys in this multimap
+     */
+    public int keyCount() {
+        return keys.length;
+    }
+
+    /**
+     * Returns the index of the key in the distinct keys of this multimap, in increasing order.
+     *
+     * @param key the key to search for
+     * @return the index of the key, if it is contained in this multimap;
+     * otherwise, {@code (-(insertion point) - 1)}
+     */
+    public int indexOfKey(int key) {
+        return Arrays.binarySearch(keys, key);
+    }
+
+    /**
+     * Returns {@code true} if this multimap contains at least one pair with the key.
+     *
+     * @param key the key to search for
+     * @return {@code true} if this multimap contains the key
+     */
+    public boolean containsKey(int key) {
+        return this.indexOfKey(key) >= 0;
+    }
+
+    /**
+     * Returns {@code true} if this multimap contains the pair {@code (key, value)}.
+     *
+     * @param key   the key to search for
+     * @param value the value to search for
+     * @return {@code true} if this multimap contains the pair
+     */
+    public boolean containsEntry(int key, int value) {
+        final int index = this.indexOfKey(key);
+        if (index < 0) {
+            return false;
+        }
+        final int[] vs = this.values;
+        for (int i = offsets[index], end = offsets[index + 1]; i < end; i++) {
+            if (vs[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the key at the specified index in the distinct keys of this multimap, in increasing order.
+     *
+     * @param index index of the key
+     * @return the key at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if the index is out of range
+     *                                             ({@code index < 0 || index >= keyCount()})
+     */
+    public int keyAt(int index) {
+        AbstractIntList.checkIndex(index, keys.length);
+        return keys[index];
+    }
+
+    /**
+     * Returns an unmodifiable view of the values of the key at the specified index.
+     *
+     * @param index index of the key
+     * @return the values of the key at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if the index is out of range
+     *                                             ({@code index < 0 || index >= keyCount()})
+     * @see #keyAt(int)
+     */
+    public IntList valuesAt(int index) {
+        AbstractIntList.checkIndex(index, keys.length);
+        return new Values(values, offsets[index], offsets[index + 1]);
+    }
+
+    /**
+     * Returns an unmodifiable view of the values of the key, in the order they were added to the builder.
+     * The view shares the values of this multimap, so no copy is made.
+     *
+     * @param key the key
+     * @return the values of the key, or an empty list if this multimap does not contain the key
+     */
+    public IntList valuesOf(int key) {
+        final int index = this.indexOfKey(key);
+        if (index < 0) {
+            return IntImmutableList.of();
+        }
+        return new Values(values, offsets[index], offsets[index + 1]);
+    }
+
+    /**
+     * Returns the number of values of the key.
+     *
+     * @param key the key
+     * @return the number of values of the key, or 0 if this multimap does not contain the key
+     */
+    public int valueCount(int key) {
+        final int index = this.indexOfKey(key);
+        return index < 0 ? 0 : offsets[index + 1] - offsets[index];
+    }
+
+    /**
+     * Returns a copy of the distinct keys of this multimap, in increasing order.
+     *
+     * @return the distinct keys of this multimap
+     */
+    public int[] keysToArray() {
+        return keys.clone();
+    }
+
+    /**
+     * Performs the given action for each pair in this multimap, ordered by key,
+     * then by the order the values were added.
+     *
+     * @param action the action to be performed for each pair
+     * @throws java.lang.NullPointerException if the action is {@code null}
+     */
+    public void forEachPrimitive(IntIntConsumer action) {
+        Objects.requireNonNull(action);
+        final int[] ks = this.keys;
+        final int[] os = this.offsets;
+        final int[] vs = this.values;
+        for (int k = 0; k < ks.length; k++) {
+            final int key = ks[k];
+            for (int i = os[k], end = os[k + 1]; i < end; i++) {
+                action.acceptPrimitive(key, vs[i]);
+            }
+        }
+    }
+
+    /**
+     * Compares the specified object with this multimap for equality.
+     * Two multimaps are equal if they have the same keys, and the same values in the same order for every key.
+     *
+     * @param o object to be compared for equality with this multimap
+     * @return {@code true} if the specified object is equal to this multimap
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof IntIntMultimap)) {
+            return false;
+        }
+        IntIntMultimap that = (IntIntMultimap) o;
+        return Arrays.equals(this.keys, that.keys)
+                && Arrays.equals(this.offsets, that.offsets)
+                && Arrays.equals(this.values, that.values);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return (Arrays.hashCode(keys) * 31 + Arrays.hashCode(offsets)) * 31 + Arrays.hashCode(values);
+    }
+
+    /**
+     * Returns a string representation of this multimap, in the form of {@code {k1=[v1, v2], k2=[v3]}}.
+     *
+     * @return a string representation of this multimap
+     */
+    @Override
+    public String toString() {
+        if (keys.length == 0) {
+            return "{}";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append('{');
+        for (int k = 0; k < keys.length; k++) {
+            if (k > 0) {
+                sb.append(", ");
+            }
+            sb.append(keys[k]).append('=').append('[');
+            for (int i = offsets[k], end = offsets[k + 1]; i < end; i++) {
+                if (i > offsets[k]) {
+                    sb.append(", ");
+                }
+                sb.append(values[i]);
+            }
+            sb.append(']');
+        }
+        return sb.append('}').toString();
+    }
+
+    /**
+     * A builder of {@link IntIntMultimap}.
+     * <p>
+     * Pairs are appended into two {@link IntArrayList}s, so adding a pair costs no allocation apart from the
+     * growing of the lists.
+     * A builder can be used again after {@link #build()}, and later built multimaps contain the pairs added
+     * before as well.
+     * <p>
+     * <strong>Note that this class is not synchronized.</strong>
+     */
+    public static final class Builder {
+
+        private final IntArrayList keys;
+        private final IntArrayList values;
+
+        Builder() {
+            this.keys = new IntArrayList();
+            this.values = new IntArrayList();
+        }
+
+        Builder(int expectedSize) {
+            this.keys = new IntArrayList(expectedSize);
+            this.values = new IntArrayList(expectedSize);
+        }
+
+        /**
+         * Adds the pair {@code (key, value)}.
+         *
+         * @param key   the key
+         * @param value the value
+         * @return this builder
+         */
+        public Builder put(int key, int value) {
+            keys.addPrimitive(key);
+            values.addPrimitive(value);
+            return this;
+        }
+
+        /**
+         * Adds a pair {@code (key, value)} for each of the values.
+         *
+         * @param key    the key
+         * @param values the values
+         * @return this builder
+         * @throws java.lang.NullPointerException if the values is {@code null}
+         */
+        public Builder putAll(int key, int... values) {
+            Objects.requireNonNull(values);
+            this.keys.ensureCapacity(this.keys.size() + values.length);
+            this.values.ensureCapacity(this.values.size() + values.length);
+            for (int value : values) {
+                this.keys.addPrimitive(key);
+                this.values.addPrimitive(value);
+            }
+            return this;
+        }
+
+        /**
+         * Adds a pair {@code (key, value)} for each of the values.
+         *
+         * @param key    the key
+         * @param values the values
+         * @return this builder
+         * @throws java.lang.NullPointerException if the values is {@code null}
+         */
+        public Builder putAll(int key, IntList values) {
+            Objects.requireNonNull(values);
+            this.keys.ensureCapacity(this.keys.size() + values.size());
+            this.values.ensureCapacity(this.values.size() + values.size());
+            values.forEachPrimitive((IntConsumer) value -> {
+                this.keys.addPrimitive(key);
+                this.values.addPrimitive(value);
+            });
+            return this;
+        }
+
+        /**
+         * Adds all pairs of the multimap.
+         *
+         * @param multimap the multimap
+         * @return this builder
+         * @throws java.lang.NullPointerException if the multimap is {@code null}
+         */
+        public Builder putAll(IntIntMultimap multimap) {
+            this.keys.ensureCapacity(this.keys.size() + multimap.size());
+            this.values.ensureCapacity(this.values.size() + multimap.size());
+            multimap.forEachPrimitive(this::put);
+            return this;
+        }
+
+        /**
+         * Returns the number of pairs added to this builder.
+         *
+         * @return the number of pairs added to this builder
+         */
+        public int size() {
+            return keys.size();
+        }
+
+        /**
+         * Builds a multimap of the pairs added to this builder.
+         * <p>
+         * The pairs are sorted by {@link Arraysx#sort(long[], int, int, com.xenoamess.commons.primitive.comparators.LongComparator)},
+         * with each pair packed as its key in the high 32 bits and its position in the builder in the low
+         * 32 bits, so the sort is done by radix sort, and keeps the values of a key in the order they were added.
+         *
+         * @return a multimap of the pairs added to this builder
+         */
+        public IntIntMultimap build() {
+            final int size = keys.size();
+            if (size == 0) {
+                return EMPTY;
+            }
+            final int[] ks = keys.getElementData();
+            final int[] vs = values.getElementData();
+            final long[] packed = new long[size];
+            for (int i = 0; i < size; i++) {
+                packed[i] = ((long) ks[i] << 32) | i;
+            }
+            Arraysx.sort(packed, 0, size, null);
+
+            int keyCount = 1;
+            for (int i = 1; i < size; i++) {
+                if ((int) (packed[i] >> 32) != (int) (packed[i - 1] >> 32)) {
+                    keyCount++;
+                }
+            }
+            final int[] resultKeys = new int[keyCount];
+            final int[] resultOffsets = new int[keyCount + 1];
+            final int[] resultValues = new int[size];
+            int k = -1;
+            for (int i = 0; i < size; i++) {
+                final long p = packed[i];
+                final int key = (int) (p >> 32);
+                if (k < 0 || key != resultKeys[k]) {
+                    resultKeys[++k] = key;
+                    resultOffsets[k] = i;
+                }
+                resultValues[i] = vs[(int) p];
+            }
+            resultOffsets[keyCount] = size;
+            return new IntIntMultimap(resultKeys, resultOffsets, resultValues);
+        }
+    }
+
+    /**
+     * An unmodifiable view of values[fromIndex, toIndex).
+     */
+    static final class Values extends AbstractIntList implements RandomAccess {
+
+        private final int[] elements;
+        private final int fromIndex;
+        private final int toIndex;
+
+        Values(int[] elements, int fromIndex, int toIndex) {
+            this.elements = elements;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+        }
+
+        @Override
+        public int size() {
+            return toIndex - fromIndex;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return toIndex == fromIndex;
+        }
+
+        @Override
+        public int getPrimitive(int index) {
+            AbstractIntList.checkIndex(index, toIndex - fromIndex);
+            return elements[fromIndex + index];
+        }
+
+        @Override
+        public int indexOfPrimitive(int o) {
+            final int[] es = this.elements;
+            for (int i = fromIndex; i < toIndex; i++) {
+                if (o == es[i]) {
+                    return i - fromIndex;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOfPrimitive(int o) {
+            final int[] es = this.elements;
+            for (int i = toIndex - 1; i >= fromIndex; i--) {
+                if (o == es[i]) {
+                    return i - fromIndex;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public boolean containsPrimitive(int o) {
+            return this.indexOfPrimitive(o) >= 0;
+        }
+
+        @Override
+        public int[] toArrayPrimitive() {
+            return Arrays.copyOfRange(elements, fromIndex, toIndex);
+        }
+
+        @Override
+        public int[] toArrayPrimitive(int[] a) {
+            final int size = toIndex - fromIndex;
+            if (a.length < size) {
+                return Arrays.copyOfRange(elements, fromIndex, toIndex);
+            }
+            System.arraycopy(elements, fromIndex, a, 0, size);
+            if (a.length > size) {
+                a[size] = Primitive.INT_DEFAULT;
+            }
+            return a;
+        }
+
+        @Override
+        public void forEachPrimitive(IntConsumer action) {
+            Objects.requireNonNull(action);
+            final int[] es = this.elements;
+            for (int i = fromIndex; i < toIndex; i++) {
+                action.acceptPrimitive(es[i]);
+            }
+        }
+    }
+}
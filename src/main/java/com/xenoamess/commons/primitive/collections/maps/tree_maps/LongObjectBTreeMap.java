@@ -0,0 +1,1307 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xenoamess.commons.primitive.collections.maps.tree_maps;
+
+import com.xenoamess.commons.primitive.Primitive;
+import com.xenoamess.commons.primitive.collections.maps.LongObjectSortedMap;
+import com.xenoamess.commons.primitive.comparators.LongComparator;
+import com.xenoamess.commons.primitive.functions.LongObjectConsumer;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * B+-tree based implementation of the {@link LongObjectSortedMap} interface.
+ * <p>
+ * This class aims to reduce performance issue of autoboxing and unboxing.
+ * <p>
+ * This class is designed to be a replacement to {@code TreeMap<Long, V>}
+ * <p>
+ * Keys and values are kept sorted in flat arrays of up to {@link #MAX_KEYS} entries in the leaves of the tree,
+ * and the leaves are linked to each other, so a lookup touches a few arrays instead of a chain of nodes, and
+ * range scans read the leaves sequentially.
+ * See {@link com.xenoamess.commons.primitive.collections.sets.tree_sets.LongBTreeSet} for the set version.
+ * <p>
+ * The keys are ordered using their natural ordering, or by a {@link LongComparator} provided at map creation
+ * time.
+ * <p>
+ * It have functions dealing with {@code Long} for being a {@code Map},
+ * but nearly all of its functions have a replacement named XXXPrimitive.
+ * The basic idea is use XXXPrimitive functions whenever possible, and only use
+ * other functions when you have to.
+ * <p>
+ * <strong>Note that this implementation is not synchronized.</strong>
+ * The iterators of the collection views are <i>fail-fast</i>.
+ *
+ * @param <V> the type of mapped values
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see TreeMap
+ * @see LongObjectSortedMap
+ */
+public class LongObjectBTreeMap<V> extends AbstractMap<Long, V>
+        implements LongObjectSortedMap<V>, Cloneable, java.io.Serializable, Primitive {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The maximum number of keys in a node.
+     */
+    static final int MAX_KEYS = 64;
+
+    /**
+     * A node holding fewer keys than this after a removal is merged with or refilled from a sibling.
+     */
+    static final int MIN_KEYS = MAX_KEYS / 2;
+
+    /**
+     * Returned by delete when there is no such key, as null is a legal value.
+     */
+    private static final Object NOT_FOUND = new Object();
+
+    /**
+     * A node of the tree.
+     * <p>
+     * A leaf holds the entries in keys[0, size) and values[0, size). An inner node holds size separators in
+     * keys, and size + 1 children, such that every key in children[i] is less than keys[i], and every key in
+     * children[i + 1] is greater than or equal to it.
+     * Arrays have room for one more key than {@link #MAX_KEYS}, so that a node can overflow before being split.
+     */
+    static final class Node {
+        final long[] keys = new long[MAX_KEYS + 1];
+        int size;
+        /**
+         * The values of a leaf, or null for an inner node.
+         */
+        final Object[] values;
+        /**
+         * The children of an inner node, or null for a leaf.
+         */
+        final Node[] children;
+        /**
+         * The neighbour leaves, for leaves only.
+         */
+        Node prev;
+        Node next;
+
+        Node(boolean leaf) {
+            this.values = leaf ? new Object[MAX_KEYS + 1] : null;
+            this.children = leaf ? null : new Node[MAX_KEYS + 2];
+        }
+
+        boolean isLeaf() {
+            return children == null;
+        }
+    }
+
+    /**
+     * A position in a leaf.
+     */
+    static class Cursor {
+        /**
+         * The leaf, or null if the position is out of the map.
+         */
+        Node leaf;
+        int index;
+    }
+
+    /**
+     * The comparator used to maintain order in this map, or
+     * null if it uses the natural ordering of its keys.
+     *
+     * @serial
+     */
+    private final LongComparator comparator;
+
+    transient Node root;
+
+    /**
+     * The number of entries in this map.
+     */
+    transient int size;
+
+    /**
+     * The number of times this map has been structurally modified.
+     */
+    transient int modCount;
+
+    /**
+     * Constructs a new, empty map, sorted according to the natural ordering of its keys.
+     */
+    public LongObjectBTreeMap() {
+        this((LongComparator) null);
+    }
+
+    /**
+     * Constructs a new, empty map, sorted according to the specified comparator.
+     *
+     * @param comparator the comparator that will be used to order this map.
+     *                   If {@code null}, the natural ordering of the keys will be used.
+     */
+    public LongObjectBTreeMap(LongComparator comparator) {
+        this.comparator = comparator;
+        this.root = new Node(true);
+    }
+
+    /**
+     * Constructs a new map containing the same mappings as the given map, sorted according to the natural
+     * ordering of its keys.
+     * If m is a {@code LongObjectSortedMap}, the same ordering is used instead.
+     *
+     * @param m the map whose mappings are to be placed in this map
+     * @throws java.lang.NullPointerException if the specified map is null
+     */
+    public LongObjectBTreeMap(Map<? extends Long, ? extends V> m) {
+        this(m instanceof LongObjectSortedMap ? ((LongObjectSortedMap<?>) m).comparator() : null);
+        this.putAll(m);
+    }
+
+    int compare(long a, long b) {
+        return comparator == null ? Long.compare(a, b) : comparator.compare(a, b);
+    }
+
+    /**
+     * Binary searches k in keys[0, n).
+     *
+     * @return the index of k if found, or (-(insertion point) - 1) otherwise
+     */
+    private int search(long[] keys, int n, long k) {
+        int low = 0;
+        int high = n - 1;
+        if (comparator == null) {
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                final long midVal = keys[mid];
+                if (midVal < k) {
+                    low = mid + 1;
+                } else if (midVal > k) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+        } else {
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                final int cmp = comparator.compare(keys[mid], k);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Returns the index of the child of an inner node that k belongs to.
+     */
+    private int childIndex(Node node, long k) {
+        final int i = search(node.keys, node.size, k);
+        return i >= 0 ? i + 1 : -i - 1;
+    }
+
+    private Node leafOf(long k) {
+        Node node = root;
+        while (!node.isLeaf()) {
+            node = node.children[childIndex(node, k)];
+        }
+        return node;
+    }
+
+    private Node firstLeaf() {
+        Node node = root;
+        while (!node.isLeaf()) {
+            node = node.children[0];
+        }
+        return node;
+    }
+
+    private Node lastLeaf() {
+        Node node = root;
+        while (!node.isLeaf()) {
+            node = node.children[node.size];
+        }
+        return node;
+    }
+
+    /**
+     * Moves cursor to the least key greater than (or equal to, if inclusive) k.
+     *
+     * @return if there is such a key
+     */
+    boolean seekCeiling(Cursor cursor, long k, boolean inclusive) {
+        Node leaf = leafOf(k);
+        int i = search(leaf.keys, leaf.size, k);
+        if (i >= 0) {
+            if (!inclusive) {
+                i++;
+            }
+        } else {
+            i = -i - 1;
+        }
+        while (leaf != null && i >= leaf.size) {
+            leaf = leaf.next;
+            i = 0;
+        }
+        cursor.leaf = leaf;
+        cursor.index = i;
+        return leaf != null;
+    }
+
+    /**
+     * Moves cursor to the greatest key less than (or equal to, if inclusive) k.
+     *
+     * @return if there is such a key
+     */
+    boolean seekFloor(Cursor cursor, long k, boolean inclusive) {
+        Node leaf = leafOf(k);
+        int i = search(leaf.keys, leaf.size, k);
+        if (i >= 0) {
+            if (!inclusive) {
+                i--;
+            }
+        } else {
+            i = -i - 2;
+        }
+        while (leaf != null && i < 0) {
+            leaf = leaf.prev;
+            i = leaf == null ? -1 : leaf.size - 1;
+        }
+        cursor.leaf = leaf;
+        cursor.index = i;
+        return leaf != null;
+    }
+
+    //-------------------- modification --------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V put(Long key, V value) {
+        return LongObjectSortedMap.super.put(key, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V putPrimitive(long key, V value) {
+        final Node found = insert(root, key, value, true);
+        if (found != null) {
+            final int i = search(found.keys, found.size, key);
+            final V oldValue = (V) found.values[i];
+            found.values[i] = value;
+            return oldValue;
+        }
+        if (root.size > MAX_KEYS) {
+            final Node left = root;
+            final Node right = split(left, true);
+            final Node newRoot = new Node(false);
+            newRoot.keys[0] = separator(left, right);
+            newRoot.children[0] = left;
+            newRoot.children[1] = right;
+            newRoot.size = 1;
+            root = newRoot;
+        }
+        size++;
+        modCount++;
+        return null;
+    }
+
+    /**
+     * Inserts k into the subtree of node. Children overflowing because of it are split, but node itself is left
+     * to its parent.
+     *
+     * @param rightmost if node is the last node of its level
+     * @return the leaf containing k if k is already in the map, in which case nothing is changed,
+     * or null if k is inserted
+     */
+    private Node insert(Node node, long k, V v, boolean rightmost) {
+        if (node.isLeaf()) {
+            int i = search(node.keys, node.size, k);
+            if (i >= 0) {
+                return node;
+            }
+            i = -i - 1;
+            System.arraycopy(node.keys, i, node.keys, i + 1, node.size - i);
+            System.arraycopy(node.values, i, node.values, i + 1, node.size - i);
+            node.keys[i] = k;
+            node.values[i] = v;
+            node.size++;
+            return null;
+        }
+        final int ci = childIndex(node, k);
+        final Node child = node.children[ci];
+        final boolean childRightmost = rightmost && ci == node.size;
+        final Node found = insert(child, k, v, childRightmost);
+        if (found != null) {
+            return found;
+        }
+        if (child.size > MAX_KEYS) {
+            final Node right = split(child, childRightmost);
+            System.arraycopy(node.keys, ci, node.keys, ci + 1, node.size - ci);
+            System.arraycopy(node.children, ci + 1, node.children, ci + 2, node.size - ci);
+            node.keys[ci] = separator(child, right);
+            node.children[ci + 1] = right;
+            node.size++;
+        }
+        return null;
+    }
+
+    /**
+     * Splits an overflowing node, and returns the new right half.
+     * <p>
+     * The last node of a level is split unevenly, leaving the left half full, as it is usually split because of
+     * keys appended in ascending order.
+     */
+    private static Node split(Node node, boolean rightmost) {
+        final Node right = new Node(node.isLeaf());
+        if (node.isLeaf()) {
+            final int mid = rightmost ? node.size - 1 : node.size >>> 1;
+            right.size = node.size - mid;
+            System.arraycopy(node.keys, mid, right.keys, 0, right.size);
+            System.arraycopy(node.values, mid, right.values, 0, right.size);
+            Arrays.fill(node.values, mid, node.size, null);
+            node.size = mid;
+            right.next = node.next;
+            if (right.next != null) {
+                right.next.prev = right;
+            }
+            right.prev = node;
+            node.next = right;
+        } else {
+            // keys[mid] moves up to the parent.
+            final int mid = rightmost ? node.size - 2 : node.size >>> 1;
+            right.size = node.size - mid - 1;
+            System.arraycopy(node.keys, mid + 1, right.keys, 0, right.size);
+            System.arraycopy(node.children, mid + 1, right.children, 0, right.size + 1);
+            Arrays.fill(node.children, mid + 1, node.size + 1, null);
+            node.size = mid;
+        }
+        return right;
+    }
+
+    /**
+     * Returns the separator between the two halves of a node just split.
+     * For inner nodes, it is the key moved up, which is still right after the last key of the left half.
+     */
+    private static long separator(Node left, Node right) {
+        return left.isLeaf() ? right.keys[0] : left.keys[left.size];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V remove(Object key) {
+        return LongObjectSortedMap.super.remove(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V removePrimitive(long key) {
+        final Object oldValue = delete(root, key);
+        if (oldValue == NOT_FOUND) {
+            return null;
+        }
+        if (!root.isLeaf() && root.size == 0) {
+            final Node onlyChild = root.children[0];
+            root.children[0] = null;
+            root = onlyChild;
+        }
+        size--;
+        modCount++;
+        return (V) oldValue;
+    }
+
+    /**
+     * Deletes k from the subtree of node. Children underflowing because of it are rebalanced, but node itself is
+     * left to its parent.
+     *
+     * @return the value of k, or {@link #NOT_FOUND} if there is no such key
+     */
+    private Object delete(Node node, long k) {
+        if (node.isLeaf()) {
+            final int i = search(node.keys, node.size, k);
+            if (i < 0) {
+                return NOT_FOUND;
+            }
+            final Object oldValue = node.values[i];
+            System.arraycopy(node.keys, i + 1, node.keys, i, node.size - i - 1);
+            System.arraycopy(node.values, i + 1, node.values, i, node.size - i - 1);
+            node.values[--node.size] = null;
+            return oldValue;
+        }
+        final int ci = childIndex(node, k);
+        final Node child = node.children[ci];
+        final Object oldValue = delete(child, k);
+        if (oldValue != NOT_FOUND && child.size < MIN_KEYS) {
+            rebalance(node, ci);
+        }
+        return oldValue;
+    }
+
+    /**
+     * Merges parent.children[ci] with a sibling, or moves entries from the sibling to it.
+     */
+    private static void rebalance(Node parent, int ci) {
+        final int li = ci > 0 ? ci - 1 : 0;
+        final Node left = parent.children[li];
+        final Node right = parent.children[li + 1];
+        if (left.isLeaf()) {
+            final int total = left.size + right.size;
+            if (total <= MAX_KEYS) {
+                System.arraycopy(right.keys, 0, left.keys, left.size, right.size);
+                System.arraycopy(right.values, 0, left.values, left.size, right.size);
+                left.size = total;
+                left.next = right.next;
+                if (left.next != null) {
+                    left.next.prev = left;
+                }
+                removeChild(parent, li);
+                return;
+            }
+            final int newLeftSize = total >>> 1;
+            if (left.size > newLeftSize) {
+                final int move = left.size - newLeftSize;
+                System.arraycopy(right.keys, 0, right.keys, move, right.size);
+                System.arraycopy(right.values, 0, right.values, move, right.size);
+                System.arraycopy(left.keys, newLeftSize, right.keys, 0, move);
+                System.arraycopy(left.values, newLeftSize, right.values, 0, move);
+                Arrays.fill(left.values, newLeftSize, left.size, null);
+            } else if (left.size < newLeftSize) {
+                final int move = newLeftSize - left.size;
+                System.arraycopy(right.keys, 0, left.keys, left.size, move);
+                System.arraycopy(right.values, 0, left.values, left.size, move);
+                System.arraycopy(right.keys, move, right.keys, 0, right.size - move);
+                System.arraycopy(right.values, move, right.values, 0, right.size - move);
+                Arrays.fill(right.values, right.size - move, right.size, null);
+            }
+            left.size = newLeftSize;
+            right.size = total - newLeftSize;
+            parent.keys[li] = right.keys[0];
+            return;
+        }
+        // the separator in parent takes part in merging or moving, as a key.
+        final int total = left.size + 1 + right.size;
+        if (total <= MAX_KEYS) {
+            left.keys[left.size] = parent.keys[li];
+            System.arraycopy(right.keys, 0, left.keys, left.size + 1, right.size);
+            System.arraycopy(right.children, 0, left.children, left.size + 1, right.size + 1);
+            left.size = total;
+            removeChild(parent, li);
+            return;
+        }
+        final int newLeftSize = (total - 1) >>> 1;
+        if (left.size > newLeftSize) {
+            final int move = left.size - newLeftSize;
+            System.arraycopy(right.keys, 0, right.keys, move, right.size);
+            System.arraycopy(right.children, 0, right.children, move, right.size + 1);
+            right.keys[move - 1] = parent.keys[li];
+            System.arraycopy(left.keys, newLeftSize + 1, right.keys, 0, move - 1);
+            System.arraycopy(left.children, newLeftSize + 1, right.children, 0, move);
+            parent.keys[li] = left.keys[newLeftSize];
+            Arrays.fill(left.children, newLeftSize + 1, left.size + 1, null);
+            right.size += move;
+            left.size = newLeftSize;
+        } else if (left.size < newLeftSize) {
+            final int move = newLeftSize - left.size;
+            left.keys[left.size] = parent.keys[li];
+            System.arraycopy(right.keys, 0, left.keys, left.size + 1, move - 1);
+            System.arraycopy(right.children, 0, left.children, left.size + 1, move);
+            parent.keys[li] = right.keys[move - 1];
+            System.arraycopy(right.keys, move, right.keys, 0, right.size - move);
+            System.arraycopy(right.children, move, right.children, 0, right.size - move + 1);
+            Arrays.fill(right.children, right.size - move + 1, right.size + 1, null);
+            right.size -= move;
+            left.size = newLeftSize;
+        }
+    }
+
+    /**
+     * Removes parent.keys[i] and parent.children[i + 1].
+     */
+    private static void removeChild(Node parent, int i) {
+        System.arraycopy(parent.keys, i + 1, parent.keys, i, parent.size - i - 1);
+        System.arraycopy(parent.children, i + 2, parent.children, i + 1, parent.size - i - 1);
+        parent.children[parent.size] = null;
+        parent.size--;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        if (size == 0) {
+            return;
+        }
+        root = new Node(true);
+        size = 0;
+        modCount++;
+    }
+
+    //-------------------- query --------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(Object key) {
+        return LongObjectSortedMap.super.containsKey(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKeyPrimitive(long key) {
+        final Node leaf = leafOf(key);
+        return search(leaf.keys, leaf.size, key) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsValue(Object value) {
+        for (Node leaf = firstLeaf(); leaf != null; leaf = leaf.next) {
+            for (int i = 0; i < leaf.size; i++) {
+                if (Objects.equals(value, leaf.values[i])) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V get(Object key) {
+        return LongObjectSortedMap.super.get(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getPrimitive(long key) {
+        final Node leaf = leafOf(key);
+        final int i = search(leaf.keys, leaf.size, key);
+        return i >= 0 ? (V) leaf.values[i] : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        return LongObjectSortedMap.super.getOrDefault(key, defaultValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefaultPrimitive(long key, V defaultValue) {
+        final Node leaf = leafOf(key);
+        final int i = search(leaf.keys, leaf.size, key);
+        return i >= 0 ? (V) leaf.values[i] : defaultValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V putIfAbsent(Long key, V value) {
+        return LongObjectSortedMap.super.putIfAbsent(key, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LongComparator comparator() {
+        return comparator;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long firstKeyPrimitive() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return firstLeaf().keys[0];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long lastKeyPrimitive() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        final Node leaf = lastLeaf();
+        return leaf.keys[leaf.size - 1];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long floorKeyPrimitive(long key, long defaultValue) {
+        final Cursor cursor = new Cursor();
+        return seekFloor(cursor, key, true) ? cursor.leaf.keys[cursor.index] : defaultValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long ceilingKeyPrimitive(long key, long defaultValue) {
+        final Cursor cursor = new Cursor();
+        return seekCeiling(cursor, key, true) ? cursor.leaf.keys[cursor.index] : defaultValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long lowerKeyPrimitive(long key, long defaultValue) {
+        final Cursor cursor = new Cursor();
+        return seekFloor(cursor, key, false) ? cursor.leaf.keys[cursor.index] : defaultValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long higherKeyPrimitive(long key, long defaultValue) {
+        final Cursor cursor = new Cursor();
+        return seekCeiling(cursor, key, false) ? cursor.leaf.keys[cursor.index] : defaultValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LongObjectSortedMap<V> subMapPrimitive(long fromKey, long toKey) {
+        if (compare(fromKey, toKey) > 0) {
+            throw new IllegalArgumentException("fromKey > toKey");
+        }
+        return new SubMap(false, fromKey, false, toKey);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LongObjectSortedMap<V> headMapPrimitive(long toKey) {
+        return new SubMap(true, LONG_DEFAULT, false, toKey);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LongObjectSortedMap<V> tailMapPrimitive(long fromKey) {
+        return new SubMap(false, fromKey, true, LONG_DEFAULT);
+    }
+
+    //-------------------- bulk --------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEach(java.util.function.BiConsumer<? super Long, ? super V> action) {
+        LongObjectSortedMap.super.forEach(action);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Entries are visited in ascending key order.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEachPrimitive(LongObjectConsumer<? super V> action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        for (Node leaf = firstLeaf(); leaf != null; leaf = leaf.next) {
+            final long[] keys = leaf.keys;
+            final Object[] values = leaf.values;
+            for (int i = 0, n = leaf.size; i < n; i++) {
+                action.acceptPrimitive(keys[i], (V) values[i]);
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        int h = 0;
+        for (Node leaf = firstLeaf(); leaf != null; leaf = leaf.next) {
+            for (int i = 0, n = leaf.size; i < n; i++) {
+                h += Long.hashCode(leaf.keys[i]) ^ Objects.hashCode(leaf.values[i]);
+            }
+        }
+        return h;
+    }
+
+    //-------------------- views --------------------
+
+    /**
+     * A map entry of a key and the value it had when the entry was returned.
+     * {@link #setValue(Object)} writes through to the map.
+     */
+    final class MapEntry implements Map.Entry<Long, V> {
+        final long key;
+        V value;
+
+        MapEntry(final long key, final V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        /**
+         * Primitive replacement of getKey()
+         *
+         * @return the key corresponding to this entry
+         */
+        public long getKeyPrimitive() {
+            return key;
+        }
+
+        @Override
+        public Long getKey() {
+            return getKeyPrimitive();
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public V setValue(final V v) {
+            final V oldValue = value;
+            // the key is already in the map, so this is not a structural modification.
+            putPrimitive(key, v);
+            value = v;
+            return oldValue;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            final Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            return e.getKey() instanceof Long
+                    && key == (Long) e.getKey()
+                    && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(key) ^ Objects.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    /**
+     * Iterator over the entries before an optional exclusive upper bound, in ascending key order.
+     * <p>
+     * When an entry is removed by the iterator, the tree may be rebalanced, so the iterator finds its
+     * position again by looking up the key after the removed one.
+     */
+    private final class EntryIterator extends Cursor implements Iterator<Map.Entry<Long, V>> {
+        final boolean toEnd;
+        final long hi;
+        boolean hasLast;
+        long last;
+        int expectedModCount = modCount;
+
+        EntryIterator(boolean toEnd, long hi) {
+            this.toEnd = toEnd;
+            this.hi = hi;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return leaf != null && (toEnd || compare(leaf.keys[index], hi) < 0);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map.Entry<Long, V> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final MapEntry entry = new MapEntry(leaf.keys[index], (V) leaf.values[index]);
+            if (++index >= leaf.size) {
+                leaf = leaf.next;
+                index = 0;
+            }
+            last = entry.key;
+            hasLast = true;
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            if (!hasLast) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            LongObjectBTreeMap.this.removePrimitive(last);
+            seekCeiling(this, last, false);
+            expectedModCount = modCount;
+            hasLast = false;
+        }
+    }
+
+    private transient Set<Map.Entry<Long, V>> entrySet;
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The set is ordered by the keys.
+     * Notice that using the returned set costs an object for every entry visited.
+     * Use {@link #forEachPrimitive(LongObjectConsumer)} whenever possible.
+     */
+    @Override
+    public Set<Map.Entry<Long, V>> entrySet() {
+        Set<Map.Entry<Long, V>> es;
+        return (es = entrySet) == null ? (entrySet = new EntrySet(null)) : es;
+    }
+
+    /**
+     * The entry set of the map, or of a sub map if subMap is not null.
+     */
+    private final class EntrySet extends AbstractSet<Map.Entry<Long, V>> {
+        final SubMap subMap;
+
+        EntrySet(SubMap subMap) {
+            this.subMap = subMap;
+        }
+
+        @Override
+        public Iterator<Map.Entry<Long, V>> iterator() {
+            if (subMap != null) {
+                return subMap.entryIterator();
+            }
+            final EntryIterator iterator = new EntryIterator(true, LONG_DEFAULT);
+            final Node leaf = firstLeaf();
+            if (leaf.size != 0) {
+                iterator.leaf = leaf;
+            }
+            return iterator;
+        }
+
+        @Override
+        public int size() {
+            return subMap == null ? size : subMap.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            final Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            if (!(e.getKey() instanceof Long)) {
+                return false;
+            }
+            final long key = (Long) e.getKey();
+            if (subMap != null && !subMap.inRange(key)) {
+                return false;
+            }
+            final Node leaf = leafOf(key);
+            final int i = search(leaf.keys, leaf.size, key);
+            return i >= 0 && Objects.equals(leaf.values[i], e.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!contains(o)) {
+                return false;
+            }
+            LongObjectBTreeMap.this.removePrimitive((Long) ((Map.Entry<?, ?>) o).getKey());
+            return true;
+        }
+    }
+
+    /**
+     * A view of the entries of the map in a key range.
+     */
+    private final class SubMap extends AbstractMap<Long, V> implements LongObjectSortedMap<V> {
+        final boolean fromStart;
+        final long lo;
+        final boolean toEnd;
+        final long hi;
+        private transient Set<Map.Entry<Long, V>> entrySet;
+
+        SubMap(boolean fromStart, long lo, boolean toEnd, long hi) {
+            this.fromStart = fromStart;
+            this.lo = lo;
+            this.toEnd = toEnd;
+            this.hi = hi;
+        }
+
+        boolean tooLow(long k) {
+            return !fromStart && compare(k, lo) < 0;
+        }
+
+        boolean tooHigh(long k) {
+            return !toEnd && compare(k, hi) >= 0;
+        }
+
+        boolean inRange(long k) {
+            return !tooLow(k) && !tooHigh(k);
+        }
+
+        /**
+         * If k is in range, or is the exclusive upper bound, which is legal as the upper bound of a sub view.
+         */
+        boolean inClosedRange(long k) {
+            return !tooLow(k) && (toEnd || compare(k, hi) <= 0);
+        }
+
+        EntryIterator entryIterator() {
+            final EntryIterator iterator = new EntryIterator(toEnd, hi);
+            if (fromStart) {
+                final Node leaf = firstLeaf();
+                if (leaf.size != 0) {
+                    iterator.leaf = leaf;
+                }
+            } else {
+                seekCeiling(iterator, lo, true);
+            }
+            return iterator;
+        }
+
+        @Override
+        public Set<Map.Entry<Long, V>> entrySet() {
+            Set<Map.Entry<Long, V>> es;
+            return (es = entrySet) == null ? (entrySet = new EntrySet(this)) : es;
+        }
+
+        @Override
+        public int size() {
+            int result = 0;
+            for (EntryIterator iterator = entryIterator(); iterator.hasNext(); iterator.next()) {
+                result++;
+            }
+            return result;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return !entryIterator().hasNext();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return LongObjectSortedMap.super.containsKey(key);
+        }
+
+        @Override
+        public boolean containsKeyPrimitive(long key) {
+            return inRange(key) && LongObjectBTreeMap.this.containsKeyPrimitive(key);
+        }
+
+        @Override
+        public V get(Object key) {
+            return LongObjectSortedMap.super.get(key);
+        }
+
+        @Override
+        public V getPrimitive(long key) {
+            return inRange(key) ? LongObjectBTreeMap.this.getPrimitive(key) : null;
+        }
+
+        @Override
+        public V put(Long key, V value) {
+            return LongObjectSortedMap.super.put(key, value);
+        }
+
+        @Override
+        public V putPrimitive(long key, V value) {
+            if (!inRange(key)) {
+                throw new IllegalArgumentException("key out of range");
+            }
+            return LongObjectBTreeMap.this.putPrimitive(key, value);
+        }
+
+        @Override
+        public V remove(Object key) {
+            return LongObjectSortedMap.super.remove(key);
+        }
+
+        @Override
+        public V removePrimitive(long key) {
+            return inRange(key) ? LongObjectBTreeMap.this.removePrimitive(key) : null;
+        }
+
+        @Override
+        public void forEach(java.util.function.BiConsumer<? super Long, ? super V> action) {
+            LongObjectSortedMap.super.forEach(action);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachPrimitive(LongObjectConsumer<? super V> action) {
+            Objects.requireNonNull(action);
+            for (EntryIterator iterator = entryIterator(); iterator.hasNext(); ) {
+                final Node leaf = iterator.leaf;
+                final int index = iterator.index;
+                iterator.next();
+                action.acceptPrimitive(leaf.keys[index], (V) leaf.values[index]);
+            }
+        }
+
+        @Override
+        public LongComparator comparator() {
+            return comparator;
+        }
+
+        @Override
+        public long firstKeyPrimitive() {
+            final EntryIterator iterator = entryIterator();
+            if (!iterator.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return iterator.leaf.keys[iterator.index];
+        }
+
+        @Override
+        public long lastKeyPrimitive() {
+            final Cursor cursor = new Cursor();
+            if (toEnd) {
+                if (LongObjectBTreeMap.this.size == 0) {
+                    throw new NoSuchElementException();
+                }
+                cursor.leaf = lastLeaf();
+                cursor.index = cursor.leaf.size - 1;
+            } else if (!seekFloor(cursor, hi, false)) {
+                throw new NoSuchElementException();
+            }
+            final long result = cursor.leaf.keys[cursor.index];
+            if (tooLow(result)) {
+                throw new NoSuchElementException();
+            }
+            return result;
+        }
+
+        @Override
+        public long floorKeyPrimitive(long key, long defaultValue) {
+            final Cursor cursor = new Cursor();
+            final boolean found = tooHigh(key) ? seekFloor(cursor, hi, false) : seekFloor(cursor, key, true);
+            return found && !tooLow(cursor.leaf.keys[cursor.index]) ? cursor.leaf.keys[cursor.index] : defaultValue;
+        }
+
+        @Override
+        public long ceilingKeyPrimitive(long key, long defaultValue) {
+            final Cursor cursor = new Cursor();
+            final boolean found = tooLow(key) ? seekCeiling(cursor, lo, true) : seekCeiling(cursor, key, true);
+            return found && !tooHigh(cursor.leaf.keys[cursor.index]) ? cursor.leaf.keys[cursor.index] : defaultValue;
+        }
+
+        @Override
+        public long lowerKeyPrimitive(long key, long defaultValue) {
+            final Cursor cursor = new Cursor();
+            final boolean found = tooHigh(key) ? seekFloor(cursor, hi, false) : seekFloor(cursor, key, false);
+            return found && !tooLow(cursor.leaf.keys[cursor.index]) ? cursor.leaf.keys[cursor.index] : defaultValue;
+        }
+
+        @Override
+        public long higherKeyPrimitive(long key, long defaultValue) {
+            final Cursor cursor = new Cursor();
+            final boolean found = tooLow(key) ? seekCeiling(cursor, lo, true) : seekCeiling(cursor, key, false);
+            return found && !tooHigh(cursor.leaf.keys[cursor.index]) ? cursor.leaf.keys[cursor.index] : defaultValue;
+        }
+
+        @Override
+        public LongObjectSortedMap<V> subMapPrimitive(long fromKey, long toKey) {
+            if (compare(fromKey, toKey) > 0) {
+                throw new IllegalArgumentException("fromKey > toKey");
+            }
+            if (!inRange(fromKey) || !inClosedRange(toKey)) {
+                throw new IllegalArgumentException("key out of range");
+            }
+            return new SubMap(false, fromKey, false, toKey);
+        }
+
+        @Override
+        public LongObjectSortedMap<V> headMapPrimitive(long toKey) {
+            if (!inClosedRange(toKey)) {
+                throw new IllegalArgumentException("key out of range");
+            }
+            return new SubMap(fromStart, lo, false, toKey);
+        }
+
+        @Override
+        public LongObjectSortedMap<V> tailMapPrimitive(long fromKey) {
+            if (!inRange(fromKey)) {
+                throw new IllegalArgumentException("key out of range");
+            }
+            return new SubMap(false, fromKey, toEnd, hi);
+        }
+    }
+
+    //-------------------- clone & serialization --------------------
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns a shallow copy of this {@code LongObjectBTreeMap} instance: the keys and
+     * values themselves are not cloned.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public LongObjectBTreeMap<V> clone() {
+        LongObjectBTreeMap<V> c;
+        try {
+            c = (LongObjectBTreeMap<V>) super.clone();
+        } catch (CloneNotSupportedException e) {
+            // this shouldn't happen, since we are Cloneable
+            throw new InternalError(e);
+        }
+        c.entrySet = null;
+        c.root = new Node(true);
+        c.size = 0;
+        c.modCount = 0;
+        for (Node leaf = firstLeaf(); leaf != null; leaf = leaf.next) {
+            for (int i = 0; i < leaf.size; i++) {
+                c.putPrimitive(leaf.keys[i], (V) leaf.values[i]);
+            }
+        }
+        return c;
+    }
+
+    /**
+     * Saves the state of the {@code LongObjectBTreeMap} instance to a stream
+     * (that is, serializes it).
+     *
+     * @param s the stream
+     * @throws java.io.IOException if an I/O error occurs
+     * @serialData The comparator is emitted by default serialization, followed by the size of the map (int),
+     * followed by all of its keys (each a {@code long}) and values (each an {@code Object}), in ascending key
+     * order.
+     */
+    private void writeObject(java.io.ObjectOutputStream s)
+            throws java.io.IOException {
+        final int expectedModCount = modCount;
+        s.defaultWriteObject();
+        s.writeInt(size);
+        for (Node leaf = firstLeaf(); leaf != null; leaf = leaf.next) {
+            for (int i = 0; i < leaf.size; i++) {
+                s.writeLong(leaf.keys[i]);
+                s.writeObject(leaf.values[i]);
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Reconstitutes the {@code LongObjectBTreeMap} instance from a stream (that is,
+     * deserializes it).
+     *
+     * @param s the stream
+     * @throws java.io.IOException              if an I/O error occurs
+     * @throws java.lang.ClassNotFoundException if any.
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(java.io.ObjectInputStream s)
+            throws java.io.IOException, ClassNotFoundException {
+        s.defaultReadObject();
+        final int mappings = s.readInt();
+        if (mappings < 0) {
+            throw new java.io.InvalidObjectException("Invalid size: " + mappings);
+        }
+        root = new Node(true);
+        for (int i = 0; i < mappings; i++) {
+            final long key = s.readLong();
+            this.putPrimitive(key, (V) s.readObject());
+        }
+    }
+}
@@ -0,0 +1,1063 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xenoamess.commons.primitive.collections.queues.array_deques;
+
+import com.xenoamess.commons.primitive.Primitive;
+import com.xenoamess.commons.primitive.collections.CharCollection;
+import com.xenoamess.commons.primitive.collections.HashCommon;
+import com.xenoamess.commons.primitive.collections.lists.linked_lists.CharLinkedList;
+import com.xenoamess.commons.primitive.collections.queues.CharDeque;
+import com.xenoamess.commons.primitive.functions.CharConsumer;
+import com.xenoamess.commons.primitive.functions.CharPredicate;
+import com.xenoamess.commons.primitive.io.PrimitiveArrayIO;
+import com.xenoamess.commons.primitive.iterators.CharIterator;
+import com.xenoamess.commons.primitive.iterators.CharSpliterator;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.AbstractCollection;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Resizable-array implementation of the {@link CharDeque} interface, whose elements are {@code char}.
+ * <p>
+ * This class aims to reduce performance issue of autoboxing and unboxing.
+ * <p>
+ * This class is designed to be a replacement to {@code ArrayDeque<Character>}, and is likely to be faster than
+ * {@link CharLinkedList} when used as a queue or a stack, as it does not allocate a node per element.
+ * <p>
+ * Elements are kept in a circular {@code char[]} whose length is always a power of two, so that wrapping an
+ * index is a single mask. The array is chard when it gets full, and never shrinks unless {@link #trim()} is
+ * called.
+ * <p>
+ * Like {@link CharLinkedList}, {@link #pollFirstPrimitive()}, {@link #peekFirstPrimitive()} and the likes
+ * return {@link Primitive#CHAR_DEFAULT} when this deque is empty.
+ * <p>
+ * It have functions dealing with {@code Character} for being a {@code Deque},
+ * but nearly all of its functions have a replacement named XXXPrimitive.
+ * The basic idea is use XXXPrimitive functions whenever possible, and only use
+ * other functions when you have to.
+ * <p>
+ * <strong>Note that this implementation is not synchronized.</strong>
+ * The iterators of this class are <i>fail-fast</i>.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see ArrayDeque
+ * @see CharDeque
+ */
+public class CharArrayDeque extends AbstractCollection<Character>
+        implements CharDeque, Cloneable, java.io.Serializable, Primitive {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The minimum capacity that we'll use for a newly created deque.
+     * Must be a power of 2.
+     */
+    private static final int MIN_INITIAL_CAPACITY = 8;
+
+    /**
+     * The array in which the elements of the deque are stored.
+     * Its length is always a power of two, and is never full, except temporarily within an addX method.
+     */
+    transient char[] elements;
+
+    /**
+     * The index of the element at the head of the deque (which is the element that would be removed by
+     * removeFirst() or pop()); or an arbitrary number equal to tail if the deque is empty.
+     */
+    transient int head;
+
+    /**
+     * The index at which the next element would be added to the tail of the deque (via addLast(E), add(E),
+     * or push(E)).
+     */
+    transient int tail;
+
+    /**
+     * The number of times this deque has been structurally modified.
+     */
+    transient int modCount;
+
+    /**
+     * Constructs an empty array deque with an initial capacity sufficient to hold 16 elements.
+     */
+    public CharArrayDeque() {
+        elements = new char[16];
+    }
+
+    /**
+     * Constructs an empty array deque with an initial capacity sufficient to hold the specified number of
+     * elements.
+     *
+     * @param numElements lower bound on initial capacity of the deque
+     */
+    public CharArrayDeque(int numElements) {
+        elements = new char[calculateSize(numElements)];
+    }
+
+    /**
+     * Constructs a deque containing the elements of the specified collection, in the order they are
+     * returned by the collection's iterator.
+     *
+     * @param c the collection whose elements are to be placed into the deque
+     * @throws java.lang.NullPointerException if the specified collection is null, or contains null
+     */
+    public CharArrayDeque(Collection<? extends Character> c) {
+        this(c.size());
+        this.addAll(c);
+    }
+
+    /**
+     * Constructs a deque containing the elements of the specified array, in order.
+     *
+     * @param a the array whose elements are to be placed into the deque
+     * @throws java.lang.NullPointerException if the specified array is null
+     */
+    public CharArrayDeque(char[] a) {
+        this(a.length);
+        System.arraycopy(a, 0, elements, 0, a.length);
+        tail = a.length;
+    }
+
+    private static int calculateSize(int numElements) {
+        if (numElements < MIN_INITIAL_CAPACITY) {
+            return MIN_INITIAL_CAPACITY;
+        }
+        if (numElements >= HashCommon.MAXIMUM_CAPACITY) {
+            return HashCommon.MAXIMUM_CAPACITY;
+        }
+        // one more slot, as the array is never full
+        return HashCommon.nextPowerOfTwo(numElements + 1);
+    }
+
+    /**
+     * Chars the capacity of this deque. Call only when full, i.e., when head and tail have wrapped around
+     * to become equal.
+     */
+    private void charCapacity() {
+        assert head == tail;
+        final int p = head;
+        final int n = elements.length;
+        final int r = n - p; // number of elements to the right of p
+        final int newCapacity = n << 1;
+        if (newCapacity < 0) {
+            throw new IllegalStateException("Sorry, deque too big");
+        }
+        final char[] a = new char[newCapacity];
+        System.arraycopy(elements, p, a, 0, r);
+        System.arraycopy(elements, 0, a, r, p);
+        elements = a;
+        head = 0;
+        tail = n;
+    }
+
+    /**
+     * Copies the elements from our element array into the specified array, in order (from first to last
+     * element in the deque). It is assumed that the array is large enough to hold all elements in the deque.
+     *
+     * @return its argument
+     */
+    private char[] copyElements(char[] a) {
+        if (head < tail) {
+            System.arraycopy(elements, head, a, 0, size());
+        } else if (head > tail) {
+            final int headPortionLen = elements.length - head;
+            System.arraycopy(elements, head, a, 0, headPortionLen);
+            System.arraycopy(elements, 0, a, headPortionLen, tail);
+        }
+        return a;
+    }
+
+    /**
+     * Increases the capacity of this deque, if necessary, to ensure that it can hold at least the number of
+     * elements specified by the argument without growing.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity >= elements.length) {
+            resize(calculateSize(minCapacity));
+        }
+    }
+
+    /**
+     * Shrinks the array to the smallest power of two length that can hold the current elements.
+     */
+    public void trim() {
+        final int newCapacity = calculateSize(size());
+        if (newCapacity < elements.length) {
+            resize(newCapacity);
+        }
+    }
+
+    private void resize(int newCapacity) {
+        final int size = size();
+        elements = copyElements(new char[newCapacity]);
+        head = 0;
+        tail = size;
+    }
+
+    // The main insertion and extraction methods are addFirst,
+    // addLast, pollFirst, pollLast. The other methods are defined in
+    // terms of these.
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addFirstPrimitive(char e) {
+        final char[] es = elements;
+        es[head = (head - 1) & (es.length - 1)] = e;
+        modCount++;
+        if (head == tail) {
+            charCapacity();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addLastPrimitive(char e) {
+        final char[] es = elements;
+        es[tail] = e;
+        modCount++;
+        if ((tail = (tail + 1) & (es.length - 1)) == head) {
+            charCapacity();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean offerFirstPrimitive(char e) {
+        addFirstPrimitive(e);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean offerLastPrimitive(char e) {
+        addLastPrimitive(e);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char removeFirstPrimitive() {
+        if (head == tail) {
+            throw new NoSuchElementException();
+        }
+        return pollFirstPrimitive();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char removeLastPrimitive() {
+        if (head == tail) {
+            throw new NoSuchElementException();
+        }
+        return pollLastPrimitive();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the head of this deque, or {@link Primitive#CHAR_DEFAULT} if this deque is empty
+     */
+    @Override
+    public char pollFirstPrimitive() {
+        final int h = head;
+        if (h == tail) {
+            return CHAR_DEFAULT;
+        }
+        final char result = elements[h];
+        head = (h + 1) & (elements.length - 1);
+        modCount++;
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the tail of this deque, or {@link Primitive#CHAR_DEFAULT} if this deque is empty
+     */
+    @Override
+    public char pollLastPrimitive() {
+        if (head == tail) {
+            return CHAR_DEFAULT;
+        }
+        final int t = (tail - 1) & (elements.length - 1);
+        tail = t;
+        modCount++;
+        return elements[t];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char getFirstPrimitive() {
+        if (head == tail) {
+            throw new NoSuchElementException();
+        }
+        return elements[head];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char getLastPrimitive() {
+        if (head == tail) {
+            throw new NoSuchElementException();
+        }
+        return elements[(tail - 1) & (elements.length - 1)];
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the head of this deque, or {@link Primitive#CHAR_DEFAULT} if this deque is empty
+     */
+    @Override
+    public char peekFirstPrimitive() {
+        return head == tail ? CHAR_DEFAULT : elements[head];
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the tail of this deque, or {@link Primitive#CHAR_DEFAULT} if this deque is empty
+     */
+    @Override
+    public char peekLastPrimitive() {
+        return head == tail ? CHAR_DEFAULT : elements[(tail - 1) & (elements.length - 1)];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeFirstOccurrencePrimitive(char o) {
+        final int mask = elements.length - 1;
+        final char[] es = elements;
+        for (int i = head; i != tail; i = (i + 1) & mask) {
+            if (o == es[i]) {
+                delete(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeLastOccurrencePrimitive(char o) {
+        final int mask = elements.length - 1;
+        final char[] es = elements;
+        for (int i = (tail - 1) & mask; i != ((head - 1) & mask); i = (i - 1) & mask) {
+            if (o == es[i]) {
+                delete(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // *** Queue methods ***
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean add(Character e) {
+        return CharDeque.super.add(e);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method is equivalent to {@link #addLastPrimitive}.
+     */
+    @Override
+    public boolean addPrimitive(char e) {
+        addLastPrimitive(e);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean offerPrimitive(char e) {
+        return offerLastPrimitive(e);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char removePrimitive() {
+        return removeFirstPrimitive();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char pollPrimitive() {
+        return pollFirstPrimitive();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char elementPrimitive() {
+        return getFirstPrimitive();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char peekPrimitive() {
+        return peekFirstPrimitive();
+    }
+
+    // *** Stack methods ***
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void pushPrimitive(char e) {
+        addFirstPrimitive(e);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char popPrimitive() {
+        return removeFirstPrimitive();
+    }
+
+    /**
+     * Removes the element at the specified position in the elements array, adjusting head and tail as
+     * necessary. This can result in motion of elements backwards or forwards in the array.
+     *
+     * @param i the position of the element
+     * @return true if elements moved backwards
+     */
+    boolean delete(int i) {
+        final char[] es = elements;
+        final int mask = es.length - 1;
+        final int h = head;
+        final int t = tail;
+        final int front = (i - h) & mask;
+        final int back = (t - i) & mask;
+
+        // Invariant: head <= i < tail mod circularity
+        if (front >= ((t - h) & mask)) {
+            throw new ConcurrentModificationException();
+        }
+
+        modCount++;
+        // Optimize for least element motion
+        if (front < back) {
+            if (h <= i) {
+                System.arraycopy(es, h, es, h + 1, front);
+            } else { // Wrap around
+                System.arraycopy(es, 0, es, 1, i);
+                es[0] = es[mask];
+                System.arraycopy(es, h, es, h + 1, mask - h);
+            }
+            head = (h + 1) & mask;
+            return false;
+        } else {
+            if (i < t) { // Copy the null tail as well
+                System.arraycopy(es, i + 1, es, i, back);
+                tail = t - 1;
+            } else { // Wrap around
+                System.arraycopy(es, i + 1, es, i, mask - i);
+                es[mask] = es[0];
+                System.arraycopy(es, 1, es, 0, t);
+                tail = (t - 1) & mask;
+            }
+            return true;
+        }
+    }
+
+    // *** Collection Methods ***
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return (tail - head) & (elements.length - 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return head == tail;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(Object o) {
+        return CharDeque.super.contains(o);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsPrimitive(char o) {
+        final int mask = elements.length - 1;
+        final char[] es = elements;
+        for (int i = head; i != tail; i = (i + 1) & mask) {
+            if (o == es[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remove(Object o) {
+        return CharDeque.super.remove(o);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeByContentPrimitive(char o) {
+        return removeFirstOccurrencePrimitive(o);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addAll(Collection<? extends Character> c) {
+        ensureCapacity(size() + c.size());
+        if (c instanceof CharCollection) {
+            final CharIterator iterator = ((CharCollection) c).iterator();
+            while (iterator.hasNext()) {
+                this.addLastPrimitive(iterator.nextPrimitive());
+            }
+        } else {
+            for (Character e : c) {
+                this.addLast(e);
+            }
+        }
+        return !c.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        if (head != tail) {
+            head = tail = 0;
+            modCount++;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEach(Consumer<? super Character> action) {
+        CharDeque.super.forEach(action);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachPrimitive(CharConsumer action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        final char[] es = elements;
+        final int mask = es.length - 1;
+        for (int i = head, t = tail; i != t; i = (i + 1) & mask) {
+            action.acceptPrimitive(es[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeIf(Predicate<? super Character> filter) {
+        return CharDeque.super.removeIf(filter);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The remaining elements are compacted in one pass.
+     */
+    @Override
+    public boolean removeIfPrimitive(CharPredicate filter) {
+        Objects.requireNonNull(filter);
+        final int expectedModCount = modCount;
+        final char[] es = elements;
+        final int mask = es.length - 1;
+        final int t = tail;
+        int i = head;
+        // find the first element to remove
+        while (i != t && !filter.testPrimitive(es[i])) {
+            i = (i + 1) & mask;
+        }
+        if (i == t) {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return false;
+        }
+        int w = i;
+        for (i = (i + 1) & mask; i != t; i = (i + 1) & mask) {
+            final char e = es[i];
+            if (!filter.testPrimitive(e)) {
+                es[w] = e;
+                w = (w + 1) & mask;
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        tail = w;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char[] toArrayPrimitive() {
+        return copyElements(new char[size()]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char[] toArrayPrimitive(char[] a) {
+        final int size = size();
+        if (a.length < size) {
+            a = new char[size];
+        }
+        return copyElements(a);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CharIterator iterator() {
+        return new DeqIterator();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CharIterator descendingIterator() {
+        return new DescendingIterator();
+    }
+
+    private class DeqIterator implements CharIterator {
+        /**
+         * Index of element to be returned by subsequent call to next.
+         */
+        int cursor = head;
+
+        /**
+         * Tail recorded at construction (also in remove), to stop iterator.
+         */
+        int fence = tail;
+
+        /**
+         * Index of element returned by most recent call to next.
+         * Reset to -1 if element is deleted by a call to remove.
+         */
+        int lastRet = -1;
+
+        int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor != fence;
+        }
+
+        @Override
+        public char nextPrimitive() {
+            if (cursor == fence) {
+                throw new NoSuchElementException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            final char result = elements[cursor];
+            lastRet = cursor;
+            cursor = (cursor + 1) & (elements.length - 1);
+            return result;
+        }
+
+        @Override
+        public void remove() {
+            if (lastRet < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (delete(lastRet)) { // if left-shifted, undo increment in next()
+                cursor = (cursor - 1) & (elements.length - 1);
+            }
+            fence = tail;
+            lastRet = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    private class DescendingIterator implements CharIterator {
+        /*
+         * This class is nearly a mirror-image of DeqIterator, using tail
+         * instead of head for initial cursor, and head instead of tail
+         * for fence.
+         */
+        int cursor = tail;
+        int fence = head;
+        int lastRet = -1;
+        int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor != fence;
+        }
+
+        @Override
+        public char nextPrimitive() {
+            if (cursor == fence) {
+                throw new NoSuchElementException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            cursor = (cursor - 1) & (elements.length - 1);
+            lastRet = cursor;
+            return elements[cursor];
+        }
+
+        @Override
+        public void remove() {
+            if (lastRet < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!delete(lastRet)) { // if right-shifted, undo decrement in next()
+                cursor = (cursor + 1) & (elements.length - 1);
+            }
+            fence = head;
+            lastRet = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned spliterator is <em>late-binding</em>, and reports {@link Spliterator#SIZED},
+     * {@link Spliterator#SUBSIZED}, {@link Spliterator#ORDERED}, and {@link Spliterator#NONNULL}.
+     */
+    @Override
+    public CharSpliterator spliterator() {
+        return new DeqSpliterator(this, -1, -1);
+    }
+
+    static final class DeqSpliterator implements CharSpliterator.CharOfCharacter {
+        private final CharArrayDeque deq;
+        private int fence;  // -1 until first use
+        private int index;  // current index, modified on traverse/split
+        private int expectedModCount;
+
+        /**
+         * Creates new spliterator covering the given array and range
+         */
+        DeqSpliterator(CharArrayDeque deq, int origin, int fence) {
+            this.deq = deq;
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        private int getFence() { // force initialization
+            int t;
+            if ((t = fence) < 0) {
+                t = fence = deq.tail;
+                index = deq.head;
+                expectedModCount = deq.modCount;
+            }
+            return t;
+        }
+
+        @Override
+        public DeqSpliterator trySplit() {
+            final int t = getFence();
+            final int h = index;
+            final int n = deq.elements.length;
+            if (h != t && ((h + 1) & (n - 1)) != t) {
+                int m = (h + ((t - h) & (n - 1)) / 2) & (n - 1);
+                DeqSpliterator result = new DeqSpliterator(deq, h, m);
+                result.expectedModCount = expectedModCount;
+                index = m;
+                return result;
+            }
+            return null;
+        }
+
+        @Override
+        public void forEachRemaining(CharConsumer action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            final char[] a = deq.elements;
+            final int m = a.length - 1;
+            final int f = getFence();
+            int i = index;
+            index = f;
+            while (i != f) {
+                action.acceptPrimitive(a[i]);
+                i = (i + 1) & m;
+            }
+            if (deq.modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(CharConsumer action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            final char[] a = deq.elements;
+            final int m = a.length - 1;
+            final int f = getFence();
+            final int i = index;
+            if (i != f) {
+                final char e = a[i];
+                index = (i + 1) & m;
+                action.acceptPrimitive(e);
+                if (deq.modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public long estimateSize() {
+            int n = getFence() - index;
+            if (n < 0) {
+                n += deq.elements.length;
+            }
+            return n;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED |
+                    Spliterator.NONNULL | Spliterator.SUBSIZED;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns a copy of this deque.
+     */
+    @Override
+    public CharArrayDeque clone() {
+        CharArrayDeque result;
+        try {
+            result = (CharArrayDeque) super.clone();
+        } catch (CloneNotSupportedException e) {
+            // this shouldn't happen, since we are Cloneable
+            throw new InternalError(e);
+        }
+        result.elements = elements.clone();
+        result.modCount = 0;
+        return result;
+    }
+
+    /**
+     * Saves this deque to a stream (that is, serializes it).
+     *
+     * @param s the stream
+     * @throws java.io.IOException if an I/O error occurs
+     * @serialData The current size ({@code int}) of the deque,
+     * followed by all of its elements (each a {@code char}) in
+     * first-to-last order.
+     */
+    private void writeObject(java.io.ObjectOutputStream s)
+            throws java.io.IOException {
+        s.defaultWriteObject();
+
+        // Write out size
+        s.writeInt(size());
+
+        // Write out elements in order.
+        final int mask = elements.length - 1;
+        for (int i = head; i != tail; i = (i + 1) & mask) {
+            s.writeChar(elements[i]);
+        }
+    }
+
+    /**
+     * Reconstitutes this deque from a stream (that is, deserializes it).
+     *
+     * @param s the stream
+     * @throws java.io.IOException              if an I/O error occurs
+     * @throws java.lang.ClassNotFoundException if any.
+     */
+    private void readObject(java.io.ObjectInputStream s)
+            throws java.io.IOException, ClassNotFoundException {
+        s.defaultReadObject();
+
+        // Read in size and allocate array
+        final int size = s.readInt();
+        if (size < 0) {
+            throw new java.io.InvalidObjectException("Invalid size: " + size);
+        }
+        elements = new char[calculateSize(size)];
+        head = 0;
+        tail = size;
+
+        // Read in all elements in the proper order.
+        for (int i = 0; i < size; i++) {
+            elements[i] = s.readChar();
+        }
+    }
+
+    /**
+     * Writes the elements of this deque in first-to-last order to the channel, in the binary format of
+     * {@link PrimitiveArrayIO}.
+     *
+     * @param channel the channel to write to, which shall be blocking
+     * @throws java.io.IOException if an I/O error occurs
+     * @see #readFrom(ReadableByteChannel)
+     */
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        PrimitiveArrayIO.write(channel, elements, head, size());
+    }
+
+    /**
+     * Writes the elements of this deque in first-to-last order to the buffer at its position, in the binary format of
+     * {@link PrimitiveArrayIO}, and advances the position of the buffer.
+     *
+     * @param buffer the buffer to write to
+     * @throws java.nio.BufferOverflowException if there is not enough room in the buffer
+     * @see #readFrom(ByteBuffer)
+     */
+    public void writeTo(ByteBuffer buffer) {
+        PrimitiveArrayIO.write(buffer, elements, head, size());
+    }
+
+    /**
+     * Reads a deque written by {@link #writeTo(WritableByteChannel)} from the channel.
+     *
+     * @param channel the channel to read from, which shall be blocking
+     * @return the deque read
+     * @throws java.io.IOException                if an I/O error occurs
+     * @throws java.lang.IllegalArgumentException if the channel does not contain a deque of {@code char}
+     */
+    public static CharArrayDeque readFrom(ReadableByteChannel channel) throws IOException {
+        final CharArrayDeque result = new CharArrayDeque(0);
+        result.elements = PrimitiveArrayIO.readCharArray(channel, count -> {
+            result.tail = count;
+            return new char[calculateSize(count)];
+        });
+        return result;
+    }
+
+    /**
+     * Reads a deque written by {@link #writeTo(ByteBuffer)} from the buffer at its position, and
+     * advances the position of the buffer.
+     *
+     * @param buffer the buffer to read from
+     * @return the deque read
+     * @throws java.nio.BufferUnderflowException   if the buffer ends before the deque does
+     * @throws java.lang.IllegalArgumentException if the buffer does not contain a deque of {@code char}
+     */
+    public static CharArrayDeque readFrom(ByteBuffer buffer) {
+        final CharArrayDeque result = new CharArrayDeque(0);
+        result.elements = PrimitiveArrayIO.readCharArray(buffer, count -> {
+            result.tail = count;
+            return new char[calculateSize(count)];
+        });
+        return result;
+    }
+}
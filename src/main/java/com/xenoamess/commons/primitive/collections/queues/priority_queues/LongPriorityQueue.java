@@ -0,0 +1,781 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xenoamess.commons.primitive.collections.queues.priority_queues;
+
+import com.xenoamess.commons.primitive.Primitive;
+import com.xenoamess.commons.primitive.collections.LongCollection;
+import com.xenoamess.commons.primitive.collections.HashCommon;
+import com.xenoamess.commons.primitive.collections.queues.LongQueue;
+import com.xenoamess.commons.primitive.collections.queues.array_deques.LongArrayDeque;
+import com.xenoamess.commons.primitive.comparators.LongComparator;
+import com.xenoamess.commons.primitive.iterators.LongIterator;
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * An unbounded priority queue based on a priority heap, whose elements are {@code long}.
+ * <p>
+ * This class aims to reduce performance issue of autoboxing and unboxing.
+ * <p>
+ * This class is designed to be a replacement to {@code PriorityQueue<Long>}.
+ * The elements of the priority queue are ordered according to their natural ordering
+ * (see {@link Long#compare}), or by a {@link LongComparator} provided at queue construction time.
+ * The <em>head</em> of this queue is the least element with respect to the specified ordering.
+ * <p>
+ * The heap is a balanced binary heap kept in a flat {@code long[]}: the two children of queue[n] are
+ * queue[2*n+1] and queue[2*(n+1)]. {@link #addAllPrimitive(long[])} builds the heap bottom-up in linear time,
+ * instead of sifting every element up.
+ * <p>
+ * Like the other primitive queues, {@link #pollPrimitive()} and {@link #peekPrimitive()} return
+ * {@link Primitive#LONG_DEFAULT} when this queue is empty.
+ * <p>
+ * The Iterator provided in method {@link #iterator()} is <em>not</em> guaranteed to traverse the elements
+ * of the priority queue in any particular order.
+ * <p>
+ * <strong>Note that this implementation is not synchronized.</strong>
+ * The iterators of this class are <i>fail-fast</i>.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see PriorityQueue
+ * @see LongQueue
+ */
+public class LongPriorityQueue extends AbstractCollection<Long>
+        implements LongQueue, java.io.Serializable, Primitive {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 11;
+
+    /**
+     * The maximum size of array to allocate.
+     * Some VMs reserve some header words in an array.
+     * Attempts to allocate larger arrays may result in
+     * OutOfMemoryError: Requested array size exceeds VM limit
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * Priority queue represented as a balanced binary heap: the two
+     * children of queue[n] are queue[2*n+1] and queue[2*(n+1)].  The
+     * priority queue is ordered by comparator, or by the elements'
+     * natural ordering, if comparator is null: For each node n in the
+     * heap and each descendant d of n, n &lt;= d.  The element with the
+     * lowest value is in queue[0], assuming the queue is nonempty.
+     */
+    transient long[] queue;
+
+    /**
+     * The number of elements in the priority queue.
+     */
+    int size;
+
+    /**
+     * The comparator, or null if priority queue uses elements'
+     * natural ordering.
+     *
+     * @serial
+     */
+    private final LongComparator comparator;
+
+    /**
+     * The number of times this priority queue has been
+     * <i>structurally modified</i>.  See AbstractList for gory details.
+     */
+    transient int modCount;
+
+    /**
+     * Creates a {@code LongPriorityQueue} with the default initial
+     * capacity (11) that orders its elements according to their
+     * natural ordering.
+     */
+    public LongPriorityQueue() {
+        this(DEFAULT_INITIAL_CAPACITY, null);
+    }
+
+    /**
+     * Creates a {@code LongPriorityQueue} with the specified initial
+     * capacity that orders its elements according to their natural
+     * ordering.
+     *
+     * @param initialCapacity the initial capacity for this priority queue
+     * @throws java.lang.IllegalArgumentException if {@code initialCapacity} is less than 1
+     */
+    public LongPriorityQueue(int initialCapacity) {
+        this(initialCapacity, null);
+    }
+
+    /**
+     * Creates a {@code LongPriorityQueue} with the default initial capacity and
+     * whose elements are ordered according to the specified comparator.
+     *
+     * @param comparator the comparator that will be used to order this
+     *                   priority queue.  If {@code null}, the {@linkplain Comparable
+     *                   natural ordering} of the elements will be used.
+     */
+    public LongPriorityQueue(LongComparator comparator) {
+        this(DEFAULT_INITIAL_CAPACITY, comparator);
+    }
+
+    /**
+     * Creates a {@code LongPriorityQueue} with the specified initial capacity
+     * that orders its elements according to the specified comparator.
+     *
+     * @param initialCapacity the initial capacity for this priority queue
+     * @param comparator      the comparator that will be used to order this
+     *                        priority queue.  If {@code null}, the {@linkplain Comparable
+     *                        natural ordering} of the elements will be used.
+     * @throws java.lang.IllegalArgumentException if {@code initialCapacity} is
+     *                                            less than 1
+     */
+    public LongPriorityQueue(int initialCapacity, LongComparator comparator) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.queue = new long[initialCapacity];
+        this.comparator = comparator;
+    }
+
+    /**
+     * Creates a {@code LongPriorityQueue} containing the elements in the
+     * specified array, ordered according to their natural ordering.
+     * The heap is built in linear time.
+     *
+     * @param a the array whose elements are to be placed into this priority queue
+     * @throws java.lang.NullPointerException if the specified array is null
+     */
+    public LongPriorityQueue(long[] a) {
+        this(a, null);
+    }
+
+    /**
+     * Creates a {@code LongPriorityQueue} containing the elements in the
+     * specified array, ordered according to the specified comparator.
+     * The heap is built in linear time.
+     *
+     * @param a          the array whose elements are to be placed into this priority queue
+     * @param comparator the comparator that will be used to order this
+     *                   priority queue.  If {@code null}, the {@linkplain Comparable
+     *                   natural ordering} of the elements will be used.
+     * @throws java.lang.NullPointerException if the specified array is null
+     */
+    public LongPriorityQueue(long[] a, LongComparator comparator) {
+        this.queue = Arrays.copyOf(a, Math.max(1, a.length));
+        this.size = a.length;
+        this.comparator = comparator;
+        heapify();
+    }
+
+    /**
+     * Creates a {@code LongPriorityQueue} containing the elements in the
+     * specified collection, ordered according to their natural ordering.
+     *
+     * @param c the collection whose elements are to be placed
+     *          into this priority queue
+     * @throws java.lang.NullPointerException if the specified collection or any
+     *                                        of its elements are null
+     */
+    public LongPriorityQueue(Collection<? extends Long> c) {
+        this(toArrayPrimitive(c), null);
+    }
+
+    private static long[] toArrayPrimitive(Collection<? extends Long> c) {
+        if (c instanceof LongCollection) {
+            return ((LongCollection) c).toArrayPrimitive();
+        }
+        final long[] result = new long[c.size()];
+        int i = 0;
+        for (Long e : c) {
+            result[i++] = e;
+        }
+        return result;
+    }
+
+    /**
+     * Increases the capacity of the array.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    private void grow(int minCapacity) {
+        final int oldCapacity = queue.length;
+        // Long size if small; else grow by 50%
+        int newCapacity = oldCapacity + ((oldCapacity < 64) ?
+                (oldCapacity + 2) :
+                (oldCapacity >> 1));
+        if (newCapacity - minCapacity < 0) {
+            newCapacity = minCapacity;
+        }
+        // overflow-conscious code
+        if (newCapacity - MAX_ARRAY_SIZE > 0) {
+            newCapacity = hugeCapacity(minCapacity);
+        }
+        queue = Arrays.copyOf(queue, newCapacity);
+    }
+
+    private static int hugeCapacity(int minCapacity) {
+        if (minCapacity < 0) {
+            // overflow
+            throw new OutOfMemoryError();
+        }
+        return (minCapacity > MAX_ARRAY_SIZE) ?
+                Integer.MAX_VALUE :
+                MAX_ARRAY_SIZE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean add(Long e) {
+        return LongQueue.super.add(e);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addPrimitive(long e) {
+        return offerPrimitive(e);
+    }
+
+    /**
+     * Inserts the specified element into this priority queue.
+     *
+     * @return {@code true} (as specified by {@link java.util.Queue#offer})
+     */
+    @Override
+    public boolean offerPrimitive(long e) {
+        modCount++;
+        final int i = size;
+        if (i >= queue.length) {
+            grow(i + 1);
+        }
+        siftUp(i, e);
+        size = i + 1;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addAll(Collection<? extends Long> c) {
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        return addAllPrimitive(toArrayPrimitive(c));
+    }
+
+    /**
+     * Adds all of the elements in the specified array to this priority queue.
+     * <p>
+     * If the array is not much smaller than this queue, the elements are appended, and the whole heap is
+     * rebuilt bottom-up, which is O(size + a.length) instead of O(a.length * log(size)).
+     *
+     * @param a elements to be inserted into this queue
+     * @return {@code true} if this queue changed as a result of the call
+     * @throws java.lang.NullPointerException if the specified array is null
+     */
+    public boolean addAllPrimitive(long[] a) {
+        final int n = a.length;
+        if (n == 0) {
+            return false;
+        }
+        modCount++;
+        final int oldSize = size;
+        final int newSize = oldSize + n;
+        if (newSize < 0) {
+            throw new OutOfMemoryError();
+        }
+        if (newSize > queue.length) {
+            grow(newSize);
+        }
+        // sifting up costs log(size) per element, heapify costs a constant per element of the whole queue
+        if (n >= (oldSize >>> 2)) {
+            System.arraycopy(a, 0, queue, oldSize, n);
+            size = newSize;
+            heapify();
+        } else {
+            for (int i = 0; i < n; i++) {
+                siftUp(oldSize + i, a[i]);
+                size = oldSize + i + 1;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long peekPrimitive() {
+        return (size == 0) ? LONG_DEFAULT : queue[0];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long elementPrimitive() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return queue[0];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long pollPrimitive() {
+        if (size == 0) {
+            return LONG_DEFAULT;
+        }
+        final int s = --size;
+        modCount++;
+        final long[] es = queue;
+        final long result = es[0];
+        if (s != 0) {
+            siftDown(0, es[s], s);
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long removePrimitive() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return pollPrimitive();
+    }
+
+    private int indexOf(long o) {
+        final long[] es = queue;
+        for (int i = 0, n = size; i < n; i++) {
+            if (o == es[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(Object o) {
+        return LongQueue.super.contains(o);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsPrimitive(long o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remove(Object o) {
+        return LongQueue.super.remove(o);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeByContentPrimitive(long o) {
+        final int i = indexOf(o);
+        if (i == -1) {
+            return false;
+        }
+        removeAt(i);
+        return true;
+    }
+
+    /**
+     * Version of remove using bit equality, for use by the iterator.
+     */
+    void removeEq(long o) {
+        final long[] es = queue;
+        for (int i = 0, n = size; i < n; i++) {
+            if (HashCommon.keyEquals(o, es[i])) {
+                removeAt(i);
+                break;
+            }
+        }
+    }
+
+    /**
+     * Removes the ith element from queue.
+     * <p>
+     * Normally this method leaves the elements at up to i-1,
+     * inclusive, untouched.  Under these circumstances, it returns
+     * false.  Occasionally, in order to maintain the heap invariant,
+     * it must swap a later element of the list with one earlier than
+     * i.  Under these circumstances, this method returns true, and the
+     * element that was previously at the end of the list is now at
+     * some position before i.  This fact is used by iterator.remove so
+     * as to avoid missing traversing elements.
+     *
+     * @param i the index
+     * @return if the last element was moved before i
+     */
+    boolean removeAt(int i) {
+        final long[] es = queue;
+        modCount++;
+        final int s = --size;
+        if (s == i) {
+            // removed last element
+            return false;
+        }
+        final long moved = es[s];
+        return siftDown(i, moved, s) == i && siftUp(i, moved) != i;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long[] toArrayPrimitive() {
+        return Arrays.copyOf(queue, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long[] toArrayPrimitive(long[] a) {
+        final int size = this.size;
+        if (a.length < size) {
+            return Arrays.copyOf(queue, size);
+        }
+        System.arraycopy(queue, 0, a, 0, size);
+        return a;
+    }
+
+    /**
+     * Returns an iterator over the elements in this queue. The iterator
+     * does not return the elements in any particular order.
+     *
+     * @return an iterator over the elements in this queue
+     */
+    @Override
+    public LongIterator iterator() {
+        return new Itr();
+    }
+
+    private final class Itr implements LongIterator {
+        /**
+         * Index (into queue array) of element to be returned by
+         * subsequent call to next.
+         */
+        private int cursor;
+
+        /**
+         * Index of element returned by most recent call to next,
+         * unless that element came from the forgetMeNot list.
+         * Set to -1 if element is deleted by a call to remove.
+         */
+        private int lastRet = -1;
+
+        /**
+         * A queue of elements that were moved from the unvisited portion of
+         * the heap into the visited portion as a result of "unlucky" element
+         * removals during the iteration.  (Unlucky element removals are those
+         * that require a siftup instead of a siftdown.)  We must visit all of
+         * the elements in this list to complete the iteration.  We do this
+         * after we've completed the "normal" iteration.
+         */
+        private LongArrayDeque forgetMeNot;
+
+        /**
+         * Element returned by the most recent call to next iff that
+         * element was drawn from the forgetMeNot list.
+         */
+        private long lastRetElt;
+
+        /**
+         * If lastRetElt is valid.
+         */
+        private boolean hasLastRetElt;
+
+        /**
+         * The modCount value that the iterator believes that the backing
+         * Queue should have.  If this expectation is violated, the iterator
+         * has detected concurrent modification.
+         */
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size ||
+                    (forgetMeNot != null && !forgetMeNot.isEmpty());
+        }
+
+        @Override
+        public long nextPrimitive() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (cursor < size) {
+                return queue[lastRet = cursor++];
+            }
+            if (forgetMeNot != null && !forgetMeNot.isEmpty()) {
+                lastRet = -1;
+                lastRetElt = forgetMeNot.pollFirstPrimitive();
+                hasLastRetElt = true;
+                return lastRetElt;
+            }
+            throw new NoSuchElementException();
+        }
+
+        @Override
+        public void remove() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (lastRet != -1) {
+                final long moved = queue[size - 1];
+                if (removeAt(lastRet)) {
+                    if (forgetMeNot == null) {
+                        forgetMeNot = new LongArrayDeque();
+                    }
+                    forgetMeNot.addLastPrimitive(moved);
+                } else {
+                    cursor--;
+                }
+                lastRet = -1;
+            } else if (hasLastRetElt) {
+                removeEq(lastRetElt);
+                hasLastRetElt = false;
+            } else {
+                throw new IllegalStateException();
+            }
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all of the elements from this priority queue.
+     * The queue will be empty after this call returns.
+     */
+    @Override
+    public void clear() {
+        modCount++;
+        size = 0;
+    }
+
+    /**
+     * Inserts item x at position k, maintaining heap invariant by
+     * promoting x up the tree until it is greater than or equal to
+     * its parent, or is the root.
+     *
+     * @param k the position to fill
+     * @param x the item to insert
+     * @return the position x ends in
+     */
+    private int siftUp(int k, long x) {
+        final long[] es = queue;
+        final LongComparator cmp = comparator;
+        if (cmp == null) {
+            while (k > 0) {
+                final int parent = (k - 1) >>> 1;
+                final long e = es[parent];
+                if (Long.compare(x, e) >= 0) {
+                    break;
+                }
+                es[k] = e;
+                k = parent;
+            }
+        } else {
+            while (k > 0) {
+                final int parent = (k - 1) >>> 1;
+                final long e = es[parent];
+                if (cmp.compare(x, e) >= 0) {
+                    break;
+                }
+                es[k] = e;
+                k = parent;
+            }
+        }
+        es[k] = x;
+        return k;
+    }
+
+    /**
+     * Inserts item x at position k, maintaining heap invariant by
+     * demoting x down the tree repeatedly until it is less than or
+     * equal to its children or is a leaf.
+     *
+     * @param k the position to fill
+     * @param x the item to insert
+     * @param n heap size
+     * @return the position x ends in
+     */
+    private int siftDown(int k, long x, int n) {
+        final long[] es = queue;
+        final LongComparator cmp = comparator;
+        // loop while a non-leaf
+        final int half = n >>> 1;
+        if (cmp == null) {
+            while (k < half) {
+                // assume left child is least
+                int child = (k << 1) + 1;
+                long c = es[child];
+                final int right = child + 1;
+                if (right < n && Long.compare(c, es[right]) > 0) {
+                    c = es[child = right];
+                }
+                if (Long.compare(x, c) <= 0) {
+                    break;
+                }
+                es[k] = c;
+                k = child;
+            }
+        } else {
+            while (k < half) {
+                int child = (k << 1) + 1;
+                long c = es[child];
+                final int right = child + 1;
+                if (right < n && cmp.compare(c, es[right]) > 0) {
+                    c = es[child = right];
+                }
+                if (cmp.compare(x, c) <= 0) {
+                    break;
+                }
+                es[k] = c;
+                k = child;
+            }
+        }
+        es[k] = x;
+        return k;
+    }
+
+    /**
+     * Establishes the heap invariant in the entire tree, in linear time.
+     */
+    private void heapify() {
+        final long[] es = queue;
+        final int n = size;
+        for (int i = (n >>> 1) - 1; i >= 0; i--) {
+            siftDown(i, es[i], n);
+        }
+    }
+
+    /**
+     * Returns the comparator used to order the elements in this
+     * queue, or {@code null} if this queue is sorted according to
+     * the {@linkplain Comparable natural ordering} of its elements.
+     *
+     * @return the comparator used to order this queue, or
+     * {@code null} if this queue is sorted according to the
+     * natural ordering of its elements
+     */
+    public LongComparator comparator() {
+        return comparator;
+    }
+
+    /**
+     * Saves this queue to a stream (that is, serializes it).
+     *
+     * @param s the stream
+     * @throws java.io.IOException if an I/O error occurs
+     * @serialData The length of the array backing the instance is
+     * emitted (int), followed by all of its elements
+     * (each a {@code long}) in the proper order.
+     */
+    private void writeObject(java.io.ObjectOutputStream s)
+            throws java.io.IOException {
+        // Write out element count, and any hidden stuff
+        s.defaultWriteObject();
+
+        // Write out array length, for compatibility with 1.5 version
+        s.writeInt(Math.max(2, size + 1));
+
+        // Write out all elements in the "proper order".
+        final long[] es = queue;
+        for (int i = 0, n = size; i < n; i++) {
+            s.writeLong(es[i]);
+        }
+    }
+
+    /**
+     * Reconstitutes the {@code LongPriorityQueue} instance from a stream
+     * (that is, deserializes it).
+     *
+     * @param s the stream
+     * @throws java.io.IOException              if an I/O error occurs
+     * @throws java.lang.ClassNotFoundException if any.
+     */
+    private void readObject(java.io.ObjectInputStream s)
+            throws java.io.IOException, ClassNotFoundException {
+        // Read in size, and any hidden stuff
+        s.defaultReadObject();
+
+        // Read in (and discard) array length
+        s.readInt();
+
+        if (size < 0) {
+            throw new java.io.InvalidObjectException("Invalid size: " + size);
+        }
+        final long[] es = queue = new long[Math.max(size, 1)];
+
+        // Read in all elements.
+        for (int i = 0, n = size; i < n; i++) {
+            es[i] = s.readLong();
+        }
+
+        // Elements are guaranteed to be in "proper order", but the
+        // spec has never explained what that might be.
+        heapify();
+    }
+}
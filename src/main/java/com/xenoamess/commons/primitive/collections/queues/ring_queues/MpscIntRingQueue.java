@@ -0,0 +1,536 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xenoamess.commons.primitive.collections.queues.ring_queues;
+
+import com.xenoamess.commons.primitive.Primitive;
+import com.xenoamess.commons.primitive.collections.HashCommon;
+import com.xenoamess.commons.primitive.collections.queues.IntQueue;
+import com.xenoamess.commons.primitive.functions.IntConsumer;
+import com.xenoamess.commons.primitive.iterators.IntIterator;
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bounded lock-free multi-producer single-consumer FIFO queue, whose elements are {@code int}.
+ * <p>
+ * This class aims to reduce performance issue of autoboxing and unboxing.
+ * <p>
+ * This class is designed to be a replacement to {@code ArrayBlockingQueue<Integer>}, when there is only one thread
+ * taking elements out.
+ * <p>
+ * Elements are kept in a power-of-two sized ring buffer of {@code int}, padded at both ends so that the slots
+ * do not share a cache line with the array header or other objects. Every slot has a sequence counter besides:
+ * a producer claims a slot by a CAS on the padded producer index, writes the element, and then publishes it by
+ * setting the slot's sequence; the consumer releases the slot for the next round by setting the sequence again.
+ * As the sequence of a slot tells whether it is free, published or not yet published, producers never read the
+ * consumer index, and the consumer never reads the producer index.
+ * <p>
+ * <strong>Any threads may call the producer methods</strong> ({@code offer}, {@code add}, {@code put}), but
+ * <strong>at most one thread may call the consumer methods</strong> ({@code poll}, {@code remove}, {@code peek},
+ * {@code element}, {@code take}, {@code drainTo}, {@code clear}) at the same time. Other methods can be called
+ * from any thread, and are weakly consistent.
+ * <p>
+ * Like the other primitive queues, {@link #pollPrimitive()} and {@link #peekPrimitive()} return
+ * {@link Primitive#INT_DEFAULT} when this queue is empty. Use {@link #drainTo(IntConsumer, int)} or
+ * {@link #takePrimitive()} if the default value is a legal element.
+ * Notice that an element whose slot is claimed but whose writing is not finished yet is not visible to the
+ * consumer, so {@link #pollPrimitive()} can see an empty queue while {@link #isEmpty()} returns {@code false}.
+ * <p>
+ * Removing an element in the middle of the queue is not supported.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see SpscIntRingQueue
+ * @see RingQueueWaitStrategy
+ */
+public class MpscIntRingQueue extends AbstractCollection<Integer> implements IntQueue, Primitive {
+    /**
+     * Slots of padding at each end of the buffer, which is 128 bytes.
+     */
+    static final int PAD = 128 / Integer.BYTES;
+
+    private final int[] buffer;
+
+    /**
+     * The sequence of each slot. For the element of index {@code i}, the sequence of its slot is {@code i} when the
+     * slot is free, and {@code i + 1} when the element is published.
+     */
+    private final AtomicLongArray sequences;
+
+    private final int mask;
+
+    private final RingQueueWaitStrategy waitStrategy;
+
+    /**
+     * Index of the next slot to claim.
+     */
+    private final PaddedSequence producerIndex = new PaddedSequence();
+
+    /**
+     * Index of the next slot to read.
+     */
+    private final PaddedSequence consumerIndex = new PaddedSequence();
+
+    /**
+     * Creates a queue with at least the given capacity, using {@link RingQueueWaitStrategy#PARKING}.
+     *
+     * @param capacity the minimum capacity, which will be rounded up to a power of two, and at least 2
+     * @throws java.lang.IllegalArgumentException if capacity is not positive or too large
+     */
+    public MpscIntRingQueue(int capacity) {
+        this(capacity, RingQueueWaitStrategy.PARKING);
+    }
+
+    /**
+     * Creates a queue with at least the given capacity.
+     *
+     * @param capacity     the minimum capacity, which will be rounded up to a power of two, and at least 2
+     * @param waitStrategy how {@link #putPrimitive(int)} and {@link #takePrimitive()} wait
+     * @throws java.lang.IllegalArgumentException if capacity is not positive or too large
+     * @throws java.lang.NullPointerException     if waitStrategy is null
+     */
+    public MpscIntRingQueue(int capacity, RingQueueWaitStrategy waitStrategy) {
+        if (capacity <= 0 || capacity > HashCommon.MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("Illegal capacity: " + capacity);
+        }
+        // with only one slot, a free sequence and a published sequence would be the same.
+        final int actualCapacity = Math.max(2, HashCommon.nextPowerOfTwo(capacity));
+        this.buffer = new int[actualCapacity + 2 * PAD];
+        this.sequences = new AtomicLongArray(actualCapacity);
+        for (int i = 0; i < actualCapacity; i++) {
+            this.sequences.lazySet(i, i);
+        }
+        this.mask = actualCapacity - 1;
+        this.waitStrategy = Objects.requireNonNull(waitStrategy);
+    }
+
+    /**
+     * Returns the capacity of this queue, which is a power of two.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Returns the wait strategy of this queue.
+     *
+     * @return the wait strategy
+     */
+    public RingQueueWaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Producer method.
+     */
+    @Override
+    public boolean offerPrimitive(int e) {
+        final PaddedSequence producerIndex = this.producerIndex;
+        final AtomicLongArray sequences = this.sequences;
+        long p = producerIndex.get();
+        while (true) {
+            final int slot = (int) (p & mask);
+            final long sequence = sequences.get(slot);
+            if (sequence == p) {
+                if (producerIndex.compareAndSet(p, p + 1)) {
+                    buffer[PAD + slot] = e;
+                    sequences.lazySet(slot, p + 1);
+                    return true;
+                }
+            } else if (sequence < p) {
+                // the element of last round in this slot is not consumed yet.
+                return false;
+            }
+            p = producerIndex.get();
+        }
+    }
+
+    /**
+     * Inserts the element into this queue, waiting with the wait strategy if the queue is full.
+     * <p>
+     * Producer method.
+     *
+     * @param e the element to add
+     * @throws java.lang.InterruptedException if interrupted while waiting
+     */
+    public void putPrimitive(int e) throws InterruptedException {
+        int idleCount = 0;
+        while (!offerPrimitive(e)) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            waitStrategy.idle(idleCount++);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean add(Integer e) {
+        return IntQueue.super.add(e);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Producer method.
+     *
+     * @throws java.lang.IllegalStateException if this queue is full
+     */
+    @Override
+    public boolean addPrimitive(int e) {
+        if (offerPrimitive(e)) {
+            return true;
+        }
+        throw new IllegalStateException("Queue full");
+    }
+
+    private boolean isPublished(long c) {
+        return sequences.get((int) (c & mask)) == c + 1;
+    }
+
+    /**
+     * Reads the element of index c, and releases its slot for the next round.
+     */
+    private int consume(long c) {
+        final int slot = (int) (c & mask);
+        final int e = buffer[PAD + slot];
+        sequences.lazySet(slot, c + mask + 1);
+        consumerIndex.lazySet(c + 1);
+        return e;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Consumer method.
+     */
+    @Override
+    public int pollPrimitive() {
+        final long c = consumerIndex.get();
+        if (!isPublished(c)) {
+            return INT_DEFAULT;
+        }
+        return consume(c);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Consumer method.
+     */
+    @Override
+    public int removePrimitive() {
+        final long c = consumerIndex.get();
+        if (!isPublished(c)) {
+            throw new NoSuchElementException();
+        }
+        return consume(c);
+    }
+
+    /**
+     * Retrieves and removes the head of this queue, waiting with the wait strategy if the queue is empty.
+     * <p>
+     * Consumer method.
+     *
+     * @return the head of this queue
+     * @throws java.lang.InterruptedException if interrupted while waiting
+     */
+    public int takePrimitive() throws InterruptedException {
+        final long c = consumerIndex.get();
+        int idleCount = 0;
+        while (!isPublished(c)) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            waitStrategy.idle(idleCount++);
+        }
+        return consume(c);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Consumer method.
+     */
+    @Override
+    public int peekPrimitive() {
+        final long c = consumerIndex.get();
+        if (!isPublished(c)) {
+            return INT_DEFAULT;
+        }
+        return buffer[PAD + (int) (c & mask)];
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Consumer method.
+     */
+    @Override
+    public int elementPrimitive() {
+        final long c = consumerIndex.get();
+        if (!isPublished(c)) {
+            throw new NoSuchElementException();
+        }
+        return buffer[PAD + (int) (c & mask)];
+    }
+
+    /**
+     * Removes at most {@code limit} published elements from this queue, and gives them to the consumer in order.
+     * <p>
+     * Consumer method.
+     * <p>
+     * The consumer index is written only once for the whole batch.
+     * If {@code consumer} throws, the elements given to it before are still removed, and the others are not.
+     *
+     * @param consumer the consumer of the elements
+     * @param limit    the maximum count of elements to remove
+     * @return the count of elements removed
+     * @throws java.lang.NullPointerException     if consumer is null
+     * @throws java.lang.IllegalArgumentException if limit is negative
+     */
+    public int drainTo(IntConsumer consumer, int limit) {
+        Objects.requireNonNull(consumer);
+        if (limit < 0) {
+            throw new IllegalArgumentException("Illegal limit: " + limit);
+        }
+        final int[] buffer = this.buffer;
+        final AtomicLongArray sequences = this.sequences;
+        final int mask = this.mask;
+        final long c = consumerIndex.get();
+        int i = 0;
+        try {
+            for (; i < limit; i++) {
+                final long index = c + i;
+                final int slot = (int) (index & mask);
+                if (sequences.get(slot) != index + 1) {
+                    break;
+                }
+                consumer.acceptPrimitive(buffer[PAD + slot]);
+                sequences.lazySet(slot, index + mask + 1);
+            }
+        } finally {
+            if (i > 0) {
+                consumerIndex.lazySet(c + i);
+            }
+        }
+        return i;
+    }
+
+    /**
+     * Removes all published elements from this queue, and gives them to the consumer in order.
+     * <p>
+     * Consumer method.
+     *
+     * @param consumer the consumer of the elements
+     * @return the count of elements removed
+     * @throws java.lang.NullPointerException if consumer is null
+     * @see #drainTo(IntConsumer, int)
+     */
+    public int drainTo(IntConsumer consumer) {
+        return drainTo(consumer, Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Consumer method. Removes all published elements.
+     */
+    @Override
+    public void clear() {
+        drainTo(e -> {
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The result is an estimate if the producers or the consumer work at the same time, and it counts claimed
+     * but not yet published elements.
+     */
+    @Override
+    public int size() {
+        long after = consumerIndex.get();
+        while (true) {
+            final long before = after;
+            final long p = producerIndex.get();
+            after = consumerIndex.get();
+            if (before == after) {
+                return (int) (p - after);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The result is an estimate if the producers or the consumer work at the same time.
+     */
+    @Override
+    public boolean isEmpty() {
+        return consumerIndex.get() >= producerIndex.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(Object o) {
+        return IntQueue.super.contains(o);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsPrimitive(int o) {
+        final IntIterator iterator = this.iterator();
+        while (iterator.hasNext()) {
+            if (o == iterator.nextPrimitive()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remove(Object o) {
+        return IntQueue.super.remove(o);
+    }
+
+    /**
+     * Not supported.
+     *
+     * @throws java.lang.UnsupportedOperationException always
+     */
+    @Override
+    public boolean removeByContentPrimitive(int o) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int[] toArrayPrimitive() {
+        int[] result = new int[size()];
+        int i = 0;
+        final IntIterator iterator = this.iterator();
+        while (iterator.hasNext()) {
+            if (i == result.length) {
+                result = Arrays.copyOf(result, Math.max(1, i << 1));
+            }
+            result[i++] = iterator.nextPrimitive();
+        }
+        return i == result.length ? result : Arrays.copyOf(result, i);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int[] toArrayPrimitive(int[] a) {
+        final int[] result = toArrayPrimitive();
+        if (a.length < result.length) {
+            return result;
+        }
+        System.arraycopy(result, 0, a, 0, result.length);
+        if (a.length > result.length) {
+            a[result.length] = INT_DEFAULT;
+        }
+        return a;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned iterator is weakly consistent: it never returns an element that was not in this queue, and returns
+     * the elements in order, but may or may not reflect elements offered or polled after its creation.
+     * It stops at the first element not published yet. It does not support {@code remove}.
+     */
+    @Override
+    public IntIterator iterator() {
+        return new Itr();
+    }
+
+    private final class Itr implements IntIterator {
+        private long index = consumerIndex.get();
+        private boolean hasNextElement;
+        private int nextElement;
+
+        Itr() {
+            advance();
+        }
+
+        private void advance() {
+            while (true) {
+                final int slot = (int) (index & mask);
+                final long sequence = sequences.get(slot);
+                if (sequence == index + 1) {
+                    final int e = buffer[PAD + slot];
+                    // the slot can not be written again before the consumer releases it.
+                    if (sequences.get(slot) == sequence) {
+                        nextElement = e;
+                        hasNextElement = true;
+                        index++;
+                        return;
+                    }
+                } else if (sequence <= index) {
+                    hasNextElement = false;
+                    return;
+                }
+                // already consumed.
+                index = Math.max(index + 1, consumerIndex.get());
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return hasNextElement;
+        }
+
+        @Override
+        public int nextPrimitive() {
+            if (!hasNextElement) {
+                throw new NoSuchElementException();
+            }
+            final int e = nextElement;
+            advance();
+            return e;
+        }
+    }
+}
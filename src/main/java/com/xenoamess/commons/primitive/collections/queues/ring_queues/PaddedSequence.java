@@ -0,0 +1,167 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xenoamess.commons.primitive.collections.queues.ring_queues;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Cache line padding in front of the value of a {@link PaddedSequence}.
+ * <p>
+ * Fields of super classes are laid out before fields of sub classes, so the padding can not be reordered away.
+ */
+@SuppressWarnings("unused")
+abstract class PaddedSequenceLhsPadding {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p10, p11, p12, p13, p14, p15, p16;
+}
+
+/**
+ * The value fields of a {@link PaddedSequence}.
+ */
+abstract class PaddedSequenceValue extends PaddedSequenceLhsPadding {
+    volatile long value;
+
+    long cached;
+}
+
+/**
+ * Cache line padding behind the value of a {@link PaddedSequence}.
+ */
+@SuppressWarnings("unused")
+abstract class PaddedSequenceRhsPadding extends PaddedSequenceValue {
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+    long p30, p31, p32, p33, p34, p35, p36;
+}
+
+/**
+ * A {@code long} sequence counter, padded so that it does not share a cache line with any other hot field.
+ * <p>
+ * It is used as the producer index and the consumer index of the ring queues in this package, which are written by
+ * different threads, and would slow each other down by false sharing if they were put together.
+ * <p>
+ * Besides the volatile value, it has a plain field {@link #getCached()}, which the thread owning this sequence
+ * can use to cache the last seen value of the other side's sequence.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ */
+public final class PaddedSequence extends PaddedSequenceRhsPadding {
+    private static final AtomicLongFieldUpdater<PaddedSequenceValue> VALUE_UPDATER =
+            AtomicLongFieldUpdater.newUpdater(PaddedSequenceValue.class, "value");
+
+    /**
+     * Creates a sequence with value 0.
+     */
+    public PaddedSequence() {
+        this(0L);
+    }
+
+    /**
+     * Creates a sequence with the given initial value.
+     *
+     * @param initialValue the initial value
+     */
+    public PaddedSequence(long initialValue) {
+        this.value = initialValue;
+        this.cached = initialValue;
+    }
+
+    /**
+     * Volatile read of the value.
+     *
+     * @return the current value
+     */
+    public long get() {
+        return value;
+    }
+
+    /**
+     * Volatile write of the value.
+     *
+     * @param newValue the new value
+     */
+    public void set(long newValue) {
+        value = newValue;
+    }
+
+    /**
+     * Ordered write of the value.
+     * <p>
+     * The write is not reordered with any previous write, so it is enough to publish the elements written before it,
+     * but it is cheaper than {@link #set(long)} as it does not wait for the store buffer to drain.
+     *
+     * @param newValue the new value
+     */
+    public void lazySet(long newValue) {
+        VALUE_UPDATER.lazySet(this, newValue);
+    }
+
+    /**
+     * Atomically sets the value to the given updated value if the current value {@code ==} the expected value.
+     *
+     * @param expect the expected value
+     * @param update the new value
+     * @return {@code true} if successful
+     */
+    public boolean compareAndSet(long expect, long update) {
+        return VALUE_UPDATER.compareAndSet(this, expect, update);
+    }
+
+    /**
+     * Atomically adds the given value to the current value.
+     *
+     * @param delta the value to add
+     * @return the previous value
+     */
+    public long getAndAdd(long delta) {
+        return VALUE_UPDATER.getAndAdd(this, delta);
+    }
+
+    /**
+     * Plain read of the cached field.
+     *
+     * @return the cached value
+     */
+    public long getCached() {
+        return cached;
+    }
+
+    /**
+     * Plain write of the cached field.
+     *
+     * @param cached the new cached value
+     */
+    public void setCached(long cached) {
+        this.cached = cached;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return Long.toString(get());
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xenoamess.commons.primitive.collections.queues.ring_queues;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * How the blocking operations of the ring queues wait, when the queue is full (for producers) or empty
+ * (for consumers).
+ * <p>
+ * The ring queues are lock-free, so nobody wakes the waiting thread up, and it has to check again after every
+ * {@link #idle(int)}. The strategies trade latency for cpu usage.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ */
+public enum RingQueueWaitStrategy {
+    /**
+     * Spins all the time. Lowest latency, but burns a whole core while waiting.
+     */
+    BUSY_SPIN {
+        @Override
+        public void idle(int idleCount) {
+            // just check again.
+        }
+    },
+
+    /**
+     * Spins for a while, then yields the cpu to other threads.
+     */
+    YIELDING {
+        @Override
+        public void idle(int idleCount) {
+            if (idleCount >= SPIN_TRIES) {
+                Thread.yield();
+            }
+        }
+    },
+
+    /**
+     * Spins for a while, then yields for a while, then parks the thread for {@link #PARK_NANOS} nanoseconds.
+     * The default strategy.
+     */
+    PARKING {
+        @Override
+        public void idle(int idleCount) {
+            if (idleCount < SPIN_TRIES) {
+                return;
+            }
+            if (idleCount < SPIN_TRIES + YIELD_TRIES) {
+                Thread.yield();
+                return;
+            }
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    };
+
+    /**
+     * Times to spin before yielding.
+     */
+    public static final int SPIN_TRIES = 100;
+
+    /**
+     * Times to yield before parking.
+     */
+    public static final int YIELD_TRIES = 100;
+
+    /**
+     * Nanoseconds to park for each time in {@link #PARKING}.
+     */
+    public static final long PARK_NANOS = 1000L;
+
+    /**
+     * Waits a little, after the {@code idleCount}-th failed try.
+     *
+     * @param idleCount how many times the waiting thread has failed since it began to wait, starting from 0
+     */
+    public abstract void idle(int idleCount);
+}
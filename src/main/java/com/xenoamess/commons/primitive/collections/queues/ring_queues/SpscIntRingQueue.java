@@ -0,0 +1,522 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xenoamess.commons.primitive.collections.queues.ring_queues;
+
+import com.xenoamess.commons.primitive.Primitive;
+import com.xenoamess.commons.primitive.collections.HashCommon;
+import com.xenoamess.commons.primitive.collections.queues.IntQueue;
+import com.xenoamess.commons.primitive.functions.IntConsumer;
+import com.xenoamess.commons.primitive.iterators.IntIterator;
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A bounded lock-free single-producer single-consumer FIFO queue, whose elements are {@code int}.
+ * <p>
+ * This class aims to reduce performance issue of autoboxing and unboxing.
+ * <p>
+ * This class is designed to be a replacement to {@code ArrayBlockingQueue<Integer>}, when there is only one thread
+ * putting elements in, and only one thread taking elements out.
+ * <p>
+ * Elements are kept in a power-of-two sized ring buffer of {@code int}, padded at both ends so that the slots
+ * do not share a cache line with the array header or other objects. The producer index and the consumer index are
+ * two {@link PaddedSequence}s, each only written by one side, so {@link #offerPrimitive(int)} and
+ * {@link #pollPrimitive()} never use a lock or a CAS. Each side also caches the last seen index of the other side,
+ * and only reads the other side's index when the cached one says the queue is full (or empty).
+ * <p>
+ * <strong>At most one thread may call the producer methods</strong> ({@code offer}, {@code add}, {@code put}), and
+ * <strong>at most one thread may call the consumer methods</strong> ({@code poll}, {@code remove}, {@code peek},
+ * {@code element}, {@code take}, {@code drainTo}, {@code clear}) at the same time. Other methods can be called
+ * from any thread, and are weakly consistent.
+ * <p>
+ * Like the other primitive queues, {@link #pollPrimitive()} and {@link #peekPrimitive()} return
+ * {@link Primitive#INT_DEFAULT} when this queue is empty. Use {@link #drainTo(IntConsumer, int)} or
+ * {@link #takePrimitive()} if the default value is a legal element.
+ * <p>
+ * Removing an element in the middle of the queue is not supported.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see MpscIntRingQueue
+ * @see RingQueueWaitStrategy
+ */
+public class SpscIntRingQueue extends AbstractCollection<Integer> implements IntQueue, Primitive {
+    /**
+     * Slots of padding at each end of the buffer, which is 128 bytes.
+     */
+    static final int PAD = 128 / Integer.BYTES;
+
+    private final int[] buffer;
+
+    private final int mask;
+
+    private final RingQueueWaitStrategy waitStrategy;
+
+    /**
+     * Index of the next slot to write. Its cached field is the last seen value of {@link #consumerIndex}.
+     */
+    private final PaddedSequence producerIndex = new PaddedSequence();
+
+    /**
+     * Index of the next slot to read. Its cached field is the last seen value of {@link #producerIndex}.
+     */
+    private final PaddedSequence consumerIndex = new PaddedSequence();
+
+    /**
+     * Creates a queue with at least the given capacity, using {@link RingQueueWaitStrategy#PARKING}.
+     *
+     * @param capacity the minimum capacity, which will be rounded up to a power of two
+     * @throws java.lang.IllegalArgumentException if capacity is not positive or too large
+     */
+    public SpscIntRingQueue(int capacity) {
+        this(capacity, RingQueueWaitStrategy.PARKING);
+    }
+
+    /**
+     * Creates a queue with at least the given capacity.
+     *
+     * @param capacity     the minimum capacity, which will be rounded up to a power of two
+     * @param waitStrategy how {@link #putPrimitive(int)} and {@link #takePrimitive()} wait
+     * @throws java.lang.IllegalArgumentException if capacity is not positive or too large
+     * @throws java.lang.NullPointerException     if waitStrategy is null
+     */
+    public SpscIntRingQueue(int capacity, RingQueueWaitStrategy waitStrategy) {
+        if (capacity <= 0 || capacity > HashCommon.MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("Illegal capacity: " + capacity);
+        }
+        final int actualCapacity = HashCommon.nextPowerOfTwo(capacity);
+        this.buffer = new int[actualCapacity + 2 * PAD];
+        this.mask = actualCapacity - 1;
+        this.waitStrategy = Objects.requireNonNull(waitStrategy);
+    }
+
+    private int offset(long index) {
+        return PAD + (int) (index & mask);
+    }
+
+    /**
+     * Returns the capacity of this queue, which is a power of two.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Returns the wait strategy of this queue.
+     *
+     * @return the wait strategy
+     */
+    public RingQueueWaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Producer method.
+     */
+    @Override
+    public boolean offerPrimitive(int e) {
+        final PaddedSequence producerIndex = this.producerIndex;
+        final long p = producerIndex.get();
+        final long wrapPoint = p - mask - 1;
+        if (producerIndex.getCached() <= wrapPoint) {
+            final long c = consumerIndex.get();
+            producerIndex.setCached(c);
+            if (c <= wrapPoint) {
+                return false;
+            }
+        }
+        buffer[offset(p)] = e;
+        producerIndex.lazySet(p + 1);
+        return true;
+    }
+
+    /**
+     * Inserts the element into this queue, waiting with the wait strategy if the queue is full.
+     * <p>
+     * Producer method.
+     *
+     * @param e the element to add
+     * @throws java.lang.InterruptedException if interrupted while waiting
+     */
+    public void putPrimitive(int e) throws InterruptedException {
+        int idleCount = 0;
+        while (!offerPrimitive(e)) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            waitStrategy.idle(idleCount++);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean add(Integer e) {
+        return IntQueue.super.add(e);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Producer method.
+     *
+     * @throws java.lang.IllegalStateException if this queue is full
+     */
+    @Override
+    public boolean addPrimitive(int e) {
+        if (offerPrimitive(e)) {
+            return true;
+        }
+        throw new IllegalStateException("Queue full");
+    }
+
+    /**
+     * Returns the count of elements that can be read by the consumer without reading the producer index again,
+     * reading it only when the cached one shows nothing to read.
+     */
+    private long available(long c) {
+        final PaddedSequence consumerIndex = this.consumerIndex;
+        long p = consumerIndex.getCached();
+        if (p <= c) {
+            p = producerIndex.get();
+            consumerIndex.setCached(p);
+        }
+        return p - c;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Consumer method.
+     */
+    @Override
+    public int pollPrimitive() {
+        final long c = consumerIndex.get();
+        if (available(c) <= 0) {
+            return INT_DEFAULT;
+        }
+        final int e = buffer[offset(c)];
+        consumerIndex.lazySet(c + 1);
+        return e;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Consumer method.
+     */
+    @Override
+    public int removePrimitive() {
+        final long c = consumerIndex.get();
+        if (available(c) <= 0) {
+            throw new NoSuchElementException();
+        }
+        final int e = buffer[offset(c)];
+        consumerIndex.lazySet(c + 1);
+        return e;
+    }
+
+    /**
+     * Retrieves and removes the head of this queue, waiting with the wait strategy if the queue is empty.
+     * <p>
+     * Consumer method.
+     *
+     * @return the head of this queue
+     * @throws java.lang.InterruptedException if interrupted while waiting
+     */
+    public int takePrimitive() throws InterruptedException {
+        final long c = consumerIndex.get();
+        int idleCount = 0;
+        while (available(c) <= 0) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            waitStrategy.idle(idleCount++);
+        }
+        final int e = buffer[offset(c)];
+        consumerIndex.lazySet(c + 1);
+        return e;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Consumer method.
+     */
+    @Override
+    public int peekPrimitive() {
+        final long c = consumerIndex.get();
+        if (available(c) <= 0) {
+            return INT_DEFAULT;
+        }
+        return buffer[offset(c)];
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Consumer method.
+     */
+    @Override
+    public int elementPrimitive() {
+        final long c = consumerIndex.get();
+        if (available(c) <= 0) {
+            throw new NoSuchElementException();
+        }
+        return buffer[offset(c)];
+    }
+
+    /**
+     * Removes at most {@code limit} elements from this queue, and gives them to the consumer in order.
+     * <p>
+     * Consumer method.
+     * <p>
+     * The producer index is read only once, and the consumer index is written only once for the whole batch.
+     * If {@code consumer} throws, the elements given to it before are still removed, and the others are not.
+     *
+     * @param consumer the consumer of the elements
+     * @param limit    the maximum count of elements to remove
+     * @return the count of elements removed
+     * @throws java.lang.NullPointerException     if consumer is null
+     * @throws java.lang.IllegalArgumentException if limit is negative
+     */
+    public int drainTo(IntConsumer consumer, int limit) {
+        Objects.requireNonNull(consumer);
+        if (limit < 0) {
+            throw new IllegalArgumentException("Illegal limit: " + limit);
+        }
+        final PaddedSequence consumerIndex = this.consumerIndex;
+        final long c = consumerIndex.get();
+        final long p = producerIndex.get();
+        consumerIndex.setCached(p);
+        final int n = (int) Math.min(limit, p - c);
+        if (n <= 0) {
+            return 0;
+        }
+        final int[] buffer = this.buffer;
+        int i = 0;
+        try {
+            for (; i < n; i++) {
+                consumer.acceptPrimitive(buffer[offset(c + i)]);
+            }
+        } finally {
+            consumerIndex.lazySet(c + i);
+        }
+        return n;
+    }
+
+    /**
+     * Removes all available elements from this queue, and gives them to the consumer in order.
+     * <p>
+     * Consumer method.
+     *
+     * @param consumer the consumer of the elements
+     * @return the count of elements removed
+     * @throws java.lang.NullPointerException if consumer is null
+     * @see #drainTo(IntConsumer, int)
+     */
+    public int drainTo(IntConsumer consumer) {
+        return drainTo(consumer, Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Consumer method.
+     */
+    @Override
+    public void clear() {
+        final long p = producerIndex.get();
+        if (consumerIndex.get() < p) {
+            consumerIndex.setCached(p);
+            consumerIndex.lazySet(p);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The result is an estimate if the producer or the consumer works at the same time.
+     */
+    @Override
+    public int size() {
+        long after = consumerIndex.get();
+        while (true) {
+            final long before = after;
+            final long p = producerIndex.get();
+            after = consumerIndex.get();
+            if (before == after) {
+                return (int) (p - after);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The result is an estimate if the producer or the consumer works at the same time.
+     */
+    @Override
+    public boolean isEmpty() {
+        return consumerIndex.get() >= producerIndex.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(Object o) {
+        return IntQueue.super.contains(o);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsPrimitive(int o) {
+        final IntIterator iterator = this.iterator();
+        while (iterator.hasNext()) {
+            if (o == iterator.nextPrimitive()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remove(Object o) {
+        return IntQueue.super.remove(o);
+    }
+
+    /**
+     * Not supported.
+     *
+     * @throws java.lang.UnsupportedOperationException always
+     */
+    @Override
+    public boolean removeByContentPrimitive(int o) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int[] toArrayPrimitive() {
+        int[] result = new int[size()];
+        int i = 0;
+        final IntIterator iterator = this.iterator();
+        while (iterator.hasNext()) {
+            if (i == result.length) {
+                result = Arrays.copyOf(result, Math.max(1, i << 1));
+            }
+            result[i++] = iterator.nextPrimitive();
+        }
+        return i == result.length ? result : Arrays.copyOf(result, i);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int[] toArrayPrimitive(int[] a) {
+        final int[] result = toArrayPrimitive();
+        if (a.length < result.length) {
+            return result;
+        }
+        System.arraycopy(result, 0, a, 0, result.length);
+        if (a.length > result.length) {
+            a[result.length] = INT_DEFAULT;
+        }
+        return a;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned iterator is weakly consistent: it never returns an element that was not in this queue, and returns
+     * the elements in order, but may or may not reflect elements offered or polled after its creation.
+     * It does not support {@code remove}.
+     */
+    @Override
+    public IntIterator iterator() {
+        return new Itr();
+    }
+
+    private final class Itr implements IntIterator {
+        private long index = consumerIndex.get();
+        private boolean hasNextElement;
+        private int nextElement;
+
+        Itr() {
+            advance();
+        }
+
+        private void advance() {
+            while (true) {
+                final long p = producerIndex.get();
+                if (index >= p) {
+                    hasNextElement = false;
+                    return;
+                }
+                final int e = buffer[offset(index)];
+                // the slot can not be written again before the consumer passes it.
+                final long c = consumerIndex.get();
+                if (c <= index) {
+                    nextElement = e;
+                    hasNextElement = true;
+                    index++;
+                    return;
+                }
+                index = c;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return hasNextElement;
+        }
+
+        @Override
+        public int nextPrimitive() {
+            if (!hasNextElement) {
+                throw new NoSuchElementException();
+            }
+            final int e = nextElement;
+            advance();
+            return e;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xenoamess.commons.primitive.collections.sets;
+
+import com.xenoamess.commons.primitive.Primitive;
+import com.xenoamess.commons.primitive.collections.BooleanCollection;
+import com.xenoamess.commons.primitive.iterators.BooleanIterator;
+import com.xenoamess.commons.primitive.iterators.BooleanSpliterator;
+import com.xenoamess.commons.primitive.iterators.BooleanSpliterators;
+import java.util.Set;
+import java.util.Spliterator;
+
+/**
+ * A collection of boolean that contains no duplicate elements.
+ * <p>
+ * This interface aims to reduce performance issue of autoboxing and unboxing.
+ * <p>
+ * It have functions dealing with {@code Boolean} for being a {@code Set},
+ * but nearly all of its functions have a replacement named XXXPrimitive.
+ * The basic idea is use XXXPrimitive functions whenever possible, and only use
+ * other functions when you have to.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see Set
+ * @see BooleanCollection
+ */
+public interface BooleanSet extends Set<Boolean>, BooleanCollection, Primitive {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    BooleanIterator iterator();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default boolean contains(Object o) {
+        return BooleanCollection.super.contains(o);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default boolean add(Boolean e) {
+        return BooleanCollection.super.add(e);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default boolean remove(Object o) {
+        return BooleanCollection.super.remove(o);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The created {@code Spliterator} reports {@link java.util.Spliterator#DISTINCT}.
+     */
+    @Override
+    default BooleanSpliterator spliterator() {
+        return BooleanSpliterators.spliterator(this, Spliterator.DISTINCT);
+    }
+}
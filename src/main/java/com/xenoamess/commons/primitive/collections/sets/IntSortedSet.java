@@ -0,0 +1,222 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xenoamess.commons.primitive.collections.sets;
+
+import com.xenoamess.commons.primitive.Primitive;
+import com.xenoamess.commons.primitive.comparators.IntComparator;
+import com.xenoamess.commons.primitive.iterators.IntIterator;
+import com.xenoamess.commons.primitive.iterators.IntSpliterator;
+import com.xenoamess.commons.primitive.iterators.IntSpliterators;
+import java.util.SortedSet;
+import java.util.Spliterator;
+
+/**
+ * A {@link IntSet} that further provides a total ordering on its elements.
+ * <p>
+ * The elements are ordered using their natural ordering, or by a {@link IntComparator} typically
+ * provided at sorted set creation time. The set's iterator will traverse the set in ascending element order.
+ * <p>
+ * Besides the functions of {@link SortedSet}, it provides primitive navigation functions
+ * ({@link #floorPrimitive(int, int)}, {@link #ceilingPrimitive(int, int)} and so on), which return a
+ * caller-given default value instead of {@code null} when there is no such element.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see SortedSet
+ * @see IntSet
+ */
+public interface IntSortedSet extends IntSet, SortedSet<Integer>, Primitive {
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The iterator traverses the set in ascending element order.
+     */
+    @Override
+    IntIterator iterator();
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the comparator used to order the elements in this set,
+     * or {@code null} if this set uses the natural ordering of its elements
+     */
+    @Override
+    IntComparator comparator();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Integer first() {
+        return this.firstPrimitive();
+    }
+
+    /**
+     * Primitive replacement of first()
+     *
+     * @return the first (lowest) element currently in this set
+     * @throws java.util.NoSuchElementException if this set is empty
+     * @see #first()
+     */
+    int firstPrimitive();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Integer last() {
+        return this.lastPrimitive();
+    }
+
+    /**
+     * Primitive replacement of last()
+     *
+     * @return the last (highest) element currently in this set
+     * @throws java.util.NoSuchElementException if this set is empty
+     * @see #last()
+     */
+    int lastPrimitive();
+
+    /**
+     * Returns the greatest element in this set less than or equal to the given element,
+     * or {@code defaultValue} if there is no such element.
+     *
+     * @param e            the value to match
+     * @param defaultValue the value to return if there is no such element
+     * @return the greatest element less than or equal to {@code e},
+     * or {@code defaultValue} if there is no such element
+     */
+    int floorPrimitive(int e, int defaultValue);
+
+    /**
+     * Returns the least element in this set greater than or equal to the given element,
+     * or {@code defaultValue} if there is no such element.
+     *
+     * @param e            the value to match
+     * @param defaultValue the value to return if there is no such element
+     * @return the least element greater than or equal to {@code e},
+     * or {@code defaultValue} if there is no such element
+     */
+    int ceilingPrimitive(int e, int defaultValue);
+
+    /**
+     * Returns the greatest element in this set strictly less than the given element,
+     * or {@code defaultValue} if there is no such element.
+     *
+     * @param e            the value to match
+     * @param defaultValue the value to return if there is no such element
+     * @return the greatest element less than {@code e},
+     * or {@code defaultValue} if there is no such element
+     */
+    int lowerPrimitive(int e, int defaultValue);
+
+    /**
+     * Returns the least element in this set strictly greater than the given element,
+     * or {@code defaultValue} if there is no such element.
+     *
+     * @param e            the value to match
+     * @param defaultValue the value to return if there is no such element
+     * @return the least element greater than {@code e},
+     * or {@code defaultValue} if there is no such element
+     */
+    int higherPrimitive(int e, int defaultValue);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default IntSortedSet subSet(Integer fromElement, Integer toElement) {
+        return this.subSetPrimitive(fromElement, toElement);
+    }
+
+    /**
+     * Primitive replacement of subSet(Integer fromElement, Integer toElement)
+     *
+     * @param fromElement low endpoint (inclusive) of the returned set
+     * @param toElement   high endpoint (exclusive) of the returned set
+     * @return a view of the portion of this set whose elements range from
+     * {@code fromElement}, inclusive, to {@code toElement}, exclusive
+     * @throws java.lang.IllegalArgumentException if {@code fromElement} is
+     *                                            greater than {@code toElement}; or if this set itself
+     *                                            has a restricted range, and {@code fromElement} or
+     *                                            {@code toElement} lies outside the bounds of the range
+     * @see #subSet(Integer, Integer)
+     */
+    IntSortedSet subSetPrimitive(int fromElement, int toElement);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default IntSortedSet headSet(Integer toElement) {
+        return this.headSetPrimitive(toElement);
+    }
+
+    /**
+     * Primitive replacement of headSet(Integer toElement)
+     *
+     * @param toElement high endpoint (exclusive) of the returned set
+     * @return a view of the portion of this set whose elements are strictly
+     * less than {@code toElement}
+     * @throws java.lang.IllegalArgumentException if this set itself has a
+     *                                            restricted range, and {@code toElement} lies outside the
+     *                                            bounds of the range
+     * @see #headSet(Integer)
+     */
+    IntSortedSet headSetPrimitive(int toElement);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default IntSortedSet tailSet(Integer fromElement) {
+        return this.tailSetPrimitive(fromElement);
+    }
+
+    /**
+     * Primitive replacement of tailSet(Integer fromElement)
+     *
+     * @param fromElement low endpoint (inclusive) of the returned set
+     * @return a view of the portion of this set whose elements are greater
+     * than or equal to {@code fromElement}
+     * @throws java.lang.IllegalArgumentException if this set itself has a
+     *                                            restricted range, and {@code fromElement} lies outside the
+     *                                            bounds of the range
+     * @see #tailSet(Integer)
+     */
+    IntSortedSet tailSetPrimitive(int fromElement);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The created {@code Spliterator} reports {@link java.util.Spliterator#DISTINCT} and
+     * {@link java.util.Spliterator#ORDERED}.
+     */
+    @Override
+    default IntSpliterator spliterator() {
+        return IntSpliterators.spliterator(this, Spliterator.DISTINCT | Spliterator.ORDERED);
+    }
+}
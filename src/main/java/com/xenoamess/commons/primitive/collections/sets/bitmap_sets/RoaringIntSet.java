@@ -0,0 +1,2040 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.xenoamess.commons.primitive.collections.sets.bitmap_sets;
+
+import com.xenoamess.commons.primitive.Primitive;
+import com.xenoamess.commons.primitive.collections.IntCollection;
+import com.xenoamess.commons.primitive.collections.sets.IntSet;
+import com.xenoamess.commons.primitive.functions.IntConsumer;
+import com.xenoamess.commons.primitive.iterators.IntIterator;
+import com.xenoamess.commonx.java.util.Arraysx;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Compressed bitmap implementation of the {@code Set} interface, whose elements are {@code int}, in the way of
+ * <a href="https://roaringbitmap.org/">Roaring bitmaps</a>.
+ * <p>
+ * This class aims to reduce performance issue of autoboxing and unboxing.
+ * <p>
+ * This class is designed to be a replacement to {@code HashSet<Integer>} or {@code BitSet} for large sets,
+ * having both dense and sparse regions, which are intersected or merged with each other.
+ * <p>
+ * Elements are grouped by their high 16 bits into chunks. Every chunk is stored in a container of one of these
+ * three kinds, whichever is the smallest:
+ * <ul>
+ * <li>array container: a sorted {@code char[]} of the low 16 bits, for chunks of up to
+ * {@link #MAX_ARRAY_CARDINALITY} elements.</li>
+ * <li>bitmap container: a {@code long[1024]} bitmap of the low 16 bits, for denser chunks.</li>
+ * <li>run container: a list of intervals, for chunks made of long runs of consecutive elements.
+ * Run containers are only made by {@link #runOptimize()} and {@link #deserialize(ByteBuffer)}, and are turned
+ * into one of the other kinds when changed.</li>
+ * </ul>
+ * <p>
+ * {@link #and(RoaringIntSet)}, {@link #or(RoaringIntSet)}, {@link #xor(RoaringIntSet)} and
+ * {@link #andNot(RoaringIntSet)} work chunk by chunk, and word by word inside bitmaps, so their cost depends
+ * on the number of chunks and the size of the containers, instead of the number of elements.
+ * {@link #retainAll(Collection)}, {@link #removeAll(Collection)} and {@link #addAll(Collection)} use them when
+ * the argument is a {@code RoaringIntSet}.
+ * <p>
+ * Elements are iterated in increasing order of their unsigned value, like {@link Integer#compareUnsigned}
+ * does, so negative elements come after positive ones.
+ * <p>
+ * {@link #serialize(ByteBuffer)} writes the set in the portable Roaring format, in little-endian, so a set can
+ * be saved to a file, then read back from a buffer returned by
+ * {@link com.xenoamess.commons.io.FileUtilsx#loadBuffer(java.nio.file.Path, boolean)}, or by another Roaring
+ * implementation.
+ * <p>
+ * It have functions dealing with {@code Integer} for being a {@code Set},
+ * but nearly all of its functions have a replacement named XXXPrimitive.
+ * The basic idea is use XXXPrimitive functions whenever possible, and only use
+ * other functions when you have to.
+ * <p>
+ * <strong>Note that this implementation is not synchronized.</strong>
+ * The iterators of this class are <i>fail-fast</i>.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see java.util.BitSet
+ * @see IntSet
+ */
+public class RoaringIntSet extends AbstractSet<Integer>
+        implements IntSet, Cloneable, java.io.Serializable, Primitive {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The largest number of elements in an array container.
+     * Over it, a bitmap container is smaller.
+     */
+    public static final int MAX_ARRAY_CARDINALITY = 4096;
+
+    /**
+     * The number of longs in a bitmap container.
+     */
+    static final int BITMAP_WORDS = 1 << 10;
+
+    /**
+     * The cookie of the portable format, when some containers are run containers.
+     */
+    static final int SERIAL_COOKIE = 12347;
+
+    /**
+     * The cookie of the portable format, when no container is a run container.
+     */
+    static final int SERIAL_COOKIE_NO_RUN_CONTAINER = 12346;
+
+    /**
+     * In the portable format with run containers, the offsets of the containers are only written when there are
+     * at least this number of containers.
+     */
+    static final int NO_OFFSET_THRESHOLD = 4;
+
+    /**
+     * The high 16 bits of the elements of every container, in increasing order.
+     */
+    transient char[] keys;
+
+    /**
+     * The containers, holding the low 16 bits of the elements.
+     */
+    transient Container[] containers;
+
+    /**
+     * The number of containers.
+     */
+    transient int containerCount;
+
+    /**
+     * The number of elements in this set.
+     */
+    transient long cardinality;
+
+    /**
+     * The number of times this set has been structurally modified.
+     */
+    transient int modCount;
+
+    /**
+     * Constructs an empty set.
+     */
+    public RoaringIntSet() {
+        this.keys = new char[4];
+        this.containers = new Container[4];
+    }
+
+    /**
+     * Constructs a new set containing the elements in the specified collection.
+     *
+     * @param c the collection whose elements are to be placed into this set
+     * @throws java.lang.NullPointerException if the specified collection is null
+     */
+    public RoaringIntSet(Collection<? extends Integer> c) {
+        this();
+        this.addAll(c);
+    }
+
+    /**
+     * Constructs a new set containing the elements in the specified array.
+     *
+     * @param a the array whose elements are to be placed into this set
+     * @throws java.lang.NullPointerException if the specified array is null
+     */
+    public RoaringIntSet(int[] a) {
+        this();
+        this.addAll(a);
+    }
+
+    /**
+     * Returns a new set containing the specified elements.
+     *
+     * @param elements the elements to be contained in the set
+     * @return a new {@code RoaringIntSet} containing the specified elements
+     * @throws java.lang.NullPointerException if the array is {@code null}
+     */
+    public static RoaringIntSet of(int... elements) {
+        return new RoaringIntSet(elements);
+    }
+
+    /**
+     * Returns a new set containing every element in range [fromInclusive, toExclusive), stored in
+     * run containers where it is smaller.
+     *
+     * @param fromInclusive the first element (inclusive)
+     * @param toExclusive   the end of the range (exclusive), up to {@code 1L << 32}; elements are taken as
+     *                      unsigned
+     * @return a new {@code RoaringIntSet} containing the range
+     * @throws java.lang.IllegalArgumentException if the range is not in [0, 2^32]
+     */
+    public static RoaringIntSet ofRange(long fromInclusive, long toExclusive) {
+        if (fromInclusive < 0 || fromInclusive > toExclusive || toExclusive > (1L << 32)) {
+            throw new IllegalArgumentException("Invalid range: [" + fromInclusive + ", " + toExclusive + ")");
+        }
+        final RoaringIntSet result = new RoaringIntSet();
+        long from = fromInclusive;
+        while (from < toExclusive) {
+            final int key = (int) (from >>> 16);
+            final long end = Math.min(toExclusive, ((long) key + 1) << 16);
+            final RunContainer container = new RunContainer(new char[]{(char) from, (char) (end - from - 1)}, 1);
+            result.appendContainer((char) key, container.optimize());
+            from = end;
+        }
+        result.cardinality = toExclusive - fromInclusive;
+        return result;
+    }
+
+    //-------------------- containers --------------------
+
+    static int high(int e) {
+        return e >>> 16;
+    }
+
+    static int low(int e) {
+        return e & 0xFFFF;
+    }
+
+    int indexOfKey(int key) {
+        return Arrays.binarySearch(keys, 0, containerCount, (char) key);
+    }
+
+    private void ensureContainerCapacity(int minCapacity) {
+        if (minCapacity > keys.length) {
+            final int newCapacity = Math.max(minCapacity, keys.length + (keys.length >> 1) + 1);
+            keys = Arrays.copyOf(keys, newCapacity);
+            containers = Arrays.copyOf(containers, newCapacity);
+        }
+    }
+
+    private void insertContainer(int index, char key, Container container) {
+        ensureContainerCapacity(containerCount + 1);
+        System.arraycopy(keys, index, keys, index + 1, containerCount - index);
+        System.arraycopy(containers, index, containers, index + 1, containerCount - index);
+        keys[index] = key;
+        containers[index] = container;
+        containerCount++;
+    }
+
+    private void appendContainer(char key, Container container) {
+        ensureContainerCapacity(containerCount + 1);
+        keys[containerCount] = key;
+        containers[containerCount++] = container;
+    }
+
+    private void removeContainer(int index) {
+        System.arraycopy(keys, index + 1, keys, index, containerCount - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, containerCount - index - 1);
+        containers[--containerCount] = null;
+    }
+
+    private void recomputeCardinality() {
+        long result = 0;
+        for (int i = 0; i < containerCount; i++) {
+            result += containers[i].cardinality();
+        }
+        cardinality = result;
+    }
+
+    /**
+     * Returns the number of containers of this set, that is the number of distinct high 16 bits of its elements.
+     *
+     * @return the number of containers
+     */
+    public int containerCount() {
+        return containerCount;
+    }
+
+    //-------------------- queries --------------------
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns {@link Integer#MAX_VALUE} if the set contains more elements than that.
+     *
+     * @see #cardinality()
+     */
+    @Override
+    public int size() {
+        return (int) Math.min(cardinality, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the number of elements in this set, which can be up to {@code 1L << 32}.
+     *
+     * @return the number of elements in this set
+     */
+    public long cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(Object o) {
+        return IntSet.super.contains(o);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsPrimitive(int o) {
+        final int index = indexOfKey(high(o));
+        return index >= 0 && containers[index].contains(low(o));
+    }
+
+    //-------------------- mutators --------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean add(Integer e) {
+        return IntSet.super.add(e);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addPrimitive(int e) {
+        final int index = indexOfKey(high(e));
+        if (index >= 0) {
+            final Container container = containers[index];
+            final int oldCardinality = container.cardinality();
+            final Container newContainer = container.add(low(e));
+            containers[index] = newContainer;
+            if (newContainer.cardinality() == oldCardinality) {
+                return false;
+            }
+        } else {
+            final ArrayContainer container = new ArrayContainer(4);
+            container.add(low(e));
+            insertContainer(-index - 1, (char) high(e), container);
+        }
+        cardinality++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Adds all of the elements in the specified array to this set.
+     * <p>
+     * The elements are sorted in a copy of the array, then put into new containers chunk by chunk,
+     * which is much faster than adding them one by one.
+     *
+     * @param a the array containing elements to be added to this set
+     * @return {@code true} if this set changed as a result of the call
+     * @throws java.lang.NullPointerException if the specified array is null
+     */
+    public boolean addAll(int[] a) {
+        final int[] sorted = a.clone();
+        Arraysx.sort(sorted, 0, sorted.length, null);
+        int nonNegative = 0;
+        while (nonNegative < sorted.length && sorted[nonNegative] < 0) {
+            nonNegative++;
+        }
+        final RoaringIntSet other = new RoaringIntSet();
+        // unsigned order: non-negative elements first.
+        other.appendSorted(sorted, nonNegative, sorted.length);
+        other.appendSorted(sorted, 0, nonNegative);
+        other.recomputeCardinality();
+        if (this.isEmpty()) {
+            this.keys = other.keys;
+            this.containers = other.containers;
+            this.containerCount = other.containerCount;
+            this.cardinality = other.cardinality;
+            if (!other.isEmpty()) {
+                modCount++;
+            }
+            return !other.isEmpty();
+        }
+        final long oldCardinality = cardinality;
+        this.or(other);
+        return cardinality != oldCardinality;
+    }
+
+    /**
+     * Appends containers for sorted[from, to), whose high 16 bits are all greater than the ones already in this
+     * set. Duplicated elements are skipped.
+     */
+    private void appendSorted(int[] sorted, int from, int to) {
+        int i = from;
+        while (i < to) {
+            final int key = high(sorted[i]);
+            int end = i + 1;
+            int distinct = 1;
+            while (end < to && high(sorted[end]) == key) {
+                if (sorted[end] != sorted[end - 1]) {
+                    distinct++;
+                }
+                end++;
+            }
+            final Container container;
+            if (distinct <= MAX_ARRAY_CARDINALITY) {
+                final char[] content = new char[distinct];
+                int k = 0;
+                content[k++] = (char) sorted[i];
+                for (int j = i + 1; j < end; j++) {
+                    if (sorted[j] != sorted[j - 1]) {
+                        content[k++] = (char) sorted[j];
+                    }
+                }
+                container = new ArrayContainer(content, distinct);
+            } else {
+                final BitmapContainer bitmap = new BitmapContainer();
+                for (int j = i; j < end; j++) {
+                    bitmap.words[low(sorted[j]) >>> 6] |= 1L << sorted[j];
+                }
+                bitmap.cardinality = distinct;
+                container = bitmap;
+            }
+            appendContainer((char) key, container);
+            i = end;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the collection is a {@code RoaringIntSet}, this is {@link #or(RoaringIntSet)}.
+     */
+    @Override
+    public boolean addAll(Collection<? extends Integer> c) {
+        if (c instanceof RoaringIntSet) {
+            final long oldCardinality = cardinality;
+            this.or((RoaringIntSet) c);
+            return cardinality != oldCardinality;
+        }
+        if (c instanceof IntCollection) {
+            return this.addAll(((IntCollection) c).toArrayPrimitive());
+        }
+        boolean modified = false;
+        for (Integer e : c) {
+            if (this.add(e)) {
+                modified = true;
+            }
+        }
+        return modified;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remove(Object o) {
+        return IntSet.super.remove(o);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeByContentPrimitive(int o) {
+        final int index = indexOfKey(high(o));
+        if (index < 0) {
+            return false;
+        }
+        final Container container = containers[index];
+        final int oldCardinality = container.cardinality();
+        final Container newContainer = container.remove(low(o));
+        if (newContainer.cardinality() == oldCardinality) {
+            return false;
+        }
+        if (newContainer.cardinality() == 0) {
+            removeContainer(index);
+        } else {
+            containers[index] = newContainer;
+        }
+        cardinality--;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the collection is a {@code RoaringIntSet}, this is {@link #andNot(RoaringIntSet)}.
+     */
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        if (c instanceof RoaringIntSet) {
+            final long oldCardinality = cardinality;
+            this.andNot((RoaringIntSet) c);
+            return cardinality != oldCardinality;
+        }
+        return super.removeAll(c);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the collection is a {@code RoaringIntSet}, this is {@link #and(RoaringIntSet)}.
+     * If it is another {@code IntCollection}, it is turned into a {@code RoaringIntSet} first.
+     */
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        if (c instanceof RoaringIntSet || c instanceof IntCollection) {
+            final RoaringIntSet other = c instanceof RoaringIntSet
+                    ? (RoaringIntSet) c
+                    : new RoaringIntSet(((IntCollection) c).toArrayPrimitive());
+            final long oldCardinality = cardinality;
+            this.and(other);
+            return cardinality != oldCardinality;
+        }
+        return super.retainAll(c);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        if (containerCount == 0) {
+            return;
+        }
+        Arrays.fill(containers, 0, containerCount, null);
+        containerCount = 0;
+        cardinality = 0;
+        modCount++;
+    }
+
+    //-------------------- bitwise operations --------------------
+
+    /**
+     * Keeps only the elements also contained in the other set (intersection).
+     *
+     * @param other the other set
+     * @throws java.lang.NullPointerException if the other set is null
+     */
+    public void and(RoaringIntSet other) {
+        if (other == this) {
+            return;
+        }
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < containerCount && j < other.containerCount) {
+            final char ka = keys[i];
+            final char kb = other.keys[j];
+            if (ka < kb) {
+                i++;
+            } else if (ka > kb) {
+                j++;
+            } else {
+                final Container result = and(containers[i], other.containers[j]);
+                if (result.cardinality() > 0) {
+                    keys[k] = ka;
+                    containers[k++] = result;
+                }
+                i++;
+                j++;
+            }
+        }
+        Arrays.fill(containers, k, containerCount, null);
+        containerCount = k;
+        recomputeCardinality();
+        modCount++;
+    }
+
+    /**
+     * Adds all elements contained in the other set (union).
+     *
+     * @param other the other set
+     * @throws java.lang.NullPointerException if the other set is null
+     */
+    public void or(RoaringIntSet other) {
+        if (other == this) {
+            return;
+        }
+        this.merge(other, false);
+    }
+
+    /**
+     * Keeps the elements contained in exactly one of this set and the other set (symmetric difference).
+     *
+     * @param other the other set
+     * @throws java.lang.NullPointerException if the other set is null
+     */
+    public void xor(RoaringIntSet other) {
+        if (other == this) {
+            this.clear();
+            return;
+        }
+        this.merge(other, true);
+    }
+
+    private void merge(RoaringIntSet other, boolean xor) {
+        final int n = containerCount;
+        final int m = other.containerCount;
+        final char[] newKeys = new char[Math.max(4, n + m)];
+        final Container[] newContainers = new Container[newKeys.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < n || j < m) {
+            final int ka = i < n ? keys[i] : Integer.MAX_VALUE;
+            final int kb = j < m ? other.keys[j] : Integer.MAX_VALUE;
+            if (ka < kb) {
+                newKeys[k] = (char) ka;
+                newContainers[k++] = containers[i++];
+            } else if (ka > kb) {
+                newKeys[k] = (char) kb;
+                newContainers[k++] = other.containers[j++].clone();
+            } else {
+                final Container result = xor
+                        ? xor(containers[i++], other.containers[j++])
+                        : or(containers[i++], other.containers[j++]);
+                if (result.cardinality() > 0) {
+                    newKeys[k] = (char) ka;
+                    newContainers[k++] = result;
+                }
+            }
+        }
+        keys = newKeys;
+        containers = newContainers;
+        containerCount = k;
+        recomputeCardinality();
+        modCount++;
+    }
+
+    /**
+     * Removes all elements contained in the other set (difference).
+     *
+     * @param other the other set
+     * @throws java.lang.NullPointerException if the other set is null
+     */
+    public void andNot(RoaringIntSet other) {
+        if (other == this) {
+            this.clear();
+            return;
+        }
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < containerCount) {
+            final char ka = keys[i];
+            while (j < other.containerCount && other.keys[j] < ka) {
+                j++;
+            }
+            Container result = containers[i];
+            if (j < other.containerCount && other.keys[j] == ka) {
+                result = andNot(result, other.containers[j++]);
+            }
+            if (result.cardinality() > 0) {
+                keys[k] = ka;
+                containers[k++] = result;
+            }
+            i++;
+        }
+        Arrays.fill(containers, k, containerCount, null);
+        containerCount = k;
+        recomputeCardinality();
+        modCount++;
+    }
+
+    /**
+     * Returns a new set of the elements contained in both sets (intersection).
+     *
+     * @param a a set
+     * @param b another set
+     * @return the intersection of the two sets
+     * @throws java.lang.NullPointerException if any of the sets is null
+     */
+    public static RoaringIntSet and(RoaringIntSet a, RoaringIntSet b) {
+        final RoaringIntSet result = new RoaringIntSet();
+        int i = 0;
+        int j = 0;
+        while (i < a.containerCount && j < b.containerCount) {
+            final char ka = a.keys[i];
+            final char kb = b.keys[j];
+            if (ka < kb) {
+                i++;
+            } else if (ka > kb) {
+                j++;
+            } else {
+                final Container container = and(a.containers[i].clone(), b.containers[j]);
+                if (container.cardinality() > 0) {
+                    result.appendContainer(ka, container);
+                }
+                i++;
+                j++;
+            }
+        }
+        result.recomputeCardinality();
+        return result;
+    }
+
+    /**
+     * Returns a new set of the elements contained in any of the sets (union).
+     *
+     * @param a a set
+     * @param b another set
+     * @return the union of the two sets
+     * @throws java.lang.NullPointerException if any of the sets is null
+     */
+    public static RoaringIntSet or(RoaringIntSet a, RoaringIntSet b) {
+        final RoaringIntSet result = a.clone();
+        result.or(b);
+        return result;
+    }
+
+    /**
+     * Returns a new set of the elements contained in exactly one of the sets (symmetric difference).
+     *
+     * @param a a set
+     * @param b another set
+     * @return the symmetric difference of the two sets
+     * @throws java.lang.NullPointerException if any of the sets is null
+     */
+    public static RoaringIntSet xor(RoaringIntSet a, RoaringIntSet b) {
+        final RoaringIntSet result = a.clone();
+        result.xor(b);
+        return result;
+    }
+
+    /**
+     * Returns a new set of the elements contained in a but not in b (difference).
+     *
+     * @param a a set
+     * @param b another set
+     * @return the difference of the two sets
+     * @throws java.lang.NullPointerException if any of the sets is null
+     */
+    public static RoaringIntSet andNot(RoaringIntSet a, RoaringIntSet b) {
+        final RoaringIntSet result = a.clone();
+        result.andNot(b);
+        return result;
+    }
+
+    /**
+     * Returns the number of elements contained in both sets, without building the intersection.
+     *
+     * @param a a set
+     * @param b another set
+     * @return the cardinality of the intersection of the two sets
+     * @throws java.lang.NullPointerException if any of the sets is null
+     */
+    public static long andCardinality(RoaringIntSet a, RoaringIntSet b) {
+        long result = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.containerCount && j < b.containerCount) {
+            final char ka = a.keys[i];
+            final char kb = b.keys[j];
+            if (ka < kb) {
+                i++;
+            } else if (ka > kb) {
+                j++;
+            } else {
+                result += andCardinality(a.containers[i++], b.containers[j++]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Converts containers into run containers where they are smaller, and run containers back where they are
+     * not. Best called once after a set is built, before it is saved or shared for reading.
+     *
+     * @return {@code true} if any container was converted
+     */
+    public boolean runOptimize() {
+        boolean changed = false;
+        for (int i = 0; i < containerCount; i++) {
+            final Container container = containers[i];
+            final Container optimized = container instanceof RunContainer
+                    ? ((RunContainer) container).optimize()
+                    : container.toRunContainerIfSmaller();
+            if (optimized != container) {
+                containers[i] = optimized;
+                changed = true;
+            }
+        }
+        if (changed) {
+            modCount++;
+        }
+        return changed;
+    }
+
+    //-------------------- bulk queries --------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int[] toArrayPrimitive() {
+        return toArrayPrimitive(new int[size()]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int[] toArrayPrimitive(int[] a) {
+        if (cardinality > Integer.MAX_VALUE) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        if (a.length < cardinality) {
+            a = new int[(int) cardinality];
+        }
+        int offset = 0;
+        for (int i = 0; i < containerCount; i++) {
+            offset = containers[i].toArray(keys[i] << 16, a, offset);
+        }
+        return a;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Elements are visited in increasing unsigned order.
+     */
+    @Override
+    public void forEachPrimitive(IntConsumer action) {
+        Objects.requireNonNull(action);
+        for (int i = 0; i < containerCount; i++) {
+            containers[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof RoaringIntSet)) {
+            return super.equals(o);
+        }
+        final RoaringIntSet that = (RoaringIntSet) o;
+        if (this.cardinality != that.cardinality || this.containerCount != that.containerCount) {
+            return false;
+        }
+        for (int i = 0; i < containerCount; i++) {
+            if (this.keys[i] != that.keys[i]
+                    || !this.containers[i].contentEquals(that.containers[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        final int[] h = new int[1];
+        this.forEachPrimitive((IntConsumer) e -> h[0] += Integer.hashCode(e));
+        return h[0];
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Elements are returned in increasing unsigned order.
+     */
+    @Override
+    public IntIterator iterator() {
+        return new Itr();
+    }
+
+    private class Itr implements IntIterator {
+        /**
+         * The index of the next container to visit.
+         */
+        int nextIndex;
+        /**
+         * The iterator of the current container, or null.
+         */
+        ContainerIterator current;
+        int high;
+        int last;
+        boolean hasLast;
+        int expectedModCount = modCount;
+
+        private boolean advance() {
+            while (current == null || !current.hasNext()) {
+                if (nextIndex >= containerCount) {
+                    return false;
+                }
+                high = keys[nextIndex] << 16;
+                current = containers[nextIndex++].iterator(0);
+            }
+            return true;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return advance();
+        }
+
+        @Override
+        public int nextPrimitive() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!advance()) {
+                throw new NoSuchElementException();
+            }
+            last = high | current.next();
+            hasLast = true;
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (!hasLast) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            RoaringIntSet.this.removeByContentPrimitive(last);
+            expectedModCount = modCount;
+            hasLast = false;
+            // the container may have been converted or removed, so find the position again.
+            final int index = indexOfKey(high(last));
+            if (index >= 0) {
+                nextIndex = index + 1;
+                current = containers[index].iterator(low(last) + 1);
+            } else {
+                nextIndex = -index - 1;
+                current = null;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns a deep copy of this {@code RoaringIntSet} instance.
+     */
+    @Override
+    public RoaringIntSet clone() {
+        RoaringIntSet c;
+        try {
+            c = (RoaringIntSet) super.clone();
+        } catch (CloneNotSupportedException e) {
+            // this shouldn't happen, since we are Cloneable
+            throw new InternalError(e);
+        }
+        c.keys = keys.clone();
+        c.containers = containers.clone();
+        for (int i = 0; i < containerCount; i++) {
+            c.containers[i] = containers[i].clone();
+        }
+        c.modCount = 0;
+        return c;
+    }
+
+    //-------------------- serialization --------------------
+
+    private boolean hasRunContainer() {
+        for (int i = 0; i < containerCount; i++) {
+            if (containers[i] instanceof RunContainer) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int headerSizeInBytes(boolean hasRun) {
+        if (hasRun) {
+            return 4 + (containerCount + 7) / 8 + 4 * containerCount
+                    + (containerCount >= NO_OFFSET_THRESHOLD ? 4 * containerCount : 0);
+        }
+        return 8 + 8 * containerCount;
+    }
+
+    /**
+     * Returns the number of bytes {@link #serialize(ByteBuffer)} writes.
+     *
+     * @return the size of this set in the portable format
+     */
+    public int serializedSizeInBytes() {
+        long result = headerSizeInBytes(hasRunContainer());
+        for (int i = 0; i < containerCount; i++) {
+            result += containers[i].serializedSizeInBytes();
+        }
+        if (result > Integer.MAX_VALUE) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        return (int) result;
+    }
+
+    /**
+     * Writes this set into the buffer, at its position, in the portable Roaring format, in little-endian
+     * whatever the order of the buffer is. The position of the buffer is advanced by
+     * {@link #serializedSizeInBytes()}.
+     *
+     * @param buffer the buffer to write to
+     * @throws java.nio.BufferOverflowException if there is not enough room in the buffer
+     */
+    public void serialize(ByteBuffer buffer) {
+        final ByteBuffer out = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        final int start = out.position();
+        final boolean hasRun = hasRunContainer();
+        if (hasRun) {
+            out.putInt(SERIAL_COOKIE | ((containerCount - 1) << 16));
+            final byte[] runFlags = new byte[(containerCount + 7) / 8];
+            for (int i = 0; i < containerCount; i++) {
+                if (containers[i] instanceof RunContainer) {
+                    runFlags[i >>> 3] |= (byte) (1 << (i & 7));
+                }
+            }
+            out.put(runFlags);
+        } else {
+            out.putInt(SERIAL_COOKIE_NO_RUN_CONTAINER);
+            out.putInt(containerCount);
+        }
+        for (int i = 0; i < containerCount; i++) {
+            out.putChar(keys[i]);
+            out.putChar((char) (containers[i].cardinality() - 1));
+        }
+        if (!hasRun || containerCount >= NO_OFFSET_THRESHOLD) {
+            int offset = headerSizeInBytes(hasRun);
+            for (int i = 0; i < containerCount; i++) {
+                out.putInt(offset);
+                offset += containers[i].serializedSizeInBytes();
+            }
+        }
+        for (int i = 0; i < containerCount; i++) {
+            containers[i].serialize(out);
+        }
+        buffer.position(buffer.position() + (out.position() - start));
+    }
+
+    /**
+     * Reads a set from the buffer, at its position, in the portable Roaring format, in little-endian whatever
+     * the order of the buffer is. The position of the buffer is advanced to the end of the set.
+     * The content is copied, so the buffer can be freed or reused afterwards.
+     *
+     * @param buffer the buffer to read from
+     * @return the set read
+     * @throws java.lang.IllegalArgumentException    if the buffer does not start with a set in the portable format
+     * @throws java.nio.BufferUnderflowException if the set is truncated
+     */
+    public static RoaringIntSet deserialize(ByteBuffer buffer) {
+        final ByteBuffer in = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        final int start = in.position();
+        final int cookie = in.getInt();
+        final int count;
+        final byte[] runFlags;
+        if ((cookie & 0xFFFF) == SERIAL_COOKIE) {
+            count = (cookie >>> 16) + 1;
+            runFlags = new byte[(count + 7) / 8];
+            in.get(runFlags);
+        } else if (cookie == SERIAL_COOKIE_NO_RUN_CONTAINER) {
+            count = in.getInt();
+            if (count < 0 || count > (1 << 16)) {
+                throw new IllegalArgumentException("Invalid container count: " + count);
+            }
+            runFlags = null;
+        } else {
+            throw new IllegalArgumentException("Invalid cookie: " + cookie);
+        }
+        final RoaringIntSet result = new RoaringIntSet();
+        result.ensureContainerCapacity(count);
+        final int[] cardinalities = new int[count];
+        for (int i = 0; i < count; i++) {
+            result.keys[i] = in.getChar();
+            cardinalities[i] = in.getChar() + 1;
+        }
+        if (runFlags == null || count >= NO_OFFSET_THRESHOLD) {
+            in.position(in.position() + 4 * count);
+        }
+        for (int i = 0; i < count; i++) {
+            final Container container;
+            if (runFlags != null && (runFlags[i >>> 3] & (1 << (i & 7))) != 0) {
+                final int runCount = in.getChar();
+                final char[] runs = new char[2 * runCount];
+                in.asCharBuffer().get(runs);
+                in.position(in.position() + 4 * runCount);
+                container = new RunContainer(runs, runCount);
+            } else if (cardinalities[i] <= MAX_ARRAY_CARDINALITY) {
+                final char[] content = new char[cardinalities[i]];
+                in.asCharBuffer().get(content);
+                in.position(in.position() + 2 * content.length);
+                container = new ArrayContainer(content, content.length);
+            } else {
+                final BitmapContainer bitmap = new BitmapContainer();
+                in.asLongBuffer().get(bitmap.words);
+                in.position(in.position() + 8 * BITMAP_WORDS);
+                bitmap.cardinality = cardinalities[i];
+                container = bitmap;
+            }
+            result.containers[i] = container;
+        }
+        result.containerCount = count;
+        result.recomputeCardinality();
+        buffer.position(buffer.position() + (in.position() - start));
+        return result;
+    }
+
+    /**
+     * Saves the state of the {@code RoaringIntSet} instance to a stream
+     * (that is, serializes it).
+     *
+     * @param s the stream
+     * @throws java.io.IOException if an I/O error occurs
+     * @serialData The size in bytes of the set in the portable Roaring format is emitted (int), followed by the
+     * bytes.
+     */
+    private void writeObject(java.io.ObjectOutputStream s)
+            throws java.io.IOException {
+        s.defaultWriteObject();
+        final ByteBuffer buffer = ByteBuffer.allocate(serializedSizeInBytes());
+        serialize(buffer);
+        s.writeInt(buffer.capacity());
+        s.write(buffer.array());
+    }
+
+    /**
+     * Reconstitutes the {@code RoaringIntSet} instance from a stream (that is,
+     * deserializes it).
+     *
+     * @param s the stream
+     * @throws java.io.IOException            if an I/O error occurs
+     * @throws java.lang.ClassNotFoundException if the class of a serialized object could not be found
+     */
+    private void readObject(java.io.ObjectInputStream s)
+            throws java.io.IOException, ClassNotFoundException {
+        s.defaultReadObject();
+        final byte[] bytes = new byte[s.readInt()];
+        s.readFully(bytes);
+        final RoaringIntSet read = deserialize(ByteBuffer.wrap(bytes));
+        this.keys = read.keys;
+        this.containers = read.containers;
+        this.containerCount = read.containerCount;
+        this.cardinality = read.cardinality;
+    }
+
+    //-------------------- container operations --------------------
+
+    /**
+     * Returns the intersection of the containers. a may be changed and returned, b is never changed.
+     */
+    static Container and(Container a, Container b) {
+        a = a.toArrayOrBitmap();
+        b = b.toArrayOrBitmap();
+        if (a instanceof ArrayContainer) {
+            final ArrayContainer x = (ArrayContainer) a;
+            if (b instanceof ArrayContainer) {
+                final ArrayContainer y = (ArrayContainer) b;
+                int i = 0;
+                int j = 0;
+                int k = 0;
+                while (i < x.cardinality && j < y.cardinality) {
+                    final char u = x.content[i];
+                    final char v = y.content[j];
+                    if (u < v) {
+                        i++;
+                    } else if (u > v) {
+                        j++;
+                    } else {
+                        x.content[k++] = u;
+                        i++;
+                        j++;
+                    }
+                }
+                x.cardinality = k;
+            } else {
+                final BitmapContainer y = (BitmapContainer) b;
+                int k = 0;
+                for (int i = 0; i < x.cardinality; i++) {
+                    if (y.contains(x.content[i])) {
+                        x.content[k++] = x.content[i];
+                    }
+                }
+                x.cardinality = k;
+            }
+            return x;
+        }
+        final BitmapContainer x = (BitmapContainer) a;
+        if (b instanceof ArrayContainer) {
+            final ArrayContainer y = (ArrayContainer) b;
+            final ArrayContainer result = new ArrayContainer(y.cardinality);
+            for (int i = 0; i < y.cardinality; i++) {
+                if (x.contains(y.content[i])) {
+                    result.content[result.cardinality++] = y.content[i];
+                }
+            }
+            return result;
+        }
+        final long[] words = x.words;
+        final long[] otherWords = ((BitmapContainer) b).words;
+        for (int i = 0; i < BITMAP_WORDS; i++) {
+            words[i] &= otherWords[i];
+        }
+        x.recomputeCardinality();
+        return x.toArrayIfSmaller();
+    }
+
+    /**
+     * Returns the cardinality of the intersection of the containers, changing none of them.
+     */
+    static int andCardinality(Container a, Container b) {
+        a = a.toArrayOrBitmap();
+        b = b.toArrayOrBitmap();
+        if (a instanceof BitmapContainer && b instanceof ArrayContainer) {
+            final Container t = a;
+            a = b;
+            b = t;
+        }
+        int result = 0;
+        if (a instanceof ArrayContainer) {
+            final ArrayContainer x = (ArrayContainer) a;
+            if (b instanceof ArrayContainer) {
+                final ArrayContainer y = (ArrayContainer) b;
+                int i = 0;
+                int j = 0;
+                while (i < x.cardinality && j < y.cardinality) {
+                    final char u = x.content[i];
+                    final char v = y.content[j];
+                    if (u < v) {
+                        i++;
+                    } else if (u > v) {
+                        j++;
+                    } else {
+                        result++;
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < x.cardinality; i++) {
+                    if (b.contains(x.content[i])) {
+                        result++;
+                    }
+                }
+            }
+            return result;
+        }
+        final long[] words = ((BitmapContainer) a).words;
+        final long[] otherWords = ((BitmapContainer) b).words;
+        for (int i = 0; i < BITMAP_WORDS; i++) {
+            result += Long.bitCount(words[i] & otherWords[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the union of the containers. a may be changed and returned, b is never changed.
+     */
+    static Container or(Container a, Container b) {
+        a = a.toArrayOrBitmap();
+        b = b.toArrayOrBitmap();
+        if (a instanceof ArrayContainer && b instanceof ArrayContainer) {
+            final ArrayContainer x = (ArrayContainer) a;
+            final ArrayContainer y = (ArrayContainer) b;
+            if (x.cardinality + y.cardinality > MAX_ARRAY_CARDINALITY) {
+                final BitmapContainer result = x.toBitmap();
+                for (int i = 0; i < y.cardinality; i++) {
+                    result.words[y.content[i] >>> 6] |= 1L << y.content[i];
+                }
+                result.recomputeCardinality();
+                return result.toArrayIfSmaller();
+            }
+            final ArrayContainer result = new ArrayContainer(x.cardinality + y.cardinality);
+            int i = 0;
+            int j = 0;
+            int k = 0;
+            while (i < x.cardinality && j < y.cardinality) {
+                final char u = x.content[i];
+                final char v = y.content[j];
+                if (u < v) {
+                    result.content[k++] = u;
+                    i++;
+                } else if (u > v) {
+                    result.content[k++] = v;
+                    j++;
+                } else {
+                    result.content[k++] = u;
+                    i++;
+                    j++;
+                }
+            }
+            while (i < x.cardinality) {
+                result.content[k++] = x.content[i++];
+            }
+            while (j < y.cardinality) {
+                result.content[k++] = y.content[j++];
+            }
+            result.cardinality = k;
+            return result;
+        }
+        final BitmapContainer x;
+        if (a instanceof ArrayContainer) {
+            x = ((BitmapContainer) b).clone();
+            b = a;
+        } else {
+            x = (BitmapContainer) a;
+        }
+        if (b instanceof ArrayContainer) {
+            final ArrayContainer y = (ArrayContainer) b;
+            for (int i = 0; i < y.cardinality; i++) {
+                x.words[y.content[i] >>> 6] |= 1L << y.content[i];
+            }
+        } else {
+            final long[] words = x.words;
+            final long[] otherWords = ((BitmapContainer) b).words;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                words[i] |= otherWords[i];
+            }
+        }
+        x.recomputeCardinality();
+        return x;
+    }
+
+    /**
+     * Returns the symmetric difference of the containers. a may be changed and returned, b is never changed.
+     */
+    static Container xor(Container a, Container b) {
+        a = a.toArrayOrBitmap();
+        b = b.toArrayOrBitmap();
+        if (a instanceof ArrayContainer && b instanceof ArrayContainer) {
+            final ArrayContainer x = (ArrayContainer) a;
+            final ArrayContainer y = (ArrayContainer) b;
+            if (x.cardinality + y.cardinality > MAX_ARRAY_CARDINALITY) {
+                final BitmapContainer result = x.toBitmap();
+                for (int i = 0; i < y.cardinality; i++) {
+                    result.words[y.content[i] >>> 6] ^= 1L << y.content[i];
+                }
+                result.recomputeCardinality();
+                return result.toArrayIfSmaller();
+            }
+            final ArrayContainer result = new ArrayContainer(x.cardinality + y.cardinality);
+            int i = 0;
+            int j = 0;
+            int k = 0;
+            while (i < x.cardinality && j < y.cardinality) {
+                final char u = x.content[i];
+                final char v = y.content[j];
+                if (u < v) {
+                    result.content[k++] = u;
+                    i++;
+                } else if (u > v) {
+                    result.content[k++] = v;
+                    j++;
+                } else {
+                    i++;
+                    j++;
+                }
+            }
+            while (i < x.cardinality) {
+                result.content[k++] = x.content[i++];
+            }
+            while (j < y.cardinality) {
+                result.content[k++] = y.content[j++];
+            }
+            result.cardinality = k;
+            return result;
+        }
+        final BitmapContainer x;
+        if (a instanceof ArrayContainer) {
+            x = ((BitmapContainer) b).clone();
+            b = a;
+        } else {
+            x = (BitmapContainer) a;
+        }
+        if (b instanceof ArrayContainer) {
+            final ArrayContainer y = (ArrayContainer) b;
+            for (int i = 0; i < y.cardinality; i++) {
+                x.words[y.content[i] >>> 6] ^= 1L << y.content[i];
+            }
+        } else {
+            final long[] words = x.words;
+            final long[] otherWords = ((BitmapContainer) b).words;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                words[i] ^= otherWords[i];
+            }
+        }
+        x.recomputeCardinality();
+        return x.toArrayIfSmaller();
+    }
+
+    /**
+     * Returns the difference of the containers. a may be changed and returned, b is never changed.
+     */
+    static Container andNot(Container a, Container b) {
+        a = a.toArrayOrBitmap();
+        b = b.toArrayOrBitmap();
+        if (a instanceof ArrayContainer) {
+            final ArrayContainer x = (ArrayContainer) a;
+            if (b instanceof ArrayContainer) {
+                final ArrayContainer y = (ArrayContainer) b;
+                int i = 0;
+                int j = 0;
+                int k = 0;
+                while (i < x.cardinality) {
+                    final char u = x.content[i];
+                    while (j < y.cardinality && y.content[j] < u) {
+                        j++;
+                    }
+                    if (j >= y.cardinality || y.content[j] != u) {
+                        x.content[k++] = u;
+                    }
+                    i++;
+                }
+                x.cardinality = k;
+            } else {
+                int k = 0;
+                for (int i = 0; i < x.cardinality; i++) {
+                    if (!b.contains(x.content[i])) {
+                        x.content[k++] = x.content[i];
+                    }
+                }
+                x.cardinality = k;
+            }
+            return x;
+        }
+        final BitmapContainer x = (BitmapContainer) a;
+        if (b instanceof ArrayContainer) {
+            final ArrayContainer y = (ArrayContainer) b;
+            for (int i = 0; i < y.cardinality; i++) {
+                x.words[y.content[i] >>> 6] &= ~(1L << y.content[i]);
+            }
+        } else {
+            final long[] words = x.words;
+            final long[] otherWords = ((BitmapContainer) b).words;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                words[i] &= ~otherWords[i];
+            }
+        }
+        x.recomputeCardinality();
+        return x.toArrayIfSmaller();
+    }
+
+    /**
+     * A container of the low 16 bits of the elements sharing the same high 16 bits.
+     */
+    abstract static class Container implements Cloneable {
+
+        abstract int cardinality();
+
+        abstract boolean contains(int low);
+
+        /**
+         * Adds low, and returns the container holding the result, which is this or a new container of
+         * another kind.
+         */
+        abstract Container add(int low);
+
+        /**
+         * Removes low, and returns the container holding the result, which is this or a new container of
+         * another kind.
+         */
+        abstract Container remove(int low);
+
+        /**
+         * Returns an iterator of the low 16 bits not less than fromLow, in increasing order.
+         */
+        abstract ContainerIterator iterator(int fromLow);
+
+        abstract void forEach(int high, IntConsumer action);
+
+        /**
+         * Writes the elements into a from offset, and returns the offset after them.
+         */
+        abstract int toArray(int high, int[] a, int offset);
+
+        /**
+         * Returns this, or an equal array or bitmap container if this is a run container.
+         */
+        abstract Container toArrayOrBitmap();
+
+        /**
+         * Returns the number of runs of consecutive elements.
+         */
+        abstract int numberOfRuns();
+
+        abstract int serializedSizeInBytes();
+
+        abstract void serialize(ByteBuffer out);
+
+        @Override
+        public abstract Container clone();
+
+        /**
+         * Returns an equal run container if it is smaller, or this otherwise.
+         */
+        Container toRunContainerIfSmaller() {
+            final int runCount = numberOfRuns();
+            if (RunContainer.serializedSizeInBytes(runCount) >= this.serializedSizeInBytes()) {
+                return this;
+            }
+            final char[] runs = new char[2 * runCount];
+            final ContainerIterator iterator = this.iterator(0);
+            int r = -1;
+            int previous = -2;
+            while (iterator.hasNext()) {
+                final int v = iterator.next();
+                if (v != previous + 1) {
+                    runs[2 * ++r] = (char) v;
+                } else {
+                    runs[2 * r + 1]++;
+                }
+                previous = v;
+            }
+            return new RunContainer(runs, runCount);
+        }
+
+        boolean contentEquals(Container other) {
+            if (this.cardinality() != other.cardinality()) {
+                return false;
+            }
+            final ContainerIterator i1 = this.iterator(0);
+            final ContainerIterator i2 = other.iterator(0);
+            while (i1.hasNext()) {
+                if (i1.next() != i2.next()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * An iterator of the low 16 bits of a container.
+     */
+    abstract static class ContainerIterator {
+        abstract boolean hasNext();
+
+        abstract int next();
+    }
+
+    /**
+     * A container keeping the low 16 bits in a sorted array.
+     */
+    static final class ArrayContainer extends Container {
+        char[] content;
+        int cardinality;
+
+        ArrayContainer(int capacity) {
+            this.content = new char[capacity];
+        }
+
+        ArrayContainer(char[] content, int cardinality) {
+            this.content = content;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(int low) {
+            return Arrays.binarySearch(content, 0, cardinality, (char) low) >= 0;
+        }
+
+        @Override
+        Container add(int low) {
+            final int index = Arrays.binarySearch(content, 0, cardinality, (char) low);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality >= MAX_ARRAY_CARDINALITY) {
+                return this.toBitmap().add(low);
+            }
+            if (cardinality == content.length) {
+                content = Arrays.copyOf(content,
+                        Math.min(MAX_ARRAY_CARDINALITY, Math.max(4, cardinality + (cardinality >> 1))));
+            }
+            final int insertionPoint = -index - 1;
+            System.arraycopy(content, insertionPoint, content, insertionPoint + 1, cardinality - insertionPoint);
+            content[insertionPoint] = (char) low;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(int low) {
+            final int index = Arrays.binarySearch(content, 0, cardinality, (char) low);
+            if (index >= 0) {
+                System.arraycopy(content, index + 1, content, index, cardinality - index - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        BitmapContainer toBitmap() {
+            final BitmapContainer result = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                result.words[content[i] >>> 6] |= 1L << content[i];
+            }
+            result.cardinality = cardinality;
+            return result;
+        }
+
+        @Override
+        ContainerIterator iterator(int fromLow) {
+            int from = Arrays.binarySearch(content, 0, cardinality, (char) Math.min(fromLow, 0xFFFF));
+            if (fromLow > 0xFFFF) {
+                from = cardinality;
+            } else if (from < 0) {
+                from = -from - 1;
+            }
+            final int start = from;
+            return new ContainerIterator() {
+                int index = start;
+
+                @Override
+                boolean hasNext() {
+                    return index < cardinality;
+                }
+
+                @Override
+                int next() {
+                    return content[index++];
+                }
+            };
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < cardinality; i++) {
+                action.acceptPrimitive(high | content[i]);
+            }
+        }
+
+        @Override
+        int toArray(int high, int[] a, int offset) {
+            for (int i = 0; i < cardinality; i++) {
+                a[offset++] = high | content[i];
+            }
+            return offset;
+        }
+
+        @Override
+        Container toArrayOrBitmap() {
+            return this;
+        }
+
+        @Override
+        int numberOfRuns() {
+            int result = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (i == 0 || content[i] != content[i - 1] + 1) {
+                    result++;
+                }
+            }
+            return result;
+        }
+
+        @Override
+        int serializedSizeInBytes() {
+            return 2 * cardinality;
+        }
+
+        @Override
+        void serialize(ByteBuffer out) {
+            for (int i = 0; i < cardinality; i++) {
+                out.putChar(content[i]);
+            }
+        }
+
+        @Override
+        public ArrayContainer clone() {
+            return new ArrayContainer(Arrays.copyOf(content, cardinality), cardinality);
+        }
+    }
+
+    /**
+     * A container keeping the low 16 bits in a bitmap of 2^16 bits.
+     */
+    static final class BitmapContainer extends Container {
+        final long[] words;
+        int cardinality;
+
+        BitmapContainer() {
+            this.words = new long[BITMAP_WORDS];
+        }
+
+        private BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        void recomputeCardinality() {
+            int result = 0;
+            for (long word : words) {
+                result += Long.bitCount(word);
+            }
+            cardinality = result;
+        }
+
+        /**
+         * Returns an equal array container if small enough, or this otherwise.
+         */
+        Container toArrayIfSmaller() {
+            if (cardinality > MAX_ARRAY_CARDINALITY) {
+                return this;
+            }
+            final ArrayContainer result = new ArrayContainer(cardinality);
+            toArrayContent(result.content);
+            result.cardinality = cardinality;
+            return result;
+        }
+
+        private void toArrayContent(char[] content) {
+            int k = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    content[k++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(int low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        Container add(int low) {
+            final long bit = 1L << low;
+            final int i = low >>> 6;
+            if ((words[i] & bit) == 0) {
+                words[i] |= bit;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(int low) {
+            final long bit = 1L << low;
+            final int i = low >>> 6;
+            if ((words[i] & bit) != 0) {
+                words[i] &= ~bit;
+                cardinality--;
+                return this.toArrayIfSmaller();
+            }
+            return this;
+        }
+
+        @Override
+        ContainerIterator iterator(int fromLow) {
+            return new ContainerIterator() {
+                int index = Math.min(fromLow, 1 << 16) >>> 6;
+                long word = index < BITMAP_WORDS ? words[index] & (-1L << fromLow) : 0;
+
+                @Override
+                boolean hasNext() {
+                    while (word == 0) {
+                        if (++index >= BITMAP_WORDS) {
+                            index = BITMAP_WORDS;
+                            return false;
+                        }
+                        word = words[index];
+                    }
+                    return true;
+                }
+
+                @Override
+                int next() {
+                    hasNext();
+                    final int result = (index << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                    return result;
+                }
+            };
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.acceptPrimitive(high | ((i << 6) + Long.numberOfTrailingZeros(word)));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        int toArray(int high, int[] a, int offset) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    a[offset++] = high | ((i << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return offset;
+        }
+
+        @Override
+        Container toArrayOrBitmap() {
+            return this;
+        }
+
+        @Override
+        int numberOfRuns() {
+            int result = 0;
+            long previousTop = 0;
+            for (long word : words) {
+                result += Long.bitCount(word & ~((word << 1) | previousTop));
+                previousTop = word >>> 63;
+            }
+            return result;
+        }
+
+        @Override
+        int serializedSizeInBytes() {
+            return 8 * BITMAP_WORDS;
+        }
+
+        @Override
+        void serialize(ByteBuffer out) {
+            for (long word : words) {
+                out.putLong(word);
+            }
+        }
+
+        @Override
+        public BitmapContainer clone() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+    }
+
+    /**
+     * A container keeping the low 16 bits as runs of consecutive values.
+     * runs[2 * i] is the start of the i-th run, and runs[2 * i + 1] is its length minus 1.
+     * Run containers are never changed: they turn into array or bitmap containers when they are.
+     */
+    static final class RunContainer extends Container {
+        final char[] runs;
+        final int runCount;
+        final int cardinality;
+
+        RunContainer(char[] runs, int runCount) {
+            this.runs = runs;
+            this.runCount = runCount;
+            int result = 0;
+            for (int i = 0; i < runCount; i++) {
+                result += runs[2 * i + 1] + 1;
+            }
+            this.cardinality = result;
+        }
+
+        static int serializedSizeInBytes(int runCount) {
+            return 2 + 4 * runCount;
+        }
+
+        /**
+         * Returns an equal array or bitmap container if it is smaller, or this otherwise.
+         */
+        Container optimize() {
+            final int arrayOrBitmapSize = cardinality <= MAX_ARRAY_CARDINALITY ? 2 * cardinality : 8 * BITMAP_WORDS;
+            return arrayOrBitmapSize < this.serializedSizeInBytes() ? this.toArrayOrBitmap() : this;
+        }
+
+        /**
+         * Returns the index of the last run starting at or before low, or -1.
+         */
+        private int runIndex(int low) {
+            int lo = 0;
+            int hi = runCount - 1;
+            while (lo <= hi) {
+                final int mid = (lo + hi) >>> 1;
+                if (runs[2 * mid] <= low) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            return hi;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(int low) {
+            final int index = runIndex(low);
+            return index >= 0 && low <= runs[2 * index] + runs[2 * index + 1];
+        }
+
+        @Override
+        Container add(int low) {
+            return this.contains(low) ? this : this.toArrayOrBitmap().add(low);
+        }
+
+        @Override
+        Container remove(int low) {
+            return this.contains(low) ? this.toArrayOrBitmap().remove(low) : this;
+        }
+
+        @Override
+        ContainerIterator iterator(int fromLow) {
+            int startRun = runIndex(fromLow);
+            if (startRun < 0 || fromLow > runs[2 * startRun] + runs[2 * startRun + 1]) {
+                startRun++;
+            }
+            final int firstRun = startRun;
+            return new ContainerIterator() {
+                int run = firstRun;
+                int value = run < runCount ? Math.max(fromLow, runs[2 * run]) : 0;
+
+                @Override
+                boolean hasNext() {
+                    return run < runCount;
+                }
+
+                @Override
+                int next() {
+                    final int result = value;
+                    if (value >= runs[2 * run] + runs[2 * run + 1]) {
+                        if (++run < runCount) {
+                            value = runs[2 * run];
+                        }
+                    } else {
+                        value++;
+                    }
+                    return result;
+                }
+            };
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < runCount; i++) {
+                final int start = runs[2 * i];
+                final int end = start + runs[2 * i + 1];
+                for (int v = start; v <= end; v++) {
+                    action.acceptPrimitive(high | v);
+                }
+            }
+        }
+
+        @Override
+        int toArray(int high, int[] a, int offset) {
+            for (int i = 0; i < runCount; i++) {
+                final int start = runs[2 * i];
+                final int end = start + runs[2 * i + 1];
+                for (int v = start; v <= end; v++) {
+                    a[offset++] = high | v;
+                }
+            }
+            return offset;
+        }
+
+        @Override
+        Container toArrayOrBitmap() {
+            if (cardinality <= MAX_ARRAY_CARDINALITY) {
+                final ArrayContainer result = new ArrayContainer(cardinality);
+                for (int i = 0; i < runCount; i++) {
+                    final int start = runs[2 * i];
+                    final int end = start + runs[2 * i + 1];
+                    for (int v = start; v <= end; v++) {
+                        result.content[result.cardinality++] = (char) v;
+                    }
+                }
+                return result;
+            }
+            final BitmapContainer result = new BitmapContainer();
+            for (int i = 0; i < runCount; i++) {
+                final int start = runs[2 * i];
+                final int end = start + runs[2 * i + 1] + 1;
+                setRange(result.words, start, end);
+            }
+            result.cardinality = cardinality;
+            return result;
+        }
+
+        /**
+         * Sets bits [start, end) of the words.
+         */
+        private static void setRange(long[] words, int start, int end) {
+            final int firstWord = start >>> 6;
+            final int lastWord = (end - 1) >>> 6;
+            if (firstWord == lastWord) {
+                words[firstWord] |= (-1L << start) & (-1L >>> -end);
+                return;
+            }
+            words[firstWord] |= -1L << start;
+            for (int i = firstWord + 1; i < lastWord; i++) {
+                words[i] = -1L;
+            }
+            words[lastWord] |= -1L >>> -end;
+        }
+
+        @Override
+        int numberOfRuns() {
+            return runCount;
+        }
+
+        @Override
+        int serializedSizeInBytes() {
+            return serializedSizeInBytes(runCount);
+        }
+
+        @Override
+        void serialize(ByteBuffer out) {
+            out.putChar((char) runCount);
+            for (int i = 0; i < 2 * runCount; i++) {
+                out.putChar(runs[i]);
+            }
+        }
+
+        @Override
+        public RunContainer clone() {
+            // never changed, so can be shared.
+            return this;
+        }
+    }
+}
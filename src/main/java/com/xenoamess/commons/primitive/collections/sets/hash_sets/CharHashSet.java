@@ -0,0 +1,670 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xenoamess.commons.primitive.collections.sets.hash_sets;
+
+import com.xenoamess.commons.primitive.Primitive;
+import com.xenoamess.commons.primitive.collections.CharCollection;
+import com.xenoamess.commons.primitive.collections.HashCommon;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.CharArrayList;
+import com.xenoamess.commons.primitive.collections.sets.CharSet;
+import com.xenoamess.commons.primitive.iterators.CharIterator;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+
+/**
+ * Hash table based implementation of the {@code Set} interface, whose elements are {@code char}.
+ * <p>
+ * This class aims to reduce performance issue of autoboxing and unboxing.
+ * <p>
+ * This class is designed to be a replacement to {@code HashSet<Character>}
+ * <p>
+ * Elements are kept in a single flat {@code char[]} table, and collisions are resolved by
+ * open addressing with linear probing. {@link Primitive#CHAR_DEFAULT} marks empty slots,
+ * thus whether the set contains it is recorded by a separate flag.
+ * <p>
+ * It have functions dealing with {@code Character} for being a {@code Set},
+ * but nearly all of its functions have a replacement named XXXPrimitive.
+ * The basic idea is use XXXPrimitive functions whenever possible, and only use
+ * other functions when you have to.
+ * <p>
+ * <strong>Note that this implementation is not synchronized.</strong>
+ * The iterators of this class are <i>fail-fast</i>.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see HashSet
+ * @see CharSet
+ */
+public class CharHashSet extends AbstractSet<Character>
+        implements CharSet, Cloneable, java.io.Serializable, Primitive {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The hash table.
+     */
+    transient char[] keys;
+
+    /**
+     * The mask for wrapping a position counter, equals to table length - 1.
+     */
+    transient int mask;
+
+    /**
+     * Whether this set contains {@link Primitive#CHAR_DEFAULT}.
+     */
+    transient boolean containsFreeKey;
+
+    /**
+     * The current table length. Always a power of 2.
+     */
+    transient int n;
+
+    /**
+     * Threshold after which we rehash.
+     */
+    transient int maxFill;
+
+    /**
+     * The number of elements in this set.
+     */
+    transient int size;
+
+    /**
+     * The number of times this set has been structurally modified.
+     */
+    transient int modCount;
+
+    /**
+     * The load factor of the table.
+     *
+     * @serial
+     */
+    final float loadFactor;
+
+    /**
+     * Constructs an empty set with the specified expected size and load factor.
+     *
+     * @param expected   the expected number of elements in the set
+     * @param loadFactor the load factor
+     * @throws java.lang.IllegalArgumentException if expected is negative or loadFactor is not in (0, 1)
+     */
+    public CharHashSet(int expected, float loadFactor) {
+        HashCommon.checkLoadFactor(loadFactor);
+        if (expected < 0) {
+            throw new IllegalArgumentException("Illegal expected size: " + expected);
+        }
+        this.loadFactor = loadFactor;
+        this.n = HashCommon.arraySize(expected, loadFactor);
+        this.mask = n - 1;
+        this.maxFill = HashCommon.maxFill(n, loadFactor);
+        this.keys = new char[n];
+    }
+
+    /**
+     * Constructs an empty set with the specified expected size and the default load factor (0.75).
+     *
+     * @param expected the expected number of elements in the set
+     * @throws java.lang.IllegalArgumentException if expected is negative
+     */
+    public CharHashSet(int expected) {
+        this(expected, HashCommon.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs an empty set with the default initial capacity (16) and the default load factor (0.75).
+     */
+    public CharHashSet() {
+        this(HashCommon.DEFAULT_INITIAL_CAPACITY, HashCommon.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs a new set containing the elements in the specified collection.
+     *
+     * @param c the collection whose elements are to be placed into this set
+     * @throws java.lang.NullPointerException if the specified collection is null, or contains null
+     */
+    public CharHashSet(Collection<? extends Character> c) {
+        this(Math.max(c.size(), HashCommon.DEFAULT_INITIAL_CAPACITY), HashCommon.DEFAULT_LOAD_FACTOR);
+        this.addAll(c);
+    }
+
+    /**
+     * Constructs a new set containing the elements in the specified array.
+     *
+     * @param a the array whose elements are to be placed into this set
+     * @throws java.lang.NullPointerException if the specified array is null
+     */
+    public CharHashSet(char[] a) {
+        this(Math.max(a.length, HashCommon.DEFAULT_INITIAL_CAPACITY), HashCommon.DEFAULT_LOAD_FACTOR);
+        for (char e : a) {
+            this.addPrimitive(e);
+        }
+    }
+
+    /**
+     * find the position of an element which is not {@link Primitive#CHAR_DEFAULT}.
+     *
+     * @param k the element
+     * @return the position of the element, or -(insertion point) - 1 if the element is absent
+     */
+    private int find(final char k) {
+        final char[] key = this.keys;
+        char curr;
+        int pos;
+        if (HashCommon.isFreeKey(curr = key[pos = HashCommon.hash(k) & mask])) {
+            return -(pos + 1);
+        }
+        if (HashCommon.keyEquals(k, curr)) {
+            return pos;
+        }
+        while (true) {
+            if (HashCommon.isFreeKey(curr = key[pos = (pos + 1) & mask])) {
+                return -(pos + 1);
+            }
+            if (HashCommon.keyEquals(k, curr)) {
+                return pos;
+            }
+        }
+    }
+
+    /**
+     * Shifts left elements with the specified hash code, starting at the specified position, and empties the
+     * resulting free slot.
+     *
+     * @param pos a starting position
+     */
+    final void shiftKeys(int pos) {
+        // Shift entries with the same hash.
+        int last;
+        int slot;
+        char curr;
+        final char[] key = this.keys;
+        while (true) {
+            pos = ((last = pos) + 1) & mask;
+            while (true) {
+                if (HashCommon.isFreeKey(curr = key[pos])) {
+                    key[last] = CHAR_DEFAULT;
+                    return;
+                }
+                slot = HashCommon.hash(curr) & mask;
+                if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) {
+                    break;
+                }
+                pos = (pos + 1) & mask;
+            }
+            key[last] = curr;
+        }
+    }
+
+    /**
+     * Rehashes the set to a new table length.
+     *
+     * @param newN the new table length, must be a power of 2
+     */
+    void rehash(final int newN) {
+        final char[] key = this.keys;
+        final int newMask = newN - 1;
+        final char[] newKey = new char[newN];
+        int i = n;
+        int pos;
+        for (int j = realSize(); j-- != 0; ) {
+            while (HashCommon.isFreeKey(key[--i])) {
+                // do nothing
+            }
+            if (!HashCommon.isFreeKey(newKey[pos = HashCommon.hash(key[i]) & newMask])) {
+                while (!HashCommon.isFreeKey(newKey[pos = (pos + 1) & newMask])) {
+                    // do nothing
+                }
+            }
+            newKey[pos] = key[i];
+        }
+        n = newN;
+        mask = newMask;
+        maxFill = HashCommon.maxFill(n, loadFactor);
+        this.keys = newKey;
+    }
+
+    private int realSize() {
+        return containsFreeKey ? size - 1 : size;
+    }
+
+    /**
+     * Increases the capacity of this set, if necessary, to ensure that it can hold at least the number of
+     * elements specified by the argument without rehashing.
+     *
+     * @param expected the desired number of elements
+     */
+    public void ensureCapacity(int expected) {
+        final int needed = HashCommon.arraySize(expected, loadFactor);
+        if (needed > n) {
+            rehash(needed);
+        }
+    }
+
+    /**
+     * Shrinks the table to the smallest length that can hold the current elements.
+     */
+    public void trim() {
+        final int l = HashCommon.arraySize(size, loadFactor);
+        if (l < n) {
+            rehash(l);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(Object o) {
+        return CharSet.super.contains(o);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsPrimitive(char o) {
+        if (HashCommon.isFreeKey(o)) {
+            return containsFreeKey;
+        }
+        return find(o) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean add(Character e) {
+        return CharSet.super.add(e);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addPrimitive(char e) {
+        if (HashCommon.isFreeKey(e)) {
+            if (containsFreeKey) {
+                return false;
+            }
+            containsFreeKey = true;
+        } else {
+            final int pos = find(e);
+            if (pos >= 0) {
+                return false;
+            }
+            keys[-pos - 1] = e;
+        }
+        modCount++;
+        if (size++ >= maxFill) {
+            rehash(HashCommon.arraySize(size + 1, loadFactor));
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addAll(Collection<? extends Character> c) {
+        if (loadFactor <= .5) {
+            ensureCapacity(c.size());
+        } else {
+            ensureCapacity(size() + c.size());
+        }
+        boolean modified = false;
+        if (c instanceof CharCollection) {
+            final CharIterator iterator = ((CharCollection) c).iterator();
+            while (iterator.hasNext()) {
+                if (this.addPrimitive(iterator.nextPrimitive())) {
+                    modified = true;
+                }
+            }
+        } else {
+            for (Character e : c) {
+                if (this.add(e)) {
+                    modified = true;
+                }
+            }
+        }
+        return modified;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remove(Object o) {
+        return CharSet.super.remove(o);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeByContentPrimitive(char o) {
+        if (HashCommon.isFreeKey(o)) {
+            if (!containsFreeKey) {
+                return false;
+            }
+            containsFreeKey = false;
+        } else {
+            final int pos = find(o);
+            if (pos < 0) {
+                return false;
+            }
+            shiftKeys(pos);
+        }
+        size--;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        if (size == 0) {
+            return;
+        }
+        size = 0;
+        modCount++;
+        containsFreeKey = false;
+        Arrays.fill(keys, CHAR_DEFAULT);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char[] toArrayPrimitive() {
+        return toArrayPrimitive(new char[size]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char[] toArrayPrimitive(char[] a) {
+        if (a.length < size) {
+            a = new char[size];
+        }
+        final char[] key = this.keys;
+        int j = 0;
+        if (containsFreeKey) {
+            a[j++] = CHAR_DEFAULT;
+        }
+        for (int i = n; i-- != 0; ) {
+            if (!HashCommon.isFreeKey(key[i])) {
+                a[j++] = key[i];
+            }
+        }
+        return a;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        int h = 0;
+        final char[] key = this.keys;
+        for (int i = n; i-- != 0; ) {
+            if (!HashCommon.isFreeKey(key[i])) {
+                h += Character.hashCode(key[i]);
+            }
+        }
+        if (containsFreeKey) {
+            h += Character.hashCode(CHAR_DEFAULT);
+        }
+        return h;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Elements are visited from the last position of the table to the first one. When an element is
+     * removed, the following elements of the same cluster are shifted back; if an element from the very
+     * beginning of the table is shifted into the already visited part of it, it is remembered, and returned
+     * after the scan.
+     */
+    @Override
+    public CharIterator iterator() {
+        return new Itr();
+    }
+
+    private class Itr implements CharIterator {
+        /**
+         * The position of the last element returned, if positive or zero; if negative, the element is in
+         * {@code wrapped} (at index -pos - 1).
+         */
+        int pos = n;
+        /**
+         * The position of the last element returned, or -1 if there is no such element.
+         * n means the free key, and Integer.MIN_VALUE means the element is in {@code wrapped}.
+         */
+        int last = -1;
+        /**
+         * A downward counter measuring how many elements must still be returned.
+         */
+        int c = size;
+        /**
+         * A boolean telling us whether we should return the free key.
+         */
+        boolean mustReturnFreeKey = CharHashSet.this.containsFreeKey;
+        /**
+         * Elements from the beginning of the table that were moved into the visited part by a removal.
+         */
+        CharArrayList wrapped;
+        int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return c != 0;
+        }
+
+        @Override
+        public char nextPrimitive() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            c--;
+            if (mustReturnFreeKey) {
+                mustReturnFreeKey = false;
+                last = n;
+                return CHAR_DEFAULT;
+            }
+            final char[] key = CharHashSet.this.keys;
+            while (true) {
+                if (--pos < 0) {
+                    // We are just enumerating elements from the wrapped list.
+                    last = Integer.MIN_VALUE;
+                    return wrapped.getPrimitive(-pos - 1);
+                }
+                if (!HashCommon.isFreeKey(key[pos])) {
+                    last = pos;
+                    return key[pos];
+                }
+            }
+        }
+
+        /**
+         * Shifts left elements with the specified hash code, starting at the specified position, and empties
+         * the resulting free slot. Elements moved from the unvisited beginning of the table are saved in
+         * wrapped.
+         *
+         * @param pos a starting position
+         */
+        private void shiftKeys(int pos) {
+            int last;
+            int slot;
+            char curr;
+            final char[] key = CharHashSet.this.keys;
+            while (true) {
+                pos = ((last = pos) + 1) & mask;
+                while (true) {
+                    if (HashCommon.isFreeKey(curr = key[pos])) {
+                        key[last] = CHAR_DEFAULT;
+                        return;
+                    }
+                    slot = HashCommon.hash(curr) & mask;
+                    if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) {
+                        break;
+                    }
+                    pos = (pos + 1) & mask;
+                }
+                if (pos < last) {
+                    // Wrapped entry.
+                    if (wrapped == null) {
+                        wrapped = new CharArrayList(2);
+                    }
+                    wrapped.addPrimitive(key[pos]);
+                }
+                key[last] = curr;
+            }
+        }
+
+        @Override
+        public void remove() {
+            if (last == -1) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (last == n) {
+                containsFreeKey = false;
+            } else if (pos >= 0) {
+                shiftKeys(last);
+            } else {
+                // We're removing wrapped entries.
+                CharHashSet.this.removeByContentPrimitive(wrapped.getPrimitive(-pos - 1));
+                expectedModCount = modCount;
+                last = -1;
+                return;
+            }
+            size--;
+            modCount++;
+            expectedModCount = modCount;
+            last = -1;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns a shallow copy of this {@code CharHashSet} instance.
+     */
+    @Override
+    public CharHashSet clone() {
+        CharHashSet c;
+        try {
+            c = (CharHashSet) super.clone();
+        } catch (CloneNotSupportedException e) {
+            // this shouldn't happen, since we are Cloneable
+            throw new InternalError(e);
+        }
+        c.keys = keys.clone();
+        c.modCount = 0;
+        return c;
+    }
+
+    /**
+     * Saves the state of the {@code CharHashSet} instance to a stream
+     * (that is, serializes it).
+     *
+     * @param s the stream
+     * @throws java.io.IOException if an I/O error occurs
+     * @serialData The size of the set is emitted (int), followed by all of its
+     * elements (each a {@code char}).
+     */
+    private void writeObject(java.io.ObjectOutputStream s)
+            throws java.io.IOException {
+        final int expectedModCount = modCount;
+        s.defaultWriteObject();
+        s.writeInt(size);
+        if (containsFreeKey) {
+            s.writeChar(CHAR_DEFAULT);
+        }
+        final char[] key = this.keys;
+        for (int i = n; i-- != 0; ) {
+            if (!HashCommon.isFreeKey(key[i])) {
+                s.writeChar(key[i]);
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Reconstitutes the {@code CharHashSet} instance from a stream (that is,
+     * deserializes it).
+     *
+     * @param s the stream
+     * @throws java.io.IOException              if an I/O error occurs
+     * @throws java.lang.ClassNotFoundException if any.
+     */
+    private void readObject(java.io.ObjectInputStream s)
+            throws java.io.IOException, ClassNotFoundException {
+        s.defaultReadObject();
+        final int elements = s.readInt();
+        if (elements < 0) {
+            throw new java.io.InvalidObjectException("Invalid size: " + elements);
+        }
+        n = HashCommon.arraySize(elements, loadFactor);
+        mask = n - 1;
+        maxFill = HashCommon.maxFill(n, loadFactor);
+        keys = new char[n];
+        for (int i = 0; i < elements; i++) {
+            this.addPrimitive(s.readChar());
+        }
+    }
+}
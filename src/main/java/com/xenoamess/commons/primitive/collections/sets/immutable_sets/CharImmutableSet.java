@@ -0,0 +1,621 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xenoamess.commons.primitive.collections.sets.immutable_sets;
+
+import com.xenoamess.commons.primitive.Primitive;
+import com.xenoamess.commons.primitive.collections.CharCollection;
+import com.xenoamess.commons.primitive.collections.HashCommon;
+import com.xenoamess.commons.primitive.collections.sets.CharSet;
+import com.xenoamess.commons.primitive.functions.CharConsumer;
+import com.xenoamess.commons.primitive.functions.CharPredicate;
+import com.xenoamess.commons.primitive.iterators.CharIterator;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An unmodifiable {@link CharSet}, like the ones returned by {@code Set.of}.
+ * <p>
+ * This class aims to reduce performance issue of autoboxing and unboxing.
+ * <p>
+ * Instances are created by {@link #of(char...)} and {@link #copyOf(CharCollection)}.
+ * Sets of up to two elements keep them in fields. Larger sets keep them in an open-addressing hash table
+ * (see {@link HashCommon}), filled at most half, so lookups seldom probe more than one or two slots.
+ * All mutator functions throw {@code UnsupportedOperationException}, and as nothing can change after
+ * creation, iterators do not check for concurrent modification, and the hash code is computed once at creation.
+ * Instances can be shared between threads without synchronization.
+ * <p>
+ * The iteration order is unspecified.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see Set#of()
+ * @see CharSet
+ */
+public abstract class CharImmutableSet extends AbstractSet<Character>
+        implements CharSet, java.io.Serializable, Primitive {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The load factor of the hash tables.
+     */
+    static final float LOAD_FACTOR = 0.5f;
+
+    private static final CharImmutableSet EMPTY = new SetN(new char[1], 0, false);
+
+    /**
+     * Package-private, so all implementations are in this file.
+     */
+    CharImmutableSet() {
+        super();
+    }
+
+    /**
+     * Returns an immutable set containing zero elements.
+     *
+     * @return an empty {@code CharImmutableSet}
+     */
+    public static CharImmutableSet of() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns an immutable set containing one element.
+     *
+     * @param e0 the single element
+     * @return a {@code CharImmutableSet} containing the specified element
+     */
+    public static CharImmutableSet of(char e0) {
+        return new Set12(e0);
+    }
+
+    /**
+     * Returns an immutable set containing two elements.
+     *
+     * @param e0 the first element
+     * @param e1 the second element
+     * @return a {@code CharImmutableSet} containing the specified elements
+     * @throws java.lang.IllegalArgumentException if the elements are duplicate
+     */
+    public static CharImmutableSet of(char e0, char e1) {
+        if (HashCommon.keyEquals(e0, e1)) {
+            throw new IllegalArgumentException("duplicate element: " + e0);
+        }
+        return new Set12(e0, e1);
+    }
+
+    /**
+     * Returns an immutable set containing an arbitrary number of elements.
+     *
+     * @param elements the elements to be contained in the set
+     * @return a {@code CharImmutableSet} containing the specified elements
+     * @throws java.lang.IllegalArgumentException if there are any duplicate elements
+     * @throws java.lang.NullPointerException     if the array is {@code null}
+     */
+    public static CharImmutableSet of(char... elements) {
+        switch (elements.length) {
+            case 0:
+                return EMPTY;
+            case 1:
+                return of(elements[0]);
+            case 2:
+                return of(elements[0], elements[1]);
+            default:
+                return SetN.build(elements, elements.length, true);
+        }
+    }
+
+    /**
+     * Returns an immutable set containing the elements of the given collection.
+     * Duplicate elements are kept only once.
+     * If the collection is already an immutable set, it is returned as is.
+     *
+     * @param collection the collection from which elements are drawn
+     * @return a {@code CharImmutableSet} containing the elements of the given collection
+     * @throws java.lang.NullPointerException if the collection is {@code null}
+     */
+    public static CharImmutableSet copyOf(CharCollection collection) {
+        if (collection instanceof CharImmutableSet) {
+            return (CharImmutableSet) collection;
+        }
+        final char[] elements = collection.toArrayPrimitive();
+        switch (elements.length) {
+            case 0:
+                return EMPTY;
+            case 1:
+                return new Set12(elements[0]);
+            case 2:
+                return HashCommon.keyEquals(elements[0], elements[1])
+                        ? new Set12(elements[0])
+                        : new Set12(elements[0], elements[1]);
+            default:
+                final SetN result = SetN.build(elements, elements.length, false);
+                return result.size() <= 2 ? ofTrusted(result.toArrayPrimitive()) : result;
+        }
+    }
+
+    /**
+     * Returns an immutable set of the elements, which must be distinct.
+     */
+    static CharImmutableSet ofTrusted(char[] elements) {
+        switch (elements.length) {
+            case 0:
+                return EMPTY;
+            case 1:
+                return new Set12(elements[0]);
+            case 2:
+                return new Set12(elements[0], elements[1]);
+            default:
+                return SetN.build(elements, elements.length, false);
+        }
+    }
+
+    static UnsupportedOperationException uoe() {
+        return new UnsupportedOperationException();
+    }
+
+    //-------------------- mutators --------------------
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Always throws {@code UnsupportedOperationException}.
+     */
+    @Override
+    public boolean add(Character e) {
+        throw uoe();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Always throws {@code UnsupportedOperationException}.
+     */
+    @Override
+    public boolean addPrimitive(char e) {
+        throw uoe();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Always throws {@code UnsupportedOperationException}.
+     */
+    @Override
+    public boolean addAll(Collection<? extends Character> c) {
+        throw uoe();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Always throws {@code UnsupportedOperationException}.
+     */
+    @Override
+    public boolean remove(Object o) {
+        throw uoe();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Always throws {@code UnsupportedOperationException}.
+     */
+    @Override
+    public boolean removeByContentPrimitive(char o) {
+        throw uoe();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Always throws {@code UnsupportedOperationException}.
+     */
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw uoe();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Always throws {@code UnsupportedOperationException}.
+     */
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw uoe();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Always throws {@code UnsupportedOperationException}.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super Character> filter) {
+        throw uoe();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Always throws {@code UnsupportedOperationException}.
+     */
+    @Override
+    public boolean removeIfPrimitive(CharPredicate filter) {
+        throw uoe();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Always throws {@code UnsupportedOperationException}.
+     */
+    @Override
+    public void clear() {
+        throw uoe();
+    }
+
+    //-------------------- queries --------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(Object o) {
+        return CharSet.super.contains(o);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char[] toArrayPrimitive() {
+        return this.toArrayPrimitive(new char[this.size()]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof CharSet)) {
+            return super.equals(o);
+        }
+        final CharSet other = (CharSet) o;
+        if (other.size() != this.size()) {
+            return false;
+        }
+        for (CharIterator iterator = this.iterator(); iterator.hasNext(); ) {
+            if (!other.containsPrimitive(iterator.nextPrimitive())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Replaces this set with a {@link SerializationProxy} when serializing.
+     *
+     * @return the serialization proxy
+     */
+    Object writeReplace() {
+        return new SerializationProxy(this.toArrayPrimitive());
+    }
+
+    private void readObject(java.io.ObjectInputStream s) throws java.io.InvalidObjectException {
+        throw new java.io.InvalidObjectException("SerializationProxy required");
+    }
+
+    /**
+     * The serialized form of every {@code CharImmutableSet}, which is only the elements.
+     */
+    private static final class SerializationProxy implements java.io.Serializable {
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * @serial the elements
+         */
+        private final char[] elements;
+
+        SerializationProxy(char[] elements) {
+            this.elements = elements;
+        }
+
+        private Object readResolve() {
+            return ofTrusted(elements);
+        }
+    }
+
+    /**
+     * Immutable set of one or two elements, kept in fields.
+     */
+    static final class Set12 extends CharImmutableSet {
+        private static final long serialVersionUID = 1L;
+
+        private final char e0;
+        private final char e1;
+        private final int size;
+        private final int hash;
+
+        Set12(char e0) {
+            this.e0 = e0;
+            this.e1 = CHAR_DEFAULT;
+            this.size = 1;
+            this.hash = Character.hashCode(e0);
+        }
+
+        Set12(char e0, char e1) {
+            this.e0 = e0;
+            this.e1 = e1;
+            this.size = 2;
+            this.hash = Character.hashCode(e0) + Character.hashCode(e1);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean containsPrimitive(char o) {
+            return HashCommon.keyEquals(o, e0) || (size == 2 && HashCommon.keyEquals(o, e1));
+        }
+
+        @Override
+        public char[] toArrayPrimitive(char[] a) {
+            if (a.length < size) {
+                a = new char[size];
+            }
+            a[0] = e0;
+            if (size == 2) {
+                a[1] = e1;
+            }
+            return a;
+        }
+
+        @Override
+        public void forEachPrimitive(CharConsumer action) {
+            Objects.requireNonNull(action);
+            action.acceptPrimitive(e0);
+            if (size == 2) {
+                action.acceptPrimitive(e1);
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public CharIterator iterator() {
+            return new CharIterator() {
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < size;
+                }
+
+                @Override
+                public char nextPrimitive() {
+                    switch (index) {
+                        case 0:
+                            index = 1;
+                            return e0;
+                        case 1:
+                            if (size == 2) {
+                                index = 2;
+                                return e1;
+                            }
+                            throw new NoSuchElementException();
+                        default:
+                            throw new NoSuchElementException();
+                    }
+                }
+            };
+        }
+    }
+
+    /**
+     * Immutable set of elements in an open-addressing hash table, with linear probing.
+     * As in {@link com.xenoamess.commons.primitive.collections.sets.hash_sets.CharHashSet}, the default value
+     * marks empty slots, and is kept aside as a flag.
+     */
+    static final class SetN extends CharImmutableSet {
+        private static final long serialVersionUID = 1L;
+
+        private final char[] table;
+        private final int mask;
+        private final int size;
+        private final boolean containsFreeKey;
+        private final int hash;
+
+        SetN(char[] table, int size, boolean containsFreeKey) {
+            this.table = table;
+            this.mask = table.length - 1;
+            this.size = size;
+            this.containsFreeKey = containsFreeKey;
+            int h = containsFreeKey ? Character.hashCode(CHAR_DEFAULT) : 0;
+            for (char k : table) {
+                if (!HashCommon.isFreeKey(k)) {
+                    h += Character.hashCode(k);
+                }
+            }
+            this.hash = h;
+        }
+
+        /**
+         * Builds a table of elements[0, length).
+         *
+         * @param rejectDuplicates throw IllegalArgumentException on duplicate elements if true, or ignore them
+         */
+        static SetN build(char[] elements, int length, boolean rejectDuplicates) {
+            final char[] table = new char[HashCommon.arraySize(length, LOAD_FACTOR)];
+            final int mask = table.length - 1;
+            int size = 0;
+            boolean containsFreeKey = false;
+            for (int i = 0; i < length; i++) {
+                final char k = elements[i];
+                if (HashCommon.isFreeKey(k)) {
+                    if (containsFreeKey) {
+                        if (rejectDuplicates) {
+                            throw new IllegalArgumentException("duplicate element: " + k);
+                        }
+                        continue;
+                    }
+                    containsFreeKey = true;
+                    size++;
+                    continue;
+                }
+                int pos = HashCommon.hash(k) & mask;
+                boolean duplicate = false;
+                while (!HashCommon.isFreeKey(table[pos])) {
+                    if (HashCommon.keyEquals(table[pos], k)) {
+                        duplicate = true;
+                        break;
+                    }
+                    pos = (pos + 1) & mask;
+                }
+                if (duplicate) {
+                    if (rejectDuplicates) {
+                        throw new IllegalArgumentException("duplicate element: " + k);
+                    }
+                    continue;
+                }
+                table[pos] = k;
+                size++;
+            }
+            return new SetN(table, size, containsFreeKey);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean containsPrimitive(char o) {
+            if (HashCommon.isFreeKey(o)) {
+                return containsFreeKey;
+            }
+            final char[] tab = this.table;
+            int pos = HashCommon.hash(o) & mask;
+            char curr;
+            while (!HashCommon.isFreeKey(curr = tab[pos])) {
+                if (HashCommon.keyEquals(curr, o)) {
+                    return true;
+                }
+                pos = (pos + 1) & mask;
+            }
+            return false;
+        }
+
+        @Override
+        public char[] toArrayPrimitive(char[] a) {
+            if (a.length < size) {
+                a = new char[size];
+            }
+            int j = 0;
+            if (containsFreeKey) {
+                a[j++] = CHAR_DEFAULT;
+            }
+            for (char k : table) {
+                if (!HashCommon.isFreeKey(k)) {
+                    a[j++] = k;
+                }
+            }
+            return a;
+        }
+
+        @Override
+        public void forEachPrimitive(CharConsumer action) {
+            Objects.requireNonNull(action);
+            if (containsFreeKey) {
+                action.acceptPrimitive(CHAR_DEFAULT);
+            }
+            for (char k : table) {
+                if (!HashCommon.isFreeKey(k)) {
+                    action.acceptPrimitive(k);
+                }
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public CharIterator iterator() {
+            return new CharIterator() {
+                /**
+                 * The next position to look at, -1 meaning the free key.
+                 */
+                private int pos = -1;
+                private int remaining = size;
+
+                @Override
+                public boolean hasNext() {
+                    return remaining != 0;
+                }
+
+                @Override
+                public char nextPrimitive() {
+                    if (remaining == 0) {
+                        throw new NoSuchElementException();
+                    }
+                    remaining--;
+                    if (pos == -1) {
+                        pos = 0;
+                        if (containsFreeKey) {
+                            return CHAR_DEFAULT;
+                        }
+                    }
+                    while (HashCommon.isFreeKey(table[pos])) {
+                        pos++;
+                    }
+                    return table[pos++];
+                }
+            };
+        }
+    }
+}
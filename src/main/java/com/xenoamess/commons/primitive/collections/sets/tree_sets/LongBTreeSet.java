@@ -0,0 +1,1114 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xenoamess.commons.primitive.collections.sets.tree_sets;
+
+import com.xenoamess.commons.primitive.Primitive;
+import com.xenoamess.commons.primitive.collections.sets.LongSortedSet;
+import com.xenoamess.commons.primitive.comparators.LongComparator;
+import com.xenoamess.commons.primitive.functions.LongConsumer;
+import com.xenoamess.commons.primitive.iterators.LongIterator;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+/**
+ * B+-tree based implementation of the {@link LongSortedSet} interface.
+ * <p>
+ * This class aims to reduce performance issue of autoboxing and unboxing.
+ * <p>
+ * This class is designed to be a replacement to {@code TreeSet<Long>}
+ * <p>
+ * Elements are kept sorted in flat {@code long[]} arrays of up to {@link #MAX_KEYS} elements in the leaves of
+ * the tree, and the leaves are linked to each other, so a lookup touches a few arrays instead of a chain of
+ * nodes, and range scans read the leaves sequentially.
+ * <p>
+ * The elements are ordered using their natural ordering, or by a {@link LongComparator} provided at set creation
+ * time.
+ * <p>
+ * It have functions dealing with {@code Long} for being a {@code SortedSet},
+ * but nearly all of its functions have a replacement named XXXPrimitive.
+ * The basic idea is use XXXPrimitive functions whenever possible, and only use
+ * other functions when you have to.
+ * <p>
+ * <strong>Note that this implementation is not synchronized.</strong>
+ * The iterators of this class are <i>fail-fast</i>.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see TreeSet
+ * @see LongSortedSet
+ */
+public class LongBTreeSet extends AbstractSet<Long>
+        implements LongSortedSet, Cloneable, java.io.Serializable, Primitive {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The maximum number of keys in a node.
+     */
+    static final int MAX_KEYS = 64;
+
+    /**
+     * A node holding fewer keys than this after a removal is merged with or refilled from a sibling.
+     */
+    static final int MIN_KEYS = MAX_KEYS / 2;
+
+    /**
+     * A node of the tree.
+     * <p>
+     * A leaf holds the elements in keys[0, size). An inner node holds size separators in keys, and size + 1
+     * children, such that every element in children[i] is less than keys[i], and every element in
+     * children[i + 1] is greater than or equal to it.
+     * Arrays have room for one more key than {@link #MAX_KEYS}, so that a node can overflow before being split.
+     */
+    static final class Node {
+        final long[] keys = new long[MAX_KEYS + 1];
+        int size;
+        /**
+         * The children of an inner node, or null for a leaf.
+         */
+        final Node[] children;
+        /**
+         * The neighbour leaves, for leaves only.
+         */
+        Node prev;
+        Node next;
+
+        Node(boolean leaf) {
+            this.children = leaf ? null : new Node[MAX_KEYS + 2];
+        }
+
+        boolean isLeaf() {
+            return children == null;
+        }
+    }
+
+    /**
+     * A position in a leaf.
+     */
+    static class Cursor {
+        /**
+         * The leaf, or null if the position is out of the set.
+         */
+        Node leaf;
+        int index;
+    }
+
+    /**
+     * The comparator used to maintain order in this set, or
+     * null if it uses the natural ordering of its elements.
+     *
+     * @serial
+     */
+    private final LongComparator comparator;
+
+    transient Node root;
+
+    /**
+     * The number of elements in this set.
+     */
+    transient int size;
+
+    /**
+     * The number of times this set has been structurally modified.
+     */
+    transient int modCount;
+
+    /**
+     * Constructs a new, empty set, sorted according to the natural ordering of its elements.
+     */
+    public LongBTreeSet() {
+        this((LongComparator) null);
+    }
+
+    /**
+     * Constructs a new, empty set, sorted according to the specified comparator.
+     *
+     * @param comparator the comparator that will be used to order this set.
+     *                   If {@code null}, the natural ordering of the elements will be used.
+     */
+    public LongBTreeSet(LongComparator comparator) {
+        this.comparator = comparator;
+        this.root = new Node(true);
+    }
+
+    /**
+     * Constructs a new set containing the elements in the specified collection, sorted according to the natural
+     * ordering of its elements.
+     * If c is a {@code SortedSet} using a {@code LongComparator}, the same ordering is used instead.
+     *
+     * @param c collection whose elements will comprise the new set
+     * @throws java.lang.NullPointerException if the specified collection is null
+     */
+    public LongBTreeSet(Collection<? extends Long> c) {
+        this(c instanceof LongSortedSet ? ((LongSortedSet) c).comparator() : null);
+        this.addAll(c);
+    }
+
+    /**
+     * Constructs a new set containing the elements in the specified array, sorted according to the natural
+     * ordering of its elements.
+     *
+     * @param a array whose elements will comprise the new set
+     * @throws java.lang.NullPointerException if the specified array is null
+     */
+    public LongBTreeSet(long[] a) {
+        this();
+        for (long e : a) {
+            this.addPrimitive(e);
+        }
+    }
+
+    int compare(long a, long b) {
+        return comparator == null ? Long.compare(a, b) : comparator.compare(a, b);
+    }
+
+    /**
+     * Binary searches k in keys[0, n).
+     *
+     * @return the index of k if found, or (-(insertion point) - 1) otherwise
+     */
+    private int search(long[] keys, int n, long k) {
+        int low = 0;
+        int high = n - 1;
+        if (comparator == null) {
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                final long midVal = keys[mid];
+                if (midVal < k) {
+                    low = mid + 1;
+                } else if (midVal > k) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+        } else {
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                final int cmp = comparator.compare(keys[mid], k);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Returns the index of the child of an inner node that k belongs to.
+     */
+    private int childIndex(Node node, long k) {
+        final int i = search(node.keys, node.size, k);
+        return i >= 0 ? i + 1 : -i - 1;
+    }
+
+    private Node leafOf(long k) {
+        Node node = root;
+        while (!node.isLeaf()) {
+            node = node.children[childIndex(node, k)];
+        }
+        return node;
+    }
+
+    private Node firstLeaf() {
+        Node node = root;
+        while (!node.isLeaf()) {
+            node = node.children[0];
+        }
+        return node;
+    }
+
+    private Node lastLeaf() {
+        Node node = root;
+        while (!node.isLeaf()) {
+            node = node.children[node.size];
+        }
+        return node;
+    }
+
+    /**
+     * Moves cursor to the least element greater than (or equal to, if inclusive) k.
+     *
+     * @return if there is such an element
+     */
+    boolean seekCeiling(Cursor cursor, long k, boolean inclusive) {
+        Node leaf = leafOf(k);
+        int i = search(leaf.keys, leaf.size, k);
+        if (i >= 0) {
+            if (!inclusive) {
+                i++;
+            }
+        } else {
+            i = -i - 1;
+        }
+        while (leaf != null && i >= leaf.size) {
+            leaf = leaf.next;
+            i = 0;
+        }
+        cursor.leaf = leaf;
+        cursor.index = i;
+        return leaf != null;
+    }
+
+    /**
+     * Moves cursor to the greatest element less than (or equal to, if inclusive) k.
+     *
+     * @return if there is such an element
+     */
+    boolean seekFloor(Cursor cursor, long k, boolean inclusive) {
+        Node leaf = leafOf(k);
+        int i = search(leaf.keys, leaf.size, k);
+        if (i >= 0) {
+            if (!inclusive) {
+                i--;
+            }
+        } else {
+            i = -i - 2;
+        }
+        while (leaf != null && i < 0) {
+            leaf = leaf.prev;
+            i = leaf == null ? -1 : leaf.size - 1;
+        }
+        cursor.leaf = leaf;
+        cursor.index = i;
+        return leaf != null;
+    }
+
+    //-------------------- modification --------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean add(Long e) {
+        return LongSortedSet.super.add(e);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addPrimitive(long e) {
+        if (!insert(root, e, true)) {
+            return false;
+        }
+        if (root.size > MAX_KEYS) {
+            final Node left = root;
+            final Node right = split(left, true);
+            final Node newRoot = new Node(false);
+            newRoot.keys[0] = separator(left, right);
+            newRoot.children[0] = left;
+            newRoot.children[1] = right;
+            newRoot.size = 1;
+            root = newRoot;
+        }
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Inserts k into the subtree of node. Children overflowing because of it are split, but node itself is left
+     * to its parent.
+     *
+     * @param rightmost if node is the last node of its level
+     * @return if k is inserted
+     */
+    private boolean insert(Node node, long k, boolean rightmost) {
+        if (node.isLeaf()) {
+            int i = search(node.keys, node.size, k);
+            if (i >= 0) {
+                return false;
+            }
+            i = -i - 1;
+            System.arraycopy(node.keys, i, node.keys, i + 1, node.size - i);
+            node.keys[i] = k;
+            node.size++;
+            return true;
+        }
+        final int ci = childIndex(node, k);
+        final Node child = node.children[ci];
+        final boolean childRightmost = rightmost && ci == node.size;
+        if (!insert(child, k, childRightmost)) {
+            return false;
+        }
+        if (child.size > MAX_KEYS) {
+            final Node right = split(child, childRightmost);
+            System.arraycopy(node.keys, ci, node.keys, ci + 1, node.size - ci);
+            System.arraycopy(node.children, ci + 1, node.children, ci + 2, node.size - ci);
+            node.keys[ci] = separator(child, right);
+            node.children[ci + 1] = right;
+            node.size++;
+        }
+        return true;
+    }
+
+    /**
+     * Splits an overflowing node, and returns the new right half.
+     * <p>
+     * The last node of a level is split unevenly, leaving the left half full, as it is usually split because of
+     * elements appended in ascending order.
+     */
+    private static Node split(Node node, boolean rightmost) {
+        final Node right = new Node(node.isLeaf());
+        if (node.isLeaf()) {
+            final int mid = rightmost ? node.size - 1 : node.size >>> 1;
+            right.size = node.size - mid;
+            System.arraycopy(node.keys, mid, right.keys, 0, right.size);
+            node.size = mid;
+            right.next = node.next;
+            if (right.next != null) {
+                right.next.prev = right;
+            }
+            right.prev = node;
+            node.next = right;
+        } else {
+            // keys[mid] moves up to the parent.
+            final int mid = rightmost ? node.size - 2 : node.size >>> 1;
+            right.size = node.size - mid - 1;
+            System.arraycopy(node.keys, mid + 1, right.keys, 0, right.size);
+            System.arraycopy(node.children, mid + 1, right.children, 0, right.size + 1);
+            Arrays.fill(node.children, mid + 1, node.size + 1, null);
+            node.size = mid;
+        }
+        return right;
+    }
+
+    /**
+     * Returns the separator between the two halves of a node just split.
+     * For inner nodes, it is the key moved up, which is still right after the last key of the left half.
+     */
+    private static long separator(Node left, Node right) {
+        return left.isLeaf() ? right.keys[0] : left.keys[left.size];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remove(Object o) {
+        return LongSortedSet.super.remove(o);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeByContentPrimitive(long o) {
+        if (!delete(root, o)) {
+            return false;
+        }
+        if (!root.isLeaf() && root.size == 0) {
+            final Node onlyChild = root.children[0];
+            root.children[0] = null;
+            root = onlyChild;
+        }
+        size--;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Deletes k from the subtree of node. Children underflowing because of it are rebalanced, but node itself is
+     * left to its parent.
+     *
+     * @return if k is deleted
+     */
+    private boolean delete(Node node, long k) {
+        if (node.isLeaf()) {
+            final int i = search(node.keys, node.size, k);
+            if (i < 0) {
+                return false;
+            }
+            System.arraycopy(node.keys, i + 1, node.keys, i, node.size - i - 1);
+            node.size--;
+            return true;
+        }
+        final int ci = childIndex(node, k);
+        final Node child = node.children[ci];
+        if (!delete(child, k)) {
+            return false;
+        }
+        if (child.size < MIN_KEYS) {
+            rebalance(node, ci);
+        }
+        return true;
+    }
+
+    /**
+     * Merges parent.children[ci] with a sibling, or moves keys from the sibling to it.
+     */
+    private static void rebalance(Node parent, int ci) {
+        final int li = ci > 0 ? ci - 1 : 0;
+        final Node left = parent.children[li];
+        final Node right = parent.children[li + 1];
+        if (left.isLeaf()) {
+            final int total = left.size + right.size;
+            if (total <= MAX_KEYS) {
+                System.arraycopy(right.keys, 0, left.keys, left.size, right.size);
+                left.size = total;
+                left.next = right.next;
+                if (left.next != null) {
+                    left.next.prev = left;
+                }
+                removeChild(parent, li);
+                return;
+            }
+            final int newLeftSize = total >>> 1;
+            if (left.size > newLeftSize) {
+                final int move = left.size - newLeftSize;
+                System.arraycopy(right.keys, 0, right.keys, move, right.size);
+                System.arraycopy(left.keys, newLeftSize, right.keys, 0, move);
+            } else if (left.size < newLeftSize) {
+                final int move = newLeftSize - left.size;
+                System.arraycopy(right.keys, 0, left.keys, left.size, move);
+                System.arraycopy(right.keys, move, right.keys, 0, right.size - move);
+            }
+            left.size = newLeftSize;
+            right.size = total - newLeftSize;
+            parent.keys[li] = right.keys[0];
+            return;
+        }
+        // the separator in parent takes part in merging or moving, as a key.
+        final int total = left.size + 1 + right.size;
+        if (total <= MAX_KEYS) {
+            left.keys[left.size] = parent.keys[li];
+            System.arraycopy(right.keys, 0, left.keys, left.size + 1, right.size);
+            System.arraycopy(right.children, 0, left.children, left.size + 1, right.size + 1);
+            left.size = total;
+            removeChild(parent, li);
+            return;
+        }
+        final int newLeftSize = (total - 1) >>> 1;
+        if (left.size > newLeftSize) {
+            final int move = left.size - newLeftSize;
+            System.arraycopy(right.keys, 0, right.keys, move, right.size);
+            System.arraycopy(right.children, 0, right.children, move, right.size + 1);
+            right.keys[move - 1] = parent.keys[li];
+            System.arraycopy(left.keys, newLeftSize + 1, right.keys, 0, move - 1);
+            System.arraycopy(left.children, newLeftSize + 1, right.children, 0, move);
+            parent.keys[li] = left.keys[newLeftSize];
+            Arrays.fill(left.children, newLeftSize + 1, left.size + 1, null);
+            right.size += move;
+            left.size = newLeftSize;
+        } else if (left.size < newLeftSize) {
+            final int move = newLeftSize - left.size;
+            left.keys[left.size] = parent.keys[li];
+            System.arraycopy(right.keys, 0, left.keys, left.size + 1, move - 1);
+            System.arraycopy(right.children, 0, left.children, left.size + 1, move);
+            parent.keys[li] = right.keys[move - 1];
+            System.arraycopy(right.keys, move, right.keys, 0, right.size - move);
+            System.arraycopy(right.children, move, right.children, 0, right.size - move + 1);
+            Arrays.fill(right.children, right.size - move + 1, right.size + 1, null);
+            right.size -= move;
+            left.size = newLeftSize;
+        }
+    }
+
+    /**
+     * Removes parent.keys[i] and parent.children[i + 1].
+     */
+    private static void removeChild(Node parent, int i) {
+        System.arraycopy(parent.keys, i + 1, parent.keys, i, parent.size - i - 1);
+        System.arraycopy(parent.children, i + 2, parent.children, i + 1, parent.size - i - 1);
+        parent.children[parent.size] = null;
+        parent.size--;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        if (size == 0) {
+            return;
+        }
+        root = new Node(true);
+        size = 0;
+        modCount++;
+    }
+
+    //-------------------- query --------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(Object o) {
+        return LongSortedSet.super.contains(o);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsPrimitive(long o) {
+        final Node leaf = leafOf(o);
+        return search(leaf.keys, leaf.size, o) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LongComparator comparator() {
+        return comparator;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long firstPrimitive() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return firstLeaf().keys[0];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long lastPrimitive() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        final Node leaf = lastLeaf();
+        return leaf.keys[leaf.size - 1];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long floorPrimitive(long e, long defaultValue) {
+        final Cursor cursor = new Cursor();
+        return seekFloor(cursor, e, true) ? cursor.leaf.keys[cursor.index] : defaultValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long ceilingPrimitive(long e, long defaultValue) {
+        final Cursor cursor = new Cursor();
+        return seekCeiling(cursor, e, true) ? cursor.leaf.keys[cursor.index] : defaultValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long lowerPrimitive(long e, long defaultValue) {
+        final Cursor cursor = new Cursor();
+        return seekFloor(cursor, e, false) ? cursor.leaf.keys[cursor.index] : defaultValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long higherPrimitive(long e, long defaultValue) {
+        final Cursor cursor = new Cursor();
+        return seekCeiling(cursor, e, false) ? cursor.leaf.keys[cursor.index] : defaultValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LongSortedSet subSetPrimitive(long fromElement, long toElement) {
+        if (compare(fromElement, toElement) > 0) {
+            throw new IllegalArgumentException("fromElement > toElement");
+        }
+        return new SubSet(false, fromElement, false, toElement);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LongSortedSet headSetPrimitive(long toElement) {
+        return new SubSet(true, LONG_DEFAULT, false, toElement);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LongSortedSet tailSetPrimitive(long fromElement) {
+        return new SubSet(false, fromElement, true, LONG_DEFAULT);
+    }
+
+    //-------------------- bulk --------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long[] toArrayPrimitive() {
+        return toArrayPrimitive(new long[size]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long[] toArrayPrimitive(long[] a) {
+        if (a.length < size) {
+            a = new long[size];
+        }
+        int j = 0;
+        for (Node leaf = firstLeaf(); leaf != null; leaf = leaf.next) {
+            System.arraycopy(leaf.keys, 0, a, j, leaf.size);
+            j += leaf.size;
+        }
+        return a;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEach(Consumer<? super Long> action) {
+        Objects.requireNonNull(action);
+        if (action instanceof LongConsumer) {
+            this.forEachPrimitive((LongConsumer) action);
+            return;
+        }
+        this.forEachPrimitive(action::accept);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Elements are visited in ascending order.
+     */
+    @Override
+    public void forEachPrimitive(LongConsumer action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        for (Node leaf = firstLeaf(); leaf != null; leaf = leaf.next) {
+            final long[] keys = leaf.keys;
+            for (int i = 0, n = leaf.size; i < n; i++) {
+                action.acceptPrimitive(keys[i]);
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        int h = 0;
+        for (Node leaf = firstLeaf(); leaf != null; leaf = leaf.next) {
+            final long[] keys = leaf.keys;
+            for (int i = 0, n = leaf.size; i < n; i++) {
+                h += Long.hashCode(keys[i]);
+            }
+        }
+        return h;
+    }
+
+    //-------------------- iteration --------------------
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Elements are visited in ascending order.
+     */
+    @Override
+    public LongIterator iterator() {
+        final Itr itr = new Itr(true, LONG_DEFAULT);
+        final Node leaf = firstLeaf();
+        if (leaf.size != 0) {
+            itr.leaf = leaf;
+        }
+        return itr;
+    }
+
+    /**
+     * Iterator over the elements before an optional exclusive upper bound.
+     * <p>
+     * When an element is removed by the iterator, the tree may be rebalanced, so the iterator finds its
+     * position again by looking up the element after the removed one.
+     */
+    private class Itr extends Cursor implements LongIterator {
+        final boolean toEnd;
+        final long hi;
+        boolean hasLast;
+        long last;
+        int expectedModCount = modCount;
+
+        Itr(boolean toEnd, long hi) {
+            this.toEnd = toEnd;
+            this.hi = hi;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return leaf != null && (toEnd || compare(leaf.keys[index], hi) < 0);
+        }
+
+        @Override
+        public long nextPrimitive() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final long k = leaf.keys[index];
+            if (++index >= leaf.size) {
+                leaf = leaf.next;
+                index = 0;
+            }
+            last = k;
+            hasLast = true;
+            return k;
+        }
+
+        @Override
+        public void remove() {
+            if (!hasLast) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            LongBTreeSet.this.removeByContentPrimitive(last);
+            seekCeiling(this, last, false);
+            expectedModCount = modCount;
+            hasLast = false;
+        }
+    }
+
+    /**
+     * A view of the elements of the set in a range.
+     */
+    private final class SubSet extends AbstractSet<Long> implements LongSortedSet {
+        final boolean fromStart;
+        final long lo;
+        final boolean toEnd;
+        final long hi;
+
+        SubSet(boolean fromStart, long lo, boolean toEnd, long hi) {
+            this.fromStart = fromStart;
+            this.lo = lo;
+            this.toEnd = toEnd;
+            this.hi = hi;
+        }
+
+        boolean tooLow(long k) {
+            return !fromStart && compare(k, lo) < 0;
+        }
+
+        boolean tooHigh(long k) {
+            return !toEnd && compare(k, hi) >= 0;
+        }
+
+        boolean inRange(long k) {
+            return !tooLow(k) && !tooHigh(k);
+        }
+
+        /**
+         * If k is in range, or is the exclusive upper bound, which is legal as the upper bound of a sub view.
+         */
+        boolean inClosedRange(long k) {
+            return !tooLow(k) && (toEnd || compare(k, hi) <= 0);
+        }
+
+        @Override
+        public LongIterator iterator() {
+            final Itr itr = new Itr(toEnd, hi);
+            if (fromStart) {
+                final Node leaf = firstLeaf();
+                if (leaf.size != 0) {
+                    itr.leaf = leaf;
+                }
+            } else {
+                seekCeiling(itr, lo, true);
+            }
+            return itr;
+        }
+
+        @Override
+        public int size() {
+            int result = 0;
+            for (LongIterator iterator = iterator(); iterator.hasNext(); iterator.nextPrimitive()) {
+                result++;
+            }
+            return result;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return !iterator().hasNext();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return LongSortedSet.super.contains(o);
+        }
+
+        @Override
+        public boolean containsPrimitive(long o) {
+            return inRange(o) && LongBTreeSet.this.containsPrimitive(o);
+        }
+
+        @Override
+        public boolean add(Long e) {
+            return LongSortedSet.super.add(e);
+        }
+
+        @Override
+        public boolean addPrimitive(long e) {
+            if (!inRange(e)) {
+                throw new IllegalArgumentException("key out of range");
+            }
+            return LongBTreeSet.this.addPrimitive(e);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            return LongSortedSet.super.remove(o);
+        }
+
+        @Override
+        public boolean removeByContentPrimitive(long o) {
+            return inRange(o) && LongBTreeSet.this.removeByContentPrimitive(o);
+        }
+
+        @Override
+        public long[] toArrayPrimitive() {
+            return toArrayPrimitive(new long[0]);
+        }
+
+        @Override
+        public long[] toArrayPrimitive(long[] a) {
+            final int n = size();
+            if (a.length < n) {
+                a = new long[n];
+            }
+            int j = 0;
+            for (LongIterator iterator = iterator(); iterator.hasNext(); ) {
+                a[j++] = iterator.nextPrimitive();
+            }
+            return a;
+        }
+
+        @Override
+        public LongComparator comparator() {
+            return comparator;
+        }
+
+        @Override
+        public long firstPrimitive() {
+            final LongIterator iterator = iterator();
+            if (!iterator.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return iterator.nextPrimitive();
+        }
+
+        @Override
+        public long lastPrimitive() {
+            final Cursor cursor = new Cursor();
+            if (toEnd) {
+                if (LongBTreeSet.this.size == 0) {
+                    throw new NoSuchElementException();
+                }
+                cursor.leaf = lastLeaf();
+                cursor.index = cursor.leaf.size - 1;
+            } else if (!seekFloor(cursor, hi, false)) {
+                throw new NoSuchElementException();
+            }
+            final long result = cursor.leaf.keys[cursor.index];
+            if (tooLow(result)) {
+                throw new NoSuchElementException();
+            }
+            return result;
+        }
+
+        @Override
+        public long floorPrimitive(long e, long defaultValue) {
+            final Cursor cursor = new Cursor();
+            final boolean found = tooHigh(e) ? seekFloor(cursor, hi, false) : seekFloor(cursor, e, true);
+            return found && !tooLow(cursor.leaf.keys[cursor.index]) ? cursor.leaf.keys[cursor.index] : defaultValue;
+        }
+
+        @Override
+        public long ceilingPrimitive(long e, long defaultValue) {
+            final Cursor cursor = new Cursor();
+            final boolean found = tooLow(e) ? seekCeiling(cursor, lo, true) : seekCeiling(cursor, e, true);
+            return found && !tooHigh(cursor.leaf.keys[cursor.index]) ? cursor.leaf.keys[cursor.index] : defaultValue;
+        }
+
+        @Override
+        public long lowerPrimitive(long e, long defaultValue) {
+            final Cursor cursor = new Cursor();
+            final boolean found = tooHigh(e) ? seekFloor(cursor, hi, false) : seekFloor(cursor, e, false);
+            return found && !tooLow(cursor.leaf.keys[cursor.index]) ? cursor.leaf.keys[cursor.index] : defaultValue;
+        }
+
+        @Override
+        public long higherPrimitive(long e, long defaultValue) {
+            final Cursor cursor = new Cursor();
+            final boolean found = tooLow(e) ? seekCeiling(cursor, lo, true) : seekCeiling(cursor, e, false);
+            return found && !tooHigh(cursor.leaf.keys[cursor.index]) ? cursor.leaf.keys[cursor.index] : defaultValue;
+        }
+
+        @Override
+        public LongSortedSet subSetPrimitive(long fromElement, long toElement) {
+            if (compare(fromElement, toElement) > 0) {
+                throw new IllegalArgumentException("fromElement > toElement");
+            }
+            if (!inRange(fromElement) || !inClosedRange(toElement)) {
+                throw new IllegalArgumentException("key out of range");
+            }
+            return new SubSet(false, fromElement, false, toElement);
+        }
+
+        @Override
+        public LongSortedSet headSetPrimitive(long toElement) {
+            if (!inClosedRange(toElement)) {
+                throw new IllegalArgumentException("key out of range");
+            }
+            return new SubSet(fromStart, lo, false, toElement);
+        }
+
+        @Override
+        public LongSortedSet tailSetPrimitive(long fromElement) {
+            if (!inRange(fromElement)) {
+                throw new IllegalArgumentException("key out of range");
+            }
+            return new SubSet(false, fromElement, toEnd, hi);
+        }
+    }
+
+    //-------------------- clone & serialization --------------------
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns a shallow copy of this {@code LongBTreeSet} instance.
+     */
+    @Override
+    public LongBTreeSet clone() {
+        LongBTreeSet c;
+        try {
+            c = (LongBTreeSet) super.clone();
+        } catch (CloneNotSupportedException e) {
+            // this shouldn't happen, since we are Cloneable
+            throw new InternalError(e);
+        }
+        c.root = new Node(true);
+        c.size = 0;
+        c.modCount = 0;
+        for (Node leaf = firstLeaf(); leaf != null; leaf = leaf.next) {
+            for (int i = 0; i < leaf.size; i++) {
+                c.addPrimitive(leaf.keys[i]);
+            }
+        }
+        return c;
+    }
+
+    /**
+     * Saves the state of the {@code LongBTreeSet} instance to a stream
+     * (that is, serializes it).
+     *
+     * @param s the stream
+     * @throws java.io.IOException if an I/O error occurs
+     * @serialData The comparator is emitted by default serialization, followed by the size of the set (int),
+     * followed by all of its elements (each a {@code long}) in ascending order.
+     */
+    private void writeObject(java.io.ObjectOutputStream s)
+            throws java.io.IOException {
+        final int expectedModCount = modCount;
+        s.defaultWriteObject();
+        s.writeInt(size);
+        for (Node leaf = firstLeaf(); leaf != null; leaf = leaf.next) {
+            for (int i = 0; i < leaf.size; i++) {
+                s.writeLong(leaf.keys[i]);
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Reconstitutes the {@code LongBTreeSet} instance from a stream (that is,
+     * deserializes it).
+     *
+     * @param s the stream
+     * @throws java.io.IOException              if an I/O error occurs
+     * @throws java.lang.ClassNotFoundException if any.
+     */
+    private void readObject(java.io.ObjectInputStream s)
+            throws java.io.IOException, ClassNotFoundException {
+        s.defaultReadObject();
+        final int elements = s.readInt();
+        if (elements < 0) {
+            throw new java.io.InvalidObjectException("Invalid size: " + elements);
+        }
+        root = new Node(true);
+        for (int i = 0; i < elements; i++) {
+            this.addPrimitive(s.readLong());
+        }
+    }
+}
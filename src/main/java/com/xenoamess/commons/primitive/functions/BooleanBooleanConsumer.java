@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2010, 2013, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.xenoamess.commons.primitive.functions;
+
+import com.xenoamess.commons.primitive.Primitive;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Represents an operation that accepts a boolean key and a boolean value and returns no
+ * result.  This is the primitive specialization of {@link BiConsumer} used by
+ * primitive maps.
+ *
+ * <p>This is a <a href="package-summary.html">functional interface</a>
+ * whose functional method is {@link #acceptPrimitive(boolean, boolean)}.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see BiConsumer
+ */
+@FunctionalInterface
+public interface BooleanBooleanConsumer extends BiConsumer<Boolean, Boolean>, Primitive {
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Performs this operation on the given arguments.
+     */
+    @Override
+    default void accept(Boolean t, Boolean u) {
+        this.acceptPrimitive(t, u);
+    }
+
+    /**
+     * Primitive replacement of #accept(Boolean t, Boolean u)
+     *
+     * @param t the first input argument
+     * @param u the second input argument
+     */
+    default void accept(boolean t, boolean u) {
+        this.acceptPrimitive(t, u);
+    }
+
+    /**
+     * Primitive replacement of #accept(Boolean t, Boolean u)
+     *
+     * @param t the first input argument
+     * @param u the second input argument
+     */
+    void acceptPrimitive(boolean t, boolean u);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns a composed {@code BiConsumer} that performs, in sequence, this
+     * operation followed by the {@code after} operation.
+     */
+    @Override
+    default BooleanBooleanConsumer andThen(BiConsumer<? super Boolean, ? super Boolean> after) {
+        Objects.requireNonNull(after);
+        return (t, u) -> {
+            BooleanBooleanConsumer.this.acceptPrimitive(t, u);
+            if (after instanceof BooleanBooleanConsumer) {
+                ((BooleanBooleanConsumer) after).acceptPrimitive(t, u);
+            } else {
+                after.accept(t, u);
+            }
+        };
+    }
+}
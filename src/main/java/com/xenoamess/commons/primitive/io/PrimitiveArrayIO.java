@@ -0,0 +1,1433 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.xenoamess.commons.primitive.io;
+
+import com.xenoamess.commons.primitive.Primitive;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.function.IntFunction;
+
+/**
+ * Bulk binary reading and writing of primitive arrays, from and to NIO channels and buffers.
+ * <p>
+ * The format is a header of {@link #HEADER_SIZE} bytes, then the elements:
+ * <ul>
+ * <li>magic number {@link #MAGIC} (int, big-endian)</li>
+ * <li>format version {@link #VERSION} (byte)</li>
+ * <li>element type, one of the {@code TYPE_XXX} constants (byte)</li>
+ * <li>byte order of the elements: 0 for big-endian, 1 for little-endian (byte)</li>
+ * <li>reserved, 0 (byte)</li>
+ * <li>number of elements (long, big-endian)</li>
+ * <li>the elements, in the byte order of the header; booleans are bytes 0 and 1.</li>
+ * </ul>
+ * <p>
+ * Elements are written in native byte order, so that they are copied in bulk through the views of the buffers,
+ * such as {@link java.nio.IntBuffer}, without converting them. They are converted when read on a machine of
+ * another byte order.
+ * <p>
+ * Arrays are written from a range which may wrap around the end of the array, so that the circular arrays of
+ * deques can be written as they are.
+ * <p>
+ * Buffers returned by {@link com.xenoamess.commons.io.FileUtilsx#loadBuffer(java.nio.file.Path)} can
+ * be read directly.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ */
+public class PrimitiveArrayIO implements Primitive {
+    /**
+     * <p>Instances of this class should NOT be constructed in standard programming.
+     *
+     * <p>This constructor is public to permit tools that require a JavaBean instance
+     * to operate.
+     */
+    public PrimitiveArrayIO() {
+        super();
+    }
+
+    /**
+     * The magic number at the beginning of the header, "XPRA" in ASCII.
+     */
+    public static final int MAGIC = 0x58505241;
+
+    /**
+     * The current version of the format.
+     */
+    public static final byte VERSION = 1;
+
+    /**
+     * The size of the header in bytes.
+     */
+    public static final int HEADER_SIZE = 16;
+
+    /**
+     * Element type of {@code boolean[]}.
+     */
+    public static final byte TYPE_BOOLEAN = 0;
+
+    /**
+     * Element type of {@code byte[]}.
+     */
+    public static final byte TYPE_BYTE = 1;
+
+    /**
+     * Element type of {@code char[]}.
+     */
+    public static final byte TYPE_CHAR = 2;
+
+    /**
+     * Element type of {@code short[]}.
+     */
+    public static final byte TYPE_SHORT = 3;
+
+    /**
+     * Element type of {@code int[]}.
+     */
+    public static final byte TYPE_INT = 4;
+
+    /**
+     * Element type of {@code long[]}.
+     */
+    public static final byte TYPE_LONG = 5;
+
+    /**
+     * Element type of {@code float[]}.
+     */
+    public static final byte TYPE_FLOAT = 6;
+
+    /**
+     * Element type of {@code double[]}.
+     */
+    public static final byte TYPE_DOUBLE = 7;
+
+    /**
+     * The size of the buffer used to copy elements from and to channels.
+     */
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private static final byte BIG_ENDIAN = 0;
+
+    private static final byte LITTLE_ENDIAN = 1;
+
+    /**
+     * Returns the number of bytes an array of length elements takes in this format.
+     *
+     * @param type   the element type, one of the {@code TYPE_XXX} constants
+     * @param length the number of elements
+     * @return the size in bytes, header included
+     * @throws java.lang.IllegalArgumentException if the type is unknown
+     */
+    public static long sizeInBytes(byte type, long length) {
+        return HEADER_SIZE + length * elementSize(type);
+    }
+
+    private static int elementSize(byte type) {
+        switch (type) {
+            case TYPE_BOOLEAN:
+            case TYPE_BYTE:
+                return 1;
+            case TYPE_CHAR:
+            case TYPE_SHORT:
+                return 2;
+            case TYPE_INT:
+            case TYPE_FLOAT:
+                return 4;
+            case TYPE_LONG:
+            case TYPE_DOUBLE:
+                return 8;
+            default:
+                throw new IllegalArgumentException("Unknown type: " + type);
+        }
+    }
+
+    private static void checkRange(int arrayLength, int offset, int length) {
+        if (offset < 0 || length < 0 || length > arrayLength || (offset >= arrayLength && length > 0)) {
+            throw new ArrayIndexOutOfBoundsException("Offset: " + offset + ", Length: " + length
+                    + ", Array Length: " + arrayLength);
+        }
+    }
+
+    /**
+     * Puts the header of an array at the position of the buffer, for elements in native byte order, and leaves
+     * the buffer in native order, ready for the elements.
+     *
+     * @param out   the buffer to write to
+     * @param type  the element type, one of the {@code TYPE_XXX} constants
+     * @param count the number of elements
+     * @throws java.nio.BufferOverflowException if there are less than {@link #HEADER_SIZE} bytes remaining
+     */
+    public static void putHeader(ByteBuffer out, byte type, long count) {
+        out.order(ByteOrder.BIG_ENDIAN);
+        out.putInt(MAGIC);
+        out.put(VERSION);
+        out.put(type);
+        out.put(ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? BIG_ENDIAN : LITTLE_ENDIAN);
+        out.put((byte) 0);
+        out.putLong(count);
+        out.order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Checks the header of an array at the position of the buffer, moves the buffer after it, sets the byte order
+     * of the buffer to the one of the elements, and returns the number of elements.
+     *
+     * @param in   the buffer to read from
+     * @param type the expected element type, one of the {@code TYPE_XXX} constants
+     * @return the number of elements
+     * @throws java.nio.BufferUnderflowException   if there are less than {@link #HEADER_SIZE} bytes remaining
+     * @throws java.lang.IllegalArgumentException if the header is invalid, or is not of the expected type
+     */
+    public static int getHeader(ByteBuffer in, byte type) {
+        in.order(ByteOrder.BIG_ENDIAN);
+        final int magic = in.getInt();
+        if (magic != MAGIC) {
+            throw new IllegalArgumentException("Invalid magic number: " + Integer.toHexString(magic));
+        }
+        final byte version = in.get();
+        if (version < 1 || version > VERSION) {
+            throw new IllegalArgumentException("Unsupported version: " + version);
+        }
+        final byte actualType = in.get();
+        if (actualType != type) {
+            throw new IllegalArgumentException("Invalid element type: " + actualType + ", expected: " + type);
+        }
+        final byte order = in.get();
+        if (order != BIG_ENDIAN && order != LITTLE_ENDIAN) {
+            throw new IllegalArgumentException("Invalid byte order: " + order);
+        }
+        in.get();
+        final long count = in.getLong();
+        if (count < 0 || count > MAX_ARRAY_SIZE) {
+            throw new IllegalArgumentException("Invalid element count: " + count);
+        }
+        in.order(order == BIG_ENDIAN ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+        return (int) count;
+    }
+
+    private static void writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException();
+            }
+        }
+    }
+
+    private static int readHeader(ReadableByteChannel channel, ByteBuffer chunk, byte type) throws IOException {
+        chunk.clear();
+        chunk.limit(HEADER_SIZE);
+        readFully(channel, chunk);
+        chunk.flip();
+        return getHeader(chunk, type);
+    }
+
+    /**
+     * Reads the next chunk of at most remainingBytes bytes into the chunk, and flips it.
+     */
+    private static void readChunk(ReadableByteChannel channel, ByteBuffer chunk, long remainingBytes)
+            throws IOException {
+        chunk.clear();
+        chunk.limit((int) Math.min(chunk.capacity(), remainingBytes));
+        readFully(channel, chunk);
+        chunk.flip();
+    }
+
+    private static ByteBuffer writeBuffer(ByteBuffer buffer, byte type, int length) {
+        if (buffer.remaining() < sizeInBytes(type, length)) {
+            throw new BufferOverflowException();
+        }
+        final ByteBuffer out = buffer.duplicate();
+        putHeader(out, type, length);
+        return out;
+    }
+
+    /**
+     * Writes length elements of the array, starting at offset and wrapping around the end of the array, to the
+     * channel, header included.
+     *
+     * @param channel the channel to write to, which shall be blocking
+     * @param a       the array
+     * @param offset  the index of the first element to write
+     * @param length  the number of elements to write
+     * @throws java.io.IOException                      if an I/O error occurs
+     * @throws java.lang.ArrayIndexOutOfBoundsException if offset or length is out of the array
+     */
+    public static void write(WritableByteChannel channel, boolean[] a, int offset, int length) throws IOException {
+        checkRange(a.length, offset, length);
+        final ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+        putHeader(chunk, TYPE_BOOLEAN, length);
+        int position = offset;
+        int remaining = length;
+        while (true) {
+            final int n = Math.min(Math.min(remaining, chunk.remaining()), a.length - position);
+            if (n > 0) {
+                for (int i = position; i < position + n; i++) {
+                    chunk.put(a[i] ? (byte) 1 : (byte) 0);
+                }
+                position = position + n == a.length ? 0 : position + n;
+                remaining -= n;
+            }
+            if (remaining == 0 || chunk.remaining() < 1) {
+                chunk.flip();
+                writeFully(channel, chunk);
+                chunk.clear();
+                if (remaining == 0) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes length elements of the array, starting at offset and wrapping around the end of the array, to the
+     * buffer at its position, header included, and advances the position of the buffer.
+     * The byte order of the buffer is not used nor changed.
+     *
+     * @param buffer the buffer to write to
+     * @param a      the array
+     * @param offset the index of the first element to write
+     * @param length the number of elements to write
+     * @throws java.nio.BufferOverflowException         if there is not enough room in the buffer
+     * @throws java.lang.ArrayIndexOutOfBoundsException if offset or length is out of the array
+     */
+    public static void write(ByteBuffer buffer, boolean[] a, int offset, int length) {
+        checkRange(a.length, offset, length);
+        final ByteBuffer out = writeBuffer(buffer, TYPE_BOOLEAN, length);
+        for (int i = 0, position = offset; i < length; i++) {
+            out.put(a[position] ? (byte) 1 : (byte) 0);
+            position = position + 1 == a.length ? 0 : position + 1;
+        }
+        buffer.position(buffer.position() + (int) sizeInBytes(TYPE_BOOLEAN, length));
+    }
+
+    /**
+     * Reads a {@code boolean[]} written by {@link #write(WritableByteChannel, boolean[], int, int)} from the channel.
+     *
+     * @param channel the channel to read from, which shall be blocking
+     * @return the array read
+     * @throws java.io.IOException                if an I/O error occurs
+     * @throws java.io.EOFException               if the channel ends before the array does
+     * @throws java.lang.IllegalArgumentException if the header is not the one of a {@code boolean[]}
+     */
+    public static boolean[] readBooleanArray(ReadableByteChannel channel) throws IOException {
+        return readBooleanArray(channel, boolean[]::new);
+    }
+
+    /**
+     * Reads a {@code boolean[]} written by {@link #write(WritableByteChannel, boolean[], int, int)} from the channel,
+     * into an array created by the factory.
+     * <p>
+     * The factory is given the number of elements, and shall return an array at least that long. The elements are
+     * stored from index 0 on.
+     *
+     * @param channel      the channel to read from, which shall be blocking
+     * @param arrayFactory creates the array to read into, from the number of elements
+     * @return the array created by the factory
+     * @throws java.io.IOException                if an I/O error occurs
+     * @throws java.io.EOFException               if the channel ends before the array does
+     * @throws java.lang.IllegalArgumentException if the header is not the one of a {@code boolean[]}
+     */
+    public static boolean[] readBooleanArray(ReadableByteChannel channel, IntFunction<boolean[]> arrayFactory)
+            throws IOException {
+        final ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+        final int count = readHeader(channel, chunk, TYPE_BOOLEAN);
+        final boolean[] result = arrayFactory.apply(count);
+        int position = 0;
+        while (position < count) {
+            readChunk(channel, chunk, count - position);
+            final int n = chunk.remaining();
+            for (int i = position; i < position + n; i++) {
+                result[i] = chunk.get() != 0;
+            }
+            position += n;
+        }
+        return result;
+    }
+
+    /**
+     * Reads a {@code boolean[]} written by {@link #write(ByteBuffer, boolean[], int, int)} from the buffer at its
+     * position, and advances the position of the buffer.
+     * The byte order of the buffer is not used nor changed.
+     *
+     * @param buffer the buffer to read from
+     * @return the array read
+     * @throws java.nio.BufferUnderflowException   if the buffer ends before the array does
+     * @throws java.lang.IllegalArgumentException if the header is not the one of a {@code boolean[]}
+     */
+    public static boolean[] readBooleanArray(ByteBuffer buffer) {
+        return readBooleanArray(buffer, boolean[]::new);
+    }
+
+    /**
+     * Reads a {@code boolean[]} written by {@link #write(ByteBuffer, boolean[], int, int)} from the buffer at its
+     * position into an array created by the factory, and advances the position of the buffer.
+     * The byte order of the buffer is not used nor changed.
+     * <p>
+     * The factory is given the number of elements, and shall return an array at least that long. The elements are
+     * stored from index 0 on.
+     *
+     * @param buffer       the buffer to read from
+     * @param arrayFactory creates the array to read into, from the number of elements
+     * @return the array created by the factory
+     * @throws java.nio.BufferUnderflowException   if the buffer ends before the array does
+     * @throws java.lang.IllegalArgumentException if the header is not the one of a {@code boolean[]}
+     */
+    public static boolean[] readBooleanArray(ByteBuffer buffer, IntFunction<boolean[]> arrayFactory) {
+        final ByteBuffer in = buffer.duplicate();
+        if (in.remaining() < HEADER_SIZE) {
+            throw new BufferUnderflowException();
+        }
+        final int count = getHeader(in, TYPE_BOOLEAN);
+        if (in.remaining() < count) {
+            throw new BufferUnderflowException();
+        }
+        final boolean[] result = arrayFactory.apply(count);
+        for (int i = 0; i < count; i++) {
+            result[i] = in.get() != 0;
+        }
+        buffer.position(buffer.position() + (int) sizeInBytes(TYPE_BOOLEAN, count));
+        return result;
+    }
+
+    /**
+     * Writes length elements of the array, starting at offset and wrapping around the end of the array, to the
+     * channel, header included.
+     *
+     * @param channel the channel to write to, which shall be blocking
+     * @param a       the array
+     * @param offset  the index of the first element to write
+     * @param length  the number of elements to write
+     * @throws java.io.IOException                      if an I/O error occurs
+     * @throws java.lang.ArrayIndexOutOfBoundsException if offset or length is out of the array
+     */
+    public static void write(WritableByteChannel channel, byte[] a, int offset, int length) throws IOException {
+        checkRange(a.length, offset, length);
+        final ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+        putHeader(chunk, TYPE_BYTE, length);
+        int position = offset;
+        int remaining = length;
+        while (true) {
+            final int n = Math.min(Math.min(remaining, chunk.remaining()), a.length - position);
+            if (n > 0) {
+                chunk.put(a, position, n);
+                position = position + n == a.length ? 0 : position + n;
+                remaining -= n;
+            }
+            if (remaining == 0 || chunk.remaining() < 1) {
+                chunk.flip();
+                writeFully(channel, chunk);
+                chunk.clear();
+                if (remaining == 0) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes length elements of the array, starting at offset and wrapping around the end of the array, to the
+     * buffer at its position, header included, and advances the position of the buffer.
+     * The byte order of the buffer is not used nor changed.
+     *
+     * @param buffer the buffer to write to
+     * @param a      the array
+     * @param offset the index of the first element to write
+     * @param length the number of elements to write
+     * @throws java.nio.BufferOverflowException         if there is not enough room in the buffer
+     * @throws java.lang.ArrayIndexOutOfBoundsException if offset or length is out of the array
+     */
+    public static void write(ByteBuffer buffer, byte[] a, int offset, int length) {
+        checkRange(a.length, offset, length);
+        final ByteBuffer out = writeBuffer(buffer, TYPE_BYTE, length);
+        final int first = Math.min(length, a.length - offset);
+        out.put(a, offset, first);
+        out.put(a, 0, length - first);
+        buffer.position(buffer.position() + (int) sizeInBytes(TYPE_BYTE, length));
+    }
+
+    /**
+     * Reads a {@code byte[]} written by {@link #write(WritableByteChannel, byte[], int, int)} from the channel.
+     *
+     * @param channel the channel to read from, which shall be blocking
+     * @return the array read
+     * @throws java.io.IOException                if an I/O error occurs
+     * @throws java.io.EOFException               if the channel ends before the array does
+     * @throws java.lang.IllegalArgumentException if the header is not the one of a {@code byte[]}
+     */
+    public static byte[] readByteArray(ReadableByteChannel channel) throws IOException {
+        return readByteArray(channel, byte[]::new);
+    }
+
+    /**
+     * Reads a {@code byte[]} written by {@link #write(WritableByteChannel, byte[], int, int)} from the channel, into an
+     * array created by the factory.
+     * <p>
+     * The factory is given the number of elements, and shall return an array at least that long. The elements are
+     * stored from index 0 on.
+     *
+     * @param channel      the channel to read from, which shall be blocking
+     * @param arrayFactory creates the array to read into, from the number of elements
+     * @return the array created by the factory
+     * @throws java.io.IOException                if an I/O error occurs
+     * @throws java.io.EOFException               if the channel ends before the array does
+     * @throws java.lang.IllegalArgumentException if the header is not the one of a {@code byte[]}
+     */
+    public static byte[] readByteArray(ReadableByteChannel channel, IntFunction<byte[]> arrayFactory)
+            throws IOException {
+        final ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+        final int count = readHeader(channel, chunk, TYPE_BYTE);
+        final byte[] result = arrayFactory.apply(count);
+        int position = 0;
+        while (position < count) {
+            readChunk(channel, chunk, count - position);
+            final int n = chunk.remaining();
+            chunk.get(result, position, n);
+            position += n;
+        }
+        return result;
+    }
+
+    /**
+     * Reads a {@code byte[]} written by {@link #write(ByteBuffer, byte[], int, int)} from the buffer at its
+     * position, and advances the position of the buffer.
+     * The byte order of the buffer is not used nor changed.
+     *
+     * @param buffer the buffer to read from
+     * @return the array read
+     * @throws java.nio.BufferUnderflowException   if the buffer ends before the array does
+     * @throws java.lang.IllegalArgumentException if the header is not the one of a {@code byte[]}
+     */
+    public static byte[] readByteArray(ByteBuffer buffer) {
+        return readByteArray(buffer, byte[]::new);
+    }
+
+    /**
+     * Reads a {@code byte[]} written by {@link #write(ByteBuffer, byte[], int, int)} from the buffer at its position
+     * into an array created by the factory, and advances the position of the buffer.
+     * The byte order of the buffer is not used nor changed.
+     * <p>
+     * The factory is given the number of elements, and shall return an array at least that long. The elements are
+     * stored from index 0 on.
+     *
+     * @param buffer       the buffer to read from
+     * @param arrayFactory creates the array to read into, from the number of elements
+     * @return the array created by the factory
+     * @throws java.nio.BufferUnderflowException   if the buffer ends before the array does
+     * @throws java.lang.IllegalArgumentException if the header is not the one of a {@code byte[]}
+     */
+    public static byte[] readByteArray(ByteBuffer buffer, IntFunction<byte[]> arrayFactory) {
+        final ByteBuffer in = buffer.duplicate();
+        if (in.remaining() < HEADER_SIZE) {
+            throw new BufferUnderflowException();
+        }
+        final int count = getHeader(in, TYPE_BYTE);
+        if (in.remaining() < count) {
+            throw new BufferUnderflowException();
+        }
+        final byte[] result = arrayFactory.apply(count);
+        in.get(result, 0, count);
+        buffer.position(buffer.position() + (int) sizeInBytes(TYPE_BYTE, count));
+        return result;
+    }
+
+    /**
+     * Writes length elements of the array, starting at offset and wrapping around the end of the array, to the
+     * channel, header included.
+     *
+     * @param channel the channel to write to, which shall be blocking
+     * @param a       the array
+     * @param offset  the index of the first element to write
+     * @param length  the number of elements to write
+     * @throws java.io.IOException                      if an I/O error occurs
+     * @throws java.lang.ArrayIndexOutOfBoundsException if offset or length is out of the array
+     */
+    public static void write(WritableByteChannel channel, char[] a, int offset, int length) throws IOException {
+        checkRange(a.length, offset, length);
+        final ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+        putHeader(chunk, TYPE_CHAR, length);
+        int position = offset;
+        int remaining = length;
+        while (true) {
+            final int n = Math.min(Math.min(remaining, chunk.remaining() / 2), a.length - position);
+            if (n > 0) {
+                chunk.asCharBuffer().put(a, position, n);
+                chunk.position(chunk.position() + n * 2);
+                position = position + n == a.length ? 0 : position + n;
+                remaining -= n;
+            }
+            if (remaining == 0 || chunk.remaining() < 2) {
+                chunk.flip();
+                writeFully(channel, chunk);
+                chunk.clear();
+                if (remaining == 0) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes length elements of the array, starting at offset and wrapping around the end of the array, to the
+     * buffer at its position, header included, and advances the position of the buffer.
+     * The byte order of the buffer is not used nor changed.
+     *
+     * @param buffer the buffer to write to
+     * @param a      the array
+     * @param offset the index of the first element to write
+     * @param length the number of elements to write
+     * @throws java.nio.BufferOverflowException         if there is not enough room in the buffer
+     * @throws java.lang.ArrayIndexOutOfBoundsException if offset or length is out of the array
+     */
+    public static void write(ByteBuffer buffer, char[] a, int offset, int length) {
+        checkRange(a.length, offset, length);
+        final ByteBuffer out = writeBuffer(buffer, TYPE_CHAR, length);
+        final int first = Math.min(length, a.length - offset);
+        final CharBuffer view = out.asCharBuffer();
+        view.put(a, offset, first);
+        view.put(a, 0, length - first);
+        buffer.position(buffer.position() + (int) sizeInBytes(TYPE_CHAR, length));
+    }
+
+    /**
+     * Reads a {@code char[]} written by {@link #write(WritableByteChannel, char[], int, int)} from the channel.
+     *
+     * @param channel the channel to read from, which shall be blocking
+     * @return the array read
+     * @throws java.io.IOException                if an I/O error occurs
+     * @throws java.io.EOFException               if the channel ends before the array does
+     * @throws java.lang.IllegalArgumentException if the header is not the one of a {@code char[]}
+     */
+    public static char[] readCharArray(ReadableByteChannel channel) throws IOException {
+        return readCharArray(channel, char[]::new);
+    }
+
+    /**
+     * Reads a {@code char[]} written by {@link #write(WritableByteChannel, char[], int, int)} from the channel, into an
+     * array created by the factory.
+     * <p>
+     * The factory is given the number of elements, and shall return an array at least that long. The elements are
+     * stored from index 0 on.
+     *
+     * @param channel      the channel to read from, which shall be blocking
+     * @param arrayFactory creates the array to read into, from the number of elements
+     * @return the array created by the factory
+     * @throws java.io.IOException                if an I/O error occurs
+     * @throws java.io.EOFException               if the channel ends before the array does
+     * @throws java.lang.IllegalArgumentException if the header is not the one of a {@code char[]}
+     */
+    public static char[] readCharArray(ReadableByteChannel channel, IntFunction<char[]> arrayFactory)
+            throws IOException {
+        final ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+        final int count = readHeader(channel, chunk, TYPE_CHAR);
+        final char[] result = arrayFactory.apply(count);
+        int position = 0;
+        while (position < count) {
+            readChunk(channel, chunk, (long) (count - position) * 2);
+            final int n = chunk.remaining() / 2;
+            chunk.asCharBuffer().get(result, position, n);
+            position += n;
+        }
+        return result;
+    }
+
+    /**
+     * Reads a {@code char[]} written by {@link #write(ByteBuffer, char[], int, int)} from the buffer at its
+     * position, and advances the position of the buffer.
+     * The byte order of the buffer is not used nor changed.
+     *
+     * @param buffer the buffer to read from
+     * @return the array read
+     * @throws java.nio.BufferUnderflowException   if the buffer ends before the array does
+     * @throws java.lang.IllegalArgumentException if the header is not the one of a {@code char[]}
+     */
+    public static char[] readCharArray(ByteBuffer buffer) {
+        return readCharArray(buffer, char[]::new);
+    }
+
+    /**
+     * Reads a {@code char[]} written by {@link #write(ByteBuffer, char[], int, int)} from the buffer at its position
+     * into an array created by the factory, and advances the position of the buffer.
+     * The byte order of the buffer is not used nor changed.
+     * <p>
+     * The factory is given the number of elements, and shall return an array at least that long. The elements are
+     * stored from index 0 on.
+     *
+     * @param buffer       the buffer to read from
+     * @param arrayFactory creates the array to read into, from the number of elements
+     * @return the array created by the factory
+     * @throws java.nio.BufferUnderflowException   if the buffer ends before the array does
+     * @throws java.lang.IllegalArgumentException if the header is not the one of a {@code char[]}
+     */
+    public static char[] readCharArray(ByteBuffer buffer, IntFunction<char[]> arrayFactory) {
+        final ByteBuffer in = buffer.duplicate();
+        if (in.remaining() < HEADER_SIZE) {
+            throw new BufferUnderflowException();
+        }
+        final int count = getHeader(in, TYPE_CHAR);
+        if (in.remaining() < (long) count * 2) {
+            throw new BufferUnderflowException();
+        }
+        final char[] result = arrayFactory.apply(count);
+        in.asCharBuffer().get(result, 0, count);
+        buffer.position(buffer.position() + (int) sizeInBytes(TYPE_CHAR, count));
+        return result;
+    }
+
+    /**
+     * Writes length elements of the array, starting at offset and wrapping around the end of the array, to the
+     * channel, header included.
+     *
+     * @param channel the channel to write to, which shall be blocking
+     * @param a       the array
+     * @param offset  the index of the first element to write
+     * @param length  the number of elements to write
+     * @throws java.io.IOException                      if an I/O error occurs
+     * @throws java.lang.ArrayIndexOutOfBoundsException if offset or length is out of the array
+     */
+    public static void write(WritableByteChannel channel, short[] a, int offset, int length) throws IOException {
+        checkRange(a.length, offset, length);
+        final ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+        putHeader(chunk, TYPE_SHORT, length);
+        int position = offset;
+        int remaining = length;
+        while (true) {
+            final int n = Math.min(Math.min(remaining, chunk.remaining() / 2), a.length - position);
+            if (n > 0) {
+                chunk.asShortBuffer().put(a, position, n);
+                chunk.position(chunk.position() + n * 2);
+                position = position + n == a.length ? 0 : position + n;
+                remaining -= n;
+            }
+            if (remaining == 0 || chunk.remaining() < 2) {
+                chunk.flip();
+                writeFully(channel, chunk);
+                chunk.clear();
+                if (remaining == 0) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes length elements of the array, starting at offset and wrapping around the end of the array, to the
+     * buffer at its position, header included, and advances the position of the buffer.
+     * The byte order of the buffer is not used nor changed.
+     *
+     * @param buffer the buffer to write to
+     * @param a      the array
+     * @param offset the index of the first element to write
+     * @param length the number of elements to write
+     * @throws java.nio.BufferOverflowException         if there is not enough room in the buffer
+     * @throws java.lang.ArrayIndexOutOfBoundsException if offset or length is out of the array
+     */
+    public static void write(ByteBuffer buffer, short[] a, int offset, int length) {
+        checkRange(a.length, offset, length);
+        final ByteBuffer out = writeBuffer(buffer, TYPE_SHORT, length);
+        final int first = Math.min(length, a.length - offset);
+        final ShortBuffer view = out.asShortBuffer();
+        view.put(a, offset, first);
+        view.put(a, 0, length - first);
+        buffer.position(buffer.position() + (int) sizeInBytes(TYPE_SHORT, length));
+    }
+
+    /**
+     * Reads a {@code short[]} written by {@link #write(WritableByteChannel, short[], int, int)} from the channel.
+     *
+     * @param channel the channel to read from, which shall be blocking
+     * @return the array read
+     * @throws java.io.IOException                if an I/O error occurs
+     * @throws java.io.EOFException               if the channel ends before the array does
+     * @throws java.lang.IllegalArgumentException if the header is not the one of a {@code short[]}
+     */
+    public static short[] readShortArray(ReadableByteChannel channel) throws IOException {
+        return readShortArray(channel, short[]::new);
+    }
+
+    /**
+     * Reads a {@code short[]} written by {@link #write(WritableByteChannel, short[], int, int)} from the channel, into
+     * an array created by the factory.
+     * <p>
+     * The factory is given the number of elements, and shall return an array at least that long. The elements are
+     * stored from index 0 on.
+     *
+     * @param channel      the channel to read from, which shall be blocking
+     * @param arrayFactory creates the array to read into, from the number of elements
+     * @return the array created by the factory
+     * @throws java.io.IOException                if an I/O error occurs
+     * @throws java.io.EOFException               if the channel ends before the array does
+     * @throws java.lang.IllegalArgumentException if the header is not the one of a {@code short[]}
+     */
+    public static short[] readShortArray(ReadableByteChannel channel, IntFunction<short[]> arrayFactory)
+            throws IOException {
+        final ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+        final int count = readHeader(channel, chunk, TYPE_SHORT);
+        final short[] result = arrayFactory.apply(count);
+        int position = 0;
+        while (position < count) {
+            readChunk(channel, chunk, (long) (count - position) * 2);
+            final int n = chunk.remaining() / 2;
+            chunk.asShortBuffer().get(result, position, n);
+            position += n;
+        }
+        return result;
+    }
+
+    /**
+     * Reads a {@code short[]} written by {@link #write(ByteBuffer, short[], int, int)} from the buffer at its
+     * position, and advances the position of the buffer.
+     * The byte order of the buffer is not used nor changed.
+     *
+     * @param buffer the buffer to read from
+     * @return the array read
+     * @throws java.nio.BufferUnderflowException   if the buffer ends before the array does
+     * @throws java.lang.IllegalArgumentException if the header is not the one of a {@code short[]}
+     */
+    public static short[] readShortArray(ByteBuffer buffer) {
+        return readShortArray(buffer, short[]::new);
+    }
+
+    /**
+     * Reads a {@code short[]} written by {@link #write(ByteBuffer, short[], int, int)} from the buffer at its position
+     * into an array created by the factory, and advances the position of the buffer.
+     * The byte order of the buffer is not used nor changed.
+     * <p>
+     * The factory is given the number of elements, and shall return an array at least that long. The elements are
+     * stored from index 0 on.
+     *
+     * @param buffer       the buffer to read from
+     * @param arrayFactory creates the array to read into, from the number of elements
+     * @return the array created by the factory
+     * @throws java.nio.BufferUnderflowException   if the buffer ends before the array does
+     * @throws java.lang.IllegalArgumentException if the header is not the one of a {@code short[]}
+     */
+    public static short[] readShortArray(ByteBuffer buffer, IntFunction<short[]> arrayFactory) {
+        final ByteBuffer in = buffer.duplicate();
+        if (in.remaining() < HEADER_SIZE) {
+            throw new BufferUnderflowException();
+        }
+        final int count = getHeader(in, TYPE_SHORT);
+        if (in.remaining() < (long) count * 2) {
+            throw new BufferUnderflowException();
+        }
+        final short[] result = arrayFactory.apply(count);
+        in.asShortBuffer().get(result, 0, count);
+        buffer.position(buffer.position() + (int) sizeInBytes(TYPE_SHORT, count));
+        return result;
+    }
+
+    /**
+     * Writes length elements of the array, starting at offset and wrapping around the end of the array, to the
+     * channel, header included.
+     *
+     * @param channel the channel to write to, which shall be blocking
+     * @param a       the array
+     * @param offset  the index of the first element to write
+     * @param length  the number of elements to write
+     * @throws java.io.IOException                      if an I/O error occurs
+     * @throws java.lang.ArrayIndexOutOfBoundsException if offset or length is out of the array
+     */
+    public static void write(WritableByteChannel channel, int[] a, int offset, int length) throws IOException {
+        checkRange(a.length, offset, length);
+        final ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+        putHeader(chunk, TYPE_INT, length);
+        int position = offset;
+        int remaining = length;
+        while (true) {
+            final int n = Math.min(Math.min(remaining, chunk.remaining() / 4), a.length - position);
+            if (n > 0) {
+                chunk.asIntBuffer().put(a, position, n);
+                chunk.position(chunk.position() + n * 4);
+                position = position + n == a.length ? 0 : position + n;
+                remaining -= n;
+            }
+            if (remaining == 0 || chunk.remaining() < 4) {
+                chunk.flip();
+                writeFully(channel, chunk);
+                chunk.clear();
+                if (remaining == 0) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes length elements of the array, starting at offset and wrapping around the end of the array, to the
+     * buffer at its position, header included, and advances the position of the buffer.
+     * The byte order of the buffer is not used nor changed.
+     *
+     * @param buffer the buffer to write to
+     * @param a      the array
+     * @param offset the index of the first element to write
+     * @param length the number of elements to write
+     * @throws java.nio.BufferOverflowException         if there is not enough room in the buffer
+     * @throws java.lang.ArrayIndexOutOfBoundsException if offset or length is out of the array
+     */
+    public static void write(ByteBuffer buffer, int[] a, int offset, int length) {
+        checkRange(a.length, offset, length);
+        final ByteBuffer out = writeBuffer(buffer, TYPE_INT, length);
+        final int first = Math.min(length, a.length - offset);
+        final IntBuffer view = out.asIntBuffer();
+        view.put(a, offset, first);
+        view.put(a, 0, length - first);
+        buffer.position(buffer.position() + (int) sizeInBytes(TYPE_INT, length));
+    }
+
+    /**
+     * Reads an {@code int[]} written by {@link #write(WritableByteChannel, int[], int, int)} from the channel.
+     *
+     * @param channel the channel to read from, which shall be blocking
+     * @return the array read
+     * @throws java.io.IOException                if an I/O error occurs
+     * @throws java.io.EOFException               if the channel ends before the array does
+     * @throws java.lang.IllegalArgumentException if the header is not the one of an {@code int[]}
+     */
+    public static int[] readIntArray(ReadableByteChannel channel) throws IOException {
+        return readIntArray(channel, int[]::new);
+    }
+
+    /**
+     * Reads an {@code int[]} written by {@link #write(WritableByteChannel, int[], int, int)} from the channel, into an
+     * array created by the factory.
+     * <p>
+     * The factory is given the number of elements, and shall return an array at least that long. The elements are
+     * stored from index 0 on.
+     *
+     * @param channel      the channel to read from, which shall be blocking
+     * @param arrayFactory creates the array to read into, from the number of elements
+     * @return the array created by the factory
+     * @throws java.io.IOException                if an I/O error occurs
+     * @throws java.io.EOFException               if the channel ends before the array does
+     * @throws java.lang.IllegalArgumentException if the header is not the one of an {@code int[]}
+     */
+    public static int[] readIntArray(ReadableByteChannel channel, IntFunction<int[]> arrayFactory)
+            throws IOException {
+        final ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+        final int count = readHeader(channel, chunk, TYPE_INT);
+        final int[] result = arrayFactory.apply(count);
+        int position = 0;
+        while (position < count) {
+            readChunk(channel, chunk, (long) (count - position) * 4);
+            final int n = chunk.remaining() / 4;
+            chunk.asIntBuffer().get(result, position, n);
+            position += n;
+        }
+        return result;
+    }
+
+    /**
+     * Reads an {@code int[]} written by {@link #write(ByteBuffer, int[], int, int)} from the buffer at its
+     * position, and advances the position of the buffer.
+     * The byte order of the buffer is not used nor changed.
+     *
+     * @param buffer the buffer to read from
+     * @return the array read
+     * @throws java.nio.BufferUnderflowException   if the buffer ends before the array does
+     * @throws java.lang.IllegalArgumentException if the header is not the one of an {@code int[]}
+     */
+    public static int[] readIntArray(ByteBuffer buffer) {
+        return readIntArray(buffer, int[]::new);
+    }
+
+    /**
+     * Reads an {@code int[]} written by {@link #write(ByteBuffer, int[], int, int)} from the buffer at its position
+     * into an array created by the factory, and advances the position of the buffer. The byte order of the buffer is
+     * not used nor changed.
+     * The byte order of the buffer is not used nor changed.
+     * <p>
+     * The factory is given the number of elements, and shall return an array at least that long. The elements are
+     * stored from index 0 on.
+     *
+     * @param buffer       the buffer to read from
+     * @param arrayFactory creates the array to read into, from the number of elements
+     * @return the array created by the factory
+     * @throws java.nio.BufferUnderflowException   if the buffer ends before the array does
+     * @throws java.lang.IllegalArgumentException if the header is not the one of an {@code int[]}
+     */
+    public static int[] readIntArray(ByteBuffer buffer, IntFunction<int[]> arrayFactory) {
+        final ByteBuffer in = buffer.duplicate();
+        if (in.remaining() < HEADER_SIZE) {
+            throw new BufferUnderflowException();
+        }
+        final int count = getHeader(in, TYPE_INT);
+        if (in.remaining() < (long) count * 4) {
+            throw new BufferUnderflowException();
+        }
+        final int[] result = arrayFactory.apply(count);
+        in.asIntBuffer().get(result, 0, count);
+        buffer.position(buffer.position() + (int) sizeInBytes(TYPE_INT, count));
+        return result;
+    }
+
+    /**
+     * Writes length elements of the array, starting at offset and wrapping around the end of the array, to the
+     * channel, header included.
+     *
+     * @param channel the channel to write to, which shall be blocking
+     * @param a       the array
+     * @param offset  the index of the first element to write
+     * @param length  the number of elements to write
+     * @throws java.io.IOException                      if an I/O error occurs
+     * @throws java.lang.ArrayIndexOutOfBoundsException if offset or length is out of the array
+     */
+    public static void write(WritableByteChannel channel, long[] a, int offset, int length) throws IOException {
+        checkRange(a.length, offset, length);
+        final ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+        putHeader(chunk, TYPE_LONG, length);
+        int position = offset;
+        int remaining = length;
+        while (true) {
+            final int n = Math.min(Math.min(remaining, chunk.remaining() / 8), a.length - position);
+            if (n > 0) {
+                chunk.asLongBuffer().put(a, position, n);
+                chunk.position(chunk.position() + n * 8);
+                position = position + n == a.length ? 0 : position + n;
+                remaining -= n;
+            }
+            if (remaining == 0 || chunk.remaining() < 8) {
+                chunk.flip();
+                writeFully(channel, chunk);
+                chunk.clear();
+                if (remaining == 0) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes length elements of the array, starting at offset and wrapping around the end of the array, to the
+     * buffer at its position, header included, and advances the position of the buffer.
+     * The byte order of the buffer is not used nor changed.
+     *
+     * @param buffer the buffer to write to
+     * @param a      the array
+     * @param offset the index of the first element to write
+     * @param length the number of elements to write
+     * @throws java.nio.BufferOverflowException         if there is not enough room in the buffer
+     * @throws java.lang.ArrayIndexOutOfBoundsException if offset or length is out of the array
+     */
+    public static void write(ByteBuffer buffer, long[] a, int offset, int length) {
+        checkRange(a.length, offset, length);
+        final ByteBuffer out = writeBuffer(buffer, TYPE_LONG, length);
+        final int first = Math.min(length, a.length - offset);
+        final LongBuffer view = out.asLongBuffer();
+        view.put(a, offset, first);
+        view.put(a, 0, length - first);
+        buffer.position(buffer.position() + (int) sizeInBytes(TYPE_LONG, length));
+    }
+
+    /**
+     * Reads a {@code long[]} written by {@link #write(WritableByteChannel, long[], int, int)} from the channel.
+     *
+     * @param channel the channel to read from, which shall be blocking
+     * @return the array read
+     * @throws java.io.IOException                if an I/O error occurs
+     * @throws java.io.EOFException               if the channel ends before the array does
+     * @throws java.lang.IllegalArgumentException if the header is not the one of a {@code long[]}
+     */
+    public static long[] readLongArray(ReadableByteChannel channel) throws IOException {
+        return readLongArray(channel, long[]::new);
+    }
+
+    /**
+     * Reads a {@code long[]} written by {@link #write(WritableByteChannel, long[], int, int)} from the channel, into an
+     * array created by the factory.
+     * <p>
+     * The factory is given the number of elements, and shall return an array at least that long. The elements are
+     * stored from index 0 on.
+     *
+     * @param channel      the channel to read from, which shall be blocking
+     * @param arrayFactory creates the array to read into, from the number of elements
+     * @return the array created by the factory
+     * @throws java.io.IOException                if an I/O error occurs
+     * @throws java.io.EOFException               if the channel ends before the array does
+     * @throws java.lang.IllegalArgumentException if the header is not the one of a {@code long[]}
+     */
+    public static long[] readLongArray(ReadableByteChannel channel, IntFunction<long[]> arrayFactory)
+            throws IOException {
+        final ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+        final int count = readHeader(channel, chunk, TYPE_LONG);
+        final long[] result = arrayFactory.apply(count);
+        int position = 0;
+        while (position < count) {
+            readChunk(channel, chunk, (long) (count - position) * 8);
+            final int n = chunk.remaining() / 8;
+            chunk.asLongBuffer().get(result, position, n);
+            position += n;
+        }
+        return result;
+    }
+
+    /**
+     * Reads a {@code long[]} written by {@link #write(ByteBuffer, long[], int, int)} from the buffer at its
+     * position, and advances the position of the buffer.
+     * The byte order of the buffer is not used nor changed.
+     *
+     * @param buffer the buffer to read from
+     * @return the array read
+     * @throws java.nio.BufferUnderflowException   if the buffer ends before the array does
+     * @throws java.lang.IllegalArgumentException if the header is not the one of a {@code long[]}
+     */
+    public static long[] readLongArray(ByteBuffer buffer) {
+        return readLongArray(buffer, long[]::new);
+    }
+
+    /**
+     * Reads a {@code long[]} written by {@link #write(ByteBuffer, long[], int, int)} from the buffer at its position
+     * into an array created by the factory, and advances the position of the buffer.
+     * The byte order of the buffer is not used nor changed.
+     * <p>
+     * The factory is given the number of elements, and shall return an array at least that long. The elements are
+     * stored from index 0 on.
+     *
+     * @param buffer       the buffer to read from
+     * @param arrayFactory creates the array to read into, from the number of elements
+     * @return the array created by the factory
+     * @throws java.nio.BufferUnderflowException   if the buffer ends before the array does
+     * @throws java.lang.IllegalArgumentException if the header is not the one of a {@code long[]}
+     */
+    public static long[] readLongArray(ByteBuffer buffer, IntFunction<long[]> arrayFactory) {
+        final ByteBuffer in = buffer.duplicate();
+        if (in.remaining() < HEADER_SIZE) {
+            throw new BufferUnderflowException();
+        }
+        final int count = getHeader(in, TYPE_LONG);
+        if (in.remaining() < (long) count * 8) {
+            throw new BufferUnderflowException();
+        }
+        final long[] result = arrayFactory.apply(count);
+        in.asLongBuffer().get(result, 0, count);
+        buffer.position(buffer.position() + (int) sizeInBytes(TYPE_LONG, count));
+        return result;
+    }
+
+    /**
+     * Writes length elements of the array, starting at offset and wrapping around the end of the array, to the
+     * channel, header included.
+     *
+     * @param channel the channel to write to, which shall be blocking
+     * @param a       the array
+     * @param offset  the index of the first element to write
+     * @param length  the number of elements to write
+     * @throws java.io.IOException                      if an I/O error occurs
+     * @throws java.lang.ArrayIndexOutOfBoundsException if offset or length is out of the array
+     */
+    public static void write(WritableByteChannel channel, float[] a, int offset, int length) throws IOException {
+        checkRange(a.length, offset, length);
+        final ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+        putHeader(chunk, TYPE_FLOAT, length);
+        int position = offset;
+        int remaining = length;
+        while (true) {
+            final int n = Math.min(Math.min(remaining, chunk.remaining() / 4), a.length - position);
+            if (n > 0) {
+                chunk.asFloatBuffer().put(a, position, n);
+                chunk.position(chunk.position() + n * 4);
+                position = position + n == a.length ? 0 : position + n;
+                remaining -= n;
+            }
+            if (remaining == 0 || chunk.remaining() < 4) {
+                chunk.flip();
+                writeFully(channel, chunk);
+                chunk.clear();
+                if (remaining == 0) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes length elements of the array, starting at offset and wrapping around the end of the array, to the
+     * buffer at its position, header included, and advances the position of the buffer.
+     * The byte order of the buffer is not used nor changed.
+     *
+     * @param buffer the buffer to write to
+     * @param a      the array
+     * @param offset the index of the first element to write
+     * @param length the number of elements to write
+     * @throws java.nio.BufferOverflowException         if there is not enough room in the buffer
+     * @throws java.lang.ArrayIndexOutOfBoundsException if offset or length is out of the array
+     */
+    public static void write(ByteBuffer buffer, float[] a, int offset, int length) {
+        checkRange(a.length, offset, length);
+        final ByteBuffer out = writeBuffer(buffer, TYPE_FLOAT, length);
+        final int first = Math.min(length, a.length - offset);
+        final FloatBuffer view = out.asFloatBuffer();
+        view.put(a, offset, first);
+        view.put(a, 0, length - first);
+        buffer.position(buffer.position() + (int) sizeInBytes(TYPE_FLOAT, length));
+    }
+
+    /**
+     * Reads a {@code float[]} written by {@link #write(WritableByteChannel, float[], int, int)} from the channel.
+     *
+     * @param channel the channel to read from, which shall be blocking
+     * @return the array read
+     * @throws java.io.IOException                if an I/O error occurs
+     * @throws java.io.EOFException               if the channel ends before the array does
+     * @throws java.lang.IllegalArgumentException if the header is not the one of a {@code float[]}
+     */
+    public static float[] readFloatArray(ReadableByteChannel channel) throws IOException {
+        return readFloatArray(channel, float[]::new);
+    }
+
+    /**
+     * Reads a {@code float[]} written by {@link #write(WritableByteChannel, float[], int, int)} from the channel, into
+     * an array created by the factory.
+     * <p>
+     * The factory is given the number of elements, and shall return an array at least that long. The elements are
+     * stored from index 0 on.
+     *
+     * @param channel      the channel to read from, which shall be blocking
+     * @param arrayFactory creates the array to read into, from the number of elements
+     * @return the array created by the factory
+     * @throws java.io.IOException                if an I/O error occurs
+     * @throws java.io.EOFException               if the channel ends before the array does
+     * @throws java.lang.IllegalArgumentException if the header is not the one of a {@code float[]}
+     */
+    public static float[] readFloatArray(ReadableByteChannel channel, IntFunction<float[]> arrayFactory)
+            throws IOException {
+        final ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+        final int count = readHeader(channel, chunk, TYPE_FLOAT);
+        final float[] result = arrayFactory.apply(count);
+        int position = 0;
+        while (position < count) {
+            readChunk(channel, chunk, (long) (count - position) * 4);
+            final int n = chunk.remaining() / 4;
+            chunk.asFloatBuffer().get(result, position, n);
+            position += n;
+        }
+        return result;
+    }
+
+    /**
+     * Reads a {@code float[]} written by {@link #write(ByteBuffer, float[], int, int)} from the buffer at its
+     * position, and advances the position of the buffer.
+     * The byte order of the buffer is not used nor changed.
+     *
+     * @param buffer the buffer to read from
+     * @return the array read
+     * @throws java.nio.BufferUnderflowException   if the buffer ends before the array does
+     * @throws java.lang.IllegalArgumentException if the header is not the one of a {@code float[]}
+     */
+    public static float[] readFloatArray(ByteBuffer buffer) {
+        return readFloatArray(buffer, float[]::new);
+    }
+
+    /**
+     * Reads a {@code float[]} written by {@link #write(ByteBuffer, float[], int, int)} from the buffer at its position
+     * into an array created by the factory, and advances the position of the buffer.
+     * The byte order of the buffer is not used nor changed.
+     * <p>
+     * The factory is given the number of elements, and shall return an array at least that long. The elements are
+     * stored from index 0 on.
+     *
+     * @param buffer       the buffer to read from
+     * @param arrayFactory creates the array to read into, from the number of elements
+     * @return the array created by the factory
+     * @throws java.nio.BufferUnderflowException   if the buffer ends before the array does
+     * @throws java.lang.IllegalArgumentException if the header is not the one of a {@code float[]}
+     */
+    public static float[] readFloatArray(ByteBuffer buffer, IntFunction<float[]> arrayFactory) {
+        final ByteBuffer in = buffer.duplicate();
+        if (in.remaining() < HEADER_SIZE) {
+            throw new BufferUnderflowException();
+        }
+        final int count = getHeader(in, TYPE_FLOAT);
+        if (in.remaining() < (long) count * 4) {
+            throw new BufferUnderflowException();
+        }
+        final float[] result = arrayFactory.apply(count);
+        in.asFloatBuffer().get(result, 0, count);
+        buffer.position(buffer.position() + (int) sizeInBytes(TYPE_FLOAT, count));
+        return result;
+    }
+
+    /**
+     * Writes length elements of the array, starting at offset and wrapping around the end of the array, to the
+     * channel, header included.
+     *
+     * @param channel the channel to write to, which shall be blocking
+     * @param a       the array
+     * @param offset  the index of the first element to write
+     * @param length  the number of elements to write
+     * @throws java.io.IOException                      if an I/O error occurs
+     * @throws java.lang.ArrayIndexOutOfBoundsException if offset or length is out of the array
+     */
+    public static void write(WritableByteChannel channel, double[] a, int offset, int length) throws IOException {
+        checkRange(a.length, offset, length);
+        final ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+        putHeader(chunk, TYPE_DOUBLE, length);
+        int position = offset;
+        int remaining = length;
+        while (true) {
+            final int n = Math.min(Math.min(remaining, chunk.remaining() / 8), a.length - position);
+            if (n > 0) {
+                chunk.asDoubleBuffer().put(a, position, n);
+                chunk.position(chunk.position() + n * 8);
+                position = position + n == a.length ? 0 : position + n;
+                remaining -= n;
+            }
+            if (remaining == 0 || chunk.remaining() < 8) {
+                chunk.flip();
+                writeFully(channel, chunk);
+                chunk.clear();
+                if (remaining == 0) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes length elements of the array, starting at offset and wrapping around the end of the array, to the
+     * buffer at its position, header included, and advances the position of the buffer.
+     * The byte order of the buffer is not used nor changed.
+     *
+     * @param buffer the buffer to write to
+     * @param a      the array
+     * @param offset the index of the first element to write
+     * @param length the number of elements to write
+     * @throws java.nio.BufferOverflowException         if there is not enough room in the buffer
+     * @throws java.lang.ArrayIndexOutOfBoundsException if offset or length is out of the array
+     */
+    public static void write(ByteBuffer buffer, double[] a, int offset, int length) {
+        checkRange(a.length, offset, length);
+        final ByteBuffer out = writeBuffer(buffer, TYPE_DOUBLE, length);
+        final int first = Math.min(length, a.length - offset);
+        final DoubleBuffer view = out.asDoubleBuffer();
+        view.put(a, offset, first);
+        view.put(a, 0, length - first);
+        buffer.position(buffer.position() + (int) sizeInBytes(TYPE_DOUBLE, length));
+    }
+
+    /**
+     * Reads a {@code double[]} written by {@link #write(WritableByteChannel, double[], int, int)} from the channel.
+     *
+     * @param channel the channel to read from, which shall be blocking
+     * @return the array read
+     * @throws java.io.IOException                if an I/O error occurs
+     * @throws java.io.EOFException               if the channel ends before the array does
+     * @throws java.lang.IllegalArgumentException if the header is not the one of a {@code double[]}
+     */
+    public static double[] readDoubleArray(ReadableByteChannel channel) throws IOException {
+        return readDoubleArray(channel, double[]::new);
+    }
+
+    /**
+     * Reads a {@code double[]} written by {@link #write(WritableByteChannel, double[], int, int)} from the channel,
+     * into an array created by the factory.
+     * <p>
+     * The factory is given the number of elements, and shall return an array at least that long. The elements are
+     * stored from index 0 on.
+     *
+     * @param channel      the channel to read from, which shall be blocking
+     * @param arrayFactory creates the array to read into, from the number of elements
+     * @return the array created by the factory
+     * @throws java.io.IOException                if an I/O error occurs
+     * @throws java.io.EOFException               if the channel ends before the array does
+     * @throws java.lang.IllegalArgumentException if the header is not the one of a {@code double[]}
+     */
+    public static double[] readDoubleArray(ReadableByteChannel channel, IntFunction<double[]> arrayFactory)
+            throws IOException {
+        final ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+        final int count = readHeader(channel, chunk, TYPE_DOUBLE);
+        final double[] result = arrayFactory.apply(count);
+        int position = 0;
+        while (position < count) {
+            readChunk(channel, chunk, (long) (count - position) * 8);
+            final int n = chunk.remaining() / 8;
+            chunk.asDoubleBuffer().get(result, position, n);
+            position += n;
+        }
+        return result;
+    }
+
+    /**
+     * Reads a {@code double[]} written by {@link #write(ByteBuffer, double[], int, int)} from the buffer at its
+     * position, and advances the position of the buffer.
+     * The byte order of the buffer is not used nor changed.
+     *
+     * @param buffer the buffer to read from
+     * @return the array read
+     * @throws java.nio.BufferUnderflowException   if the buffer ends before the array does
+     * @throws java.lang.IllegalArgumentException if the header is not the one of a {@code double[]}
+     */
+    public static double[] readDoubleArray(ByteBuffer buffer) {
+        return readDoubleArray(buffer, double[]::new);
+    }
+
+    /**
+     * Reads a {@code double[]} written by {@link #write(ByteBuffer, double[], int, int)} from the buffer at its
+     * position into an array created by the factory, and advances the position of the buffer.
+     * The byte order of the buffer is not used nor changed.
+     * <p>
+     * The factory is given the number of elements, and shall return an array at least that long. The elements are
+     * stored from index 0 on.
+     *
+     * @param buffer       the buffer to read from
+     * @param arrayFactory creates the array to read into, from the number of elements
+     * @return the array created by the factory
+     * @throws java.nio.BufferUnderflowException   if the buffer ends before the array does
+     * @throws java.lang.IllegalArgumentException if the header is not the one of a {@code double[]}
+     */
+    public static double[] readDoubleArray(ByteBuffer buffer, IntFunction<double[]> arrayFactory) {
+        final ByteBuffer in = buffer.duplicate();
+        if (in.remaining() < HEADER_SIZE) {
+            throw new BufferUnderflowException();
+        }
+        final int count = getHeader(in, TYPE_DOUBLE);
+        if (in.remaining() < (long) count * 8) {
+            throw new BufferUnderflowException();
+        }
+        final double[] result = arrayFactory.apply(count);
+        in.asDoubleBuffer().get(result, 0, count);
+        buffer.position(buffer.position() + (int) sizeInBytes(TYPE_DOUBLE, count));
+        return result;
+    }
+}
@@ -410,7 +410,12 @@ public class IntIteratorSpliterator implements IntSpliterator.IntOfInteger, Prim
         if (action == null) {
             throw new NullPointerException();
         }
-        it.forEachRemaining(action);
+        IntIterator i;
+        if ((i = it) == null) {
+            i = it = collection.iterator();
+            est = (long) collection.size();
+        }
+        i.forEachRemaining(action);
     }
 
     /**
@@ -421,6 +426,10 @@ public class IntIteratorSpliterator implements IntSpliterator.IntOfInteger, Prim
         if (action == null) {
             throw new NullPointerException();
         }
+        if (it == null) {
+            it = collection.iterator();
+            est = (long) collection.size();
+        }
         if (it.hasNext()) {
             action.accept(it.nextPrimitive());
             return true;
@@ -433,6 +442,10 @@ public class IntIteratorSpliterator implements IntSpliterator.IntOfInteger, Prim
      */
     @Override
     public long estimateSize() {
+        if (it == null) {
+            it = collection.iterator();
+            return est = (long) collection.size();
+        }
         return est;
     }
 
@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xenoamess.commons.primitive.iterators;
+
+import com.xenoamess.commons.primitive.Primitive;
+import com.xenoamess.commons.primitive.functions.IntConsumer;
+import java.util.Objects;
+import java.util.Spliterator;
+
+/**
+ * An adapter that exposes a {@link IntSpliterator} as a {@link java.util.Spliterator.OfInt},
+ * so that it can be used as the source of a {@link java.util.stream.IntStream}.
+ * <p>
+ * Elements are handed from the wrapped spliterator to the stream as {@code int},
+ * without being boxed.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see IntSpliterator
+ * @see java.util.stream.IntStream
+ */
+public class IntStreamSpliterator implements Spliterator.OfInt, Primitive {
+
+    private final IntSpliterator spliterator;
+
+    /**
+     * <p>Constructor for IntStreamSpliterator.</p>
+     *
+     * @param spliterator the spliterator to be wrapped
+     * @throws java.lang.NullPointerException if spliterator is null
+     */
+    public IntStreamSpliterator(IntSpliterator spliterator) {
+        this.spliterator = Objects.requireNonNull(spliterator);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IntStreamSpliterator trySplit() {
+        final IntSpliterator split = spliterator.trySplit();
+        return split == null ? null : new IntStreamSpliterator(split);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean tryAdvance(java.util.function.IntConsumer action) {
+        Objects.requireNonNull(action);
+        return spliterator.tryAdvance((IntConsumer) action::accept);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachRemaining(java.util.function.IntConsumer action) {
+        Objects.requireNonNull(action);
+        spliterator.forEachRemaining((IntConsumer) action::accept);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long estimateSize() {
+        return spliterator.estimateSize();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getExactSizeIfKnown() {
+        return spliterator.getExactSizeIfKnown();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int characteristics() {
+        return spliterator.characteristics();
+    }
+}
@@ -0,0 +1,466 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.xenoamess.commons.primitive.pools;
+
+import com.xenoamess.commons.primitive.Primitive;
+import java.util.Arrays;
+
+/**
+ * A pool of primitive arrays, to reuse temporary arrays instead of allocating new ones every time.
+ * <p>
+ * Arrays are kept in buckets by length. Every bucket holds arrays of one power of two length, from
+ * {@link #MIN_POOLED_LENGTH} up to the max pooled length of the pool, and at most max arrays per bucket of them.
+ * <p>
+ * {@code borrowXXXArray(minLength)} returns an array whose length is the smallest power of two not less than
+ * minLength (at least {@link #MIN_POOLED_LENGTH}), taken from its bucket if there is one, or a new one otherwise.
+ * Arrays longer than the max pooled length are always allocated, with the exact length requested.
+ * <p>
+ * {@code release(array)} puts an array back into its bucket. Arrays whose length is not a pooled length, arrays
+ * released into a full bucket, and arrays already in the pool, are simply dropped for the garbage collector.
+ * An array must not be used any more once released.
+ * <p>
+ * The content of a borrowed array is not cleared: it may contain whatever its previous borrower left in it.
+ * <p>
+ * <strong>Note that this implementation is not synchronized.</strong>
+ * {@link #threadLocal()} returns a pool of the current thread, which is the usual way to use this class.
+ * An array borrowed from a pool can be released into another pool.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see com.xenoamess.commons.primitive.collections.lists.array_lists.IntArrayList#pooled(PrimitiveArrayPool)
+ * @see com.xenoamess.commonx.java.util.Arraysx#sort(int[], int, int, com.xenoamess.commons.primitive.comparators.IntComparator, PrimitiveArrayPool)
+ */
+public class PrimitiveArrayPool implements Primitive {
+
+    /**
+     * The length of the arrays in the smallest bucket.
+     */
+    public static final int MIN_POOLED_LENGTH = 16;
+
+    /**
+     * Default max number of arrays in a bucket.
+     */
+    public static final int DEFAULT_MAX_ARRAYS_PER_BUCKET = 8;
+
+    /**
+     * Default max pooled length.
+     */
+    public static final int DEFAULT_MAX_POOLED_LENGTH = 1 << 20;
+
+    /**
+     * The largest power of two an array length can be.
+     */
+    private static final int MAX_POWER_OF_TWO_LENGTH = 1 << 30;
+
+    private static final ThreadLocal<PrimitiveArrayPool> THREAD_LOCAL_POOL =
+            ThreadLocal.withInitial(PrimitiveArrayPool::new);
+
+    /**
+     * Returns the pool of the current thread, with default settings.
+     *
+     * @return the pool of the current thread
+     */
+    public static PrimitiveArrayPool threadLocal() {
+        return THREAD_LOCAL_POOL.get();
+    }
+
+    private final int maxArraysPerBucket;
+
+    private final int maxPooledLength;
+
+    private final Buckets booleans = new Buckets();
+
+    private final Buckets bytes = new Buckets();
+
+    private final Buckets chars = new Buckets();
+
+    private final Buckets shorts = new Buckets();
+
+    private final Buckets ints = new Buckets();
+
+    private final Buckets longs = new Buckets();
+
+    private final Buckets floats = new Buckets();
+
+    private final Buckets doubles = new Buckets();
+
+    /**
+     * Constructs a pool with default settings.
+     */
+    public PrimitiveArrayPool() {
+        this(DEFAULT_MAX_ARRAYS_PER_BUCKET, DEFAULT_MAX_POOLED_LENGTH);
+    }
+
+    /**
+     * Constructs a pool.
+     *
+     * @param maxArraysPerBucket the max number of arrays kept in a bucket
+     * @param maxPooledLength    the max length of arrays kept in the pool; rounded up to a power of two
+     * @throws java.lang.IllegalArgumentException if maxArraysPerBucket is negative, or maxPooledLength is
+     *                                            less than {@link #MIN_POOLED_LENGTH} or greater than 2^30
+     */
+    public PrimitiveArrayPool(int maxArraysPerBucket, int maxPooledLength) {
+        if (maxArraysPerBucket < 0) {
+            throw new IllegalArgumentException("Illegal maxArraysPerBucket: " + maxArraysPerBucket);
+        }
+        if (maxPooledLength < MIN_POOLED_LENGTH || maxPooledLength > MAX_POWER_OF_TWO_LENGTH) {
+            throw new IllegalArgumentException("Illegal maxPooledLength: " + maxPooledLength);
+        }
+        this.maxArraysPerBucket = maxArraysPerBucket;
+        this.maxPooledLength = pooledLength(maxPooledLength);
+    }
+
+    /**
+     * Returns the length of the arrays borrowed for a min length, if it is not greater than the max pooled length.
+     *
+     * @param minLength the min length
+     * @return the smallest power of two not less than minLength, and not less than {@link #MIN_POOLED_LENGTH}
+     */
+    public static int pooledLength(int minLength) {
+        if (minLength <= MIN_POOLED_LENGTH) {
+            return MIN_POOLED_LENGTH;
+        }
+        return Integer.highestOneBit(minLength - 1) << 1;
+    }
+
+    private static int bucketIndex(int pooledLength) {
+        return Integer.numberOfTrailingZeros(pooledLength);
+    }
+
+    private static void checkMinLength(int minLength) {
+        if (minLength < 0) {
+            throw new NegativeArraySizeException(String.valueOf(minLength));
+        }
+    }
+
+    /**
+     * Returns the max number of arrays kept in a bucket.
+     *
+     * @return the max number of arrays kept in a bucket
+     */
+    public int getMaxArraysPerBucket() {
+        return maxArraysPerBucket;
+    }
+
+    /**
+     * Returns the max length of arrays kept in the pool.
+     *
+     * @return the max length of arrays kept in the pool
+     */
+    public int getMaxPooledLength() {
+        return maxPooledLength;
+    }
+
+    /**
+     * Drops all arrays kept in the pool.
+     */
+    public void clear() {
+        booleans.clear();
+        bytes.clear();
+        chars.clear();
+        shorts.clear();
+        ints.clear();
+        longs.clear();
+        floats.clear();
+        doubles.clear();
+    }
+
+    /**
+     * Borrows a {@code boolean[]} of at least minLength elements.
+     *
+     * @param minLength the min length of the array
+     * @return an array of at least minLength elements, whose content is unspecified
+     * @throws java.lang.NegativeArraySizeException if minLength is negative
+     */
+    public boolean[] borrowBooleanArray(int minLength) {
+        checkMinLength(minLength);
+        if (minLength > maxPooledLength) {
+            return new boolean[minLength];
+        }
+        final int length = pooledLength(minLength);
+        final boolean[] result = (boolean[]) booleans.poll(bucketIndex(length));
+        return result != null ? result : new boolean[length];
+    }
+
+    /**
+     * Returns a {@code boolean[]} to the pool.
+     *
+     * @param array the array, which must not be used any more; null is ignored
+     */
+    public void release(boolean[] array) {
+        if (array != null) {
+            booleans.offer(array, array.length);
+        }
+    }
+
+    /**
+     * Borrows a {@code byte[]} of at least minLength elements.
+     *
+     * @param minLength the min length of the array
+     * @return an array of at least minLength elements, whose content is unspecified
+     * @throws java.lang.NegativeArraySizeException if minLength is negative
+     */
+    public byte[] borrowByteArray(int minLength) {
+        checkMinLength(minLength);
+        if (minLength > maxPooledLength) {
+            return new byte[minLength];
+        }
+        final int length = pooledLength(minLength);
+        final byte[] result = (byte[]) bytes.poll(bucketIndex(length));
+        return result != null ? result : new byte[length];
+    }
+
+    /**
+     * Returns a {@code byte[]} to the pool.
+     *
+     * @param array the array, which must not be used any more; null is ignored
+     */
+    public void release(byte[] array) {
+        if (array != null) {
+            bytes.offer(array, array.length);
+        }
+    }
+
+    /**
+     * Borrows a {@code char[]} of at least minLength elements.
+     *
+     * @param minLength the min length of the array
+     * @return an array of at least minLength elements, whose content is unspecified
+     * @throws java.lang.NegativeArraySizeException if minLength is negative
+     */
+    public char[] borrowCharArray(int minLength) {
+        checkMinLength(minLength);
+        if (minLength > maxPooledLength) {
+            return new char[minLength];
+        }
+        final int length = pooledLength(minLength);
+        final char[] result = (char[]) chars.poll(bucketIndex(length));
+        return result != null ? result : new char[length];
+    }
+
+    /**
+     * Returns a {@code char[]} to the pool.
+     *
+     * @param array the array, which must not be used any more; null is ignored
+     */
+    public void release(char[] array) {
+        if (array != null) {
+            chars.offer(array, array.length);
+        }
+    }
+
+    /**
+     * Borrows a {@code short[]} of at least minLength elements.
+     *
+     * @param minLength the min length of the array
+     * @return an array of at least minLength elements, whose content is unspecified
+     * @throws java.lang.NegativeArraySizeException if minLength is negative
+     */
+    public short[] borrowShortArray(int minLength) {
+        checkMinLength(minLength);
+        if (minLength > maxPooledLength) {
+            return new short[minLength];
+        }
+        final int length = pooledLength(minLength);
+        final short[] result = (short[]) shorts.poll(bucketIndex(length));
+        return result != null ? result : new short[length];
+    }
+
+    /**
+     * Returns a {@code short[]} to the pool.
+     *
+     * @param array the array, which must not be used any more; null is ignored
+     */
+    public void release(short[] array) {
+        if (array != null) {
+            shorts.offer(array, array.length);
+        }
+    }
+
+    /**
+     * Borrows a {@code int[]} of at least minLength elements.
+     *
+     * @param minLength the min length of the array
+     * @return an array of at least minLength elements, whose content is unspecified
+     * @throws java.lang.NegativeArraySizeException if minLength is negative
+     */
+    public int[] borrowIntArray(int minLength) {
+        checkMinLength(minLength);
+        if (minLength > maxPooledLength) {
+            return new int[minLength];
+        }
+        final int length = pooledLength(minLength);
+        final int[] result = (int[]) ints.poll(bucketIndex(length));
+        return result != null ? result : new int[length];
+    }
+
+    /**
+     * Returns a {@code int[]} to the pool.
+     *
+     * @param array the array, which must not be used any more; null is ignored
+     */
+    public void release(int[] array) {
+        if (array != null) {
+            ints.offer(array, array.length);
+        }
+    }
+
+    /**
+     * Borrows a {@code long[]} of at least minLength elements.
+     *
+     * @param minLength the min length of the array
+     * @return an array of at least minLength elements, whose content is unspecified
+     * @throws java.lang.NegativeArraySizeException if minLength is negative
+     */
+    public long[] borrowLongArray(int minLength) {
+        checkMinLength(minLength);
+        if (minLength > maxPooledLength) {
+            return new long[minLength];
+        }
+        final int length = pooledLength(minLength);
+        final long[] result = (long[]) longs.poll(bucketIndex(length));
+        return result != null ? result : new long[length];
+    }
+
+    /**
+     * Returns a {@code long[]} to the pool.
+     *
+     * @param array the array, which must not be used any more; null is ignored
+     */
+    public void release(long[] array) {
+        if (array != null) {
+            longs.offer(array, array.length);
+        }
+    }
+
+    /**
+     * Borrows a {@code float[]} of at least minLength elements.
+     *
+     * @param minLength the min length of the array
+     * @return an array of at least minLength elements, whose content is unspecified
+     * @throws java.lang.NegativeArraySizeException if minLength is negative
+     */
+    public float[] borrowFloatArray(int minLength) {
+        checkMinLength(minLength);
+        if (minLength > maxPooledLength) {
+            return new float[minLength];
+        }
+        final int length = pooledLength(minLength);
+        final float[] result = (float[]) floats.poll(bucketIndex(length));
+        return result != null ? result : new float[length];
+    }
+
+    /**
+     * Returns a {@code float[]} to the pool.
+     *
+     * @param array the array, which must not be used any more; null is ignored
+     */
+    public void release(float[] array) {
+        if (array != null) {
+            floats.offer(array, array.length);
+        }
+    }
+
+    /**
+     * Borrows a {@code double[]} of at least minLength elements.
+     *
+     * @param minLength the min length of the array
+     * @return an array of at least minLength elements, whose content is unspecified
+     * @throws java.lang.NegativeArraySizeException if minLength is negative
+     */
+    public double[] borrowDoubleArray(int minLength) {
+        checkMinLength(minLength);
+        if (minLength > maxPooledLength) {
+            return new double[minLength];
+        }
+        final int length = pooledLength(minLength);
+        final double[] result = (double[]) doubles.poll(bucketIndex(length));
+        return result != null ? result : new double[length];
+    }
+
+    /**
+     * Returns a {@code double[]} to the pool.
+     *
+     * @param array the array, which must not be used any more; null is ignored
+     */
+    public void release(double[] array) {
+        if (array != null) {
+            doubles.offer(array, array.length);
+        }
+    }
+
+    /**
+     * The buckets of one type of arrays, as stacks of arrays.
+     */
+    private final class Buckets {
+        private final Object[][] stacks = new Object[Integer.SIZE][];
+        private final int[] counts = new int[Integer.SIZE];
+
+        Object poll(int index) {
+            int count = counts[index];
+            if (count == 0) {
+                return null;
+            }
+            final Object[] stack = stacks[index];
+            final Object result = stack[--count];
+            stack[count] = null;
+            counts[index] = count;
+            return result;
+        }
+
+        void offer(Object array, int length) {
+            if (length < MIN_POOLED_LENGTH || length > maxPooledLength || (length & (length - 1)) != 0) {
+                return;
+            }
+            final int index = bucketIndex(length);
+            Object[] stack = stacks[index];
+            if (stack == null) {
+                stack = stacks[index] = new Object[maxArraysPerBucket];
+            }
+            final int count = counts[index];
+            if (count >= stack.length) {
+                return;
+            }
+            for (int i = 0; i < count; i++) {
+                if (stack[i] == array) {
+                    // released twice.
+                    return;
+                }
+            }
+            stack[count] = array;
+            counts[index] = count + 1;
+        }
+
+        void clear() {
+            for (int i = 0; i < stacks.length; i++) {
+                if (stacks[i] != null) {
+                    Arrays.fill(stacks[i], null);
+                }
+                counts[i] = 0;
+            }
+        }
+    }
+}
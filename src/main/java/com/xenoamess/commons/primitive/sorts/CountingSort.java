@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xenoamess.commons.primitive.sorts;
+
+import com.xenoamess.commons.primitive.Primitive;
+
+/**
+ * Counting sort for primitive arrays whose types have very few distinct values.
+ * <p>
+ * The occurrences of every value are counted in one pass, and the range is then
+ * rewritten in order in a second one, so sorting takes O(n) time, never calls
+ * a comparator, and needs no temporary buffer.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see RadixSort
+ */
+public class CountingSort implements Primitive {
+    /**
+     * <p>Instances of this class should NOT be constructed in standard programming.
+     *
+     * <p>This constructor is public to permit tools that require a JavaBean instance
+     * to operate.
+     */
+    public CountingSort() {
+        super();
+    }
+
+    /**
+     * Sorts the given range of a byte array.
+     *
+     * @param a          the array in which a range is to be sorted
+     * @param fromIndex  the index of the first element, inclusive, to be sorted
+     * @param toIndex    the index of the last element, exclusive, to be sorted
+     * @param decreasing true to sort into decreasing order, false for increasing order
+     */
+    public static void sort(byte[] a, int fromIndex, int toIndex, boolean decreasing) {
+        // flip the sign bit so that negative numbers come first; flip all other bits too for decreasing order.
+        final int flip = decreasing ? 0x7F : 0x80;
+        final int[] count = new int[1 << Byte.SIZE];
+        for (int i = fromIndex; i < toIndex; i++) {
+            count[(a[i] ^ flip) & 0xFF]++;
+        }
+        int i = fromIndex;
+        for (int k = 0; k < count.length; k++) {
+            final byte value = (byte) (k ^ flip);
+            for (int c = count[k]; c > 0; c--) {
+                a[i++] = value;
+            }
+        }
+    }
+
+    /**
+     * Sorts the given range of a boolean array.
+     * {@code false} is considered less than {@code true}.
+     *
+     * @param a          the array in which a range is to be sorted
+     * @param fromIndex  the index of the first element, inclusive, to be sorted
+     * @param toIndex    the index of the last element, exclusive, to be sorted
+     * @param decreasing true to sort into decreasing order, false for increasing order
+     */
+    public static void sort(boolean[] a, int fromIndex, int toIndex, boolean decreasing) {
+        int trueCount = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (a[i]) {
+                trueCount++;
+            }
+        }
+        final int limit = decreasing ? fromIndex + trueCount : toIndex - trueCount;
+        for (int i = fromIndex; i < limit; i++) {
+            a[i] = decreasing;
+        }
+        for (int i = limit; i < toIndex; i++) {
+            a[i] = !decreasing;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xenoamess.commons.primitive.sorts;
+
+import com.xenoamess.commons.primitive.Primitive;
+import com.xenoamess.commons.primitive.comparators.DoubleComparator;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A parallel sort-merge for double arrays with a {@link DoubleComparator}.
+ * <p>
+ * The range is split in halves recursively until a half is no longer than the granularity, and each of those
+ * chunks is sorted by {@link DoubleTimSort}. Two sorted neighbours are then merged into a workspace array and
+ * back, and the merge itself is split again: the middle element of the longer run is located in the shorter run
+ * by {@link DoubleTimSort#gallopLeft} or {@link DoubleTimSort#gallopRight}, so that both halves of the merge can
+ * run at the same time. Equal elements keep their order, so the sort is stable, like {@link DoubleTimSort}.
+ * <p>
+ * All tasks are run in the {@link ForkJoinPool#commonPool() ForkJoin common pool}.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see java.util.Arrays#parallelSort(Object[], java.util.Comparator)
+ */
+public class DoubleParallelTimSort implements Primitive {
+    /**
+     * <p>Instances of this class should NOT be constructed in standard programming.
+     *
+     * <p>This constructor is public to permit tools that require a JavaBean instance
+     * to operate.
+     */
+    public DoubleParallelTimSort() {
+        super();
+    }
+
+    /**
+     * The minimum array length below which the sort is not split into parallel tasks.
+     * This is the same as {@code java.util.Arrays.MIN_ARRAY_SORT_GRAN}.
+     */
+    public static final int MIN_ARRAY_SORT_GRAN = 1 << 13;
+
+    /**
+     * Sorts the given range in parallel.
+     * This method is designed to be invoked from public methods (in class Arraysx) after performing
+     * any necessary array bounds checks.
+     *
+     * @param a  the array to be sorted
+     * @param lo the index of the first element, inclusive, to be sorted
+     * @param hi the index of the last element, exclusive, to be sorted
+     * @param c  the comparator to use
+     */
+    public static void parallelSort(double[] a, int lo, int hi, DoubleComparator c) {
+        assert c != null && a != null && lo >= 0 && lo <= hi && hi <= a.length;
+
+        final int n = hi - lo;
+        final int p = ForkJoinPool.getCommonPoolParallelism();
+        if (n <= MIN_ARRAY_SORT_GRAN || p == 1) {
+            DoubleTimSort.sort(a, lo, hi, c, null, 0, 0);
+            return;
+        }
+        final int g = n / (p << 2);
+        final int gran = g <= MIN_ARRAY_SORT_GRAN ? MIN_ARRAY_SORT_GRAN : g;
+        ForkJoinPool.commonPool().invoke(new Sorter(a, new double[n], lo, n, 0, gran, c));
+    }
+
+    /**
+     * Sorts a[base, base + n), using w[wbase, wbase + n) as workspace.
+     */
+    static final class Sorter extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        final double[] a;
+        final double[] w;
+        final int base;
+        final int n;
+        final int wbase;
+        final int gran;
+        final DoubleComparator c;
+
+        Sorter(double[] a, double[] w, int base, int n, int wbase, int gran, DoubleComparator c) {
+            this.a = a;
+            this.w = w;
+            this.base = base;
+            this.n = n;
+            this.wbase = wbase;
+            this.gran = gran;
+            this.c = c;
+        }
+
+        @Override
+        protected void compute() {
+            if (n <= gran) {
+                DoubleTimSort.sort(a, base, base + n, c, w, wbase, n);
+                return;
+            }
+            final int h = n >>> 1;
+            invokeAll(
+                    new Sorter(a, w, base, h, wbase, gran, c),
+                    new Sorter(a, w, base + h, n - h, wbase + h, gran, c)
+            );
+            if (c.compare(a[base + h - 1], a[base + h]) <= 0) {
+                return;  // already in order
+            }
+            System.arraycopy(a, base, w, wbase, n);
+            new Merger(w, a, wbase, h, wbase + h, n - h, base, gran, c).invoke();
+        }
+    }
+
+    /**
+     * Merges the sorted runs src[lbase, lbase + ln) and src[rbase, rbase + rn) into dst, starting at k.
+     */
+    static final class Merger extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        final double[] src;
+        final double[] dst;
+        final int lbase;
+        final int ln;
+        final int rbase;
+        final int rn;
+        final int k;
+        final int gran;
+        final DoubleComparator c;
+
+        Merger(double[] src, double[] dst, int lbase, int ln, int rbase, int rn, int k, int gran,
+               DoubleComparator c) {
+            this.src = src;
+            this.dst = dst;
+            this.lbase = lbase;
+            this.ln = ln;
+            this.rbase = rbase;
+            this.rn = rn;
+            this.k = k;
+            this.gran = gran;
+            this.c = c;
+        }
+
+        @Override
+        protected void compute() {
+            if (ln == 0 || rn == 0 || ln + rn <= gran) {
+                merge();
+                return;
+            }
+            final int lh;
+            final int rh;
+            if (ln >= rn) {
+                lh = ln >>> 1;
+                // right elements less than the left split go first
+                rh = DoubleTimSort.gallopLeft(src[lbase + lh], src, rbase, rn, 0, c);
+            } else {
+                rh = rn >>> 1;
+                // left elements not greater than the right split go first
+                lh = DoubleTimSort.gallopRight(src[rbase + rh], src, lbase, ln, 0, c);
+            }
+            invokeAll(
+                    new Merger(src, dst, lbase, lh, rbase, rh, k, gran, c),
+                    new Merger(src, dst, lbase + lh, ln - lh, rbase + rh, rn - rh, k + lh + rh, gran, c)
+            );
+        }
+
+        private void merge() {
+            int l = lbase;
+            int r = rbase;
+            final int lEnd = lbase + ln;
+            final int rEnd = rbase + rn;
+            int d = k;
+            while (l < lEnd && r < rEnd) {
+                if (c.compare(src[r], src[l]) < 0) {
+                    dst[d++] = src[r++];
+                } else {
+                    dst[d++] = src[l++];
+                }
+            }
+            if (l < lEnd) {
+                System.arraycopy(src, l, dst, d, lEnd - l);
+            } else if (r < rEnd) {
+                System.arraycopy(src, r, dst, d, rEnd - r);
+            }
+        }
+    }
+}
@@ -0,0 +1,353 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.xenoamess.commons.primitive.sorts;
+
+import com.xenoamess.commons.primitive.Primitive;
+import com.xenoamess.commons.primitive.pools.PrimitiveArrayPool;
+import com.xenoamess.commonx.org.apache.commons.lang3.ArrayUtilsx;
+import java.util.Arrays;
+
+/**
+ * LSD (least significant digit first) radix sort for integral primitive arrays.
+ * <p>
+ * Every pass distributes the elements by one byte of their key, so sorting takes
+ * O(n) time per byte of the type, and never calls a comparator.
+ * Passes in which all elements share the same byte are skipped.
+ * It needs a temporary buffer as long as the range to be sorted, which can be borrowed from a
+ * {@link PrimitiveArrayPool}.
+ * <p>
+ * Ranges shorter than {@link #RADIX_SORT_THRESHOLD} are handed to {@link Arrays#sort}
+ * instead, as the fixed cost of the passes does not pay off there.
+ * <p>
+ * Sorting in decreasing order is done by inverting the bits of the keys, thus costs the same.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see CountingSort
+ */
+public class RadixSort implements Primitive {
+    /**
+     * <p>Instances of this class should NOT be constructed in standard programming.
+     *
+     * <p>This constructor is public to permit tools that require a JavaBean instance
+     * to operate.
+     */
+    public RadixSort() {
+        super();
+    }
+
+    /**
+     * If the length of a range to be sorted is less than this constant,
+     * {@link Arrays#sort} is used in preference to radix sort.
+     */
+    public static final int RADIX_SORT_THRESHOLD = 1 << 10;
+
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+    private static final int RADIX_MASK = RADIX - 1;
+
+    /**
+     * Sorts the given range of an int array.
+     *
+     * @param a          the array in which a range is to be sorted
+     * @param fromIndex  the index of the first element, inclusive, to be sorted
+     * @param toIndex    the index of the last element, exclusive, to be sorted
+     * @param decreasing true to sort into decreasing order, false for increasing order
+     */
+    public static void sort(int[] a, int fromIndex, int toIndex, boolean decreasing) {
+        sort(a, fromIndex, toIndex, decreasing, null);
+    }
+
+    /**
+     * Sorts the given range of an int array, borrowing its temporary buffers from the pool.
+     *
+     * @param a          the array in which a range is to be sorted
+     * @param fromIndex  the index of the first element, inclusive, to be sorted
+     * @param toIndex    the index of the last element, exclusive, to be sorted
+     * @param decreasing true to sort into decreasing order, false for increasing order
+     * @param pool       the pool to borrow temporary buffers from, or null to allocate them
+     */
+    public static void sort(int[] a, int fromIndex, int toIndex, boolean decreasing, PrimitiveArrayPool pool) {
+        final int n = toIndex - fromIndex;
+        if (n < RADIX_SORT_THRESHOLD) {
+            Arrays.sort(a, fromIndex, toIndex);
+            if (decreasing) {
+                ArrayUtilsx.reverseSelf(a, fromIndex, toIndex);
+            }
+            return;
+        }
+        // flip the sign bit so that negative numbers come first; flip all other bits too for decreasing order.
+        final int flip = decreasing ? Integer.MAX_VALUE : Integer.MIN_VALUE;
+        final int passes = Integer.SIZE / RADIX_BITS;
+        final int[] count;
+        if (pool == null) {
+            count = new int[passes * RADIX];
+        } else {
+            count = pool.borrowIntArray(passes * RADIX);
+            Arrays.fill(count, 0, passes * RADIX, 0);
+        }
+        for (int i = fromIndex; i < toIndex; i++) {
+            final int k = a[i] ^ flip;
+            for (int p = 0; p < passes; p++) {
+                count[(p << RADIX_BITS) + ((k >>> (p * RADIX_BITS)) & RADIX_MASK)]++;
+            }
+        }
+
+        int[] src = a;
+        int srcBase = fromIndex;
+        final int[] buffer = pool == null ? new int[n] : pool.borrowIntArray(n);
+        int[] dst = buffer;
+        int dstBase = 0;
+        for (int p = 0; p < passes; p++) {
+            final int shift = p * RADIX_BITS;
+            final int offset = p << RADIX_BITS;
+            if (count[offset + (((src[srcBase] ^ flip) >>> shift) & RADIX_MASK)] == n) {
+                // all the elements have the same digit in this pass.
+                continue;
+            }
+            for (int d = 0, sum = dstBase; d < RADIX; d++) {
+                final int c = count[offset + d];
+                count[offset + d] = sum;
+                sum += c;
+            }
+            for (int i = srcBase, end = srcBase + n; i < end; i++) {
+                final int v = src[i];
+                dst[count[offset + (((v ^ flip) >>> shift) & RADIX_MASK)]++] = v;
+            }
+            final int[] tmp = src;
+            src = dst;
+            dst = tmp;
+            final int tmpBase = srcBase;
+            srcBase = dstBase;
+            dstBase = tmpBase;
+        }
+        if (src != a) {
+            System.arraycopy(src, srcBase, a, fromIndex, n);
+        }
+        if (pool != null) {
+            pool.release(count);
+            pool.release(buffer);
+        }
+    }
+
+    /**
+     * Sorts the given range of a long array.
+     *
+     * @param a          the array in which a range is to be sorted
+     * @param fromIndex  the index of the first element, inclusive, to be sorted
+     * @param toIndex    the index of the last element, exclusive, to be sorted
+     * @param decreasing true to sort into decreasing order, false for increasing order
+     */
+    public static void sort(long[] a, int fromIndex, int toIndex, boolean decreasing) {
+        sort(a, fromIndex, toIndex, decreasing, null);
+    }
+
+    /**
+     * Sorts the given range of a long array, borrowing its temporary buffers from the pool.
+     *
+     * @param a          the array in which a range is to be sorted
+     * @param fromIndex  the index of the first element, inclusive, to be sorted
+     * @param toIndex    the index of the last element, exclusive, to be sorted
+     * @param decreasing true to sort into decreasing order, false for increasing order
+     * @param pool       the pool to borrow temporary buffers from, or null to allocate them
+     */
+    public static void sort(long[] a, int fromIndex, int toIndex, boolean decreasing, PrimitiveArrayPool pool) {
+        final int n = toIndex - fromIndex;
+        if (n < RADIX_SORT_THRESHOLD) {
+            Arrays.sort(a, fromIndex, toIndex);
+            if (decreasing) {
+                ArrayUtilsx.reverseSelf(a, fromIndex, toIndex);
+            }
+            return;
+        }
+        // flip the sign bit so that negative numbers come first; flip all other bits too for decreasing order.
+        final long flip = decreasing ? Long.MAX_VALUE : Long.MIN_VALUE;
+        final int passes = Long.SIZE / RADIX_BITS;
+        final int[] count;
+        if (pool == null) {
+            count = new int[passes * RADIX];
+        } else {
+            count = pool.borrowIntArray(passes * RADIX);
+            Arrays.fill(count, 0, passes * RADIX, 0);
+        }
+        for (int i = fromIndex; i < toIndex; i++) {
+            final long k = a[i] ^ flip;
+            for (int p = 0; p < passes; p++) {
+                count[(p << RADIX_BITS) + (int) ((k >>> (p * RADIX_BITS)) & RADIX_MASK)]++;
+            }
+        }
+
+        long[] src = a;
+        int srcBase = fromIndex;
+        final long[] buffer = pool == null ? new long[n] : pool.borrowLongArray(n);
+        long[] dst = buffer;
+        int dstBase = 0;
+        for (int p = 0; p < passes; p++) {
+            final int shift = p * RADIX_BITS;
+            final int offset = p << RADIX_BITS;
+            if (count[offset + (int) (((src[srcBase] ^ flip) >>> shift) & RADIX_MASK)] == n) {
+                // all the elements have the same digit in this pass.
+                continue;
+            }
+            for (int d = 0, sum = dstBase; d < RADIX; d++) {
+                final int c = count[offset + d];
+                count[offset + d] = sum;
+                sum += c;
+            }
+            for (int i = srcBase, end = srcBase + n; i < end; i++) {
+                final long v = src[i];
+                dst[count[offset + (int) (((v ^ flip) >>> shift) & RADIX_MASK)]++] = v;
+            }
+            final long[] tmp = src;
+            src = dst;
+            dst = tmp;
+            final int tmpBase = srcBase;
+            srcBase = dstBase;
+            dstBase = tmpBase;
+        }
+        if (src != a) {
+            System.arraycopy(src, srcBase, a, fromIndex, n);
+        }
+        if (pool != null) {
+            pool.release(count);
+            pool.release(buffer);
+        }
+    }
+
+    /**
+     * Sorts the given range of a short array.
+     *
+     * @param a          the array in which a range is to be sorted
+     * @param fromIndex  the index of the first element, inclusive, to be sorted
+     * @param toIndex    the index of the last element, exclusive, to be sorted
+     * @param decreasing true to sort into decreasing order, false for increasing order
+     */
+    public static void sort(short[] a, int fromIndex, int toIndex, boolean decreasing) {
+        final int n = toIndex - fromIndex;
+        if (n < RADIX_SORT_THRESHOLD) {
+            Arrays.sort(a, fromIndex, toIndex);
+            if (decreasing) {
+                ArrayUtilsx.reverseSelf(a, fromIndex, toIndex);
+            }
+            return;
+        }
+        // flip the sign bit so that negative numbers come first; flip all other bits too for decreasing order.
+        final int flip = decreasing ? 0x7FFF : 0x8000;
+        final int[] count = new int[2 * RADIX];
+        for (int i = fromIndex; i < toIndex; i++) {
+            final int k = a[i] ^ flip;
+            count[k & RADIX_MASK]++;
+            count[RADIX + ((k >>> RADIX_BITS) & RADIX_MASK)]++;
+        }
+
+        short[] src = a;
+        int srcBase = fromIndex;
+        short[] dst = new short[n];
+        int dstBase = 0;
+        for (int p = 0; p < 2; p++) {
+            final int shift = p * RADIX_BITS;
+            final int offset = p << RADIX_BITS;
+            if (count[offset + (((src[srcBase] ^ flip) >>> shift) & RADIX_MASK)] == n) {
+                // all the elements have the same digit in this pass.
+                continue;
+            }
+            for (int d = 0, sum = dstBase; d < RADIX; d++) {
+                final int c = count[offset + d];
+                count[offset + d] = sum;
+                sum += c;
+            }
+            for (int i = srcBase, end = srcBase + n; i < end; i++) {
+                final short v = src[i];
+                dst[count[offset + (((v ^ flip) >>> shift) & RADIX_MASK)]++] = v;
+            }
+            final short[] tmp = src;
+            src = dst;
+            dst = tmp;
+            final int tmpBase = srcBase;
+            srcBase = dstBase;
+            dstBase = tmpBase;
+        }
+        if (src != a) {
+            System.arraycopy(src, srcBase, a, fromIndex, n);
+        }
+    }
+
+    /**
+     * Sorts the given range of a char array.
+     *
+     * @param a          the array in which a range is to be sorted
+     * @param fromIndex  the index of the first element, inclusive, to be sorted
+     * @param toIndex    the index of the last element, exclusive, to be sorted
+     * @param decreasing true to sort into decreasing order, false for increasing order
+     */
+    public static void sort(char[] a, int fromIndex, int toIndex, boolean decreasing) {
+        final int n = toIndex - fromIndex;
+        if (n < RADIX_SORT_THRESHOLD) {
+            Arrays.sort(a, fromIndex, toIndex);
+            if (decreasing) {
+                ArrayUtilsx.reverseSelf(a, fromIndex, toIndex);
+            }
+            return;
+        }
+        final int flip = decreasing ? 0xFFFF : 0;
+        final int[] count = new int[2 * RADIX];
+        for (int i = fromIndex; i < toIndex; i++) {
+            final int k = a[i] ^ flip;
+            count[k & RADIX_MASK]++;
+            count[RADIX + ((k >>> RADIX_BITS) & RADIX_MASK)]++;
+        }
+
+        char[] src = a;
+        int srcBase = fromIndex;
+        char[] dst = new char[n];
+        int dstBase = 0;
+        for (int p = 0; p < 2; p++) {
+            final int shift = p * RADIX_BITS;
+            final int offset = p << RADIX_BITS;
+            if (count[offset + (((src[srcBase] ^ flip) >>> shift) & RADIX_MASK)] == n) {
+                // all the elements have the same digit in this pass.
+                continue;
+            }
+            for (int d = 0, sum = dstBase; d < RADIX; d++) {
+                final int c = count[offset + d];
+                count[offset + d] = sum;
+                sum += c;
+            }
+            for (int i = srcBase, end = srcBase + n; i < end; i++) {
+                final char v = src[i];
+                dst[count[offset + (((v ^ flip) >>> shift) & RADIX_MASK)]++] = v;
+            }
+            final char[] tmp = src;
+            src = dst;
+            dst = tmp;
+            final int tmpBase = srcBase;
+            srcBase = dstBase;
+            dstBase = tmpBase;
+        }
+        if (src != a) {
+            System.arraycopy(src, srcBase, a, fromIndex, n);
+        }
+    }
+}
@@ -0,0 +1,703 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.xenoamess.commonx.java.util;
+
+/**
+ * Search, comparison and hashing of ranges of primitive arrays, the hot loops of the primitive array lists.
+ * <p>
+ * This is the portable version, made of scalar loops. On Java 17 and later, a multi-release version of this
+ * class replaces it, which uses {@code Arrays.mismatch} and, when the module {@code jdk.incubator.vector} is
+ * added by {@code --add-modules jdk.incubator.vector}, the Vector API. Both versions return the same results.
+ * <p>
+ * Ranges are not checked; callers shall pass valid ones.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see java.util.Arrays
+ */
+public class ArraysRangeUtilsx {
+    /**
+     * <p>Instances of this class should NOT be constructed in standard programming.
+     *
+     * <p>This constructor is public to permit tools that require a JavaBean instance
+     * to operate.
+     */
+    public ArraysRangeUtilsx() {
+        super();
+    }
+
+    /**
+     * 31 ^ 2.
+     */
+    private static final int P2 = 31 * 31;
+
+    /**
+     * 31 ^ 3.
+     */
+    private static final int P3 = 31 * 31 * 31;
+
+    /**
+     * 31 ^ 4.
+     */
+    private static final int P4 = 31 * 31 * 31 * 31;
+
+    /**
+     * Returns the index of the first element equal to key in a[from, to), or -1 if there is none.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @param key  the value to search for
+     * @return the index, or -1
+     */
+    public static int indexOf(int[] a, int from, int to, int key) {
+        for (int i = from; i < to; i++) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first element equal to key in a[from, to), or -1 if there is none.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @param key  the value to search for
+     * @return the index, or -1
+     */
+    public static int indexOf(long[] a, int from, int to, long key) {
+        for (int i = from; i < to; i++) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first element equal to key in a[from, to), or -1 if there is none.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @param key  the value to search for
+     * @return the index, or -1
+     */
+    public static int indexOf(short[] a, int from, int to, short key) {
+        for (int i = from; i < to; i++) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first element equal to key in a[from, to), or -1 if there is none.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @param key  the value to search for
+     * @return the index, or -1
+     */
+    public static int indexOf(char[] a, int from, int to, char key) {
+        for (int i = from; i < to; i++) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first element equal to key in a[from, to), or -1 if there is none.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @param key  the value to search for
+     * @return the index, or -1
+     */
+    public static int indexOf(byte[] a, int from, int to, byte key) {
+        for (int i = from; i < to; i++) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first element equal to key in a[from, to), or -1 if there is none.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @param key  the value to search for
+     * @return the index, or -1
+     */
+    public static int indexOf(double[] a, int from, int to, double key) {
+        for (int i = from; i < to; i++) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first element equal to key in a[from, to), or -1 if there is none.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @param key  the value to search for
+     * @return the index, or -1
+     */
+    public static int indexOf(float[] a, int from, int to, float key) {
+        for (int i = from; i < to; i++) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first element equal to key in a[from, to), or -1 if there is none.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @param key  the value to search for
+     * @return the index, or -1
+     */
+    public static int indexOf(boolean[] a, int from, int to, boolean key) {
+        for (int i = from; i < to; i++) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last element equal to key in a[from, to), or -1 if there is none.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @param key  the value to search for
+     * @return the index, or -1
+     */
+    public static int lastIndexOf(int[] a, int from, int to, int key) {
+        for (int i = to - 1; i >= from; i--) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last element equal to key in a[from, to), or -1 if there is none.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @param key  the value to search for
+     * @return the index, or -1
+     */
+    public static int lastIndexOf(long[] a, int from, int to, long key) {
+        for (int i = to - 1; i >= from; i--) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last element equal to key in a[from, to), or -1 if there is none.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @param key  the value to search for
+     * @return the index, or -1
+     */
+    public static int lastIndexOf(short[] a, int from, int to, short key) {
+        for (int i = to - 1; i >= from; i--) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last element equal to key in a[from, to), or -1 if there is none.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @param key  the value to search for
+     * @return the index, or -1
+     */
+    public static int lastIndexOf(char[] a, int from, int to, char key) {
+        for (int i = to - 1; i >= from; i--) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last element equal to key in a[from, to), or -1 if there is none.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @param key  the value to search for
+     * @return the index, or -1
+     */
+    public static int lastIndexOf(byte[] a, int from, int to, byte key) {
+        for (int i = to - 1; i >= from; i--) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last element equal to key in a[from, to), or -1 if there is none.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @param key  the value to search for
+     * @return the index, or -1
+     */
+    public static int lastIndexOf(double[] a, int from, int to, double key) {
+        for (int i = to - 1; i >= from; i--) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last element equal to key in a[from, to), or -1 if there is none.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @param key  the value to search for
+     * @return the index, or -1
+     */
+    public static int lastIndexOf(float[] a, int from, int to, float key) {
+        for (int i = to - 1; i >= from; i--) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last element equal to key in a[from, to), or -1 if there is none.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @param key  the value to search for
+     * @return the index, or -1
+     */
+    public static int lastIndexOf(boolean[] a, int from, int to, boolean key) {
+        for (int i = to - 1; i >= from; i--) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the relative index of the first mismatch between a[aFrom, aFrom + length) and
+     * b[bFrom, bFrom + length), or -1 if the ranges are equal.
+     *
+     * @param a      the first array
+     * @param aFrom  start index in a, inclusive
+     * @param b      the second array
+     * @param bFrom  start index in b, inclusive
+     * @param length length of the ranges
+     * @return the relative index of the first mismatch, or -1
+     */
+    public static int mismatch(int[] a, int aFrom, int[] b, int bFrom, int length) {
+        for (int i = 0; i < length; i++) {
+            if (a[aFrom + i] != b[bFrom + i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the relative index of the first mismatch between a[aFrom, aFrom + length) and
+     * b[bFrom, bFrom + length), or -1 if the ranges are equal.
+     *
+     * @param a      the first array
+     * @param aFrom  start index in a, inclusive
+     * @param b      the second array
+     * @param bFrom  start index in b, inclusive
+     * @param length length of the ranges
+     * @return the relative index of the first mismatch, or -1
+     */
+    public static int mismatch(long[] a, int aFrom, long[] b, int bFrom, int length) {
+        for (int i = 0; i < length; i++) {
+            if (a[aFrom + i] != b[bFrom + i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the relative index of the first mismatch between a[aFrom, aFrom + length) and
+     * b[bFrom, bFrom + length), or -1 if the ranges are equal.
+     *
+     * @param a      the first array
+     * @param aFrom  start index in a, inclusive
+     * @param b      the second array
+     * @param bFrom  start index in b, inclusive
+     * @param length length of the ranges
+     * @return the relative index of the first mismatch, or -1
+     */
+    public static int mismatch(short[] a, int aFrom, short[] b, int bFrom, int length) {
+        for (int i = 0; i < length; i++) {
+            if (a[aFrom + i] != b[bFrom + i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the relative index of the first mismatch between a[aFrom, aFrom + length) and
+     * b[bFrom, bFrom + length), or -1 if the ranges are equal.
+     *
+     * @param a      the first array
+     * @param aFrom  start index in a, inclusive
+     * @param b      the second array
+     * @param bFrom  start index in b, inclusive
+     * @param length length of the ranges
+     * @return the relative index of the first mismatch, or -1
+     */
+    public static int mismatch(char[] a, int aFrom, char[] b, int bFrom, int length) {
+        for (int i = 0; i < length; i++) {
+            if (a[aFrom + i] != b[bFrom + i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the relative index of the first mismatch between a[aFrom, aFrom + length) and
+     * b[bFrom, bFrom + length), or -1 if the ranges are equal.
+     *
+     * @param a      the first array
+     * @param aFrom  start index in a, inclusive
+     * @param b      the second array
+     * @param bFrom  start index in b, inclusive
+     * @param length length of the ranges
+     * @return the relative index of the first mismatch, or -1
+     */
+    public static int mismatch(byte[] a, int aFrom, byte[] b, int bFrom, int length) {
+        for (int i = 0; i < length; i++) {
+            if (a[aFrom + i] != b[bFrom + i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the relative index of the first mismatch between a[aFrom, aFrom + length) and
+     * b[bFrom, bFrom + length), or -1 if the ranges are equal.
+     * <p>
+     * Elements are compared as by {@link Double#equals(Object)}.
+     *
+     * @param a      the first array
+     * @param aFrom  start index in a, inclusive
+     * @param b      the second array
+     * @param bFrom  start index in b, inclusive
+     * @param length length of the ranges
+     * @return the relative index of the first mismatch, or -1
+     */
+    public static int mismatch(double[] a, int aFrom, double[] b, int bFrom, int length) {
+        for (int i = 0; i < length; i++) {
+            if (Double.doubleToLongBits(a[aFrom + i]) != Double.doubleToLongBits(b[bFrom + i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the relative index of the first mismatch between a[aFrom, aFrom + length) and
+     * b[bFrom, bFrom + length), or -1 if the ranges are equal.
+     * <p>
+     * Elements are compared as by {@link Float#equals(Object)}.
+     *
+     * @param a      the first array
+     * @param aFrom  start index in a, inclusive
+     * @param b      the second array
+     * @param bFrom  start index in b, inclusive
+     * @param length length of the ranges
+     * @return the relative index of the first mismatch, or -1
+     */
+    public static int mismatch(float[] a, int aFrom, float[] b, int bFrom, int length) {
+        for (int i = 0; i < length; i++) {
+            if (Float.floatToIntBits(a[aFrom + i]) != Float.floatToIntBits(b[bFrom + i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the relative index of the first mismatch between a[aFrom, aFrom + length) and
+     * b[bFrom, bFrom + length), or -1 if the ranges are equal.
+     *
+     * @param a      the first array
+     * @param aFrom  start index in a, inclusive
+     * @param b      the second array
+     * @param bFrom  start index in b, inclusive
+     * @param length length of the ranges
+     * @return the relative index of the first mismatch, or -1
+     */
+    public static int mismatch(boolean[] a, int aFrom, boolean[] b, int bFrom, int length) {
+        for (int i = 0; i < length; i++) {
+            if (a[aFrom + i] != b[bFrom + i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the hash code of a[from, to), as defined by {@link java.util.List#hashCode()} for the list of the
+     * elements.
+     * <p>
+     * Four elements are folded per step, {@code h * 31^4 + a0 * 31^3 + a1 * 31^2 + a2 * 31 + a3}, so that the
+     * multiplications of a step do not wait for each other; the result is the same as the one of the plain loop.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @return the hash code
+     */
+    public static int hashCode(int[] a, int from, int to) {
+        int hashCode = 1;
+        int i = from;
+        for (final int bound = to - 3; i < bound; i += 4) {
+            hashCode = P4 * hashCode + P3 * a[i] + P2 * a[i + 1] + 31 * a[i + 2] + a[i + 3];
+        }
+        for (; i < to; i++) {
+            hashCode = 31 * hashCode + a[i];
+        }
+        return hashCode;
+    }
+
+    /**
+     * Returns the hash code of a[from, to), as defined by {@link java.util.List#hashCode()} for the list of the
+     * elements.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @return the hash code
+     * @see #hashCode(int[], int, int)
+     */
+    public static int hashCode(long[] a, int from, int to) {
+        int hashCode = 1;
+        int i = from;
+        for (final int bound = to - 3; i < bound; i += 4) {
+            hashCode = P4 * hashCode + P3 * Long.hashCode(a[i]) + P2 * Long.hashCode(a[i + 1])
+                    + 31 * Long.hashCode(a[i + 2]) + Long.hashCode(a[i + 3]);
+        }
+        for (; i < to; i++) {
+            hashCode = 31 * hashCode + Long.hashCode(a[i]);
+        }
+        return hashCode;
+    }
+
+    /**
+     * Returns the hash code of a[from, to), as defined by {@link java.util.List#hashCode()} for the list of the
+     * elements.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @return the hash code
+     * @see #hashCode(int[], int, int)
+     */
+    public static int hashCode(short[] a, int from, int to) {
+        int hashCode = 1;
+        int i = from;
+        for (final int bound = to - 3; i < bound; i += 4) {
+            hashCode = P4 * hashCode + P3 * a[i] + P2 * a[i + 1]
+                    + 31 * a[i + 2] + a[i + 3];
+        }
+        for (; i < to; i++) {
+            hashCode = 31 * hashCode + a[i];
+        }
+        return hashCode;
+    }
+
+    /**
+     * Returns the hash code of a[from, to), as defined by {@link java.util.List#hashCode()} for the list of the
+     * elements.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @return the hash code
+     * @see #hashCode(int[], int, int)
+     */
+    public static int hashCode(char[] a, int from, int to) {
+        int hashCode = 1;
+        int i = from;
+        for (final int bound = to - 3; i < bound; i += 4) {
+            hashCode = P4 * hashCode + P3 * a[i] + P2 * a[i + 1]
+                    + 31 * a[i + 2] + a[i + 3];
+        }
+        for (; i < to; i++) {
+            hashCode = 31 * hashCode + a[i];
+        }
+        return hashCode;
+    }
+
+    /**
+     * Returns the hash code of a[from, to), as defined by {@link java.util.List#hashCode()} for the list of the
+     * elements.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @return the hash code
+     * @see #hashCode(int[], int, int)
+     */
+    public static int hashCode(byte[] a, int from, int to) {
+        int hashCode = 1;
+        int i = from;
+        for (final int bound = to - 3; i < bound; i += 4) {
+            hashCode = P4 * hashCode + P3 * a[i] + P2 * a[i + 1]
+                    + 31 * a[i + 2] + a[i + 3];
+        }
+        for (; i < to; i++) {
+            hashCode = 31 * hashCode + a[i];
+        }
+        return hashCode;
+    }
+
+    /**
+     * Returns the hash code of a[from, to), as defined by {@link java.util.List#hashCode()} for the list of the
+     * elements.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @return the hash code
+     * @see #hashCode(int[], int, int)
+     */
+    public static int hashCode(double[] a, int from, int to) {
+        int hashCode = 1;
+        int i = from;
+        for (final int bound = to - 3; i < bound; i += 4) {
+            hashCode = P4 * hashCode + P3 * Double.hashCode(a[i]) + P2 * Double.hashCode(a[i + 1])
+                    + 31 * Double.hashCode(a[i + 2]) + Double.hashCode(a[i + 3]);
+        }
+        for (; i < to; i++) {
+            hashCode = 31 * hashCode + Double.hashCode(a[i]);
+        }
+        return hashCode;
+    }
+
+    /**
+     * Returns the hash code of a[from, to), as defined by {@link java.util.List#hashCode()} for the list of the
+     * elements.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @return the hash code
+     * @see #hashCode(int[], int, int)
+     */
+    public static int hashCode(float[] a, int from, int to) {
+        int hashCode = 1;
+        int i = from;
+        for (final int bound = to - 3; i < bound; i += 4) {
+            hashCode = P4 * hashCode + P3 * Float.hashCode(a[i]) + P2 * Float.hashCode(a[i + 1])
+                    + 31 * Float.hashCode(a[i + 2]) + Float.hashCode(a[i + 3]);
+        }
+        for (; i < to; i++) {
+            hashCode = 31 * hashCode + Float.hashCode(a[i]);
+        }
+        return hashCode;
+    }
+
+    /**
+     * Returns the hash code of a[from, to), as defined by {@link java.util.List#hashCode()} for the list of the
+     * elements.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @return the hash code
+     * @see #hashCode(int[], int, int)
+     */
+    public static int hashCode(boolean[] a, int from, int to) {
+        int hashCode = 1;
+        int i = from;
+        for (final int bound = to - 3; i < bound; i += 4) {
+            hashCode = P4 * hashCode + P3 * Boolean.hashCode(a[i]) + P2 * Boolean.hashCode(a[i + 1])
+                    + 31 * Boolean.hashCode(a[i + 2]) + Boolean.hashCode(a[i + 3]);
+        }
+        for (; i < to; i++) {
+            hashCode = 31 * hashCode + Boolean.hashCode(a[i]);
+        }
+        return hashCode;
+    }
+}
@@ -31,15 +31,28 @@ import com.xenoamess.commons.primitive.comparators.DoubleComparator;
 import com.xenoamess.commons.primitive.comparators.FloatComparator;
 import com.xenoamess.commons.primitive.comparators.IntComparator;
 import com.xenoamess.commons.primitive.comparators.LongComparator;
+import com.xenoamess.commons.primitive.comparators.PrimitiveComparators;
 import com.xenoamess.commons.primitive.comparators.ShortComparator;
+import com.xenoamess.commons.primitive.pools.PrimitiveArrayPool;
+import com.xenoamess.commons.primitive.sorts.BooleanParallelTimSort;
 import com.xenoamess.commons.primitive.sorts.BooleanTimSort;
+import com.xenoamess.commons.primitive.sorts.ByteParallelTimSort;
 import com.xenoamess.commons.primitive.sorts.ByteTimSort;
+import com.xenoamess.commons.primitive.sorts.CharParallelTimSort;
 import com.xenoamess.commons.primitive.sorts.CharTimSort;
+import com.xenoamess.commons.primitive.sorts.CountingSort;
+import com.xenoamess.commons.primitive.sorts.DoubleParallelTimSort;
 import com.xenoamess.commons.primitive.sorts.DoubleTimSort;
+import com.xenoamess.commons.primitive.sorts.FloatParallelTimSort;
 import com.xenoamess.commons.primitive.sorts.FloatTimSort;
+import com.xenoamess.commons.primitive.sorts.IntParallelTimSort;
 import com.xenoamess.commons.primitive.sorts.IntTimSort;
+import com.xenoamess.commons.primitive.sorts.LongParallelTimSort;
 import com.xenoamess.commons.primitive.sorts.LongTimSort;
+import com.xenoamess.commons.primitive.sorts.RadixSort;
+import com.xenoamess.commons.primitive.sorts.ShortParallelTimSort;
 import com.xenoamess.commons.primitive.sorts.ShortTimSort;
+import com.xenoamess.commonx.org.apache.commons.lang3.ArrayUtilsx;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
@@ -950,6 +963,645 @@ public class Arraysx {
         return a;
     }
 
+    /**
+     * Sorts the specified array according to the order induced by the
+     * specified comparator, in parallel.
+     *
+     * <p>This sort is guaranteed to be <i>stable</i>:  equal elements will
+     * not be reordered as a result of the sort.
+     *
+     * <p>If {@code c} is {@code null}, or is one of the increasing or decreasing
+     * comparators in {@link PrimitiveComparators}, the array is sorted by
+     * {@link Arrays#parallelSort(long[], int, int)} instead, and {@code c} is never called.
+     *
+     * @param a the array to be sorted
+     * @param c the comparator to determine the order of the array.  A
+     *          {@code null} value indicates that the elements'
+     *          {@linkplain Comparable natural ordering} should be used.
+     * @return the original array
+     * @throws java.lang.IllegalArgumentException (optional) if the comparator is
+     *                                            found to violate the {@link java.util.Comparator} contract
+     * @implNote The sorting algorithm is a parallel sort-merge that breaks the
+     * array into sub-arrays that are themselves sorted by {@link LongTimSort}
+     * and then merged, see {@link LongParallelTimSort}. If the length of the
+     * specified array is less than the minimum granularity, then it is sorted
+     * by {@link LongTimSort} directly. The algorithm requires a working space
+     * no greater than the size of the original array. The
+     * {@link java.util.concurrent.ForkJoinPool#commonPool() ForkJoin common pool} is used to
+     * execute any parallel tasks.
+     */
+    public static long[] parallelSortSelf(long[] a, LongComparator c) {
+        return parallelSortSelf(a, 0, a.length, c);
+    }
+
+    /**
+     * Sorts the specified range of the specified array according to the order
+     * induced by the specified comparator, in parallel.  The range to be
+     * sorted extends from index {@code fromIndex}, inclusive, to index
+     * {@code toIndex}, exclusive.  (If {@code fromIndex==toIndex}, the
+     * range to be sorted is empty.)
+     *
+     * <p>This sort is guaranteed to be <i>stable</i>:  equal elements will
+     * not be reordered as a result of the sort.
+     *
+     * <p>If {@code c} is {@code null}, or is one of the increasing or decreasing
+     * comparators in {@link PrimitiveComparators}, the range is sorted by
+     * {@link Arrays#parallelSort(long[], int, int)} instead, and {@code c} is never called.
+     *
+     * @param a         the array to be sorted
+     * @param fromIndex the index of the first element (inclusive) to be
+     *                  sorted
+     * @param toIndex   the index of the last element (exclusive) to be sorted
+     * @param c         the comparator to determine the order of the array.  A
+     *                  {@code null} value indicates that the elements'
+     *                  {@linkplain Comparable natural ordering} should be used.
+     * @return the original array
+     * @throws java.lang.IllegalArgumentException       if {@code fromIndex > toIndex} or
+     *                                                  (optional) if the comparator is found to violate the
+     *                                                  {@link java.util.Comparator} contract
+     * @throws java.lang.ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                                  {@code toIndex > a.length}
+     * @implNote The sorting algorithm is a parallel sort-merge that breaks the
+     * array into sub-arrays that are themselves sorted by {@link LongTimSort}
+     * and then merged, see {@link LongParallelTimSort}. If the length of the
+     * specified range is less than the minimum granularity, then it is sorted
+     * by {@link LongTimSort} directly. The algorithm requires a working space
+     * no greater than the size of the specified range of the original array.
+     * The {@link java.util.concurrent.ForkJoinPool#commonPool() ForkJoin common pool} is
+     * used to execute any parallel tasks.
+     */
+    public static long[] parallelSortSelf(long[] a, int fromIndex, int toIndex, LongComparator c) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        if (c == null || c == PrimitiveComparators.LONG_COMPARATOR_INCREASING) {
+            Arrays.parallelSort(a, fromIndex, toIndex);
+        } else if (c == PrimitiveComparators.LONG_COMPARATOR_DECREASING) {
+            Arrays.parallelSort(a, fromIndex, toIndex);
+            ArrayUtilsx.reverseSelf(a, fromIndex, toIndex);
+        } else {
+            LongParallelTimSort.parallelSort(a, fromIndex, toIndex, c);
+        }
+        return a;
+    }
+
+    /**
+     * Sorts the specified array according to the order induced by the
+     * specified comparator, in parallel.
+     *
+     * <p>This sort is guaranteed to be <i>stable</i>:  equal elements will
+     * not be reordered as a result of the sort.
+     *
+     * <p>If {@code c} is {@code null}, or is one of the increasing or decreasing
+     * comparators in {@link PrimitiveComparators}, the array is sorted by
+     * {@link Arrays#parallelSort(int[], int, int)} instead, and {@code c} is never called.
+     *
+     * @param a the array to be sorted
+     * @param c the comparator to determine the order of the array.  A
+     *          {@code null} value indicates that the elements'
+     *          {@linkplain Comparable natural ordering} should be used.
+     * @return the original array
+     * @throws java.lang.IllegalArgumentException (optional) if the comparator is
+     *                                            found to violate the {@link java.util.Comparator} contract
+     * @implNote The sorting algorithm is a parallel sort-merge that breaks the
+     * array into sub-arrays that are themselves sorted by {@link IntTimSort}
+     * and then merged, see {@link IntParallelTimSort}. If the length of the
+     * specified array is less than the minimum granularity, then it is sorted
+     * by {@link IntTimSort} directly. The algorithm requires a working space
+     * no greater than the size of the original array. The
+     * {@link java.util.concurrent.ForkJoinPool#commonPool() ForkJoin common pool} is used to
+     * execute any parallel tasks.
+     */
+    public static int[] parallelSortSelf(int[] a, IntComparator c) {
+        return parallelSortSelf(a, 0, a.length, c);
+    }
+
+    /**
+     * Sorts the specified range of the specified array according to the order
+     * induced by the specified comparator, in parallel.  The range to be
+     * sorted extends from index {@code fromIndex}, inclusive, to index
+     * {@code toIndex}, exclusive.  (If {@code fromIndex==toIndex}, the
+     * range to be sorted is empty.)
+     *
+     * <p>This sort is guaranteed to be <i>stable</i>:  equal elements will
+     * not be reordered as a result of the sort.
+     *
+     * <p>If {@code c} is {@code null}, or is one of the increasing or decreasing
+     * comparators in {@link PrimitiveComparators}, the range is sorted by
+     * {@link Arrays#parallelSort(int[], int, int)} instead, and {@code c} is never called.
+     *
+     * @param a         the array to be sorted
+     * @param fromIndex the index of the first element (inclusive) to be
+     *                  sorted
+     * @param toIndex   the index of the last element (exclusive) to be sorted
+     * @param c         the comparator to determine the order of the array.  A
+     *                  {@code null} value indicates that the elements'
+     *                  {@linkplain Comparable natural ordering} should be used.
+     * @return the original array
+     * @throws java.lang.IllegalArgumentException       if {@code fromIndex > toIndex} or
+     *                                                  (optional) if the comparator is found to violate the
+     *                                                  {@link java.util.Comparator} contract
+     * @throws java.lang.ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                                  {@code toIndex > a.length}
+     * @implNote The sorting algorithm is a parallel sort-merge that breaks the
+     * array into sub-arrays that are themselves sorted by {@link IntTimSort}
+     * and then merged, see {@link IntParallelTimSort}. If the length of the
+     * specified range is less than the minimum granularity, then it is sorted
+     * by {@link IntTimSort} directly. The algorithm requires a working space
+     * no greater than the size of the specified range of the original array.
+     * The {@link java.util.concurrent.ForkJoinPool#commonPool() ForkJoin common pool} is
+     * used to execute any parallel tasks.
+     */
+    public static int[] parallelSortSelf(int[] a, int fromIndex, int toIndex, IntComparator c) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        if (c == null || c == PrimitiveComparators.INT_COMPARATOR_INCREASING) {
+            Arrays.parallelSort(a, fromIndex, toIndex);
+        } else if (c == PrimitiveComparators.INT_COMPARATOR_DECREASING) {
+            Arrays.parallelSort(a, fromIndex, toIndex);
+            ArrayUtilsx.reverseSelf(a, fromIndex, toIndex);
+        } else {
+            IntParallelTimSort.parallelSort(a, fromIndex, toIndex, c);
+        }
+        return a;
+    }
+
+    /**
+     * Sorts the specified array according to the order induced by the
+     * specified comparator, in parallel.
+     *
+     * <p>This sort is guaranteed to be <i>stable</i>:  equal elements will
+     * not be reordered as a result of the sort.
+     *
+     * <p>If {@code c} is {@code null}, or is one of the increasing or decreasing
+     * comparators in {@link PrimitiveComparators}, the array is sorted by
+     * {@link Arrays#parallelSort(short[], int, int)} instead, and {@code c} is never called.
+     *
+     * @param a the array to be sorted
+     * @param c the comparator to determine the order of the array.  A
+     *          {@code null} value indicates that the elements'
+     *          {@linkplain Comparable natural ordering} should be used.
+     * @return the original array
+     * @throws java.lang.IllegalArgumentException (optional) if the comparator is
+     *                                            found to violate the {@link java.util.Comparator} contract
+     * @implNote The sorting algorithm is a parallel sort-merge that breaks the
+     * array into sub-arrays that are themselves sorted by {@link ShortTimSort}
+     * and then merged, see {@link ShortParallelTimSort}. If the length of the
+     * specified array is less than the minimum granularity, then it is sorted
+     * by {@link ShortTimSort} directly. The algorithm requires a working space
+     * no greater than the size of the original array. The
+     * {@link java.util.concurrent.ForkJoinPool#commonPool() ForkJoin common pool} is used to
+     * execute any parallel tasks.
+     */
+    public static short[] parallelSortSelf(short[] a, ShortComparator c) {
+        return parallelSortSelf(a, 0, a.length, c);
+    }
+
+    /**
+     * Sorts the specified range of the specified array according to the order
+     * induced by the specified comparator, in parallel.  The range to be
+     * sorted extends from index {@code fromIndex}, inclusive, to index
+     * {@code toIndex}, exclusive.  (If {@code fromIndex==toIndex}, the
+     * range to be sorted is empty.)
+     *
+     * <p>This sort is guaranteed to be <i>stable</i>:  equal elements will
+     * not be reordered as a result of the sort.
+     *
+     * <p>If {@code c} is {@code null}, or is one of the increasing or decreasing
+     * comparators in {@link PrimitiveComparators}, the range is sorted by
+     * {@link Arrays#parallelSort(short[], int, int)} instead, and {@code c} is never called.
+     *
+     * @param a         the array to be sorted
+     * @param fromIndex the index of the first element (inclusive) to be
+     *                  sorted
+     * @param toIndex   the index of the last element (exclusive) to be sorted
+     * @param c         the comparator to determine the order of the array.  A
+     *                  {@code null} value indicates that the elements'
+     *                  {@linkplain Comparable natural ordering} should be used.
+     * @return the original array
+     * @throws java.lang.IllegalArgumentException       if {@code fromIndex > toIndex} or
+     *                                                  (optional) if the comparator is found to violate the
+     *                                                  {@link java.util.Comparator} contract
+     * @throws java.lang.ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                                  {@code toIndex > a.length}
+     * @implNote The sorting algorithm is a parallel sort-merge that breaks the
+     * array into sub-arrays that are themselves sorted by {@link ShortTimSort}
+     * and then merged, see {@link ShortParallelTimSort}. If the length of the
+     * specified range is less than the minimum granularity, then it is sorted
+     * by {@link ShortTimSort} directly. The algorithm requires a working space
+     * no greater than the size of the specified range of the original array.
+     * The {@link java.util.concurrent.ForkJoinPool#commonPool() ForkJoin common pool} is
+     * used to execute any parallel tasks.
+     */
+    public static short[] parallelSortSelf(short[] a, int fromIndex, int toIndex, ShortComparator c) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        if (c == null || c == PrimitiveComparators.SHORT_COMPARATOR_INCREASING) {
+            Arrays.parallelSort(a, fromIndex, toIndex);
+        } else if (c == PrimitiveComparators.SHORT_COMPARATOR_DECREASING) {
+            Arrays.parallelSort(a, fromIndex, toIndex);
+            ArrayUtilsx.reverseSelf(a, fromIndex, toIndex);
+        } else {
+            ShortParallelTimSort.parallelSort(a, fromIndex, toIndex, c);
+        }
+        return a;
+    }
+
+    /**
+     * Sorts the specified array according to the order induced by the
+     * specified comparator, in parallel.
+     *
+     * <p>This sort is guaranteed to be <i>stable</i>:  equal elements will
+     * not be reordered as a result of the sort.
+     *
+     * <p>If {@code c} is {@code null}, or is one of the increasing or decreasing
+     * comparators in {@link PrimitiveComparators}, the array is sorted by
+     * {@link Arrays#parallelSort(char[], int, int)} instead, and {@code c} is never called.
+     *
+     * @param a the array to be sorted
+     * @param c the comparator to determine the order of the array.  A
+     *          {@code null} value indicates that the elements'
+     *          {@linkplain Comparable natural ordering} should be used.
+     * @return the original array
+     * @throws java.lang.IllegalArgumentException (optional) if the comparator is
+     *                                            found to violate the {@link java.util.Comparator} contract
+     * @implNote The sorting algorithm is a parallel sort-merge that breaks the
+     * array into sub-arrays that are themselves sorted by {@link CharTimSort}
+     * and then merged, see {@link CharParallelTimSort}. If the length of the
+     * specified array is less than the minimum granularity, then it is sorted
+     * by {@link CharTimSort} directly. The algorithm requires a working space
+     * no greater than the size of the original array. The
+     * {@link java.util.concurrent.ForkJoinPool#commonPool() ForkJoin common pool} is used to
+     * execute any parallel tasks.
+     */
+    public static char[] parallelSortSelf(char[] a, CharComparator c) {
+        return parallelSortSelf(a, 0, a.length, c);
+    }
+
+    /**
+     * Sorts the specified range of the specified array according to the order
+     * induced by the specified comparator, in parallel.  The range to be
+     * sorted extends from index {@code fromIndex}, inclusive, to index
+     * {@code toIndex}, exclusive.  (If {@code fromIndex==toIndex}, the
+     * range to be sorted is empty.)
+     *
+     * <p>This sort is guaranteed to be <i>stable</i>:  equal elements will
+     * not be reordered as a result of the sort.
+     *
+     * <p>If {@code c} is {@code null}, or is one of the increasing or decreasing
+     * comparators in {@link PrimitiveComparators}, the range is sorted by
+     * {@link Arrays#parallelSort(char[], int, int)} instead, and {@code c} is never called.
+     *
+     * @param a         the array to be sorted
+     * @param fromIndex the index of the first element (inclusive) to be
+     *                  sorted
+     * @param toIndex   the index of the last element (exclusive) to be sorted
+     * @param c         the comparator to determine the order of the array.  A
+     *                  {@code null} value indicates that the elements'
+     *                  {@linkplain Comparable natural ordering} should be used.
+     * @return the original array
+     * @throws java.lang.IllegalArgumentException       if {@code fromIndex > toIndex} or
+     *                                                  (optional) if the comparator is found to violate the
+     *                                                  {@link java.util.Comparator} contract
+     * @throws java.lang.ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                                  {@code toIndex > a.length}
+     * @implNote The sorting algorithm is a parallel sort-merge that breaks the
+     * array into sub-arrays that are themselves sorted by {@link CharTimSort}
+     * and then merged, see {@link CharParallelTimSort}. If the length of the
+     * specified range is less than the minimum granularity, then it is sorted
+     * by {@link CharTimSort} directly. The algorithm requires a working space
+     * no greater than the size of the specified range of the original array.
+     * The {@link java.util.concurrent.ForkJoinPool#commonPool() ForkJoin common pool} is
+     * used to execute any parallel tasks.
+     */
+    public static char[] parallelSortSelf(char[] a, int fromIndex, int toIndex, CharComparator c) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        if (c == null || c == PrimitiveComparators.CHAR_COMPARATOR_INCREASING) {
+            Arrays.parallelSort(a, fromIndex, toIndex);
+        } else if (c == PrimitiveComparators.CHAR_COMPARATOR_DECREASING) {
+            Arrays.parallelSort(a, fromIndex, toIndex);
+            ArrayUtilsx.reverseSelf(a, fromIndex, toIndex);
+        } else {
+            CharParallelTimSort.parallelSort(a, fromIndex, toIndex, c);
+        }
+        return a;
+    }
+
+    /**
+     * Sorts the specified array according to the order induced by the
+     * specified comparator, in parallel.
+     *
+     * <p>This sort is guaranteed to be <i>stable</i>:  equal elements will
+     * not be reordered as a result of the sort.
+     *
+     * <p>If {@code c} is {@code null}, or is one of the increasing or decreasing
+     * comparators in {@link PrimitiveComparators}, the array is sorted by
+     * {@link Arrays#parallelSort(byte[], int, int)} instead, and {@code c} is never called.
+     *
+     * @param a the array to be sorted
+     * @param c the comparator to determine the order of the array.  A
+     *          {@code null} value indicates that the elements'
+     *          {@linkplain Comparable natural ordering} should be used.
+     * @return the original array
+     * @throws java.lang.IllegalArgumentException (optional) if the comparator is
+     *                                            found to violate the {@link java.util.Comparator} contract
+     * @implNote The sorting algorithm is a parallel sort-merge that breaks the
+     * array into sub-arrays that are themselves sorted by {@link ByteTimSort}
+     * and then merged, see {@link ByteParallelTimSort}. If the length of the
+     * specified array is less than the minimum granularity, then it is sorted
+     * by {@link ByteTimSort} directly. The algorithm requires a working space
+     * no greater than the size of the original array. The
+     * {@link java.util.concurrent.ForkJoinPool#commonPool() ForkJoin common pool} is used to
+     * execute any parallel tasks.
+     */
+    public static byte[] parallelSortSelf(byte[] a, ByteComparator c) {
+        return parallelSortSelf(a, 0, a.length, c);
+    }
+
+    /**
+     * Sorts the specified range of the specified array according to the order
+     * induced by the specified comparator, in parallel.  The range to be
+     * sorted extends from index {@code fromIndex}, inclusive, to index
+     * {@code toIndex}, exclusive.  (If {@code fromIndex==toIndex}, the
+     * range to be sorted is empty.)
+     *
+     * <p>This sort is guaranteed to be <i>stable</i>:  equal elements will
+     * not be reordered as a result of the sort.
+     *
+     * <p>If {@code c} is {@code null}, or is one of the increasing or decreasing
+     * comparators in {@link PrimitiveComparators}, the range is sorted by
+     * {@link Arrays#parallelSort(byte[], int, int)} instead, and {@code c} is never called.
+     *
+     * @param a         the array to be sorted
+     * @param fromIndex the index of the first element (inclusive) to be
+     *                  sorted
+     * @param toIndex   the index of the last element (exclusive) to be sorted
+     * @param c         the comparator to determine the order of the array.  A
+     *                  {@code null} value indicates that the elements'
+     *                  {@linkplain Comparable natural ordering} should be used.
+     * @return the original array
+     * @throws java.lang.IllegalArgumentException       if {@code fromIndex > toIndex} or
+     *                                                  (optional) if the comparator is found to violate the
+     *                                                  {@link java.util.Comparator} contract
+     * @throws java.lang.ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                                  {@code toIndex > a.length}
+     * @implNote The sorting algorithm is a parallel sort-merge that breaks the
+     * array into sub-arrays that are themselves sorted by {@link ByteTimSort}
+     * and then merged, see {@link ByteParallelTimSort}. If the length of the
+     * specified range is less than the minimum granularity, then it is sorted
+     * by {@link ByteTimSort} directly. The algorithm requires a working space
+     * no greater than the size of the specified range of the original array.
+     * The {@link java.util.concurrent.ForkJoinPool#commonPool() ForkJoin common pool} is
+     * used to execute any parallel tasks.
+     */
+    public static byte[] parallelSortSelf(byte[] a, int fromIndex, int toIndex, ByteComparator c) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        if (c == null || c == PrimitiveComparators.BYTE_COMPARATOR_INCREASING) {
+            Arrays.parallelSort(a, fromIndex, toIndex);
+        } else if (c == PrimitiveComparators.BYTE_COMPARATOR_DECREASING) {
+            Arrays.parallelSort(a, fromIndex, toIndex);
+            ArrayUtilsx.reverseSelf(a, fromIndex, toIndex);
+        } else {
+            ByteParallelTimSort.parallelSort(a, fromIndex, toIndex, c);
+        }
+        return a;
+    }
+
+    /**
+     * Sorts the specified array according to the order induced by the
+     * specified comparator, in parallel.
+     *
+     * <p>This sort is guaranteed to be <i>stable</i>:  equal elements will
+     * not be reordered as a result of the sort.
+     *
+     * <p>If {@code c} is {@code null}, or is one of the increasing or decreasing
+     * comparators in {@link PrimitiveComparators}, the array is sorted by
+     * {@link Arrays#parallelSort(double[], int, int)} instead, and {@code c} is never called.
+     *
+     * @param a the array to be sorted
+     * @param c the comparator to determine the order of the array.  A
+     *          {@code null} value indicates that the elements'
+     *          {@linkplain Comparable natural ordering} should be used.
+     * @return the original array
+     * @throws java.lang.IllegalArgumentException (optional) if the comparator is
+     *                                            found to violate the {@link java.util.Comparator} contract
+     * @implNote The sorting algorithm is a parallel sort-merge that breaks the
+     * array into sub-arrays that are themselves sorted by {@link DoubleTimSort}
+     * and then merged, see {@link DoubleParallelTimSort}. If the length of the
+     * specified array is less than the minimum granularity, then it is sorted
+     * by {@link DoubleTimSort} directly. The algorithm requires a working space
+     * no greater than the size of the original array. The
+     * {@link java.util.concurrent.ForkJoinPool#commonPool() ForkJoin common pool} is used to
+     * execute any parallel tasks.
+     */
+    public static double[] parallelSortSelf(double[] a, DoubleComparator c) {
+        return parallelSortSelf(a, 0, a.length, c);
+    }
+
+    /**
+     * Sorts the specified range of the specified array according to the order
+     * induced by the specified comparator, in parallel.  The range to be
+     * sorted extends from index {@code fromIndex}, inclusive, to index
+     * {@code toIndex}, exclusive.  (If {@code fromIndex==toIndex}, the
+     * range to be sorted is empty.)
+     *
+     * <p>This sort is guaranteed to be <i>stable</i>:  equal elements will
+     * not be reordered as a result of the sort.
+     *
+     * <p>If {@code c} is {@code null}, or is one of the increasing or decreasing
+     * comparators in {@link PrimitiveComparators}, the range is sorted by
+     * {@link Arrays#parallelSort(double[], int, int)} instead, and {@code c} is never called.
+     *
+     * @param a         the array to be sorted
+     * @param fromIndex the index of the first element (inclusive) to be
+     *                  sorted
+     * @param toIndex   the index of the last element (exclusive) to be sorted
+     * @param c         the comparator to determine the order of the array.  A
+     *                  {@code null} value indicates that the elements'
+     *                  {@linkplain Comparable natural ordering} should be used.
+     * @return the original array
+     * @throws java.lang.IllegalArgumentException       if {@code fromIndex > toIndex} or
+     *                                                  (optional) if the comparator is found to violate the
+     *                                                  {@link java.util.Comparator} contract
+     * @throws java.lang.ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                                  {@code toIndex > a.length}
+     * @implNote The sorting algorithm is a parallel sort-merge that breaks the
+     * array into sub-arrays that are themselves sorted by {@link DoubleTimSort}
+     * and then merged, see {@link DoubleParallelTimSort}. If the length of the
+     * specified range is less than the minimum granularity, then it is sorted
+     * by {@link DoubleTimSort} directly. The algorithm requires a working space
+     * no greater than the size of the specified range of the original array.
+     * The {@link java.util.concurrent.ForkJoinPool#commonPool() ForkJoin common pool} is
+     * used to execute any parallel tasks.
+     */
+    public static double[] parallelSortSelf(double[] a, int fromIndex, int toIndex, DoubleComparator c) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        if (c == null || c == PrimitiveComparators.DOUBLE_COMPARATOR_INCREASING) {
+            Arrays.parallelSort(a, fromIndex, toIndex);
+        } else if (c == PrimitiveComparators.DOUBLE_COMPARATOR_DECREASING) {
+            Arrays.parallelSort(a, fromIndex, toIndex);
+            ArrayUtilsx.reverseSelf(a, fromIndex, toIndex);
+        } else {
+            DoubleParallelTimSort.parallelSort(a, fromIndex, toIndex, c);
+        }
+        return a;
+    }
+
+    /**
+     * Sorts the specified array according to the order induced by the
+     * specified comparator, in parallel.
+     *
+     * <p>This sort is guaranteed to be <i>stable</i>:  equal elements will
+     * not be reordered as a result of the sort.
+     *
+     * <p>If {@code c} is {@code null}, or is one of the increasing or decreasing
+     * comparators in {@link PrimitiveComparators}, the array is sorted by
+     * {@link Arrays#parallelSort(float[], int, int)} instead, and {@code c} is never called.
+     *
+     * @param a the array to be sorted
+     * @param c the comparator to determine the order of the array.  A
+     *          {@code null} value indicates that the elements'
+     *          {@linkplain Comparable natural ordering} should be used.
+     * @return the original array
+     * @throws java.lang.IllegalArgumentException (optional) if the comparator is
+     *                                            found to violate the {@link java.util.Comparator} contract
+     * @implNote The sorting algorithm is a parallel sort-merge that breaks the
+     * array into sub-arrays that are themselves sorted by {@link FloatTimSort}
+     * and then merged, see {@link FloatParallelTimSort}. If the length of the
+     * specified array is less than the minimum granularity, then it is sorted
+     * by {@link FloatTimSort} directly. The algorithm requires a working space
+     * no greater than the size of the original array. The
+     * {@link java.util.concurrent.ForkJoinPool#commonPool() ForkJoin common pool} is used to
+     * execute any parallel tasks.
+     */
+    public static float[] parallelSortSelf(float[] a, FloatComparator c) {
+        return parallelSortSelf(a, 0, a.length, c);
+    }
+
+    /**
+     * Sorts the specified range of the specified array according to the order
+     * induced by the specified comparator, in parallel.  The range to be
+     * sorted extends from index {@code fromIndex}, inclusive, to index
+     * {@code toIndex}, exclusive.  (If {@code fromIndex==toIndex}, the
+     * range to be sorted is empty.)
+     *
+     * <p>This sort is guaranteed to be <i>stable</i>:  equal elements will
+     * not be reordered as a result of the sort.
+     *
+     * <p>If {@code c} is {@code null}, or is one of the increasing or decreasing
+     * comparators in {@link PrimitiveComparators}, the range is sorted by
+     * {@link Arrays#parallelSort(float[], int, int)} instead, and {@code c} is never called.
+     *
+     * @param a         the array to be sorted
+     * @param fromIndex the index of the first element (inclusive) to be
+     *                  sorted
+     * @param toIndex   the index of the last element (exclusive) to be sorted
+     * @param c         the comparator to determine the order of the array.  A
+     *                  {@code null} value indicates that the elements'
+     *                  {@linkplain Comparable natural ordering} should be used.
+     * @return the original array
+     * @throws java.lang.IllegalArgumentException       if {@code fromIndex > toIndex} or
+     *                                                  (optional) if the comparator is found to violate the
+     *                                                  {@link java.util.Comparator} contract
+     * @throws java.lang.ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                                  {@code toIndex > a.length}
+     * @implNote The sorting algorithm is a parallel sort-merge that breaks the
+     * array into sub-arrays that are themselves sorted by {@link FloatTimSort}
+     * and then merged, see {@link FloatParallelTimSort}. If the length of the
+     * specified range is less than the minimum granularity, then it is sorted
+     * by {@link FloatTimSort} directly. The algorithm requires a working space
+     * no greater than the size of the specified range of the original array.
+     * The {@link java.util.concurrent.ForkJoinPool#commonPool() ForkJoin common pool} is
+     * used to execute any parallel tasks.
+     */
+    public static float[] parallelSortSelf(float[] a, int fromIndex, int toIndex, FloatComparator c) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        if (c == null || c == PrimitiveComparators.FLOAT_COMPARATOR_INCREASING) {
+            Arrays.parallelSort(a, fromIndex, toIndex);
+        } else if (c == PrimitiveComparators.FLOAT_COMPARATOR_DECREASING) {
+            Arrays.parallelSort(a, fromIndex, toIndex);
+            ArrayUtilsx.reverseSelf(a, fromIndex, toIndex);
+        } else {
+            FloatParallelTimSort.parallelSort(a, fromIndex, toIndex, c);
+        }
+        return a;
+    }
+
+    /**
+     * Sorts the specified array according to the order induced by the
+     * specified comparator, in parallel.
+     *
+     * <p>This sort is guaranteed to be <i>stable</i>:  equal elements will
+     * not be reordered as a result of the sort.
+     *
+     * <p>If {@code c} is {@code null}, or is one of the increasing or decreasing
+     * comparators in {@link PrimitiveComparators}, the array is sorted by
+     * {@link CountingSort} instead, and {@code c} is never called.
+     *
+     * @param a the array to be sorted
+     * @param c the comparator to determine the order of the array.  A
+     *          {@code null} value indicates that the elements'
+     *          {@linkplain Comparable natural ordering} should be used.
+     * @return the original array
+     * @throws java.lang.IllegalArgumentException (optional) if the comparator is
+     *                                            found to violate the {@link java.util.Comparator} contract
+     * @implNote The sorting algorithm is a parallel sort-merge that breaks the
+     * array into sub-arrays that are themselves sorted by {@link BooleanTimSort}
+     * and then merged, see {@link BooleanParallelTimSort}. If the length of the
+     * specified array is less than the minimum granularity, then it is sorted
+     * by {@link BooleanTimSort} directly. The algorithm requires a working space
+     * no greater than the size of the original array. The
+     * {@link java.util.concurrent.ForkJoinPool#commonPool() ForkJoin common pool} is used to
+     * execute any parallel tasks.
+     */
+    public static boolean[] parallelSortSelf(boolean[] a, BooleanComparator c) {
+        return parallelSortSelf(a, 0, a.length, c);
+    }
+
+    /**
+     * Sorts the specified range of the specified array according to the order
+     * induced by the specified comparator, in parallel.  The range to be
+     * sorted extends from index {@code fromIndex}, inclusive, to index
+     * {@code toIndex}, exclusive.  (If {@code fromIndex==toIndex}, the
+     * range to be sorted is empty.)
+     *
+     * <p>This sort is guaranteed to be <i>stable</i>:  equal elements will
+     * not be reordered as a result of the sort.
+     *
+     * <p>If {@code c} is {@code null}, or is one of the increasing or decreasing
+     * comparators in {@link PrimitiveComparators}, the range is sorted by
+     * {@link CountingSort} instead, and {@code c} is never called.
+     *
+     * @param a         the array to be sorted
+     * @param fromIndex the index of the first element (inclusive) to be
+     *                  sorted
+     * @param toIndex   the index of the last element (exclusive) to be sorted
+     * @param c         the comparator to determine the order of the array.  A
+     *                  {@code null} value indicates that the elements'
+     *                  {@linkplain Comparable natural ordering} should be used.
+     * @return the original array
+     * @throws java.lang.IllegalArgumentException       if {@code fromIndex > toIndex} or
+     *                                                  (optional) if the comparator is found to violate the
+     *                                                  {@link java.util.Comparator} contract
+     * @throws java.lang.ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                                  {@code toIndex > a.length}
+     * @implNote The sorting algorithm is a parallel sort-merge that breaks the
+     * array into sub-arrays that are themselves sorted by {@link BooleanTimSort}
+     * and then merged, see {@link BooleanParallelTimSort}. If the length of the
+     * specified range is less than the minimum granularity, then it is sorted
+     * by {@link BooleanTimSort} directly. The algorithm requires a working space
+     * no greater than the size of the specified range of the original array.
+     * The {@link java.util.concurrent.ForkJoinPool#commonPool() ForkJoin common pool} is
+     * used to execute any parallel tasks.
+     */
+    public static boolean[] parallelSortSelf(boolean[] a, int fromIndex, int toIndex, BooleanComparator c) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        if (c == null || c == PrimitiveComparators.BOOLEAN_COMPARATOR_INCREASING) {
+            CountingSort.sort(a, fromIndex, toIndex, false);
+        } else if (c == PrimitiveComparators.BOOLEAN_COMPARATOR_DECREASING) {
+            CountingSort.sort(a, fromIndex, toIndex, true);
+        } else {
+            BooleanParallelTimSort.parallelSort(a, fromIndex, toIndex, c);
+        }
+        return a;
+    }
+
     /*
      * Sorting of complex type arrays.
      */
@@ -2090,6 +2742,10 @@ public class Arraysx {
      * Fourth Annual ACM-SIAM Symposium on Discrete Algorithms, pp 467-474,
      * January 1993.
      *
+     * <p>If {@code c} is {@code null}, or is one of the increasing or decreasing
+     * comparators in {@link PrimitiveComparators}, the range is sorted by
+     * {@link RadixSort} instead, and {@code c} is never called.
+     *
      * @param a         the array to be sorted
      * @param fromIndex the index of the first element (inclusive) to be
      *                  sorted
@@ -2107,14 +2763,59 @@ public class Arraysx {
      */
     public static void sort(long[] a, int fromIndex, int toIndex,
                             LongComparator c) {
-        if (c == null) {
-            Arrays.sort(a, fromIndex, toIndex);
+        rangeCheck(a.length, fromIndex, toIndex);
+        if (c == null || c == PrimitiveComparators.LONG_COMPARATOR_INCREASING) {
+            RadixSort.sort(a, fromIndex, toIndex, false);
+        } else if (c == PrimitiveComparators.LONG_COMPARATOR_DECREASING) {
+            RadixSort.sort(a, fromIndex, toIndex, true);
         } else {
-            rangeCheck(a.length, fromIndex, toIndex);
             LongTimSort.sort(a, fromIndex, toIndex, c, null, 0, 0);
         }
     }
 
+    /**
+     * Sorts the specified range of the specified array like {@link #sort(long[], int, int, LongComparator)},
+     * but borrows the temporary buffers of the sort from the pool, and releases them to it afterwards,
+     * instead of allocating them.
+     *
+     * @param a         the array to be sorted
+     * @param fromIndex the index of the first element (inclusive) to be
+     *                  sorted
+     * @param toIndex   the index of the last element (exclusive) to be sorted
+     * @param c         the comparator to determine the order of the array.  A
+     *                  {@code null} value indicates that the elements'
+     *                  {@linkplain Comparable natural ordering} should be used.
+     * @param pool      the pool to borrow temporary buffers from, such as {@link PrimitiveArrayPool#threadLocal()};
+     *                  if null, they are allocated
+     * @throws java.lang.IllegalArgumentException       if {@code fromIndex > toIndex} or
+     *                                                  (optional) if the comparator is found to violate the
+     *                                                  {@link java.util.Comparator} contract
+     * @throws java.lang.ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                                  {@code toIndex > a.length}
+     */
+    public static void sort(long[] a, int fromIndex, int toIndex,
+                            LongComparator c, PrimitiveArrayPool pool) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        if (c == null || c == PrimitiveComparators.LONG_COMPARATOR_INCREASING) {
+            RadixSort.sort(a, fromIndex, toIndex, false, pool);
+        } else if (c == PrimitiveComparators.LONG_COMPARATOR_DECREASING) {
+            RadixSort.sort(a, fromIndex, toIndex, true, pool);
+        } else if (pool == null || toIndex - fromIndex < LongTimSort.MIN_MERGE) {
+            LongTimSort.sort(a, fromIndex, toIndex, c, null, 0, 0);
+        } else {
+            // the merges never need more than half of the range, nor the initial storage, so the work array
+            // is never replaced by the sort.
+            final int workLength = Math.max((toIndex - fromIndex) >>> 1,
+                    Math.min(a.length >>> 1, LongTimSort.INITIAL_TMP_STORAGE_LENGTH));
+            final long[] work = pool.borrowLongArray(workLength);
+            try {
+                LongTimSort.sort(a, fromIndex, toIndex, c, work, 0, work.length);
+            } finally {
+                pool.release(work);
+            }
+        }
+    }
+
     /**
      * Sorts the specified range of the specified array of objects according
      * to the order induced by the specified comparator.  The range to be
@@ -2151,6 +2852,10 @@ public class Arraysx {
      * Fourth Annual ACM-SIAM Symposium on Discrete Algorithms, pp 467-474,
      * January 1993.
      *
+     * <p>If {@code c} is {@code null}, or is one of the increasing or decreasing
+     * comparators in {@link PrimitiveComparators}, the range is sorted by
+     * {@link RadixSort} instead, and {@code c} is never called.
+     *
      * @param a         the array to be sorted
      * @param fromIndex the index of the first element (inclusive) to be
      *                  sorted
@@ -2168,14 +2873,59 @@ public class Arraysx {
      */
     public static void sort(int[] a, int fromIndex, int toIndex,
                             IntComparator c) {
-        if (c == null) {
-            Arrays.sort(a, fromIndex, toIndex);
+        rangeCheck(a.length, fromIndex, toIndex);
+        if (c == null || c == PrimitiveComparators.INT_COMPARATOR_INCREASING) {
+            RadixSort.sort(a, fromIndex, toIndex, false);
+        } else if (c == PrimitiveComparators.INT_COMPARATOR_DECREASING) {
+            RadixSort.sort(a, fromIndex, toIndex, true);
         } else {
-            rangeCheck(a.length, fromIndex, toIndex);
             IntTimSort.sort(a, fromIndex, toIndex, c, null, 0, 0);
         }
     }
 
+    /**
+     * Sorts the specified range of the specified array like {@link #sort(int[], int, int, IntComparator)},
+     * but borrows the temporary buffers of the sort from the pool, and releases them to it afterwards,
+     * instead of allocating them.
+     *
+     * @param a         the array to be sorted
+     * @param fromIndex the index of the first element (inclusive) to be
+     *                  sorted
+     * @param toIndex   the index of the last element (exclusive) to be sorted
+     * @param c         the comparator to determine the order of the array.  A
+     *                  {@code null} value indicates that the elements'
+     *                  {@linkplain Comparable natural ordering} should be used.
+     * @param pool      the pool to borrow temporary buffers from, such as {@link PrimitiveArrayPool#threadLocal()};
+     *                  if null, they are allocated
+     * @throws java.lang.IllegalArgumentException       if {@code fromIndex > toIndex} or
+     *                                                  (optional) if the comparator is found to violate the
+     *                                                  {@link java.util.Comparator} contract
+     * @throws java.lang.ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                                  {@code toIndex > a.length}
+     */
+    public static void sort(int[] a, int fromIndex, int toIndex,
+                            IntComparator c, PrimitiveArrayPool pool) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        if (c == null || c == PrimitiveComparators.INT_COMPARATOR_INCREASING) {
+            RadixSort.sort(a, fromIndex, toIndex, false, pool);
+        } else if (c == PrimitiveComparators.INT_COMPARATOR_DECREASING) {
+            RadixSort.sort(a, fromIndex, toIndex, true, pool);
+        } else if (pool == null || toIndex - fromIndex < IntTimSort.MIN_MERGE) {
+            IntTimSort.sort(a, fromIndex, toIndex, c, null, 0, 0);
+        } else {
+            // the merges never need more than half of the range, nor the initial storage, so the work array
+            // is never replaced by the sort.
+            final int workLength = Math.max((toIndex - fromIndex) >>> 1,
+                    Math.min(a.length >>> 1, IntTimSort.INITIAL_TMP_STORAGE_LENGTH));
+            final int[] work = pool.borrowIntArray(workLength);
+            try {
+                IntTimSort.sort(a, fromIndex, toIndex, c, work, 0, work.length);
+            } finally {
+                pool.release(work);
+            }
+        }
+    }
+
     /**
      * Sorts the specified range of the specified array of objects according
      * to the order induced by the specified comparator.  The range to be
@@ -2212,6 +2962,10 @@ public class Arraysx {
      * Fourth Annual ACM-SIAM Symposium on Discrete Algorithms, pp 467-474,
      * January 1993.
      *
+     * <p>If {@code c} is {@code null}, or is one of the increasing or decreasing
+     * comparators in {@link PrimitiveComparators}, the range is sorted by
+     * {@link RadixSort} instead, and {@code c} is never called.
+     *
      * @param a         the array to be sorted
      * @param fromIndex the index of the first element (inclusive) to be
      *                  sorted
@@ -2229,14 +2983,57 @@ public class Arraysx {
      */
     public static void sort(short[] a, int fromIndex, int toIndex,
                             ShortComparator c) {
-        if (c == null) {
-            Arrays.sort(a, fromIndex, toIndex);
+        rangeCheck(a.length, fromIndex, toIndex);
+        if (c == null || c == PrimitiveComparators.SHORT_COMPARATOR_INCREASING) {
+            RadixSort.sort(a, fromIndex, toIndex, false);
+        } else if (c == PrimitiveComparators.SHORT_COMPARATOR_DECREASING) {
+            RadixSort.sort(a, fromIndex, toIndex, true);
         } else {
-            rangeCheck(a.length, fromIndex, toIndex);
             ShortTimSort.sort(a, fromIndex, toIndex, c, null, 0, 0);
         }
     }
 
+    /**
+     * Sorts the specified range of the specified array like {@link #sort(short[], int, int, ShortComparator)},
+     * but borrows the work array of the merges from the pool, and releases it to it afterwards, instead of
+     * allocating it.
+     *
+     * @param a         the array to be sorted
+     * @param fromIndex the index of the first element (inclusive) to be
+     *                  sorted
+     * @param toIndex   the index of the last element (exclusive) to be sorted
+     * @param c         the comparator to determine the order of the array.  A
+     *                  {@code null} value indicates that the elements'
+     *                  {@linkplain Comparable natural ordering} should be used.
+     * @param pool      the pool to borrow the work array from, such as {@link PrimitiveArrayPool#threadLocal()};
+     *                  if null, it is allocated
+     * @throws java.lang.IllegalArgumentException       if {@code fromIndex > toIndex} or
+     *                                                  (optional) if the comparator is found to violate the
+     *                                                  {@link java.util.Comparator} contract
+     * @throws java.lang.ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                                  {@code toIndex > a.length}
+     */
+    public static void sort(short[] a, int fromIndex, int toIndex,
+                            ShortComparator c, PrimitiveArrayPool pool) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        if (c == null || c == PrimitiveComparators.SHORT_COMPARATOR_INCREASING
+                || c == PrimitiveComparators.SHORT_COMPARATOR_DECREASING
+                || pool == null || toIndex - fromIndex < ShortTimSort.MIN_MERGE) {
+            sort(a, fromIndex, toIndex, c);
+        } else {
+            // the merges never need more than half of the range, nor the initial storage, so the work array
+            // is never replaced by the sort.
+            final int workLength = Math.max((toIndex - fromIndex) >>> 1,
+                    Math.min(a.length >>> 1, ShortTimSort.INITIAL_TMP_STORAGE_LENGTH));
+            final short[] work = pool.borrowShortArray(workLength);
+            try {
+                ShortTimSort.sort(a, fromIndex, toIndex, c, work, 0, work.length);
+            } finally {
+                pool.release(work);
+            }
+        }
+    }
+
     /**
      * Sorts the specified range of the specified array of objects according
      * to the order induced by the specified comparator.  The range to be
@@ -2273,6 +3070,10 @@ public class Arraysx {
      * Fourth Annual ACM-SIAM Symposium on Discrete Algorithms, pp 467-474,
      * January 1993.
      *
+     * <p>If {@code c} is {@code null}, or is one of the increasing or decreasing
+     * comparators in {@link PrimitiveComparators}, the range is sorted by
+     * {@link RadixSort} instead, and {@code c} is never called.
+     *
      * @param a         the array to be sorted
      * @param fromIndex the index of the first element (inclusive) to be
      *                  sorted
@@ -2290,14 +3091,57 @@ public class Arraysx {
      */
     public static void sort(char[] a, int fromIndex, int toIndex,
                             CharComparator c) {
-        if (c == null) {
-            Arrays.sort(a, fromIndex, toIndex);
+        rangeCheck(a.length, fromIndex, toIndex);
+        if (c == null || c == PrimitiveComparators.CHAR_COMPARATOR_INCREASING) {
+            RadixSort.sort(a, fromIndex, toIndex, false);
+        } else if (c == PrimitiveComparators.CHAR_COMPARATOR_DECREASING) {
+            RadixSort.sort(a, fromIndex, toIndex, true);
         } else {
-            rangeCheck(a.length, fromIndex, toIndex);
             CharTimSort.sort(a, fromIndex, toIndex, c, null, 0, 0);
         }
     }
 
+    /**
+     * Sorts the specified range of the specified array like {@link #sort(char[], int, int, CharComparator)},
+     * but borrows the work array of the merges from the pool, and releases it to it afterwards, instead of
+     * allocating it.
+     *
+     * @param a         the array to be sorted
+     * @param fromIndex the index of the first element (inclusive) to be
+     *                  sorted
+     * @param toIndex   the index of the last element (exclusive) to be sorted
+     * @param c         the comparator to determine the order of the array.  A
+     *                  {@code null} value indicates that the elements'
+     *                  {@linkplain Comparable natural ordering} should be used.
+     * @param pool      the pool to borrow the work array from, such as {@link PrimitiveArrayPool#threadLocal()};
+     *                  if null, it is allocated
+     * @throws java.lang.IllegalArgumentException       if {@code fromIndex > toIndex} or
+     *                                                  (optional) if the comparator is found to violate the
+     *                                                  {@link java.util.Comparator} contract
+     * @throws java.lang.ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                                  {@code toIndex > a.length}
+     */
+    public static void sort(char[] a, int fromIndex, int toIndex,
+                            CharComparator c, PrimitiveArrayPool pool) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        if (c == null || c == PrimitiveComparators.CHAR_COMPARATOR_INCREASING
+                || c == PrimitiveComparators.CHAR_COMPARATOR_DECREASING
+                || pool == null || toIndex - fromIndex < CharTimSort.MIN_MERGE) {
+            sort(a, fromIndex, toIndex, c);
+        } else {
+            // the merges never need more than half of the range, nor the initial storage, so the work array
+            // is never replaced by the sort.
+            final int workLength = Math.max((toIndex - fromIndex) >>> 1,
+                    Math.min(a.length >>> 1, CharTimSort.INITIAL_TMP_STORAGE_LENGTH));
+            final char[] work = pool.borrowCharArray(workLength);
+            try {
+                CharTimSort.sort(a, fromIndex, toIndex, c, work, 0, work.length);
+            } finally {
+                pool.release(work);
+            }
+        }
+    }
+
     /**
      * Sorts the specified range of the specified array of objects according
      * to the order induced by the specified comparator.  The range to be
@@ -2334,6 +3178,10 @@ public class Arraysx {
      * Fourth Annual ACM-SIAM Symposium on Discrete Algorithms, pp 467-474,
      * January 1993.
      *
+     * <p>If {@code c} is {@code null}, or is one of the increasing or decreasing
+     * comparators in {@link PrimitiveComparators}, the range is sorted by
+     * {@link CountingSort} instead, and {@code c} is never called.
+     *
      * @param a         the array to be sorted
      * @param fromIndex the index of the first element (inclusive) to be
      *                  sorted
@@ -2351,14 +3199,57 @@ public class Arraysx {
      */
     public static void sort(byte[] a, int fromIndex, int toIndex,
                             ByteComparator c) {
-        if (c == null) {
-            Arrays.sort(a, fromIndex, toIndex);
+        rangeCheck(a.length, fromIndex, toIndex);
+        if (c == null || c == PrimitiveComparators.BYTE_COMPARATOR_INCREASING) {
+            CountingSort.sort(a, fromIndex, toIndex, false);
+        } else if (c == PrimitiveComparators.BYTE_COMPARATOR_DECREASING) {
+            CountingSort.sort(a, fromIndex, toIndex, true);
         } else {
-            rangeCheck(a.length, fromIndex, toIndex);
             ByteTimSort.sort(a, fromIndex, toIndex, c, null, 0, 0);
         }
     }
 
+    /**
+     * Sorts the specified range of the specified array like {@link #sort(byte[], int, int, ByteComparator)},
+     * but borrows the work array of the merges from the pool, and releases it to it afterwards, instead of
+     * allocating it.
+     *
+     * @param a         the array to be sorted
+     * @param fromIndex the index of the first element (inclusive) to be
+     *                  sorted
+     * @param toIndex   the index of the last element (exclusive) to be sorted
+     * @param c         the comparator to determine the order of the array.  A
+     *                  {@code null} value indicates that the elements'
+     *                  {@linkplain Comparable natural ordering} should be used.
+     * @param pool      the pool to borrow the work array from, such as {@link PrimitiveArrayPool#threadLocal()};
+     *                  if null, it is allocated
+     * @throws java.lang.IllegalArgumentException       if {@code fromIndex > toIndex} or
+     *                                                  (optional) if the comparator is found to violate the
+     *                                                  {@link java.util.Comparator} contract
+     * @throws java.lang.ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                                  {@code toIndex > a.length}
+     */
+    public static void sort(byte[] a, int fromIndex, int toIndex,
+                            ByteComparator c, PrimitiveArrayPool pool) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        if (c == null || c == PrimitiveComparators.BYTE_COMPARATOR_INCREASING
+                || c == PrimitiveComparators.BYTE_COMPARATOR_DECREASING
+                || pool == null || toIndex - fromIndex < ByteTimSort.MIN_MERGE) {
+            sort(a, fromIndex, toIndex, c);
+        } else {
+            // the merges never need more than half of the range, nor the initial storage, so the work array
+            // is never replaced by the sort.
+            final int workLength = Math.max((toIndex - fromIndex) >>> 1,
+                    Math.min(a.length >>> 1, ByteTimSort.INITIAL_TMP_STORAGE_LENGTH));
+            final byte[] work = pool.borrowByteArray(workLength);
+            try {
+                ByteTimSort.sort(a, fromIndex, toIndex, c, work, 0, work.length);
+            } finally {
+                pool.release(work);
+            }
+        }
+    }
+
     /**
      * Sorts the specified range of the specified array of objects according
      * to the order induced by the specified comparator.  The range to be
@@ -2395,6 +3286,10 @@ public class Arraysx {
      * Fourth Annual ACM-SIAM Symposium on Discrete Algorithms, pp 467-474,
      * January 1993.
      *
+     * <p>If {@code c} is {@code null}, or is one of the increasing or decreasing
+     * comparators in {@link PrimitiveComparators}, the range is sorted by
+     * {@link Arrays#sort} instead, and {@code c} is never called.
+     *
      * @param a         the array to be sorted
      * @param fromIndex the index of the first element (inclusive) to be
      *                  sorted
@@ -2412,14 +3307,58 @@ public class Arraysx {
      */
     public static void sort(double[] a, int fromIndex, int toIndex,
                             DoubleComparator c) {
-        if (c == null) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        if (c == null || c == PrimitiveComparators.DOUBLE_COMPARATOR_INCREASING) {
+            Arrays.sort(a, fromIndex, toIndex);
+        } else if (c == PrimitiveComparators.DOUBLE_COMPARATOR_DECREASING) {
             Arrays.sort(a, fromIndex, toIndex);
+            ArrayUtilsx.reverseSelf(a, fromIndex, toIndex);
         } else {
-            rangeCheck(a.length, fromIndex, toIndex);
             DoubleTimSort.sort(a, fromIndex, toIndex, c, null, 0, 0);
         }
     }
 
+    /**
+     * Sorts the specified range of the specified array like {@link #sort(double[], int, int, DoubleComparator)},
+     * but borrows the work array of the merges from the pool, and releases it to it afterwards, instead of
+     * allocating it.
+     *
+     * @param a         the array to be sorted
+     * @param fromIndex the index of the first element (inclusive) to be
+     *                  sorted
+     * @param toIndex   the index of the last element (exclusive) to be sorted
+     * @param c         the comparator to determine the order of the array.  A
+     *                  {@code null} value indicates that the elements'
+     *                  {@linkplain Comparable natural ordering} should be used.
+     * @param pool      the pool to borrow the work array from, such as {@link PrimitiveArrayPool#threadLocal()};
+     *                  if null, it is allocated
+     * @throws java.lang.IllegalArgumentException       if {@code fromIndex > toIndex} or
+     *                                                  (optional) if the comparator is found to violate the
+     *                                                  {@link java.util.Comparator} contract
+     * @throws java.lang.ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                                  {@code toIndex > a.length}
+     */
+    public static void sort(double[] a, int fromIndex, int toIndex,
+                            DoubleComparator c, PrimitiveArrayPool pool) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        if (c == null || c == PrimitiveComparators.DOUBLE_COMPARATOR_INCREASING
+                || c == PrimitiveComparators.DOUBLE_COMPARATOR_DECREASING
+                || pool == null || toIndex - fromIndex < DoubleTimSort.MIN_MERGE) {
+            sort(a, fromIndex, toIndex, c);
+        } else {
+            // the merges never need more than half of the range, nor the initial storage, so the work array
+            // is never replaced by the sort.
+            final int workLength = Math.max((toIndex - fromIndex) >>> 1,
+                    Math.min(a.length >>> 1, DoubleTimSort.INITIAL_TMP_STORAGE_LENGTH));
+            final double[] work = pool.borrowDoubleArray(workLength);
+            try {
+                DoubleTimSort.sort(a, fromIndex, toIndex, c, work, 0, work.length);
+            } finally {
+                pool.release(work);
+            }
+        }
+    }
+
 
     /**
      * Sorts the specified range of the specified array of objects according
@@ -2457,6 +3396,10 @@ public class Arraysx {
      * Fourth Annual ACM-SIAM Symposium on Discrete Algorithms, pp 467-474,
      * January 1993.
      *
+     * <p>If {@code c} is {@code null}, or is one of the increasing or decreasing
+     * comparators in {@link PrimitiveComparators}, the range is sorted by
+     * {@link Arrays#sort} instead, and {@code c} is never called.
+     *
      * @param a         the array to be sorted
      * @param fromIndex the index of the first element (inclusive) to be
      *                  sorted
@@ -2474,14 +3417,58 @@ public class Arraysx {
      */
     public static void sort(float[] a, int fromIndex, int toIndex,
                             FloatComparator c) {
-        if (c == null) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        if (c == null || c == PrimitiveComparators.FLOAT_COMPARATOR_INCREASING) {
             Arrays.sort(a, fromIndex, toIndex);
+        } else if (c == PrimitiveComparators.FLOAT_COMPARATOR_DECREASING) {
+            Arrays.sort(a, fromIndex, toIndex);
+            ArrayUtilsx.reverseSelf(a, fromIndex, toIndex);
         } else {
-            rangeCheck(a.length, fromIndex, toIndex);
             FloatTimSort.sort(a, fromIndex, toIndex, c, null, 0, 0);
         }
     }
 
+    /**
+     * Sorts the specified range of the specified array like {@link #sort(float[], int, int, FloatComparator)},
+     * but borrows the work array of the merges from the pool, and releases it to it afterwards, instead of
+     * allocating it.
+     *
+     * @param a         the array to be sorted
+     * @param fromIndex the index of the first element (inclusive) to be
+     *                  sorted
+     * @param toIndex   the index of the last element (exclusive) to be sorted
+     * @param c         the comparator to determine the order of the array.  A
+     *                  {@code null} value indicates that the elements'
+     *                  {@linkplain Comparable natural ordering} should be used.
+     * @param pool      the pool to borrow the work array from, such as {@link PrimitiveArrayPool#threadLocal()};
+     *                  if null, it is allocated
+     * @throws java.lang.IllegalArgumentException       if {@code fromIndex > toIndex} or
+     *                                                  (optional) if the comparator is found to violate the
+     *                                                  {@link java.util.Comparator} contract
+     * @throws java.lang.ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                                  {@code toIndex > a.length}
+     */
+    public static void sort(float[] a, int fromIndex, int toIndex,
+                            FloatComparator c, PrimitiveArrayPool pool) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        if (c == null || c == PrimitiveComparators.FLOAT_COMPARATOR_INCREASING
+                || c == PrimitiveComparators.FLOAT_COMPARATOR_DECREASING
+                || pool == null || toIndex - fromIndex < FloatTimSort.MIN_MERGE) {
+            sort(a, fromIndex, toIndex, c);
+        } else {
+            // the merges never need more than half of the range, nor the initial storage, so the work array
+            // is never replaced by the sort.
+            final int workLength = Math.max((toIndex - fromIndex) >>> 1,
+                    Math.min(a.length >>> 1, FloatTimSort.INITIAL_TMP_STORAGE_LENGTH));
+            final float[] work = pool.borrowFloatArray(workLength);
+            try {
+                FloatTimSort.sort(a, fromIndex, toIndex, c, work, 0, work.length);
+            } finally {
+                pool.release(work);
+            }
+        }
+    }
+
     /**
      * Sorts the specified range of the specified array of objects according
      * to the order induced by the specified comparator.  The range to be
@@ -2518,6 +3505,10 @@ public class Arraysx {
      * Fourth Annual ACM-SIAM Symposium on Discrete Algorithms, pp 467-474,
      * January 1993.
      *
+     * <p>If {@code c} is {@code null}, or is one of the increasing or decreasing
+     * comparators in {@link PrimitiveComparators}, the range is sorted by
+     * {@link CountingSort} instead, and {@code c} is never called.
+     *
      * @param a         the array to be sorted
      * @param fromIndex the index of the first element (inclusive) to be
      *                  sorted
@@ -2535,14 +3526,57 @@ public class Arraysx {
      */
     public static void sort(boolean[] a, int fromIndex, int toIndex,
                             BooleanComparator c) {
-        if (c == null) {
-            Arraysx.sort(a, fromIndex, toIndex);
+        rangeCheck(a.length, fromIndex, toIndex);
+        if (c == null || c == PrimitiveComparators.BOOLEAN_COMPARATOR_INCREASING) {
+            CountingSort.sort(a, fromIndex, toIndex, false);
+        } else if (c == PrimitiveComparators.BOOLEAN_COMPARATOR_DECREASING) {
+            CountingSort.sort(a, fromIndex, toIndex, true);
         } else {
-            rangeCheck(a.length, fromIndex, toIndex);
             BooleanTimSort.sort(a, fromIndex, toIndex, c, null, 0, 0);
         }
     }
 
+    /**
+     * Sorts the specified range of the specified array like {@link #sort(boolean[], int, int, BooleanComparator)},
+     * but borrows the work array of the merges from the pool, and releases it to it afterwards, instead of
+     * allocating it.
+     *
+     * @param a         the array to be sorted
+     * @param fromIndex the index of the first element (inclusive) to be
+     *                  sorted
+     * @param toIndex   the index of the last element (exclusive) to be sorted
+     * @param c         the comparator to determine the order of the array.  A
+     *                  {@code null} value indicates that the elements'
+     *                  {@linkplain Comparable natural ordering} should be used.
+     * @param pool      the pool to borrow the work array from, such as {@link PrimitiveArrayPool#threadLocal()};
+     *                  if null, it is allocated
+     * @throws java.lang.IllegalArgumentException       if {@code fromIndex > toIndex} or
+     *                                                  (optional) if the comparator is found to violate the
+     *                                                  {@link java.util.Comparator} contract
+     * @throws java.lang.ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *                                                  {@code toIndex > a.length}
+     */
+    public static void sort(boolean[] a, int fromIndex, int toIndex,
+                            BooleanComparator c, PrimitiveArrayPool pool) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        if (c == null || c == PrimitiveComparators.BOOLEAN_COMPARATOR_INCREASING
+                || c == PrimitiveComparators.BOOLEAN_COMPARATOR_DECREASING
+                || pool == null || toIndex - fromIndex < BooleanTimSort.MIN_MERGE) {
+            sort(a, fromIndex, toIndex, c);
+        } else {
+            // the merges never need more than half of the range, nor the initial storage, so the work array
+            // is never replaced by the sort.
+            final int workLength = Math.max((toIndex - fromIndex) >>> 1,
+                    Math.min(a.length >>> 1, BooleanTimSort.INITIAL_TMP_STORAGE_LENGTH));
+            final boolean[] work = pool.borrowBooleanArray(workLength);
+            try {
+                BooleanTimSort.sort(a, fromIndex, toIndex, c, work, 0, work.length);
+            } finally {
+                pool.release(work);
+            }
+        }
+    }
+
 
     /**
      * Sorts the specified range of the array into ascending order. The range
@@ -2558,15 +3592,7 @@ public class Arraysx {
      */
     public static void sort(boolean[] a, int fromIndex, int toIndex) {
         rangeCheck(a.length, fromIndex, toIndex);
-        int trueCount = 0;
-        int i;
-        int limit;
-        for (i = fromIndex - 1; ++i < toIndex; trueCount += a[i] ? 1 : 0) {
-        }
-        for (limit = toIndex - trueCount; --i >= limit; a[i] = true) {
-        }
-        for (i++; --i >= fromIndex; a[i] = false) {
-        }
+        CountingSort.sort(a, fromIndex, toIndex, false);
     }
 
 //    public <T> T[] distinct(T[] originalArray) {
@@ -0,0 +1,845 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 XenoAmess
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.xenoamess.commonx.java.util;
+
+import java.util.Arrays;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Search, comparison and hashing of ranges of primitive arrays, the hot loops of the primitive array lists.
+ * <p>
+ * This is the Java 17 version. Comparison uses {@link Arrays#mismatch}, which the JVM vectorizes.
+ * Search and hashing of {@code int[]} and {@code long[]} use the Vector API when the module
+ * {@code jdk.incubator.vector} is present at run time, that is, when the JVM is started with
+ * {@code --add-modules jdk.incubator.vector}; otherwise they, and those of the other types, are the scalar loops
+ * of the portable version. Both versions return the same results.
+ * <p>
+ * Ranges are not checked; callers shall pass valid ones.
+ *
+ * @author XenoAmess
+ * @version 0.14.0
+ * @see java.util.Arrays
+ */
+public class ArraysRangeUtilsx {
+    /**
+     * <p>Instances of this class should NOT be constructed in standard programming.
+     *
+     * <p>This constructor is public to permit tools that require a JavaBean instance
+     * to operate.
+     */
+    public ArraysRangeUtilsx() {
+        super();
+    }
+
+    /**
+     * If the Vector API can be used.
+     * {@link VectorKernels} is only loaded when it is true, so that a missing module never breaks this class.
+     */
+    private static final boolean VECTORIZED =
+            ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    /**
+     * Ranges shorter than this are handled by the scalar loops, as setting up the vectors costs more.
+     */
+    private static final int VECTOR_THRESHOLD = 32;
+
+    private static final int P2 = 31 * 31;
+
+    private static final int P3 = 31 * 31 * 31;
+
+    private static final int P4 = 31 * 31 * 31 * 31;
+
+    /**
+     * Returns the index of the first element equal to key in a[from, to), or -1 if there is none.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @param key  the value to search for
+     * @return the index, or -1
+     */
+    public static int indexOf(int[] a, int from, int to, int key) {
+        if (VECTORIZED && to - from >= VECTOR_THRESHOLD) {
+            return VectorKernels.indexOf(a, from, to, key);
+        }
+        for (int i = from; i < to; i++) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first element equal to key in a[from, to), or -1 if there is none.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @param key  the value to search for
+     * @return the index, or -1
+     */
+    public static int indexOf(long[] a, int from, int to, long key) {
+        if (VECTORIZED && to - from >= VECTOR_THRESHOLD) {
+            return VectorKernels.indexOf(a, from, to, key);
+        }
+        for (int i = from; i < to; i++) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first element equal to key in a[from, to), or -1 if there is none.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @param key  the value to search for
+     * @return the index, or -1
+     */
+    public static int indexOf(short[] a, int from, int to, short key) {
+        for (int i = from; i < to; i++) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first element equal to key in a[from, to), or -1 if there is none.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @param key  the value to search for
+     * @return the index, or -1
+     */
+    public static int indexOf(char[] a, int from, int to, char key) {
+        for (int i = from; i < to; i++) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first element equal to key in a[from, to), or -1 if there is none.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @param key  the value to search for
+     * @return the index, or -1
+     */
+    public static int indexOf(byte[] a, int from, int to, byte key) {
+        for (int i = from; i < to; i++) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first element equal to key in a[from, to), or -1 if there is none.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @param key  the value to search for
+     * @return the index, or -1
+     */
+    public static int indexOf(double[] a, int from, int to, double key) {
+        for (int i = from; i < to; i++) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first element equal to key in a[from, to), or -1 if there is none.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @param key  the value to search for
+     * @return the index, or -1
+     */
+    public static int indexOf(float[] a, int from, int to, float key) {
+        for (int i = from; i < to; i++) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first element equal to key in a[from, to), or -1 if there is none.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @param key  the value to search for
+     * @return the index, or -1
+     */
+    public static int indexOf(boolean[] a, int from, int to, boolean key) {
+        for (int i = from; i < to; i++) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last element equal to key in a[from, to), or -1 if there is none.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @param key  the value to search for
+     * @return the index, or -1
+     */
+    public static int lastIndexOf(int[] a, int from, int to, int key) {
+        if (VECTORIZED && to - from >= VECTOR_THRESHOLD) {
+            return VectorKernels.lastIndexOf(a, from, to, key);
+        }
+        for (int i = to - 1; i >= from; i--) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last element equal to key in a[from, to), or -1 if there is none.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @param key  the value to search for
+     * @return the index, or -1
+     */
+    public static int lastIndexOf(long[] a, int from, int to, long key) {
+        if (VECTORIZED && to - from >= VECTOR_THRESHOLD) {
+            return VectorKernels.lastIndexOf(a, from, to, key);
+        }
+        for (int i = to - 1; i >= from; i--) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last element equal to key in a[from, to), or -1 if there is none.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @param key  the value to search for
+     * @return the index, or -1
+     */
+    public static int lastIndexOf(short[] a, int from, int to, short key) {
+        for (int i = to - 1; i >= from; i--) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last element equal to key in a[from, to), or -1 if there is none.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @param key  the value to search for
+     * @return the index, or -1
+     */
+    public static int lastIndexOf(char[] a, int from, int to, char key) {
+        for (int i = to - 1; i >= from; i--) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last element equal to key in a[from, to), or -1 if there is none.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @param key  the value to search for
+     * @return the index, or -1
+     */
+    public static int lastIndexOf(byte[] a, int from, int to, byte key) {
+        for (int i = to - 1; i >= from; i--) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last element equal to key in a[from, to), or -1 if there is none.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @param key  the value to search for
+     * @return the index, or -1
+     */
+    public static int lastIndexOf(double[] a, int from, int to, double key) {
+        for (int i = to - 1; i >= from; i--) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last element equal to key in a[from, to), or -1 if there is none.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @param key  the value to search for
+     * @return the index, or -1
+     */
+    public static int lastIndexOf(float[] a, int from, int to, float key) {
+        for (int i = to - 1; i >= from; i--) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last element equal to key in a[from, to), or -1 if there is none.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @param key  the value to search for
+     * @return the index, or -1
+     */
+    public static int lastIndexOf(boolean[] a, int from, int to, boolean key) {
+        for (int i = to - 1; i >= from; i--) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the relative index of the first mismatch between a[aFrom, aFrom + length) and
+     * b[bFrom, bFrom + length), or -1 if the ranges are equal.
+     *
+     * @param a      the first array
+     * @param aFrom  start index in a, inclusive
+     * @param b      the second array
+     * @param bFrom  start index in b, inclusive
+     * @param length length of the ranges
+     * @return the relative index of the first mismatch, or -1
+     */
+    public static int mismatch(int[] a, int aFrom, int[] b, int bFrom, int length) {
+        return Arrays.mismatch(a, aFrom, aFrom + length, b, bFrom, bFrom + length);
+    }
+
+    /**
+     * Returns the relative index of the first mismatch between a[aFrom, aFrom + length) and
+     * b[bFrom, bFrom + length), or -1 if the ranges are equal.
+     *
+     * @param a      the first array
+     * @param aFrom  start index in a, inclusive
+     * @param b      the second array
+     * @param bFrom  start index in b, inclusive
+     * @param length length of the ranges
+     * @return the relative index of the first mismatch, or -1
+     */
+    public static int mismatch(long[] a, int aFrom, long[] b, int bFrom, int length) {
+        return Arrays.mismatch(a, aFrom, aFrom + length, b, bFrom, bFrom + length);
+    }
+
+    /**
+     * Returns the relative index of the first mismatch between a[aFrom, aFrom + length) and
+     * b[bFrom, bFrom + length), or -1 if the ranges are equal.
+     *
+     * @param a      the first array
+     * @param aFrom  start index in a, inclusive
+     * @param b      the second array
+     * @param bFrom  start index in b, inclusive
+     * @param length length of the ranges
+     * @return the relative index of the first mismatch, or -1
+     */
+    public static int mismatch(short[] a, int aFrom, short[] b, int bFrom, int length) {
+        return Arrays.mismatch(a, aFrom, aFrom + length, b, bFrom, bFrom + length);
+    }
+
+    /**
+     * Returns the relative index of the first mismatch between a[aFrom, aFrom + length) and
+     * b[bFrom, bFrom + length), or -1 if the ranges are equal.
+     *
+     * @param a      the first array
+     * @param aFrom  start index in a, inclusive
+     * @param b      the second array
+     * @param bFrom  start index in b, inclusive
+     * @param length length of the ranges
+     * @return the relative index of the first mismatch, or -1
+     */
+    public static int mismatch(char[] a, int aFrom, char[] b, int bFrom, int length) {
+        return Arrays.mismatch(a, aFrom, aFrom + length, b, bFrom, bFrom + length);
+    }
+
+    /**
+     * Returns the relative index of the first mismatch between a[aFrom, aFrom + length) and
+     * b[bFrom, bFrom + length), or -1 if the ranges are equal.
+     *
+     * @param a      the first array
+     * @param aFrom  start index in a, inclusive
+     * @param b      the second array
+     * @param bFrom  start index in b, inclusive
+     * @param length length of the ranges
+     * @return the relative index of the first mismatch, or -1
+     */
+    public static int mismatch(byte[] a, int aFrom, byte[] b, int bFrom, int length) {
+        return Arrays.mismatch(a, aFrom, aFrom + length, b, bFrom, bFrom + length);
+    }
+
+    /**
+     * Returns the relative index of the first mismatch between a[aFrom, aFrom + length) and
+     * b[bFrom, bFrom + length), or -1 if the ranges are equal.
+     * <p>
+     * Elements are compared as by {@link Double#equals(Object)}.
+     *
+     * @param a      the first array
+     * @param aFrom  start index in a, inclusive
+     * @param b      the second array
+     * @param bFrom  start index in b, inclusive
+     * @param length length of the ranges
+     * @return the relative index of the first mismatch, or -1
+     */
+    public static int mismatch(double[] a, int aFrom, double[] b, int bFrom, int length) {
+        return Arrays.mismatch(a, aFrom, aFrom + length, b, bFrom, bFrom + length);
+    }
+
+    /**
+     * Returns the relative index of the first mismatch between a[aFrom, aFrom + length) and
+     * b[bFrom, bFrom + length), or -1 if the ranges are equal.
+     * <p>
+     * Elements are compared as by {@link Float#equals(Object)}.
+     *
+     * @param a      the first array
+     * @param aFrom  start index in a, inclusive
+     * @param b      the second array
+     * @param bFrom  start index in b, inclusive
+     * @param length length of the ranges
+     * @return the relative index of the first mismatch, or -1
+     */
+    public static int mismatch(float[] a, int aFrom, float[] b, int bFrom, int length) {
+        return Arrays.mismatch(a, aFrom, aFrom + length, b, bFrom, bFrom + length);
+    }
+
+    /**
+     * Returns the relative index of the first mismatch between a[aFrom, aFrom + length) and
+     * b[bFrom, bFrom + length), or -1 if the ranges are equal.
+     *
+     * @param a      the first array
+     * @param aFrom  start index in a, inclusive
+     * @param b      the second array
+     * @param bFrom  start index in b, inclusive
+     * @param length length of the ranges
+     * @return the relative index of the first mismatch, or -1
+     */
+    public static int mismatch(boolean[] a, int aFrom, boolean[] b, int bFrom, int length) {
+        return Arrays.mismatch(a, aFrom, aFrom + length, b, bFrom, bFrom + length);
+    }
+
+    /**
+     * Returns the hash code of a[from, to), as defined by {@link java.util.List#hashCode()} for the list of the
+     * elements.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @return the hash code
+     */
+    public static int hashCode(int[] a, int from, int to) {
+        if (VECTORIZED && to - from >= VECTOR_THRESHOLD) {
+            return VectorKernels.hashCode(a, from, to);
+        }
+        int hashCode = 1;
+        int i = from;
+        for (final int bound = to - 3; i < bound; i += 4) {
+            hashCode = P4 * hashCode + P3 * a[i] + P2 * a[i + 1] + 31 * a[i + 2] + a[i + 3];
+        }
+        for (; i < to; i++) {
+            hashCode = 31 * hashCode + a[i];
+        }
+        return hashCode;
+    }
+
+    /**
+     * Returns the hash code of a[from, to), as defined by {@link java.util.List#hashCode()} for the list of the
+     * elements.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @return the hash code
+     */
+    public static int hashCode(long[] a, int from, int to) {
+        if (VECTORIZED && to - from >= VECTOR_THRESHOLD) {
+            return VectorKernels.hashCode(a, from, to);
+        }
+        int hashCode = 1;
+        int i = from;
+        for (final int bound = to - 3; i < bound; i += 4) {
+            hashCode = P4 * hashCode + P3 * Long.hashCode(a[i]) + P2 * Long.hashCode(a[i + 1])
+                    + 31 * Long.hashCode(a[i + 2]) + Long.hashCode(a[i + 3]);
+        }
+        for (; i < to; i++) {
+            hashCode = 31 * hashCode + Long.hashCode(a[i]);
+        }
+        return hashCode;
+    }
+
+    /**
+     * Returns the hash code of a[from, to), as defined by {@link java.util.List#hashCode()} for the list of the
+     * elements.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @return the hash code
+     * @see #hashCode(int[], int, int)
+     */
+    public static int hashCode(short[] a, int from, int to) {
+        int hashCode = 1;
+        int i = from;
+        for (final int bound = to - 3; i < bound; i += 4) {
+            hashCode = P4 * hashCode + P3 * a[i] + P2 * a[i + 1]
+                    + 31 * a[i + 2] + a[i + 3];
+        }
+        for (; i < to; i++) {
+            hashCode = 31 * hashCode + a[i];
+        }
+        return hashCode;
+    }
+
+    /**
+     * Returns the hash code of a[from, to), as defined by {@link java.util.List#hashCode()} for the list of the
+     * elements.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @return the hash code
+     * @see #hashCode(int[], int, int)
+     */
+    public static int hashCode(char[] a, int from, int to) {
+        int hashCode = 1;
+        int i = from;
+        for (final int bound = to - 3; i < bound; i += 4) {
+            hashCode = P4 * hashCode + P3 * a[i] + P2 * a[i + 1]
+                    + 31 * a[i + 2] + a[i + 3];
+        }
+        for (; i < to; i++) {
+            hashCode = 31 * hashCode + a[i];
+        }
+        return hashCode;
+    }
+
+    /**
+     * Returns the hash code of a[from, to), as defined by {@link java.util.List#hashCode()} for the list of the
+     * elements.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @return the hash code
+     * @see #hashCode(int[], int, int)
+     */
+    public static int hashCode(byte[] a, int from, int to) {
+        int hashCode = 1;
+        int i = from;
+        for (final int bound = to - 3; i < bound; i += 4) {
+            hashCode = P4 * hashCode + P3 * a[i] + P2 * a[i + 1]
+                    + 31 * a[i + 2] + a[i + 3];
+        }
+        for (; i < to; i++) {
+            hashCode = 31 * hashCode + a[i];
+        }
+        return hashCode;
+    }
+
+    /**
+     * Returns the hash code of a[from, to), as defined by {@link java.util.List#hashCode()} for the list of the
+     * elements.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @return the hash code
+     * @see #hashCode(int[], int, int)
+     */
+    public static int hashCode(double[] a, int from, int to) {
+        int hashCode = 1;
+        int i = from;
+        for (final int bound = to - 3; i < bound; i += 4) {
+            hashCode = P4 * hashCode + P3 * Double.hashCode(a[i]) + P2 * Double.hashCode(a[i + 1])
+                    + 31 * Double.hashCode(a[i + 2]) + Double.hashCode(a[i + 3]);
+        }
+        for (; i < to; i++) {
+            hashCode = 31 * hashCode + Double.hashCode(a[i]);
+        }
+        return hashCode;
+    }
+
+    /**
+     * Returns the hash code of a[from, to), as defined by {@link java.util.List#hashCode()} for the list of the
+     * elements.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @return the hash code
+     * @see #hashCode(int[], int, int)
+     */
+    public static int hashCode(float[] a, int from, int to) {
+        int hashCode = 1;
+        int i = from;
+        for (final int bound = to - 3; i < bound; i += 4) {
+            hashCode = P4 * hashCode + P3 * Float.hashCode(a[i]) + P2 * Float.hashCode(a[i + 1])
+                    + 31 * Float.hashCode(a[i + 2]) + Float.hashCode(a[i + 3]);
+        }
+        for (; i < to; i++) {
+            hashCode = 31 * hashCode + Float.hashCode(a[i]);
+        }
+        return hashCode;
+    }
+
+    /**
+     * Returns the hash code of a[from, to), as defined by {@link java.util.List#hashCode()} for the list of the
+     * elements.
+     *
+     * @param a    the array
+     * @param from start index, inclusive
+     * @param to   end index, exclusive
+     * @return the hash code
+     * @see #hashCode(int[], int, int)
+     */
+    public static int hashCode(boolean[] a, int from, int to) {
+        int hashCode = 1;
+        int i = from;
+        for (final int bound = to - 3; i < bound; i += 4) {
+            hashCode = P4 * hashCode + P3 * Boolean.hashCode(a[i]) + P2 * Boolean.hashCode(a[i + 1])
+                    + 31 * Boolean.hashCode(a[i + 2]) + Boolean.hashCode(a[i + 3]);
+        }
+        for (; i < to; i++) {
+            hashCode = 31 * hashCode + Boolean.hashCode(a[i]);
+        }
+        return hashCode;
+    }
+
+    /**
+     * The loops using the Vector API.
+     */
+    private static final class VectorKernels {
+        private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+
+        private static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+
+        /**
+         * 31 ^ (lanes - 1 - j) for lane j, so that a vector of elements is folded in the order of the list.
+         */
+        private static final int[] INT_LANE_POWERS = lanePowers(INT_SPECIES.length());
+
+        private static final int INT_STEP_POWER = power(INT_SPECIES.length());
+
+        private static final long[] LONG_LANE_POWERS = longs(lanePowers(LONG_SPECIES.length()));
+
+        private static final long LONG_STEP_POWER = power(LONG_SPECIES.length());
+
+        private static int power(int n) {
+            int result = 1;
+            for (int i = 0; i < n; i++) {
+                result *= 31;
+            }
+            return result;
+        }
+
+        private static int[] lanePowers(int lanes) {
+            final int[] result = new int[lanes];
+            for (int j = 0; j < lanes; j++) {
+                result[j] = power(lanes - 1 - j);
+            }
+            return result;
+        }
+
+        private static long[] longs(int[] a) {
+            final long[] result = new long[a.length];
+            for (int i = 0; i < a.length; i++) {
+                result[i] = a[i];
+            }
+            return result;
+        }
+
+        static int indexOf(int[] a, int from, int to, int key) {
+            int i = from;
+            for (final int bound = from + INT_SPECIES.loopBound(to - from); i < bound; i += INT_SPECIES.length()) {
+                final VectorMask<Integer> found = IntVector.fromArray(INT_SPECIES, a, i).eq(key);
+                if (found.anyTrue()) {
+                    return i + found.firstTrue();
+                }
+            }
+            for (; i < to; i++) {
+                if (a[i] == key) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        static int indexOf(long[] a, int from, int to, long key) {
+            int i = from;
+            for (final int bound = from + LONG_SPECIES.loopBound(to - from); i < bound; i += LONG_SPECIES.length()) {
+                final VectorMask<Long> found = LongVector.fromArray(LONG_SPECIES, a, i).eq(key);
+                if (found.anyTrue()) {
+                    return i + found.firstTrue();
+                }
+            }
+            for (; i < to; i++) {
+                if (a[i] == key) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        static int lastIndexOf(int[] a, int from, int to, int key) {
+            final int lanes = INT_SPECIES.length();
+            int i = to;
+            for (final int bound = to - INT_SPECIES.loopBound(to - from); i > bound; i -= lanes) {
+                final VectorMask<Integer> found = IntVector.fromArray(INT_SPECIES, a, i - lanes).eq(key);
+                if (found.anyTrue()) {
+                    return i - lanes + found.lastTrue();
+                }
+            }
+            for (i--; i >= from; i--) {
+                if (a[i] == key) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        static int lastIndexOf(long[] a, int from, int to, long key) {
+            final int lanes = LONG_SPECIES.length();
+            int i = to;
+            for (final int bound = to - LONG_SPECIES.loopBound(to - from); i > bound; i -= lanes) {
+                final VectorMask<Long> found = LongVector.fromArray(LONG_SPECIES, a, i - lanes).eq(key);
+                if (found.anyTrue()) {
+                    return i - lanes + found.lastTrue();
+                }
+            }
+            for (i--; i >= from; i--) {
+                if (a[i] == key) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Lane j accumulates, by Horner's rule with 31 ^ lanes, the elements whose index is j modulo lanes;
+         * weighting lane j by 31 ^ (lanes - 1 - j) at the end gives the same sum as the serial loop.
+         */
+        static int hashCode(int[] a, int from, int to) {
+            final int lanes = INT_SPECIES.length();
+            final int bound = from + INT_SPECIES.loopBound(to - from);
+            IntVector acc = IntVector.zero(INT_SPECIES);
+            int prefixPower = 1;
+            for (int i = from; i < bound; i += lanes) {
+                acc = acc.mul(INT_STEP_POWER).add(IntVector.fromArray(INT_SPECIES, a, i));
+                prefixPower *= INT_STEP_POWER;
+            }
+            int hashCode = prefixPower
+                    + acc.mul(IntVector.fromArray(INT_SPECIES, INT_LANE_POWERS, 0)).reduceLanes(
+                    VectorOperators.ADD);
+            for (int i = bound; i < to; i++) {
+                hashCode = 31 * hashCode + a[i];
+            }
+            return hashCode;
+        }
+
+        /**
+         * As {@link #hashCode(int[], int, int)}, in long lanes; only the low 32 bits of the sums are kept, and
+         * they only depend on the low 32 bits of {@code e ^ (e >>> 32)}, which is {@link Long#hashCode(long)}.
+         */
+        static int hashCode(long[] a, int from, int to) {
+            final int lanes = LONG_SPECIES.length();
+            final int bound = from + LONG_SPECIES.loopBound(to - from);
+            LongVector acc = LongVector.zero(LONG_SPECIES);
+            int prefixPower = 1;
+            for (int i = from; i < bound; i += lanes) {
+                final LongVector v = LongVector.fromArray(LONG_SPECIES, a, i);
+                acc = acc.mul(LONG_STEP_POWER).add(v.lanewise(VectorOperators.XOR,
+                        v.lanewise(VectorOperators.LSHR, 32)));
+                prefixPower *= (int) LONG_STEP_POWER;
+            }
+            int hashCode = prefixPower
+                    + (int) acc.mul(LongVector.fromArray(LONG_SPECIES, LONG_LANE_POWERS, 0)).reduceLanes(
+                    VectorOperators.ADD);
+            for (int i = bound; i < to; i++) {
+                hashCode = 31 * hashCode + Long.hashCode(a[i]);
+            }
+            return hashCode;
+        }
+    }
+}
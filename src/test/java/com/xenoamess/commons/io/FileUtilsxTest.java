@@ -30,9 +30,13 @@ import org.junit.jupiter.api.Test;
 import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import static com.xenoamess.commons.io.FileUtilsx.containsFile;
 import static com.xenoamess.commons.io.FileUtilsx.containsURI;
@@ -45,6 +49,8 @@ import static com.xenoamess.commons.io.FileUtilsx.getURI;
 import static com.xenoamess.commons.io.FileUtilsx.getURL;
 import static com.xenoamess.commons.io.FileUtilsx.loadBuffer;
 import static com.xenoamess.commons.io.FileUtilsx.loadString;
+import static com.xenoamess.commons.io.FileUtilsx.mapBuffer;
+import static com.xenoamess.commons.io.FileUtilsx.mapBuffers;
 import static com.xenoamess.commons.io.FileUtilsx.saveFile;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -101,6 +107,45 @@ public class FileUtilsxTest {
         assertEquals(a, testFileContent);
     }
 
+    @Test
+    public void mapBufferTest() {
+        MappedByteBuffer byteBuffer = mapBuffer(getPath(this.getClass(), testFilePath));
+        byte[] content = new byte[byteBuffer.remaining()];
+        byteBuffer.get(content);
+        assertEquals(testFileContent, new String(content, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void mapBuffersTest() throws IOException {
+        Path tempFile = Files.createTempFile("commonx", ".bin");
+        try {
+            byte[] bytes = new byte[1000];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = (byte) i;
+            }
+            Files.write(tempFile, bytes);
+
+            List<MappedByteBuffer> buffers = mapBuffers(tempFile, FileChannel.MapMode.READ_ONLY, 64);
+            assertEquals((bytes.length + 63) / 64, buffers.size());
+            int index = 0;
+            for (MappedByteBuffer buffer : buffers) {
+                while (buffer.hasRemaining()) {
+                    assertEquals(bytes[index++], buffer.get());
+                }
+            }
+            assertEquals(bytes.length, index);
+
+            MappedByteBuffer writable = mapBuffer(tempFile, FileChannel.MapMode.READ_WRITE);
+            writable.put(0, (byte) 42);
+            writable.force();
+            assertEquals(42, Files.readAllBytes(tempFile)[0]);
+
+            assertThrows(IllegalArgumentException.class, () -> mapBuffers(tempFile, FileChannel.MapMode.READ_ONLY, 0));
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
     @Test
     public void getFileTest() throws IOException {
         assertEquals(
@@ -1,5 +1,6 @@
 package com.xenoamess.commons.primitive.collections.lists.array_lists;
 
+import com.xenoamess.commons.primitive.collections.lists.linked_lists.BooleanLinkedList;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
@@ -35,6 +36,24 @@ public class BooleanArrayListTest {
 
         checkEqual(a1, a2);
 
+        BooleanArrayList a3 = new BooleanArrayList();
+        a1.forEachPrimitive(a3::addPrimitive);
+        checkEqual(a3, a2);
+        BooleanLinkedList a4 = new BooleanLinkedList();
+        a4.addAll(a2);
+        ArrayList<Boolean> a5 = new ArrayList<>(a2);
+        final boolean pivot = a2.get(0);
+        a3.removeIfPrimitive(e -> e == pivot);
+        a4.removeIfPrimitive(e -> e == pivot);
+        a5.removeIf(e -> e == pivot);
+        checkEqual(a3, a5);
+        assertEquals(a4, a5);
+        a3.replaceAllPrimitive(e -> pivot);
+        a4.replaceAllPrimitive(e -> pivot);
+        a5.replaceAll(e -> pivot);
+        checkEqual(a3, a5);
+        assertEquals(a4, a5);
+
         boolean flag = false;
         for (Boolean l : a2) {
             flag = !flag;
@@ -115,4 +134,21 @@ public class BooleanArrayListTest {
         System.out.println("large deleted");
         System.out.println("performance checks started:");
     }
+
+    /**
+     * toArrayPrimitive shall only return the elements, not the spare capacity left by the growth.
+     */
+    @Test
+    public void testToArrayPrimitiveAfterGrowth() {
+        BooleanArrayList list = new BooleanArrayList();
+        Random random = new Random();
+        for (int i = 0; i < 100; i++) {
+            list.addPrimitive(random.nextBoolean());
+            boolean[] array = list.toArrayPrimitive();
+            assertEquals(list.size(), array.length);
+            for (int j = 0; j < array.length; j++) {
+                assertEquals(list.getPrimitive(j), array[j]);
+            }
+        }
+    }
 }
@@ -0,0 +1,164 @@
+package com.xenoamess.commons.primitive.collections.lists.array_lists;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BooleanBitArrayListTest {
+    public static void checkEqual(BooleanBitArrayList a1, ArrayList<Boolean> a2) {
+        assertEquals(a2.size(), a1.size());
+        assertEquals(a2, a1);
+        assertEquals(a1, a2);
+        assertEquals(a2.hashCode(), a1.hashCode());
+        assertEquals(Collections.frequency(a2, true), a1.countTrue());
+        assertEquals(a2.indexOf(true), a1.indexOfPrimitive(true));
+        assertEquals(a2.indexOf(false), a1.indexOfPrimitive(false));
+        assertEquals(a2.lastIndexOf(true), a1.lastIndexOfPrimitive(true));
+        assertEquals(a2.lastIndexOf(false), a1.lastIndexOfPrimitive(false));
+        if (a2.size() > 2) {
+            int from = a2.size() / 3;
+            int to = a2.size() - 1;
+            assertEquals(a2.subList(from, to).hashCode(), a1.hashCodeRange(from, to));
+        }
+        int expectedNext = -1;
+        for (int i = a2.size() - 1; i >= 0; i--) {
+            if (a2.get(i)) {
+                expectedNext = i;
+            }
+            assertEquals(expectedNext, a1.nextSetIndex(i));
+        }
+    }
+
+    public void check(int length) throws IOException, ClassNotFoundException {
+        BooleanBitArrayList a1 = new BooleanBitArrayList();
+        ArrayList<Boolean> a2 = new ArrayList<>();
+        Random random = new Random();
+        for (int i = 0; i < length; i++) {
+            boolean l = random.nextBoolean();
+            switch (random.nextInt(6)) {
+                case 0:
+                case 1:
+                case 2:
+                    a1.add(l);
+                    a2.add(l);
+                    break;
+                case 3:
+                    int index = random.nextInt(a2.size() + 1);
+                    a1.addPrimitive(index, l);
+                    a2.add(index, l);
+                    break;
+                case 4:
+                    if (!a2.isEmpty()) {
+                        index = random.nextInt(a2.size());
+                        assertEquals(a2.remove(index), (Boolean) a1.removeByIndexPrimitive(index));
+                    }
+                    break;
+                default:
+                    if (!a2.isEmpty()) {
+                        index = random.nextInt(a2.size());
+                        assertEquals(a2.set(index, l), (Boolean) a1.setPrimitive(index, l));
+                    }
+                    break;
+            }
+        }
+        checkEqual(a1, a2);
+
+        BooleanBitArrayList a3 = new BooleanBitArrayList();
+        a1.forEachPrimitive(a3::addPrimitive);
+        checkEqual(a3, a2);
+
+        int index = random.nextInt(a2.size() + 1);
+        a3.addAll(index, a1);
+        ArrayList<Boolean> a4 = new ArrayList<>(a2);
+        a4.addAll(index, a2);
+        checkEqual(a3, a4);
+        a3.addAll(a3);
+        a4.addAll(new ArrayList<>(a4));
+        checkEqual(a3, a4);
+        index = random.nextInt(a4.size() + 1);
+        a3.addAll(index, a2);
+        a4.addAll(index, a2);
+        checkEqual(a3, a4);
+
+        int from = random.nextInt(a4.size() + 1);
+        int to = from + random.nextInt(a4.size() - from + 1);
+        a3.removeRange(from, to);
+        a4.subList(from, to).clear();
+        checkEqual(a3, a4);
+        from = random.nextInt(a4.size() + 1);
+        to = from + random.nextInt(a4.size() - from + 1);
+        a3.subList(from, to).clear();
+        a4.subList(from, to).clear();
+        checkEqual(a3, a4);
+
+        BooleanBitArrayList a5 = (BooleanBitArrayList) a1.clone();
+        ArrayList<Boolean> a6 = new ArrayList<>(a2);
+        a5.removeIfPrimitive(e -> e);
+        a6.removeIf(e -> e);
+        checkEqual(a5, a6);
+        a5 = (BooleanBitArrayList) a1.clone();
+        a6 = new ArrayList<>(a2);
+        a5.replaceAllPrimitive(e -> !e);
+        a6.replaceAll(e -> !e);
+        checkEqual(a5, a6);
+        Iterator<Boolean> iterator = a5.iterator();
+        a5.replaceAllPrimitive(e -> e);
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+        a5.sort(null);
+        a6.sort(null);
+        checkEqual(a5, a6);
+        a5.sort((x, y) -> Boolean.compare(y, x));
+        a6.sort((x, y) -> Boolean.compare(y, x));
+        checkEqual(a5, a6);
+
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(a1);
+        }
+        try (ObjectInputStream objectInputStream =
+                     new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()))) {
+            BooleanBitArrayList a7 = (BooleanBitArrayList) objectInputStream.readObject();
+            checkEqual(a7, a2);
+            assertEquals(a1, a7);
+        }
+
+        assertEquals(a1, new BooleanBitArrayList(a1.toArrayPrimitive()));
+        assertEquals(a1, new BooleanArrayList(a1.toArrayPrimitive()));
+
+        boolean flag = false;
+        for (Boolean l : a2) {
+            flag = !flag;
+            if (flag) {
+                a1.remove(l);
+            } else {
+                a1.removeByContentPrimitive(l);
+            }
+        }
+        assertTrue(a1.isEmpty());
+        assertFalse(a1.containsPrimitive(true));
+        assertEquals(-1, a1.nextSetIndex(0));
+    }
+
+    @Test
+    public void checks() throws IOException, ClassNotFoundException {
+        for (int i = 0; i < 1000; i++) {
+            check(100);
+        }
+        for (int i = 0; i < 20; i++) {
+            check(3000);
+        }
+    }
+}
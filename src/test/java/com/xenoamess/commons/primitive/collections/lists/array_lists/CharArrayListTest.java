@@ -2,7 +2,9 @@ package com.xenoamess.commons.primitive.collections.lists.array_lists;
 
 import java.util.ArrayList;
 import java.util.Random;
+import com.xenoamess.commons.primitive.collections.lists.linked_lists.CharLinkedList;
 import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -32,6 +34,26 @@ public class CharArrayListTest {
         }
 
         checkEqual(a1, a2);
+        assertArrayEquals(a2.stream().mapToInt(e -> e).toArray(), a1.intStream().toArray());
+        assertArrayEquals(a1.intStream().toArray(), a1.parallelIntStream().toArray());
+
+        CharArrayList a3 = new CharArrayList();
+        a1.forEachPrimitive(a3::addPrimitive);
+        checkEqual(a3, a2);
+        CharLinkedList a4 = new CharLinkedList();
+        a4.addAll(a2);
+        ArrayList<Character> a5 = new ArrayList<>(a2);
+        final char pivot = a2.get(0);
+        a3.removeIfPrimitive(e -> e == pivot);
+        a4.removeIfPrimitive(e -> e == pivot);
+        a5.removeIf(e -> e == pivot);
+        checkEqual(a3, a5);
+        assertEquals(a4, a5);
+        a3.replaceAllPrimitive(e -> pivot);
+        a4.replaceAllPrimitive(e -> pivot);
+        a5.replaceAll(e -> pivot);
+        checkEqual(a3, a5);
+        assertEquals(a4, a5);
 
         boolean flag = false;
         for (Character l : a2) {
@@ -113,4 +135,21 @@ public class CharArrayListTest {
         System.out.println("large deleted");
         System.out.println("performance checks started:");
     }
+
+    /**
+     * toArrayPrimitive shall only return the elements, not the spare capacity left by the growth.
+     */
+    @Test
+    public void testToArrayPrimitiveAfterGrowth() {
+        CharArrayList list = new CharArrayList();
+        Random random = new Random();
+        for (int i = 0; i < 100; i++) {
+            list.addPrimitive(((char)random.nextInt()));
+            char[] array = list.toArrayPrimitive();
+            assertEquals(list.size(), array.length);
+            for (int j = 0; j < array.length; j++) {
+                assertEquals(list.getPrimitive(j), array[j]);
+            }
+        }
+    }
 }
@@ -0,0 +1,288 @@
+package com.xenoamess.commons.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.CharList;
+import com.xenoamess.commons.primitive.iterators.CharIterator;
+import com.xenoamess.commons.primitive.iterators.CharListIterator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author XenoAmess
+ */
+public class CopyOnWriteCharArrayListTest {
+
+    public void checkEqual(CharList a1, List<Character> a2) {
+        assertEquals(a2.size(), a1.size());
+        for (int i = 0; i < a2.size(); i++) {
+            assertEquals(a2.get(i), a1.get(i));
+            assertEquals((char) a2.get(i), a1.getPrimitive(i));
+            assertEquals(a2.indexOf(a2.get(i)), a1.indexOfPrimitive(a2.get(i)));
+            assertEquals(a2.lastIndexOf(a2.get(i)), a1.lastIndexOfPrimitive(a2.get(i)));
+            assertTrue(a1.containsPrimitive(a2.get(i)));
+        }
+        assertEquals(a2, a1);
+        assertEquals(a1, a2);
+        assertEquals(a2.hashCode(), a1.hashCode());
+        assertEquals(a2.toString(), a1.toString());
+        ArrayList<Character> visited = new ArrayList<>();
+        a1.forEachPrimitive(visited::add);
+        assertEquals(a2, visited);
+        visited.clear();
+        CharIterator iterator = a1.iterator();
+        while (iterator.hasNext()) {
+            visited.add(iterator.nextPrimitive());
+        }
+        assertEquals(a2, visited);
+    }
+
+    @Test
+    public void randomTest() {
+        Random random = new Random();
+        CopyOnWriteCharArrayList a1 = new CopyOnWriteCharArrayList();
+        ArrayList<Character> a2 = new ArrayList<>();
+        for (int round = 0; round < 2000; round++) {
+            char e = ((char)random.nextInt());
+            switch (random.nextInt(8)) {
+                case 0:
+                case 1:
+                    assertEquals(a2.add(e), a1.addPrimitive(e));
+                    break;
+                case 2: {
+                    int index = random.nextInt(a2.size() + 1);
+                    a2.add(index, e);
+                    a1.addPrimitive(index, e);
+                    break;
+                }
+                case 3:
+                    if (!a2.isEmpty()) {
+                        int index = random.nextInt(a2.size());
+                        assertEquals((char) a2.set(index, e), a1.setPrimitive(index, e));
+                    }
+                    break;
+                case 4:
+                    if (!a2.isEmpty()) {
+                        int index = random.nextInt(a2.size());
+                        assertEquals((char) a2.remove(index), a1.removeByIndexPrimitive(index));
+                    }
+                    break;
+                case 5:
+                    if (!a2.isEmpty()) {
+                        char o = a2.get(random.nextInt(a2.size()));
+                        assertEquals(a2.remove((Character) o), a1.removeByContentPrimitive(o));
+                    }
+                    assertEquals(a2.remove((Character) e), a1.removeByContentPrimitive(e));
+                    break;
+                case 6:
+                    assertEquals(!a2.contains(e) && a2.add(e), a1.addIfAbsentPrimitive(e));
+                    break;
+                default:
+                    if (!a2.isEmpty()) {
+                        char o = a2.get(random.nextInt(a2.size()));
+                        assertFalse(a1.addIfAbsentPrimitive(o));
+                    }
+                    break;
+            }
+            if (round % 100 == 0) {
+                checkEqual(a1, a2);
+            }
+        }
+        checkEqual(a1, a2);
+        checkEqual(a1.clone(), a2);
+        a1.clear();
+        a2.clear();
+        checkEqual(a1, a2);
+    }
+
+    @Test
+    public void batchTest() {
+        Random random = new Random();
+        char[] array = new char[200];
+        ArrayList<Character> a2 = new ArrayList<>();
+        for (int i = 0; i < array.length; i++) {
+            array[i] = ((char)random.nextInt());
+            a2.add(array[i]);
+        }
+        CopyOnWriteCharArrayList a1 = new CopyOnWriteCharArrayList();
+        assertFalse(a1.addAllPrimitive(new char[0]));
+        assertTrue(a1.addAllPrimitive(array));
+        checkEqual(a1, a2);
+        assertTrue(a1.addAll(a2));
+        a2.addAll(new ArrayList<>(a2));
+        checkEqual(a1, a2);
+        assertTrue(a1.addAll(a1.size() / 2, new CharArrayList(array)));
+        a2.addAll(a2.size() / 2, new CopyOnWriteCharArrayList(array));
+        checkEqual(a1, a2);
+
+        char o = array[random.nextInt(array.length)];
+        assertEquals(a2.removeIf(x -> x == o), a1.removeIfPrimitive(x -> x == o));
+        checkEqual(a1, a2);
+        assertFalse(a1.removeIfPrimitive(x -> x == o));
+
+        List<Character> some = new ArrayList<>(a2.subList(0, a2.size() / 4));
+        assertEquals(a2.removeAll(some), a1.removeAll(some));
+        checkEqual(a1, a2);
+        some = new ArrayList<>(a2.subList(0, a2.size() / 2));
+        assertEquals(a2.retainAll(some), a1.retainAll(some));
+        checkEqual(a1, a2);
+
+        a2.sort(null);
+        a1.sort(null);
+        checkEqual(a1, a2);
+        a2.replaceAll(x -> o);
+        a1.replaceAllPrimitive(x -> o);
+        checkEqual(a1, a2);
+
+        a1.removeRange(0, a1.size() / 2);
+        a2.subList(0, a2.size() / 2).clear();
+        checkEqual(a1, a2);
+        assertArrayEquals(a1.toArrayPrimitive(), new CopyOnWriteCharArrayList(a2).toArrayPrimitive());
+    }
+
+    @Test
+    public void snapshotTest() {
+        Random random = new Random();
+        CopyOnWriteCharArrayList a1 = new CopyOnWriteCharArrayList();
+        ArrayList<Character> a2 = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            char e = ((char)random.nextInt());
+            a1.addPrimitive(e);
+            a2.add(e);
+        }
+        CharListIterator iterator = a1.listIterator();
+        a1.clear();
+        a1.addPrimitive(((char)random.nextInt()));
+        ArrayList<Character> visited = new ArrayList<>();
+        while (iterator.hasNext()) {
+            visited.add(iterator.nextPrimitive());
+        }
+        assertEquals(a2, visited);
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+        assertThrows(UnsupportedOperationException.class, () -> iterator.setPrimitive(a2.get(0)));
+        assertThrows(UnsupportedOperationException.class, () -> iterator.addPrimitive(a2.get(0)));
+        while (iterator.hasPrevious()) {
+            iterator.previousPrimitive();
+        }
+        assertEquals(0, iterator.nextIndex());
+    }
+
+    @Test
+    public void subListTest() {
+        Random random = new Random();
+        CopyOnWriteCharArrayList a1 = new CopyOnWriteCharArrayList();
+        ArrayList<Character> a2 = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            char e = ((char)random.nextInt());
+            a1.addPrimitive(e);
+            a2.add(e);
+        }
+        CharList s1 = a1.subList(10, 50);
+        List<Character> s2 = a2.subList(10, 50);
+        checkEqual(s1, s2);
+        char e = ((char)random.nextInt());
+        s1.addPrimitive(e);
+        s2.add(e);
+        s1.removeByIndexPrimitive(0);
+        s2.remove(0);
+        s1.setPrimitive(1, e);
+        s2.set(1, e);
+        checkEqual(s1, s2);
+        checkEqual(a1, a2);
+        final char removed = s2.get(random.nextInt(s2.size()));
+        assertEquals(s2.removeIf(x -> x == removed), s1.removeIfPrimitive(x -> x == removed));
+        checkEqual(s1, s2);
+        checkEqual(a1, a2);
+        List<Character> some = new ArrayList<>(s2.subList(0, s2.size() / 2));
+        assertEquals(s2.retainAll(some), s1.retainAll(some));
+        assertEquals(s2.removeIf(some::contains), s1.removeIf(some::contains));
+        checkEqual(s1, s2);
+        checkEqual(a1, a2);
+        s1.clear();
+        s2.clear();
+        checkEqual(s1, s2);
+        checkEqual(a1, a2);
+        a1.addPrimitive(e);
+        assertThrows(ConcurrentModificationException.class, s1::size);
+    }
+
+    @Test
+    public void serializeTest() throws IOException, ClassNotFoundException {
+        Random random = new Random();
+        CopyOnWriteCharArrayList a1 = new CopyOnWriteCharArrayList();
+        for (int i = 0; i < 100; i++) {
+            a1.addPrimitive(((char)random.nextInt()));
+        }
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(a1);
+        }
+        Object read;
+        try (ObjectInputStream objectInputStream =
+                     new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()))) {
+            read = objectInputStream.readObject();
+        }
+        assertTrue(a1 != read);
+        CopyOnWriteCharArrayList a3 = (CopyOnWriteCharArrayList) read;
+        assertEquals(a1, a3);
+        a3.addPrimitive(((char)random.nextInt()));
+        assertEquals(a1.size() + 1, a3.size());
+    }
+
+    @Test
+    public void concurrentTest() throws InterruptedException {
+        Random random = new Random();
+        final CopyOnWriteCharArrayList a1 = new CopyOnWriteCharArrayList();
+        final char e = ((char)random.nextInt());
+        final int writerCount = 4;
+        final int perWriter = 500;
+        final AtomicBoolean failed = new AtomicBoolean(false);
+        Thread[] writers = new Thread[writerCount];
+        for (int i = 0; i < writerCount; i++) {
+            writers[i] = new Thread(() -> {
+                for (int j = 0; j < perWriter; j++) {
+                    a1.addPrimitive(e);
+                }
+            });
+        }
+        Thread reader = new Thread(() -> {
+            while (a1.size() < writerCount * perWriter) {
+                int count = 0;
+                CharIterator iterator = a1.iterator();
+                while (iterator.hasNext()) {
+                    if (iterator.nextPrimitive() != e) {
+                        failed.set(true);
+                    }
+                    count++;
+                }
+                if (count > writerCount * perWriter) {
+                    failed.set(true);
+                }
+            }
+        });
+        reader.start();
+        for (Thread writer : writers) {
+            writer.start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        reader.join();
+        assertFalse(failed.get());
+        assertEquals(writerCount * perWriter, a1.size());
+    }
+}
@@ -0,0 +1,288 @@
+package com.xenoamess.commons.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.FloatList;
+import com.xenoamess.commons.primitive.iterators.FloatIterator;
+import com.xenoamess.commons.primitive.iterators.FloatListIterator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author XenoAmess
+ */
+public class CopyOnWriteFloatArrayListTest {
+
+    public void checkEqual(FloatList a1, List<Float> a2) {
+        assertEquals(a2.size(), a1.size());
+        for (int i = 0; i < a2.size(); i++) {
+            assertEquals(a2.get(i), a1.get(i));
+            assertEquals((float) a2.get(i), a1.getPrimitive(i));
+            assertEquals(a2.indexOf(a2.get(i)), a1.indexOfPrimitive(a2.get(i)));
+            assertEquals(a2.lastIndexOf(a2.get(i)), a1.lastIndexOfPrimitive(a2.get(i)));
+            assertTrue(a1.containsPrimitive(a2.get(i)));
+        }
+        assertEquals(a2, a1);
+        assertEquals(a1, a2);
+        assertEquals(a2.hashCode(), a1.hashCode());
+        assertEquals(a2.toString(), a1.toString());
+        ArrayList<Float> visited = new ArrayList<>();
+        a1.forEachPrimitive(visited::add);
+        assertEquals(a2, visited);
+        visited.clear();
+        FloatIterator iterator = a1.iterator();
+        while (iterator.hasNext()) {
+            visited.add(iterator.nextPrimitive());
+        }
+        assertEquals(a2, visited);
+    }
+
+    @Test
+    public void randomTest() {
+        Random random = new Random();
+        CopyOnWriteFloatArrayList a1 = new CopyOnWriteFloatArrayList();
+        ArrayList<Float> a2 = new ArrayList<>();
+        for (int round = 0; round < 2000; round++) {
+            float e = random.nextFloat();
+            switch (random.nextInt(8)) {
+                case 0:
+                case 1:
+                    assertEquals(a2.add(e), a1.addPrimitive(e));
+                    break;
+                case 2: {
+                    int index = random.nextInt(a2.size() + 1);
+                    a2.add(index, e);
+                    a1.addPrimitive(index, e);
+                    break;
+                }
+                case 3:
+                    if (!a2.isEmpty()) {
+                        int index = random.nextInt(a2.size());
+                        assertEquals((float) a2.set(index, e), a1.setPrimitive(index, e));
+                    }
+                    break;
+                case 4:
+                    if (!a2.isEmpty()) {
+                        int index = random.nextInt(a2.size());
+                        assertEquals((float) a2.remove(index), a1.removeByIndexPrimitive(index));
+                    }
+                    break;
+                case 5:
+                    if (!a2.isEmpty()) {
+                        float o = a2.get(random.nextInt(a2.size()));
+                        assertEquals(a2.remove((Float) o), a1.removeByContentPrimitive(o));
+                    }
+                    assertEquals(a2.remove((Float) e), a1.removeByContentPrimitive(e));
+                    break;
+                case 6:
+                    assertEquals(!a2.contains(e) && a2.add(e), a1.addIfAbsentPrimitive(e));
+                    break;
+                default:
+                    if (!a2.isEmpty()) {
+                        float o = a2.get(random.nextInt(a2.size()));
+                        assertFalse(a1.addIfAbsentPrimitive(o));
+                    }
+                    break;
+            }
+            if (round % 100 == 0) {
+                checkEqual(a1, a2);
+            }
+        }
+        checkEqual(a1, a2);
+        checkEqual(a1.clone(), a2);
+        a1.clear();
+        a2.clear();
+        checkEqual(a1, a2);
+    }
+
+    @Test
+    public void batchTest() {
+        Random random = new Random();
+        float[] array = new float[200];
+        ArrayList<Float> a2 = new ArrayList<>();
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextFloat();
+            a2.add(array[i]);
+        }
+        CopyOnWriteFloatArrayList a1 = new CopyOnWriteFloatArrayList();
+        assertFalse(a1.addAllPrimitive(new float[0]));
+        assertTrue(a1.addAllPrimitive(array));
+        checkEqual(a1, a2);
+        assertTrue(a1.addAll(a2));
+        a2.addAll(new ArrayList<>(a2));
+        checkEqual(a1, a2);
+        assertTrue(a1.addAll(a1.size() / 2, new FloatArrayList(array)));
+        a2.addAll(a2.size() / 2, new CopyOnWriteFloatArrayList(array));
+        checkEqual(a1, a2);
+
+        float o = array[random.nextInt(array.length)];
+        assertEquals(a2.removeIf(x -> x == o), a1.removeIfPrimitive(x -> x == o));
+        checkEqual(a1, a2);
+        assertFalse(a1.removeIfPrimitive(x -> x == o));
+
+        List<Float> some = new ArrayList<>(a2.subList(0, a2.size() / 4));
+        assertEquals(a2.removeAll(some), a1.removeAll(some));
+        checkEqual(a1, a2);
+        some = new ArrayList<>(a2.subList(0, a2.size() / 2));
+        assertEquals(a2.retainAll(some), a1.retainAll(some));
+        checkEqual(a1, a2);
+
+        a2.sort(null);
+        a1.sort(null);
+        checkEqual(a1, a2);
+        a2.replaceAll(x -> o);
+        a1.replaceAllPrimitive(x -> o);
+        checkEqual(a1, a2);
+
+        a1.removeRange(0, a1.size() / 2);
+        a2.subList(0, a2.size() / 2).clear();
+        checkEqual(a1, a2);
+        assertArrayEquals(a1.toArrayPrimitive(), new CopyOnWriteFloatArrayList(a2).toArrayPrimitive());
+    }
+
+    @Test
+    public void snapshotTest() {
+        Random random = new Random();
+        CopyOnWriteFloatArrayList a1 = new CopyOnWriteFloatArrayList();
+        ArrayList<Float> a2 = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            float e = random.nextFloat();
+            a1.addPrimitive(e);
+            a2.add(e);
+        }
+        FloatListIterator iterator = a1.listIterator();
+        a1.clear();
+        a1.addPrimitive(random.nextFloat());
+        ArrayList<Float> visited = new ArrayList<>();
+        while (iterator.hasNext()) {
+            visited.add(iterator.nextPrimitive());
+        }
+        assertEquals(a2, visited);
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+        assertThrows(UnsupportedOperationException.class, () -> iterator.setPrimitive(a2.get(0)));
+        assertThrows(UnsupportedOperationException.class, () -> iterator.addPrimitive(a2.get(0)));
+        while (iterator.hasPrevious()) {
+            iterator.previousPrimitive();
+        }
+        assertEquals(0, iterator.nextIndex());
+    }
+
+    @Test
+    public void subListTest() {
+        Random random = new Random();
+        CopyOnWriteFloatArrayList a1 = new CopyOnWriteFloatArrayList();
+        ArrayList<Float> a2 = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            float e = random.nextFloat();
+            a1.addPrimitive(e);
+            a2.add(e);
+        }
+        FloatList s1 = a1.subList(10, 50);
+        List<Float> s2 = a2.subList(10, 50);
+        checkEqual(s1, s2);
+        float e = random.nextFloat();
+        s1.addPrimitive(e);
+        s2.add(e);
+        s1.removeByIndexPrimitive(0);
+        s2.remove(0);
+        s1.setPrimitive(1, e);
+        s2.set(1, e);
+        checkEqual(s1, s2);
+        checkEqual(a1, a2);
+        final float removed = s2.get(random.nextInt(s2.size()));
+        assertEquals(s2.removeIf(x -> x == removed), s1.removeIfPrimitive(x -> x == removed));
+        checkEqual(s1, s2);
+        checkEqual(a1, a2);
+        List<Float> some = new ArrayList<>(s2.subList(0, s2.size() / 2));
+        assertEquals(s2.retainAll(some), s1.retainAll(some));
+        assertEquals(s2.removeIf(some::contains), s1.removeIf(some::contains));
+        checkEqual(s1, s2);
+        checkEqual(a1, a2);
+        s1.clear();
+        s2.clear();
+        checkEqual(s1, s2);
+        checkEqual(a1, a2);
+        a1.addPrimitive(e);
+        assertThrows(ConcurrentModificationException.class, s1::size);
+    }
+
+    @Test
+    public void serializeTest() throws IOException, ClassNotFoundException {
+        Random random = new Random();
+        CopyOnWriteFloatArrayList a1 = new CopyOnWriteFloatArrayList();
+        for (int i = 0; i < 100; i++) {
+            a1.addPrimitive(random.nextFloat());
+        }
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(a1);
+        }
+        Object read;
+        try (ObjectInputStream objectInputStream =
+                     new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()))) {
+            read = objectInputStream.readObject();
+        }
+        assertTrue(a1 != read);
+        CopyOnWriteFloatArrayList a3 = (CopyOnWriteFloatArrayList) read;
+        assertEquals(a1, a3);
+        a3.addPrimitive(random.nextFloat());
+        assertEquals(a1.size() + 1, a3.size());
+    }
+
+    @Test
+    public void concurrentTest() throws InterruptedException {
+        Random random = new Random();
+        final CopyOnWriteFloatArrayList a1 = new CopyOnWriteFloatArrayList();
+        final float e = random.nextFloat();
+        final int writerCount = 4;
+        final int perWriter = 500;
+        final AtomicBoolean failed = new AtomicBoolean(false);
+        Thread[] writers = new Thread[writerCount];
+        for (int i = 0; i < writerCount; i++) {
+            writers[i] = new Thread(() -> {
+                for (int j = 0; j < perWriter; j++) {
+                    a1.addPrimitive(e);
+                }
+            });
+        }
+        Thread reader = new Thread(() -> {
+            while (a1.size() < writerCount * perWriter) {
+                int count = 0;
+                FloatIterator iterator = a1.iterator();
+                while (iterator.hasNext()) {
+                    if (iterator.nextPrimitive() != e) {
+                        failed.set(true);
+                    }
+                    count++;
+                }
+                if (count > writerCount * perWriter) {
+                    failed.set(true);
+                }
+            }
+        });
+        reader.start();
+        for (Thread writer : writers) {
+            writer.start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        reader.join();
+        assertFalse(failed.get());
+        assertEquals(writerCount * perWriter, a1.size());
+    }
+}
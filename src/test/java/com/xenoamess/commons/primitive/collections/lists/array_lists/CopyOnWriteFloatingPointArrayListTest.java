@@ -0,0 +1,64 @@
+package com.xenoamess.commons.primitive.collections.lists.array_lists;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Signed zeros and NaN in the floating point copy on write lists, which shall compare like {@link Double#equals}.
+ *
+ * @author XenoAmess
+ */
+public class CopyOnWriteFloatingPointArrayListTest {
+
+    @Test
+    public void doubleSignedZeroTest() {
+        CopyOnWriteDoubleArrayList a1 = new CopyOnWriteDoubleArrayList(new double[]{0.0, 1.0});
+        CopyOnWriteDoubleArrayList a2 = a1.clone();
+        assertEquals(0.0, a1.setPrimitive(0, -0.0));
+        assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(a1.getPrimitive(0)));
+        assertNotEquals(a1, a2);
+        assertNotEquals(a2, a1);
+    }
+
+    @Test
+    public void doubleNaNTest() {
+        CopyOnWriteDoubleArrayList a1 = new CopyOnWriteDoubleArrayList(new double[]{1.0, Double.NaN});
+        List<Double> a2 = new ArrayList<>(Arrays.asList(1.0, Double.NaN));
+        DoubleArrayList a3 = new DoubleArrayList(a2);
+        assertEquals(a1, a1.clone());
+        assertEquals(a1, a2);
+        assertEquals(a2, a1);
+        assertEquals(a1, a3);
+        assertEquals(a3, a1);
+        assertEquals(a2.hashCode(), a1.hashCode());
+    }
+
+    @Test
+    public void floatSignedZeroTest() {
+        CopyOnWriteFloatArrayList a1 = new CopyOnWriteFloatArrayList(new float[]{0.0F, 1.0F});
+        CopyOnWriteFloatArrayList a2 = a1.clone();
+        assertEquals(0.0F, a1.setPrimitive(0, -0.0F));
+        assertEquals(Float.floatToRawIntBits(-0.0F), Float.floatToRawIntBits(a1.getPrimitive(0)));
+        assertNotEquals(a1, a2);
+        assertNotEquals(a2, a1);
+    }
+
+    @Test
+    public void floatNaNTest() {
+        CopyOnWriteFloatArrayList a1 = new CopyOnWriteFloatArrayList(new float[]{1.0F, Float.NaN});
+        List<Float> a2 = new ArrayList<>(Arrays.asList(1.0F, Float.NaN));
+        FloatArrayList a3 = new FloatArrayList(a2);
+        assertEquals(a1, a1.clone());
+        assertEquals(a1, a2);
+        assertEquals(a2, a1);
+        assertEquals(a1, a3);
+        assertEquals(a3, a1);
+        assertEquals(a2.hashCode(), a1.hashCode());
+    }
+}
@@ -1,10 +1,12 @@
 package com.xenoamess.commons.primitive.collections.lists.array_lists;
 
+import com.xenoamess.commons.primitive.collections.lists.linked_lists.DoubleLinkedList;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.Random;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -34,6 +36,26 @@ public class DoubleArrayListTest {
         }
 
         checkEqual(a1, a2);
+        assertArrayEquals(a2.stream().mapToDouble(e -> e).toArray(), a1.doubleStream().toArray());
+        assertArrayEquals(a1.doubleStream().toArray(), a1.parallelDoubleStream().toArray());
+
+        DoubleArrayList a3 = new DoubleArrayList();
+        a1.forEachPrimitive(a3::addPrimitive);
+        checkEqual(a3, a2);
+        DoubleLinkedList a4 = new DoubleLinkedList();
+        a4.addAll(a2);
+        ArrayList<Double> a5 = new ArrayList<>(a2);
+        final double pivot = a2.get(0);
+        a3.removeIfPrimitive(e -> e == pivot);
+        a4.removeIfPrimitive(e -> e == pivot);
+        a5.removeIf(e -> e == pivot);
+        checkEqual(a3, a5);
+        assertEquals(a4, a5);
+        a3.replaceAllPrimitive(e -> pivot);
+        a4.replaceAllPrimitive(e -> pivot);
+        a5.replaceAll(e -> pivot);
+        checkEqual(a3, a5);
+        assertEquals(a4, a5);
 
         boolean flag = false;
         for (Double l : a2) {
@@ -115,4 +137,21 @@ public class DoubleArrayListTest {
         System.out.println("large deleted");
         System.out.println("performance checks started:");
     }
+
+    /**
+     * toArrayPrimitive shall only return the elements, not the spare capacity left by the growth.
+     */
+    @Test
+    public void testToArrayPrimitiveAfterGrowth() {
+        DoubleArrayList list = new DoubleArrayList();
+        Random random = new Random();
+        for (int i = 0; i < 100; i++) {
+            list.addPrimitive(random.nextDouble());
+            double[] array = list.toArrayPrimitive();
+            assertEquals(list.size(), array.length);
+            for (int j = 0; j < array.length; j++) {
+                assertEquals(list.getPrimitive(j), array[j]);
+            }
+        }
+    }
 }
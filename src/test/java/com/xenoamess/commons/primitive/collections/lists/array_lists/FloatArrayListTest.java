@@ -1,10 +1,12 @@
 package com.xenoamess.commons.primitive.collections.lists.array_lists;
 
+import com.xenoamess.commons.primitive.collections.lists.linked_lists.FloatLinkedList;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.Random;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -34,6 +36,26 @@ public class FloatArrayListTest {
         }
 
         checkEqual(a1, a2);
+        assertArrayEquals(a2.stream().mapToDouble(e -> e).toArray(), a1.doubleStream().toArray());
+        assertArrayEquals(a1.doubleStream().toArray(), a1.parallelDoubleStream().toArray());
+
+        FloatArrayList a3 = new FloatArrayList();
+        a1.forEachPrimitive(a3::addPrimitive);
+        checkEqual(a3, a2);
+        FloatLinkedList a4 = new FloatLinkedList();
+        a4.addAll(a2);
+        ArrayList<Float> a5 = new ArrayList<>(a2);
+        final float pivot = a2.get(0);
+        a3.removeIfPrimitive(e -> e == pivot);
+        a4.removeIfPrimitive(e -> e == pivot);
+        a5.removeIf(e -> e == pivot);
+        checkEqual(a3, a5);
+        assertEquals(a4, a5);
+        a3.replaceAllPrimitive(e -> pivot);
+        a4.replaceAllPrimitive(e -> pivot);
+        a5.replaceAll(e -> pivot);
+        checkEqual(a3, a5);
+        assertEquals(a4, a5);
 
         boolean flag = false;
         for (Float l : a2) {
@@ -115,4 +137,21 @@ public class FloatArrayListTest {
         System.out.println("large deleted");
         System.out.println("performance checks started:");
     }
+
+    /**
+     * toArrayPrimitive shall only return the elements, not the spare capacity left by the growth.
+     */
+    @Test
+    public void testToArrayPrimitiveAfterGrowth() {
+        FloatArrayList list = new FloatArrayList();
+        Random random = new Random();
+        for (int i = 0; i < 100; i++) {
+            list.addPrimitive(random.nextFloat());
+            float[] array = list.toArrayPrimitive();
+            assertEquals(list.size(), array.length);
+            for (int j = 0; j < array.length; j++) {
+                assertEquals(list.getPrimitive(j), array[j]);
+            }
+        }
+    }
 }
@@ -2,7 +2,9 @@ package com.xenoamess.commons.primitive.collections.lists.array_lists;
 
 import java.util.ArrayList;
 import java.util.Random;
+import com.xenoamess.commons.primitive.collections.lists.linked_lists.ShortLinkedList;
 import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -32,6 +34,26 @@ public class ShortArrayListTest {
         }
 
         checkEqual(a1, a2);
+        assertArrayEquals(a2.stream().mapToInt(e -> e).toArray(), a1.intStream().toArray());
+        assertArrayEquals(a1.intStream().toArray(), a1.parallelIntStream().toArray());
+
+        ShortArrayList a3 = new ShortArrayList();
+        a1.forEachPrimitive(a3::addPrimitive);
+        checkEqual(a3, a2);
+        ShortLinkedList a4 = new ShortLinkedList();
+        a4.addAll(a2);
+        ArrayList<Short> a5 = new ArrayList<>(a2);
+        final short pivot = a2.get(0);
+        a3.removeIfPrimitive(e -> e == pivot);
+        a4.removeIfPrimitive(e -> e == pivot);
+        a5.removeIf(e -> e == pivot);
+        checkEqual(a3, a5);
+        assertEquals(a4, a5);
+        a3.replaceAllPrimitive(e -> pivot);
+        a4.replaceAllPrimitive(e -> pivot);
+        a5.replaceAll(e -> pivot);
+        checkEqual(a3, a5);
+        assertEquals(a4, a5);
 
         boolean flag = false;
         for (Short l : a2) {
@@ -113,4 +135,21 @@ public class ShortArrayListTest {
         System.out.println("large deleted");
         System.out.println("performance checks started:");
     }
+
+    /**
+     * toArrayPrimitive shall only return the elements, not the spare capacity left by the growth.
+     */
+    @Test
+    public void testToArrayPrimitiveAfterGrowth() {
+        ShortArrayList list = new ShortArrayList();
+        Random random = new Random();
+        for (int i = 0; i < 100; i++) {
+            list.addPrimitive(((short)random.nextInt()));
+            short[] array = list.toArrayPrimitive();
+            assertEquals(list.size(), array.length);
+            for (int j = 0; j < array.length; j++) {
+                assertEquals(list.getPrimitive(j), array[j]);
+            }
+        }
+    }
 }
@@ -0,0 +1,227 @@
+package com.xenoamess.commons.primitive.collections.lists.big_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.LongArrayList;
+import com.xenoamess.commons.primitive.functions.LongConsumer;
+import com.xenoamess.commons.primitive.iterators.LongIterator;
+import com.xenoamess.commons.primitive.iterators.LongSpliterator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author XenoAmess
+ */
+public class LongBigArrayListTest {
+
+    public void checkEqual(LongBigArrayList a1, List<Long> a2) {
+        assertEquals(a2.size(), a1.size64());
+        assertEquals(a2.size(), a1.size());
+        for (int i = 0; i < a2.size(); i++) {
+            assertEquals((long) a2.get(i), a1.getPrimitive(i));
+        }
+        long[] expected = new long[a2.size()];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = a2.get(i);
+        }
+        assertArrayEquals(expected, a1.toArrayPrimitive());
+        assertEquals(a2.hashCode(), a1.hashCode());
+        assertEquals(a2, a1.stream().collect(Collectors.toList()));
+        assertEquals(a2, a1.parallelStream().collect(Collectors.toList()));
+        List<Long> iterated = new ArrayList<>();
+        a1.forEachPrimitive((LongConsumer) iterated::add);
+        assertEquals(a2, iterated);
+        Random random = new Random(a2.size());
+        for (int i = 0; i < 50 && !a2.isEmpty(); i++) {
+            long e = random.nextBoolean() ? a2.get(random.nextInt(a2.size())) : random.nextInt(100);
+            assertEquals(a2.indexOf(e), a1.indexOfPrimitive(e));
+            assertEquals(a2.lastIndexOf(e), a1.lastIndexOfPrimitive(e));
+            assertEquals(a2.contains(e), a1.containsPrimitive(e));
+        }
+    }
+
+    @Test
+    public void testRandomOperations() {
+        Random random = new Random(1);
+        for (int shift : new int[]{1, 3, 5, LongBigArrayList.DEFAULT_SEGMENT_SHIFT}) {
+            LongBigArrayList list = new LongBigArrayList(0, shift);
+            List<Long> expected = new ArrayList<>();
+            for (int i = 0; i < 3000; i++) {
+                int op = random.nextInt(10);
+                long e = random.nextInt(100);
+                if (op < 5 || expected.isEmpty()) {
+                    list.addPrimitive(e);
+                    expected.add(e);
+                } else if (op == 5) {
+                    int index = random.nextInt(expected.size() + 1);
+                    list.addPrimitive((long) index, e);
+                    expected.add(index, e);
+                } else if (op == 6) {
+                    int index = random.nextInt(expected.size());
+                    assertEquals((long) expected.remove(index), list.removeByIndexPrimitive(index));
+                } else if (op == 7) {
+                    int index = random.nextInt(expected.size());
+                    assertEquals((long) expected.set(index, e), list.setPrimitive(index, e));
+                } else if (op == 8) {
+                    assertEquals(expected.remove((Long) e), list.removeByContentPrimitive(e));
+                } else {
+                    int from = random.nextInt(expected.size());
+                    int to = Math.min(expected.size(), from + random.nextInt(40));
+                    list.removeRange(from, to);
+                    expected.subList(from, to).clear();
+                }
+            }
+            checkEqual(list, expected);
+            list.trimToSize();
+            checkEqual(list, expected);
+            list.addPrimitive(7);
+            expected.add(7L);
+            checkEqual(list, expected);
+        }
+    }
+
+    @Test
+    public void testBulkElements() {
+        long[] a = new long[1000];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = i * 7;
+        }
+        LongBigArrayList list = new LongBigArrayList(0, 4);
+        list.addElements(a, 3, 500);
+        list.addAll(a);
+        assertEquals(1500, list.size64());
+        long[] b = new long[600];
+        list.getElements(490, b, 100, 500);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(a[493 + i], b[100 + i]);
+        }
+        for (int i = 10; i < 500; i++) {
+            assertEquals(a[i - 10], b[100 + i]);
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getElements(1400, b, 0, 101));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getElements(0, b, 500, 101));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addElements(a, 900, 101));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getPrimitive(1500));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getPrimitive(-1));
+
+        LongBigArrayList copy = new LongBigArrayList(list);
+        assertEquals(list, copy);
+        LongBigArrayList fromLongList = new LongBigArrayList(new LongArrayList(a));
+        assertEquals(new LongBigArrayList(a), fromLongList);
+        copy.addAll(copy);
+        assertEquals(3000, copy.size64());
+        assertEquals(list.getPrimitive(1499), copy.getPrimitive(2999));
+        assertNotEquals(list, copy);
+    }
+
+    @Test
+    public void testRemoveIf() {
+        LongBigArrayList list = new LongBigArrayList(0, 3);
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            list.addPrimitive(i % 13);
+            expected.add((long) (i % 13));
+        }
+        assertTrue(list.removeIfPrimitive(e -> e % 3 == 0));
+        expected.removeIf(e -> e % 3 == 0);
+        checkEqual(list, expected);
+        assertFalse(list.removeIfPrimitive(e -> e % 3 == 0));
+        assertTrue(list.retainAll(new LongArrayList(new long[]{1, 2, 4})));
+        expected.retainAll(java.util.Arrays.asList(1L, 2L, 4L));
+        checkEqual(list, expected);
+        assertTrue(list.removeAll(java.util.Arrays.asList(2L)));
+        expected.removeAll(java.util.Arrays.asList(2L));
+        checkEqual(list, expected);
+    }
+
+    @Test
+    public void testIterator() {
+        LongBigArrayList list = new LongBigArrayList(0, 2);
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            list.addPrimitive(i);
+            expected.add((long) i);
+        }
+        LongIterator iterator = list.iterator();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        while (iterator.hasNext()) {
+            if (iterator.nextPrimitive() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        expected.removeIf(e -> e % 2 == 0);
+        checkEqual(list, expected);
+        LongIterator failing = list.iterator();
+        list.addPrimitive(1);
+        assertThrows(java.util.ConcurrentModificationException.class, failing::nextPrimitive);
+    }
+
+    @Test
+    public void testSpliteratorSplitsOnSegments() {
+        LongBigArrayList list = new LongBigArrayList(0, 4);
+        for (int i = 0; i < 100; i++) {
+            list.addPrimitive(i);
+        }
+        LongSpliterator right = list.spliterator();
+        LongSpliterator left = right.trySplit();
+        assertNotNull(left);
+        assertEquals(48, left.estimateSize());
+        assertEquals(52, right.estimateSize());
+        List<Long> visited = new ArrayList<>();
+        left.forEachRemaining((LongConsumer) visited::add);
+        assertTrue(right.tryAdvance((LongConsumer) visited::add));
+        right.forEachRemaining((LongConsumer) visited::add);
+        assertEquals(100, visited.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, (long) visited.get(i));
+        }
+    }
+
+    @Test
+    public void testClearAndClone() {
+        LongBigArrayList list = new LongBigArrayList(new long[]{1, 2, 3});
+        LongBigArrayList clone = list.clone();
+        clone.setPrimitive(0, 9);
+        assertEquals(1, list.getPrimitive(0));
+        list.clear();
+        assertTrue(list.isEmpty());
+        list.trimToSize();
+        list.addPrimitive(4);
+        assertEquals(new LongBigArrayList(new long[]{4}), list);
+    }
+
+    @Test
+    public void testSerialize() throws IOException, ClassNotFoundException {
+        LongBigArrayList list = new LongBigArrayList(0, 3);
+        for (int i = 0; i < 100; i++) {
+            list.addPrimitive(i * 31);
+        }
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(list);
+        }
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(
+                new ByteArrayInputStream(byteArrayOutputStream.toByteArray()))) {
+            LongBigArrayList read = (LongBigArrayList) objectInputStream.readObject();
+            assertEquals(list, read);
+            assertEquals(8, read.segmentSize());
+            read.addPrimitive(5);
+            assertEquals(101, read.size64());
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.xenoamess.commons.primitive.collections.lists.compressed_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.IntList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.IntArrayList;
+import com.xenoamess.commons.primitive.functions.IntConsumer;
+import com.xenoamess.commons.primitive.iterators.IntListIterator;
+import com.xenoamess.commons.primitive.iterators.IntSpliterator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author XenoAmess
+ */
+public class CompressedIntListTest {
+
+    public void checkEqual(IntList a1, List<Integer> a2) {
+        assertEquals(a2.size(), a1.size());
+        for (int i = 0; i < a2.size(); i++) {
+            assertEquals((int) a2.get(i), a1.getPrimitive(i));
+        }
+        Random random = new Random(a2.size());
+        for (int i = 0; i < 100 && !a2.isEmpty(); i++) {
+            int e = random.nextBoolean() ? a2.get(random.nextInt(a2.size())) : random.nextInt();
+            assertEquals(a2.indexOf(e), a1.indexOfPrimitive(e));
+            assertEquals(a2.lastIndexOf(e), a1.lastIndexOfPrimitive(e));
+            assertEquals(a2.contains(e), a1.containsPrimitive(e));
+        }
+        assertEquals(a2, a1);
+        assertEquals(a1, a2);
+        assertEquals(a1, new IntArrayList(a2));
+        assertEquals(a2.hashCode(), a1.hashCode());
+        assertEquals(a2.toString(), a1.toString());
+        final IntArrayList expected = new IntArrayList(a2);
+        assertArrayEquals(expected.toArrayPrimitive(), a1.toArrayPrimitive());
+        for (int arrayLength : new int[]{0, a2.size(), a2.size() + 2}) {
+            final int[] expectedArray = new int[arrayLength];
+            Arrays.fill(expectedArray, 7);
+            final int[] actualArray = expectedArray.clone();
+            assertArrayEquals(expected.toArrayPrimitive(expectedArray), a1.toArrayPrimitive(actualArray));
+        }
+        ArrayList<Integer> visited = new ArrayList<>();
+        a1.forEachPrimitive(visited::add);
+        assertEquals(a2, visited);
+        assertEquals(a2, a1.intStream().boxed().collect(Collectors.toList()));
+        assertEquals(a2, a1.intStream().parallel().boxed().collect(Collectors.toList()));
+        assertEquals(a2.stream().mapToLong(x -> x).sum(), a1.intStream().parallel().asLongStream().sum());
+
+        IntListIterator listIterator = a1.listIterator(a2.size());
+        for (int i = a2.size() - 1; i >= 0; i--) {
+            assertTrue(listIterator.hasPrevious());
+            assertEquals((int) a2.get(i), listIterator.previousPrimitive());
+        }
+        assertFalse(listIterator.hasPrevious());
+
+        visited.clear();
+        IntSpliterator spliterator = a1.spliterator();
+        IntSpliterator prefix = spliterator.trySplit();
+        if (prefix != null) {
+            assertEquals(0, prefix.estimateSize() % CompressedIntList.BLOCK_SIZE);
+            while (prefix.tryAdvance((IntConsumer) visited::add)) {
+                assertTrue(visited.size() <= a2.size());
+            }
+        }
+        spliterator.forEachRemaining((IntConsumer) visited::add);
+        assertEquals(a2, visited);
+    }
+
+    public void check(int[] array) {
+        List<Integer> a2 = new ArrayList<>();
+        for (int e : array) {
+            a2.add(e);
+        }
+        CompressedIntList a1 = CompressedIntList.of(array);
+        if (array.length > 0) {
+            array[0]++;
+        }
+        checkEqual(a1, a2);
+        assertSame(a1, CompressedIntList.copyOf(a1));
+        assertEquals(a1, CompressedIntList.copyOf(new IntArrayList(a2)));
+        assertThrows(UnsupportedOperationException.class, () -> a1.addPrimitive(0));
+        assertThrows(UnsupportedOperationException.class, () -> a1.listIterator().remove());
+        if (!a1.isEmpty()) {
+            assertThrows(UnsupportedOperationException.class, () -> a1.setPrimitive(0, 0));
+            assertThrows(UnsupportedOperationException.class, () -> a1.removeByIndexPrimitive(0));
+            assertThrows(UnsupportedOperationException.class, a1::clear);
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> a1.getPrimitive(a1.size()));
+        assertThrows(IndexOutOfBoundsException.class, () -> a1.getPrimitive(-1));
+    }
+
+    @Test
+    public void test() {
+        Random random = new Random(1);
+        for (int length : new int[]{0, 1, 2, 127, 128, 129, 1000, 100000}) {
+            int[] array = new int[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = random.nextInt();
+            }
+            check(array.clone());
+
+            for (int i = 0; i < length; i++) {
+                array[i] = random.nextInt(1000);
+            }
+            check(array.clone());
+
+            for (int i = 1; i < length; i++) {
+                array[i] = array[i - 1] + random.nextInt(16);
+            }
+            check(array.clone());
+
+            for (int i = 0; i < length; i++) {
+                array[i] = (i & 1) == 0 ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+            }
+            check(array.clone());
+
+            for (int i = 0; i < length; i++) {
+                array[i] = 7 - 3 * i;
+            }
+            check(array.clone());
+        }
+    }
+
+    @Test
+    public void testCompression() {
+        int[] array = new int[100000];
+        Random random = new Random(2);
+        for (int i = 1; i < array.length; i++) {
+            array[i] = array[i - 1] + 1 + random.nextInt(15);
+        }
+        CompressedIntList a1 = CompressedIntList.of(array);
+        assertTrue(a1.sizeInBytes() * 6 < (long) array.length * Integer.BYTES);
+        assertEquals(array[99999], a1.getPrimitive(99999));
+        assertEquals(0, CompressedIntList.of().sizeInBytes());
+        assertEquals(new IntArrayList(new int[]{3, 4, 5}), CompressedIntList.copyOf(new int[]{1, 2, 3, 4, 5, 6}, 2, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> CompressedIntList.copyOf(new int[3], 0, 4));
+    }
+
+    @Test
+    public void testSerialize() throws IOException, ClassNotFoundException {
+        int[] array = new int[1000];
+        Random random = new Random(3);
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt(1 << 20);
+        }
+        CompressedIntList a1 = CompressedIntList.of(array);
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(a1);
+        }
+        try (ObjectInputStream objectInputStream =
+                     new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()))) {
+            assertEquals(a1, objectInputStream.readObject());
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.xenoamess.commons.primitive.collections.lists.direct_lists;
+
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DirectDoubleListTest {
+    public static void checkEqual(DirectDoubleList a1, ArrayList<Double> a2) {
+        assertEquals(a2.size(), a1.size());
+        assertEquals(a2, a1);
+        assertEquals(a1, a2);
+        assertEquals(a2.hashCode(), a1.hashCode());
+        DoubleBuffer view = a1.asDoubleBuffer();
+        assertEquals(a2.size(), view.remaining());
+        for (int i = 0; i < a2.size(); i++) {
+            assertEquals(a2.get(i), (Double) view.get(i));
+        }
+    }
+
+    public void check(int length) {
+        Random random = new Random();
+        ArrayList<Double> a2 = new ArrayList<>();
+        try (DirectDoubleList a1 = new DirectDoubleList()) {
+            for (int i = 0; i < length; i++) {
+                double l = random.nextDouble();
+                switch (random.nextInt(6)) {
+                    case 0:
+                    case 1:
+                    case 2:
+                        a1.add(l);
+                        a2.add(l);
+                        break;
+                    case 3:
+                        int index = random.nextInt(a2.size() + 1);
+                        a1.addPrimitive(index, l);
+                        a2.add(index, l);
+                        break;
+                    case 4:
+                        if (!a2.isEmpty()) {
+                            index = random.nextInt(a2.size());
+                            assertEquals(a2.remove(index), (Double) a1.removeByIndexPrimitive(index));
+                        }
+                        break;
+                    default:
+                        if (!a2.isEmpty()) {
+                            index = random.nextInt(a2.size());
+                            assertEquals(a2.set(index, l), (Double) a1.setPrimitive(index, l));
+                        }
+                        break;
+                }
+            }
+            checkEqual(a1, a2);
+
+            try (DirectDoubleList a3 = new DirectDoubleList(a1)) {
+                checkEqual(a3, a2);
+                a3.addAll(a1.toArrayPrimitive());
+                ArrayList<Double> a4 = new ArrayList<>(a2);
+                a4.addAll(a2);
+                checkEqual(a3, a4);
+                int from = random.nextInt(a4.size() + 1);
+                int to = from + random.nextInt(a4.size() - from + 1);
+                a3.subList(from, to).clear();
+                a4.subList(from, to).clear();
+                checkEqual(a3, a4);
+                a3.trimToSize();
+                checkEqual(a3, a4);
+            }
+
+            // the view shares memory with the list.
+            if (!a2.isEmpty()) {
+                final double minusOne = -1;
+                a1.asDoubleBuffer().put(0, minusOne);
+                a2.set(0, minusOne);
+                checkEqual(a1, a2);
+            }
+
+            boolean flag = false;
+            for (Double l : a2) {
+                flag = !flag;
+                if (flag) {
+                    a1.remove(l);
+                } else {
+                    a1.removeByContentPrimitive(l);
+                }
+            }
+            assertTrue(a1.isEmpty());
+        }
+    }
+
+    public void checkWrap(int length) {
+        DoubleBuffer doubleBuffer = DoubleBuffer.allocate(length + 2);
+        ArrayList<Double> a2 = new ArrayList<>();
+        for (int i = 0; i < length; i++) {
+            doubleBuffer.put(i + 1, i);
+            a2.add(doubleBuffer.get(i + 1));
+        }
+        doubleBuffer.position(1).limit(length + 1);
+
+        DirectDoubleList a1 = new DirectDoubleList(doubleBuffer);
+        checkEqual(a1, a2);
+        assertEquals(1, doubleBuffer.position());
+        assertEquals(length + 1, doubleBuffer.limit());
+        if (length > 0) {
+            // writes go to the wrapped buffer, until growing.
+            final double minusOne = -1;
+            a1.setPrimitive(0, minusOne);
+            a2.set(0, minusOne);
+            assertEquals(-1, doubleBuffer.get(1));
+        }
+        final double added = 42;
+        a1.addPrimitive(added);
+        a2.add(added);
+        checkEqual(a1, a2);
+        if (length > 0) {
+            // the list does not use the wrapped buffer any more after growing.
+            a1.setPrimitive(0, 7);
+            assertEquals(-1, doubleBuffer.get(1));
+        }
+        a1.close();
+        assertTrue(a1.isEmpty());
+
+        DirectDoubleList a5 = new DirectDoubleList(doubleBuffer, true);
+        assertTrue(a5.isEmpty());
+        assertEquals(length, a5.capacity());
+        a5.close();
+    }
+
+    @Test
+    public void checks() {
+        for (int i = 0; i < 1000; i++) {
+            check(100);
+        }
+        for (int i = 0; i < 20; i++) {
+            check(3000);
+        }
+        for (int i = 0; i < 10; i++) {
+            checkWrap(i);
+        }
+    }
+}
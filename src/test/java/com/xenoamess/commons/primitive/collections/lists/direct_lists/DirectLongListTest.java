@@ -0,0 +1,144 @@
+package com.xenoamess.commons.primitive.collections.lists.direct_lists;
+
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DirectLongListTest {
+    public static void checkEqual(DirectLongList a1, ArrayList<Long> a2) {
+        assertEquals(a2.size(), a1.size());
+        assertEquals(a2, a1);
+        assertEquals(a1, a2);
+        assertEquals(a2.hashCode(), a1.hashCode());
+        LongBuffer view = a1.asLongBuffer();
+        assertEquals(a2.size(), view.remaining());
+        for (int i = 0; i < a2.size(); i++) {
+            assertEquals(a2.get(i), (Long) view.get(i));
+        }
+    }
+
+    public void check(int length) {
+        Random random = new Random();
+        ArrayList<Long> a2 = new ArrayList<>();
+        try (DirectLongList a1 = new DirectLongList()) {
+            for (int i = 0; i < length; i++) {
+                long l = random.nextLong();
+                switch (random.nextInt(6)) {
+                    case 0:
+                    case 1:
+                    case 2:
+                        a1.add(l);
+                        a2.add(l);
+                        break;
+                    case 3:
+                        int index = random.nextInt(a2.size() + 1);
+                        a1.addPrimitive(index, l);
+                        a2.add(index, l);
+                        break;
+                    case 4:
+                        if (!a2.isEmpty()) {
+                            index = random.nextInt(a2.size());
+                            assertEquals(a2.remove(index), (Long) a1.removeByIndexPrimitive(index));
+                        }
+                        break;
+                    default:
+                        if (!a2.isEmpty()) {
+                            index = random.nextInt(a2.size());
+                            assertEquals(a2.set(index, l), (Long) a1.setPrimitive(index, l));
+                        }
+                        break;
+                }
+            }
+            checkEqual(a1, a2);
+
+            try (DirectLongList a3 = new DirectLongList(a1)) {
+                checkEqual(a3, a2);
+                a3.addAll(a1.toArrayPrimitive());
+                ArrayList<Long> a4 = new ArrayList<>(a2);
+                a4.addAll(a2);
+                checkEqual(a3, a4);
+                int from = random.nextInt(a4.size() + 1);
+                int to = from + random.nextInt(a4.size() - from + 1);
+                a3.subList(from, to).clear();
+                a4.subList(from, to).clear();
+                checkEqual(a3, a4);
+                a3.trimToSize();
+                checkEqual(a3, a4);
+            }
+
+            // the view shares memory with the list.
+            if (!a2.isEmpty()) {
+                final long minusOne = -1;
+                a1.asLongBuffer().put(0, minusOne);
+                a2.set(0, minusOne);
+                checkEqual(a1, a2);
+            }
+
+            boolean flag = false;
+            for (Long l : a2) {
+                flag = !flag;
+                if (flag) {
+                    a1.remove(l);
+                } else {
+                    a1.removeByContentPrimitive(l);
+                }
+            }
+            assertTrue(a1.isEmpty());
+        }
+    }
+
+    public void checkWrap(int length) {
+        LongBuffer longBuffer = LongBuffer.allocate(length + 2);
+        ArrayList<Long> a2 = new ArrayList<>();
+        for (int i = 0; i < length; i++) {
+            longBuffer.put(i + 1, i);
+            a2.add(longBuffer.get(i + 1));
+        }
+        longBuffer.position(1).limit(length + 1);
+
+        DirectLongList a1 = new DirectLongList(longBuffer);
+        checkEqual(a1, a2);
+        assertEquals(1, longBuffer.position());
+        assertEquals(length + 1, longBuffer.limit());
+        if (length > 0) {
+            // writes go to the wrapped buffer, until growing.
+            final long minusOne = -1;
+            a1.setPrimitive(0, minusOne);
+            a2.set(0, minusOne);
+            assertEquals(-1, longBuffer.get(1));
+        }
+        final long added = 42;
+        a1.addPrimitive(added);
+        a2.add(added);
+        checkEqual(a1, a2);
+        if (length > 0) {
+            // the list does not use the wrapped buffer any more after growing.
+            a1.setPrimitive(0, 7);
+            assertEquals(-1, longBuffer.get(1));
+        }
+        a1.close();
+        assertTrue(a1.isEmpty());
+
+        DirectLongList a5 = new DirectLongList(longBuffer, true);
+        assertTrue(a5.isEmpty());
+        assertEquals(length, a5.capacity());
+        a5.close();
+    }
+
+    @Test
+    public void checks() {
+        for (int i = 0; i < 1000; i++) {
+            check(100);
+        }
+        for (int i = 0; i < 20; i++) {
+            check(3000);
+        }
+        for (int i = 0; i < 10; i++) {
+            checkWrap(i);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.xenoamess.commons.primitive.collections.lists.immutable_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.BooleanList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.BooleanArrayList;
+import com.xenoamess.commons.primitive.iterators.BooleanListIterator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author XenoAmess
+ */
+public class BooleanImmutableListTest {
+
+    public void checkEqual(BooleanList a1, List<Boolean> a2) {
+        assertEquals(a2.size(), a1.size());
+        for (int i = 0; i < a2.size(); i++) {
+            assertEquals(a2.get(i), a1.get(i));
+            assertEquals((boolean) a2.get(i), a1.getPrimitive(i));
+            assertEquals(a2.indexOf(a2.get(i)), a1.indexOfPrimitive(a2.get(i)));
+            assertEquals(a2.lastIndexOf(a2.get(i)), a1.lastIndexOfPrimitive(a2.get(i)));
+            assertTrue(a1.containsPrimitive(a2.get(i)));
+        }
+        assertEquals(a2, a1);
+        assertEquals(a1, a2);
+        assertEquals(a2.hashCode(), a1.hashCode());
+        assertEquals(a2.hashCode(), a1.hashCode());
+        assertEquals(a2.toString(), a1.toString());
+        assertEquals(new ArrayList<>(a2), new ArrayList<>(a1));
+        ArrayList<Boolean> visited = new ArrayList<>();
+        a1.forEachPrimitive(visited::add);
+        assertEquals(a2, visited);
+    }
+
+    public void checkUnsupported(BooleanImmutableList a1, boolean e) {
+        assertThrows(UnsupportedOperationException.class, () -> a1.addPrimitive(e));
+        assertThrows(UnsupportedOperationException.class, () -> a1.add(a1.size(), e));
+        assertThrows(UnsupportedOperationException.class, () -> a1.addAll(new BooleanArrayList()));
+        assertThrows(UnsupportedOperationException.class, a1::clear);
+        assertThrows(UnsupportedOperationException.class, () -> a1.removeIf(x -> true));
+        assertThrows(UnsupportedOperationException.class, () -> a1.sort(null));
+        assertThrows(UnsupportedOperationException.class, () -> a1.iterator().remove());
+        if (!a1.isEmpty()) {
+            assertThrows(UnsupportedOperationException.class, () -> a1.setPrimitive(0, a1.getPrimitive(0)));
+            assertThrows(UnsupportedOperationException.class, () -> a1.removeByIndexPrimitive(0));
+            assertThrows(UnsupportedOperationException.class, () -> a1.removeByContentPrimitive(a1.getPrimitive(0)));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> a1.getPrimitive(a1.size()));
+        assertThrows(IndexOutOfBoundsException.class, () -> a1.getPrimitive(-1));
+    }
+
+    public void check(int length) {
+        Random random = new Random(length);
+        boolean[] array = new boolean[length];
+        List<Boolean> a2 = new ArrayList<>();
+        for (int i = 0; i < length; i++) {
+            array[i] = random.nextBoolean();
+            a2.add(array[i]);
+        }
+        BooleanImmutableList a1 = BooleanImmutableList.of(array);
+        if (length > 0) {
+            array[0] = random.nextBoolean();
+        }
+        checkEqual(a1, a2);
+        checkUnsupported(a1, random.nextBoolean());
+        assertArrayEquals(a1.toArrayPrimitive(), BooleanImmutableList.copyOf(new BooleanArrayList(a2)).toArrayPrimitive());
+        assertSame(a1, BooleanImmutableList.copyOf(a1));
+
+        BooleanListIterator listIterator = a1.listIterator(length);
+        for (int i = length - 1; i >= 0; i--) {
+            assertTrue(listIterator.hasPrevious());
+            assertEquals((boolean) a2.get(i), listIterator.previousPrimitive());
+        }
+        assertFalse(listIterator.hasPrevious());
+
+        for (int i = 0; i < 20 && length > 0; i++) {
+            int from = random.nextInt(length + 1);
+            int to = from + random.nextInt(length - from + 1);
+            BooleanImmutableList s1 = a1.subList(from, to);
+            List<Boolean> s2 = a2.subList(from, to);
+            checkEqual(s1, s2);
+            checkUnsupported(s1, random.nextBoolean());
+            checkEqual(BooleanImmutableList.copyOf(s1), s2);
+            if (to > from) {
+                int mid = from + random.nextInt(to - from);
+                checkEqual(s1.subList(mid - from, to - from), a2.subList(mid, to));
+            }
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> a1.subList(0, length + 1));
+    }
+
+    @Test
+    public void test() {
+        for (int length = 0; length < 10; length++) {
+            check(length);
+        }
+        check(100);
+        check(10000);
+    }
+
+    @Test
+    public void testOf() {
+        Random random = new Random();
+        boolean e0 = random.nextBoolean();
+        boolean e1 = random.nextBoolean();
+        checkEqual(BooleanImmutableList.of(), new ArrayList<>());
+        List<Boolean> a2 = new ArrayList<>();
+        a2.add(e0);
+        checkEqual(BooleanImmutableList.of(e0), a2);
+        a2.add(e1);
+        checkEqual(BooleanImmutableList.of(e0, e1), a2);
+        checkUnsupported(BooleanImmutableList.of(e0, e1), e0);
+        assertSame(BooleanImmutableList.of(), BooleanImmutableList.of(new boolean[0]));
+    }
+
+    @Test
+    public void testSerialize() throws IOException, ClassNotFoundException {
+        Random random = new Random();
+        for (int length : new int[]{0, 1, 2, 3, 1000}) {
+            boolean[] array = new boolean[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = random.nextBoolean();
+            }
+            BooleanImmutableList a1 = BooleanImmutableList.of(array);
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+            objectOutputStream.writeObject(a1);
+            objectOutputStream.writeObject(a1.subList(length / 2, length));
+            objectOutputStream.close();
+            ObjectInputStream objectInputStream =
+                    new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()));
+            assertEquals(a1, objectInputStream.readObject());
+            assertEquals(a1.subList(length / 2, length), objectInputStream.readObject());
+        }
+    }
+}
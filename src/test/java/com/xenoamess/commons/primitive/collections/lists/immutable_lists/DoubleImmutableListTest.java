@@ -0,0 +1,150 @@
+package com.xenoamess.commons.primitive.collections.lists.immutable_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.DoubleList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.DoubleArrayList;
+import com.xenoamess.commons.primitive.iterators.DoubleListIterator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author XenoAmess
+ */
+public class DoubleImmutableListTest {
+
+    public void checkEqual(DoubleList a1, List<Double> a2) {
+        assertEquals(a2.size(), a1.size());
+        for (int i = 0; i < a2.size(); i++) {
+            assertEquals(a2.get(i), a1.get(i));
+            assertEquals((double) a2.get(i), a1.getPrimitive(i));
+            assertEquals(a2.indexOf(a2.get(i)), a1.indexOfPrimitive(a2.get(i)));
+            assertEquals(a2.lastIndexOf(a2.get(i)), a1.lastIndexOfPrimitive(a2.get(i)));
+            assertTrue(a1.containsPrimitive(a2.get(i)));
+        }
+        assertEquals(a2, a1);
+        assertEquals(a1, a2);
+        assertEquals(a2.hashCode(), a1.hashCode());
+        assertEquals(a2.hashCode(), a1.hashCode());
+        assertEquals(a2.toString(), a1.toString());
+        assertEquals(new ArrayList<>(a2), new ArrayList<>(a1));
+        ArrayList<Double> visited = new ArrayList<>();
+        a1.forEachPrimitive(visited::add);
+        assertEquals(a2, visited);
+    }
+
+    public void checkUnsupported(DoubleImmutableList a1, double e) {
+        assertThrows(UnsupportedOperationException.class, () -> a1.addPrimitive(e));
+        assertThrows(UnsupportedOperationException.class, () -> a1.add(a1.size(), e));
+        assertThrows(UnsupportedOperationException.class, () -> a1.addAll(new DoubleArrayList()));
+        assertThrows(UnsupportedOperationException.class, a1::clear);
+        assertThrows(UnsupportedOperationException.class, () -> a1.removeIf(x -> true));
+        assertThrows(UnsupportedOperationException.class, () -> a1.sort(null));
+        assertThrows(UnsupportedOperationException.class, () -> a1.iterator().remove());
+        if (!a1.isEmpty()) {
+            assertThrows(UnsupportedOperationException.class, () -> a1.setPrimitive(0, a1.getPrimitive(0)));
+            assertThrows(UnsupportedOperationException.class, () -> a1.removeByIndexPrimitive(0));
+            assertThrows(UnsupportedOperationException.class, () -> a1.removeByContentPrimitive(a1.getPrimitive(0)));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> a1.getPrimitive(a1.size()));
+        assertThrows(IndexOutOfBoundsException.class, () -> a1.getPrimitive(-1));
+    }
+
+    public void check(int length) {
+        Random random = new Random(length);
+        double[] array = new double[length];
+        List<Double> a2 = new ArrayList<>();
+        for (int i = 0; i < length; i++) {
+            array[i] = random.nextDouble();
+            a2.add(array[i]);
+        }
+        DoubleImmutableList a1 = DoubleImmutableList.of(array);
+        if (length > 0) {
+            array[0] = random.nextDouble();
+        }
+        checkEqual(a1, a2);
+        checkUnsupported(a1, random.nextDouble());
+        assertArrayEquals(a1.toArrayPrimitive(), DoubleImmutableList.copyOf(new DoubleArrayList(a2)).toArrayPrimitive());
+        assertSame(a1, DoubleImmutableList.copyOf(a1));
+
+        DoubleListIterator listIterator = a1.listIterator(length);
+        for (int i = length - 1; i >= 0; i--) {
+            assertTrue(listIterator.hasPrevious());
+            assertEquals((double) a2.get(i), listIterator.previousPrimitive());
+        }
+        assertFalse(listIterator.hasPrevious());
+
+        for (int i = 0; i < 20 && length > 0; i++) {
+            int from = random.nextInt(length + 1);
+            int to = from + random.nextInt(length - from + 1);
+            DoubleImmutableList s1 = a1.subList(from, to);
+            List<Double> s2 = a2.subList(from, to);
+            checkEqual(s1, s2);
+            checkUnsupported(s1, random.nextDouble());
+            checkEqual(DoubleImmutableList.copyOf(s1), s2);
+            if (to > from) {
+                int mid = from + random.nextInt(to - from);
+                checkEqual(s1.subList(mid - from, to - from), a2.subList(mid, to));
+            }
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> a1.subList(0, length + 1));
+    }
+
+    @Test
+    public void test() {
+        for (int length = 0; length < 10; length++) {
+            check(length);
+        }
+        check(100);
+        check(10000);
+    }
+
+    @Test
+    public void testOf() {
+        Random random = new Random();
+        double e0 = random.nextDouble();
+        double e1 = random.nextDouble();
+        checkEqual(DoubleImmutableList.of(), new ArrayList<>());
+        List<Double> a2 = new ArrayList<>();
+        a2.add(e0);
+        checkEqual(DoubleImmutableList.of(e0), a2);
+        a2.add(e1);
+        checkEqual(DoubleImmutableList.of(e0, e1), a2);
+        checkUnsupported(DoubleImmutableList.of(e0, e1), e0);
+        assertSame(DoubleImmutableList.of(), DoubleImmutableList.of(new double[0]));
+    }
+
+    @Test
+    public void testSerialize() throws IOException, ClassNotFoundException {
+        Random random = new Random();
+        for (int length : new int[]{0, 1, 2, 3, 1000}) {
+            double[] array = new double[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = random.nextDouble();
+            }
+            DoubleImmutableList a1 = DoubleImmutableList.of(array);
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+            objectOutputStream.writeObject(a1);
+            objectOutputStream.writeObject(a1.subList(length / 2, length));
+            objectOutputStream.close();
+            ObjectInputStream objectInputStream =
+                    new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()));
+            assertEquals(a1, objectInputStream.readObject());
+            assertEquals(a1.subList(length / 2, length), objectInputStream.readObject());
+        }
+    }
+}
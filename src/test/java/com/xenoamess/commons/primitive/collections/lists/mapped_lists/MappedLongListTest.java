@@ -0,0 +1,170 @@
+package com.xenoamess.commons.primitive.collections.lists.mapped_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.LongArrayList;
+import com.xenoamess.commons.primitive.io.PrimitiveArrayIO;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author XenoAmess
+ */
+public class MappedLongListTest {
+
+    private static Path newFile() throws IOException {
+        Path path = Files.createTempFile("MappedLongListTest", ".bin");
+        Files.delete(path);
+        return path;
+    }
+
+    @Test
+    public void testAsList() throws IOException {
+        Path path = newFile();
+        try (MappedLongList list = new MappedLongList(path, false, 4)) {
+            List<Long> expected = new ArrayList<>();
+            Random random = new Random(24);
+            for (int i = 0; i < 1000; i++) {
+                long value = random.nextInt(100);
+                switch (random.nextInt(5)) {
+                    case 0:
+                        if (!expected.isEmpty()) {
+                            int index = random.nextInt(expected.size());
+                            assertEquals(expected.remove(index), list.remove(index));
+                        }
+                        break;
+                    case 1:
+                        int index = random.nextInt(expected.size() + 1);
+                        expected.add(index, value);
+                        list.add(index, (Long) value);
+                        break;
+                    default:
+                        expected.add(value);
+                        list.addPrimitive(value);
+                        break;
+                }
+                assertEquals(expected.size(), list.size());
+            }
+            assertEquals(expected, list);
+            assertEquals(new LongArrayList(expected), list);
+            assertEquals(expected.indexOf(42L), list.indexOfPrimitive(42L));
+            assertEquals(expected.lastIndexOf(42L), list.lastIndexOfPrimitive(42L));
+            assertTrue(list.capacity() >= list.size());
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void testPersistence() throws IOException {
+        Path path = newFile();
+        try {
+            long[] data = new long[100];
+            for (int i = 0; i < data.length; i++) {
+                data[i] = (long) i * i * i * i * i - 500;
+            }
+            try (MappedLongList list = new MappedLongList(path, false, 3)) {
+                list.addAll(data);
+                list.setPrimitive(7, 7);
+                data[7] = 7;
+                list.force();
+            }
+            try (MappedLongList list = new MappedLongList(path, false, 5)) {
+                assertArrayEquals(data, list.toArrayPrimitive());
+                list.removeRange(90, 100);
+                list.addPrimitive(-1);
+            }
+            long[] expected = new long[91];
+            System.arraycopy(data, 0, expected, 0, 90);
+            expected[90] = -1;
+
+            // the file grows by whole chunks, but only the elements are read back.
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                assertTrue(channel.size() > PrimitiveArrayIO.sizeInBytes(PrimitiveArrayIO.TYPE_LONG, 91));
+                assertArrayEquals(expected, LongArrayList.readFrom(channel).toArrayPrimitive());
+            }
+
+            try (MappedLongList list = new MappedLongList(path, true, 2)) {
+                assertTrue(list.isReadOnly());
+                assertArrayEquals(expected, list.toArrayPrimitive());
+                assertEquals(91, list.capacity());
+                assertThrows(UnsupportedOperationException.class, () -> list.addPrimitive(1));
+                assertThrows(UnsupportedOperationException.class, () -> list.setPrimitive(0, 1));
+                assertThrows(UnsupportedOperationException.class, () -> list.removeByIndexPrimitive(0));
+                assertThrows(UnsupportedOperationException.class, list::clear);
+            }
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void testOpenArrayListFile() throws IOException {
+        Path path = newFile();
+        try {
+            LongArrayList source = new LongArrayList(new long[]{3, 1, 4, 1, 5, 9, 2, 6});
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                source.writeTo(channel);
+            }
+            try (MappedLongList list = new MappedLongList(path, true)) {
+                assertEquals(source, list);
+            }
+            try (MappedLongList list = new MappedLongList(path)) {
+                list.addPrimitive(5);
+                assertEquals(9, list.size());
+            }
+            try (MappedLongList list = new MappedLongList(path, true)) {
+                assertEquals(5L, list.getPrimitive(8));
+            }
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void testClose() throws IOException {
+        Path path = newFile();
+        try {
+            MappedLongList list = new MappedLongList(path);
+            list.addPrimitive(1);
+            list.close();
+            assertTrue(list.isEmpty());
+            assertThrows(IllegalStateException.class, () -> list.addPrimitive(1));
+            list.close();
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void testInvalidFile() throws IOException {
+        Path path = newFile();
+        try {
+            assertThrows(IOException.class, () -> new MappedLongList(path, true));
+            assertFalse(Files.exists(path));
+            assertThrows(IllegalArgumentException.class, () -> new MappedLongList(path, false, 28));
+
+            try (MappedIntList list = new MappedIntList(path)) {
+                list.addPrimitive(1);
+            }
+            assertThrows(IllegalArgumentException.class, () -> new MappedLongList(path));
+
+            Files.write(path, new byte[3]);
+            assertThrows(IOException.class, () -> new MappedLongList(path));
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+}
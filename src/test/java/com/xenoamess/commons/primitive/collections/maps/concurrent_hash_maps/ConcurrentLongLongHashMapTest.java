@@ -0,0 +1,231 @@
+package com.xenoamess.commons.primitive.collections.maps.concurrent_hash_maps;
+
+import com.xenoamess.commons.primitive.Primitive;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author XenoAmess
+ */
+public class ConcurrentLongLongHashMapTest {
+
+    public void checkEqual(ConcurrentLongLongHashMap a1, HashMap<Long, Long> a2) {
+        assertEquals(a2.size(), a1.size());
+        for (Map.Entry<Long, Long> entry : a2.entrySet()) {
+            assertTrue(a1.containsKeyPrimitive(entry.getKey()));
+            assertEquals(entry.getValue(), a1.get(entry.getKey()));
+            assertEquals((long) entry.getValue(), a1.getPrimitive(entry.getKey()));
+        }
+        a1.forEachPrimitive((k, v) -> assertEquals(a2.get(k), (Long) v));
+        assertEquals(a1, a2);
+        assertEquals(a2, a1);
+        assertEquals(a2.hashCode(), a1.hashCode());
+    }
+
+    @Test
+    public void randomTest() {
+        Random random = new Random();
+        ConcurrentLongLongHashMap a1 = new ConcurrentLongLongHashMap(0, 0.75f, 4);
+        HashMap<Long, Long> a2 = new HashMap<>();
+        for (int round = 0; round < 20000; round++) {
+            // a small key range, so that there are many hits and removals.
+            long k = random.nextInt(1000) - 500;
+            long v = random.nextLong();
+            switch (random.nextInt(8)) {
+                case 0:
+                case 1:
+                    assertEquals(a2.put(k, v), a1.put(k, v));
+                    break;
+                case 2:
+                    assertEquals(a2.remove(k), a1.remove(k));
+                    break;
+                case 3:
+                    assertEquals(a2.putIfAbsent(k, v), a1.putIfAbsent(k, v));
+                    break;
+                case 4: {
+                    Long old = a2.get(k);
+                    a2.put(k, (old == null ? Primitive.LONG_DEFAULT : old) + v);
+                    assertEquals(old == null ? Primitive.LONG_DEFAULT : old, a1.addTo(k, v));
+                    break;
+                }
+                case 5:
+                    assertEquals((long) a2.computeIfAbsent(k, x -> x * 3), a1.computeIfAbsentPrimitive(k, x -> x * 3));
+                    break;
+                case 6: {
+                    Long old = a2.get(k);
+                    if (old != null) {
+                        assertFalse(a1.replacePrimitive(k, old + 1, v));
+                        assertTrue(a1.replacePrimitive(k, old, v));
+                        assertTrue(a1.removePrimitive(k, v));
+                        a2.remove(k);
+                    }
+                    assertEquals(a2.replace(k, v), a1.replace(k, v));
+                    break;
+                }
+                default:
+                    assertEquals(a2.containsKey(k), a1.containsKey(k));
+                    assertEquals(a2.getOrDefault(k, v), a1.getOrDefault(k, v));
+                    assertEquals((long) a2.getOrDefault(k, v), a1.getOrDefaultPrimitive(k, v));
+                    break;
+            }
+            if (round % 1000 == 0) {
+                checkEqual(a1, a2);
+            }
+        }
+        checkEqual(a1, a2);
+        assertEquals(new ConcurrentLongLongHashMap(a2), a1);
+
+        for (Iterator<Map.Entry<Long, Long>> iterator = a1.entrySet().iterator(); iterator.hasNext(); ) {
+            Map.Entry<Long, Long> entry = iterator.next();
+            if ((entry.getKey() & 1) == 0) {
+                iterator.remove();
+                a2.remove(entry.getKey());
+            } else {
+                entry.setValue(entry.getValue() + 1);
+                a2.put(entry.getKey(), entry.getValue());
+            }
+        }
+        checkEqual(a1, a2);
+
+        a1.clear();
+        a2.clear();
+        checkEqual(a1, a2);
+        assertTrue(a1.isEmpty());
+    }
+
+    @Test
+    public void freeKeyTest() {
+        ConcurrentLongLongHashMap a1 = new ConcurrentLongLongHashMap();
+        assertNull(a1.get(Primitive.LONG_DEFAULT));
+        assertFalse(a1.containsKeyPrimitive(Primitive.LONG_DEFAULT));
+        assertEquals(Primitive.LONG_DEFAULT, a1.addTo(Primitive.LONG_DEFAULT, 5L));
+        assertTrue(a1.containsKeyPrimitive(Primitive.LONG_DEFAULT));
+        assertEquals(5L, a1.addTo(Primitive.LONG_DEFAULT, 2L));
+        assertEquals(7L, a1.getPrimitive(Primitive.LONG_DEFAULT));
+        assertEquals(1, a1.size());
+        assertEquals(7L, a1.removePrimitive(Primitive.LONG_DEFAULT));
+        assertTrue(a1.isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentLongLongHashMap(16, 0.75f, 0));
+    }
+
+    @Test
+    public void serializeTest() throws IOException, ClassNotFoundException {
+        Random random = new Random();
+        ConcurrentLongLongHashMap a1 = new ConcurrentLongLongHashMap();
+        for (int i = 0; i < 1000; i++) {
+            a1.putPrimitive(random.nextLong(), random.nextLong());
+        }
+        a1.putPrimitive(Primitive.LONG_DEFAULT, random.nextLong());
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(a1);
+        }
+        Object read;
+        try (ObjectInputStream objectInputStream =
+                     new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()))) {
+            read = objectInputStream.readObject();
+        }
+        ConcurrentLongLongHashMap a3 = (ConcurrentLongLongHashMap) read;
+        assertEquals(a1, a3);
+        a3.addTo(random.nextLong(), 1L);
+        assertEquals(a1.size() + 1, a3.size());
+    }
+
+    @Test
+    public void concurrentTest() throws InterruptedException {
+        final ConcurrentLongLongHashMap a1 = new ConcurrentLongLongHashMap();
+        final int threadCount = 8;
+        final int keyCount = 2000;
+        final int rounds = 5;
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread[] threads = new Thread[threadCount];
+        for (int t = 0; t < threadCount; t++) {
+            final int threadId = t;
+            threads[t] = new Thread(() -> {
+                try {
+                    for (int r = 0; r < rounds; r++) {
+                        for (int k = 0; k < keyCount; k++) {
+                            a1.addTo(k, 1L);
+                            // a key only this thread touches: put, read and remove, forcing shifts.
+                            final long own = -1L - (threadId * (long) keyCount + k);
+                            a1.putPrimitive(own, own);
+                            assertEquals(own, a1.getPrimitive(own));
+                            if ((k & 1) == 0) {
+                                assertEquals(own, a1.removePrimitive(own));
+                                assertFalse(a1.containsKeyPrimitive(own));
+                            }
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.set(e);
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull(failure.get());
+        for (int k = 0; k < keyCount; k++) {
+            assertEquals((long) threadCount * rounds, a1.getPrimitive(k));
+        }
+        assertEquals(keyCount + threadCount * keyCount / 2, a1.size());
+    }
+
+    @Test
+    public void readDuringGrowthTest() throws InterruptedException {
+        final AtomicReference<ConcurrentLongLongHashMap> current = new AtomicReference<>();
+        final AtomicBoolean done = new AtomicBoolean();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            try {
+                while (!done.get()) {
+                    final ConcurrentLongLongHashMap map = current.get();
+                    // an absent key is probed until a free position, which a full table would not have.
+                    if (map != null && map.containsKeyPrimitive(-1)) {
+                        failure.set(new AssertionError("absent key found"));
+                    }
+                }
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        // a reader spinning on a full table never ends, and shall not keep the test run alive.
+        reader.setDaemon(true);
+        reader.start();
+        try {
+            for (int round = 0; round < 20000; round++) {
+                // the default capacity, whose segments start with two positions.
+                final ConcurrentLongLongHashMap map = new ConcurrentLongLongHashMap();
+                current.set(map);
+                for (long k = 1; k <= 64; k++) {
+                    map.putPrimitive(k, k);
+                }
+            }
+        } finally {
+            done.set(true);
+        }
+        reader.join(10000);
+        assertFalse(reader.isAlive());
+        assertNull(failure.get());
+    }
+}
@@ -0,0 +1,204 @@
+package com.xenoamess.commons.primitive.collections.maps.concurrent_hash_maps;
+
+import com.xenoamess.commons.primitive.Primitive;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author XenoAmess
+ */
+public class ConcurrentLongObjectHashMapTest {
+
+    public void checkEqual(ConcurrentLongObjectHashMap<String> a1, HashMap<Long, String> a2) {
+        assertEquals(a2.size(), a1.size());
+        for (Map.Entry<Long, String> entry : a2.entrySet()) {
+            assertTrue(a1.containsKeyPrimitive(entry.getKey()));
+            assertEquals(entry.getValue(), a1.get(entry.getKey()));
+            assertEquals(entry.getValue(), a1.getPrimitive(entry.getKey()));
+            assertTrue(a1.containsValue(entry.getValue()));
+        }
+        a1.forEachPrimitive((k, v) -> assertEquals(a2.get(k), v));
+        assertEquals(a1, a2);
+        assertEquals(a2, a1);
+        assertEquals(a2.hashCode(), a1.hashCode());
+    }
+
+    @Test
+    public void randomTest() {
+        Random random = new Random();
+        ConcurrentLongObjectHashMap<String> a1 = new ConcurrentLongObjectHashMap<>(0, 0.75f, 4);
+        HashMap<Long, String> a2 = new HashMap<>();
+        for (int round = 0; round < 20000; round++) {
+            long k = random.nextInt(1000) - 500;
+            String v = Integer.toString(random.nextInt(100));
+            switch (random.nextInt(7)) {
+                case 0:
+                case 1:
+                    assertEquals(a2.put(k, v), a1.put(k, v));
+                    break;
+                case 2:
+                    assertEquals(a2.remove(k), a1.remove(k));
+                    break;
+                case 3:
+                    assertEquals(a2.putIfAbsent(k, v), a1.putIfAbsent(k, v));
+                    break;
+                case 4:
+                    assertEquals(a2.computeIfAbsent(k, Object::toString), a1.computeIfAbsentPrimitive(k,
+                            Long::toString));
+                    break;
+                case 5: {
+                    String old = a2.get(k);
+                    if (old != null) {
+                        assertFalse(a1.replacePrimitive(k, old + "x", v));
+                        assertTrue(a1.replacePrimitive(k, old, v));
+                        assertTrue(a1.remove(k, v));
+                        a2.remove(k);
+                    }
+                    assertEquals(a2.replace(k, v), a1.replace(k, v));
+                    break;
+                }
+                default:
+                    assertEquals(a2.merge(k, v, String::concat), a1.merge(k, v, String::concat));
+                    assertEquals(a2.getOrDefault(k, v), a1.getOrDefault(k, v));
+                    break;
+            }
+            if (round % 1000 == 0) {
+                checkEqual(a1, a2);
+            }
+        }
+        checkEqual(a1, a2);
+
+        for (Iterator<Map.Entry<Long, String>> iterator = a1.entrySet().iterator(); iterator.hasNext(); ) {
+            Map.Entry<Long, String> entry = iterator.next();
+            if ((entry.getKey() & 1) == 0) {
+                iterator.remove();
+                a2.remove(entry.getKey());
+            } else {
+                entry.setValue(entry.getValue() + "y");
+                a2.put(entry.getKey(), entry.getValue());
+            }
+        }
+        checkEqual(a1, a2);
+        a1.clear();
+        a2.clear();
+        checkEqual(a1, a2);
+    }
+
+    @Test
+    public void nullTest() {
+        ConcurrentLongObjectHashMap<String> a1 = new ConcurrentLongObjectHashMap<>();
+        assertThrows(NullPointerException.class, () -> a1.putPrimitive(1L, null));
+        assertNull(a1.computeIfAbsentPrimitive(1L, k -> null));
+        assertFalse(a1.containsKeyPrimitive(1L));
+        assertNull(a1.putPrimitive(Primitive.LONG_DEFAULT, "a"));
+        assertEquals("a", a1.getPrimitive(Primitive.LONG_DEFAULT));
+        assertEquals(1, a1.size());
+        assertEquals("a", a1.removePrimitive(Primitive.LONG_DEFAULT));
+        assertTrue(a1.isEmpty());
+    }
+
+    @Test
+    public void serializeTest() throws IOException, ClassNotFoundException {
+        Random random = new Random();
+        ConcurrentLongObjectHashMap<String> a1 = new ConcurrentLongObjectHashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            a1.putPrimitive(random.nextLong(), Long.toString(random.nextLong()));
+        }
+        a1.putPrimitive(Primitive.LONG_DEFAULT, "free");
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(a1);
+        }
+        Object read;
+        try (ObjectInputStream objectInputStream =
+                     new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()))) {
+            read = objectInputStream.readObject();
+        }
+        assertEquals(a1, read);
+    }
+
+    @Test
+    public void concurrentTest() throws InterruptedException {
+        final ConcurrentLongObjectHashMap<AtomicInteger> a1 = new ConcurrentLongObjectHashMap<>();
+        final int threadCount = 8;
+        final int keyCount = 2000;
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread[] threads = new Thread[threadCount];
+        for (int t = 0; t < threadCount; t++) {
+            threads[t] = new Thread(() -> {
+                try {
+                    for (int k = 0; k < keyCount; k++) {
+                        a1.computeIfAbsentPrimitive(k, key -> new AtomicInteger()).incrementAndGet();
+                    }
+                } catch (Throwable e) {
+                    failure.set(e);
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull(failure.get());
+        assertEquals(keyCount, a1.size());
+        a1.forEachPrimitive((k, v) -> assertEquals(threadCount, v.get()));
+    }
+
+    @Test
+    public void readDuringGrowthTest() throws InterruptedException {
+        final AtomicReference<ConcurrentLongObjectHashMap<String>> current = new AtomicReference<>();
+        final AtomicBoolean done = new AtomicBoolean();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            try {
+                while (!done.get()) {
+                    final ConcurrentLongObjectHashMap<String> map = current.get();
+                    // an absent key is probed until a free position, which a full table would not have.
+                    if (map != null && map.containsKeyPrimitive(-1)) {
+                        failure.set(new AssertionError("absent key found"));
+                    }
+                }
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        // a reader spinning on a full table never ends, and shall not keep the test run alive.
+        reader.setDaemon(true);
+        reader.start();
+        try {
+            for (int round = 0; round < 20000; round++) {
+                // the default capacity, whose segments start with two positions.
+                final ConcurrentLongObjectHashMap<String> map = new ConcurrentLongObjectHashMap<>();
+                current.set(map);
+                for (long k = 1; k <= 64; k++) {
+                    map.putPrimitive(k, "v");
+                }
+            }
+        } finally {
+            done.set(true);
+        }
+        reader.join(10000);
+        assertFalse(reader.isAlive());
+        assertNull(failure.get());
+    }
+}
@@ -0,0 +1,107 @@
+package com.xenoamess.commons.primitive.collections.maps.hash_maps;
+
+import com.xenoamess.commons.primitive.Primitive;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author XenoAmess
+ */
+public class ByteByteHashMapTest {
+
+    public void checkEqual(ByteByteHashMap a1, HashMap<Byte, Byte> a2) {
+        assertEquals(a1.size(), a2.size());
+        for (Map.Entry<Byte, Byte> entry : a2.entrySet()) {
+            assertTrue(a1.containsKeyPrimitive(entry.getKey()));
+            assertEquals(a1.get(entry.getKey()), entry.getValue());
+            assertEquals(a1.getPrimitive(entry.getKey()), (byte) entry.getValue());
+        }
+        a1.forEachPrimitive((k, v) -> assertEquals(a2.get(k), (Byte) v));
+        assertEquals(a1, a2);
+        assertEquals(a2, a1);
+        assertEquals(a1.hashCode(), a2.hashCode());
+    }
+
+    public void check(int length) {
+        ByteByteHashMap a1 = new ByteByteHashMap();
+        HashMap<Byte, Byte> a2 = new HashMap<>();
+        Random random = new Random();
+        for (int i = 0; i < length; i++) {
+            byte k = ((byte)random.nextInt());
+            byte v = ((byte)random.nextInt());
+            assertEquals(a1.put(k, v), a2.put(k, v));
+        }
+        assertEquals(a1.put(Primitive.BYTE_DEFAULT, ((byte)random.nextInt())), a2.put(Primitive.BYTE_DEFAULT,
+                a1.getPrimitive(Primitive.BYTE_DEFAULT)));
+
+        checkEqual(a1, a2);
+
+        ByteByteHashMap a1c = a1.clone();
+
+        boolean flag = false;
+        for (Iterator<Map.Entry<Byte, Byte>> iterator = a1.entrySet().iterator(); iterator.hasNext(); ) {
+            Map.Entry<Byte, Byte> entry = iterator.next();
+            flag = !flag;
+            if (flag) {
+                a2.remove(entry.getKey());
+                iterator.remove();
+            }
+        }
+
+        checkEqual(a1, a2);
+
+        for (Byte l : a2.keySet()) {
+            assertEquals(a1.removePrimitive(l), (byte) a2.get(l));
+        }
+        a2.clear();
+
+        assertTrue(a1.isEmpty());
+        assertFalse(a1.entrySet().iterator().hasNext());
+
+        a1.putAll(a1c);
+        a2.putAll(a1c);
+
+        checkEqual(a1, a2);
+        checkEqual(a1c, a2);
+    }
+
+    @Test
+    public void checks() {
+        for (int i = 0; i < 1000; i++) {
+            check(100);
+        }
+        for (int i = 0; i < 20; i++) {
+            check(10000);
+        }
+    }
+
+    @Test
+    public void serializeCheck() throws IOException, ClassNotFoundException {
+        ByteByteHashMap a1 = new ByteByteHashMap();
+        Random random = new Random();
+        for (int i = 0; i < 1000; i++) {
+            a1.putPrimitive(((byte)random.nextInt()), ((byte)random.nextInt()));
+        }
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(a1);
+        }
+        try (ObjectInputStream objectInputStream =
+                     new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()))) {
+            assertEquals(a1, objectInputStream.readObject());
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.xenoamess.commons.primitive.collections.maps.hash_maps;
+
+import com.xenoamess.commons.primitive.Primitive;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author XenoAmess
+ */
+public class CharCharHashMapTest {
+
+    public void checkEqual(CharCharHashMap a1, HashMap<Character, Character> a2) {
+        assertEquals(a1.size(), a2.size());
+        for (Map.Entry<Character, Character> entry : a2.entrySet()) {
+            assertTrue(a1.containsKeyPrimitive(entry.getKey()));
+            assertEquals(a1.get(entry.getKey()), entry.getValue());
+            assertEquals(a1.getPrimitive(entry.getKey()), (char) entry.getValue());
+        }
+        a1.forEachPrimitive((k, v) -> assertEquals(a2.get(k), (Character) v));
+        assertEquals(a1, a2);
+        assertEquals(a2, a1);
+        assertEquals(a1.hashCode(), a2.hashCode());
+    }
+
+    public void check(int length) {
+        CharCharHashMap a1 = new CharCharHashMap();
+        HashMap<Character, Character> a2 = new HashMap<>();
+        Random random = new Random();
+        for (int i = 0; i < length; i++) {
+            char k = ((char)random.nextInt());
+            char v = ((char)random.nextInt());
+            assertEquals(a1.put(k, v), a2.put(k, v));
+        }
+        assertEquals(a1.put(Primitive.CHAR_DEFAULT, ((char)random.nextInt())), a2.put(Primitive.CHAR_DEFAULT,
+                a1.getPrimitive(Primitive.CHAR_DEFAULT)));
+
+        checkEqual(a1, a2);
+
+        CharCharHashMap a1c = a1.clone();
+
+        boolean flag = false;
+        for (Iterator<Map.Entry<Character, Character>> iterator = a1.entrySet().iterator(); iterator.hasNext(); ) {
+            Map.Entry<Character, Character> entry = iterator.next();
+            flag = !flag;
+            if (flag) {
+                a2.remove(entry.getKey());
+                iterator.remove();
+            }
+        }
+
+        checkEqual(a1, a2);
+
+        for (Character l : a2.keySet()) {
+            assertEquals(a1.removePrimitive(l), (char) a2.get(l));
+        }
+        a2.clear();
+
+        assertTrue(a1.isEmpty());
+        assertFalse(a1.entrySet().iterator().hasNext());
+
+        a1.putAll(a1c);
+        a2.putAll(a1c);
+
+        checkEqual(a1, a2);
+        checkEqual(a1c, a2);
+    }
+
+    @Test
+    public void checks() {
+        for (int i = 0; i < 1000; i++) {
+            check(100);
+        }
+        for (int i = 0; i < 20; i++) {
+            check(10000);
+        }
+    }
+
+    @Test
+    public void serializeCheck() throws IOException, ClassNotFoundException {
+        CharCharHashMap a1 = new CharCharHashMap();
+        Random random = new Random();
+        for (int i = 0; i < 1000; i++) {
+            a1.putPrimitive(((char)random.nextInt()), ((char)random.nextInt()));
+        }
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(a1);
+        }
+        try (ObjectInputStream objectInputStream =
+                     new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()))) {
+            assertEquals(a1, objectInputStream.readObject());
+        }
+    }
+}
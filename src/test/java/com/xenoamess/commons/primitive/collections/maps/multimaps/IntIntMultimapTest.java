@@ -0,0 +1,137 @@
+package com.xenoamess.commons.primitive.collections.maps.multimaps;
+
+import com.xenoamess.commons.primitive.collections.lists.IntList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.IntArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author XenoAmess
+ */
+public class IntIntMultimapTest {
+
+    public void checkEqual(IntIntMultimap a1, TreeMap<Integer, List<Integer>> a2) {
+        int size = 0;
+        for (List<Integer> values : a2.values()) {
+            size += values.size();
+        }
+        assertEquals(size, a1.size());
+        assertEquals(a2.size(), a1.keyCount());
+        assertEquals(a2.isEmpty(), a1.isEmpty());
+        int index = 0;
+        for (Map.Entry<Integer, List<Integer>> entry : a2.entrySet()) {
+            int key = entry.getKey();
+            assertEquals(key, a1.keyAt(index));
+            assertEquals(index, a1.indexOfKey(key));
+            assertTrue(a1.containsKey(key));
+            assertEquals(entry.getValue().size(), a1.valueCount(key));
+            IntList values = a1.valuesOf(key);
+            assertEquals(entry.getValue(), values);
+            assertEquals(values, entry.getValue());
+            assertEquals(entry.getValue().hashCode(), values.hashCode());
+            assertEquals(entry.getValue().toString(), values.toString());
+            assertEquals(entry.getValue(), a1.valuesAt(index));
+            for (int i = 0; i < values.size(); i++) {
+                assertEquals((int) entry.getValue().get(i), values.getPrimitive(i));
+                assertTrue(a1.containsEntry(key, values.getPrimitive(i)));
+                assertEquals(entry.getValue().indexOf(values.get(i)), values.indexOfPrimitive(values.getPrimitive(i)));
+            }
+            final IntArrayList expectedValues = new IntArrayList(entry.getValue());
+            assertArrayEquals(expectedValues.toArrayPrimitive(), values.toArrayPrimitive());
+            for (int arrayLength : new int[]{0, values.size(), values.size() + 2}) {
+                final int[] expected = new int[arrayLength];
+                Arrays.fill(expected, 7);
+                final int[] actual = expected.clone();
+                assertArrayEquals(expectedValues.toArrayPrimitive(expected), values.toArrayPrimitive(actual));
+            }
+            index++;
+        }
+        final TreeMap<Integer, List<Integer>> visited = new TreeMap<>();
+        a1.forEachPrimitive((int k, int v) -> visited.computeIfAbsent(k, x -> new ArrayList<>()).add(v));
+        assertEquals(a2, visited);
+        assertEquals(a2.toString(), a1.toString());
+    }
+
+    public void check(int length, int bound) {
+        Random random = new Random(length);
+        IntIntMultimap.Builder builder = IntIntMultimap.builder();
+        TreeMap<Integer, List<Integer>> a2 = new TreeMap<>();
+        for (int i = 0; i < length; i++) {
+            int k = random.nextInt(bound) - bound / 2;
+            int v = random.nextInt();
+            builder.put(k, v);
+            a2.computeIfAbsent(k, x -> new ArrayList<>()).add(v);
+        }
+        assertEquals(length, builder.size());
+        IntIntMultimap a1 = builder.build();
+        checkEqual(a1, a2);
+        for (int i = 0; i < 100; i++) {
+            int k = random.nextInt(bound + 2) - bound / 2 - 1;
+            assertEquals(a2.containsKey(k), a1.containsKey(k));
+            assertEquals(a2.getOrDefault(k, new ArrayList<>()), a1.valuesOf(k));
+        }
+        assertEquals(a1, IntIntMultimap.builder().putAll(a1).build());
+        assertEquals(a1.hashCode(), IntIntMultimap.builder().putAll(a1).build().hashCode());
+    }
+
+    @Test
+    public void test() {
+        for (int length : new int[]{0, 1, 100, 10000, 100000}) {
+            check(length, Math.max(1, length / 8));
+            check(length, 1 << 30);
+        }
+    }
+
+    @Test
+    public void testBuilder() {
+        assertSame(IntIntMultimap.of(), IntIntMultimap.builder().build());
+        assertEquals("{}", IntIntMultimap.of().toString());
+        IntIntMultimap.Builder builder = IntIntMultimap.builder(4)
+                .put(3, 1)
+                .putAll(Integer.MIN_VALUE, 5, 4)
+                .putAll(Integer.MAX_VALUE, new IntArrayList(new int[]{7, 7}))
+                .put(3, 0);
+        IntIntMultimap a1 = builder.build();
+        assertEquals("{-2147483648=[5, 4], 3=[1, 0], 2147483647=[7, 7]}", a1.toString());
+        assertArrayEquals(new int[]{Integer.MIN_VALUE, 3, Integer.MAX_VALUE}, a1.keysToArray());
+        assertEquals(6, a1.size());
+        assertFalse(a1.containsEntry(3, 5));
+        assertTrue(a1.valuesOf(4).isEmpty());
+        assertTrue(a1.indexOfKey(4) < 0);
+
+        builder.put(4, 2);
+        assertNotEquals(a1, builder.build());
+        assertEquals(4, builder.build().keyCount());
+        assertEquals(3, a1.keyCount());
+        assertThrows(IllegalArgumentException.class, () -> IntIntMultimap.builder(-1));
+    }
+
+    @Test
+    public void testValuesUnmodifiable() {
+        IntIntMultimap a1 = IntIntMultimap.builder().putAll(1, 1, 2, 3).build();
+        IntList values = a1.valuesOf(1);
+        assertThrows(UnsupportedOperationException.class, () -> values.addPrimitive(4));
+        assertThrows(UnsupportedOperationException.class, () -> values.setPrimitive(0, 4));
+        assertThrows(UnsupportedOperationException.class, () -> values.removeByIndexPrimitive(0));
+        assertThrows(UnsupportedOperationException.class, values::clear);
+        assertThrows(IndexOutOfBoundsException.class, () -> values.getPrimitive(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> values.getPrimitive(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> a1.keyAt(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> a1.valuesAt(-1));
+        assertEquals(new IntArrayList(new int[]{2, 3}), values.subList(1, 3));
+    }
+}
@@ -0,0 +1,150 @@
+package com.xenoamess.commons.primitive.collections.maps.tree_maps;
+
+import com.xenoamess.commons.primitive.collections.maps.LongObjectSortedMap;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author XenoAmess
+ */
+public class LongObjectBTreeMapTest {
+
+    public void checkEqual(LongObjectSortedMap<String> a1, NavigableMap<Long, String> a2) {
+        assertEquals(a2.size(), a1.size());
+        assertEquals(new ArrayList<>(a2.keySet()), new ArrayList<>(a1.keySet()));
+        assertEquals(new ArrayList<>(a2.values()), new ArrayList<>(a1.values()));
+        assertEquals(a2, a1);
+        assertEquals(a1, a2);
+        assertEquals(a2.hashCode(), a1.hashCode());
+        final ArrayList<Long> visited = new ArrayList<>();
+        a1.forEachPrimitive((long k, String v) -> {
+            visited.add(k);
+            assertEquals(a2.get(k), v);
+        });
+        assertEquals(new ArrayList<>(a2.keySet()), visited);
+        if (!a2.isEmpty()) {
+            assertEquals((long) a2.firstKey(), a1.firstKeyPrimitive());
+            assertEquals((long) a2.lastKey(), a1.lastKeyPrimitive());
+        }
+    }
+
+    public void checkNavigation(LongObjectSortedMap<String> a1, NavigableMap<Long, String> a2, long k) {
+        assertEquals(a2.floorKey(k) == null ? -1L : a2.floorKey(k), a1.floorKeyPrimitive(k, -1L));
+        assertEquals(a2.ceilingKey(k) == null ? -1L : a2.ceilingKey(k), a1.ceilingKeyPrimitive(k, -1L));
+        assertEquals(a2.lowerKey(k) == null ? -1L : a2.lowerKey(k), a1.lowerKeyPrimitive(k, -1L));
+        assertEquals(a2.higherKey(k) == null ? -1L : a2.higherKey(k), a1.higherKeyPrimitive(k, -1L));
+        assertEquals(a2.get(k), a1.getPrimitive(k));
+        assertEquals(a2.containsKey(k), a1.containsKeyPrimitive(k));
+    }
+
+    public void check(LongObjectBTreeMap<String> a1, TreeMap<Long, String> a2, int length, int bound) {
+        Random random = new Random(length);
+        for (int i = 0; i < length; i++) {
+            long k = random.nextInt(bound);
+            if (random.nextInt(3) == 0) {
+                assertEquals(a2.remove(k), a1.removePrimitive(k));
+            } else {
+                String v = random.nextInt(10) == 0 ? null : Integer.toString(i);
+                assertEquals(a2.put(k, v), a1.putPrimitive(k, v));
+            }
+        }
+        checkEqual(a1, a2);
+        for (int i = 0; i < 1000; i++) {
+            checkNavigation(a1, a2, random.nextInt(bound + 2) - 1);
+        }
+    }
+
+    @Test
+    public void test() {
+        for (int length : new int[]{0, 1, 100, 10000, 100000}) {
+            check(new LongObjectBTreeMap<>(), new TreeMap<>(), length, Math.max(1, length / 2));
+        }
+    }
+
+    @Test
+    public void testEntrySet() {
+        LongObjectBTreeMap<String> a1 = new LongObjectBTreeMap<>();
+        TreeMap<Long, String> a2 = new TreeMap<>();
+        check(a1, a2, 10000, 10000);
+        boolean flag = false;
+        for (Iterator<Map.Entry<Long, String>> iterator = a1.entrySet().iterator(); iterator.hasNext(); ) {
+            Map.Entry<Long, String> entry = iterator.next();
+            flag = !flag;
+            if (flag) {
+                a2.remove(entry.getKey());
+                iterator.remove();
+            } else {
+                assertEquals(a2.get(entry.getKey()), entry.setValue("x"));
+                a2.put(entry.getKey(), "x");
+            }
+        }
+        checkEqual(a1, a2);
+    }
+
+    @Test
+    public void testSubMap() {
+        LongObjectBTreeMap<String> a1 = new LongObjectBTreeMap<>();
+        TreeMap<Long, String> a2 = new TreeMap<>();
+        check(a1, a2, 10000, 10000);
+        Random random = new Random();
+        for (int i = 0; i < 50; i++) {
+            long from = random.nextInt(10000);
+            long to = from + random.nextInt(3000);
+            LongObjectSortedMap<String> s1 = a1.subMapPrimitive(from, to);
+            NavigableMap<Long, String> s2 = a2.subMap(from, true, to, false);
+            checkEqual(s1, s2);
+            for (int j = 0; j < 20; j++) {
+                checkNavigation(s1, s2, from - 100 + random.nextInt(3200));
+            }
+            long mid = from + (to - from) / 2;
+            checkEqual(s1.headMapPrimitive(mid), s2.headMap(mid, false));
+            checkEqual(s1.tailMapPrimitive(mid), s2.tailMap(mid, true));
+            assertThrows(IllegalArgumentException.class, () -> s1.putPrimitive(to, "a"));
+            assertNull(s1.getPrimitive(to));
+            assertEquals(s2.put(from, "b"), s1.putPrimitive(from, "b"));
+            assertEquals(s2.remove(mid), s1.removePrimitive(mid));
+            checkEqual(a1, a2);
+        }
+        a1.tailMapPrimitive(5000L).entrySet().clear();
+        a2.tailMap(5000L, true).clear();
+        checkEqual(a1, a2);
+    }
+
+    @Test
+    public void testCloneAndSerialize() throws IOException, ClassNotFoundException {
+        LongObjectBTreeMap<String> a1 = new LongObjectBTreeMap<>();
+        TreeMap<Long, String> a2 = new TreeMap<>();
+        check(a1, a2, 10000, 10000);
+
+        LongObjectBTreeMap<String> a1c = a1.clone();
+        a1.clear();
+        assertTrue(a1.isEmpty());
+        checkEqual(a1c, a2);
+
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+        objectOutputStream.writeObject(a1c);
+        objectOutputStream.close();
+        ObjectInputStream objectInputStream =
+                new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()));
+        @SuppressWarnings("unchecked")
+        LongObjectBTreeMap<String> a3 = (LongObjectBTreeMap<String>) objectInputStream.readObject();
+        checkEqual(a3, a2);
+    }
+}
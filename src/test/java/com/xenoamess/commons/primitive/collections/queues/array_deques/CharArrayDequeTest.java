@@ -0,0 +1,121 @@
+package com.xenoamess.commons.primitive.collections.queues.array_deques;
+
+import com.xenoamess.commons.primitive.iterators.CharIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author XenoAmess
+ */
+public class CharArrayDequeTest {
+
+    public void checkEqual(CharArrayDeque a1, ArrayDeque<Character> a2) {
+        assertEquals(a2.size(), a1.size());
+        assertEquals(new ArrayList<>(a2), new ArrayList<>(a1));
+        ArrayList<Character> descending1 = new ArrayList<>();
+        ArrayList<Character> descending2 = new ArrayList<>();
+        a1.descendingIterator().forEachRemaining(descending1::add);
+        a2.descendingIterator().forEachRemaining(descending2::add);
+        assertEquals(descending2, descending1);
+        if (!a2.isEmpty()) {
+            assertEquals(a2.peekFirst(), (Character) a1.peekFirstPrimitive());
+            assertEquals(a2.peekLast(), (Character) a1.peekLastPrimitive());
+        }
+    }
+
+    public void check(int length) {
+        CharArrayDeque a1 = new CharArrayDeque();
+        ArrayDeque<Character> a2 = new ArrayDeque<>();
+        Random random = new Random();
+        for (int i = 0; i < length; i++) {
+            char l = ((char)random.nextInt());
+            switch (random.nextInt(6)) {
+                case 0:
+                case 1:
+                    a1.addLastPrimitive(l);
+                    a2.addLast(l);
+                    a1.add(l);
+                    a2.add(l);
+                    break;
+                case 2:
+                case 3:
+                    a1.offerFirstPrimitive(l);
+                    a2.offerFirst(l);
+                    break;
+                case 4:
+                    if (!a2.isEmpty()) {
+                        assertEquals(a2.pollFirst(), (Character) a1.pollFirstPrimitive());
+                    }
+                    break;
+                default:
+                    if (!a2.isEmpty()) {
+                        assertEquals(a2.pollLast(), (Character) a1.pollLastPrimitive());
+                    }
+                    break;
+            }
+        }
+        checkEqual(a1, a2);
+
+        char[] array = new char[a2.size()];
+        int index = 0;
+        for (Character e : a2) {
+            array[index++] = e;
+        }
+        assertArrayEquals(array, a1.toArrayPrimitive());
+        assertArrayEquals(a2.stream().mapToInt(e -> e).toArray(), a1.intStream().toArray());
+        assertArrayEquals(a1.intStream().toArray(), a1.parallelIntStream().toArray());
+        assertArrayEquals(array, new CharArrayDeque(a2).toArrayPrimitive());
+        assertArrayEquals(array, a1.clone().toArrayPrimitive());
+
+        if (!a2.isEmpty()) {
+            final char pivot = a2.peekFirst();
+            a1.removeIfPrimitive(e -> e == pivot);
+            a2.removeIf(e -> e == pivot);
+            checkEqual(a1, a2);
+        }
+
+        CharIterator iterator1 = a1.iterator();
+        Iterator<Character> iterator2 = a2.iterator();
+        while (iterator2.hasNext()) {
+            assertEquals(iterator2.next(), (Character) iterator1.nextPrimitive());
+            if (random.nextInt(3) == 0) {
+                iterator1.remove();
+                iterator2.remove();
+            }
+        }
+        checkEqual(a1, a2);
+
+        CharIterator descending1 = a1.descendingIterator();
+        Iterator<Character> descending2 = a2.descendingIterator();
+        while (descending2.hasNext()) {
+            assertEquals(descending2.next(), (Character) descending1.nextPrimitive());
+            if (random.nextInt(3) == 0) {
+                descending1.remove();
+                descending2.remove();
+            }
+        }
+        checkEqual(a1, a2);
+
+        while (!a2.isEmpty()) {
+            assertEquals(a2.pop(), (Character) a1.popPrimitive());
+        }
+        checkEqual(a1, a2);
+    }
+
+    @Test
+    public void checks() {
+        for (int i = 0; i < 100; i++) {
+            check(100);
+        }
+        for (int i = 0; i < 10; i++) {
+            check(100000);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.xenoamess.commons.primitive.collections.queues.array_deques;
+
+import com.xenoamess.commons.primitive.iterators.DoubleIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author XenoAmess
+ */
+public class DoubleArrayDequeTest {
+
+    public void checkEqual(DoubleArrayDeque a1, ArrayDeque<Double> a2) {
+        assertEquals(a2.size(), a1.size());
+        assertEquals(new ArrayList<>(a2), new ArrayList<>(a1));
+        ArrayList<Double> descending1 = new ArrayList<>();
+        ArrayList<Double> descending2 = new ArrayList<>();
+        a1.descendingIterator().forEachRemaining(descending1::add);
+        a2.descendingIterator().forEachRemaining(descending2::add);
+        assertEquals(descending2, descending1);
+        if (!a2.isEmpty()) {
+            assertEquals(a2.peekFirst(), (Double) a1.peekFirstPrimitive());
+            assertEquals(a2.peekLast(), (Double) a1.peekLastPrimitive());
+        }
+    }
+
+    public void check(int length) {
+        DoubleArrayDeque a1 = new DoubleArrayDeque();
+        ArrayDeque<Double> a2 = new ArrayDeque<>();
+        Random random = new Random();
+        for (int i = 0; i < length; i++) {
+            double l = random.nextDouble();
+            switch (random.nextInt(6)) {
+                case 0:
+                case 1:
+                    a1.addLastPrimitive(l);
+                    a2.addLast(l);
+                    a1.add(l);
+                    a2.add(l);
+                    break;
+                case 2:
+                case 3:
+                    a1.offerFirstPrimitive(l);
+                    a2.offerFirst(l);
+                    break;
+                case 4:
+                    if (!a2.isEmpty()) {
+                        assertEquals(a2.pollFirst(), (Double) a1.pollFirstPrimitive());
+                    }
+                    break;
+                default:
+                    if (!a2.isEmpty()) {
+                        assertEquals(a2.pollLast(), (Double) a1.pollLastPrimitive());
+                    }
+                    break;
+            }
+        }
+        checkEqual(a1, a2);
+
+        double[] array = new double[a2.size()];
+        int index = 0;
+        for (Double e : a2) {
+            array[index++] = e;
+        }
+        assertArrayEquals(array, a1.toArrayPrimitive());
+        assertArrayEquals(a2.stream().mapToDouble(e -> e).toArray(), a1.doubleStream().toArray());
+        assertArrayEquals(a1.doubleStream().toArray(), a1.parallelDoubleStream().toArray());
+        assertArrayEquals(array, new DoubleArrayDeque(a2).toArrayPrimitive());
+        assertArrayEquals(array, a1.clone().toArrayPrimitive());
+
+        if (!a2.isEmpty()) {
+            final double pivot = a2.peekFirst();
+            a1.removeIfPrimitive(e -> e == pivot);
+            a2.removeIf(e -> e == pivot);
+            checkEqual(a1, a2);
+        }
+
+        DoubleIterator iterator1 = a1.iterator();
+        Iterator<Double> iterator2 = a2.iterator();
+        while (iterator2.hasNext()) {
+            assertEquals(iterator2.next(), (Double) iterator1.nextPrimitive());
+            if (random.nextInt(3) == 0) {
+                iterator1.remove();
+                iterator2.remove();
+            }
+        }
+        checkEqual(a1, a2);
+
+        DoubleIterator descending1 = a1.descendingIterator();
+        Iterator<Double> descending2 = a2.descendingIterator();
+        while (descending2.hasNext()) {
+            assertEquals(descending2.next(), (Double) descending1.nextPrimitive());
+            if (random.nextInt(3) == 0) {
+                descending1.remove();
+                descending2.remove();
+            }
+        }
+        checkEqual(a1, a2);
+
+        while (!a2.isEmpty()) {
+            assertEquals(a2.pop(), (Double) a1.popPrimitive());
+        }
+        checkEqual(a1, a2);
+    }
+
+    @Test
+    public void checks() {
+        for (int i = 0; i < 100; i++) {
+            check(100);
+        }
+        for (int i = 0; i < 10; i++) {
+            check(100000);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.xenoamess.commons.primitive.collections.queues.array_deques;
+
+import com.xenoamess.commons.primitive.iterators.FloatIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author XenoAmess
+ */
+public class FloatArrayDequeTest {
+
+    public void checkEqual(FloatArrayDeque a1, ArrayDeque<Float> a2) {
+        assertEquals(a2.size(), a1.size());
+        assertEquals(new ArrayList<>(a2), new ArrayList<>(a1));
+        ArrayList<Float> descending1 = new ArrayList<>();
+        ArrayList<Float> descending2 = new ArrayList<>();
+        a1.descendingIterator().forEachRemaining(descending1::add);
+        a2.descendingIterator().forEachRemaining(descending2::add);
+        assertEquals(descending2, descending1);
+        if (!a2.isEmpty()) {
+            assertEquals(a2.peekFirst(), (Float) a1.peekFirstPrimitive());
+            assertEquals(a2.peekLast(), (Float) a1.peekLastPrimitive());
+        }
+    }
+
+    public void check(int length) {
+        FloatArrayDeque a1 = new FloatArrayDeque();
+        ArrayDeque<Float> a2 = new ArrayDeque<>();
+        Random random = new Random();
+        for (int i = 0; i < length; i++) {
+            float l = random.nextFloat();
+            switch (random.nextInt(6)) {
+                case 0:
+                case 1:
+                    a1.addLastPrimitive(l);
+                    a2.addLast(l);
+                    a1.add(l);
+                    a2.add(l);
+                    break;
+                case 2:
+                case 3:
+                    a1.offerFirstPrimitive(l);
+                    a2.offerFirst(l);
+                    break;
+                case 4:
+                    if (!a2.isEmpty()) {
+                        assertEquals(a2.pollFirst(), (Float) a1.pollFirstPrimitive());
+                    }
+                    break;
+                default:
+                    if (!a2.isEmpty()) {
+                        assertEquals(a2.pollLast(), (Float) a1.pollLastPrimitive());
+                    }
+                    break;
+            }
+        }
+        checkEqual(a1, a2);
+
+        float[] array = new float[a2.size()];
+        int index = 0;
+        for (Float e : a2) {
+            array[index++] = e;
+        }
+        assertArrayEquals(array, a1.toArrayPrimitive());
+        assertArrayEquals(a2.stream().mapToDouble(e -> e).toArray(), a1.doubleStream().toArray());
+        assertArrayEquals(a1.doubleStream().toArray(), a1.parallelDoubleStream().toArray());
+        assertArrayEquals(array, new FloatArrayDeque(a2).toArrayPrimitive());
+        assertArrayEquals(array, a1.clone().toArrayPrimitive());
+
+        if (!a2.isEmpty()) {
+            final float pivot = a2.peekFirst();
+            a1.removeIfPrimitive(e -> e == pivot);
+            a2.removeIf(e -> e == pivot);
+            checkEqual(a1, a2);
+        }
+
+        FloatIterator iterator1 = a1.iterator();
+        Iterator<Float> iterator2 = a2.iterator();
+        while (iterator2.hasNext()) {
+            assertEquals(iterator2.next(), (Float) iterator1.nextPrimitive());
+            if (random.nextInt(3) == 0) {
+                iterator1.remove();
+                iterator2.remove();
+            }
+        }
+        checkEqual(a1, a2);
+
+        FloatIterator descending1 = a1.descendingIterator();
+        Iterator<Float> descending2 = a2.descendingIterator();
+        while (descending2.hasNext()) {
+            assertEquals(descending2.next(), (Float) descending1.nextPrimitive());
+            if (random.nextInt(3) == 0) {
+                descending1.remove();
+                descending2.remove();
+            }
+        }
+        checkEqual(a1, a2);
+
+        while (!a2.isEmpty()) {
+            assertEquals(a2.pop(), (Float) a1.popPrimitive());
+        }
+        checkEqual(a1, a2);
+    }
+
+    @Test
+    public void checks() {
+        for (int i = 0; i < 100; i++) {
+            check(100);
+        }
+        for (int i = 0; i < 10; i++) {
+            check(100000);
+        }
+    }
+}
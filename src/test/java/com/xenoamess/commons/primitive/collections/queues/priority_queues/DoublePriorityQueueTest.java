@@ -0,0 +1,93 @@
+package com.xenoamess.commons.primitive.collections.queues.priority_queues;
+
+import com.xenoamess.commons.primitive.comparators.DoubleComparator;
+import com.xenoamess.commons.primitive.iterators.DoubleIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author XenoAmess
+ */
+public class DoublePriorityQueueTest {
+    private static final DoubleComparator COMPARATOR = (x, y) -> Double.compare(y, x);
+
+    public void checkEqual(DoublePriorityQueue a1, PriorityQueue<Double> a2) {
+        assertEquals(a2.size(), a1.size());
+        ArrayList<Double> l1 = new ArrayList<>(a1);
+        ArrayList<Double> l2 = new ArrayList<>(a2);
+        Collections.sort(l1);
+        Collections.sort(l2);
+        assertEquals(l2, l1);
+        if (!a2.isEmpty()) {
+            assertEquals(a2.peek(), (Double) a1.peekPrimitive());
+        }
+    }
+
+    public void check(int length, boolean natural) {
+        DoublePriorityQueue a1 = natural ? new DoublePriorityQueue() : new DoublePriorityQueue(COMPARATOR);
+        PriorityQueue<Double> a2 = natural ? new PriorityQueue<>() : new PriorityQueue<>(COMPARATOR);
+        Random random = new Random();
+        for (int i = 0; i < length; i++) {
+            double l = random.nextDouble();
+            if (random.nextInt(3) == 0) {
+                if (!a2.isEmpty()) {
+                    assertEquals(a2.poll(), (Double) a1.pollPrimitive());
+                }
+            } else {
+                a1.offerPrimitive(l);
+                a2.offer(l);
+            }
+        }
+        checkEqual(a1, a2);
+
+        double[] array = new double[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = random.nextDouble();
+            a2.add(array[i]);
+        }
+        a1.addAllPrimitive(array);
+        checkEqual(a1, a2);
+
+        double[] small = new double[length / 10];
+        for (int i = 0; i < small.length; i++) {
+            small[i] = random.nextDouble();
+            a2.add(small[i]);
+        }
+        a1.addAllPrimitive(small);
+        checkEqual(a1, a2);
+
+        DoubleIterator iterator = a1.iterator();
+        while (iterator.hasNext()) {
+            double e = iterator.nextPrimitive();
+            if (random.nextInt(3) == 0) {
+                iterator.remove();
+                assertTrue(a2.remove(e));
+            }
+        }
+        checkEqual(a1, a2);
+
+        while (!a2.isEmpty()) {
+            assertEquals(a2.poll(), (Double) a1.removePrimitive());
+        }
+        assertTrue(a1.isEmpty());
+    }
+
+    @Test
+    public void checks() {
+        for (int i = 0; i < 100; i++) {
+            check(100, true);
+            check(100, false);
+        }
+        for (int i = 0; i < 10; i++) {
+            check(10000, true);
+            check(10000, false);
+        }
+    }
+}
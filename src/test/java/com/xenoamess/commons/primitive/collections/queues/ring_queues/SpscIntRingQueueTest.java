@@ -0,0 +1,174 @@
+package com.xenoamess.commons.primitive.collections.queues.ring_queues;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.IntArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author XenoAmess
+ */
+public class SpscIntRingQueueTest {
+
+    public void checkEqual(SpscIntRingQueue a1, ArrayDeque<Integer> a2) {
+        assertEquals(a2.size(), a1.size());
+        assertEquals(a2.isEmpty(), a1.isEmpty());
+        assertEquals(new ArrayList<>(a2), new ArrayList<>(a1));
+        assertEquals(a2.toString(), a1.toString());
+        IntArrayList expected = new IntArrayList(a2);
+        assertArrayEquals(expected.toArrayPrimitive(), a1.toArrayPrimitive());
+        for (Integer e : a2) {
+            assertTrue(a1.containsPrimitive(e));
+        }
+    }
+
+    @Test
+    public void randomTest() {
+        Random random = new Random();
+        SpscIntRingQueue a1 = new SpscIntRingQueue(100);
+        assertEquals(128, a1.capacity());
+        ArrayDeque<Integer> a2 = new ArrayDeque<>();
+        for (int round = 0; round < 10000; round++) {
+            switch (random.nextInt(4)) {
+                case 0:
+                case 1: {
+                    int e = random.nextInt();
+                    boolean offered = a1.offerPrimitive(e);
+                    assertEquals(a2.size() < a1.capacity(), offered);
+                    if (offered) {
+                        a2.add(e);
+                    }
+                    break;
+                }
+                case 2:
+                    if (a2.isEmpty()) {
+                        assertThrows(java.util.NoSuchElementException.class, a1::removePrimitive);
+                        assertThrows(java.util.NoSuchElementException.class, a1::elementPrimitive);
+                    } else {
+                        assertEquals((int) a2.peek(), a1.peekPrimitive());
+                        assertEquals((int) a2.element(), a1.elementPrimitive());
+                        assertEquals((int) a2.poll(), a1.pollPrimitive());
+                    }
+                    break;
+                default: {
+                    int limit = random.nextInt(10);
+                    ArrayList<Integer> drained = new ArrayList<>();
+                    assertEquals(Math.min(limit, a2.size()), a1.drainTo(drained::add, limit));
+                    for (Integer e : drained) {
+                        assertEquals(a2.poll(), e);
+                    }
+                    break;
+                }
+            }
+            if (round % 100 == 0) {
+                checkEqual(a1, a2);
+            }
+        }
+        checkEqual(a1, a2);
+        a1.clear();
+        a2.clear();
+        checkEqual(a1, a2);
+    }
+
+    @Test
+    public void fullTest() {
+        SpscIntRingQueue a1 = new SpscIntRingQueue(4);
+        for (int i = 0; i < a1.capacity(); i++) {
+            assertTrue(a1.add(i));
+        }
+        assertFalse(a1.offerPrimitive(0));
+        assertThrows(IllegalStateException.class, () -> a1.addPrimitive(0));
+        assertThrows(UnsupportedOperationException.class, () -> a1.removeByContentPrimitive(0));
+        assertThrows(UnsupportedOperationException.class, () -> a1.iterator().remove());
+        assertThrows(IllegalArgumentException.class, () -> new SpscIntRingQueue(0));
+        assertThrows(IllegalArgumentException.class, () -> a1.drainTo(e -> {
+        }, -1));
+        assertEquals(a1.capacity(), a1.drainTo(e -> {
+        }));
+        assertTrue(a1.isEmpty());
+    }
+
+    @Test
+    public void drainThrowTest() {
+        SpscIntRingQueue a1 = new SpscIntRingQueue(8);
+        for (int i = 0; i < 8; i++) {
+            a1.offerPrimitive(i);
+        }
+        final int[] count = new int[1];
+        assertThrows(IllegalStateException.class, () -> a1.drainTo(e -> {
+            if (count[0]++ == 3) {
+                throw new IllegalStateException();
+            }
+        }, 8));
+        assertEquals(5, a1.size());
+        assertEquals(3, a1.pollPrimitive());
+    }
+
+    @Test
+    public void concurrentTest() throws InterruptedException {
+        for (RingQueueWaitStrategy waitStrategy : RingQueueWaitStrategy.values()) {
+            final SpscIntRingQueue a1 = new SpscIntRingQueue(64, waitStrategy);
+            final int total = 100000;
+            final AtomicReference<Throwable> failure = new AtomicReference<>();
+            Thread producer = new Thread(() -> {
+                try {
+                    for (int i = 0; i < total; i++) {
+                        a1.putPrimitive(i);
+                    }
+                } catch (Throwable t) {
+                    failure.set(t);
+                }
+            });
+            Thread consumer = new Thread(() -> {
+                try {
+                    int expected = 0;
+                    while (expected < total) {
+                        if ((expected & 1) == 0) {
+                            assertEquals(expected, a1.takePrimitive());
+                            expected++;
+                        } else {
+                            final int[] next = new int[]{expected};
+                            a1.drainTo(e -> assertEquals(next[0]++, e), 16);
+                            expected = next[0];
+                        }
+                    }
+                } catch (Throwable t) {
+                    failure.set(t);
+                }
+            });
+            producer.start();
+            consumer.start();
+            producer.join();
+            consumer.join();
+            assertNull(failure.get());
+            assertTrue(a1.isEmpty());
+        }
+    }
+
+    @Test
+    public void interruptTest() throws InterruptedException {
+        final SpscIntRingQueue a1 = new SpscIntRingQueue(2);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread consumer = new Thread(() -> {
+            try {
+                a1.takePrimitive();
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        consumer.start();
+        consumer.interrupt();
+        consumer.join();
+        assertTrue(failure.get() instanceof InterruptedException);
+    }
+}
@@ -0,0 +1,324 @@
+package com.xenoamess.commons.primitive.collections.sets.bitmap_sets;
+
+import com.xenoamess.commons.io.FileUtilsx;
+import com.xenoamess.commons.primitive.collections.sets.hash_sets.IntHashSet;
+import com.xenoamess.commons.primitive.iterators.IntIterator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author XenoAmess
+ */
+public class RoaringIntSetTest {
+
+    /**
+     * Random elements in a few chunks, some sparse, some dense, some made of runs, some negative.
+     */
+    static int[] randomElements(Random random) {
+        List<Integer> list = new ArrayList<>();
+        int[] chunks = {0, 1, 7, 0x7FFF, 0x8000, 0xFFFF};
+        for (int chunk : chunks) {
+            int kind = random.nextInt(4);
+            int high = chunk << 16;
+            if (kind == 0) {
+                for (int i = 0; i < 100; i++) {
+                    list.add(high | random.nextInt(1 << 16));
+                }
+            } else if (kind == 1) {
+                for (int i = 0; i < 20000; i++) {
+                    list.add(high | random.nextInt(1 << 16));
+                }
+            } else if (kind == 2) {
+                int start = random.nextInt(1 << 15);
+                for (int i = start; i < start + 10000; i++) {
+                    list.add(high | i);
+                }
+            }
+        }
+        int[] result = new int[list.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = list.get(i);
+        }
+        return result;
+    }
+
+    static TreeSet<Integer> toTreeSet(int[] a) {
+        TreeSet<Integer> result = new TreeSet<>(Integer::compareUnsigned);
+        for (int e : a) {
+            result.add(e);
+        }
+        return result;
+    }
+
+    static void checkEqual(Set<Integer> expected, RoaringIntSet actual) {
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected.size(), actual.cardinality());
+        assertEquals(expected.isEmpty(), actual.isEmpty());
+        int[] expectedArray = new int[expected.size()];
+        int i = 0;
+        for (int e : expected) {
+            expectedArray[i++] = e;
+        }
+        assertArrayEquals(expectedArray, actual.toArrayPrimitive());
+        List<Integer> iterated = new ArrayList<>();
+        actual.forEach(iterated::add);
+        assertEquals(new ArrayList<>(expected), iterated);
+        for (int e : expected) {
+            assertTrue(actual.containsPrimitive(e));
+        }
+        assertEquals(new HashSet<>(expected).hashCode(), actual.hashCode());
+        assertEquals(new HashSet<>(expected), actual);
+    }
+
+    @Test
+    public void testAddRemoveContains() {
+        Random random = new Random(1);
+        RoaringIntSet set = new RoaringIntSet();
+        TreeSet<Integer> expected = new TreeSet<>(Integer::compareUnsigned);
+        for (int i = 0; i < 30000; i++) {
+            int e = (random.nextInt(3) << 16) | random.nextInt(8000);
+            if (random.nextInt(3) == 0) {
+                e = -e;
+            }
+            if (random.nextInt(4) == 0) {
+                assertEquals(expected.remove(e), set.removeByContentPrimitive(e));
+            } else {
+                assertEquals(expected.add(e), set.addPrimitive(e));
+            }
+            assertEquals(expected.contains(e), set.containsPrimitive(e));
+        }
+        checkEqual(expected, set);
+        for (int e : new ArrayList<>(expected)) {
+            assertTrue(set.removeByContentPrimitive(e));
+        }
+        assertTrue(set.isEmpty());
+        assertEquals(0, set.containerCount());
+    }
+
+    @Test
+    public void testBulkConstructor() {
+        Random random = new Random(2);
+        for (int round = 0; round < 10; round++) {
+            int[] a = randomElements(random);
+            RoaringIntSet set = new RoaringIntSet(a);
+            checkEqual(toTreeSet(a), set);
+            RoaringIntSet oneByOne = new RoaringIntSet();
+            for (int e : a) {
+                oneByOne.addPrimitive(e);
+            }
+            assertEquals(oneByOne, set);
+            assertEquals(set, new RoaringIntSet(new IntHashSet(a)));
+        }
+        assertTrue(RoaringIntSet.of().isEmpty());
+        checkEqual(toTreeSet(new int[]{-1, 0, 1, Integer.MIN_VALUE, Integer.MAX_VALUE}),
+                RoaringIntSet.of(1, -1, Integer.MAX_VALUE, 0, Integer.MIN_VALUE, 1));
+    }
+
+    @Test
+    public void testBitwiseOperations() {
+        Random random = new Random(3);
+        for (int round = 0; round < 20; round++) {
+            int[] a = randomElements(random);
+            int[] b = randomElements(random);
+            TreeSet<Integer> ta = toTreeSet(a);
+            TreeSet<Integer> tb = toTreeSet(b);
+            RoaringIntSet ra = RoaringIntSet.of(a);
+            RoaringIntSet rb = RoaringIntSet.of(b);
+            if (random.nextBoolean()) {
+                ra.runOptimize();
+            }
+            if (random.nextBoolean()) {
+                rb.runOptimize();
+            }
+
+            TreeSet<Integer> and = new TreeSet<>(ta);
+            and.retainAll(tb);
+            TreeSet<Integer> or = new TreeSet<>(ta);
+            or.addAll(tb);
+            TreeSet<Integer> andNot = new TreeSet<>(ta);
+            andNot.removeAll(tb);
+            TreeSet<Integer> xor = new TreeSet<>(or);
+            xor.removeAll(and);
+
+            checkEqual(and, RoaringIntSet.and(ra, rb));
+            checkEqual(or, RoaringIntSet.or(ra, rb));
+            checkEqual(xor, RoaringIntSet.xor(ra, rb));
+            checkEqual(andNot, RoaringIntSet.andNot(ra, rb));
+            assertEquals(and.size(), RoaringIntSet.andCardinality(ra, rb));
+            checkEqual(ta, ra);
+            checkEqual(tb, rb);
+
+            RoaringIntSet c = ra.clone();
+            assertEquals(!and.equals(ta), c.retainAll(rb));
+            checkEqual(and, c);
+            c = ra.clone();
+            c.or(rb);
+            checkEqual(or, c);
+            c = ra.clone();
+            c.xor(rb);
+            checkEqual(xor, c);
+            c = ra.clone();
+            assertEquals(!andNot.equals(ta), c.removeAll(rb));
+            checkEqual(andNot, c);
+            checkEqual(ta, ra);
+        }
+    }
+
+    @Test
+    public void testSelfOperations() {
+        RoaringIntSet set = RoaringIntSet.of(randomElements(new Random(4)));
+        RoaringIntSet copy = set.clone();
+        set.and(set);
+        assertEquals(copy, set);
+        set.or(set);
+        assertEquals(copy, set);
+        set.xor(set);
+        assertTrue(set.isEmpty());
+        copy.andNot(copy);
+        assertTrue(copy.isEmpty());
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        Random random = new Random(5);
+        int[] a = randomElements(random);
+        TreeSet<Integer> expected = toTreeSet(a);
+        RoaringIntSet set = RoaringIntSet.of(a);
+        set.runOptimize();
+        IntIterator iterator = set.iterator();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        while (iterator.hasNext()) {
+            int e = iterator.nextPrimitive();
+            if (random.nextInt(3) != 0) {
+                iterator.remove();
+                expected.remove(e);
+            }
+        }
+        checkEqual(expected, set);
+
+        IntIterator failing = set.iterator();
+        set.addPrimitive(12345678);
+        assertThrows(java.util.ConcurrentModificationException.class, failing::nextPrimitive);
+    }
+
+    @Test
+    public void testRunOptimize() {
+        RoaringIntSet set = RoaringIntSet.ofRange(10, 500000);
+        assertEquals(499990, set.cardinality());
+        assertTrue(set.containsPrimitive(10));
+        assertFalse(set.containsPrimitive(9));
+        assertTrue(set.containsPrimitive(499999));
+        assertFalse(set.containsPrimitive(500000));
+        assertTrue(set.serializedSizeInBytes() < 200);
+
+        RoaringIntSet plain = new RoaringIntSet();
+        for (int i = 10; i < 500000; i++) {
+            plain.addPrimitive(i);
+        }
+        assertEquals(plain, set);
+        int plainSize = plain.serializedSizeInBytes();
+        assertTrue(plain.runOptimize());
+        assertFalse(plain.runOptimize());
+        assertTrue(plain.serializedSizeInBytes() < plainSize);
+        assertEquals(set, plain);
+
+        plain.removeByContentPrimitive(100);
+        assertFalse(plain.containsPrimitive(100));
+        assertEquals(499989, plain.cardinality());
+
+        RoaringIntSet all = RoaringIntSet.ofRange(0, 1L << 32);
+        assertEquals(1L << 32, all.cardinality());
+        assertEquals(Integer.MAX_VALUE, all.size());
+        assertTrue(all.containsPrimitive(-1));
+        assertThrows(IllegalArgumentException.class, () -> RoaringIntSet.ofRange(5, 4));
+    }
+
+    @Test
+    public void testSerialize() throws IOException, ClassNotFoundException {
+        Random random = new Random(6);
+        for (int round = 0; round < 10; round++) {
+            RoaringIntSet set = RoaringIntSet.of(randomElements(random));
+            if (round % 2 == 0) {
+                set.runOptimize();
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(set.serializedSizeInBytes() + 3);
+            buffer.put((byte) 1);
+            set.serialize(buffer);
+            assertEquals(set.serializedSizeInBytes() + 1, buffer.position());
+            buffer.flip();
+            buffer.get();
+            assertEquals(set, RoaringIntSet.deserialize(buffer));
+            assertFalse(buffer.hasRemaining());
+
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+                objectOutputStream.writeObject(set);
+            }
+            try (ObjectInputStream objectInputStream = new ObjectInputStream(
+                    new ByteArrayInputStream(byteArrayOutputStream.toByteArray()))) {
+                RoaringIntSet read = (RoaringIntSet) objectInputStream.readObject();
+                assertEquals(set, read);
+                assertTrue(read.addPrimitive(Integer.MIN_VALUE + 3) != set.containsPrimitive(Integer.MIN_VALUE + 3));
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> RoaringIntSet.deserialize(ByteBuffer.allocate(8)));
+    }
+
+    @Test
+    public void testSerializeToFile() throws IOException {
+        RoaringIntSet set = RoaringIntSet.of(randomElements(new Random(7)));
+        set.runOptimize();
+        ByteBuffer buffer = ByteBuffer.allocate(set.serializedSizeInBytes());
+        set.serialize(buffer);
+        Path path = Files.createTempFile("RoaringIntSetTest", ".bin");
+        try {
+            Files.write(path, buffer.array());
+            ByteBuffer loaded = FileUtilsx.loadBuffer(path, true);
+            assertEquals(set, RoaringIntSet.deserialize(loaded));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testEqualsAndClone() {
+        RoaringIntSet set = RoaringIntSet.of(1, 2, 3, 70000);
+        RoaringIntSet clone = set.clone();
+        assertEquals(set, clone);
+        clone.addPrimitive(4);
+        assertNotEquals(set, clone);
+        assertFalse(set.containsPrimitive(4));
+        Set<Integer> hashSet = new HashSet<>();
+        hashSet.add(1);
+        hashSet.add(2);
+        hashSet.add(3);
+        hashSet.add(70000);
+        assertEquals(hashSet, set);
+        assertEquals(set, hashSet);
+        assertEquals(hashSet.hashCode(), set.hashCode());
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertEquals(new RoaringIntSet(), set);
+    }
+}
@@ -0,0 +1,103 @@
+package com.xenoamess.commons.primitive.collections.sets.hash_sets;
+
+import com.xenoamess.commons.primitive.Primitive;
+import com.xenoamess.commons.primitive.iterators.ByteIterator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author XenoAmess
+ */
+public class ByteHashSetTest {
+
+    public void checkEqual(ByteHashSet a1, HashSet<Byte> a2) {
+        assertEquals(a1.size(), a2.size());
+        for (Byte l : a2) {
+            assertTrue(a1.contains(l));
+            assertTrue(a1.containsPrimitive(l));
+        }
+        assertEquals(a1.toArrayPrimitive().length, a2.size());
+        assertEquals(a1, a2);
+        assertEquals(a2, a1);
+        assertEquals(a1.hashCode(), a2.hashCode());
+    }
+
+    public void check(int length) {
+        ByteHashSet a1 = new ByteHashSet();
+        HashSet<Byte> a2 = new HashSet<>();
+        Random random = new Random();
+        for (int i = 0; i < length; i++) {
+            byte l = ((byte)random.nextInt());
+            assertEquals(a1.addPrimitive(l), a2.add(l));
+        }
+        assertEquals(a1.addPrimitive(Primitive.BYTE_DEFAULT), a2.add(Primitive.BYTE_DEFAULT));
+
+        checkEqual(a1, a2);
+
+        ByteHashSet a1c = a1.clone();
+
+        boolean flag = false;
+        for (ByteIterator iterator = a1.iterator(); iterator.hasNext(); ) {
+            byte l = iterator.nextPrimitive();
+            flag = !flag;
+            if (flag) {
+                a2.remove(l);
+                iterator.remove();
+            }
+        }
+
+        checkEqual(a1, a2);
+
+        for (Byte l : a2) {
+            assertTrue(a1.removeByContentPrimitive(l));
+        }
+        a2.clear();
+
+        assertTrue(a1.isEmpty());
+        assertFalse(a1.iterator().hasNext());
+
+        a1.addAll(a1c);
+        a2.addAll(a1c);
+
+        checkEqual(a1, a2);
+        checkEqual(a1c, a2);
+    }
+
+    @Test
+    public void checks() {
+        for (int i = 0; i < 1000; i++) {
+            check(100);
+        }
+        for (int i = 0; i < 20; i++) {
+            check(10000);
+        }
+    }
+
+    @Test
+    public void serializeCheck() throws IOException, ClassNotFoundException {
+        ByteHashSet a1 = new ByteHashSet();
+        Random random = new Random();
+        for (int i = 0; i < 1000; i++) {
+            a1.addPrimitive(((byte)random.nextInt()));
+        }
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(a1);
+        }
+        try (ObjectInputStream objectInputStream =
+                     new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()))) {
+            assertEquals(a1, objectInputStream.readObject());
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.xenoamess.commons.primitive.collections.sets.immutable_sets;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.BooleanArrayList;
+import com.xenoamess.commons.primitive.collections.sets.BooleanSet;
+import com.xenoamess.commons.primitive.collections.sets.hash_sets.BooleanHashSet;
+import com.xenoamess.commons.primitive.iterators.BooleanIterator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author XenoAmess
+ */
+public class BooleanImmutableSetTest {
+
+    public void checkEqual(BooleanSet a1, Set<Boolean> a2) {
+        assertEquals(a2.size(), a1.size());
+        for (Boolean e : a2) {
+            assertTrue(a1.contains(e));
+            assertTrue(a1.containsPrimitive(e));
+        }
+        HashSet<Boolean> visited = new HashSet<>();
+        for (BooleanIterator iterator = a1.iterator(); iterator.hasNext(); ) {
+            assertTrue(visited.add(iterator.nextPrimitive()));
+        }
+        assertEquals(a2, visited);
+        visited.clear();
+        a1.forEachPrimitive(visited::add);
+        assertEquals(a2, visited);
+        assertEquals(a1.size(), a1.toArrayPrimitive().length);
+        assertEquals(a2, a1);
+        assertEquals(a1, a2);
+        assertEquals(new BooleanHashSet(a2), a1);
+        assertEquals(a1, new BooleanHashSet(a2));
+        assertEquals(a2.hashCode(), a1.hashCode());
+    }
+
+    public void checkUnsupported(BooleanImmutableSet a1, boolean e) {
+        assertThrows(UnsupportedOperationException.class, () -> a1.addPrimitive(e));
+        assertThrows(UnsupportedOperationException.class, () -> a1.add(e));
+        assertThrows(UnsupportedOperationException.class, () -> a1.removeByContentPrimitive(e));
+        assertThrows(UnsupportedOperationException.class, () -> a1.remove(e));
+        assertThrows(UnsupportedOperationException.class, () -> a1.addAll(new BooleanArrayList()));
+        assertThrows(UnsupportedOperationException.class, () -> a1.removeIf(x -> true));
+        assertThrows(UnsupportedOperationException.class, a1::clear);
+        assertThrows(UnsupportedOperationException.class, () -> a1.iterator().remove());
+    }
+
+    public void check(int length) {
+        Random random = new Random(length);
+        BooleanArrayList source = new BooleanArrayList();
+        Set<Boolean> a2 = new HashSet<>();
+        for (int i = 0; i < length; i++) {
+            boolean e = random.nextBoolean();
+            source.add(e);
+            a2.add(e);
+            if (random.nextInt(4) == 0) {
+                source.add(e);
+            }
+        }
+        BooleanImmutableSet a1 = BooleanImmutableSet.copyOf(source);
+        checkEqual(a1, a2);
+        checkUnsupported(a1, random.nextBoolean());
+        assertSame(a1, BooleanImmutableSet.copyOf(a1));
+        for (int i = 0; i < 100; i++) {
+            boolean e = random.nextBoolean();
+            assertEquals(a2.contains(e), a1.containsPrimitive(e));
+        }
+
+        boolean[] distinct = new BooleanHashSet(a2).toArrayPrimitive();
+        checkEqual(BooleanImmutableSet.of(distinct), a2);
+        if (source.size() > a2.size()) {
+            assertThrows(IllegalArgumentException.class, () -> BooleanImmutableSet.of(source.toArrayPrimitive()));
+        }
+    }
+
+    @Test
+    public void test() {
+        for (int length = 0; length < 10; length++) {
+            check(length);
+        }
+        check(100);
+        check(10000);
+    }
+
+    @Test
+    public void testOf() {
+        Random random = new Random();
+        boolean e0 = random.nextBoolean();
+        boolean e1 = random.nextBoolean();
+        Set<Boolean> a2 = new HashSet<>();
+        checkEqual(BooleanImmutableSet.of(), a2);
+        assertFalse(BooleanImmutableSet.of().containsPrimitive(e0));
+        a2.add(e0);
+        checkEqual(BooleanImmutableSet.of(e0), a2);
+        a2.add(e1);
+        if (a2.size() == 2) {
+            checkEqual(BooleanImmutableSet.of(e0, e1), a2);
+        }
+        assertThrows(IllegalArgumentException.class, () -> BooleanImmutableSet.of(e0, e0));
+        checkEqual(BooleanImmutableSet.copyOf(new BooleanArrayList(new boolean[]{e0, e0, e0})), Collections.singleton(e0));
+    }
+
+    @Test
+    public void testSerialize() throws IOException, ClassNotFoundException {
+        Random random = new Random();
+        for (int length : new int[]{0, 1, 2, 3, 1000}) {
+            BooleanHashSet source = new BooleanHashSet();
+            for (int i = 0; i < length; i++) {
+                source.add(random.nextBoolean());
+            }
+            BooleanImmutableSet a1 = BooleanImmutableSet.copyOf(source);
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+            objectOutputStream.writeObject(a1);
+            objectOutputStream.close();
+            ObjectInputStream objectInputStream =
+                    new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()));
+            checkEqual((BooleanSet) objectInputStream.readObject(), source);
+        }
+    }
+}
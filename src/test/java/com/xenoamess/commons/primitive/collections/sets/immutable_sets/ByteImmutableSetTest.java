@@ -0,0 +1,136 @@
+package com.xenoamess.commons.primitive.collections.sets.immutable_sets;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.ByteArrayList;
+import com.xenoamess.commons.primitive.collections.sets.ByteSet;
+import com.xenoamess.commons.primitive.collections.sets.hash_sets.ByteHashSet;
+import com.xenoamess.commons.primitive.iterators.ByteIterator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author XenoAmess
+ */
+public class ByteImmutableSetTest {
+
+    public void checkEqual(ByteSet a1, Set<Byte> a2) {
+        assertEquals(a2.size(), a1.size());
+        for (Byte e : a2) {
+            assertTrue(a1.contains(e));
+            assertTrue(a1.containsPrimitive(e));
+        }
+        HashSet<Byte> visited = new HashSet<>();
+        for (ByteIterator iterator = a1.iterator(); iterator.hasNext(); ) {
+            assertTrue(visited.add(iterator.nextPrimitive()));
+        }
+        assertEquals(a2, visited);
+        visited.clear();
+        a1.forEachPrimitive(visited::add);
+        assertEquals(a2, visited);
+        assertEquals(a1.size(), a1.toArrayPrimitive().length);
+        assertEquals(a2, a1);
+        assertEquals(a1, a2);
+        assertEquals(new ByteHashSet(a2), a1);
+        assertEquals(a1, new ByteHashSet(a2));
+        assertEquals(a2.hashCode(), a1.hashCode());
+    }
+
+    public void checkUnsupported(ByteImmutableSet a1, byte e) {
+        assertThrows(UnsupportedOperationException.class, () -> a1.addPrimitive(e));
+        assertThrows(UnsupportedOperationException.class, () -> a1.add(e));
+        assertThrows(UnsupportedOperationException.class, () -> a1.removeByContentPrimitive(e));
+        assertThrows(UnsupportedOperationException.class, () -> a1.remove(e));
+        assertThrows(UnsupportedOperationException.class, () -> a1.addAll(new ByteArrayList()));
+        assertThrows(UnsupportedOperationException.class, () -> a1.removeIf(x -> true));
+        assertThrows(UnsupportedOperationException.class, a1::clear);
+        assertThrows(UnsupportedOperationException.class, () -> a1.iterator().remove());
+    }
+
+    public void check(int length) {
+        Random random = new Random(length);
+        ByteArrayList source = new ByteArrayList();
+        Set<Byte> a2 = new HashSet<>();
+        for (int i = 0; i < length; i++) {
+            byte e = ((byte)random.nextInt());
+            source.add(e);
+            a2.add(e);
+            if (random.nextInt(4) == 0) {
+                source.add(e);
+            }
+        }
+        ByteImmutableSet a1 = ByteImmutableSet.copyOf(source);
+        checkEqual(a1, a2);
+        checkUnsupported(a1, ((byte)random.nextInt()));
+        assertSame(a1, ByteImmutableSet.copyOf(a1));
+        for (int i = 0; i < 100; i++) {
+            byte e = ((byte)random.nextInt());
+            assertEquals(a2.contains(e), a1.containsPrimitive(e));
+        }
+
+        byte[] distinct = new ByteHashSet(a2).toArrayPrimitive();
+        checkEqual(ByteImmutableSet.of(distinct), a2);
+        if (source.size() > a2.size()) {
+            assertThrows(IllegalArgumentException.class, () -> ByteImmutableSet.of(source.toArrayPrimitive()));
+        }
+    }
+
+    @Test
+    public void test() {
+        for (int length = 0; length < 10; length++) {
+            check(length);
+        }
+        check(100);
+        check(10000);
+    }
+
+    @Test
+    public void testOf() {
+        Random random = new Random();
+        byte e0 = ((byte)random.nextInt());
+        byte e1 = ((byte)random.nextInt());
+        Set<Byte> a2 = new HashSet<>();
+        checkEqual(ByteImmutableSet.of(), a2);
+        assertFalse(ByteImmutableSet.of().containsPrimitive(e0));
+        a2.add(e0);
+        checkEqual(ByteImmutableSet.of(e0), a2);
+        a2.add(e1);
+        if (a2.size() == 2) {
+            checkEqual(ByteImmutableSet.of(e0, e1), a2);
+        }
+        assertThrows(IllegalArgumentException.class, () -> ByteImmutableSet.of(e0, e0));
+        checkEqual(ByteImmutableSet.copyOf(new ByteArrayList(new byte[]{e0, e0, e0})), Collections.singleton(e0));
+    }
+
+    @Test
+    public void testSerialize() throws IOException, ClassNotFoundException {
+        Random random = new Random();
+        for (int length : new int[]{0, 1, 2, 3, 1000}) {
+            ByteHashSet source = new ByteHashSet();
+            for (int i = 0; i < length; i++) {
+                source.add(((byte)random.nextInt()));
+            }
+            ByteImmutableSet a1 = ByteImmutableSet.copyOf(source);
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+            objectOutputStream.writeObject(a1);
+            objectOutputStream.close();
+            ObjectInputStream objectInputStream =
+                    new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()));
+            checkEqual((ByteSet) objectInputStream.readObject(), source);
+        }
+    }
+}
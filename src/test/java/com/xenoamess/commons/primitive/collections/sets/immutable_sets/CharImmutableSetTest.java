@@ -0,0 +1,136 @@
+package com.xenoamess.commons.primitive.collections.sets.immutable_sets;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.CharArrayList;
+import com.xenoamess.commons.primitive.collections.sets.CharSet;
+import com.xenoamess.commons.primitive.collections.sets.hash_sets.CharHashSet;
+import com.xenoamess.commons.primitive.iterators.CharIterator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author XenoAmess
+ */
+public class CharImmutableSetTest {
+
+    public void checkEqual(CharSet a1, Set<Character> a2) {
+        assertEquals(a2.size(), a1.size());
+        for (Character e : a2) {
+            assertTrue(a1.contains(e));
+            assertTrue(a1.containsPrimitive(e));
+        }
+        HashSet<Character> visited = new HashSet<>();
+        for (CharIterator iterator = a1.iterator(); iterator.hasNext(); ) {
+            assertTrue(visited.add(iterator.nextPrimitive()));
+        }
+        assertEquals(a2, visited);
+        visited.clear();
+        a1.forEachPrimitive(visited::add);
+        assertEquals(a2, visited);
+        assertEquals(a1.size(), a1.toArrayPrimitive().length);
+        assertEquals(a2, a1);
+        assertEquals(a1, a2);
+        assertEquals(new CharHashSet(a2), a1);
+        assertEquals(a1, new CharHashSet(a2));
+        assertEquals(a2.hashCode(), a1.hashCode());
+    }
+
+    public void checkUnsupported(CharImmutableSet a1, char e) {
+        assertThrows(UnsupportedOperationException.class, () -> a1.addPrimitive(e));
+        assertThrows(UnsupportedOperationException.class, () -> a1.add(e));
+        assertThrows(UnsupportedOperationException.class, () -> a1.removeByContentPrimitive(e));
+        assertThrows(UnsupportedOperationException.class, () -> a1.remove(e));
+        assertThrows(UnsupportedOperationException.class, () -> a1.addAll(new CharArrayList()));
+        assertThrows(UnsupportedOperationException.class, () -> a1.removeIf(x -> true));
+        assertThrows(UnsupportedOperationException.class, a1::clear);
+        assertThrows(UnsupportedOperationException.class, () -> a1.iterator().remove());
+    }
+
+    public void check(int length) {
+        Random random = new Random(length);
+        CharArrayList source = new CharArrayList();
+        Set<Character> a2 = new HashSet<>();
+        for (int i = 0; i < length; i++) {
+            char e = ((char)random.nextInt());
+            source.add(e);
+            a2.add(e);
+            if (random.nextInt(4) == 0) {
+                source.add(e);
+            }
+        }
+        CharImmutableSet a1 = CharImmutableSet.copyOf(source);
+        checkEqual(a1, a2);
+        checkUnsupported(a1, ((char)random.nextInt()));
+        assertSame(a1, CharImmutableSet.copyOf(a1));
+        for (int i = 0; i < 100; i++) {
+            char e = ((char)random.nextInt());
+            assertEquals(a2.contains(e), a1.containsPrimitive(e));
+        }
+
+        char[] distinct = new CharHashSet(a2).toArrayPrimitive();
+        checkEqual(CharImmutableSet.of(distinct), a2);
+        if (source.size() > a2.size()) {
+            assertThrows(IllegalArgumentException.class, () -> CharImmutableSet.of(source.toArrayPrimitive()));
+        }
+    }
+
+    @Test
+    public void test() {
+        for (int length = 0; length < 10; length++) {
+            check(length);
+        }
+        check(100);
+        check(10000);
+    }
+
+    @Test
+    public void testOf() {
+        Random random = new Random();
+        char e0 = ((char)random.nextInt());
+        char e1 = ((char)random.nextInt());
+        Set<Character> a2 = new HashSet<>();
+        checkEqual(CharImmutableSet.of(), a2);
+        assertFalse(CharImmutableSet.of().containsPrimitive(e0));
+        a2.add(e0);
+        checkEqual(CharImmutableSet.of(e0), a2);
+        a2.add(e1);
+        if (a2.size() == 2) {
+            checkEqual(CharImmutableSet.of(e0, e1), a2);
+        }
+        assertThrows(IllegalArgumentException.class, () -> CharImmutableSet.of(e0, e0));
+        checkEqual(CharImmutableSet.copyOf(new CharArrayList(new char[]{e0, e0, e0})), Collections.singleton(e0));
+    }
+
+    @Test
+    public void testSerialize() throws IOException, ClassNotFoundException {
+        Random random = new Random();
+        for (int length : new int[]{0, 1, 2, 3, 1000}) {
+            CharHashSet source = new CharHashSet();
+            for (int i = 0; i < length; i++) {
+                source.add(((char)random.nextInt()));
+            }
+            CharImmutableSet a1 = CharImmutableSet.copyOf(source);
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+            objectOutputStream.writeObject(a1);
+            objectOutputStream.close();
+            ObjectInputStream objectInputStream =
+                    new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()));
+            checkEqual((CharSet) objectInputStream.readObject(), source);
+        }
+    }
+}
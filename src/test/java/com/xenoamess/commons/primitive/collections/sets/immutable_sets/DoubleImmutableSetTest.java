@@ -0,0 +1,136 @@
+package com.xenoamess.commons.primitive.collections.sets.immutable_sets;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.DoubleArrayList;
+import com.xenoamess.commons.primitive.collections.sets.DoubleSet;
+import com.xenoamess.commons.primitive.collections.sets.hash_sets.DoubleHashSet;
+import com.xenoamess.commons.primitive.iterators.DoubleIterator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author XenoAmess
+ */
+public class DoubleImmutableSetTest {
+
+    public void checkEqual(DoubleSet a1, Set<Double> a2) {
+        assertEquals(a2.size(), a1.size());
+        for (Double e : a2) {
+            assertTrue(a1.contains(e));
+            assertTrue(a1.containsPrimitive(e));
+        }
+        HashSet<Double> visited = new HashSet<>();
+        for (DoubleIterator iterator = a1.iterator(); iterator.hasNext(); ) {
+            assertTrue(visited.add(iterator.nextPrimitive()));
+        }
+        assertEquals(a2, visited);
+        visited.clear();
+        a1.forEachPrimitive(visited::add);
+        assertEquals(a2, visited);
+        assertEquals(a1.size(), a1.toArrayPrimitive().length);
+        assertEquals(a2, a1);
+        assertEquals(a1, a2);
+        assertEquals(new DoubleHashSet(a2), a1);
+        assertEquals(a1, new DoubleHashSet(a2));
+        assertEquals(a2.hashCode(), a1.hashCode());
+    }
+
+    public void checkUnsupported(DoubleImmutableSet a1, double e) {
+        assertThrows(UnsupportedOperationException.class, () -> a1.addPrimitive(e));
+        assertThrows(UnsupportedOperationException.class, () -> a1.add(e));
+        assertThrows(UnsupportedOperationException.class, () -> a1.removeByContentPrimitive(e));
+        assertThrows(UnsupportedOperationException.class, () -> a1.remove(e));
+        assertThrows(UnsupportedOperationException.class, () -> a1.addAll(new DoubleArrayList()));
+        assertThrows(UnsupportedOperationException.class, () -> a1.removeIf(x -> true));
+        assertThrows(UnsupportedOperationException.class, a1::clear);
+        assertThrows(UnsupportedOperationException.class, () -> a1.iterator().remove());
+    }
+
+    public void check(int length) {
+        Random random = new Random(length);
+        DoubleArrayList source = new DoubleArrayList();
+        Set<Double> a2 = new HashSet<>();
+        for (int i = 0; i < length; i++) {
+            double e = random.nextDouble();
+            source.add(e);
+            a2.add(e);
+            if (random.nextInt(4) == 0) {
+                source.add(e);
+            }
+        }
+        DoubleImmutableSet a1 = DoubleImmutableSet.copyOf(source);
+        checkEqual(a1, a2);
+        checkUnsupported(a1, random.nextDouble());
+        assertSame(a1, DoubleImmutableSet.copyOf(a1));
+        for (int i = 0; i < 100; i++) {
+            double e = random.nextDouble();
+            assertEquals(a2.contains(e), a1.containsPrimitive(e));
+        }
+
+        double[] distinct = new DoubleHashSet(a2).toArrayPrimitive();
+        checkEqual(DoubleImmutableSet.of(distinct), a2);
+        if (source.size() > a2.size()) {
+            assertThrows(IllegalArgumentException.class, () -> DoubleImmutableSet.of(source.toArrayPrimitive()));
+        }
+    }
+
+    @Test
+    public void test() {
+        for (int length = 0; length < 10; length++) {
+            check(length);
+        }
+        check(100);
+        check(10000);
+    }
+
+    @Test
+    public void testOf() {
+        Random random = new Random();
+        double e0 = random.nextDouble();
+        double e1 = random.nextDouble();
+        Set<Double> a2 = new HashSet<>();
+        checkEqual(DoubleImmutableSet.of(), a2);
+        assertFalse(DoubleImmutableSet.of().containsPrimitive(e0));
+        a2.add(e0);
+        checkEqual(DoubleImmutableSet.of(e0), a2);
+        a2.add(e1);
+        if (a2.size() == 2) {
+            checkEqual(DoubleImmutableSet.of(e0, e1), a2);
+        }
+        assertThrows(IllegalArgumentException.class, () -> DoubleImmutableSet.of(e0, e0));
+        checkEqual(DoubleImmutableSet.copyOf(new DoubleArrayList(new double[]{e0, e0, e0})), Collections.singleton(e0));
+    }
+
+    @Test
+    public void testSerialize() throws IOException, ClassNotFoundException {
+        Random random = new Random();
+        for (int length : new int[]{0, 1, 2, 3, 1000}) {
+            DoubleHashSet source = new DoubleHashSet();
+            for (int i = 0; i < length; i++) {
+                source.add(random.nextDouble());
+            }
+            DoubleImmutableSet a1 = DoubleImmutableSet.copyOf(source);
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+            objectOutputStream.writeObject(a1);
+            objectOutputStream.close();
+            ObjectInputStream objectInputStream =
+                    new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()));
+            checkEqual((DoubleSet) objectInputStream.readObject(), source);
+        }
+    }
+}
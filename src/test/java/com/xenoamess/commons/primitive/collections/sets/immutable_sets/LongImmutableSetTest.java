@@ -0,0 +1,136 @@
+package com.xenoamess.commons.primitive.collections.sets.immutable_sets;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.LongArrayList;
+import com.xenoamess.commons.primitive.collections.sets.LongSet;
+import com.xenoamess.commons.primitive.collections.sets.hash_sets.LongHashSet;
+import com.xenoamess.commons.primitive.iterators.LongIterator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author XenoAmess
+ */
+public class LongImmutableSetTest {
+
+    public void checkEqual(LongSet a1, Set<Long> a2) {
+        assertEquals(a2.size(), a1.size());
+        for (Long e : a2) {
+            assertTrue(a1.contains(e));
+            assertTrue(a1.containsPrimitive(e));
+        }
+        HashSet<Long> visited = new HashSet<>();
+        for (LongIterator iterator = a1.iterator(); iterator.hasNext(); ) {
+            assertTrue(visited.add(iterator.nextPrimitive()));
+        }
+        assertEquals(a2, visited);
+        visited.clear();
+        a1.forEachPrimitive(visited::add);
+        assertEquals(a2, visited);
+        assertEquals(a1.size(), a1.toArrayPrimitive().length);
+        assertEquals(a2, a1);
+        assertEquals(a1, a2);
+        assertEquals(new LongHashSet(a2), a1);
+        assertEquals(a1, new LongHashSet(a2));
+        assertEquals(a2.hashCode(), a1.hashCode());
+    }
+
+    public void checkUnsupported(LongImmutableSet a1, long e) {
+        assertThrows(UnsupportedOperationException.class, () -> a1.addPrimitive(e));
+        assertThrows(UnsupportedOperationException.class, () -> a1.add(e));
+        assertThrows(UnsupportedOperationException.class, () -> a1.removeByContentPrimitive(e));
+        assertThrows(UnsupportedOperationException.class, () -> a1.remove(e));
+        assertThrows(UnsupportedOperationException.class, () -> a1.addAll(new LongArrayList()));
+        assertThrows(UnsupportedOperationException.class, () -> a1.removeIf(x -> true));
+        assertThrows(UnsupportedOperationException.class, a1::clear);
+        assertThrows(UnsupportedOperationException.class, () -> a1.iterator().remove());
+    }
+
+    public void check(int length) {
+        Random random = new Random(length);
+        LongArrayList source = new LongArrayList();
+        Set<Long> a2 = new HashSet<>();
+        for (int i = 0; i < length; i++) {
+            long e = random.nextLong();
+            source.add(e);
+            a2.add(e);
+            if (random.nextInt(4) == 0) {
+                source.add(e);
+            }
+        }
+        LongImmutableSet a1 = LongImmutableSet.copyOf(source);
+        checkEqual(a1, a2);
+        checkUnsupported(a1, random.nextLong());
+        assertSame(a1, LongImmutableSet.copyOf(a1));
+        for (int i = 0; i < 100; i++) {
+            long e = random.nextLong();
+            assertEquals(a2.contains(e), a1.containsPrimitive(e));
+        }
+
+        long[] distinct = new LongHashSet(a2).toArrayPrimitive();
+        checkEqual(LongImmutableSet.of(distinct), a2);
+        if (source.size() > a2.size()) {
+            assertThrows(IllegalArgumentException.class, () -> LongImmutableSet.of(source.toArrayPrimitive()));
+        }
+    }
+
+    @Test
+    public void test() {
+        for (int length = 0; length < 10; length++) {
+            check(length);
+        }
+        check(100);
+        check(10000);
+    }
+
+    @Test
+    public void testOf() {
+        Random random = new Random();
+        long e0 = random.nextLong();
+        long e1 = random.nextLong();
+        Set<Long> a2 = new HashSet<>();
+        checkEqual(LongImmutableSet.of(), a2);
+        assertFalse(LongImmutableSet.of().containsPrimitive(e0));
+        a2.add(e0);
+        checkEqual(LongImmutableSet.of(e0), a2);
+        a2.add(e1);
+        if (a2.size() == 2) {
+            checkEqual(LongImmutableSet.of(e0, e1), a2);
+        }
+        assertThrows(IllegalArgumentException.class, () -> LongImmutableSet.of(e0, e0));
+        checkEqual(LongImmutableSet.copyOf(new LongArrayList(new long[]{e0, e0, e0})), Collections.singleton(e0));
+    }
+
+    @Test
+    public void testSerialize() throws IOException, ClassNotFoundException {
+        Random random = new Random();
+        for (int length : new int[]{0, 1, 2, 3, 1000}) {
+            LongHashSet source = new LongHashSet();
+            for (int i = 0; i < length; i++) {
+                source.add(random.nextLong());
+            }
+            LongImmutableSet a1 = LongImmutableSet.copyOf(source);
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+            objectOutputStream.writeObject(a1);
+            objectOutputStream.close();
+            ObjectInputStream objectInputStream =
+                    new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()));
+            checkEqual((LongSet) objectInputStream.readObject(), source);
+        }
+    }
+}
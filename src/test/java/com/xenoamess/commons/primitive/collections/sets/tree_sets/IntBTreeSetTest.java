@@ -0,0 +1,198 @@
+package com.xenoamess.commons.primitive.collections.sets.tree_sets;
+
+import com.xenoamess.commons.primitive.collections.sets.IntSortedSet;
+import com.xenoamess.commons.primitive.comparators.PrimitiveComparators;
+import com.xenoamess.commons.primitive.iterators.IntIterator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author XenoAmess
+ */
+public class IntBTreeSetTest {
+
+    public void checkEqual(IntSortedSet a1, NavigableSet<Integer> a2) {
+        assertEquals(a2.size(), a1.size());
+        assertEquals(new ArrayList<>(a2), new ArrayList<>(a1));
+        int[] expected = new int[a2.size()];
+        int i = 0;
+        for (Integer l : a2) {
+            expected[i++] = l;
+        }
+        assertArrayEquals(expected, a1.toArrayPrimitive());
+        assertEquals(a2, a1);
+        assertEquals(a1, a2);
+        assertEquals(a2.hashCode(), a1.hashCode());
+        if (!a2.isEmpty()) {
+            assertEquals((int) a2.first(), a1.firstPrimitive());
+            assertEquals((int) a2.last(), a1.lastPrimitive());
+        }
+    }
+
+    public void checkNavigation(IntSortedSet a1, NavigableSet<Integer> a2, int l) {
+        assertEquals(a2.floor(l) == null ? -1 : a2.floor(l), a1.floorPrimitive(l, -1));
+        assertEquals(a2.ceiling(l) == null ? -1 : a2.ceiling(l), a1.ceilingPrimitive(l, -1));
+        assertEquals(a2.lower(l) == null ? -1 : a2.lower(l), a1.lowerPrimitive(l, -1));
+        assertEquals(a2.higher(l) == null ? -1 : a2.higher(l), a1.higherPrimitive(l, -1));
+        assertEquals(a2.contains(l), a1.containsPrimitive(l));
+    }
+
+    public void check(IntBTreeSet a1, TreeSet<Integer> a2, int length, int bound) {
+        Random random = new Random(length);
+        for (int i = 0; i < length; i++) {
+            int l = random.nextInt(bound);
+            if (random.nextInt(3) == 0) {
+                assertEquals(a2.remove(l), a1.removeByContentPrimitive(l));
+            } else {
+                assertEquals(a2.add(l), a1.addPrimitive(l));
+            }
+            if (i % 97 == 0) {
+                checkNavigation(a1, a2, random.nextInt(bound + 2) - 1);
+            }
+        }
+        checkEqual(a1, a2);
+        for (int i = 0; i < 1000; i++) {
+            checkNavigation(a1, a2, random.nextInt(bound + 2) - 1);
+        }
+    }
+
+    @Test
+    public void test() {
+        for (int length : new int[]{0, 1, 100, 10000, 100000}) {
+            check(new IntBTreeSet(), new TreeSet<>(), length, Math.max(1, length / 2));
+        }
+    }
+
+    @Test
+    public void testAscendingAndDescendingAppend() {
+        IntBTreeSet a1 = new IntBTreeSet();
+        TreeSet<Integer> a2 = new TreeSet<>();
+        for (int l = 0; l < 50000; l++) {
+            a1.addPrimitive(l);
+            a2.add(l);
+        }
+        for (int l = -1; l > -50000; l--) {
+            a1.addPrimitive(l);
+            a2.add(l);
+        }
+        checkEqual(a1, a2);
+        for (int l = -50000; l < 50000; l += 2) {
+            assertEquals(a2.remove(l), a1.removeByContentPrimitive(l));
+        }
+        checkEqual(a1, a2);
+        for (int l = 50000; l > -50000; l--) {
+            a1.removeByContentPrimitive(l);
+        }
+        assertTrue(a1.isEmpty());
+        assertThrows(NoSuchElementException.class, a1::firstPrimitive);
+        assertFalse(a1.iterator().hasNext());
+    }
+
+    @Test
+    public void testComparator() {
+        IntBTreeSet a1 = new IntBTreeSet(PrimitiveComparators.INT_COMPARATOR_DECREASING);
+        TreeSet<Integer> a2 = new TreeSet<>(Comparator.reverseOrder());
+        check(a1, a2, 10000, 5000);
+        assertEquals(PrimitiveComparators.INT_COMPARATOR_DECREASING, a1.comparator());
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        IntBTreeSet a1 = new IntBTreeSet();
+        TreeSet<Integer> a2 = new TreeSet<>();
+        check(a1, a2, 10000, 20000);
+        boolean flag = false;
+        for (IntIterator iterator = a1.iterator(); iterator.hasNext(); ) {
+            int l = iterator.nextPrimitive();
+            flag = !flag;
+            if (flag) {
+                a2.remove(l);
+                iterator.remove();
+            }
+        }
+        checkEqual(a1, a2);
+        for (IntIterator iterator = a1.iterator(); iterator.hasNext(); ) {
+            iterator.nextPrimitive();
+            iterator.remove();
+        }
+        assertTrue(a1.isEmpty());
+    }
+
+    @Test
+    public void testSubSet() {
+        IntBTreeSet a1 = new IntBTreeSet();
+        TreeSet<Integer> a2 = new TreeSet<>();
+        check(a1, a2, 10000, 10000);
+        Random random = new Random();
+        for (int i = 0; i < 50; i++) {
+            int from = random.nextInt(10000);
+            int to = from + random.nextInt(3000);
+            IntSortedSet s1 = a1.subSetPrimitive(from, to);
+            NavigableSet<Integer> s2 = a2.subSet(from, true, to, false);
+            checkEqual(s1, s2);
+            for (int j = 0; j < 20; j++) {
+                checkNavigation(s1, s2, from - 100 + random.nextInt(3200));
+            }
+            int mid = from + (to - from) / 2;
+            checkEqual(s1.headSetPrimitive(mid), s2.headSet(mid, false));
+            checkEqual(s1.tailSetPrimitive(mid), s2.tailSet(mid, true));
+            assertThrows(IllegalArgumentException.class, () -> s1.addPrimitive(to));
+            assertThrows(IllegalArgumentException.class, () -> s1.tailSetPrimitive(to + 1));
+            s1.addPrimitive(from);
+            s2.add(from);
+            s1.removeByContentPrimitive(mid);
+            s2.remove(mid);
+            checkEqual(a1, a2);
+        }
+        checkEqual(a1.headSetPrimitive(5000), a2.headSet(5000, false));
+        checkEqual(a1.tailSetPrimitive(5000), a2.tailSet(5000, true));
+        IntSortedSet tail = a1.tailSetPrimitive(5000);
+        for (IntIterator iterator = tail.iterator(); iterator.hasNext(); ) {
+            iterator.nextPrimitive();
+            iterator.remove();
+        }
+        a2.tailSet(5000, true).clear();
+        checkEqual(a1, a2);
+        assertTrue(tail.isEmpty());
+    }
+
+    @Test
+    public void testCloneAndSerialize() throws IOException, ClassNotFoundException {
+        IntBTreeSet a1 = new IntBTreeSet(PrimitiveComparators.INT_COMPARATOR_DECREASING);
+        TreeSet<Integer> a2 = new TreeSet<>(Collections.reverseOrder());
+        check(a1, a2, 10000, 10000);
+
+        IntBTreeSet a1c = a1.clone();
+        a1.clear();
+        checkEqual(a1c, a2);
+
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+        objectOutputStream.writeObject(new IntBTreeSet(new int[]{3, 1, 2, 1}));
+        objectOutputStream.close();
+        ObjectInputStream objectInputStream =
+                new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()));
+        IntBTreeSet a3 = (IntBTreeSet) objectInputStream.readObject();
+        List<Integer> list = new ArrayList<>(a3);
+        assertEquals(java.util.Arrays.asList(1, 2, 3), list);
+    }
+}
@@ -0,0 +1,198 @@
+package com.xenoamess.commons.primitive.collections.sets.tree_sets;
+
+import com.xenoamess.commons.primitive.collections.sets.LongSortedSet;
+import com.xenoamess.commons.primitive.comparators.PrimitiveComparators;
+import com.xenoamess.commons.primitive.iterators.LongIterator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author XenoAmess
+ */
+public class LongBTreeSetTest {
+
+    public void checkEqual(LongSortedSet a1, NavigableSet<Long> a2) {
+        assertEquals(a2.size(), a1.size());
+        assertEquals(new ArrayList<>(a2), new ArrayList<>(a1));
+        long[] expected = new long[a2.size()];
+        int i = 0;
+        for (Long l : a2) {
+            expected[i++] = l;
+        }
+        assertArrayEquals(expected, a1.toArrayPrimitive());
+        assertEquals(a2, a1);
+        assertEquals(a1, a2);
+        assertEquals(a2.hashCode(), a1.hashCode());
+        if (!a2.isEmpty()) {
+            assertEquals((long) a2.first(), a1.firstPrimitive());
+            assertEquals((long) a2.last(), a1.lastPrimitive());
+        }
+    }
+
+    public void checkNavigation(LongSortedSet a1, NavigableSet<Long> a2, long l) {
+        assertEquals(a2.floor(l) == null ? -1L : a2.floor(l), a1.floorPrimitive(l, -1L));
+        assertEquals(a2.ceiling(l) == null ? -1L : a2.ceiling(l), a1.ceilingPrimitive(l, -1L));
+        assertEquals(a2.lower(l) == null ? -1L : a2.lower(l), a1.lowerPrimitive(l, -1L));
+        assertEquals(a2.higher(l) == null ? -1L : a2.higher(l), a1.higherPrimitive(l, -1L));
+        assertEquals(a2.contains(l), a1.containsPrimitive(l));
+    }
+
+    public void check(LongBTreeSet a1, TreeSet<Long> a2, int length, int bound) {
+        Random random = new Random(length);
+        for (int i = 0; i < length; i++) {
+            long l = random.nextInt(bound);
+            if (random.nextInt(3) == 0) {
+                assertEquals(a2.remove(l), a1.removeByContentPrimitive(l));
+            } else {
+                assertEquals(a2.add(l), a1.addPrimitive(l));
+            }
+            if (i % 97 == 0) {
+                checkNavigation(a1, a2, random.nextInt(bound + 2) - 1);
+            }
+        }
+        checkEqual(a1, a2);
+        for (int i = 0; i < 1000; i++) {
+            checkNavigation(a1, a2, random.nextInt(bound + 2) - 1);
+        }
+    }
+
+    @Test
+    public void test() {
+        for (int length : new int[]{0, 1, 100, 10000, 100000}) {
+            check(new LongBTreeSet(), new TreeSet<>(), length, Math.max(1, length / 2));
+        }
+    }
+
+    @Test
+    public void testAscendingAndDescendingAppend() {
+        LongBTreeSet a1 = new LongBTreeSet();
+        TreeSet<Long> a2 = new TreeSet<>();
+        for (long l = 0; l < 50000; l++) {
+            a1.addPrimitive(l);
+            a2.add(l);
+        }
+        for (long l = -1; l > -50000; l--) {
+            a1.addPrimitive(l);
+            a2.add(l);
+        }
+        checkEqual(a1, a2);
+        for (long l = -50000; l < 50000; l += 2) {
+            assertEquals(a2.remove(l), a1.removeByContentPrimitive(l));
+        }
+        checkEqual(a1, a2);
+        for (long l = 50000; l > -50000; l--) {
+            a1.removeByContentPrimitive(l);
+        }
+        assertTrue(a1.isEmpty());
+        assertThrows(NoSuchElementException.class, a1::firstPrimitive);
+        assertFalse(a1.iterator().hasNext());
+    }
+
+    @Test
+    public void testComparator() {
+        LongBTreeSet a1 = new LongBTreeSet(PrimitiveComparators.LONG_COMPARATOR_DECREASING);
+        TreeSet<Long> a2 = new TreeSet<>(Comparator.reverseOrder());
+        check(a1, a2, 10000, 5000);
+        assertEquals(PrimitiveComparators.LONG_COMPARATOR_DECREASING, a1.comparator());
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        LongBTreeSet a1 = new LongBTreeSet();
+        TreeSet<Long> a2 = new TreeSet<>();
+        check(a1, a2, 10000, 20000);
+        boolean flag = false;
+        for (LongIterator iterator = a1.iterator(); iterator.hasNext(); ) {
+            long l = iterator.nextPrimitive();
+            flag = !flag;
+            if (flag) {
+                a2.remove(l);
+                iterator.remove();
+            }
+        }
+        checkEqual(a1, a2);
+        for (LongIterator iterator = a1.iterator(); iterator.hasNext(); ) {
+            iterator.nextPrimitive();
+            iterator.remove();
+        }
+        assertTrue(a1.isEmpty());
+    }
+
+    @Test
+    public void testSubSet() {
+        LongBTreeSet a1 = new LongBTreeSet();
+        TreeSet<Long> a2 = new TreeSet<>();
+        check(a1, a2, 10000, 10000);
+        Random random = new Random();
+        for (int i = 0; i < 50; i++) {
+            long from = random.nextInt(10000);
+            long to = from + random.nextInt(3000);
+            LongSortedSet s1 = a1.subSetPrimitive(from, to);
+            NavigableSet<Long> s2 = a2.subSet(from, true, to, false);
+            checkEqual(s1, s2);
+            for (int j = 0; j < 20; j++) {
+                checkNavigation(s1, s2, from - 100 + random.nextInt(3200));
+            }
+            long mid = from + (to - from) / 2;
+            checkEqual(s1.headSetPrimitive(mid), s2.headSet(mid, false));
+            checkEqual(s1.tailSetPrimitive(mid), s2.tailSet(mid, true));
+            assertThrows(IllegalArgumentException.class, () -> s1.addPrimitive(to));
+            assertThrows(IllegalArgumentException.class, () -> s1.tailSetPrimitive(to + 1));
+            s1.addPrimitive(from);
+            s2.add(from);
+            s1.removeByContentPrimitive(mid);
+            s2.remove(mid);
+            checkEqual(a1, a2);
+        }
+        checkEqual(a1.headSetPrimitive(5000L), a2.headSet(5000L, false));
+        checkEqual(a1.tailSetPrimitive(5000L), a2.tailSet(5000L, true));
+        LongSortedSet tail = a1.tailSetPrimitive(5000L);
+        for (LongIterator iterator = tail.iterator(); iterator.hasNext(); ) {
+            iterator.nextPrimitive();
+            iterator.remove();
+        }
+        a2.tailSet(5000L, true).clear();
+        checkEqual(a1, a2);
+        assertTrue(tail.isEmpty());
+    }
+
+    @Test
+    public void testCloneAndSerialize() throws IOException, ClassNotFoundException {
+        LongBTreeSet a1 = new LongBTreeSet(PrimitiveComparators.LONG_COMPARATOR_DECREASING);
+        TreeSet<Long> a2 = new TreeSet<>(Collections.reverseOrder());
+        check(a1, a2, 10000, 10000);
+
+        LongBTreeSet a1c = a1.clone();
+        a1.clear();
+        checkEqual(a1c, a2);
+
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+        objectOutputStream.writeObject(new LongBTreeSet(new long[]{3, 1, 2, 1}));
+        objectOutputStream.close();
+        ObjectInputStream objectInputStream =
+                new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()));
+        LongBTreeSet a3 = (LongBTreeSet) objectInputStream.readObject();
+        List<Long> list = new ArrayList<>(a3);
+        assertEquals(java.util.Arrays.asList(1L, 2L, 3L), list);
+    }
+}
@@ -0,0 +1,177 @@
+package com.xenoamess.commons.primitive.io;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.BooleanArrayList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.DoubleArrayList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.IntArrayList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.LongArrayList;
+import com.xenoamess.commons.primitive.collections.queues.array_deques.CharArrayDeque;
+import com.xenoamess.commons.primitive.collections.queues.array_deques.IntArrayDeque;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author XenoAmess
+ */
+public class PrimitiveArrayIOTest {
+
+    private static byte[] toBytes(IntArrayList list) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        list.writeTo(Channels.newChannel(out));
+        return out.toByteArray();
+    }
+
+    @Test
+    public void testIntArrayListChannelRoundTrip() throws IOException {
+        Random random = new Random(23);
+        // larger than one chunk, and not a multiple of it
+        int[] data = new int[100003];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = random.nextInt();
+        }
+        IntArrayList list = new IntArrayList(data.clone());
+        byte[] bytes = toBytes(list);
+        assertEquals(PrimitiveArrayIO.sizeInBytes(PrimitiveArrayIO.TYPE_INT, data.length), bytes.length);
+
+        IntArrayList read = IntArrayList.readFrom(Channels.newChannel(new ByteArrayInputStream(bytes)));
+        assertEquals(list, read);
+        assertEquals(IntArrayList.readFrom(ByteBuffer.wrap(bytes)), list);
+    }
+
+    @Test
+    public void testEmpty() throws IOException {
+        IntArrayList list = new IntArrayList();
+        byte[] bytes = toBytes(list);
+        assertEquals(PrimitiveArrayIO.HEADER_SIZE, bytes.length);
+        assertEquals(0, IntArrayList.readFrom(ByteBuffer.wrap(bytes)).size());
+    }
+
+    @Test
+    public void testByteBufferRoundTrip() {
+        LongArrayList longs = new LongArrayList();
+        DoubleArrayList doubles = new DoubleArrayList();
+        BooleanArrayList booleans = new BooleanArrayList();
+        for (int i = 0; i < 1000; i++) {
+            longs.addPrimitive(i * 0x123456789L);
+            doubles.addPrimitive(i / 7.0);
+            booleans.addPrimitive(i % 3 == 0);
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(
+                (int) (PrimitiveArrayIO.sizeInBytes(PrimitiveArrayIO.TYPE_LONG, 1000)
+                        + PrimitiveArrayIO.sizeInBytes(PrimitiveArrayIO.TYPE_DOUBLE, 1000)
+                        + PrimitiveArrayIO.sizeInBytes(PrimitiveArrayIO.TYPE_BOOLEAN, 1000)));
+        longs.writeTo(buffer);
+        doubles.writeTo(buffer);
+        booleans.writeTo(buffer);
+        assertEquals(0, buffer.remaining());
+        assertThrows(BufferOverflowException.class, () -> booleans.writeTo(buffer));
+
+        buffer.flip();
+        assertEquals(longs, LongArrayList.readFrom(buffer));
+        assertEquals(doubles, DoubleArrayList.readFrom(buffer));
+        assertEquals(booleans, BooleanArrayList.readFrom(buffer));
+        assertEquals(0, buffer.remaining());
+    }
+
+    @Test
+    public void testWrappedDeque() throws IOException {
+        IntArrayDeque deque = new IntArrayDeque();
+        for (int i = 0; i < 10; i++) {
+            deque.addLastPrimitive(i);
+        }
+        for (int i = 10; i < 20; i++) {
+            deque.addFirstPrimitive(i);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        deque.writeTo(Channels.newChannel(out));
+        IntArrayDeque read = IntArrayDeque.readFrom(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())));
+        assertArrayEquals(deque.toArrayPrimitive(), read.toArrayPrimitive());
+
+        ByteBuffer buffer = ByteBuffer.allocate(out.size());
+        deque.writeTo(buffer);
+        buffer.flip();
+        assertArrayEquals(deque.toArrayPrimitive(), IntArrayDeque.readFrom(buffer).toArrayPrimitive());
+        // the deque read has room for more elements at both ends.
+        deque.addFirstPrimitive(-1);
+        deque.addLastPrimitive(-2);
+        read.addFirstPrimitive(-1);
+        read.addLastPrimitive(-2);
+        assertArrayEquals(deque.toArrayPrimitive(), read.toArrayPrimitive());
+    }
+
+    @Test
+    public void testFileChannel() throws IOException {
+        CharArrayDeque deque = new CharArrayDeque();
+        for (char c = 'a'; c <= 'z'; c++) {
+            deque.addFirstPrimitive(c);
+        }
+        Path path = Files.createTempFile("PrimitiveArrayIOTest", ".bin");
+        try {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                deque.writeTo(channel);
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                assertArrayEquals(deque.toArrayPrimitive(), CharArrayDeque.readFrom(channel).toArrayPrimitive());
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testForeignByteOrder() {
+        int[] data = {1, -2, 0x12345678};
+        ByteBuffer buffer = ByteBuffer.allocate((int) PrimitiveArrayIO.sizeInBytes(PrimitiveArrayIO.TYPE_INT, 3));
+        buffer.putInt(PrimitiveArrayIO.MAGIC);
+        buffer.put(PrimitiveArrayIO.VERSION);
+        buffer.put(PrimitiveArrayIO.TYPE_INT);
+        boolean nativeBig = ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN;
+        buffer.put((byte) (nativeBig ? 1 : 0));
+        buffer.put((byte) 0);
+        buffer.putLong(3);
+        buffer.order(nativeBig ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        for (int i : data) {
+            buffer.putInt(i);
+        }
+        buffer.flip();
+        assertArrayEquals(data, PrimitiveArrayIO.readIntArray(buffer));
+    }
+
+    @Test
+    public void testInvalidInput() throws IOException {
+        byte[] bytes = toBytes(new IntArrayList(new int[]{1, 2, 3}));
+
+        assertThrows(IllegalArgumentException.class, () -> LongArrayList.readFrom(ByteBuffer.wrap(bytes)));
+
+        byte[] badMagic = bytes.clone();
+        badMagic[0] = 0;
+        assertThrows(IllegalArgumentException.class, () -> IntArrayList.readFrom(ByteBuffer.wrap(badMagic)));
+
+        byte[] badVersion = bytes.clone();
+        badVersion[4] = 2;
+        assertThrows(IllegalArgumentException.class, () -> IntArrayList.readFrom(ByteBuffer.wrap(badVersion)));
+
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1);
+        assertThrows(BufferUnderflowException.class, () -> IntArrayList.readFrom(ByteBuffer.wrap(truncated)));
+        assertThrows(EOFException.class,
+                () -> IntArrayList.readFrom(Channels.newChannel(new ByteArrayInputStream(truncated))));
+    }
+}
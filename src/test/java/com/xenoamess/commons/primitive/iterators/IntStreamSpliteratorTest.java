@@ -0,0 +1,73 @@
+package com.xenoamess.commons.primitive.iterators;
+
+import com.xenoamess.commons.primitive.collections.lists.IntList;
+import com.xenoamess.commons.primitive.collections.lists.linked_lists.IntLinkedList;
+import com.xenoamess.commons.primitive.collections.queues.priority_queues.IntPriorityQueue;
+import com.xenoamess.commons.primitive.collections.sets.hash_sets.IntHashSet;
+import com.xenoamess.commons.primitive.collections.sets.immutable_sets.IntImmutableSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Streams over collections that keep the default, iterator based spliterator.
+ *
+ * @author XenoAmess
+ */
+public class IntStreamSpliteratorTest {
+
+    @Test
+    public void testHashSet() {
+        IntHashSet set = new IntHashSet();
+        int sum = 0;
+        for (int i = 0; i < 1000; i += 3) {
+            set.addPrimitive(i);
+            sum += i;
+        }
+        assertEquals(sum, set.intStream().sum());
+        assertEquals(sum, set.parallelIntStream().sum());
+        assertEquals(set.size(), set.intStream().count());
+    }
+
+    @Test
+    public void testPriorityQueue() {
+        IntPriorityQueue queue = new IntPriorityQueue((x, y) -> Integer.compare(y, x));
+        int sum = 0;
+        for (int i = 0; i < 1000; i++) {
+            queue.addPrimitive(i * 7 % 1000);
+            sum += i;
+        }
+        assertEquals(sum, queue.intStream().sum());
+        assertEquals(sum, queue.parallelIntStream().sum());
+        assertEquals(999, queue.intStream().max().getAsInt());
+    }
+
+    @Test
+    public void testImmutableSet() {
+        IntImmutableSet set = IntImmutableSet.of(1, 2, 3, 5, 8, 13);
+        assertEquals(32, set.intStream().sum());
+        assertEquals(32, set.parallelIntStream().sum());
+        assertEquals(6, set.intStream().count());
+    }
+
+    @Test
+    public void testLinkedListSubList() {
+        IntLinkedList list = new IntLinkedList();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.addPrimitive(i * 31 % 1000);
+            expected.add(i * 31 % 1000);
+        }
+        assertArrayEquals(expected.stream().mapToInt(e -> e).toArray(), list.intStream().toArray());
+
+        IntList subList = list.subList(100, 900);
+        int[] expectedSub = expected.subList(100, 900).stream().mapToInt(e -> e).toArray();
+        assertArrayEquals(expectedSub, subList.intStream().toArray());
+        assertArrayEquals(expectedSub, subList.parallelIntStream().toArray());
+        assertEquals(800, subList.intStream().count());
+    }
+}
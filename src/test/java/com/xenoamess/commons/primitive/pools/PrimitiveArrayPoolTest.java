@@ -0,0 +1,195 @@
+package com.xenoamess.commons.primitive.pools;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.DoubleArrayList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.IntArrayList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.LongArrayList;
+import com.xenoamess.commons.primitive.comparators.DoubleComparator;
+import com.xenoamess.commons.primitive.comparators.IntComparator;
+import com.xenoamess.commons.primitive.comparators.LongComparator;
+import com.xenoamess.commons.primitive.comparators.ShortComparator;
+import com.xenoamess.commonx.java.util.Arraysx;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author XenoAmess
+ */
+public class PrimitiveArrayPoolTest {
+
+    @Test
+    public void testPooledLength() {
+        assertEquals(16, PrimitiveArrayPool.pooledLength(0));
+        assertEquals(16, PrimitiveArrayPool.pooledLength(16));
+        assertEquals(32, PrimitiveArrayPool.pooledLength(17));
+        assertEquals(1024, PrimitiveArrayPool.pooledLength(1000));
+        assertEquals(1 << 30, PrimitiveArrayPool.pooledLength((1 << 30) - 1));
+    }
+
+    @Test
+    public void testBorrowAndRelease() {
+        PrimitiveArrayPool pool = new PrimitiveArrayPool(2, 1000);
+        assertEquals(1024, pool.getMaxPooledLength());
+        int[] a = pool.borrowIntArray(100);
+        assertEquals(128, a.length);
+        pool.release(a);
+        assertSame(a, pool.borrowIntArray(65));
+        assertNotSame(a, pool.borrowIntArray(65));
+
+        pool.release(a);
+        pool.release(a);
+        assertSame(a, pool.borrowIntArray(128));
+        assertNotSame(a, pool.borrowIntArray(128));
+
+        int[] b = pool.borrowIntArray(128);
+        int[] c = pool.borrowIntArray(128);
+        int[] d = pool.borrowIntArray(128);
+        pool.release(b);
+        pool.release(c);
+        pool.release(d);
+        assertSame(c, pool.borrowIntArray(128));
+        assertSame(b, pool.borrowIntArray(128));
+
+        // not pooled lengths.
+        int[] huge = pool.borrowIntArray(2000);
+        assertEquals(2000, huge.length);
+        pool.release(huge);
+        pool.release(new int[100]);
+        pool.release((int[]) null);
+        assertEquals(128, pool.borrowIntArray(100).length);
+
+        long[] l = pool.borrowLongArray(3);
+        assertEquals(PrimitiveArrayPool.MIN_POOLED_LENGTH, l.length);
+        pool.release(l);
+        assertSame(l, pool.borrowLongArray(16));
+        double[] e = pool.borrowDoubleArray(20);
+        pool.release(e);
+        pool.clear();
+        assertNotSame(e, pool.borrowDoubleArray(20));
+
+        assertThrows(NegativeArraySizeException.class, () -> pool.borrowIntArray(-1));
+        assertThrows(IllegalArgumentException.class, () -> new PrimitiveArrayPool(-1, 1024));
+        assertThrows(IllegalArgumentException.class, () -> new PrimitiveArrayPool(1, 8));
+    }
+
+    @Test
+    public void testThreadLocal() throws InterruptedException {
+        PrimitiveArrayPool pool = PrimitiveArrayPool.threadLocal();
+        assertSame(pool, PrimitiveArrayPool.threadLocal());
+        PrimitiveArrayPool[] other = new PrimitiveArrayPool[1];
+        Thread thread = new Thread(() -> other[0] = PrimitiveArrayPool.threadLocal());
+        thread.start();
+        thread.join();
+        assertNotSame(pool, other[0]);
+    }
+
+    @Test
+    public void testPooledList() {
+        PrimitiveArrayPool pool = new PrimitiveArrayPool();
+        IntArrayList list = IntArrayList.pooled(pool);
+        for (int i = 0; i < 1000; i++) {
+            list.addPrimitive(i);
+        }
+        assertEquals(1000, list.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, list.getPrimitive(i));
+        }
+        int[] elementData = list.getElementData();
+        assertEquals(1024, elementData.length);
+        // the arrays released while growing are reused.
+        int[] smaller = pool.borrowIntArray(512);
+        assertEquals(512, smaller.length);
+        list.release();
+        assertTrue(list.isEmpty());
+        assertSame(elementData, pool.borrowIntArray(1000));
+        pool.release(elementData);
+
+        list.addPrimitive(5);
+        list.addPrimitive(3);
+        assertEquals(2, list.size());
+        assertEquals(5, list.getPrimitive(0));
+        list.release();
+
+        LongArrayList longList = LongArrayList.pooled(pool);
+        Random random = new Random(1);
+        long[] expected = new long[3000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = random.nextLong();
+            longList.addPrimitive(expected[i]);
+        }
+        longList.sort((LongComparator) (x, y) -> Long.compare(y, x));
+        Arrays.sort(expected);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[expected.length - 1 - i], longList.getPrimitive(i));
+        }
+        longList.release();
+    }
+
+    @Test
+    public void testPooledSort() {
+        PrimitiveArrayPool pool = new PrimitiveArrayPool();
+        Random random = new Random(2);
+        for (int n : new int[]{0, 10, 100, 2000, 5000}) {
+            int[] a = new int[n + 10];
+            for (int i = 0; i < a.length; i++) {
+                a[i] = random.nextInt();
+            }
+            int[] expected = a.clone();
+            Arrays.sort(expected, 5, n + 5);
+            int[] b = a.clone();
+            Arraysx.sort(b, 5, n + 5, null, pool);
+            assertArrayEquals(expected, b);
+            b = a.clone();
+            Arraysx.sort(b, 5, n + 5, (IntComparator) Integer::compare, pool);
+            assertArrayEquals(expected, b);
+
+            long[] la = new long[n];
+            for (int i = 0; i < n; i++) {
+                la[i] = random.nextLong() % 1000;
+            }
+            long[] lExpected = la.clone();
+            Arrays.sort(lExpected);
+            long[] lb = la.clone();
+            Arraysx.sort(lb, 0, n, null, pool);
+            assertArrayEquals(lExpected, lb);
+            lb = la.clone();
+            Arraysx.sort(lb, 0, n, (LongComparator) Long::compare, pool);
+            assertArrayEquals(lExpected, lb);
+        }
+    }
+
+    @Test
+    public void testPooledSortOtherTypes() {
+        PrimitiveArrayPool pool = new PrimitiveArrayPool();
+        Random random = new Random(2);
+        for (int n : new int[]{0, 10, 100, 2000, 5000}) {
+            short[] a = new short[n];
+            for (int i = 0; i < n; i++) {
+                a[i] = (short) random.nextInt();
+            }
+            short[] expected = a.clone();
+            Arrays.sort(expected);
+            short[] b = a.clone();
+            Arraysx.sort(b, 0, n, (ShortComparator) Short::compare, pool);
+            assertArrayEquals(expected, b);
+
+            DoubleArrayList list = DoubleArrayList.pooled(pool);
+            for (int i = 0; i < n; i++) {
+                list.addPrimitive(random.nextInt(100));
+            }
+            double[] dExpected = list.toArrayPrimitive();
+            Arrays.sort(dExpected);
+            list.sort((DoubleComparator) Double::compare);
+            assertArrayEquals(dExpected, list.toArrayPrimitive());
+            list.release();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.xenoamess.commons.primitive.sorts;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.ByteArrayList;
+import com.xenoamess.commons.primitive.comparators.ByteComparator;
+import com.xenoamess.commonx.java.util.Arraysx;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * @author XenoAmess
+ */
+public class ByteParallelTimSortTest {
+    private static final ByteComparator COMPARATOR = (x, y) -> Byte.compare(y, x);
+
+    /**
+     * Orders by two bits of the hash only, so that many different elements compare equal.
+     */
+    private static final ByteComparator PARTIAL_COMPARATOR = (x, y) -> Integer.compare(key(x), key(y));
+
+    private static int key(byte e) {
+        return Byte.hashCode(e) & 3;
+    }
+
+    public void check(int length) {
+        Random random = new Random();
+        byte[] a = new byte[length];
+        for (int i = 0; i < length; i++) {
+            a[i] = ((byte)random.nextInt());
+        }
+        final int from = length / 7;
+        final int to = length - length / 5;
+
+        byte[] expected = a.clone();
+        ByteTimSort.sort(expected, from, to, COMPARATOR, null, 0, 0);
+
+        byte[] a1 = a.clone();
+        Arraysx.parallelSortSelf(a1, from, to, COMPARATOR);
+        assertArrayEquals(expected, a1);
+
+        byte[] a2 = a.clone();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            pool.invoke(new ByteParallelTimSort.Sorter(a2, new byte[to - from], from, to - from, 0, 64,
+                    COMPARATOR));
+        } finally {
+            pool.shutdown();
+        }
+        assertArrayEquals(expected, a2);
+
+        ByteArrayList list = new ByteArrayList();
+        ByteArrayList expectedList = new ByteArrayList();
+        for (byte e : a) {
+            list.addPrimitive(e);
+            expectedList.addPrimitive(e);
+        }
+        list.parallelSort(COMPARATOR);
+        expectedList.sort(COMPARATOR);
+        assertArrayEquals(expectedList.toArrayPrimitive(), list.toArrayPrimitive());
+    }
+
+    /**
+     * Elements of equal key shall keep their original order, including when the merges split around runs of
+     * equal keys.
+     */
+    public void checkStability(int length) {
+        Random random = new Random();
+        byte[] a = new byte[length];
+        for (int i = 0; i < length; i++) {
+            a[i] = ((byte)random.nextInt());
+        }
+        final int from = length / 7;
+        final int to = length - length / 5;
+
+        byte[] expected = a.clone();
+        int index = from;
+        for (int key = 0; key < 4; key++) {
+            for (int i = from; i < to; i++) {
+                if (key(a[i]) == key) {
+                    expected[index++] = a[i];
+                }
+            }
+        }
+
+        byte[] a1 = a.clone();
+        Arraysx.parallelSortSelf(a1, from, to, PARTIAL_COMPARATOR);
+        assertArrayEquals(expected, a1);
+
+        byte[] a2 = a.clone();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            pool.invoke(new ByteParallelTimSort.Sorter(a2, new byte[to - from], from, to - from, 0, 64,
+                    PARTIAL_COMPARATOR));
+        } finally {
+            pool.shutdown();
+        }
+        assertArrayEquals(expected, a2);
+    }
+
+    @Test
+    public void stabilityChecks() {
+        for (int i = 0; i < 10; i++) {
+            checkStability(ByteParallelTimSort.MIN_ARRAY_SORT_GRAN * 4 + i);
+        }
+    }
+
+    @Test
+    public void checks() {
+        for (int i = 0; i < 100; i++) {
+            check(100);
+        }
+        for (int i = 0; i < 10; i++) {
+            check(100000);
+        }
+    }
+}
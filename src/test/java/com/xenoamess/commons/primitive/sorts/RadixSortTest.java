@@ -0,0 +1,111 @@
+package com.xenoamess.commons.primitive.sorts;
+
+import com.xenoamess.commons.primitive.comparators.PrimitiveComparators;
+import com.xenoamess.commonx.java.util.Arraysx;
+import com.xenoamess.commonx.org.apache.commons.lang3.ArrayUtilsx;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * @author XenoAmess
+ */
+public class RadixSortTest {
+
+    public void check(int length) {
+        Random random = new Random();
+        int[] ints = new int[length];
+        long[] longs = new long[length];
+        short[] shorts = new short[length];
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            ints[i] = random.nextInt();
+            longs[i] = random.nextLong();
+            shorts[i] = (short) random.nextInt();
+            chars[i] = (char) random.nextInt();
+        }
+        final int from = length / 7;
+        final int to = length - length / 5;
+
+        int[] ints1 = ints.clone();
+        int[] ints2 = ints.clone();
+        Arraysx.sort(ints1, from, to, PrimitiveComparators.INT_COMPARATOR_INCREASING);
+        Arrays.sort(ints2, from, to);
+        assertArrayEquals(ints2, ints1);
+        Arraysx.sort(ints1, from, to, PrimitiveComparators.INT_COMPARATOR_DECREASING);
+        ArrayUtilsx.reverseSelf(ints2, from, to);
+        assertArrayEquals(ints2, ints1);
+
+        long[] longs1 = longs.clone();
+        long[] longs2 = longs.clone();
+        Arraysx.sort(longs1, from, to, PrimitiveComparators.LONG_COMPARATOR_INCREASING);
+        Arrays.sort(longs2, from, to);
+        assertArrayEquals(longs2, longs1);
+        Arraysx.sort(longs1, from, to, PrimitiveComparators.LONG_COMPARATOR_DECREASING);
+        ArrayUtilsx.reverseSelf(longs2, from, to);
+        assertArrayEquals(longs2, longs1);
+
+        short[] shorts1 = shorts.clone();
+        short[] shorts2 = shorts.clone();
+        Arraysx.sort(shorts1, from, to, PrimitiveComparators.SHORT_COMPARATOR_INCREASING);
+        Arrays.sort(shorts2, from, to);
+        assertArrayEquals(shorts2, shorts1);
+        Arraysx.sort(shorts1, from, to, PrimitiveComparators.SHORT_COMPARATOR_DECREASING);
+        ArrayUtilsx.reverseSelf(shorts2, from, to);
+        assertArrayEquals(shorts2, shorts1);
+
+        char[] chars1 = chars.clone();
+        char[] chars2 = chars.clone();
+        Arraysx.sort(chars1, from, to, PrimitiveComparators.CHAR_COMPARATOR_INCREASING);
+        Arrays.sort(chars2, from, to);
+        assertArrayEquals(chars2, chars1);
+        Arraysx.sort(chars1, from, to, PrimitiveComparators.CHAR_COMPARATOR_DECREASING);
+        ArrayUtilsx.reverseSelf(chars2, from, to);
+        assertArrayEquals(chars2, chars1);
+    }
+
+    public void countingCheck(int length) {
+        Random random = new Random();
+        byte[] bytes = new byte[length];
+        boolean[] booleans = new boolean[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) random.nextInt();
+            booleans[i] = random.nextBoolean();
+        }
+        final int from = length / 7;
+        final int to = length - length / 5;
+
+        byte[] bytes1 = bytes.clone();
+        byte[] bytes2 = bytes.clone();
+        Arraysx.sort(bytes1, from, to, PrimitiveComparators.BYTE_COMPARATOR_INCREASING);
+        Arrays.sort(bytes2, from, to);
+        assertArrayEquals(bytes2, bytes1);
+        Arraysx.sort(bytes1, from, to, PrimitiveComparators.BYTE_COMPARATOR_DECREASING);
+        ArrayUtilsx.reverseSelf(bytes2, from, to);
+        assertArrayEquals(bytes2, bytes1);
+
+        boolean[] booleans1 = booleans.clone();
+        boolean[] booleans2 = booleans.clone();
+        Arraysx.sort(booleans1, from, to, PrimitiveComparators.BOOLEAN_COMPARATOR_DECREASING);
+        BooleanTimSort.sort(booleans2, from, to, PrimitiveComparators.BOOLEAN_COMPARATOR_DECREASING, null, 0, 0);
+        assertArrayEquals(booleans2, booleans1);
+        Arraysx.sort(booleans1, from, to, PrimitiveComparators.BOOLEAN_COMPARATOR_INCREASING);
+        BooleanTimSort.sort(booleans2, from, to, PrimitiveComparators.BOOLEAN_COMPARATOR_INCREASING, null, 0, 0);
+        assertArrayEquals(booleans2, booleans1);
+    }
+
+    @Test
+    public void checks() {
+        for (int i = 0; i < 100; i++) {
+            check(100);
+            countingCheck(100);
+        }
+        for (int i = 0; i < 10; i++) {
+            check(100000);
+            countingCheck(100000);
+        }
+    }
+}
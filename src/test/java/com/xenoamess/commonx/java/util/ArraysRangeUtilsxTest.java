@@ -0,0 +1,197 @@
+package com.xenoamess.commonx.java.util;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.BooleanArrayList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.ByteArrayList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.CharArrayList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.DoubleArrayList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.FloatArrayList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.IntArrayList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.LongArrayList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.ShortArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * @author XenoAmess
+ */
+public class ArraysRangeUtilsxTest {
+
+    private static int naiveHashCode(int[] a, int from, int to) {
+        int hashCode = 1;
+        for (int i = from; i < to; i++) {
+            hashCode = 31 * hashCode + a[i];
+        }
+        return hashCode;
+    }
+
+    private static int naiveHashCode(long[] a, int from, int to) {
+        int hashCode = 1;
+        for (int i = from; i < to; i++) {
+            hashCode = 31 * hashCode + Long.hashCode(a[i]);
+        }
+        return hashCode;
+    }
+
+    @Test
+    public void testInt() {
+        Random random = new Random(25);
+        for (int length = 0; length < 300; length += 1 + length / 8) {
+            int[] a = new int[length];
+            for (int i = 0; i < length; i++) {
+                a[i] = random.nextInt(16);
+            }
+            for (int from = 0; from <= length; from += 1 + length / 5) {
+                for (int to = from; to <= length; to += 1 + length / 5) {
+                    assertEquals(naiveHashCode(a, from, to), ArraysRangeUtilsx.hashCode(a, from, to));
+                    for (int key = 0; key < 17; key++) {
+                        int first = -1;
+                        int last = -1;
+                        for (int i = from; i < to; i++) {
+                            if (a[i] == key) {
+                                if (first < 0) {
+                                    first = i;
+                                }
+                                last = i;
+                            }
+                        }
+                        assertEquals(first, ArraysRangeUtilsx.indexOf(a, from, to, key));
+                        assertEquals(last, ArraysRangeUtilsx.lastIndexOf(a, from, to, key));
+                    }
+                }
+            }
+            int[] b = a.clone();
+            assertEquals(-1, ArraysRangeUtilsx.mismatch(a, 0, b, 0, length));
+            if (length > 0) {
+                int index = random.nextInt(length);
+                b[index]++;
+                assertEquals(index, ArraysRangeUtilsx.mismatch(a, 0, b, 0, length));
+                assertEquals(-1, ArraysRangeUtilsx.mismatch(a, index + 1, b, index + 1, length - index - 1));
+            }
+        }
+    }
+
+    @Test
+    public void testLong() {
+        Random random = new Random(25);
+        for (int length = 0; length < 300; length += 1 + length / 8) {
+            long[] a = new long[length];
+            for (int i = 0; i < length; i++) {
+                a[i] = random.nextInt(16) * 0x100000001L;
+            }
+            for (int from = 0; from <= length; from += 1 + length / 5) {
+                for (int to = from; to <= length; to += 1 + length / 5) {
+                    assertEquals(naiveHashCode(a, from, to), ArraysRangeUtilsx.hashCode(a, from, to));
+                    for (long key = 0; key < 17; key++) {
+                        long k = key * 0x100000001L;
+                        int first = -1;
+                        int last = -1;
+                        for (int i = from; i < to; i++) {
+                            if (a[i] == k) {
+                                if (first < 0) {
+                                    first = i;
+                                }
+                                last = i;
+                            }
+                        }
+                        assertEquals(first, ArraysRangeUtilsx.indexOf(a, from, to, k));
+                        assertEquals(last, ArraysRangeUtilsx.lastIndexOf(a, from, to, k));
+                    }
+                }
+            }
+            long[] b = a.clone();
+            assertEquals(-1, ArraysRangeUtilsx.mismatch(a, 0, b, 0, length));
+            if (length > 0) {
+                int index = random.nextInt(length);
+                b[index] ^= 1L << 40;
+                assertEquals(index, ArraysRangeUtilsx.mismatch(a, 0, b, 0, length));
+            }
+        }
+    }
+
+    @Test
+    public void testLists() {
+        Random random = new Random(25);
+        List<Integer> ints = new ArrayList<>();
+        List<Long> longs = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            ints.add(random.nextInt());
+            longs.add(random.nextLong());
+        }
+        IntArrayList intList = new IntArrayList(ints);
+        LongArrayList longList = new LongArrayList(longs);
+        assertEquals(ints.hashCode(), intList.hashCode());
+        assertEquals(longs.hashCode(), longList.hashCode());
+        assertEquals(ints.subList(100, 900).hashCode(), intList.subList(100, 900).hashCode());
+        assertEquals(new IntArrayList(ints), intList);
+        assertEquals(new LongArrayList(longs), longList);
+        assertEquals(ints.indexOf(ints.get(500)), intList.indexOfPrimitive(ints.get(500)));
+        assertEquals(longs.lastIndexOf(longs.get(500)), longList.lastIndexOfPrimitive(longs.get(500)));
+
+        IntArrayList other = new IntArrayList(ints);
+        other.setPrimitive(999, other.getPrimitive(999) + 1);
+        assertNotEquals(intList, other);
+    }
+
+    @Test
+    public void testOtherTypes() {
+        Random random = new Random(25);
+        List<Short> shorts = new ArrayList<>();
+        List<Character> chars = new ArrayList<>();
+        List<Byte> bytes = new ArrayList<>();
+        List<Double> doubles = new ArrayList<>();
+        List<Float> floats = new ArrayList<>();
+        List<Boolean> booleans = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            shorts.add((short) random.nextInt());
+            chars.add((char) random.nextInt());
+            bytes.add((byte) random.nextInt(16));
+            doubles.add((double) random.nextInt(16));
+            floats.add(random.nextFloat());
+            booleans.add(random.nextBoolean());
+        }
+        ShortArrayList shortList = new ShortArrayList(shorts);
+        CharArrayList charList = new CharArrayList(chars);
+        ByteArrayList byteList = new ByteArrayList(bytes);
+        DoubleArrayList doubleList = new DoubleArrayList(doubles);
+        FloatArrayList floatList = new FloatArrayList(floats);
+        BooleanArrayList booleanList = new BooleanArrayList(booleans);
+
+        assertEquals(shorts.hashCode(), shortList.hashCode());
+        assertEquals(chars.subList(3, 998).hashCode(), charList.subList(3, 998).hashCode());
+        assertEquals(bytes.hashCode(), byteList.hashCode());
+        assertEquals(doubles.hashCode(), doubleList.hashCode());
+        assertEquals(floats.subList(1, 997).hashCode(), floatList.subList(1, 997).hashCode());
+        assertEquals(booleans.hashCode(), booleanList.hashCode());
+
+        assertEquals(new ShortArrayList(shorts), shortList);
+        assertEquals(new CharArrayList(chars), charList);
+        assertEquals(new DoubleArrayList(doubles), doubleList);
+        assertEquals(new BooleanArrayList(booleans), booleanList);
+
+        assertEquals(bytes.indexOf((byte) 7), byteList.indexOfPrimitive((byte) 7));
+        assertEquals(bytes.lastIndexOf((byte) 7), byteList.lastIndexOfPrimitive((byte) 7));
+        assertEquals(doubles.indexOf(3.0), doubleList.indexOfPrimitive(3.0));
+        assertEquals(doubles.lastIndexOf(3.0), doubleList.lastIndexOfPrimitive(3.0));
+        assertEquals(booleans.lastIndexOf(true), booleanList.lastIndexOfPrimitive(true));
+        assertEquals(-1, doubleList.indexOfPrimitive(16.0));
+
+        FloatArrayList other = new FloatArrayList(floats);
+        other.setPrimitive(999, other.getPrimitive(999) + 1);
+        assertNotEquals(floatList, other);
+    }
+
+    @Test
+    public void testFloatingPointMismatch() {
+        // elements compare as by Double.equals and Float.equals, as the boxed lists do.
+        assertEquals(-1, ArraysRangeUtilsx.mismatch(new double[]{1, Double.NaN}, 0, new double[]{1, Double.NaN}, 0, 2));
+        assertEquals(0, ArraysRangeUtilsx.mismatch(new double[]{0.0}, 0, new double[]{-0.0}, 0, 1));
+        assertEquals(-1, ArraysRangeUtilsx.mismatch(new float[]{Float.NaN}, 0, new float[]{Float.NaN}, 0, 1));
+        assertEquals(0, ArraysRangeUtilsx.mismatch(new float[]{0.0F}, 0, new float[]{-0.0F}, 0, 1));
+    }
+}